@@ -25,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class JwtUtilInternal {
   private final JwtProperties jwtProperties;
   private SecretKey secretKey;
+  private JwtParser jwtParser;
 
   /**
    * JWT 시크릿 키를 초기화하고 유효성을 검사합니다. 시크릿 키가 32자 미만일 경우 예외를 발생시킵니다.
@@ -41,6 +42,8 @@ public class JwtUtilInternal {
       throw new AuthException(AuthErrorStatus.SHORT_JWT_SECRET);
     }
     this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    // 파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+    this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
   }
 
   /**
@@ -78,7 +81,7 @@ public class JwtUtilInternal {
   public Claims parseToken(String token) {
     try {
       // 토큰 파싱으로 클레임 객체 반환
-      return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+      return jwtParser.parseSignedClaims(token).getPayload();
     } catch (ExpiredJwtException e) {
       LoggerFactory.common().logError("JWT", "만료된 토큰입니다.", e);
       throw new AuthException(AuthErrorStatus.EXPIRED_TOKEN);
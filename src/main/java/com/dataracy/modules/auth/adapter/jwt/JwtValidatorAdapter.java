@@ -3,8 +3,10 @@ package com.dataracy.modules.auth.adapter.jwt;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.auth.application.port.out.jwt.JwtValidatorPort;
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
 import com.dataracy.modules.user.domain.enums.RoleType;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -45,6 +47,21 @@ public class JwtValidatorAdapter implements JwtValidatorPort {
     return RoleType.of(role);
   }
 
+  /**
+   * JWT 토큰을 한 번 파싱하여 사용자 ID, 역할, 만료 시각을 추출
+   *
+   * @param token JWT 토큰 문자열
+   * @return 토큰에 포함된 인증 주체
+   */
+  @Override
+  public AuthenticatedPrincipal getPrincipalFromToken(String token) {
+    Claims claims = jwtUtilInternal.parseToken(token);
+    return new AuthenticatedPrincipal(
+        claims.get("userId", Long.class),
+        RoleType.of(claims.get("role", String.class)),
+        claims.getExpiration().getTime());
+  }
+
   /**
    * JWT 토큰에서 Token에서 이메일 추출
    *
@@ -0,0 +1,84 @@
+package com.dataracy.modules.auth.adapter.jwt;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+import com.dataracy.modules.common.util.TokenHashUtil;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 검증을 마친 액세스 토큰의 인증 주체를 보관하는 프로세스 내 LRU 캐시입니다.
+ *
+ * <p>원본 토큰 대신 SHA-256 해시를 키로 사용합니다. 항목은 토큰의 만료 시각과 설정한 최대 보관 시간 중 이른 시점까지만 유효하며, 최대 개수를 넘으면
+ * 가장 오래 사용되지 않은 항목부터 제거됩니다.
+ */
+@Component
+public class VerifiedPrincipalCacheAdapter implements VerifiedPrincipalCachePort {
+
+  @Value("${spring.jwt.principal-cache.max-size:10000}")
+  private int maxSize;
+
+  @Value("${spring.jwt.principal-cache.ttl-ms:60000}")
+  private long ttlMillis;
+
+  private Map<String, Entry> cache;
+
+  @PostConstruct
+  public void init() {
+    cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  @Override
+  public Optional<AuthenticatedPrincipal> find(String token) {
+    String key = TokenHashUtil.sha256(token);
+    long now = System.currentTimeMillis();
+    synchronized (cache) {
+      Entry entry = cache.get(key);
+      if (entry == null) {
+        return Optional.empty();
+      }
+      if (entry.validUntilMillis() <= now) {
+        cache.remove(key);
+        return Optional.empty();
+      }
+      return Optional.of(entry.principal());
+    }
+  }
+
+  @Override
+  public void put(String token, AuthenticatedPrincipal principal) {
+    long validUntil =
+        Math.min(principal.expiresAtMillis(), System.currentTimeMillis() + ttlMillis);
+    String key = TokenHashUtil.sha256(token);
+    synchronized (cache) {
+      cache.put(key, new Entry(principal, validUntil));
+    }
+  }
+
+  @Override
+  public void evict(String token) {
+    evictByTokenHash(TokenHashUtil.sha256(token));
+  }
+
+  @Override
+  public void evictByTokenHash(String tokenHash) {
+    synchronized (cache) {
+      cache.remove(tokenHash);
+    }
+  }
+
+  private record Entry(AuthenticatedPrincipal principal, long validUntilMillis) {}
+}
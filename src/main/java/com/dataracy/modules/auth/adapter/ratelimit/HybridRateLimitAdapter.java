@@ -0,0 +1,183 @@
+package com.dataracy.modules.auth.adapter.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.auth.application.port.out.RateLimitPort;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
+
+/**
+ * 로컬 토큰 버킷과 주기적인 Redis 동기화를 결합한 레이트 리미팅 구현체입니다.
+ *
+ * <p>요청 판정은 노드 메모리의 {@link TokenBucket}으로 네트워크 왕복 없이 수행합니다. 주기적으로 각 키의 미반영 사용량을 Redis의 고정 윈도우
+ * 카운터에 더하고 전체 합계를 받아 와, 다른 노드가 같은 윈도우에서 사용한 양만큼 로컬 한도를 줄입니다. 따라서 여러 노드에 흩어진 요청도 동기화 주기
+ * 이내의 오차로 하나의 한도를 공유합니다. Redis 동기화에 실패하면 로컬 한도만으로 판정합니다.
+ */
+@Component("hybridRateLimitAdapter")
+public class HybridRateLimitAdapter implements RateLimitPort {
+
+  private static final String HYBRID_RATE_LIMIT_ADAPTER = "HybridRateLimitAdapter";
+  private static final String BACKEND = "hybrid";
+  private static final String KEY_PREFIX = "rate_limit:hybrid:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RateLimitMetrics metrics;
+
+  @Value("${rate-limit.hybrid.max-requests:10}")
+  private int defaultMaxRequests;
+
+  @Value("${rate-limit.hybrid.window-minutes:1}")
+  private int defaultWindowMinutes;
+
+  private final Map<String, KeyState> states = new ConcurrentHashMap<>();
+
+  public HybridRateLimitAdapter(StringRedisTemplate redisTemplate, RateLimitMetrics metrics) {
+    this.redisTemplate = redisTemplate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public boolean tryAcquire(String key, int maxRequests, int windowMinutes) {
+    if (key == null || key.trim().isEmpty() || windowMinutes <= 0) {
+      return true; // IP가 없거나 윈도우가 없으면 허용
+    }
+    long now = System.nanoTime();
+    KeyState state = state(key, windowMinutes, now);
+    boolean allowed =
+        state.bucket.tryConsume(
+            1,
+            maxRequests - (double) state.remoteUsed,
+            ratePerNano(maxRequests, windowMinutes),
+            now);
+    if (allowed) {
+      state.unsynced.incrementAndGet();
+    }
+    metrics.record(BACKEND, allowed);
+    return allowed;
+  }
+
+  /** 사용량을 바꾸지 않고 한도 안인지 확인합니다. 사용량 반영은 {@link #incrementRequestCount}로 합니다. */
+  @Override
+  public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
+    if (key == null || key.trim().isEmpty() || windowMinutes <= 0) {
+      return true; // IP가 없거나 윈도우가 없으면 허용
+    }
+    long now = System.nanoTime();
+    KeyState state = state(key, windowMinutes, now);
+    boolean allowed = state.bucket.hasCapacity(1, maxRequests - (double) state.remoteUsed, now);
+    metrics.record(BACKEND, allowed);
+    return allowed;
+  }
+
+  @Override
+  public void incrementRequestCount(String key, int incrementBy) {
+    if (key == null || key.trim().isEmpty() || incrementBy <= 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    KeyState state = state(key, defaultWindowMinutes, now);
+    state.bucket.add(incrementBy, ratePerNano(defaultMaxRequests, defaultWindowMinutes), now);
+    state.unsynced.addAndGet(incrementBy);
+  }
+
+  /**
+   * 각 키의 미반영 사용량을 Redis 윈도우 카운터에 더하고, 다른 노드의 사용량을 갱신합니다.
+   *
+   * <p>모든 키를 하나의 파이프라인으로 전송합니다. 윈도우가 바뀐 키는 이전 윈도우의 원격 사용량을 버리고, 사용량이 모두 회복된 키는 정리합니다.
+   */
+  @Scheduled(fixedDelayString = "${rate-limit.hybrid.sync-interval-ms:1000}")
+  public void reconcile() {
+    if (states.isEmpty()) {
+      return;
+    }
+    long nowMillis = System.currentTimeMillis();
+    long nowNanos = System.nanoTime();
+    List<Sync> syncs = new ArrayList<>();
+    states.forEach(
+        (key, state) -> {
+          long windowMillis = TimeUnit.MINUTES.toMillis(state.windowMinutes);
+          long windowIndex = nowMillis / windowMillis;
+          if (windowIndex != state.windowIndex) {
+            state.windowIndex = windowIndex;
+            state.ownInWindow = 0;
+            state.remoteUsed = 0;
+          }
+          long delta = state.unsynced.getAndSet(0);
+          if (delta == 0 && state.bucket.isIdle(nowNanos)) {
+            states.remove(key, state);
+            return;
+          }
+          state.ownInWindow += delta;
+          syncs.add(new Sync(state, KEY_PREFIX + key + ":" + windowIndex, delta, windowMillis));
+        });
+    if (syncs.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<Object> results =
+          redisTemplate.executePipelined(
+              (RedisCallback<Object>)
+                  connection -> {
+                    for (Sync sync : syncs) {
+                      byte[] redisKey = sync.redisKey().getBytes(StandardCharsets.UTF_8);
+                      connection.stringCommands().incrBy(redisKey, sync.delta());
+                      connection.keyCommands().pExpire(redisKey, sync.windowMillis() * 2);
+                    }
+                    return null;
+                  });
+      for (int i = 0; i < syncs.size(); i++) {
+        Sync sync = syncs.get(i);
+        if (results.get(i * 2) instanceof Long total) {
+          sync.state().remoteUsed = Math.max(0, total - sync.state().ownInWindow);
+        }
+      }
+    } catch (Exception e) {
+      // 전송하지 못한 사용량은 다음 주기에 다시 반영
+      for (Sync sync : syncs) {
+        sync.state().ownInWindow -= sync.delta();
+        sync.state().unsynced.addAndGet(sync.delta());
+      }
+      LoggerFactory.redis()
+          .logError(HYBRID_RATE_LIMIT_ADAPTER, "레이트 리미트 사용량 Redis 동기화 실패", e);
+    }
+  }
+
+  private KeyState state(String key, int windowMinutes, long now) {
+    KeyState state = states.computeIfAbsent(key, k -> new KeyState(now));
+    state.windowMinutes = windowMinutes;
+    return state;
+  }
+
+  private static double ratePerNano(int maxRequests, int windowMinutes) {
+    return Math.max(maxRequests, 0) / (double) TimeUnit.MINUTES.toNanos(windowMinutes);
+  }
+
+  /** 키별 로컬 버킷과 동기화 상태입니다. ownInWindow와 windowIndex는 동기화 스레드에서만 변경합니다. */
+  private static final class KeyState {
+    private final TokenBucket bucket;
+    private final AtomicLong unsynced = new AtomicLong();
+    private volatile long remoteUsed;
+    private volatile int windowMinutes = 1;
+    private long windowIndex = -1;
+    private long ownInWindow;
+
+    private KeyState(long nowNanos) {
+      this.bucket = new TokenBucket(nowNanos);
+    }
+  }
+
+  private record Sync(KeyState state, String redisKey, long delta, long windowMillis) {}
+}
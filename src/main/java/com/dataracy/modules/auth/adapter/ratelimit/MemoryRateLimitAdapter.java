@@ -4,23 +4,31 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.dataracy.modules.auth.application.port.out.rate.RateLimitPort;
+import com.dataracy.modules.auth.application.port.out.RateLimitPort;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 
-/** 메모리 기반 레이트 리미팅 구현체 비용 효율적인 단일 인스턴스 환경에 적합합니다. */
+/**
+ * 메모리 기반 레이트 리미팅 구현체 비용 효율적인 단일 인스턴스 환경에 적합합니다.
+ *
+ * <p>키마다 잠금 없는 {@link TokenBucket}을 두어 윈도우당 최대 요청 수만큼의 속도로 사용량을 회복합니다. 고정 윈도우처럼 경계에서 한도의 두 배가
+ * 몰리는 일이 없고, 카운터 초기화와 증가가 경쟁하지 않습니다.
+ */
 @Component("memoryRateLimitAdapter")
 public class MemoryRateLimitAdapter implements RateLimitPort {
 
   // 로깅용 어댑터 이름 상수
   private static final String ADAPTER_NAME = "MemoryRateLimitAdapter";
+  private static final String BACKEND = "memory";
+
+  private final RateLimitMetrics metrics;
 
   @Value("${rate-limit.memory.max-requests:10}")
   private int defaultMaxRequests;
@@ -28,14 +36,17 @@ public class MemoryRateLimitAdapter implements RateLimitPort {
   @Value("${rate-limit.memory.window-minutes:1}")
   private int defaultWindowMinutes;
 
-  private final ConcurrentHashMap<String, RequestCounter> requestCounters =
-      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
   private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
+  public MemoryRateLimitAdapter(RateLimitMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   @PostConstruct
   public void init() {
-    // 1분마다 만료된 카운터 정리
-    scheduler.scheduleAtFixedRate(this::cleanupExpiredCounters, 1, 1, TimeUnit.MINUTES);
+    // 1분마다 사용량이 모두 회복된 버킷 정리
+    scheduler.scheduleAtFixedRate(this::cleanupIdleBuckets, 1, 1, TimeUnit.MINUTES);
     LoggerFactory.common().logInfo(ADAPTER_NAME, "메모리 기반 레이트 리미팅 어댑터 초기화 완료");
   }
 
@@ -57,35 +68,26 @@ public class MemoryRateLimitAdapter implements RateLimitPort {
   }
 
   @Override
-  public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
-    if (key == null || key.trim().isEmpty()) {
-      return true; // IP가 없으면 허용
-    }
-
-    long currentTime = System.currentTimeMillis();
-    long windowMillis = windowMinutes * 60 * 1000L;
-
-    RequestCounter counter = requestCounters.computeIfAbsent(key, k -> new RequestCounter());
-
-    // 윈도우가 지났으면 카운터 리셋
-    if (currentTime - counter.getFirstRequestTime() > windowMillis) {
-      counter.reset(currentTime);
+  public boolean tryAcquire(String key, int maxRequests, int windowMinutes) {
+    if (key == null || key.trim().isEmpty() || windowMinutes <= 0) {
+      return true; // IP가 없거나 윈도우가 없으면 허용
     }
+    long now = System.nanoTime();
+    boolean allowed =
+        bucket(key, now).tryConsume(1, maxRequests, ratePerNano(maxRequests, windowMinutes), now);
+    metrics.record(BACKEND, allowed);
+    return allowed;
+  }
 
-    boolean allowed = counter.getCount() < maxRequests;
-
-    if (allowed) {
-      LoggerFactory.common()
-          .logInfo(
-              ADAPTER_NAME,
-              String.format("요청 허용 - IP: %s, 현재 카운트: %d/%d", key, counter.getCount(), maxRequests));
-    } else {
-      LoggerFactory.common()
-          .logWarning(
-              ADAPTER_NAME,
-              String.format("요청 차단 - IP: %s, 현재 카운트: %d/%d", key, counter.getCount(), maxRequests));
+  /** 사용량을 바꾸지 않고 한도 안인지 확인합니다. 사용량 반영은 {@link #incrementRequestCount}로 합니다. */
+  @Override
+  public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
+    if (key == null || key.trim().isEmpty() || windowMinutes <= 0) {
+      return true; // IP가 없거나 윈도우가 없으면 허용
     }
-
+    long now = System.nanoTime();
+    boolean allowed = bucket(key, now).hasCapacity(1, maxRequests, now);
+    metrics.record(BACKEND, allowed);
     return allowed;
   }
 
@@ -94,55 +96,21 @@ public class MemoryRateLimitAdapter implements RateLimitPort {
     if (key == null || key.trim().isEmpty()) {
       return; // IP가 없으면 카운트하지 않음
     }
-
-    long currentTime = System.currentTimeMillis();
-    RequestCounter counter = requestCounters.computeIfAbsent(key, k -> new RequestCounter());
-
-    // 윈도우가 지났으면 카운터 리셋
-    long windowMillis = defaultWindowMinutes * 60 * 1000L;
-    if (currentTime - counter.getFirstRequestTime() > windowMillis) {
-      counter.reset(currentTime);
-    }
-
-    counter.increment();
-
-    LoggerFactory.common()
-        .logInfo(
-            ADAPTER_NAME, String.format("요청 카운트 증가 - IP: %s, 현재 카운트: %d", key, counter.getCount()));
+    long now = System.nanoTime();
+    bucket(key, now)
+        .add(incrementBy, ratePerNano(defaultMaxRequests, defaultWindowMinutes), now);
   }
 
-  private void cleanupExpiredCounters() {
-    long currentTime = System.currentTimeMillis();
-    long maxAge = 60 * 60 * 1000L; // 1시간
-
-    requestCounters
-        .entrySet()
-        .removeIf(
-            entry -> {
-              RequestCounter counter = entry.getValue();
-              return currentTime - counter.getFirstRequestTime() > maxAge;
-            });
+  private TokenBucket bucket(String key, long now) {
+    return buckets.computeIfAbsent(key, k -> new TokenBucket(now));
   }
 
-  private static class RequestCounter {
-    private final AtomicInteger count = new AtomicInteger(0);
-    private volatile long firstRequestTime = System.currentTimeMillis();
-
-    public void increment() {
-      count.incrementAndGet();
-    }
-
-    public int getCount() {
-      return count.get();
-    }
-
-    public long getFirstRequestTime() {
-      return firstRequestTime;
-    }
+  private static double ratePerNano(int maxRequests, int windowMinutes) {
+    return Math.max(maxRequests, 0) / (double) TimeUnit.MINUTES.toNanos(windowMinutes);
+  }
 
-    public void reset(long currentTime) {
-      count.set(0);
-      firstRequestTime = currentTime;
-    }
+  private void cleanupIdleBuckets() {
+    long now = System.nanoTime();
+    buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
   }
 }
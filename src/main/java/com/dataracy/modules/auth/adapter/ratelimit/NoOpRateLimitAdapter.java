@@ -8,6 +8,11 @@ import com.dataracy.modules.auth.application.port.out.RateLimitPort;
 @Component("noOpRateLimitAdapter")
 public class NoOpRateLimitAdapter implements RateLimitPort {
 
+  @Override
+  public boolean tryAcquire(String key, int maxRequests, int windowMinutes) {
+    return true; // 항상 허용
+  }
+
   @Override
   public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
     return true; // 항상 허용
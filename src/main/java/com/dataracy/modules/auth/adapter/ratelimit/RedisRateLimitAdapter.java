@@ -1,22 +1,60 @@
 package com.dataracy.modules.auth.adapter.ratelimit;
 
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.auth.application.port.out.RateLimitPort;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
-
-/** Redis 기반 레이트 리미팅 구현체 분산 환경에서 정확한 카운팅과 영속성을 제공합니다. */
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
+
+/**
+ * Redis 기반 레이트 리미팅 구현체 분산 환경에서 정확한 카운팅과 영속성을 제공합니다.
+ *
+ * <p>키마다 정렬 집합에 요청 시각을 기록하는 슬라이딩 윈도우 방식이며, 만료 항목 정리, 개수 확인, 기록, TTL 설정을 하나의 스크립트로 원자적으로
+ * 수행합니다. 시각은 Redis 서버 시간을 사용하므로 노드 간 시계 차이의 영향을 받지 않습니다.
+ */
 @Component("redisRateLimitAdapter")
 public class RedisRateLimitAdapter implements RateLimitPort {
 
   private final StringRedisTemplate redisTemplate;
+  private final RateLimitMetrics metrics;
 
   // Adapter 상수 정의
   private static final String REDIS_RATE_LIMIT_ADAPTER = "RedisRateLimitAdapter";
+  private static final String BACKEND = "redis";
+  private static final String KEY_PREFIX = "rate_limit:sw:";
+
+  /**
+   * 슬라이딩 윈도우 판정 스크립트입니다.
+   *
+   * <p>KEYS[1]=윈도우 키, ARGV[1]=윈도우 길이(밀리초), ARGV[2]=최대 요청 수(음수이면 한도 확인 없이 기록), ARGV[3]=기록할 요청 수,
+   * ARGV[4]=요청 식별 접두사. 기록했으면 1, 한도를 넘었으면 0을 반환합니다.
+   */
+  static final String SLIDING_WINDOW_LUA =
+      "local time = redis.call('TIME') "
+          + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) "
+          + "local window = tonumber(ARGV[1]) "
+          + "local limit = tonumber(ARGV[2]) "
+          + "local permits = tonumber(ARGV[3]) "
+          + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) "
+          + "if limit >= 0 and redis.call('ZCARD', KEYS[1]) + permits > limit then "
+          + "return 0 "
+          + "end "
+          + "for i = 1, permits do "
+          + "redis.call('ZADD', KEYS[1], now, ARGV[4] .. ':' .. i) "
+          + "end "
+          + "redis.call('PEXPIRE', KEYS[1], window) "
+          + "return 1";
+
+  private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+      new DefaultRedisScript<>(SLIDING_WINDOW_LUA, Long.class);
 
   @Value("${rate-limit.redis.max-requests:10}")
   private int defaultMaxRequests;
@@ -24,99 +62,63 @@ public class RedisRateLimitAdapter implements RateLimitPort {
   @Value("${rate-limit.redis.window-minutes:1}")
   private int defaultWindowMinutes;
 
-  public RedisRateLimitAdapter(StringRedisTemplate redisTemplate) {
+  public RedisRateLimitAdapter(StringRedisTemplate redisTemplate, RateLimitMetrics metrics) {
     this.redisTemplate = redisTemplate;
+    this.metrics = metrics;
   }
 
   @Override
-  public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
+  public boolean tryAcquire(String key, int maxRequests, int windowMinutes) {
     if (key == null || key.trim().isEmpty()) {
       return true; // IP가 없으면 허용
     }
 
-    String redisKey = "rate_limit:" + key;
-
     try {
-      // 먼저 카운트를 증가시키고 결과를 확인 (원자적 연산)
-      Long count = redisTemplate.opsForValue().increment(redisKey, 1);
-
-      if (count == null) {
+      Long result = execute(key, windowMinutes, Math.max(maxRequests, 0), 1);
+      if (result == null) {
         // Redis 장애 시 안전하게 차단 (보수적 접근)
         LoggerFactory.redis()
-            .logWarning(
-                REDIS_RATE_LIMIT_ADAPTER,
-                String.format("Redis increment 결과가 null - IP: %s, 안전을 위해 차단", key));
-        return false;
+            .logWarning(REDIS_RATE_LIMIT_ADAPTER, "레이트 리미트 스크립트 결과가 null - 안전을 위해 차단");
       }
-
-      // 첫 번째 요청인 경우에만 TTL 설정
-      if (count == 1) {
-        redisTemplate.expire(redisKey, windowMinutes, TimeUnit.MINUTES);
-      }
-
-      boolean allowed = count <= maxRequests;
-
-      if (allowed) {
-        LoggerFactory.redis()
-            .logInfo(
-                REDIS_RATE_LIMIT_ADAPTER,
-                String.format("요청 허용 - IP: %s, 현재 카운트: %d/%d", key, count, maxRequests));
-      } else {
-        LoggerFactory.redis()
-            .logWarning(
-                REDIS_RATE_LIMIT_ADAPTER,
-                String.format("요청 차단 - IP: %s, 현재 카운트: %d/%d", key, count, maxRequests));
-      }
-
+      boolean allowed = result != null && result == 1L;
+      metrics.record(BACKEND, allowed);
       return allowed;
-
     } catch (Exception e) {
       // Redis 장애 시 안전을 위해 차단
       LoggerFactory.redis()
-          .logError(
-              REDIS_RATE_LIMIT_ADAPTER,
-              String.format("Redis 카운트 확인 실패 - IP: %s, 안전을 위해 차단", key),
-              e);
+          .logError(REDIS_RATE_LIMIT_ADAPTER, "Redis 레이트 리미트 확인 실패 - 안전을 위해 차단", e);
+      metrics.record(BACKEND, false);
       return false;
     }
   }
 
+  /** 확인과 기록을 원자적으로 함께 수행하므로 {@link #tryAcquire}와 같습니다. */
+  @Override
+  public boolean isAllowed(String key, int maxRequests, int windowMinutes) {
+    return tryAcquire(key, maxRequests, windowMinutes);
+  }
+
   @Override
   public void incrementRequestCount(String key, int incrementBy) {
-    // isAllowed에서 이미 increment를 수행하므로 이 메서드는 더 이상 사용되지 않음
-    // 하지만 인터페이스 구현을 위해 유지
-    if (key == null || key.trim().isEmpty()) {
+    if (key == null || key.trim().isEmpty() || incrementBy <= 0) {
       return;
     }
 
-    String redisKey = "rate_limit:" + key;
-
     try {
-      Long count = redisTemplate.opsForValue().increment(redisKey, incrementBy);
-
-      if (count == null) {
-        LoggerFactory.redis()
-            .logWarning(
-                REDIS_RATE_LIMIT_ADAPTER, String.format("Redis increment 결과가 null - IP: %s", key));
-        return;
-      }
-
-      // 첫 번째 요청인 경우에만 TTL 설정
-      if (count == incrementBy) {
-        redisTemplate.expire(redisKey, defaultWindowMinutes, TimeUnit.MINUTES);
-      }
-
-      LoggerFactory.redis()
-          .logInfo(
-              REDIS_RATE_LIMIT_ADAPTER,
-              String.format("요청 카운트 증가 - IP: %s, 현재 카운트: %d", key, count));
-
+      execute(key, defaultWindowMinutes, -1, incrementBy);
     } catch (Exception e) {
       LoggerFactory.redis()
-          .logError(
-              REDIS_RATE_LIMIT_ADAPTER,
-              String.format("Redis 카운트 증가 실패 - IP: %s, 에러: %s", key, e.getMessage()),
-              e);
+          .logError(REDIS_RATE_LIMIT_ADAPTER, "Redis 레이트 리미트 카운트 증가 실패", e);
     }
   }
+
+  private Long execute(String key, int windowMinutes, int limit, int permits) {
+    return redisTemplate.execute(
+        SLIDING_WINDOW_SCRIPT,
+        List.of(KEY_PREFIX + key),
+        Long.toString(TimeUnit.MINUTES.toMillis(windowMinutes)),
+        Integer.toString(limit),
+        Integer.toString(permits),
+        Long.toHexString(ThreadLocalRandom.current().nextLong()));
+  }
 }
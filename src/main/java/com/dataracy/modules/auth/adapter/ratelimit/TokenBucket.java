@@ -0,0 +1,79 @@
+package com.dataracy.modules.auth.adapter.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CAS로 갱신되는 잠금 없는 토큰 버킷입니다.
+ *
+ * <p>남은 토큰 대신 사용량(level)을 저장하며, 사용량은 마지막 갱신 이후 경과 시간에 비례해 {@code ratePerNano} 속도로 줄어듭니다. 즉 한도를
+ * {@code capacity}, 속도를 윈도우당 {@code capacity}로 두면 남은 토큰이 {@code capacity - level}인 토큰 버킷과 같습니다.
+ * 상태는 불변 객체 하나로 묶어 교체하므로 확인과 차감이 원자적으로 이루어집니다.
+ */
+final class TokenBucket {
+  private final AtomicReference<State> state;
+
+  TokenBucket(long nowNanos) {
+    this.state = new AtomicReference<>(new State(0d, nowNanos, 0d));
+  }
+
+  /**
+   * 한도 안이면 사용량을 늘리고 true를 반환합니다.
+   *
+   * @param permits 사용할 양
+   * @param capacity 최대 사용량
+   * @param ratePerNano 나노초당 사용량 감소 속도
+   * @param nowNanos 현재 시각(System.nanoTime)
+   * @return 사용 성공 여부
+   */
+  boolean tryConsume(int permits, double capacity, double ratePerNano, long nowNanos) {
+    while (true) {
+      State current = state.get();
+      double level = current.levelAt(nowNanos);
+      if (level + permits > capacity) {
+        return false;
+      }
+      if (state.compareAndSet(current, new State(level + permits, nowNanos, ratePerNano))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * 사용량을 바꾸지 않고 한도 안인지 확인합니다.
+   *
+   * @param permits 사용할 양
+   * @param capacity 최대 사용량
+   * @param nowNanos 현재 시각(System.nanoTime)
+   * @return 한도 안이면 true
+   */
+  boolean hasCapacity(int permits, double capacity, long nowNanos) {
+    return state.get().levelAt(nowNanos) + permits <= capacity;
+  }
+
+  /**
+   * 한도와 관계없이 사용량을 늘립니다.
+   *
+   * @param permits 늘릴 양
+   * @param defaultRatePerNano 아직 속도가 정해지지 않은 버킷에 사용할 감소 속도
+   * @param nowNanos 현재 시각(System.nanoTime)
+   */
+  void add(int permits, double defaultRatePerNano, long nowNanos) {
+    state.updateAndGet(
+        current ->
+            new State(
+                current.levelAt(nowNanos) + permits,
+                nowNanos,
+                current.ratePerNano() > 0 ? current.ratePerNano() : defaultRatePerNano));
+  }
+
+  /** 사용량이 모두 줄어들어 제거해도 되는지 확인합니다. */
+  boolean isIdle(long nowNanos) {
+    return state.get().levelAt(nowNanos) <= 0d;
+  }
+
+  private record State(double level, long updatedAtNanos, double ratePerNano) {
+    double levelAt(long nowNanos) {
+      return Math.max(0d, level - (nowNanos - updatedAtNanos) * ratePerNano);
+    }
+  }
+}
@@ -1,54 +1,240 @@
 package com.dataracy.modules.auth.adapter.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
 import com.dataracy.modules.auth.application.port.out.token.BlackListTokenPort;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.util.TokenHashUtil;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 토큰 블랙리스트를 Redis와 노드별 니어 캐시의 2단계로 관리하는 어댑터입니다.
+ *
+ * <p>Redis 키에는 토큰 원문 대신 SHA-256 해시를 사용하고, 값에는 블랙리스트 만료 시각을 저장합니다. 각 노드는 블랙리스트에 등록된 토큰 해시를
+ * 메모리에 보관하며, 로그아웃 시 Redis pub/sub으로 다른 노드에 전파하고 주기적으로 등록 이력을 다시 읽어 누락된 메시지를 보정합니다. 로컬에 없는
+ * 토큰은 Redis를 거치지 않고 바로 통과시키며, 로컬에 있는 토큰만 Redis로 확정합니다. 동기화가 지연된 노드는 로컬 상태를 신뢰하지 않고 Redis를 직접
+ * 확인하므로 로그아웃은 최대 재동기화 주기의 두 배 안에 모든 노드에 반영됩니다.
+ *
+ * <p>등록 이력은 등록 시각을 점수로 하는 sorted set에 "토큰 해시:만료 시각" 형식으로 쌓이므로, 주기적인 재동기화는 마지막 동기화 이후의 이력만
+ * 읽습니다. 블랙리스트 키 전체를 SCAN하는 전체 재동기화는 기동 시와 이력 보관 기간보다 오래 동기화하지 못한 경우에만 수행합니다.
+ */
 @Component
 @RequiredArgsConstructor
-public class BlackListRedisAdapter implements BlackListTokenPort {
+public class BlackListRedisAdapter implements BlackListTokenPort, MessageListener {
+  private static final String KEY_PREFIX = "blacklist:";
+  static final String CHANNEL = "auth:blacklist:revoked";
+  static final String REVOCATION_LOG_KEY = "auth:blacklist:revocations";
+
   private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final VerifiedPrincipalCachePort verifiedPrincipalCachePort;
+
+  @Value("${auth.blacklist.resync-interval-ms:30000}")
+  private long resyncIntervalMillis;
+
+  // 등록 이력 보관 기간 (이보다 오래 동기화하지 못한 노드는 전체 재동기화)
+  @Value("${auth.blacklist.revocation-log-retention-ms:3600000}")
+  private long revocationLogRetentionMillis;
+
+  /** 이 노드가 알고 있는 블랙리스트 토큰 해시와 만료 시각(epoch millis) */
+  private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+  /** 마지막으로 Redis와 동기화에 성공한 시각 (0이면 아직 동기화되지 않음) */
+  private volatile long lastSyncedAt;
+
+  /** 블랙리스트 전파 채널을 구독하고 Redis에 남아 있는 블랙리스트를 불러옵니다. */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    resync();
+  }
 
   /**
    * 블랙리스트 키 값을 설정
    *
-   * @param token 토큰
+   * @param tokenHash 토큰 해시
    * @return 블랙리스트 키
    */
-  private String getBlackListKey(String token) {
-    return "blacklist:" + token;
+  private String getBlackListKey(String tokenHash) {
+    return KEY_PREFIX + tokenHash;
   }
 
   /**
-   * 주어진 JWT 토큰을 Redis에 블랙리스트로 등록합니다.
+   * 주어진 JWT 토큰을 Redis에 블랙리스트로 등록하고 다른 노드에 전파합니다.
    *
    * @param token 블랙리스트에 추가할 JWT 토큰
    * @param expirationMillis 토큰의 블랙리스트 유지 기간(밀리초)
    */
   public void setBlackListToken(String token, long expirationMillis) {
+    String tokenHash = TokenHashUtil.sha256(token);
+    long now = System.currentTimeMillis();
+    long expiresAt = now + expirationMillis;
+    String revocation = tokenHash + ":" + expiresAt;
     redisTemplate
         .opsForValue()
-        .set(getBlackListKey(token), "logout", Duration.ofMillis(expirationMillis));
-    LoggerFactory.redis().logSaveOrUpdate(token, "블랙 리스트 처리를 위한 토큰 레디스 저장에 성공했습니다.");
+        .set(
+            getBlackListKey(tokenHash),
+            Long.toString(expiresAt),
+            Duration.ofMillis(expirationMillis));
+    redisTemplate.opsForZSet().add(REVOCATION_LOG_KEY, revocation, now);
+    revoke(tokenHash, expiresAt);
+    redisTemplate.convertAndSend(CHANNEL, revocation);
+    LoggerFactory.redis().logSaveOrUpdate(tokenHash, "블랙 리스트 처리를 위한 토큰 레디스 저장에 성공했습니다.");
   }
 
   /**
    * 주어진 토큰이 블랙리스트에 등록되어 있는지 확인합니다.
    *
+   * <p>로컬 니어 캐시에 없는 토큰은 Redis 조회 없이 false를 반환합니다. 로컬 캐시에 있거나 동기화가 지연된 경우에만 Redis를 확인합니다.
+   *
    * @param token 확인할 JWT 토큰
    * @return 토큰이 블랙리스트에 있으면 true, 아니면 false
    */
   public boolean isBlacklisted(String token) {
-    boolean isBlacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(getBlackListKey(token)));
+    if (token == null) {
+      return false;
+    }
+    String tokenHash = TokenHashUtil.sha256(token);
+    long now = System.currentTimeMillis();
+    if (now - lastSyncedAt <= resyncIntervalMillis * 2) {
+      Long expiresAt = revokedTokens.get(tokenHash);
+      if (expiresAt == null) {
+        return false;
+      }
+      if (expiresAt <= now) {
+        revokedTokens.remove(tokenHash, expiresAt);
+        return false;
+      }
+    }
+    boolean isBlacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(getBlackListKey(tokenHash)));
     if (isBlacklisted) {
-      LoggerFactory.redis().logExist(token, "블랙리스트 토큰 확인");
+      LoggerFactory.redis().logExist(tokenHash, "블랙리스트 토큰 확인");
     }
     return isBlacklisted;
   }
+
+  /**
+   * 다른 노드가 전파한 블랙리스트 등록 메시지를 로컬 니어 캐시에 반영하고 검증된 인증 주체 캐시에서도 제거합니다.
+   *
+   * @param message "토큰 해시:만료 시각" 형식의 메시지
+   * @param pattern 구독 패턴
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    applyRevocation(new String(message.getBody(), StandardCharsets.UTF_8), CHANNEL);
+  }
+
+  /**
+   * Redis의 블랙리스트 등록 이력을 다시 읽어 로컬 니어 캐시를 보정하고 만료된 항목을 정리합니다.
+   *
+   * <p>pub/sub 메시지는 구독이 끊긴 동안 유실될 수 있으므로 주기적으로 실행합니다. 평소에는 마지막 동기화 시각에서 재동기화 주기만큼 앞선 시점 이후의
+   * 이력만 읽고, 아직 동기화한 적이 없거나 그 시점의 이력이 이미 정리되었으면 블랙리스트 키 전체를 다시 읽습니다. 실패하면 마지막 동기화 시각이 갱신되지
+   * 않아 일정 시간 뒤부터 Redis를 직접 확인합니다.
+   */
+  @Scheduled(fixedDelayString = "${auth.blacklist.resync-interval-ms:30000}")
+  public void resync() {
+    long now = System.currentTimeMillis();
+    try {
+      long since = lastSyncedAt - resyncIntervalMillis;
+      if (lastSyncedAt == 0 || since < now - revocationLogRetentionMillis) {
+        resyncAll(now);
+      } else {
+        resyncSince(since, now);
+      }
+      revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+      lastSyncedAt = now;
+    } catch (Exception e) {
+      LoggerFactory.redis().logError(KEY_PREFIX + "*", "블랙리스트 니어 캐시 동기화에 실패했습니다.", e);
+    }
+  }
+
+  /** 주어진 시각 이후의 등록 이력만 읽어 반영하고, 보관 기간이 지난 이력을 정리합니다. */
+  private void resyncSince(long since, long now) {
+    Set<String> revocations =
+        redisTemplate.opsForZSet().rangeByScore(REVOCATION_LOG_KEY, since, Double.MAX_VALUE);
+    if (revocations != null) {
+      for (String revocation : revocations) {
+        applyRevocation(revocation, REVOCATION_LOG_KEY);
+      }
+    }
+    redisTemplate
+        .opsForZSet()
+        .removeRangeByScore(REVOCATION_LOG_KEY, 0, now - revocationLogRetentionMillis);
+  }
+
+  /** 블랙리스트 키 전체를 SCAN하여 로컬 니어 캐시를 다시 채웁니다. */
+  private void resyncAll(long now) {
+    List<String> keys = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(500).build();
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        keys.add(cursor.next());
+      }
+    }
+    if (keys.isEmpty()) {
+      return;
+    }
+    List<String> values = redisTemplate.opsForValue().multiGet(keys);
+    for (int i = 0; i < keys.size(); i++) {
+      String value = values != null ? values.get(i) : null;
+      if (value != null) {
+        revoke(keys.get(i).substring(KEY_PREFIX.length()), parseExpiresAt(value, now));
+      }
+    }
+  }
+
+  /**
+   * "토큰 해시:만료 시각" 형식의 등록 정보를 로컬 니어 캐시에 반영합니다.
+   *
+   * @param revocation 등록 정보
+   * @param source 잘못된 형식일 때 경고 로그에 남길 출처 (채널 또는 키)
+   */
+  private void applyRevocation(String revocation, String source) {
+    int separator = revocation.lastIndexOf(':');
+    if (separator <= 0) {
+      LoggerFactory.redis().logWarning(source, "잘못된 블랙리스트 전파 메시지입니다: " + revocation);
+      return;
+    }
+    try {
+      revoke(
+          revocation.substring(0, separator), Long.parseLong(revocation.substring(separator + 1)));
+    } catch (NumberFormatException e) {
+      LoggerFactory.redis().logWarning(source, "잘못된 블랙리스트 전파 메시지입니다: " + revocation);
+    }
+  }
+
+  /** 로컬 니어 캐시에 등록하고, 이 노드가 캐시해 둔 검증 결과가 있으면 함께 제거합니다. */
+  private void revoke(String tokenHash, long expiresAt) {
+    revokedTokens.merge(tokenHash, expiresAt, Math::max);
+    verifiedPrincipalCachePort.evictByTokenHash(tokenHash);
+  }
+
+  /** 만료 시각을 알 수 없는 값은 다음 동기화까지 유지되도록 재동기화 주기의 두 배로 간주합니다. */
+  private long parseExpiresAt(String value, long now) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      return now + resyncIntervalMillis * 2;
+    }
+  }
 }
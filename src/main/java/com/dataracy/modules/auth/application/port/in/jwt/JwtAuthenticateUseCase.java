@@ -0,0 +1,15 @@
+package com.dataracy.modules.auth.application.port.in.jwt;
+
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+
+public interface JwtAuthenticateUseCase {
+  /**
+   * 액세스 토큰을 한 번만 검증하여 인증 주체(유저 ID, 역할, 만료 시각)를 반환합니다.
+   *
+   * <p>만료되었거나 서명이 유효하지 않거나 블랙리스트에 등록된 토큰이면 예외가 발생합니다.
+   *
+   * @param accessToken 검증할 액세스 토큰 문자열
+   * @return 검증된 인증 주체
+   */
+  AuthenticatedPrincipal authenticate(String accessToken);
+}
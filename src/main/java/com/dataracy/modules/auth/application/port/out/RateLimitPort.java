@@ -2,6 +2,18 @@ package com.dataracy.modules.auth.application.port.out;
 
 /** Rate Limiting을 위한 Port 인터페이스 Clean Architecture의 Port Layer에 해당 */
 public interface RateLimitPort {
+  /**
+   * 요청이 허용되는지 확인하고, 허용되면 한 건을 사용량에 반영합니다.
+   *
+   * <p>확인과 반영이 원자적으로 이루어지므로 동시에 들어온 요청이 한도를 함께 넘지 않습니다.
+   *
+   * @param key 클라이언트 식별자 (IP, User ID 등)
+   * @param maxRequests 윈도우당 최대 허용 요청 수
+   * @param windowMinutes 시간 윈도우 (분)
+   * @return 허용 여부
+   */
+  boolean tryAcquire(String key, int maxRequests, int windowMinutes);
+
   /**
    * 요청이 허용되는지 확인
    *
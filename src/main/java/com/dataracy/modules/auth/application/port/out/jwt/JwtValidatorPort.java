@@ -1,5 +1,6 @@
 package com.dataracy.modules.auth.application.port.out.jwt;
 
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
 import com.dataracy.modules.user.domain.enums.RoleType;
 
 public interface JwtValidatorPort {
@@ -26,6 +27,14 @@ public interface JwtValidatorPort {
    */
   RoleType getRoleFromToken(String token);
 
+  /**
+   * JWT 토큰을 한 번만 파싱하여 사용자 ID, 역할, 만료 시각을 함께 추출합니다.
+   *
+   * @param token 검증할 JWT 토큰 문자열
+   * @return 서명과 만료 검증을 마친 인증 주체
+   */
+  AuthenticatedPrincipal getPrincipalFromToken(String token);
+
   /**
    * 토큰에서 이메일 주소를 추출하여 반환합니다.
    *
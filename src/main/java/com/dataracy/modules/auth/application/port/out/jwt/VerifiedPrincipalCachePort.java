@@ -0,0 +1,37 @@
+package com.dataracy.modules.auth.application.port.out.jwt;
+
+import java.util.Optional;
+
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+
+public interface VerifiedPrincipalCachePort {
+  /**
+   * 이미 검증한 토큰의 인증 주체를 조회합니다.
+   *
+   * @param token 액세스 토큰 문자열
+   * @return 캐시에 유효한 항목이 있으면 인증 주체, 없거나 만료되었으면 빈 Optional
+   */
+  Optional<AuthenticatedPrincipal> find(String token);
+
+  /**
+   * 검증을 마친 토큰의 인증 주체를 저장합니다.
+   *
+   * @param token 액세스 토큰 문자열
+   * @param principal 검증된 인증 주체
+   */
+  void put(String token, AuthenticatedPrincipal principal);
+
+  /**
+   * 토큰의 캐시 항목을 제거합니다. 블랙리스트 등록 시 호출됩니다.
+   *
+   * @param token 액세스 토큰 문자열
+   */
+  void evict(String token);
+
+  /**
+   * 토큰 해시에 해당하는 캐시 항목을 제거합니다. 다른 노드에서 전파된 블랙리스트 등록처럼 토큰 원문 없이 해시만 알 때 사용합니다.
+   *
+   * @param tokenHash 액세스 토큰의 SHA-256 해시
+   */
+  void evictByTokenHash(String tokenHash);
+}
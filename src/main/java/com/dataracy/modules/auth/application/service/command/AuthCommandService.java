@@ -44,7 +44,7 @@ public class AuthCommandService implements SelfLoginUseCase, ReIssueTokenUseCase
       JwtGeneratorPort jwtGeneratorPort,
       JwtValidatorPort jwtValidatorPort,
       ManageRefreshTokenPort manageRefreshTokenPort,
-      @Qualifier("redisRateLimitAdapter") RateLimitPort rateLimitPort,
+      @Qualifier("rateLimitPort") RateLimitPort rateLimitPort,
       IsLoginPossibleUseCase isLoginPossibleUseCase) {
     this.jwtProperties = jwtProperties;
     this.jwtGeneratorPort = jwtGeneratorPort;
@@ -156,8 +156,7 @@ public class AuthCommandService implements SelfLoginUseCase, ReIssueTokenUseCase
   /**
    * 레이트 리미팅 검증
    *
-   * <p>주의: RedisRateLimitAdapter의 isAllowed 메서드는 내부에서 카운트를 증가시키므로 별도로 incrementRequestCount를 호출할
-   * 필요가 없습니다.
+   * <p>tryAcquire는 한도 확인과 사용량 차감을 원자적으로 수행하므로 별도로 incrementRequestCount를 호출하지 않습니다.
    */
   private void validateRateLimit(String email, String clientIp) {
     if (clientIp == null) return;
@@ -165,12 +164,7 @@ public class AuthCommandService implements SelfLoginUseCase, ReIssueTokenUseCase
     String rateLimitKey = email + ":" + clientIp;
     int maxRequests = isNormalUser(email) ? 60 : 5;
 
-    LoggerFactory.service()
-        .logInfo(
-            SELF_LOGIN_USE_CASE,
-            String.format("레이트 리미팅 확인 - 사용자: %s, IP: %s, 제한: %d회/분", email, clientIp, maxRequests));
-
-    if (!rateLimitPort.isAllowed(rateLimitKey, maxRequests, 1)) {
+    if (!rateLimitPort.tryAcquire(rateLimitKey, maxRequests, 1)) {
       LoggerFactory.service()
           .logWarning(
               SELF_LOGIN_USE_CASE,
@@ -178,11 +172,6 @@ public class AuthCommandService implements SelfLoginUseCase, ReIssueTokenUseCase
                   "레이트 리미팅 초과 - 사용자: %s, IP: %s, 제한: %d회/분", email, clientIp, maxRequests));
       throw new AuthException(AuthErrorStatus.RATE_LIMIT_EXCEEDED);
     }
-
-    // incrementRequestCount 호출 제거 - isAllowed에서 이미 카운트 증가
-    LoggerFactory.service()
-        .logInfo(
-            SELF_LOGIN_USE_CASE, String.format("레이트 리미팅 통과 - 사용자: %s, IP: %s", email, clientIp));
   }
 
   /** 리프레시 토큰 응답 생성 */
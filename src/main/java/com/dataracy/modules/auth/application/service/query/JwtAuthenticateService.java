@@ -0,0 +1,55 @@
+package com.dataracy.modules.auth.application.service.query;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.dataracy.modules.auth.application.port.in.jwt.JwtAuthenticateUseCase;
+import com.dataracy.modules.auth.application.port.out.jwt.JwtValidatorPort;
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
+import com.dataracy.modules.auth.application.port.out.token.BlackListTokenPort;
+import com.dataracy.modules.auth.domain.exception.AuthException;
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+import com.dataracy.modules.auth.domain.status.AuthErrorStatus;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class JwtAuthenticateService implements JwtAuthenticateUseCase {
+  private final JwtValidatorPort jwtValidatorPort;
+  private final VerifiedPrincipalCachePort verifiedPrincipalCachePort;
+  private final BlackListTokenPort blackListTokenPort;
+
+  // Use Case 상수 정의
+  private static final String JWT_AUTHENTICATE_USE_CASE = "JwtAuthenticateUseCase";
+
+  /**
+   * 액세스 토큰을 검증하여 인증 주체를 반환합니다.
+   *
+   * <p>캐시에 유효한 항목이 있으면 서명 검증을 건너뛰고, 없으면 토큰을 한 번만 파싱해 서명과 만료를 검증합니다. 블랙리스트 여부는 캐시 적중 여부와 관계없이
+   * 매번 확인하므로, 다른 노드에서 폐기된 토큰도 캐시 만료를 기다리지 않고 거부됩니다. 블랙리스트 확인은 노드별 니어 캐시를 먼저 조회하므로 추가 왕복이
+   * 거의 없습니다.
+   *
+   * @param accessToken 검증할 액세스 토큰 문자열
+   * @return 검증된 인증 주체
+   * @throws AuthException 토큰이 만료되었거나 유효하지 않거나 블랙리스트에 등록된 경우
+   */
+  @Override
+  public AuthenticatedPrincipal authenticate(String accessToken) {
+    Optional<AuthenticatedPrincipal> cached = verifiedPrincipalCachePort.find(accessToken);
+    AuthenticatedPrincipal principal =
+        cached.orElseGet(() -> jwtValidatorPort.getPrincipalFromToken(accessToken));
+    if (blackListTokenPort.isBlacklisted(accessToken)) {
+      verifiedPrincipalCachePort.evict(accessToken);
+      LoggerFactory.service()
+          .logWarning(JWT_AUTHENTICATE_USE_CASE, "블랙리스트에 등록된 토큰으로 인증을 시도했습니다.");
+      throw new AuthException(AuthErrorStatus.BLACKLISTED_TOKEN);
+    }
+    if (cached.isEmpty()) {
+      verifiedPrincipalCachePort.put(accessToken, principal);
+    }
+    return principal;
+  }
+}
@@ -5,6 +5,7 @@ import java.time.Instant;
 import org.springframework.stereotype.Service;
 
 import com.dataracy.modules.auth.application.port.in.token.BlackListTokenUseCase;
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
 import com.dataracy.modules.auth.application.port.out.token.BlackListTokenPort;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 
@@ -15,12 +16,15 @@ import lombok.RequiredArgsConstructor;
 public class BlackListTokenService implements BlackListTokenUseCase {
 
   private final BlackListTokenPort blackListTokenPort;
+  private final VerifiedPrincipalCachePort verifiedPrincipalCachePort;
 
   private static final String USE_CASE = "BlackListTokenUseCase";
 
   /**
    * 주어진 토큰을 블랙리스트에 등록한다.
    *
+   * <p>이미 검증되어 캐시에 남아 있는 인증 주체도 함께 제거하여 등록 즉시 해당 토큰으로 인증할 수 없게 한다.
+   *
    * @param token 블랙리스트에 등록할 JWT 토큰 문자열
    * @param expirationMillis 블랙리스트 유지 기간(밀리초, 현재 시점부터의 지속 시간)
    */
@@ -28,6 +32,7 @@ public class BlackListTokenService implements BlackListTokenUseCase {
   public void addToBlackList(String token, long expirationMillis) {
     Instant startTime = LoggerFactory.service().logStart(USE_CASE, "토큰 블랙리스트 등록 서비스 시작");
     blackListTokenPort.setBlackListToken(token, expirationMillis);
+    verifiedPrincipalCachePort.evict(token);
     LoggerFactory.service().logSuccess(USE_CASE, "토큰 블랙리스트 등록 서비스 성공", startTime);
   }
 
@@ -0,0 +1,12 @@
+package com.dataracy.modules.auth.domain.model.vo;
+
+import com.dataracy.modules.user.domain.enums.RoleType;
+
+/**
+ * 서명 검증을 마친 액세스 토큰에서 추출한 인증 주체입니다.
+ *
+ * @param userId 유저 아이디
+ * @param role 유저 역할
+ * @param expiresAtMillis 토큰 만료 시각(epoch millis)
+ */
+public record AuthenticatedPrincipal(Long userId, RoleType role, long expiresAtMillis) {}
@@ -31,6 +31,7 @@ public enum AuthErrorStatus implements BaseErrorCode {
   INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-012", "유효하지 않은 리프레시 토큰입니다."),
   INVALID_REGISTER_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-013", "유효하지 않은 레지스터 토큰입니다."),
   INVALID_RESET_PASSWORD_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-014", "유효하지 않은 비밀번호 재설정 토큰입니다."),
+  BLACKLISTED_TOKEN(HttpStatus.UNAUTHORIZED, "AUTH-023", "로그아웃 처리된 토큰입니다. 다시 로그인해주세요."),
 
   // Redis 및 일치 오류
   REFRESH_TOKEN_USER_MISMATCH_IN_REDIS(
@@ -4,17 +4,35 @@ import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.behaviorlog.application.port.out.SaveBehaviorLogPort;
+import com.dataracy.modules.behaviorlog.application.port.out.SendBehaviorLogDeadLetterPort;
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+import com.dataracy.modules.common.support.metrics.BehaviorLogIngestMetrics;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,21 +42,93 @@ import lombok.extern.slf4j.Slf4j;
 public class BehaviorLogElasticsearchSaveAdapter implements SaveBehaviorLogPort {
 
   private final ElasticsearchClient elasticsearchClient;
+  private final SendBehaviorLogDeadLetterPort sendBehaviorLogDeadLetterPort;
+  private final BehaviorLogIngestMetrics behaviorLogIngestMetrics;
 
   private static final String INDEX_PREFIX = "behavior-logs-";
+  private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
   private volatile String cachedIndexName;
   private volatile LocalDate cachedDate;
 
+  // _bulk 요청 1회당 최대 문서 수
+  @Value("${behavior-log.ingest.max-operations:1000}")
+  private int maxOperations;
+
+  // _bulk 요청 1회당 최대 바이트 수
+  @Value("${behavior-log.ingest.max-bytes:5242880}")
+  private long maxBytes;
+
+  // 임계치에 도달하지 않아도 대기 중인 작업을 전송하는 주기 (밀리초)
+  @Value("${behavior-log.ingest.flush-interval-ms:1000}")
+  private long flushIntervalMs;
+
+  // 동시에 진행 가능한 _bulk 요청 수 (초과 시 saveAll 호출 스레드가 대기)
+  @Value("${behavior-log.ingest.max-concurrent-requests:2}")
+  private int maxConcurrentRequests;
+
+  // 문서 단위 최대 재시도 횟수
+  @Value("${behavior-log.ingest.max-retries:3}")
+  private int maxRetries;
+
+  // 첫 재시도 대기 시간 (밀리초, 재시도마다 두 배)
+  @Value("${behavior-log.ingest.retry-backoff-ms:500}")
+  private long retryBackoffMs;
+
+  private BulkIngester<IngestContext> bulkIngester;
+  private ScheduledExecutorService retryScheduler;
+
+  /** 일괄 적재용 BulkIngester와 재시도 스케줄러를 시작합니다. */
+  @PostConstruct
+  public void start() {
+    retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "behavior-log-ingest-retry");
+              thread.setDaemon(true);
+              return thread;
+            });
+    bulkIngester =
+        BulkIngester.of(
+            b ->
+                b.client(elasticsearchClient)
+                    .maxOperations(maxOperations)
+                    .maxSize(maxBytes)
+                    .maxConcurrentRequests(maxConcurrentRequests)
+                    .flushInterval(flushIntervalMs, TimeUnit.MILLISECONDS)
+                    .listener(new IngestListener()));
+    behaviorLogIngestMetrics.registerPending(bulkIngester::pendingOperations);
+  }
+
+  /**
+   * 예약된 재시도를 마저 등록한 뒤 BulkIngester를 닫아 대기 중인 작업을 모두 전송합니다.
+   *
+   * <p>종료 중에 더 이상 재시도할 수 없는 문서는 데드레터로 보냅니다.
+   */
+  @PreDestroy
+  public void stop() {
+    if (retryScheduler != null) {
+      retryScheduler.shutdown();
+      try {
+        retryScheduler.awaitTermination(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (bulkIngester != null) {
+      bulkIngester.close();
+    }
+  }
+
   /**
    * BehaviorLog 도메인 객체를 월별 롤링 인덱스에 Elasticsearch로 저장합니다.
    *
-   * <p>BehaviorLog의 timestamp가 null이면 현재 시각으로 설정하여 저장합니다. 저장 실패 시 예외를 전파하지 않고 오류 로그만 남기며, 서비스 동작에는
-   * 영향을 주지 않습니다.
+   * <p>BehaviorLog의 timestamp가 null이면 현재 시각으로 설정하여 저장합니다. 저장 실패 시 예외를 전파하지 않으며, 재시도 가능한 오류는 일괄 적재
+   * 파이프라인의 재시도 큐로, 그 외에는 데드레터로 보냅니다.
    */
   @Override
   public void save(BehaviorLog behaviorLog) {
+    String indexName = resolveIndexName();
     try {
-      String indexName = resolveIndexName();
       IndexRequest<BehaviorLog> request =
           IndexRequest.of(i -> i.index(indexName).document(behaviorLog));
 
@@ -47,13 +137,118 @@ public class BehaviorLogElasticsearchSaveAdapter implements SaveBehaviorLogPort
 
     } catch (Exception e) {
       log.error("Elasticsearch 저장 실패: {}", e.getMessage(), e);
-      if (isRetryable(e)) {
-        // retry logic or send to DLQ
+      IngestContext context = new IngestContext(null, behaviorLog, indexName, 0);
+      String reason = e.getClass().getSimpleName() + ": " + e.getMessage();
+      if (isRetryable(e) && retryScheduler != null) {
         log.warn("재시도 가능한 오류: {}", e.getMessage());
+        retryOrDeadLetter(context, reason);
+      } else {
+        deadLetter(context, reason);
+      }
+    }
+  }
+
+  /**
+   * 여러 행동 로그를 BulkIngester에 등록합니다.
+   *
+   * <p>문서 수·바이트·시간 임계치 중 하나에 도달하면 _bulk 요청으로 전송됩니다. 진행 중인 요청 수가 한도에 도달하면 여유가 생길 때까지 호출 스레드를
+   * 대기시켜 Kafka 소비 속도를 Elasticsearch 처리 속도에 맞춥니다. 실패한 문서는 재시도 가능한 경우 지수 백오프로 다시 등록하고, 그렇지 않거나 재시도
+   * 횟수를 넘기면 데드레터로 보냅니다. 주어진 키를 문서 ID로 지정하므로 재전달된 로그는 기존 문서를 덮어씁니다.
+   */
+  @Override
+  public void saveAll(Map<String, BehaviorLog> logsById) {
+    String indexName = resolveIndexName();
+    logsById.forEach(
+        (id, behaviorLog) -> enqueue(new IngestContext(id, behaviorLog, indexName, 0)));
+  }
+
+  private void enqueue(IngestContext context) {
+    bulkIngester.add(
+        BulkOperation.of(
+            op ->
+                op.index(
+                    idx ->
+                        idx.index(context.indexName())
+                            .id(context.id())
+                            .document(context.log()))),
+        context);
+  }
+
+  /**
+   * _bulk 응답의 문서별 결과를 처리합니다.
+   *
+   * @param contexts 요청에 포함된 문서 순서대로의 적재 컨텍스트
+   * @param response _bulk 응답
+   */
+  void handleResponse(List<IngestContext> contexts, BulkResponse response) {
+    behaviorLogIngestMetrics.recordBulk(response.took());
+    List<BulkResponseItem> items = response.items();
+    int indexed = 0;
+    for (int i = 0; i < items.size(); i++) {
+      BulkResponseItem item = items.get(i);
+      if (item.error() == null) {
+        indexed++;
+        continue;
       }
+      IngestContext context = contexts.get(i);
+      String reason = item.error().type() + ": " + item.error().reason();
+      if (RETRYABLE_STATUSES.contains(item.status())) {
+        retryOrDeadLetter(context, reason);
+      } else {
+        deadLetter(context, reason);
+      }
+    }
+    behaviorLogIngestMetrics.recordIndexed(indexed);
+  }
+
+  /**
+   * _bulk 요청 자체가 실패했을 때 요청에 포함된 모든 문서를 처리합니다.
+   *
+   * @param contexts 요청에 포함된 적재 컨텍스트
+   * @param failure 요청 실패 원인
+   */
+  void handleFailure(List<IngestContext> contexts, Throwable failure) {
+    log.error("행동 로그 _bulk 요청 실패: 문서 수={}, error={}", contexts.size(), failure.getMessage());
+    boolean retryable = isRetryable(failure);
+    String reason = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+    for (IngestContext context : contexts) {
+      if (retryable) {
+        retryOrDeadLetter(context, reason);
+      } else {
+        deadLetter(context, reason);
+      }
+    }
+  }
+
+  private void retryOrDeadLetter(IngestContext context, String reason) {
+    if (context.attempt() >= maxRetries) {
+      deadLetter(context, reason);
+      return;
+    }
+    IngestContext next = context.nextAttempt();
+    long delayMillis = retryBackoffMs << context.attempt();
+    try {
+      retryScheduler.schedule(() -> reenqueue(next, reason), delayMillis, TimeUnit.MILLISECONDS);
+      behaviorLogIngestMetrics.recordRetried(1);
+    } catch (RejectedExecutionException e) {
+      deadLetter(context, reason);
+    }
+  }
+
+  private void reenqueue(IngestContext context, String reason) {
+    try {
+      enqueue(context);
+    } catch (RuntimeException e) {
+      // 종료 등으로 BulkIngester가 닫힌 경우
+      deadLetter(context, reason);
     }
   }
 
+  private void deadLetter(IngestContext context, String reason) {
+    sendBehaviorLogDeadLetterPort.sendToDeadLetter(context.log(), reason);
+    behaviorLogIngestMetrics.recordDeadLettered(1);
+  }
+
   /**
    * 현재 날짜 기준으로 월별 롤링되는 Elasticsearch 인덱스 이름을 반환합니다.
    *
@@ -84,7 +279,7 @@ public class BehaviorLogElasticsearchSaveAdapter implements SaveBehaviorLogPort
    * @param e 검사할 예외 객체
    * @return 재시도 가능한 오류일 경우 true, 아니면 false
    */
-  private boolean isRetryable(Exception e) {
+  private boolean isRetryable(Throwable e) {
     // 예외 타입 기반 판단
     if (e instanceof ConnectException || e instanceof SocketTimeoutException) {
       return true;
@@ -98,4 +293,40 @@ public class BehaviorLogElasticsearchSaveAdapter implements SaveBehaviorLogPort
                     || msg.toLowerCase(Locale.ENGLISH).contains("unavailable"))
         .orElse(false);
   }
+
+  /**
+   * BulkIngester에 등록된 문서 하나의 적재 컨텍스트입니다.
+   *
+   * @param id 문서 ID (null이면 Elasticsearch가 생성)
+   * @param log 적재할 행동 로그
+   * @param indexName 적재 대상 인덱스 (재시도 시에도 처음 결정된 인덱스를 유지)
+   * @param attempt 지금까지의 재시도 횟수
+   */
+  record IngestContext(String id, BehaviorLog log, String indexName, int attempt) {
+    IngestContext nextAttempt() {
+      return new IngestContext(id, log, indexName, attempt + 1);
+    }
+  }
+
+  private class IngestListener implements BulkListener<IngestContext> {
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request, List<IngestContext> contexts) {
+      // 전송 전 처리 없음
+    }
+
+    @Override
+    public void afterBulk(
+        long executionId,
+        BulkRequest request,
+        List<IngestContext> contexts,
+        BulkResponse response) {
+      handleResponse(contexts, response);
+    }
+
+    @Override
+    public void afterBulk(
+        long executionId, BulkRequest request, List<IngestContext> contexts, Throwable failure) {
+      handleFailure(contexts, failure);
+    }
+  }
 }
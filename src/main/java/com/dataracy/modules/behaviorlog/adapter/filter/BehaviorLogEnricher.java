@@ -0,0 +1,178 @@
+package com.dataracy.modules.behaviorlog.adapter.filter;
+
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.behaviorlog.application.port.out.BehaviorLogSendProducerPort;
+import com.dataracy.modules.behaviorlog.domain.enums.ActionType;
+import com.dataracy.modules.behaviorlog.domain.enums.LogType;
+import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+import com.dataracy.modules.behaviorlog.support.parser.ParsedUserAgent;
+import com.dataracy.modules.behaviorlog.support.parser.UserAgentParser;
+import com.dataracy.modules.common.support.enums.HttpMethod;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 필터가 수집한 원본 값을 작업 스레드에서 {@link BehaviorLog}로 가공하여 전송하는 비동기 단계입니다.
+ *
+ * <p>요청 스레드는 {@link #submit}으로 큐에 넣고 즉시 반환합니다. User-Agent 분석은 한 번만 수행해 브라우저, 운영체제, 디바이스 유형에 함께
+ * 사용하며, 큐가 가득 차면 행동 로그를 버리고 {@code behaviorlog.tracking.dropped} 카운터를 증가시킵니다.
+ */
+@Slf4j
+@Component
+class BehaviorLogEnricher {
+
+  private final BehaviorLogSendProducerPort producerPort;
+  private final MeterRegistry meterRegistry;
+  private final Counter dropped;
+
+  @Value("${behavior-log.tracking.queue-capacity:10000}")
+  private int queueCapacity;
+
+  private BlockingQueue<RawBehaviorEvent> queue;
+  private volatile boolean running;
+  private Thread worker;
+
+  BehaviorLogEnricher(BehaviorLogSendProducerPort producerPort, MeterRegistry meterRegistry) {
+    this.producerPort = producerPort;
+    this.meterRegistry = meterRegistry;
+    this.dropped =
+        Counter.builder("behaviorlog.tracking.dropped")
+            .description("가공 큐 포화로 버려진 행동 로그 수")
+            .register(meterRegistry);
+  }
+
+  /** 가공 큐를 만들고 작업 스레드를 시작합니다. */
+  @PostConstruct
+  public void start() {
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    Gauge.builder("behaviorlog.tracking.pending", queue, BlockingQueue::size)
+        .description("가공 대기 중인 행동 로그 수")
+        .register(meterRegistry);
+    running = true;
+    worker = new Thread(this::runLoop, "behavior-log-enricher");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  /** 작업 스레드를 종료하고 큐에 남은 행동 로그를 모두 전송합니다. */
+  @PreDestroy
+  public void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+      try {
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    if (queue == null) {
+      return;
+    }
+    RawBehaviorEvent event;
+    while ((event = queue.poll()) != null) {
+      process(event);
+    }
+  }
+
+  /**
+   * 원본 행동 로그를 가공 큐에 등록합니다.
+   *
+   * @param event 요청 스레드에서 수집한 원본 값
+   * @return 큐 등록 성공 여부 (작업 스레드 미동작 또는 큐 포화 시 false)
+   */
+  boolean submit(RawBehaviorEvent event) {
+    if (running && queue.offer(event)) {
+      return true;
+    }
+    dropped.increment();
+    return false;
+  }
+
+  private void runLoop() {
+    while (running) {
+      try {
+        RawBehaviorEvent event = queue.poll(1, TimeUnit.SECONDS);
+        if (event != null) {
+          process(event);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /** 원본 값을 가공하여 유효한 행동 로그만 전송합니다. 한 건의 실패가 작업 스레드를 멈추지 않도록 예외를 삼킵니다. */
+  void process(RawBehaviorEvent event) {
+    try {
+      BehaviorLog behaviorLog = enrich(event);
+      if (behaviorLog.isValid()) {
+        producerPort.send(behaviorLog);
+      }
+    } catch (Exception e) {
+      log.error("행동 로그 가공 실패 - requestId={}", event.requestId(), e);
+    }
+  }
+
+  /**
+   * 원본 값을 바탕으로 BehaviorLog 객체를 생성합니다.
+   *
+   * @param event 요청 스레드에서 수집한 원본 값
+   * @return 디바이스 정보와 지표가 채워진 BehaviorLog 객체
+   */
+  BehaviorLog enrich(RawBehaviorEvent event) {
+    ParsedUserAgent userAgent = UserAgentParser.parse(event.userAgent());
+
+    return BehaviorLog.builder()
+        .userId(event.userId())
+        .anonymousId(event.anonymousId())
+        .requestId(event.requestId())
+        .sessionId(event.sessionId())
+        .path(event.path())
+        .httpMethod(HttpMethod.valueOf(event.method()))
+        .responseTime(event.responseTime())
+        .userAgent(event.userAgent())
+        .ip(event.ip())
+        .action(ActionType.fromNullableString(event.action()))
+        .dbLatency(parseLong(event.dbLatency()))
+        .externalLatency(0) // 외부 API 호출 시간 추적 미구현 (향후 확장 예정)
+        .referrer(event.referrer())
+        .deviceType(userAgent.deviceType())
+        .logType(LogType.ACTION)
+        .browser(userAgent.browser())
+        .os(userAgent.os())
+        .nextPath(event.nextPath())
+        .stayTime(parseLong(event.stayTime()))
+        .timestamp(Instant.ofEpochMilli(event.timestampMillis()).toString())
+        .build();
+  }
+
+  /**
+   * 문자열을 long 타입으로 안전하게 변환합니다.
+   *
+   * <p>입력값이 null이거나 숫자로 변환할 수 없는 경우 0L을 반환합니다.
+   *
+   * @param str long으로 변환할 문자열
+   * @return 변환된 long 값 또는 변환 실패 시 0L
+   */
+  private long parseLong(String str) {
+    try {
+      return str != null ? Long.parseLong(str) : 0L;
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
+  }
+}
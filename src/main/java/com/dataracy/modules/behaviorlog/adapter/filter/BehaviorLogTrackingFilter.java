@@ -1,22 +1,15 @@
 package com.dataracy.modules.behaviorlog.adapter.filter;
 
 import java.io.IOException;
-import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.MDC;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.dataracy.modules.behaviorlog.application.port.out.BehaviorLogSendProducerPort;
-import com.dataracy.modules.behaviorlog.domain.enums.ActionType;
-import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
-import com.dataracy.modules.behaviorlog.domain.enums.LogType;
-import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
 import com.dataracy.modules.behaviorlog.support.mdc.MdcKey;
-import com.dataracy.modules.behaviorlog.support.parser.UserAgentParser;
-import com.dataracy.modules.common.support.enums.HttpMethod;
 import com.dataracy.modules.common.util.CookieUtil;
 import com.dataracy.modules.common.util.WebRequestUtil;
 import com.dataracy.modules.security.handler.SecurityContextProvider;
@@ -34,14 +27,15 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BehaviorLogTrackingFilter extends OncePerRequestFilter {
 
-  private final BehaviorLogSendProducerPort producerPort;
+  private final BehaviorLogEnricher enricher;
   private final CookieUtil cookieUtil;
 
   /**
    * HTTP 요청을 가로채어 사용자 행동 로그를 비동기적으로 수집 및 전송하는 필터의 핵심 메서드입니다.
    *
-   * <p>로그 제외 대상 요청은 필터 체인을 바로 진행하며, 그 외 요청에 대해서는 MDC를 초기화하고 요청 처리 시간을 측정한 후, 행동 로그를 생성하여 전송합니다. 요청
-   * 처리 후 MDC를 반드시 정리합니다.
+   * <p>로그 제외 대상 요청은 필터 체인을 바로 진행하며, 그 외 요청에 대해서는 MDC를 초기화하고 요청 처리 시간을 측정한 후, 원본 값만
+   * 수집하여 {@link BehaviorLogEnricher}에 넘깁니다. User-Agent 분석과 BehaviorLog 생성, 직렬화는 요청 스레드 밖에서 수행됩니다.
+   * 요청 처리 후 MDC를 반드시 정리합니다.
    *
    * @param request 현재 처리 중인 HTTP 요청
    * @param response 현재 처리 중인 HTTP 응답
@@ -67,10 +61,7 @@ public class BehaviorLogTrackingFilter extends OncePerRequestFilter {
       long endTime = System.currentTimeMillis();
       long responseTime = endTime - startTime;
 
-      BehaviorLog log = buildBehaviorLog(request, responseTime);
-      if (log.isValid()) {
-        producerPort.send(log);
-      }
+      enricher.submit(capture(request, responseTime, endTime));
 
       MDC.clear();
     }
@@ -94,7 +85,7 @@ public class BehaviorLogTrackingFilter extends OncePerRequestFilter {
 
     String anonymousId = cookieUtil.getOrCreateAnonymousId(request, response);
     MDC.put(MdcKey.ANONYMOUS_ID, anonymousId);
-    MDC.put(MdcKey.REQUEST_ID, UUID.randomUUID().toString());
+    MDC.put(MdcKey.REQUEST_ID, newRequestId());
     MDC.put(MdcKey.SESSION_ID, anonymousId);
     MDC.put(MdcKey.IP, request.getRemoteAddr());
     MDC.put(MdcKey.PATH, request.getRequestURI());
@@ -102,60 +93,47 @@ public class BehaviorLogTrackingFilter extends OncePerRequestFilter {
   }
 
   /**
-   * 현재 HTTP 요청과 MDC에 저장된 정보를 바탕으로 BehaviorLog 객체를 생성합니다.
+   * 현재 HTTP 요청과 MDC에 저장된 값을 가공 없이 수집합니다.
    *
    * @param request HTTP 요청 객체
    * @param responseTime 요청 처리에 소요된 시간(밀리초)
-   * @return 수집된 사용자 행동 로그 정보가 담긴 BehaviorLog 객체
+   * @param timestampMillis 요청 처리 완료 시각(epoch millis)
+   * @return 수집된 원본 값
    */
-  private BehaviorLog buildBehaviorLog(HttpServletRequest request, long responseTime) {
-    String userAgent = request.getHeader("User-Agent");
-    String actionRaw = MDC.get(MdcKey.ACTION);
-    ActionType action = ActionType.fromNullableString(actionRaw);
-
-    long dbLatency = parseLong(MDC.get(MdcKey.DATA_ACCESS_LATENCY));
-    long stayTime = parseLong(MDC.get(MdcKey.STAY_TIME));
-
-    String referrer =
-        MDC.get(MdcKey.REFERRER) != null ? MDC.get(MdcKey.REFERRER) : request.getHeader("Referer");
-
-    return BehaviorLog.builder()
-        .userId(MDC.get(MdcKey.USER_ID))
-        .anonymousId(MDC.get(MdcKey.ANONYMOUS_ID))
-        .requestId(MDC.get(MdcKey.REQUEST_ID))
-        .sessionId(MDC.get(MdcKey.SESSION_ID))
-        .path(MDC.get(MdcKey.PATH))
-        .httpMethod(HttpMethod.valueOf(MDC.get(MdcKey.METHOD)))
-        .responseTime(responseTime)
-        .userAgent(userAgent)
-        .ip(MDC.get(MdcKey.IP))
-        .action(action)
-        .dbLatency(dbLatency)
-        .externalLatency(0) // 외부 API 호출 시간 추적 미구현 (향후 확장 예정)
-        .referrer(referrer)
-        .deviceType(DeviceType.resolve(userAgent))
-        .logType(LogType.ACTION)
-        .browser(UserAgentParser.extractBrowser(userAgent))
-        .os(UserAgentParser.extractOS(userAgent))
-        .nextPath(MDC.get(MdcKey.NEXT_PATH))
-        .stayTime(stayTime)
-        .timestamp(Instant.now().toString())
-        .build();
+  private RawBehaviorEvent capture(
+      HttpServletRequest request, long responseTime, long timestampMillis) {
+    String referrer = MDC.get(MdcKey.REFERRER);
+
+    return new RawBehaviorEvent(
+        MDC.get(MdcKey.USER_ID),
+        MDC.get(MdcKey.ANONYMOUS_ID),
+        MDC.get(MdcKey.REQUEST_ID),
+        MDC.get(MdcKey.SESSION_ID),
+        MDC.get(MdcKey.PATH),
+        MDC.get(MdcKey.METHOD),
+        MDC.get(MdcKey.IP),
+        request.getHeader("User-Agent"),
+        referrer != null ? referrer : request.getHeader("Referer"),
+        MDC.get(MdcKey.ACTION),
+        MDC.get(MdcKey.DATA_ACCESS_LATENCY),
+        MDC.get(MdcKey.STAY_TIME),
+        MDC.get(MdcKey.NEXT_PATH),
+        responseTime,
+        timestampMillis);
   }
 
   /**
-   * 문자열을 long 타입으로 안전하게 변환합니다.
+   * 요청 ID로 사용할 버전 4 UUID를 생성합니다.
    *
-   * <p>입력값이 null이거나 숫자로 변환할 수 없는 경우 0L을 반환합니다.
+   * <p>요청 ID는 로그 상관관계 용도로만 쓰이므로 {@link UUID#randomUUID()}의 SecureRandom 대신 스레드 로컬 난수를 사용해 요청 스레드의
+   * 비용을 줄입니다.
    *
-   * @param str long으로 변환할 문자열
-   * @return 변환된 long 값 또는 변환 실패 시 0L
+   * @return 요청 ID 문자열
    */
-  private long parseLong(String str) {
-    try {
-      return str != null ? Long.parseLong(str) : 0L;
-    } catch (NumberFormatException e) {
-      return 0L;
-    }
+  private String newRequestId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+    long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+    return new UUID(msb, lsb).toString();
   }
 }
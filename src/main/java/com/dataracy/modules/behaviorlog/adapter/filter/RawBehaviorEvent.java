@@ -0,0 +1,23 @@
+package com.dataracy.modules.behaviorlog.adapter.filter;
+
+/**
+ * 요청 스레드에서 가공 없이 수집한 행동 로그 원본 값입니다.
+ *
+ * <p>User-Agent 분석, 숫자 변환, 타임스탬프 포맷팅 같은 가공은 {@link BehaviorLogEnricher}의 작업 스레드에서 수행합니다.
+ */
+record RawBehaviorEvent(
+    String userId,
+    String anonymousId,
+    String requestId,
+    String sessionId,
+    String path,
+    String method,
+    String ip,
+    String userAgent,
+    String referrer,
+    String action,
+    String dbLatency,
+    String stayTime,
+    String nextPath,
+    long responseTime,
+    long timestampMillis) {}
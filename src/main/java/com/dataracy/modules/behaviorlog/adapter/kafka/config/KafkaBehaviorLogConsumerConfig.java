@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,52 +12,103 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class KafkaBehaviorLogConsumerConfig {
 
   @Value("${spring.kafka.bootstrap-servers}")
   private String bootstrapServers;
 
+  // 한 번의 poll로 가져와 일괄 적재에 넘길 최대 레코드 수
+  @Value("${spring.kafka.consumer.behavior-log.max-poll-records:500}")
+  private int maxPollRecords;
+
+  @Value("${spring.kafka.listener.behavior-log.concurrency:1}")
+  private int concurrency;
+
   /**
    * BehaviorLog 메시지를 소비하기 위한 Kafka ConsumerFactory 빈을 생성합니다.
    *
-   * <p>Kafka 서버 주소, 컨슈머 그룹, 키/값 역직렬화 설정을 포함하며, BehaviorLog 객체 역직렬화를 위해 신뢰할 수 있는 패키지를 지정합니다.
+   * <p>Kafka 서버 주소, 컨슈머 그룹, 키/값 역직렬화 설정을 포함하며, BehaviorLog 객체 역직렬화를 위해 신뢰할 수 있는 패키지를 지정합니다. 손상된
+   * 메시지가 poll 전체를 막지 않도록 값 역직렬화기를 {@link ErrorHandlingDeserializer}로 감싸고, Kafka 클라이언트 메트릭(컨슈머 lag
+   * 포함)을 Micrometer에 등록합니다.
    *
    * @return BehaviorLog 타입의 메시지를 처리하는 ConsumerFactory 인스턴스
    */
   @Bean
-  public ConsumerFactory<String, BehaviorLog> behaviorLogConsumerFactory() {
+  public ConsumerFactory<String, BehaviorLog> behaviorLogConsumerFactory(
+      MeterRegistry meterRegistry) {
     Map<String, Object> config = new HashMap<>();
     config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     config.put(ConsumerConfig.GROUP_ID_CONFIG, "behavior-log-consumer-group");
     config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+    config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+    config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
 
     JsonDeserializer<BehaviorLog> valueDeserializer =
         new JsonDeserializer<>(BehaviorLog.class, false);
     valueDeserializer.addTrustedPackages("com.dataracy.modules.behaviorlog.domain.model");
 
-    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), valueDeserializer);
+    DefaultKafkaConsumerFactory<String, BehaviorLog> factory =
+        new DefaultKafkaConsumerFactory<>(
+            config, new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+    factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+    return factory;
+  }
+
+  /**
+   * 행동 로그 리스너 에러 핸들러: 1s → 2s → 4s, 총 3회 배치 재시도 후 DLT(<원본토픽>-dlt)로 송신합니다.
+   *
+   * @param behaviorLogKafkaTemplate DLT 발행용 BehaviorLog KafkaTemplate
+   */
+  @Bean
+  public DefaultErrorHandler behaviorLogErrorHandler(
+      KafkaTemplate<String, BehaviorLog> behaviorLogKafkaTemplate) {
+    DeadLetterPublishingRecoverer recoverer =
+        new DeadLetterPublishingRecoverer(
+            behaviorLogKafkaTemplate,
+            (rec, ex) -> new TopicPartition(rec.topic() + "-dlt", rec.partition()));
+
+    ExponentialBackOffWithMaxRetries backoff = new ExponentialBackOffWithMaxRetries(3);
+    backoff.setInitialInterval(1000);
+    backoff.setMultiplier(2.0);
+    backoff.setMaxInterval(4000);
+
+    return new DefaultErrorHandler(recoverer, backoff);
   }
 
   /**
-   * `BehaviorLog` 메시지 처리를 위한 Kafka 리스너 컨테이너 팩토리 빈을 생성합니다.
+   * `BehaviorLog` 메시지 처리를 위한 Kafka 배치 리스너 컨테이너 팩토리 빈을 생성합니다.
    *
-   * <p>이 팩토리는 `behaviorLogConsumerFactory()`에서 생성된 컨슈머 팩토리를 사용하여 `BehaviorLog` 객체의 병렬 소비를 지원하는
-   * Kafka 리스너 컨테이너를 제공합니다.
+   * <p>poll 단위로 받은 레코드를 한 번에 일괄 적재 파이프라인에 넘기며, 오프셋은 배치 등록이 끝난 뒤 커밋됩니다.
    *
    * @return `BehaviorLog` 타입의 메시지를 처리하는 Kafka 리스너 컨테이너 팩토리
    */
   @Bean(name = "behaviorLogKafkaListenerContainerFactory")
   public ConcurrentKafkaListenerContainerFactory<String, BehaviorLog>
-      behaviorLogKafkaListenerContainerFactory() {
+      behaviorLogKafkaListenerContainerFactory(
+          ConsumerFactory<String, BehaviorLog> behaviorLogConsumerFactory,
+          DefaultErrorHandler behaviorLogErrorHandler) {
     ConcurrentKafkaListenerContainerFactory<String, BehaviorLog> factory =
         new ConcurrentKafkaListenerContainerFactory<>();
-    factory.setConsumerFactory(behaviorLogConsumerFactory());
+    factory.setConsumerFactory(behaviorLogConsumerFactory);
+    factory.setCommonErrorHandler(behaviorLogErrorHandler);
+    factory.setConcurrency(concurrency);
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
     return factory;
   }
 }
@@ -1,10 +1,17 @@
 package com.dataracy.modules.behaviorlog.adapter.kafka.consumer;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.behaviorlog.application.port.out.SaveBehaviorLogPort;
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+import com.dataracy.modules.common.support.metrics.BehaviorLogIngestMetrics;
+import com.dataracy.modules.common.util.KafkaRecordUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,23 +22,48 @@ import lombok.extern.slf4j.Slf4j;
 public class BehaviorLogKafkaConsumerAdapter {
 
   private final SaveBehaviorLogPort saveBehaviorLogPort;
+  private final BehaviorLogIngestMetrics behaviorLogIngestMetrics;
 
   /**
-   * Kafka에서 수신한 행동 로그 메시지를 저장합니다.
+   * Kafka에서 배치로 수신한 행동 로그 메시지를 일괄 적재 파이프라인에 등록합니다.
+   *
+   * <p>역직렬화에 실패한 레코드는 배치 내 위치와 함께 예외를 던져 해당 레코드만 DLT로 보냅니다. 레코드의 topic-partition-offset을 문서 ID로
+   * 사용하므로 재시도로 같은 배치가 다시 전달되어도 중복 문서가 생기지 않습니다. 배치에서 가장 오래된 레코드 기준으로 수신 지연을 기록합니다.
    *
-   * <p>역직렬화된 `BehaviorLog` 객체를 받아 저장하며, 저장 중 예외가 발생하면 예외를 다시 던져 Kafka의 재시도 메커니즘을 유발합니다.
+   * <p>적재 파이프라인이 가득 차 있으면 등록이 끝날 때까지 대기하므로 다음 poll이 늦춰집니다. 등록 중 예외가 발생하면 예외를 다시 던져 Kafka의 재시도
+   * 메커니즘을 유발합니다.
    */
   @KafkaListener(
       topics = "${spring.kafka.consumer.behavior-log.topic:behavior-logs}",
       groupId = "${spring.kafka.consumer.behavior-log.group-id:behavior-log-consumer-group}",
       containerFactory = "behaviorLogKafkaListenerContainerFactory")
-  public void consume(BehaviorLog behaviorLog) {
+  public void consume(List<ConsumerRecord<String, BehaviorLog>> records) {
+    Map<String, BehaviorLog> behaviorLogs = new LinkedHashMap<>();
+    long oldestTimestamp = Long.MAX_VALUE;
+    for (int i = 0; i < records.size(); i++) {
+      ConsumerRecord<String, BehaviorLog> rec = records.get(i);
+      KafkaRecordUtil.requireDeserialized(rec, i);
+      oldestTimestamp = Math.min(oldestTimestamp, rec.timestamp());
+      if (rec.value() != null) {
+        behaviorLogs.put(documentId(rec), rec.value());
+      }
+    }
+    if (!records.isEmpty()) {
+      behaviorLogIngestMetrics.recordConsumeLag(oldestTimestamp);
+    }
+    if (behaviorLogs.isEmpty()) {
+      return;
+    }
 
     try {
-      saveBehaviorLogPort.save(behaviorLog);
+      saveBehaviorLogPort.saveAll(behaviorLogs);
     } catch (Exception e) {
-      log.error("행동 로그 저장 중 오류 발생", e);
+      log.error("행동 로그 일괄 적재 등록 중 오류 발생: 건수={}", behaviorLogs.size(), e);
       throw e; // Spring-Kafka가 retry 하도록
     }
   }
+
+  private String documentId(ConsumerRecord<String, BehaviorLog> rec) {
+    return rec.topic() + "-" + rec.partition() + "-" + rec.offset();
+  }
 }
@@ -0,0 +1,54 @@
+package com.dataracy.modules.behaviorlog.adapter.kafka.producer;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.behaviorlog.application.port.out.SendBehaviorLogDeadLetterPort;
+import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BehaviorLogDeadLetterKafkaAdapter implements SendBehaviorLogDeadLetterPort {
+  static final String FAILURE_REASON_HEADER = "x-failure-reason";
+
+  private final KafkaTemplate<String, BehaviorLog> kafkaTemplate;
+
+  @Value("${spring.kafka.producer.behavior-log-dlt.topic:behavior-logs-dlt}")
+  private String topic;
+
+  /**
+   * 저장에 실패한 행동 로그를 데드레터 토픽으로 비동기 전송합니다.
+   *
+   * <p>실패 사유는 {@value #FAILURE_REASON_HEADER} 헤더로 함께 전송하며, 키는 원본 토픽과 같은 규칙(userId, 없으면
+   * anonymousId)을 따릅니다.
+   */
+  @Override
+  public void sendToDeadLetter(BehaviorLog behaviorLog, String reason) {
+    String key =
+        behaviorLog.getUserId() != null ? behaviorLog.getUserId() : behaviorLog.getAnonymousId();
+    ProducerRecord<String, BehaviorLog> deadLetter = new ProducerRecord<>(topic, key, behaviorLog);
+    deadLetter
+        .headers()
+        .add(FAILURE_REASON_HEADER, String.valueOf(reason).getBytes(StandardCharsets.UTF_8));
+
+    kafkaTemplate
+        .send(deadLetter)
+        .whenComplete(
+            (result, ex) -> {
+              if (ex != null) {
+                log.error(
+                    "행동 로그 데드레터 전송 실패 - topic={}, key={}, reason={}", topic, key, reason, ex);
+              } else {
+                log.warn("행동 로그 데드레터 전송 - topic={}, key={}, reason={}", topic, key, reason);
+              }
+            });
+  }
+}
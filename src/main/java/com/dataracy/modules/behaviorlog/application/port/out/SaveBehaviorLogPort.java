@@ -1,5 +1,7 @@
 package com.dataracy.modules.behaviorlog.application.port.out;
 
+import java.util.Map;
+
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
 
 /** BehaviorLog 저장 포트 */
@@ -10,4 +12,14 @@ public interface SaveBehaviorLogPort {
    * @param log 저장할 행동 로그 객체
    */
   void save(BehaviorLog log);
+
+  /**
+   * 여러 BehaviorLog 객체를 일괄 적재 파이프라인에 등록합니다.
+   *
+   * <p>키는 문서 식별자로 사용되므로 같은 로그가 다시 전달되어도 중복 문서 없이 덮어씁니다. 적재 파이프라인이 가득 차 있으면 여유가 생길 때까지 호출
+   * 스레드를 대기시킵니다.
+   *
+   * @param logsById 문서 식별자별 저장할 행동 로그 (등록 순서 유지)
+   */
+  void saveAll(Map<String, BehaviorLog> logsById);
 }
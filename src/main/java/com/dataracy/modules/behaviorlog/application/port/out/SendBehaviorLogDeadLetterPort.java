@@ -0,0 +1,14 @@
+package com.dataracy.modules.behaviorlog.application.port.out;
+
+import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+
+/** 저장에 실패한 행동 로그를 격리하는 포트 */
+public interface SendBehaviorLogDeadLetterPort {
+  /**
+   * 재시도로도 저장하지 못한 행동 로그를 데드레터로 보냅니다.
+   *
+   * @param log 저장에 실패한 행동 로그
+   * @param reason 실패 사유
+   */
+  void sendToDeadLetter(BehaviorLog log, String reason);
+}
@@ -0,0 +1,12 @@
+package com.dataracy.modules.behaviorlog.support.parser;
+
+import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
+
+/**
+ * User-Agent 한 번의 분석 결과입니다.
+ *
+ * @param browser 브라우저 이름
+ * @param os 운영체제 이름
+ * @param deviceType 디바이스 유형
+ */
+public record ParsedUserAgent(String browser, String os, DeviceType deviceType) {}
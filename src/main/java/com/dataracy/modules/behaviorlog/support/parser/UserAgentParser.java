@@ -1,5 +1,10 @@
 package com.dataracy.modules.behaviorlog.support.parser;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
+
 import lombok.extern.slf4j.Slf4j;
 import nl.basjes.parse.useragent.UserAgent;
 import nl.basjes.parse.useragent.UserAgentAnalyzer;
@@ -14,8 +19,22 @@ class UserAgentParserInitializationException extends RuntimeException {
 @Slf4j
 public class UserAgentParser {
 
+  private static final String UNKNOWN = "UNKNOWN";
+
+  /** 분석 결과를 보관할 User-Agent 최대 개수 */
+  private static final int CACHE_SIZE = 1_024;
+
   private static final UserAgentAnalyzer ANALYZER = createAnalyzer();
 
+  /** 최근에 분석한 User-Agent 결과를 보관하는 LRU 캐시 (접근 순서 기준으로 가장 오래된 항목부터 제거) */
+  private static final Map<String, ParsedUserAgent> CACHE =
+      new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedUserAgent> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
   private static UserAgentAnalyzer createAnalyzer() {
     try {
       return UserAgentAnalyzer.newBuilder()
@@ -35,6 +54,31 @@ public class UserAgentParser {
     // 대신 생성자를 private으로 만들어 인스턴스화를 방지
   }
 
+  /**
+   * User-Agent 문자열을 한 번만 분석하여 브라우저, 운영체제, 디바이스 유형을 함께 반환합니다.
+   *
+   * <p>같은 User-Agent는 반복해서 들어오는 경우가 대부분이므로 분석 결과를 크기가 제한된 LRU 캐시에 보관하고 재사용합니다.
+   *
+   * @param userAgent 분석할 User-Agent 문자열
+   * @return 분석 결과, 분석에 실패한 항목은 "UNKNOWN"
+   */
+  public static ParsedUserAgent parse(String userAgent) {
+    if (userAgent == null) {
+      return analyze(null);
+    }
+    synchronized (CACHE) {
+      ParsedUserAgent cached = CACHE.get(userAgent);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    ParsedUserAgent parsed = analyze(userAgent);
+    synchronized (CACHE) {
+      CACHE.put(userAgent, parsed);
+    }
+    return parsed;
+  }
+
   /**
    * 주어진 User-Agent 문자열에서 운영체제 이름을 추출합니다.
    *
@@ -42,12 +86,7 @@ public class UserAgentParser {
    * @return 추출된 운영체제 이름, 추출에 실패하면 "UNKNOWN" 반환
    */
   public static String extractOS(String userAgent) {
-    try {
-      UserAgent parsed = ANALYZER.parse(userAgent);
-      return parsed.getValue("OperatingSystemName");
-    } catch (Exception e) {
-      return "UNKNOWN";
-    }
+    return parse(userAgent).os();
   }
 
   /**
@@ -57,12 +96,18 @@ public class UserAgentParser {
    * @return 추출된 브라우저 이름, 추출에 실패하면 "UNKNOWN" 반환
    */
   public static String extractBrowser(String userAgent) {
+    return parse(userAgent).browser();
+  }
+
+  private static ParsedUserAgent analyze(String userAgent) {
+    DeviceType deviceType = DeviceType.resolve(userAgent);
     try {
       UserAgent parsed = ANALYZER.parse(userAgent);
-      return parsed.getValue("AgentName");
+      return new ParsedUserAgent(
+          parsed.getValue("AgentName"), parsed.getValue("OperatingSystemName"), deviceType);
     } catch (Exception e) {
-      log.debug("사용자 에이전트 OS 파싱 실패: {}", userAgent, e);
-      return "UNKNOWN";
+      log.debug("사용자 에이전트 파싱 실패: {}", userAgent, e);
+      return new ParsedUserAgent(UNKNOWN, UNKNOWN, deviceType);
     }
   }
 }
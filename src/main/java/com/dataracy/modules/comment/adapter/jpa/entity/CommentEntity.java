@@ -10,7 +10,12 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "comment")
+@Table(
+    name = "comment",
+    indexes =
+        @Index(
+            name = "idx_comment_project_parent_created",
+            columnList = "projectId, parentCommentId, createdAt"))
 public class CommentEntity extends BaseTimeEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,13 @@
 package com.dataracy.modules.comment.adapter.jpa.impl.command;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dataracy.modules.comment.adapter.jpa.repository.CommentJpaRepository;
 import com.dataracy.modules.comment.application.port.out.command.update.UpdateCommentLikePort;
@@ -13,9 +20,17 @@ import lombok.RequiredArgsConstructor;
 public class UpdateCommentLikeDbAdapter implements UpdateCommentLikePort {
   private final CommentJpaRepository commentJpaRepository;
 
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${comment.like-count.db-flush-chunk-size:500}")
+  private int chunkSize;
+
   // Entity 상수 정의
   private static final String COMMENT_ENTITY = "CommentEntity";
 
+  private static final String APPLY_LIKE_DELTA_SQL =
+      "update comment set like_count = GREATEST(like_count + ?, 0) where comment_id = ?";
+
   /**
    * 주어진 댓글 ID에 해당하는 댓글의 좋아요 수를 1 증가시킵니다.
    *
@@ -37,4 +52,40 @@ public class UpdateCommentLikeDbAdapter implements UpdateCommentLikePort {
     commentJpaRepository.decreaseLikeCount(commentId);
     LoggerFactory.db().logUpdate(COMMENT_ENTITY, String.valueOf(commentId), "댓글 좋아요 취소가 완료되었습니다.");
   }
+
+  /**
+   * 여러 댓글의 좋아요 수 변경분을 배치로 반영합니다.
+   *
+   * <p>댓글 ID 순으로 정렬한 뒤 {@code chunkSize}개씩 나누어, 파라미터 바인딩된 단일 UPDATE 문을 청크마다 하나의 JDBC 배치로 실행합니다.
+   * 변경분이 많아도 바인딩 파라미터 수 제한에 걸리지 않고, 정렬된 순서로 행 잠금을 잡아 동시 플러시 간 교착을 피합니다. GREATEST로 0 미만을
+   * 막습니다.
+   *
+   * @param likeDeltas 댓글 ID별 좋아요 수 변경분
+   */
+  @Override
+  @Transactional
+  public void applyLikeCountDeltas(Map<Long, Long> likeDeltas) {
+    if (likeDeltas.isEmpty()) {
+      return;
+    }
+
+    List<Map.Entry<Long, Long>> deltas =
+        likeDeltas.entrySet().stream().sorted(Map.Entry.comparingByKey()).toList();
+
+    int updatedCount = 0;
+    for (int from = 0; from < deltas.size(); from += chunkSize) {
+      List<Map.Entry<Long, Long>> chunk =
+          deltas.subList(from, Math.min(from + chunkSize, deltas.size()));
+      List<Object[]> args = new ArrayList<>(chunk.size());
+      for (Map.Entry<Long, Long> entry : chunk) {
+        args.add(new Object[] {entry.getValue(), entry.getKey()});
+      }
+      for (int result : jdbcTemplate.batchUpdate(APPLY_LIKE_DELTA_SQL, args)) {
+        updatedCount += Math.max(result, 0);
+      }
+    }
+
+    LoggerFactory.db()
+        .logUpdate(COMMENT_ENTITY, "배치 처리", "댓글 좋아요 수 배치 반영 완료. 처리된 댓글 수: " + updatedCount);
+  }
 }
@@ -1,71 +1,68 @@
 package com.dataracy.modules.comment.adapter.kafka.consumer;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
-import com.dataracy.modules.comment.application.port.in.command.count.DecreaseLikeCountUseCase;
-import com.dataracy.modules.comment.application.port.in.command.count.IncreaseLikeCountUseCase;
+import com.dataracy.modules.comment.application.port.in.command.count.ApplyLikeCountDeltaUseCase;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.util.KafkaRecordUtil;
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class CommentKafkaConsumerAdapter {
-  private final IncreaseLikeCountUseCase increaseLikeCountUseCase;
-  private final DecreaseLikeCountUseCase decreaseLikeCountUseCase;
-
-  @Value("${spring.kafka.consumer.comment-like-increase.topic:comment-like-increase-topic}")
-  private String commentLikeIncreaseTopic;
+  private final ApplyLikeCountDeltaUseCase applyLikeCountDeltaUseCase;
 
-  @Value("${spring.kafka.consumer.comment-like-decrease.topic:comment-like-decrease-topic}")
-  private String commentLikeDecreaseTopic;
+  @Value("${spring.kafka.consumer.comment-like-event.topic:like-events}")
+  private String likeEventTopic;
 
   /**
-   * Kafka에서 댓글 좋아요 증가 이벤트를 수신하여 해당 댓글의 좋아요 수를 증가시킵니다.
+   * 좋아요 이벤트를 배치로 수신하여 댓글 대상 이벤트만 댓글별 좋아요 수 순변경분으로 합쳐 한 번에 반영합니다.
    *
-   * @param commentId 좋아요 수를 증가시킬 댓글의 ID
+   * <p>프로젝트 대상 이벤트는 건너뛰고, 역직렬화에 실패한 레코드는 해당 위치로 배치 실패를 알려 DLT로 보냅니다. 반영 중 예외가
+   * 발생하면 다시 던져 에러 핸들러가 배치 전체를 재시도하도록 하며, 오프셋은 배치 처리가 성공한 뒤에만 커밋됩니다.
+   *
+   * @param records 한 번의 poll로 수신한 좋아요 이벤트
    */
   @KafkaListener(
-      topics = "${spring.kafka.consumer.comment-like-increase.topic:comment-like-increase-topic}",
+      topics = "${spring.kafka.consumer.comment-like-event.topic:like-events}",
       groupId =
-          "${spring.kafka.consumer.comment-like-increase.group-id:comment-like-increase-consumer-group}",
-      containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeLikeIncrease(Long commentId) {
-    try {
-      LoggerFactory.kafka()
-          .logConsume(commentLikeIncreaseTopic, "댓글 좋아요 이벤트 수신됨: commentId=" + commentId);
-      increaseLikeCountUseCase.increaseLikeCount(commentId);
-      LoggerFactory.kafka()
-          .logConsume(commentLikeIncreaseTopic, "댓글 좋아요 이벤트 처리 완료: commentId=" + commentId);
-    } catch (Exception e) {
-      LoggerFactory.kafka()
-          .logError(commentLikeIncreaseTopic, "댓글 좋아요 이벤트 처리 실패: commentId=" + commentId, e);
-      throw e; // 재시도를 위해 예외 재던지기
+          "${spring.kafka.consumer.comment-like-event.group-id:comment-like-event-consumer-group}",
+      containerFactory = "likeEventKafkaListenerContainerFactory")
+  public void consumeLikeEvents(List<ConsumerRecord<String, LikeEvent>> records) {
+    Map<Long, Long> likeDeltas = new LinkedHashMap<>();
+    for (int i = 0; i < records.size(); i++) {
+      ConsumerRecord<String, LikeEvent> rec = records.get(i);
+      KafkaRecordUtil.requireDeserialized(rec, i);
+      LikeEvent event = rec.value();
+      if (event != null && event.targetType() == TargetType.COMMENT) {
+        likeDeltas.merge(event.targetId(), (long) event.delta(), Long::sum);
+      }
+    }
+    if (likeDeltas.isEmpty()) {
+      return;
     }
-  }
 
-  /**
-   * Kafka에서 댓글 좋아요 취소 이벤트를 수신하여 해당 댓글의 좋아요 수를 감소시킵니다.
-   *
-   * @param commentId 좋아요 수를 감소시킬 댓글의 ID
-   */
-  @KafkaListener(
-      topics = "${spring.kafka.consumer.comment-like-decrease.topic:comment-like-decrease-topic}",
-      groupId =
-          "${spring.kafka.consumer.comment-like-decrease.group-id:comment-like-decrease-consumer-group}",
-      containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeLikeDecrease(Long commentId) {
     try {
       LoggerFactory.kafka()
-          .logConsume(commentLikeDecreaseTopic, "댓글 좋아요 취소 이벤트 수신됨: commentId=" + commentId);
-      decreaseLikeCountUseCase.decreaseLikeCount(commentId);
+          .logConsume(
+              likeEventTopic,
+              "댓글 좋아요 이벤트 배치 수신됨: 레코드 수=" + records.size() + ", 댓글 수=" + likeDeltas.size());
+      applyLikeCountDeltaUseCase.applyLikeCountDeltas(likeDeltas);
       LoggerFactory.kafka()
-          .logConsume(commentLikeDecreaseTopic, "댓글 좋아요 취소 이벤트 처리 완료: commentId=" + commentId);
+          .logConsume(likeEventTopic, "댓글 좋아요 이벤트 배치 처리 완료: commentIds=" + likeDeltas.keySet());
     } catch (Exception e) {
       LoggerFactory.kafka()
-          .logError(commentLikeDecreaseTopic, "댓글 좋아요 취소 이벤트 처리 실패: commentId=" + commentId, e);
+          .logError(likeEventTopic, "댓글 좋아요 이벤트 배치 처리 실패: commentIds=" + likeDeltas.keySet(), e);
       throw e; // 재시도를 위해 예외 재던지기
     }
   }
@@ -20,7 +20,10 @@ import com.dataracy.modules.comment.adapter.query.sort.CommentSortBuilder;
 import com.dataracy.modules.comment.application.dto.response.support.FindCommentWithReplyCountResponse;
 import com.dataracy.modules.comment.application.port.out.query.read.ReadCommentPort;
 import com.dataracy.modules.comment.domain.model.Comment;
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
+import com.dataracy.modules.common.support.pagination.KeysetPagination;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -184,6 +187,136 @@ public class ReadCommentPortAdapter implements ReadCommentPort {
     return new PageImpl<>(contents, pageable, total);
   }
 
+  /**
+   * 지정된 프로젝트의 루트 댓글과 답글 수를 (생성일, ID) keyset 커서로 최신순 조회합니다.
+   *
+   * <p>답글 수는 현재 페이지 댓글에 대해서만 배치로 조회하고, 전체 개수는 첫 페이지(cursor == null)에서만 계산합니다.
+   *
+   * @param projectId 댓글을 조회할 프로젝트의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 루트 댓글과 답글 수를 담은 커서 페이지
+   */
+  @Override
+  public CursorPage<FindCommentWithReplyCountResponse> findCommentsByCursor(
+      Long projectId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                COMMENT_ENTITY,
+                "[findCommentsByCursor] 댓글당 답글 수를 포함한 댓글 커서 조회 시작. projectId=" + projectId);
+
+    List<CommentEntity> commentEntities =
+        queryFactory
+            .selectFrom(comment)
+            .where(
+                CommentFilterPredicate.projectIdEq(projectId),
+                CommentFilterPredicate.isRootComment(),
+                KeysetPagination.after(comment.createdAt, comment.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(comment.createdAt, comment.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(comment.count())
+                        .from(comment)
+                        .where(
+                            CommentFilterPredicate.projectIdEq(projectId),
+                            CommentFilterPredicate.isRootComment())
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<CommentEntity> entityPage =
+        KeysetPagination.toCursorPage(
+            commentEntities, size, ReadCommentPortAdapter::cursorOf, total);
+    Map<Long, Long> replyCounts =
+        getReplyCountsBatch(entityPage.content().stream().map(CommentEntity::getId).toList());
+
+    CursorPage<FindCommentWithReplyCountResponse> page =
+        entityPage.map(
+            entity ->
+                new FindCommentWithReplyCountResponse(
+                    CommentEntityMapper.toDomain(entity),
+                    replyCounts.getOrDefault(entity.getId(), 0L)));
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            COMMENT_ENTITY,
+            "[findCommentsByCursor] 댓글당 답글 수를 포함한 댓글 커서 조회 종료. projectId=" + projectId,
+            startTime);
+    return page;
+  }
+
+  /**
+   * 지정된 부모 댓글의 답글 목록을 (생성일, ID) keyset 커서로 최신순 조회합니다.
+   *
+   * <p>전체 개수는 첫 페이지(cursor == null)에서만 계산합니다.
+   *
+   * @param projectId 답글을 조회할 프로젝트의 ID
+   * @param commentId 부모 댓글의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 답글 커서 페이지
+   */
+  @Override
+  public CursorPage<Comment> findReplyCommentsByCursor(
+      Long projectId, Long commentId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                COMMENT_ENTITY,
+                "[findReplyCommentsByCursor] 해당 댓글에 대한 답글 커서 조회 시작. projectId="
+                    + projectId
+                    + ", commentId="
+                    + commentId);
+
+    List<CommentEntity> entities =
+        queryFactory
+            .selectFrom(comment)
+            .where(
+                CommentFilterPredicate.projectIdEq(projectId),
+                CommentFilterPredicate.parentCommentIdEq(commentId),
+                KeysetPagination.after(comment.createdAt, comment.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(comment.createdAt, comment.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(comment.count())
+                        .from(comment)
+                        .where(
+                            CommentFilterPredicate.projectIdEq(projectId),
+                            CommentFilterPredicate.parentCommentIdEq(commentId))
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<Comment> page =
+        KeysetPagination.toCursorPage(entities, size, ReadCommentPortAdapter::cursorOf, total)
+            .map(CommentEntityMapper::toDomain);
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            COMMENT_ENTITY,
+            "[findReplyCommentsByCursor] 해당 댓글에 대한 답글 커서 조회 종료. projectId="
+                + projectId
+                + ", commentId="
+                + commentId,
+            startTime);
+    return page;
+  }
+
+  private static CreatedAtCursor cursorOf(CommentEntity entity) {
+    return new CreatedAtCursor(entity.getCreatedAt(), entity.getId());
+  }
+
   /** 배치로 답글 수를 조회합니다. */
   private Map<Long, Long> getReplyCountsBatch(List<Long> commentIds) {
     if (commentIds.isEmpty()) return Collections.emptyMap();
@@ -7,9 +7,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.dataracy.modules.comment.adapter.web.response.read.FindCommentWebResponse;
 import com.dataracy.modules.comment.adapter.web.response.read.FindReplyCommentWebResponse;
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 @Tag(name = "Comment - Read", description = "피드백 댓글 관련 API - 조회")
@@ -66,4 +69,57 @@ public interface CommentReadApi {
       @PathVariable @Min(1) Long projectId,
       @PathVariable @Min(1) Long commentId,
       @PageableDefault(size = 5, page = 0) Pageable pageable);
+
+  /**
+   * 지정된 프로젝트의 댓글 목록을 커서 기반으로 최신순 조회합니다.
+   *
+   * @param projectId 댓글을 조회할 프로젝트의 ID (1 이상)
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 5)
+   * @return 댓글 커서 페이지가 포함된 성공 응답 객체 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "해당 프로젝트의 댓글 목록을 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "해당 프로젝트의 댓글 목록 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/{projectId}/comments/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<FindCommentWebResponse>>> findCommentsByCursor(
+      @Parameter(hidden = true) HttpServletRequest request,
+      @PathVariable @Min(1) Long projectId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size);
+
+  /**
+   * 특정 댓글에 대한 답글 목록을 커서 기반으로 최신순 조회한다.
+   *
+   * @param projectId 답글을 조회할 프로젝트의 ID (1 이상)
+   * @param commentId 답글을 조회할 부모 댓글의 ID (1 이상)
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 5)
+   * @return 답글 커서 페이지가 포함된 성공 응답 객체 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "해당 댓글 대한 답글 목록을 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "해당 댓글 대한 답글 목록 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/{projectId}/comments/{commentId}/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<FindReplyCommentWebResponse>>>
+      findReplyCommentsByCursor(
+          @Parameter(hidden = true) HttpServletRequest request,
+          @PathVariable @Min(1) Long projectId,
+          @PathVariable @Min(1) Long commentId,
+          @RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size);
 }
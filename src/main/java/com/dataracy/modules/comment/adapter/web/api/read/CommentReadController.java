@@ -16,6 +16,7 @@ import com.dataracy.modules.comment.application.dto.response.read.FindReplyComme
 import com.dataracy.modules.comment.application.port.in.query.read.FindCommentListUseCase;
 import com.dataracy.modules.comment.application.port.in.query.read.FindReplyCommentListUseCase;
 import com.dataracy.modules.comment.domain.status.CommentSuccessStatus;
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.common.util.ExtractHeaderUtil;
@@ -91,4 +92,69 @@ public class CommentReadController implements CommentReadApi {
     return ResponseEntity.status(HttpStatus.OK)
         .body(SuccessResponse.of(CommentSuccessStatus.GET_REPLY_COMMENTS, webResponse));
   }
+
+  /**
+   * 지정한 프로젝트의 댓글 목록을 커서 기반으로 조회합니다. 인증된 사용자의 정보를 반영하여 좋아요 여부를 함께 반환합니다.
+   *
+   * @param request 인증된 사용자 정보를 추출할 HTTP 요청 객체
+   * @param projectId 댓글을 조회할 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 댓글 커서 페이지와 성공 상태가 포함된 HTTP 200 응답
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<FindCommentWebResponse>>> findCommentsByCursor(
+      HttpServletRequest request, Long projectId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api().logRequest("[FindCommentsByCursor] 프로젝트 댓글 커서 조회 API 요청 시작");
+    CursorPage<FindCommentWebResponse> webResponse;
+
+    try {
+      Long userId = extractHeaderUtil.extractAuthenticatedUserIdFromRequest(request);
+
+      CursorPage<FindCommentResponse> responseDto =
+          findCommentListUseCase.findCommentsByCursor(userId, projectId, cursor, size);
+      webResponse = responseDto.map(readCommentWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindCommentsByCursor] 프로젝트 댓글 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(CommentSuccessStatus.GET_COMMENTS, webResponse));
+  }
+
+  /**
+   * 프로젝트 내 특정 댓글에 대한 답글 목록을 커서 기반으로 조회하여 반환합니다.
+   *
+   * @param request 인증된 사용자 정보를 포함하는 HTTP 요청 객체
+   * @param projectId 답글을 조회할 프로젝트의 식별자
+   * @param commentId 답글을 조회할 대상 댓글의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 답글 커서 페이지와 성공 상태가 포함된 HTTP 200 응답
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<FindReplyCommentWebResponse>>>
+      findReplyCommentsByCursor(
+          HttpServletRequest request, Long projectId, Long commentId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api().logRequest("[FindReplyCommentsByCursor] 댓글에 대한 답글 커서 조회 API 요청 시작");
+    CursorPage<FindReplyCommentWebResponse> webResponse;
+
+    try {
+      Long userId = extractHeaderUtil.extractAuthenticatedUserIdFromRequest(request);
+
+      CursorPage<FindReplyCommentResponse> responseDto =
+          findReplyCommentListUseCase.findReplyCommentsByCursor(
+              userId, projectId, commentId, cursor, size);
+      webResponse = responseDto.map(readCommentWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindReplyCommentsByCursor] 댓글에 대한 답글 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(CommentSuccessStatus.GET_REPLY_COMMENTS, webResponse));
+  }
 }
@@ -0,0 +1,12 @@
+package com.dataracy.modules.comment.application.port.in.command.count;
+
+import java.util.Map;
+
+public interface ApplyLikeCountDeltaUseCase {
+  /**
+   * 여러 댓글의 좋아요 수 순변경분을 한 번에 반영합니다.
+   *
+   * @param likeDeltas 댓글 ID별 좋아요 수 순변경분
+   */
+  void applyLikeCountDeltas(Map<Long, Long> likeDeltas);
+}
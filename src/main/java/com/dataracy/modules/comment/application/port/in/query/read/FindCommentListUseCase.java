@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.dataracy.modules.comment.application.dto.response.read.FindCommentResponse;
+import com.dataracy.modules.common.dto.response.CursorPage;
 
 public interface FindCommentListUseCase {
   /**
@@ -15,4 +16,16 @@ public interface FindCommentListUseCase {
    * @return 프로젝트에 속한 댓글의 페이지별 목록
    */
   Page<FindCommentResponse> findComments(Long userId, Long projectId, Pageable pageable);
+
+  /**
+   * 특정 프로젝트에 작성된 댓글 목록을 커서 기반으로 최신순 조회합니다. 해당 유저가 댓글을 좋아요 했는지 여부를 함께 판단한다.
+   *
+   * @param userId 댓글을 조회하는 사용자의 식별자
+   * @param projectId 댓글을 조회할 프로젝트의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 댓글 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<FindCommentResponse> findCommentsByCursor(
+      Long userId, Long projectId, String cursor, int size);
 }
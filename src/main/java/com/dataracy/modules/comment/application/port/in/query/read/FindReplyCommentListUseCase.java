@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import com.dataracy.modules.comment.application.dto.response.read.FindReplyCommentResponse;
+import com.dataracy.modules.common.dto.response.CursorPage;
 
 public interface FindReplyCommentListUseCase {
   /**
@@ -17,4 +18,17 @@ public interface FindReplyCommentListUseCase {
    */
   Page<FindReplyCommentResponse> findReplyComments(
       Long userId, Long projectId, Long commentId, Pageable pageable);
+
+  /**
+   * 특정 댓글에 대한 답글 목록을 커서 기반으로 최신순 조회합니다. 해당 유저가 답글을 좋아요 했는지 여부를 함께 판단한다.
+   *
+   * @param userId 답글 목록을 조회하는 사용자의 ID
+   * @param projectId 답글을 조회할 댓글이 속한 프로젝트의 ID
+   * @param commentId 답글을 조회할 대상 댓글의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 답글 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<FindReplyCommentResponse> findReplyCommentsByCursor(
+      Long userId, Long projectId, Long commentId, String cursor, int size);
 }
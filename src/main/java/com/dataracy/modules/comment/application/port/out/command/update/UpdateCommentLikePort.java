@@ -1,5 +1,7 @@
 package com.dataracy.modules.comment.application.port.out.command.update;
 
+import java.util.Map;
+
 public interface UpdateCommentLikePort {
   /**
    * 지정된 댓글의 좋아요 수를 1만큼 증가시킵니다.
@@ -14,4 +16,11 @@ public interface UpdateCommentLikePort {
    * @param commentId 좋아요 수를 감소시킬 댓글의 ID
    */
   void decreaseLikeCount(Long commentId);
+
+  /**
+   * 여러 댓글의 좋아요 수 변경분을 한 번에 반영합니다. 좋아요 수는 0 미만으로 내려가지 않습니다.
+   *
+   * @param likeDeltas 댓글 ID별 좋아요 수 변경분
+   */
+  void applyLikeCountDeltas(Map<Long, Long> likeDeltas);
 }
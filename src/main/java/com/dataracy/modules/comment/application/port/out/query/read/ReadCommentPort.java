@@ -7,6 +7,8 @@ import org.springframework.data.domain.Pageable;
 
 import com.dataracy.modules.comment.application.dto.response.support.FindCommentWithReplyCountResponse;
 import com.dataracy.modules.comment.domain.model.Comment;
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 
 public interface ReadCommentPort {
   /**
@@ -35,4 +37,27 @@ public interface ReadCommentPort {
    * @return 답글 객체의 페이지
    */
   Page<Comment> findReplyComments(Long projectId, Long commentId, Pageable pageable);
+
+  /**
+   * 지정된 프로젝트의 루트 댓글과 각 댓글의 답글 개수를 (생성일, ID) 커서 기반으로 최신순 조회합니다.
+   *
+   * @param projectId 댓글을 조회할 프로젝트의 식별자
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 댓글과 답글 개수를 담은 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<FindCommentWithReplyCountResponse> findCommentsByCursor(
+      Long projectId, CreatedAtCursor cursor, int size);
+
+  /**
+   * 지정된 댓글의 답글 목록을 (생성일, ID) 커서 기반으로 최신순 조회합니다.
+   *
+   * @param projectId 답글이 속한 프로젝트의 ID
+   * @param commentId 답글의 대상이 되는 댓글의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 답글 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<Comment> findReplyCommentsByCursor(
+      Long projectId, Long commentId, CreatedAtCursor cursor, int size);
 }
@@ -1,10 +1,13 @@
 package com.dataracy.modules.comment.application.service.command;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dataracy.modules.comment.application.port.in.command.count.ApplyLikeCountDeltaUseCase;
 import com.dataracy.modules.comment.application.port.in.command.count.DecreaseLikeCountUseCase;
 import com.dataracy.modules.comment.application.port.in.command.count.IncreaseLikeCountUseCase;
 import com.dataracy.modules.comment.application.port.out.command.update.UpdateCommentLikePort;
@@ -15,12 +18,13 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class UpdateCommentLikeCountService
-    implements IncreaseLikeCountUseCase, DecreaseLikeCountUseCase {
+    implements IncreaseLikeCountUseCase, DecreaseLikeCountUseCase, ApplyLikeCountDeltaUseCase {
   private final UpdateCommentLikePort updateCommentLikePort;
 
   // Use Case 상수 정의
   private static final String DECREASE_LIKE_COUNT_USE_CASE = "DecreaseLikeCountUseCase";
   private static final String INCREASE_LIKE_COUNT_USE_CASE = "IncreaseLikeCountUseCase";
+  private static final String APPLY_LIKE_COUNT_DELTA_USE_CASE = "ApplyLikeCountDeltaUseCase";
 
   /**
    * 지정된 댓글의 좋아요 개수를 1 감소시킵니다.
@@ -55,4 +59,37 @@ public class UpdateCommentLikeCountService
         .logSuccess(
             INCREASE_LIKE_COUNT_USE_CASE, "댓글 좋아요 서비스 종료 commentId=" + commentId, startTime);
   }
+
+  /**
+   * 여러 댓글의 좋아요 수 순변경분을 하나의 트랜잭션에서 한 번에 반영합니다.
+   *
+   * <p>순변경분이 0인 댓글은 건너뜁니다.
+   *
+   * @param likeDeltas 댓글 ID별 좋아요 수 순변경분
+   */
+  @Override
+  @Transactional
+  public void applyLikeCountDeltas(Map<Long, Long> likeDeltas) {
+    Map<Long, Long> effective = new LinkedHashMap<>();
+    likeDeltas.forEach(
+        (commentId, delta) -> {
+          if (delta != 0L) {
+            effective.put(commentId, delta);
+          }
+        });
+    if (effective.isEmpty()) {
+      return;
+    }
+
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                APPLY_LIKE_COUNT_DELTA_USE_CASE, "댓글 좋아요 수 배치 반영 서비스 시작 댓글 수=" + effective.size());
+    updateCommentLikePort.applyLikeCountDeltas(effective);
+    LoggerFactory.service()
+        .logSuccess(
+            APPLY_LIKE_COUNT_DELTA_USE_CASE,
+            "댓글 좋아요 수 배치 반영 서비스 종료 댓글 수=" + effective.size(),
+            startTime);
+  }
 }
@@ -2,6 +2,7 @@ package com.dataracy.modules.comment.application.service.query;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,7 +19,9 @@ import com.dataracy.modules.comment.application.port.in.query.read.FindCommentLi
 import com.dataracy.modules.comment.application.port.in.query.read.FindReplyCommentListUseCase;
 import com.dataracy.modules.comment.application.port.out.query.read.ReadCommentPort;
 import com.dataracy.modules.comment.domain.model.Comment;
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.like.application.port.in.query.FindTargetIdsUseCase;
 import com.dataracy.modules.like.domain.enums.TargetType;
 
@@ -57,29 +60,8 @@ public class ReadCommentService implements FindCommentListUseCase, FindReplyComm
 
     Page<FindCommentWithReplyCountResponse> savedComments =
         readCommentPort.findComments(projectId, pageable);
-    List<Long> userIds = savedComments.stream().map(dto -> dto.comment().getUserId()).toList();
-
-    List<Long> commentIds = savedComments.stream().map(dto -> dto.comment().getId()).toList();
-
-    List<Long> likedIds =
-        findTargetIdsUseCase.findLikedTargetIds(userId, commentIds, TargetType.COMMENT);
-
-    CommentLabelResponse result = findCommentUserInfoUseCase.findCommentUserInfoBatch(userIds);
-
     Page<FindCommentResponse> findCommentResponses =
-        savedComments.map(
-            wrapper -> {
-              Comment comment = wrapper.comment();
-              Long authorLevelId =
-                  Long.parseLong(result.userAuthorLevelIds().get(comment.getUserId()));
-              return findCommentDtoMapper.toResponseDto(
-                  comment,
-                  result.usernameMap().get(comment.getUserId()),
-                  result.userProfileUrlMap().get(comment.getUserId()),
-                  result.userAuthorLevelLabelMap().get(authorLevelId),
-                  wrapper.replyCount(),
-                  likedIds.contains(comment.getId()));
-            });
+        savedComments.map(commentResponseMapper(userId, savedComments.getContent()));
 
     LoggerFactory.service()
         .logSuccess(
@@ -110,33 +92,130 @@ public class ReadCommentService implements FindCommentListUseCase, FindReplyComm
 
     Page<Comment> savedComments = readCommentPort.findReplyComments(projectId, commentId, pageable);
 
-    List<Long> userIds = savedComments.stream().map(Comment::getUserId).toList();
+    Page<FindReplyCommentResponse> findReplyCommentResponses =
+        savedComments.map(replyCommentResponseMapper(userId, savedComments.getContent()));
 
-    List<Long> commentIds = savedComments.stream().map(Comment::getId).toList();
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_REPLY_COMMENT_LIST_USE_CASE,
+            "프로젝트의 댓글에 대한 답글 목록 조회 서비스 종료 projectId=" + projectId + ", commentId=" + commentId,
+            startTime);
+    return findReplyCommentResponses;
+  }
 
-    List<Long> likedIds =
-        findTargetIdsUseCase.findLikedTargetIds(userId, commentIds, TargetType.COMMENT);
+  /**
+   * 지정된 프로젝트의 댓글을 커서 기반으로 최신순 조회하여 댓글 DTO로 반환한다.
+   *
+   * <p>응답 항목 구성은 페이지 조회와 같으며, 전체 개수는 첫 페이지에서만 포함됩니다.
+   *
+   * @param userId 댓글을 조회하는 사용자의 ID (조회한 사용자의 좋아요 여부 판단에 사용)
+   * @param projectId 댓글을 조회할 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 댓글 목록을 담은 CursorPage&lt;FindCommentResponse&gt;
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<FindCommentResponse> findCommentsByCursor(
+      Long userId, Long projectId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(FIND_COMMENT_LIST_USE_CASE, "프로젝트의 댓글 커서 조회 서비스 시작 projectId=" + projectId);
 
-    CommentLabelResponse result = findCommentUserInfoUseCase.findCommentUserInfoBatch(userIds);
+    CursorPage<FindCommentWithReplyCountResponse> savedComments =
+        readCommentPort.findCommentsByCursor(projectId, CreatedAtCursor.decode(cursor), size);
 
-    Page<FindReplyCommentResponse> findReplyCommentResponses =
-        savedComments.map(
-            comment -> {
-              Long authorLevelId =
-                  Long.parseLong(result.userAuthorLevelIds().get(comment.getUserId()));
-              return findCommentDtoMapper.toResponseDto(
-                  comment,
-                  result.usernameMap().get(comment.getUserId()),
-                  result.userProfileUrlMap().get(comment.getUserId()),
-                  result.userAuthorLevelLabelMap().get(authorLevelId),
-                  likedIds.contains(comment.getId()));
-            });
+    CursorPage<FindCommentResponse> findCommentResponses =
+        savedComments.map(commentResponseMapper(userId, savedComments.content()));
+
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_COMMENT_LIST_USE_CASE, "프로젝트의 댓글 커서 조회 서비스 종료 projectId=" + projectId, startTime);
+    return findCommentResponses;
+  }
+
+  /**
+   * 지정된 댓글에 대한 답글 목록을 커서 기반으로 최신순 조회한다.
+   *
+   * <p>응답 항목 구성은 페이지 조회와 같으며, 전체 개수는 첫 페이지에서만 포함됩니다.
+   *
+   * @param userId 현재 사용자의 ID (좋아요 여부 판정에 사용)
+   * @param projectId 프로젝트 ID
+   * @param commentId 부모 댓글 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 답글 목록을 담은 CursorPage&lt;FindReplyCommentResponse&gt;
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<FindReplyCommentResponse> findReplyCommentsByCursor(
+      Long userId, Long projectId, Long commentId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                FIND_REPLY_COMMENT_LIST_USE_CASE,
+                "프로젝트의 댓글에 대한 답글 커서 조회 서비스 시작 projectId=" + projectId + ", commentId=" + commentId);
+
+    CursorPage<Comment> savedComments =
+        readCommentPort.findReplyCommentsByCursor(
+            projectId, commentId, CreatedAtCursor.decode(cursor), size);
+
+    CursorPage<FindReplyCommentResponse> findReplyCommentResponses =
+        savedComments.map(replyCommentResponseMapper(userId, savedComments.content()));
 
     LoggerFactory.service()
         .logSuccess(
             FIND_REPLY_COMMENT_LIST_USE_CASE,
-            "프로젝트의 댓글에 대한 답글 목록 조회 서비스 종료 projectId=" + projectId + ", commentId=" + commentId,
+            "프로젝트의 댓글에 대한 답글 커서 조회 서비스 종료 projectId=" + projectId + ", commentId=" + commentId,
             startTime);
     return findReplyCommentResponses;
   }
+
+  /** 조회된 댓글들의 작성자 정보와 좋아요 여부를 일괄 조회해 댓글 응답 변환 함수를 만듭니다. */
+  private Function<FindCommentWithReplyCountResponse, FindCommentResponse> commentResponseMapper(
+      Long userId, List<FindCommentWithReplyCountResponse> savedComments) {
+    List<Long> userIds = savedComments.stream().map(dto -> dto.comment().getUserId()).toList();
+
+    List<Long> commentIds = savedComments.stream().map(dto -> dto.comment().getId()).toList();
+
+    List<Long> likedIds =
+        findTargetIdsUseCase.findLikedTargetIds(userId, commentIds, TargetType.COMMENT);
+
+    CommentLabelResponse result = findCommentUserInfoUseCase.findCommentUserInfoBatch(userIds);
+
+    return wrapper -> {
+      Comment comment = wrapper.comment();
+      Long authorLevelId = Long.parseLong(result.userAuthorLevelIds().get(comment.getUserId()));
+      return findCommentDtoMapper.toResponseDto(
+          comment,
+          result.usernameMap().get(comment.getUserId()),
+          result.userProfileUrlMap().get(comment.getUserId()),
+          result.userAuthorLevelLabelMap().get(authorLevelId),
+          wrapper.replyCount(),
+          likedIds.contains(comment.getId()));
+    };
+  }
+
+  /** 조회된 답글들의 작성자 정보와 좋아요 여부를 일괄 조회해 답글 응답 변환 함수를 만듭니다. */
+  private Function<Comment, FindReplyCommentResponse> replyCommentResponseMapper(
+      Long userId, List<Comment> savedComments) {
+    List<Long> userIds = savedComments.stream().map(Comment::getUserId).toList();
+
+    List<Long> commentIds = savedComments.stream().map(Comment::getId).toList();
+
+    List<Long> likedIds =
+        findTargetIdsUseCase.findLikedTargetIds(userId, commentIds, TargetType.COMMENT);
+
+    CommentLabelResponse result = findCommentUserInfoUseCase.findCommentUserInfoBatch(userIds);
+
+    return comment -> {
+      Long authorLevelId = Long.parseLong(result.userAuthorLevelIds().get(comment.getUserId()));
+      return findCommentDtoMapper.toResponseDto(
+          comment,
+          result.usernameMap().get(comment.getUserId()),
+          result.userProfileUrlMap().get(comment.getUserId()),
+          result.userAuthorLevelLabelMap().get(authorLevelId),
+          likedIds.contains(comment.getId()));
+    };
+  }
 }
@@ -11,9 +11,8 @@ import com.dataracy.modules.comment.application.dto.response.support.CommentLabe
 import com.dataracy.modules.comment.application.port.in.query.extractor.FindCommentUserInfoUseCase;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorLevelLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserAuthorLevelIdsUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,9 +21,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentUserInfoService implements FindCommentUserInfoUseCase {
 
-  private final FindUsernameUseCase findUsernameUseCase;
-  private final FindUserThumbnailUseCase findUserThumbnailUseCase;
-  private final FindUserAuthorLevelIdsUseCase findUserAuthorLevelIdsUseCase;
+  private final FindUserCardsUseCase findUserCardsUseCase;
   private final GetAuthorLevelLabelFromIdUseCase getAuthorLevelLabelFromIdUseCase;
 
   // Use Case 상수 정의
@@ -55,12 +52,11 @@ public class CommentUserInfoService implements FindCommentUserInfoUseCase {
     // 중복 제거된 사용자 ID 목록으로 배치 조회
     List<Long> distinctUserIds = userIds.stream().distinct().toList();
 
-    // 배치로 사용자 정보 조회 (각각이 이미 배치 처리됨)
-    Map<Long, String> usernameMap = findUsernameUseCase.findUsernamesByIds(distinctUserIds);
-    Map<Long, String> userThumbnailMap =
-        findUserThumbnailUseCase.findUserThumbnailsByIds(distinctUserIds);
-    Map<Long, String> userAuthorLevelIds =
-        findUserAuthorLevelIdsUseCase.findUserAuthorLevelIds(distinctUserIds);
+    // 유저 카드 한 번의 배치 조회로 닉네임, 프로필 이미지, 작성자 레벨을 함께 가져온다.
+    Map<Long, UserCard> userCards = findUserCardsUseCase.findUserCardsByIds(distinctUserIds);
+    Map<Long, String> usernameMap = UserCard.nicknames(userCards);
+    Map<Long, String> userThumbnailMap = UserCard.thumbnails(userCards);
+    Map<Long, String> userAuthorLevelIds = UserCard.authorLevelIds(userCards);
 
     // 작성자 레벨 ID 목록 추출 및 배치 조회
     List<Long> authorLevelIds =
@@ -101,8 +101,11 @@ public class KafkaLongConsumerConfig extends AbstractKafkaConsumerConfig<Long> {
     // 동시성 (파티션 수/부하에 맞춰 조정)
     factory.setConcurrency(concurrency);
 
-    // 1건 처리 성공 시마다 즉시 커밋(정합성 강화)
-    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+    // 카운터 이벤트는 poll 단위 배치로 받아 순변경분을 한 번에 반영
+    factory.setBatchListener(true);
+
+    // 배치 처리 성공 후에만 커밋 (실패 시 에러 핸들러가 배치 전체를 재시도 후 DLT로 전송)
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
 
     // 폴링 타임아웃 설정 (application.yml에서 조정 가능)
     factory.getContainerProperties().setPollTimeout(pollTimeout);
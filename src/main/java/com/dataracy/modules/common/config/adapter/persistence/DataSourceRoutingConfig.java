@@ -0,0 +1,116 @@
+package com.dataracy.modules.common.config.adapter.persistence;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.dataracy.modules.common.config.properties.DataSourceRoutingProperties;
+import com.dataracy.modules.common.config.properties.DataSourceRoutingProperties.Replica;
+import com.dataracy.modules.common.support.datasource.ReadWriteRoutingDataSource;
+import com.dataracy.modules.common.support.datasource.ReplicaHealthChecker;
+import com.dataracy.modules.common.support.datasource.ReplicaSelector;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 읽기 전용 트랜잭션을 리플리카로 보내는 라우팅 데이터소스 설정 클래스
+ *
+ * <p>{@code datasource.routing.enabled=true}일 때만 활성화되며, 비활성 상태에서는 Spring Boot 기본 단일 데이터소스를 그대로
+ * 사용합니다. 프라이머리는 {@code spring.datasource.*}(풀 설정은 {@code spring.datasource.hikari.*})로, 리플리카는
+ * {@code datasource.routing.replicas}로 구성합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DataSourceRoutingConfig implements DisposableBean {
+  private final DataSourceRoutingProperties routingProperties;
+  private final Map<String, HikariDataSource> replicaDataSources = new LinkedHashMap<>();
+
+  /**
+   * 쓰기 트랜잭션과 리플리카 장애 시 사용할 프라이머리 커넥션 풀을 생성합니다.
+   *
+   * @param properties spring.datasource.* 설정
+   * @return 프라이머리 커넥션 풀
+   */
+  @Bean
+  @ConfigurationProperties(prefix = "spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary-pool");
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaSelector replicaSelector(DataSourceProperties properties) {
+    for (Replica replica : routingProperties.getReplicas()) {
+      replicaDataSources.put(replica.getName(), createReplica(properties, replica));
+    }
+    return new ReplicaSelector(replicaDataSources.keySet().stream().toList());
+  }
+
+  @Bean
+  public ReplicaHealthChecker replicaHealthChecker(ReplicaSelector replicaSelector) {
+    return new ReplicaHealthChecker(
+        Map.copyOf(replicaDataSources),
+        replicaSelector,
+        routingProperties.getLagQuery(),
+        routingProperties.getLagColumn(),
+        routingProperties.getMaxLagSeconds());
+  }
+
+  /**
+   * 애플리케이션 전체가 사용하는 라우팅 데이터소스를 생성합니다.
+   *
+   * <p>트랜잭션 시작 시점에는 물리 커넥션을 얻지 않도록 {@link LazyConnectionDataSourceProxy}로 감싸, 첫 쿼리 시점의 읽기 전용 여부로
+   * 대상을 결정합니다.
+   *
+   * @param primaryDataSource 프라이머리 커넥션 풀
+   * @param replicaSelector 리플리카 선택기
+   * @return 지연 커넥션 프록시로 감싼 라우팅 데이터소스
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      HikariDataSource primaryDataSource, ReplicaSelector replicaSelector) {
+    Map<Object, Object> targets = new HashMap<>(replicaDataSources);
+    targets.put(ReadWriteRoutingDataSource.PRIMARY_KEY, primaryDataSource);
+
+    ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaSelector);
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+    routingDataSource.afterPropertiesSet();
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
+
+  @Override
+  public void destroy() {
+    replicaDataSources.values().forEach(HikariDataSource::close);
+  }
+
+  private HikariDataSource createReplica(DataSourceProperties properties, Replica replica) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(replica.getName() + "-pool");
+    dataSource.setJdbcUrl(replica.getUrl());
+    dataSource.setUsername(
+        replica.getUsername() != null ? replica.getUsername() : properties.determineUsername());
+    dataSource.setPassword(
+        replica.getPassword() != null ? replica.getPassword() : properties.determinePassword());
+    dataSource.setDriverClassName(properties.determineDriverClassName());
+    dataSource.setMaximumPoolSize(routingProperties.getMaximumPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+}
@@ -0,0 +1,42 @@
+package com.dataracy.modules.common.config.adapter.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.dataracy.modules.auth.adapter.ratelimit.HybridRateLimitAdapter;
+import com.dataracy.modules.auth.adapter.ratelimit.MemoryRateLimitAdapter;
+import com.dataracy.modules.auth.adapter.ratelimit.NoOpRateLimitAdapter;
+import com.dataracy.modules.auth.adapter.ratelimit.RedisRateLimitAdapter;
+import com.dataracy.modules.auth.application.port.out.RateLimitPort;
+
+/**
+ * 레이트 리미팅 구현체를 설정값으로 선택하는 구성 클래스입니다.
+ *
+ * <p>{@code rate-limit.mode}에 따라 memory, redis, hybrid, none 중 하나를 {@code rateLimitPort} 빈으로 노출합니다.
+ */
+@Configuration
+public class RateLimitConfig {
+
+  /**
+   * 설정된 모드에 해당하는 레이트 리미팅 구현체를 반환합니다.
+   *
+   * @return 선택된 레이트 리미팅 구현체
+   * @throws IllegalArgumentException 알 수 없는 모드인 경우
+   */
+  @Bean("rateLimitPort")
+  public RateLimitPort rateLimitPort(
+      @Value("${rate-limit.mode:redis}") String mode,
+      MemoryRateLimitAdapter memoryRateLimitAdapter,
+      RedisRateLimitAdapter redisRateLimitAdapter,
+      HybridRateLimitAdapter hybridRateLimitAdapter,
+      NoOpRateLimitAdapter noOpRateLimitAdapter) {
+    return switch (mode.trim().toLowerCase()) {
+      case "memory" -> memoryRateLimitAdapter;
+      case "redis" -> redisRateLimitAdapter;
+      case "hybrid" -> hybridRateLimitAdapter;
+      case "none" -> noOpRateLimitAdapter;
+      default -> throw new IllegalArgumentException("지원하지 않는 rate-limit.mode: " + mode);
+    };
+  }
+}
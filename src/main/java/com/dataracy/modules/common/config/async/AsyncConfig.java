@@ -1,12 +1,19 @@
 package com.dataracy.modules.common.config.async;
 
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.dataracy.modules.common.support.async.ParallelQueryExecutor;
+
 /**
  * 비동기 처리를 위한 설정 클래스 @EnableAsync 어노테이션을 통해 Spring의 비동기 처리 기능을 활성화하고, 커스텀 ThreadPoolTaskExecutor를
  * 설정하여 비동기 작업의 성능을 최적화합니다.
@@ -46,4 +53,62 @@ public class AsyncConfig {
 
     return executor;
   }
+
+  /**
+   * 상세 조회처럼 여러 조회를 동시에 실행할 때 사용하는 스레드 풀을 생성합니다.
+   *
+   * <p>큐가 가득 차면 호출 스레드에서 직접 실행해 요청을 거절하지 않고 순차 실행으로 물러나며, 호출 스레드의 MDC를 작업 스레드로 전달합니다.
+   *
+   * @return 병렬 조회용 ThreadPoolTaskExecutor 인스턴스
+   */
+  @Bean(name = "queryFanOutTaskExecutor")
+  public ThreadPoolTaskExecutor queryFanOutTaskExecutor(
+      @Value("${query.fan-out.core-size:8}") int coreSize,
+      @Value("${query.fan-out.max-size:32}") int maxSize,
+      @Value("${query.fan-out.queue-capacity:200}") int queueCapacity) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(coreSize);
+    executor.setMaxPoolSize(maxSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("query-fan-out-");
+    executor.setKeepAliveSeconds(60);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(
+        runnable -> {
+          Map<String, String> context = MDC.getCopyOfContextMap();
+          return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            setMdc(context);
+            try {
+              runnable.run();
+            } finally {
+              setMdc(previous);
+            }
+          };
+        });
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 병렬 조회 실행기를 생성합니다.
+   *
+   * @param executor 병렬 조회용 스레드 풀
+   * @param timeoutMillis 조회 하나에 허용하는 최대 시간(ms)
+   * @return ParallelQueryExecutor 인스턴스
+   */
+  @Bean
+  public ParallelQueryExecutor parallelQueryExecutor(
+      @Qualifier("queryFanOutTaskExecutor") Executor executor,
+      @Value("${query.fan-out.timeout-ms:2000}") long timeoutMillis) {
+    return new ParallelQueryExecutor(executor, timeoutMillis);
+  }
+
+  private static void setMdc(Map<String, String> context) {
+    if (context == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(context);
+    }
+  }
 }
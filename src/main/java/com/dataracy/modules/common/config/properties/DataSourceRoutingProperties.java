@@ -0,0 +1,57 @@
+package com.dataracy.modules.common.config.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/** 읽기/쓰기 데이터소스 라우팅 설정 application.yml의 datasource.routing.* 에서 주입됨 */
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+  /** true면 읽기 전용 트랜잭션을 리플리카로 보낸다 */
+  private boolean enabled;
+
+  /** 리플리카 접속 정보 목록 */
+  @Valid private List<Replica> replicas = new ArrayList<>();
+
+  /** 복제 지연 조회 쿼리 (비어 있으면 접속 가능 여부만 확인) */
+  private String lagQuery = "SHOW REPLICA STATUS";
+
+  /** 지연 조회 결과에서 지연(초)을 읽을 컬럼 */
+  private String lagColumn = "Seconds_Behind_Source";
+
+  /** 허용 복제 지연(초), 초과 시 해당 리플리카를 읽기 라우팅에서 제외 */
+  @Min(value = 0, message = "허용 복제 지연은 0 이상이어야 합니다.")
+  private long maxLagSeconds = 5;
+
+  /** 리플리카 커넥션 풀 최대 크기 */
+  @Min(value = 1, message = "리플리카 풀 크기는 1 이상이어야 합니다.")
+  private int maximumPoolSize = 10;
+
+  @Getter
+  @Setter
+  public static class Replica {
+    /** 예: replica-1 */
+    @NotBlank(message = "리플리카 이름은 필수입니다.")
+    private String name;
+
+    @NotBlank(message = "리플리카 URL은 필수입니다.")
+    private String url;
+
+    private String username;
+
+    private String password;
+  }
+}
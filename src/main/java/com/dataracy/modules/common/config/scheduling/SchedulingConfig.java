@@ -1,8 +1,82 @@
 package com.dataracy.modules.common.config.scheduling;
 
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import com.dataracy.modules.common.support.metrics.SchedulerMetrics;
 
+/**
+ * 스케줄 작업을 성격별 전용 스케줄러로 분리하는 설정 클래스
+ *
+ * <p>한 작업이 오래 걸려도 다른 작업의 주기가 밀리지 않도록 스케줄러를 나눕니다. {@code @Scheduled(scheduler = ...)}로 스케줄러를 지정하지
+ * 않은 작업은 기본 스케줄러(taskScheduler)에서 실행됩니다.
+ *
+ * <ul>
+ *   <li>taskScheduler: 노드마다 실행해야 하는 가벼운 작업 (레이트 리밋 동기화, 블랙리스트/참조 데이터 재적재, 리플리카 상태 확인, 리더 임대 갱신)
+ *   <li>flushTaskScheduler: Redis에 누적된 조회수/카운트 변경분 반영 (원자적 drain으로 노드 간 작업이 나뉨)
+ *   <li>projectionTaskScheduler: ES 프로젝션 큐 처리 (SKIP LOCKED 선점으로 노드 간 작업이 나뉨)
+ *   <li>batchTaskScheduler: 클러스터 전체에서 한 번만 실행하는 배치 ({@code @LeaderOnly})
+ * </ul>
+ */
 @Configuration
 @EnableScheduling
-public class SchedulingConfig {}
+public class SchedulingConfig {
+
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(
+      @Value("${scheduling.pools.default-size:2}") int poolSize, SchedulerMetrics metrics) {
+    return createScheduler("default", poolSize, metrics);
+  }
+
+  @Bean(name = "flushTaskScheduler")
+  public ThreadPoolTaskScheduler flushTaskScheduler(
+      @Value("${scheduling.pools.flush-size:2}") int poolSize, SchedulerMetrics metrics) {
+    return createScheduler("flush", poolSize, metrics);
+  }
+
+  @Bean(name = "projectionTaskScheduler")
+  public ThreadPoolTaskScheduler projectionTaskScheduler(
+      @Value("${scheduling.pools.projection-size:2}") int poolSize, SchedulerMetrics metrics) {
+    return createScheduler("projection", poolSize, metrics);
+  }
+
+  @Bean(name = "batchTaskScheduler")
+  public ThreadPoolTaskScheduler batchTaskScheduler(
+      @Value("${scheduling.pools.batch-size:1}") int poolSize, SchedulerMetrics metrics) {
+    return createScheduler("batch", poolSize, metrics);
+  }
+
+  /**
+   * 스레드 풀 상태 메트릭이 등록된 스케줄러를 생성합니다.
+   *
+   * <p>내부 스레드 풀은 빈 초기화 시점에 만들어지므로, 풀 생성 시점에 메트릭을 등록합니다.
+   */
+  private static ThreadPoolTaskScheduler createScheduler(
+      String name, int poolSize, SchedulerMetrics metrics) {
+    ThreadPoolTaskScheduler scheduler =
+        new ThreadPoolTaskScheduler() {
+          @Override
+          protected ScheduledExecutorService createExecutor(
+              int poolSize,
+              ThreadFactory threadFactory,
+              RejectedExecutionHandler rejectedExecutionHandler) {
+            ScheduledExecutorService executor =
+                super.createExecutor(poolSize, threadFactory, rejectedExecutionHandler);
+            metrics.bindExecutor(executor, "scheduler." + name);
+            return executor;
+          }
+        };
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("scheduler-" + name + "-");
+    scheduler.setWaitForTasksToCompleteOnShutdown(true);
+    scheduler.setAwaitTerminationSeconds(30);
+    return scheduler;
+  }
+}
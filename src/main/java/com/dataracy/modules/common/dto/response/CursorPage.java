@@ -0,0 +1,45 @@
+package com.dataracy.modules.common.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ *
+ * <p>다음 페이지는 {@code nextCursor}를 그대로 다시 전달해 조회합니다. 전체 개수(totalElements)는 첫 페이지에서만 계산하고 이후 페이지에서는
+ * null로 내려가므로, 클라이언트는 첫 페이지의 값을 유지해 사용합니다.
+ *
+ * @param content 현재 페이지의 항목 목록
+ * @param nextCursor 다음 페이지 조회용 커서 (다음 페이지가 없으면 null)
+ * @param hasNext 다음 페이지 존재 여부
+ * @param totalElements 전체 항목 수 (첫 페이지에서만 제공, 이후 페이지는 null)
+ * @param <T> 항목 타입
+ */
+public record CursorPage<T>(
+    List<T> content, String nextCursor, boolean hasNext, Long totalElements) {
+
+  /**
+   * 커서와 전체 개수는 유지한 채 각 항목을 변환합니다.
+   *
+   * @param mapper 항목 변환 함수
+   * @return 변환된 항목을 담은 CursorPage
+   * @param <R> 변환 후 항목 타입
+   */
+  public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+    List<R> mapped = content.stream().<R>map(mapper).toList();
+    return withContent(mapped);
+  }
+
+  /**
+   * 커서와 전체 개수는 유지한 채 항목 목록만 교체합니다.
+   *
+   * <p>항목을 일괄 조회로 다른 타입으로 바꿀 때(예: ID 목록 → 엔티티 목록) 사용합니다.
+   *
+   * @param newContent 교체할 항목 목록
+   * @return 교체된 항목을 담은 CursorPage
+   * @param <R> 교체 후 항목 타입
+   */
+  public <R> CursorPage<R> withContent(List<R> newContent) {
+    return new CursorPage<>(newContent, nextCursor, hasNext, totalElements);
+  }
+}
@@ -63,6 +63,16 @@ public class ElasticLogger extends BaseLogger {
     debug("[Elasticsearch 검색] index={} query={} message={}", index, query, message);
   }
 
+  /**
+   * Elasticsearch 작업과 관련된 경고 메시지를 인덱스와 함께 경고 레벨로 기록합니다.
+   *
+   * @param index 경고와 관련된 Elasticsearch 인덱스 이름
+   * @param message 경고 메시지 내용
+   */
+  public void logWarning(String index, String message) {
+    warn("[Elasticsearch 경고] index={} message={}", index, message);
+  }
+
   /**
    * Elasticsearch 작업 중 발생한 예외를 인덱스와 메시지와 함께 에러 레벨로 기록합니다.
    *
@@ -19,6 +19,9 @@ public enum CommonErrorStatus implements BaseErrorCode {
   CONFLICT(HttpStatus.CONFLICT, "COMMON-409", "중복된 값입니다."),
   UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "COMMON-415", "지원되지 않는 미디어 타입입니다."),
 
+  // Pagination Errors
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "PAGE-001", "유효하지 않은 페이지 커서입니다."),
+
   // JSON Serialization Errors
   FAILED_SERIALIZING_JSON(HttpStatus.INTERNAL_SERVER_ERROR, "JSON-001", "JSON 직렬화에 실패했습니다."),
   FAILED_DESERIALIZING_JSON(HttpStatus.INTERNAL_SERVER_ERROR, "JSON-002", "JSON 역직렬화에 실패했습니다."),
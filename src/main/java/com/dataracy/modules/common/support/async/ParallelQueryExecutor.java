@@ -0,0 +1,130 @@
+package com.dataracy.modules.common.support.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+
+/**
+ * 서로 의존하지 않는 조회를 전용 스레드 풀에서 동시에 실행하고 결과를 모으는 실행기입니다.
+ *
+ * <p>각 조회에는 개별 제한 시간이 적용되며, 제한 시간을 넘기면 {@link CommonErrorStatus#INTERNAL_SERVER_ERROR}로 실패합니다.
+ * 조회 중 발생한 비즈니스 예외는 감싸지 않고 그대로 호출 측에 전달합니다. 제한 시간을 넘기거나 취소된 조회는 실행 중인 스레드를 인터럽트해
+ * 풀 스레드를 돌려받고, {@link QueryScope}로 묶은 조회는 하나가 실패하면 나머지도 함께 취소됩니다.
+ */
+public class ParallelQueryExecutor {
+  private static final String EXECUTOR_NAME = "ParallelQueryExecutor";
+
+  private final Executor executor;
+  private final long timeoutMillis;
+
+  public ParallelQueryExecutor(Executor executor, long timeoutMillis) {
+    this.executor = executor;
+    this.timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * 조회를 비동기로 시작합니다.
+   *
+   * <p>{@code orTimeout}이나 {@code cancel}은 future만 완료시킬 뿐 실행 중인 작업을 멈추지 않으므로, future가 예외로 완료되면
+   * 작업을 인터럽트합니다.
+   *
+   * @param query 실행할 조회
+   * @return 제한 시간이 적용된 조회 결과 future
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> query) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    FutureTask<Void> task =
+        new FutureTask<>(
+            () -> {
+              try {
+                future.complete(query.get());
+              } catch (Throwable e) {
+                future.completeExceptionally(e);
+              }
+            },
+            null);
+    future.whenComplete(
+        (result, e) -> {
+          if (e != null) {
+            task.cancel(true);
+          }
+        });
+    executor.execute(task);
+    return future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 함께 취소할 조회 묶음을 엽니다. try-with-resources로 사용하며, 블록을 벗어날 때 끝나지 않은 조회는 모두 취소됩니다.
+   *
+   * @return 새 조회 묶음
+   */
+  public QueryScope openScope() {
+    return new QueryScope();
+  }
+
+  /**
+   * 조회 결과를 기다려 반환합니다.
+   *
+   * @param future {@link #submit}으로 시작한 조회
+   * @param queryName 제한 시간 초과 시 로그에 남길 조회 이름
+   * @return 조회 결과
+   * @throws CommonException 조회가 제한 시간 안에 끝나지 않은 경우
+   */
+  public <T> T join(CompletableFuture<T> future, String queryName) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof TimeoutException) {
+        LoggerFactory.common()
+            .logError(
+                EXECUTOR_NAME,
+                "병렬 조회 제한 시간 초과 query=" + queryName + ", timeoutMs=" + timeoutMillis,
+                cause);
+        throw new CommonException(CommonErrorStatus.INTERNAL_SERVER_ERROR);
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /** 요청 스레드 하나에서 시작한 조회를 모아 두었다가, 실패로 블록을 벗어나면 남은 조회를 취소합니다. */
+  public final class QueryScope implements AutoCloseable {
+    private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+    private QueryScope() {}
+
+    /**
+     * 조회를 비동기로 시작하고 묶음에 등록합니다.
+     *
+     * @param query 실행할 조회
+     * @return 제한 시간이 적용된 조회 결과 future
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+      CompletableFuture<T> future = ParallelQueryExecutor.this.submit(query);
+      futures.add(future);
+      return future;
+    }
+
+    /** 아직 끝나지 않은 조회를 취소합니다. 모든 결과를 받은 뒤라면 아무 일도 하지 않습니다. */
+    @Override
+    public void close() {
+      futures.forEach(future -> future.cancel(true));
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.dataracy.modules.common.support.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 읽기 전용이면 리플리카로, 그 외에는 프라이머리로 커넥션을 라우팅합니다.
+ *
+ * <p>트랜잭션 매니저는 읽기 전용 여부를 동기화 상태에 기록하기 전에 커넥션을 요청하므로, 반드시 {@code
+ * LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 대상을 결정해야 합니다. 선택 가능한 리플리카가 없으면 조회 키가 null이 되어
+ * 기본 대상인 프라이머리를 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  public static final String PRIMARY_KEY = "primary";
+
+  private final ReplicaSelector replicaSelector;
+
+  public ReadWriteRoutingDataSource(ReplicaSelector replicaSelector) {
+    this.replicaSelector = replicaSelector;
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return replicaSelector.select();
+    }
+    return PRIMARY_KEY;
+  }
+}
@@ -0,0 +1,83 @@
+package com.dataracy.modules.common.support.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+
+/**
+ * 리플리카의 접속 가능 여부와 복제 지연을 주기적으로 확인해 {@link ReplicaSelector}에 반영합니다.
+ *
+ * <p>지연 조회 쿼리(예: MySQL의 {@code SHOW REPLICA STATUS})가 설정되어 있으면 지연 컬럼 값이 허용치를 넘거나, 결과가 없거나, 값이
+ * null(복제 중단)인 리플리카를 비정상으로 표시합니다. 쿼리가 비어 있으면 접속 가능 여부만 확인하므로 H2나 단일 MySQL 같은 로컬 대역에도 사용할 수
+ * 있습니다.
+ */
+public class ReplicaHealthChecker {
+  private static final String CHECKER_NAME = "ReplicaHealthChecker";
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final Map<String, DataSource> replicas;
+  private final ReplicaSelector replicaSelector;
+  private final String lagQuery;
+  private final String lagColumn;
+  private final long maxLagSeconds;
+
+  public ReplicaHealthChecker(
+      Map<String, DataSource> replicas,
+      ReplicaSelector replicaSelector,
+      String lagQuery,
+      String lagColumn,
+      long maxLagSeconds) {
+    this.replicas = replicas;
+    this.replicaSelector = replicaSelector;
+    this.lagQuery = lagQuery;
+    this.lagColumn = lagColumn;
+    this.maxLagSeconds = maxLagSeconds;
+  }
+
+  /** 모든 리플리카의 상태를 확인하고, 상태가 바뀐 리플리카를 로그로 남깁니다. */
+  @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+  public void checkAll() {
+    replicas.forEach(
+        (key, dataSource) -> {
+          boolean healthy = isHealthy(key, dataSource);
+          if (replicaSelector.markHealthy(key, healthy)) {
+            if (healthy) {
+              LoggerFactory.common().logInfo(CHECKER_NAME, "리플리카 복구, 읽기 라우팅 재개 replica=" + key);
+            } else {
+              LoggerFactory.common()
+                  .logWarning(CHECKER_NAME, "리플리카 비정상, 읽기 라우팅 제외 replica=" + key);
+            }
+          }
+        });
+  }
+
+  boolean isHealthy(String key, DataSource dataSource) {
+    try (Connection connection = dataSource.getConnection()) {
+      if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        return false;
+      }
+      if (!StringUtils.hasText(lagQuery)) {
+        return true;
+      }
+      try (Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery(lagQuery)) {
+        if (!resultSet.next()) {
+          return false;
+        }
+        long lagSeconds = resultSet.getLong(lagColumn);
+        return !resultSet.wasNull() && lagSeconds <= maxLagSeconds;
+      }
+    } catch (Exception e) {
+      LoggerFactory.common().logError(CHECKER_NAME, "리플리카 상태 확인 실패 replica=" + key, e);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.dataracy.modules.common.support.datasource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션이 사용할 리플리카를 라운드 로빈으로 고릅니다.
+ *
+ * <p>헬스 체크에서 비정상으로 표시된 리플리카는 건너뛰며, 정상인 리플리카가 하나도 없으면 null을 반환해 라우팅 데이터소스가 프라이머리를 사용하도록
+ * 합니다. 모든 리플리카는 정상 상태로 시작합니다.
+ */
+public class ReplicaSelector {
+  private final List<String> replicaKeys;
+  private final Map<String, Boolean> healthy = new ConcurrentHashMap<>();
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  public ReplicaSelector(List<String> replicaKeys) {
+    this.replicaKeys = List.copyOf(replicaKeys);
+    this.replicaKeys.forEach(key -> healthy.put(key, true));
+  }
+
+  /**
+   * 다음 순번의 정상 리플리카 키를 반환합니다.
+   *
+   * @return 리플리카 키 (정상인 리플리카가 없으면 null)
+   */
+  public String select() {
+    int size = replicaKeys.size();
+    if (size == 0) {
+      return null;
+    }
+    int start = Math.floorMod(cursor.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      String key = replicaKeys.get((start + i) % size);
+      if (healthy.get(key)) {
+        return key;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 리플리카의 상태를 갱신합니다.
+   *
+   * @param key 리플리카 키
+   * @param isHealthy 정상 여부
+   * @return 상태가 바뀌었으면 true
+   */
+  public boolean markHealthy(String key, boolean isHealthy) {
+    Boolean previous = healthy.replace(key, isHealthy);
+    return previous != null && previous != isHealthy;
+  }
+
+  public boolean isHealthy(String key) {
+    return Boolean.TRUE.equals(healthy.get(key));
+  }
+
+  public List<String> replicaKeys() {
+    return replicaKeys;
+  }
+}
@@ -1,13 +1,19 @@
 package com.dataracy.modules.common.support.lock;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
@@ -24,15 +30,21 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * 분산락 AOP를 설계한다. DistributedLock 어노테이션을 통하여 분산락을 시행 Spel문법을 통하여 레디스 키를 설정하며, 시간과 시도 횟수를 설정할 수 있다.
+ *
+ * <p>키 표현식은 메서드별로 한 번만 파싱해 캐시하며, 첫 평가 시 바이트코드로 컴파일되어 이후 호출은 해석 없이 평가됩니다.
  */
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class DistributedLockAspect {
   private final RedissonDistributedLockManager lockManager;
-  private final SpelExpressionParser parser = new SpelExpressionParser();
+  private final SpelExpressionParser parser =
+      new SpelExpressionParser(
+          new SpelParserConfiguration(
+              SpelCompilerMode.IMMEDIATE, DistributedLockAspect.class.getClassLoader()));
   private final ParameterNameDiscoverer nameDiscoverer =
       new StandardReflectionParameterNameDiscoverer();
+  private final Map<Method, LockKeyTemplate> keyTemplates = new ConcurrentHashMap<>();
 
   /** DistributedLockAspect의 초기화를 수행한 후 로그를 기록합니다. */
   @PostConstruct
@@ -52,19 +64,21 @@ public class DistributedLockAspect {
   public Object around(ProceedingJoinPoint joinPoint, DistributedLock lock) {
     MethodSignature signature = (MethodSignature) joinPoint.getSignature();
     Method method = signature.getMethod();
-    String key = generateLockKey(method, joinPoint.getArgs(), lock);
+    LockKeyTemplate template = keyTemplates.computeIfAbsent(method, m -> parseKey(m, lock));
+    String key = generateLockKey(template, joinPoint.getArgs(), lock);
 
-    LoggerFactory.lock().logInfo("[AOP] 분산 락 진입 - method: {} key: {}", method.getName(), key);
+    LoggerFactory.lock().logDebug("[AOP] 분산 락 진입 - method: {} key: {}", method.getName(), key);
 
     try {
       return lockManager.execute(
           key,
+          template.lockName(),
           lock.waitTime(),
           lock.leaseTime(),
           lock.retry(),
           () -> {
             LoggerFactory.lock()
-                .logInfo("[AOP] 분산 락 내부 실행 - method: {} key: {}", method.getName(), key);
+                .logDebug("[AOP] 분산 락 내부 실행 - method: {} key: {}", method.getName(), key);
             try {
               return proceedSafely(joinPoint);
             } catch (BusinessException | CommonException e) {
@@ -100,17 +114,17 @@ public class DistributedLockAspect {
   }
 
   /**
-   * 메서드와 인자, 그리고 DistributedLock 어노테이션의 SpEL 표현식을 이용해 분산 락 키를 생성합니다.
+   * 캐시된 키 표현식에 메서드 인자를 바인딩해 분산 락 키를 생성합니다.
    *
-   * @param method 분산 락이 적용된 대상 메서드
+   * @param template 메서드별로 캐시된 키 표현식과 파라미터 이름
    * @param args 메서드의 인자 값 배열
    * @param lock DistributedLock 어노테이션 인스턴스
    * @return 생성된 분산 락 키 문자열
-   * @throws LockAcquisitionException SpEL 파싱 실패 또는 생성된 키가 null/빈 문자열인 경우 발생
+   * @throws LockAcquisitionException SpEL 평가 실패 또는 생성된 키가 null/빈 문자열인 경우 발생
    */
-  private String generateLockKey(Method method, Object[] args, DistributedLock lock) {
-    String[] paramNames = nameDiscoverer.getParameterNames(method);
+  private String generateLockKey(LockKeyTemplate template, Object[] args, DistributedLock lock) {
     EvaluationContext context = new StandardEvaluationContext();
+    String[] paramNames = template.paramNames();
 
     if (paramNames != null) {
       for (int i = 0; i < paramNames.length; i++) {
@@ -119,14 +133,49 @@ public class DistributedLockAspect {
     }
 
     try {
-      String key = parser.parseExpression(lock.key()).getValue(context, String.class);
+      String key = template.expression().getValue(context, String.class);
       if (key == null || key.isBlank()) {
         throw new LockAcquisitionException("SpEL로 생성된 락 키가 null 또는 빈 문자열입니다.");
       }
       return key;
     } catch (SpelEvaluationException e) {
+      LoggerFactory.lock().logError("[AOP] SpEL 키 평가 오류 - expression: {}", lock.key(), e);
+      throw new LockAcquisitionException("분산 락 키 SpEL 파싱 실패: " + lock.key(), e);
+    }
+  }
+
+  /**
+   * 메서드의 DistributedLock 키 표현식을 파싱하고, 메트릭에 사용할 락 이름을 정합니다.
+   *
+   * <p>락 이름은 표현식 맨 앞의 문자열 리터럴에서 끝의 ':'를 뗀 값(예: {@code 'lock:nickname:' + ...} → lock:nickname)이며,
+   * 리터럴로 시작하지 않으면 "클래스명.메서드명"을 사용합니다.
+   */
+  private LockKeyTemplate parseKey(Method method, DistributedLock lock) {
+    try {
+      return new LockKeyTemplate(
+          parser.parseExpression(lock.key()),
+          nameDiscoverer.getParameterNames(method),
+          lockName(method, lock.key()));
+    } catch (ParseException e) {
       LoggerFactory.lock().logError("[AOP] SpEL 키 파싱 오류 - expression: {}", lock.key(), e);
       throw new LockAcquisitionException("분산 락 키 SpEL 파싱 실패: " + lock.key(), e);
     }
   }
+
+  private static String lockName(Method method, String keyExpression) {
+    String expression = keyExpression.strip();
+    int literalEnd = expression.indexOf('\'', 1);
+    if (expression.startsWith("'") && literalEnd > 1) {
+      String prefix = expression.substring(1, literalEnd);
+      while (prefix.endsWith(":")) {
+        prefix = prefix.substring(0, prefix.length() - 1);
+      }
+      if (!prefix.isEmpty()) {
+        return prefix;
+      }
+    }
+    return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+  }
+
+  private record LockKeyTemplate(Expression expression, String[] paramNames, String lockName) {}
 }
@@ -1,8 +1,8 @@
 package com.dataracy.modules.common.support.lock;
 
-import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.redisson.api.RLock;
@@ -12,19 +12,47 @@ import org.springframework.stereotype.Component;
 import com.dataracy.modules.common.exception.BusinessException;
 import com.dataracy.modules.common.exception.CommonException;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
-
-/** Redisson 분산락을 실행하여 락을 잡을 경우 수행하고, 실패 시 재시도하며, 예외를 명확하게 처리한다. */
+import com.dataracy.modules.common.support.metrics.DistributedLockMetrics;
+
+/**
+ * Redisson 분산락을 실행하여 락을 잡을 경우 수행하고, 실패 시 재시도하며, 예외를 명확하게 처리한다.
+ *
+ * <p>Redis에 요청하기 전에 키를 기준으로 나눈 로컬 락(스트라이프)을 먼저 잡아, 같은 JVM 안의 경쟁자는 Redis 왕복 없이 로컬에서 대기하도록 합니다. 서로
+ * 다른 키가 같은 스트라이프를 공유할 수 있지만 스트라이프 수가 충분히 커서 충돌은 드뭅니다.
+ */
 @Component
 public class RedissonDistributedLockManager {
+  private static final int LOCAL_LOCK_STRIPES = 1024;
+
   private final RedissonClient redissonClient;
+  private final DistributedLockMetrics lockMetrics;
+  private final ReentrantLock[] localLocks = new ReentrantLock[LOCAL_LOCK_STRIPES];
 
   /**
    * RedissonClient를 사용하여 분산 락 매니저를 생성합니다.
    *
    * @param redissonClient 분산 락 처리를 위한 Redisson 클라이언트 인스턴스
+   * @param lockMetrics 락 경합 메트릭 기록기
    */
-  public RedissonDistributedLockManager(RedissonClient redissonClient) {
+  public RedissonDistributedLockManager(
+      RedissonClient redissonClient, DistributedLockMetrics lockMetrics) {
     this.redissonClient = redissonClient;
+    this.lockMetrics = lockMetrics;
+    for (int i = 0; i < LOCAL_LOCK_STRIPES; i++) {
+      localLocks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * 지정된 키에 대해 분산 락을 획득한 뒤, 성공적으로 락을 획득하면 주어진 작업을 실행하고 그 결과를 반환합니다.
+   *
+   * <p>메트릭의 락 이름은 키의 마지막 ':' 앞부분을 사용합니다.
+   *
+   * @see #execute(String, String, long, long, int, Supplier)
+   */
+  public <T> T execute(
+      String key, long waitTime, long leaseTime, int retryCount, Supplier<T> action) {
+    return execute(key, lockName(key), waitTime, leaseTime, retryCount, action);
   }
 
   /**
@@ -34,6 +62,7 @@ public class RedissonDistributedLockManager {
    * retryCount만큼 재시도합니다. 모든 시도에 실패하면 LockAcquisitionException이 발생합니다.
    *
    * @param key 분산 락을 식별하는 고유 키
+   * @param lockName 메트릭에 사용할 락 이름 (키 접두사)
    * @param waitTime 락 획득을 위해 대기할 최대 시간(밀리초)
    * @param leaseTime 락을 소유할 임대 시간(밀리초)
    * @param retryCount 락 획득 재시도 횟수
@@ -44,61 +73,89 @@ public class RedissonDistributedLockManager {
    * @throws CommonException 작업 실행 중 공통 예외 발생 시
    */
   public <T> T execute(
-      String key, long waitTime, long leaseTime, int retryCount, Supplier<T> action) {
-    Instant startTime = LoggerFactory.lock().logStart(key, "분산 락 작업 시작");
-    RLock lock = redissonClient.getLock(key);
-    LoggerFactory.lock()
-        .logInfo("lock 객체 생성 완료 - key={} class={}", key, lock.getClass().getSimpleName());
-
-    return attemptLockAcquisition(key, lock, waitTime, leaseTime, retryCount, action, startTime);
-  }
-
-  /** 락 획득을 시도하고 성공 시 작업을 실행합니다. */
-  private <T> T attemptLockAcquisition(
       String key,
-      RLock lock,
+      String lockName,
       long waitTime,
       long leaseTime,
       int retryCount,
-      Supplier<T> action,
-      Instant startTime) {
+      Supplier<T> action) {
+    RLock lock = redissonClient.getLock(key);
+    ReentrantLock localLock = localLocks[Math.floorMod(key.hashCode(), LOCAL_LOCK_STRIPES)];
+    long waitStart = System.nanoTime();
     int attempts = 0;
 
     while (attempts <= retryCount) {
-      boolean acquired = acquireLock(key, lock, waitTime, leaseTime);
+      LoggerFactory.lock().logTry(key, attempts + 1);
+      boolean acquired;
+      try {
+        acquired = acquireLock(key, localLock, lock, waitTime, leaseTime);
+      } catch (LockAcquisitionException e) {
+        lockMetrics.recordFailure(lockName, System.nanoTime() - waitStart, "error");
+        throw e;
+      }
 
       if (acquired) {
+        lockMetrics.recordAcquired(lockName, System.nanoTime() - waitStart);
+        long holdStart = System.nanoTime();
         try {
-          T result = action.get();
-          LoggerFactory.lock().logSuccess(key, "락 기반 작업 성공", startTime);
-          return result;
+          return action.get();
         } catch (Exception e) {
           LoggerFactory.lock().logException(key, "락 기반 작업 실행 중 예외 발생", e);
           throw e;
         } finally {
-          // 락을 실제로 획득한 경우에만 해제
-          if (lock.isHeldByCurrentThread()) {
+          // Redis 해제가 실패해도 로컬 스트라이프 락은 반드시 놓아야 같은 스트라이프의 다른 키가 막히지 않는다
+          try {
             releaseLock(key, lock);
+          } finally {
+            localLock.unlock();
+            lockMetrics.recordHold(lockName, System.nanoTime() - holdStart);
           }
         }
       }
 
       attempts++;
       LoggerFactory.lock().logFail(key, attempts);
-      performBackoff(attempts);
+      if (attempts <= retryCount) {
+        lockMetrics.recordRetry(lockName);
+        performBackoff(attempts);
+      }
     }
 
+    lockMetrics.recordFailure(lockName, System.nanoTime() - waitStart, "timeout");
     LoggerFactory.lock().logRetryExceeded(key);
     throw new LockAcquisitionException("다른 사용자가 해당 자원에 접근 중입니다. 잠시 후 다시 시도해주세요.");
   }
 
-  /** 락 획득만 담당합니다. (락 해제는 하지 않음) 락 해제는 호출하는 메서드에서 finally 블록을 통해 처리됩니다. */
+  /**
+   * 로컬 스트라이프 락과 Redis 락을 차례로 획득합니다. (락 해제는 하지 않음)
+   *
+   * <p>로컬 락이 비어 있으면 기다리지 않고 Redis 락에 waitTime 전체를 사용하며, 로컬에서 기다린 경우 남은 시간만큼만 Redis 락을 기다립니다.
+   * Redis 락 획득에 실패하면 로컬 락도 바로 놓습니다. 락 해제는 호출하는 메서드에서 finally 블록을 통해 처리됩니다.
+   */
   @SuppressWarnings("java:S2222") // 락 해제는 호출자에서 처리됨
-  private boolean acquireLock(String key, RLock lock, long waitTime, long leaseTime) {
+  private boolean acquireLock(
+      String key, ReentrantLock localLock, RLock lock, long waitTime, long leaseTime) {
     try {
-      boolean acquired = lock.tryLock(waitTime, leaseTime, TimeUnit.MILLISECONDS);
-      LoggerFactory.lock().logInfo("tryLock 결과 - key={} acquired={}", key, acquired);
-      return acquired;
+      long redisWaitTime = waitTime;
+      if (!localLock.tryLock()) {
+        long localWaitStart = System.nanoTime();
+        if (!localLock.tryLock(waitTime, TimeUnit.MILLISECONDS)) {
+          return false;
+        }
+        long localWaitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - localWaitStart);
+        redisWaitTime = Math.max(0L, waitTime - localWaitMillis);
+      }
+
+      boolean acquired = false;
+      try {
+        acquired = lock.tryLock(redisWaitTime, leaseTime, TimeUnit.MILLISECONDS);
+        LoggerFactory.lock().logDebug("tryLock 결과 - key={} acquired={}", key, acquired);
+        return acquired;
+      } finally {
+        if (!acquired) {
+          localLock.unlock();
+        }
+      }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       LoggerFactory.lock().logException(key, "인터럽트 발생", e);
@@ -152,4 +209,9 @@ public class RedissonDistributedLockManager {
       LoggerFactory.lock().logUnlockFail(key, e);
     }
   }
+
+  private static String lockName(String key) {
+    int separator = key.lastIndexOf(':');
+    return separator > 0 ? key.substring(0, separator) : key;
+  }
 }
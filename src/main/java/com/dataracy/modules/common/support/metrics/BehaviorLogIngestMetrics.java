@@ -0,0 +1,95 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 행동 로그 적재 파이프라인의 처리량과 지연을 Micrometer로 노출합니다.
+ *
+ * <p>문서 단위 결과({@code behaviorlog.ingest.documents}, result 태그: indexed/retried/dead_letter),
+ * _bulk 요청 소요 시간({@code behaviorlog.ingest.bulk.latency}), Kafka 레코드 생성 시각부터 수신까지의 지연({@code
+ * behaviorlog.ingest.consume.lag}), 전송 대기 중인 작업 수({@code behaviorlog.ingest.pending})를 기록합니다.
+ */
+@Component
+public class BehaviorLogIngestMetrics {
+  private final MeterRegistry meterRegistry;
+  private final Counter indexed;
+  private final Counter retried;
+  private final Counter deadLettered;
+  private final Timer bulkLatency;
+  private final Timer consumeLag;
+
+  public BehaviorLogIngestMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    this.indexed = documents("indexed");
+    this.retried = documents("retried");
+    this.deadLettered = documents("dead_letter");
+    this.bulkLatency =
+        Timer.builder("behaviorlog.ingest.bulk.latency")
+            .description("행동 로그 _bulk 요청 소요 시간")
+            .register(meterRegistry);
+    this.consumeLag =
+        Timer.builder("behaviorlog.ingest.consume.lag")
+            .description("행동 로그 Kafka 레코드 생성부터 배치 수신까지의 지연")
+            .register(meterRegistry);
+  }
+
+  public void recordIndexed(int count) {
+    indexed.increment(count);
+  }
+
+  public void recordRetried(int count) {
+    retried.increment(count);
+  }
+
+  public void recordDeadLettered(int count) {
+    deadLettered.increment(count);
+  }
+
+  /**
+   * _bulk 요청 한 번의 소요 시간을 기록합니다.
+   *
+   * @param tookMillis Elasticsearch가 보고한 처리 시간(밀리초)
+   */
+  public void recordBulk(long tookMillis) {
+    bulkLatency.record(Duration.ofMillis(tookMillis));
+  }
+
+  /**
+   * 배치에서 가장 오래된 레코드의 생성 시각을 기준으로 수신 지연을 기록합니다.
+   *
+   * @param oldestRecordTimestamp 배치에서 가장 오래된 레코드의 타임스탬프(epoch millis, 0 이하이면 무시)
+   */
+  public void recordConsumeLag(long oldestRecordTimestamp) {
+    if (oldestRecordTimestamp <= 0) {
+      return;
+    }
+    consumeLag.record(
+        Duration.ofMillis(Math.max(0L, System.currentTimeMillis() - oldestRecordTimestamp)));
+  }
+
+  /**
+   * 전송 대기 중인 작업 수를 보고하는 게이지를 등록합니다.
+   *
+   * @param pendingOperations 현재 대기 중인 작업 수를 반환하는 함수
+   */
+  public void registerPending(Supplier<Number> pendingOperations) {
+    Gauge.builder("behaviorlog.ingest.pending", pendingOperations)
+        .description("행동 로그 적재 대기 중인 작업 수")
+        .register(meterRegistry);
+  }
+
+  private Counter documents(String result) {
+    return Counter.builder("behaviorlog.ingest.documents")
+        .description("행동 로그 적재 결과별 문서 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,69 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분산 락의 경합 상태를 락 이름(lock 태그)별로 Micrometer에 노출합니다.
+ *
+ * <p>락 획득까지 기다린 시간({@code distributed.lock.wait}, result 태그: acquired/failed), 락을 쥐고 작업한 시간({@code
+ * distributed.lock.hold}), 재시도 횟수({@code distributed.lock.retries}), 최종 실패 횟수({@code
+ * distributed.lock.failures}, reason 태그: timeout/error)를 기록합니다. lock 태그에는 키 전체가 아닌 키 접두사(예:
+ * lock:nickname)를 사용해 카디널리티를 제한합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DistributedLockMetrics {
+  private final MeterRegistry meterRegistry;
+
+  public void recordAcquired(String lockName, long waitNanos) {
+    waitTimer(lockName, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordHold(String lockName, long holdNanos) {
+    Timer.builder("distributed.lock.hold")
+        .description("분산 락을 쥐고 작업한 시간")
+        .tag("lock", lockName)
+        .register(meterRegistry)
+        .record(holdNanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordRetry(String lockName) {
+    Counter.builder("distributed.lock.retries")
+        .description("분산 락 획득 재시도 횟수")
+        .tag("lock", lockName)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * 락 획득 최종 실패를 기록합니다.
+   *
+   * @param lockName 락 이름
+   * @param waitNanos 실패할 때까지 기다린 시간(나노초)
+   * @param reason 실패 사유 (timeout: 재시도 소진, error: 획득 중 예외)
+   */
+  public void recordFailure(String lockName, long waitNanos, String reason) {
+    waitTimer(lockName, "failed").record(waitNanos, TimeUnit.NANOSECONDS);
+    Counter.builder("distributed.lock.failures")
+        .description("분산 락 획득 최종 실패 횟수")
+        .tag("lock", lockName)
+        .tag("reason", reason)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private Timer waitTimer(String lockName, String result) {
+    return Timer.builder("distributed.lock.wait")
+        .description("분산 락 획득까지 기다린 시간")
+        .tag("lock", lockName)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,63 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ES 프로젝션 작업 큐의 적체 상태를 Micrometer 게이지로 노출합니다.
+ *
+ * <p>큐 이름(queue 태그)별로 대기 중인 작업 수({@code projection.queue.depth})와 가장 오래된 작업의 경과 시간(초,
+ * {@code projection.queue.oldest.age.seconds})을 기록합니다. 값은 리더 노드의 워커가 주기적으로 갱신하며, 게이지는 마지막으로
+ * 기록된 값을 그대로 보고합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectionQueueMetrics {
+  private final MeterRegistry meterRegistry;
+  private final Map<String, QueueGauges> gauges = new ConcurrentHashMap<>();
+
+  /**
+   * 큐의 현재 적체 상태를 기록합니다.
+   *
+   * @param queue 큐 이름 (메트릭의 queue 태그 값)
+   * @param depth 대기 중인 작업 수
+   * @param oldestCreatedAt 가장 오래된 작업의 생성 시각 (작업이 없으면 null)
+   */
+  public void record(String queue, long depth, LocalDateTime oldestCreatedAt) {
+    QueueGauges queueGauges = gauges.computeIfAbsent(queue, this::register);
+    queueGauges.depth().set(depth);
+    queueGauges
+        .oldestAgeSeconds()
+        .set(
+            oldestCreatedAt == null
+                ? 0L
+                : Math.max(
+                    0L, Duration.between(oldestCreatedAt, LocalDateTime.now()).toSeconds()));
+  }
+
+  private QueueGauges register(String queue) {
+    QueueGauges queueGauges = new QueueGauges(new AtomicLong(), new AtomicLong());
+    Gauge.builder("projection.queue.depth", queueGauges.depth(), AtomicLong::get)
+        .description("ES 프로젝션 큐에 대기 중인 작업 수")
+        .tag("queue", queue)
+        .register(meterRegistry);
+    Gauge.builder(
+            "projection.queue.oldest.age.seconds", queueGauges.oldestAgeSeconds(), AtomicLong::get)
+        .description("ES 프로젝션 큐에서 가장 오래된 작업의 경과 시간(초)")
+        .tag("queue", queue)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    return queueGauges;
+  }
+
+  private record QueueGauges(AtomicLong depth, AtomicLong oldestAgeSeconds) {}
+}
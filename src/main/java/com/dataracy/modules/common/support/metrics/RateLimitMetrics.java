@@ -0,0 +1,45 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 레이트 리미터의 판정 결과를 Micrometer로 노출합니다.
+ *
+ * <p>요청마다 로그를 남기는 대신 {@code ratelimit.decisions} 카운터(backend 태그: memory/redis/hybrid, result 태그:
+ * allowed/blocked)를 증가시킵니다.
+ */
+@Component
+public class RateLimitMetrics {
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  public RateLimitMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * 판정 결과 한 건을 기록합니다.
+   *
+   * @param backend 판정한 레이트 리미터 종류
+   * @param allowed 허용 여부
+   */
+  public void record(String backend, boolean allowed) {
+    String result = allowed ? "allowed" : "blocked";
+    counters
+        .computeIfAbsent(
+            backend + ":" + result,
+            k ->
+                Counter.builder("ratelimit.decisions")
+                    .description("레이트 리미터 판정 결과별 요청 수")
+                    .tag("backend", backend)
+                    .tag("result", result)
+                    .register(meterRegistry))
+        .increment();
+  }
+}
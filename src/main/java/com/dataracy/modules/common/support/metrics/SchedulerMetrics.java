@@ -0,0 +1,47 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.util.concurrent.ExecutorService;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스케줄러 스레드 풀 상태와 리더 전용 작업의 건너뛴 횟수를 Micrometer로 노출합니다.
+ *
+ * <p>스케줄러별(name 태그) 대기 작업 수, 실행 중 스레드 수, 완료 작업 수는 {@code executor.*} 메트릭으로, 리더가 아니어서 건너뛴
+ * 실행은 {@code scheduler.job.skipped}(job 태그)로 기록합니다. 작업별 실행 시간은 Spring의 {@code
+ * tasks.scheduled.execution} 관측값으로 수집됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SchedulerMetrics {
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * 스케줄러 스레드 풀의 상태 메트릭을 등록합니다.
+   *
+   * @param executor 스케줄러 내부 스레드 풀
+   * @param name 스케줄러 이름 (메트릭의 name 태그 값)
+   */
+  public void bindExecutor(ExecutorService executor, String name) {
+    new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+  }
+
+  /**
+   * 리더가 아니어서 실행하지 않은 작업을 기록합니다.
+   *
+   * @param job 작업 이름 (메트릭의 job 태그 값)
+   */
+  public void recordSkipped(String job) {
+    Counter.builder("scheduler.job.skipped")
+        .description("리더 노드가 아니어서 건너뛴 스케줄 작업 실행 수")
+        .tag("job", job)
+        .register(meterRegistry)
+        .increment();
+  }
+}
@@ -0,0 +1,43 @@
+package com.dataracy.modules.common.support.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 프로젝트 조회수를 DB에 반영하는 배치 플러시의 청크 단위 처리 시간과 처리량을 Micrometer로 노출합니다.
+ *
+ * <p>JDBC 배치 한 번(청크)의 소요 시간({@code project.view.flush.chunk.latency})과 반영한 프로젝트 수({@code
+ * project.view.flush.rows})를 기록합니다.
+ */
+@Component
+public class ViewCountFlushMetrics {
+  private final Timer chunkLatency;
+  private final Counter rows;
+
+  public ViewCountFlushMetrics(MeterRegistry meterRegistry) {
+    this.chunkLatency =
+        Timer.builder("project.view.flush.chunk.latency")
+            .description("조회수 DB 반영 JDBC 배치 1회 소요 시간")
+            .register(meterRegistry);
+    this.rows =
+        Counter.builder("project.view.flush.rows")
+            .description("조회수 DB 반영 대상 프로젝트 수")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 청크 하나의 처리 결과를 기록합니다.
+   *
+   * @param size 청크에 포함된 프로젝트 수
+   * @param elapsedNanos JDBC 배치 실행 소요 시간(나노초)
+   */
+  public void recordChunk(int size, long elapsedNanos) {
+    chunkLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    rows.increment(size);
+  }
+}
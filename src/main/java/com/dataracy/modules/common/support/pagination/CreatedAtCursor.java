@@ -0,0 +1,58 @@
+package com.dataracy.modules.common.support.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+
+/**
+ * (createdAt, id) 기준 keyset 페이지네이션 커서
+ *
+ * <p>최신순 목록의 마지막 항목 위치를 나타내며, 외부에는 URL-safe Base64 문자열로만 노출합니다.
+ *
+ * @param createdAt 마지막 항목의 생성 시각
+ * @param id 마지막 항목의 ID (생성 시각이 같은 항목 사이의 순서 보장용)
+ */
+public record CreatedAtCursor(LocalDateTime createdAt, Long id) {
+  private static final String SEPARATOR = "|";
+
+  /**
+   * 커서를 URL-safe Base64 문자열로 인코딩합니다.
+   *
+   * @return 인코딩된 커서 문자열
+   */
+  public String encode() {
+    String raw = createdAt + SEPARATOR + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 클라이언트가 전달한 커서 문자열을 해석합니다.
+   *
+   * @param cursor 인코딩된 커서 문자열 (null 또는 공백이면 첫 페이지)
+   * @return 해석된 커서, 첫 페이지 요청이면 null
+   * @throws CommonException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+   */
+  public static CreatedAtCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      if (separatorIndex <= 0) {
+        throw new CommonException(CommonErrorStatus.INVALID_CURSOR);
+      }
+      return new CreatedAtCursor(
+          LocalDateTime.parse(raw.substring(0, separatorIndex)),
+          Long.valueOf(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CommonException(CommonErrorStatus.INVALID_CURSOR);
+    }
+  }
+}
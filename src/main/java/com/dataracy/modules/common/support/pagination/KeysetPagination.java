@@ -0,0 +1,73 @@
+package com.dataracy.modules.common.support.pagination;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+import com.dataracy.modules.common.dto.response.CursorPage;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+
+/**
+ * (createdAt DESC, id DESC) 순서의 keyset 페이지네이션 헬퍼
+ *
+ * <p>offset 대신 직전 페이지 마지막 항목 이후부터 찾으므로 몇 번째 페이지든 첫 페이지와 같은 인덱스 탐색 비용으로 조회됩니다. 다음 페이지 존재 여부는 COUNT
+ * 대신 {@code size + 1}개를 조회해 판단합니다.
+ */
+public final class KeysetPagination {
+  private KeysetPagination() {}
+
+  /**
+   * 커서 이후(더 오래된) 항목만 조회하는 조건을 생성합니다.
+   *
+   * @param createdAt 정렬 기준 생성 시각 경로
+   * @param id 정렬 기준 ID 경로
+   * @param cursor 직전 페이지의 마지막 위치 (null이면 조건 없음)
+   * @return 커서 이후 항목 조건, 첫 페이지면 null
+   */
+  public static BooleanExpression after(
+      DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id, CreatedAtCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    return createdAt
+        .lt(cursor.createdAt())
+        .or(createdAt.eq(cursor.createdAt()).and(id.lt(cursor.id())));
+  }
+
+  /**
+   * keyset 조건과 짝을 이루는 정렬 기준(createdAt DESC, id DESC)을 반환합니다.
+   *
+   * @param createdAt 정렬 기준 생성 시각 경로
+   * @param id 정렬 기준 ID 경로
+   * @return 정렬 기준 배열
+   */
+  public static OrderSpecifier<?>[] latestOrder(
+      DateTimePath<LocalDateTime> createdAt, NumberPath<Long> id) {
+    return new OrderSpecifier<?>[] {createdAt.desc(), id.desc()};
+  }
+
+  /**
+   * 조회 건수 +1로 가져온 행들로 CursorPage를 구성합니다.
+   *
+   * @param rows {@code size + 1}개까지 조회한 행 목록
+   * @param size 요청한 페이지 크기
+   * @param keyOf 행에서 커서 위치를 추출하는 함수
+   * @param totalElements 전체 항목 수 (계산하지 않았으면 null)
+   * @return 최대 size개의 행과 다음 커서를 담은 CursorPage
+   * @param <E> 행 타입
+   */
+  public static <E> CursorPage<E> toCursorPage(
+      List<E> rows, int size, Function<E, CreatedAtCursor> keyOf, Long totalElements) {
+    boolean hasNext = rows.size() > size;
+    List<E> content = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor =
+        hasNext && !content.isEmpty()
+            ? keyOf.apply(content.get(content.size() - 1)).encode()
+            : null;
+    return new CursorPage<>(List.copyOf(content), nextCursor, hasNext, totalElements);
+  }
+}
@@ -0,0 +1,14 @@
+package com.dataracy.modules.common.support.scheduling;
+
+import java.lang.annotation.*;
+
+/**
+ * 클러스터 전체에서 한 번만 실행해야 하는 스케줄 작업에 붙입니다.
+ *
+ * <p>현재 노드가 {@link SchedulerLeaderElector}의 리더가 아니면 메서드를 실행하지 않고 건너뜁니다. 반환 타입이 void인 작업에만
+ * 사용합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {}
@@ -0,0 +1,31 @@
+package com.dataracy.modules.common.support.scheduling;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.support.metrics.SchedulerMetrics;
+
+import lombok.RequiredArgsConstructor;
+
+/** {@link LeaderOnly}가 붙은 작업을 리더 노드에서만 실행하고, 건너뛴 실행 횟수를 기록합니다. */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class LeaderOnlyAspect {
+  private final SchedulerLeaderElector leaderElector;
+  private final SchedulerMetrics schedulerMetrics;
+
+  @Around("@annotation(leaderOnly)")
+  public Object around(ProceedingJoinPoint joinPoint, LeaderOnly leaderOnly) throws Throwable {
+    if (!leaderElector.isLeader()) {
+      schedulerMetrics.recordSkipped(
+          joinPoint.getSignature().getDeclaringType().getSimpleName()
+              + "."
+              + joinPoint.getSignature().getName());
+      return null;
+    }
+    return joinPoint.proceed();
+  }
+}
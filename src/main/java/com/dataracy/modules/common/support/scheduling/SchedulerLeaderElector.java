@@ -0,0 +1,117 @@
+package com.dataracy.modules.common.support.scheduling;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Redis 임대(lease) 키로 클러스터 전체 스케줄 작업을 실행할 리더 노드를 하나 선출합니다.
+ *
+ * <p>각 노드는 주기적으로 리더 키를 갱신하거나(이미 리더인 경우) 비어 있는 키를 선점합니다. 리더 여부는 마지막 갱신 요청을 보낸 시각부터 임대 시간까지만
+ * 유효하므로, Redis 장애나 갱신 지연으로 키가 만료되면 다른 노드가 리더가 되기 전에 현재 노드도 리더 자격을 잃습니다. 갱신은 기본 스케줄러에서 실행되어
+ * 오래 걸리는 배치 작업에 막히지 않습니다.
+ */
+@Component
+public class SchedulerLeaderElector {
+  private static final String ELECTOR_NAME = "SchedulerLeaderElector";
+  private static final String LEADER_KEY = "scheduler:leader";
+
+  // 키가 자신의 값일 때만 만료 시간을 연장하거나 삭제한다
+  private static final RedisScript<Long> RENEW_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0",
+          Long.class);
+  private static final RedisScript<Long> RELEASE_SCRIPT =
+      new DefaultRedisScript<>(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then "
+              + "return redis.call('del', KEYS[1]) end return 0",
+          Long.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final String nodeId;
+
+  @Value("${scheduling.leader.lease-ms:30000}")
+  private long leaseMillis;
+
+  private volatile boolean leader;
+  private volatile long leaderUntilNanos;
+
+  public SchedulerLeaderElector(StringRedisTemplate redisTemplate) {
+    this.redisTemplate = redisTemplate;
+    this.nodeId = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+  }
+
+  /** 스케줄 작업이 등록되기 전에 한 번 선출해, 기동 직후 첫 리더 전용 작업이 건너뛰어지지 않도록 합니다. */
+  @PostConstruct
+  public void init() {
+    renew();
+  }
+
+  /** 리더 임대를 갱신하거나, 리더가 없으면 선점을 시도합니다. */
+  @Scheduled(fixedDelayString = "${scheduling.leader.renew-interval-ms:10000}")
+  public void renew() {
+    long requestedAt = System.nanoTime();
+    boolean acquired;
+    try {
+      Long renewed =
+          redisTemplate.execute(
+              RENEW_SCRIPT, List.of(LEADER_KEY), nodeId, String.valueOf(leaseMillis));
+      acquired =
+          Long.valueOf(1L).equals(renewed)
+              || Boolean.TRUE.equals(
+                  redisTemplate
+                      .opsForValue()
+                      .setIfAbsent(LEADER_KEY, nodeId, Duration.ofMillis(leaseMillis)));
+    } catch (Exception e) {
+      LoggerFactory.common().logError(ELECTOR_NAME, "스케줄러 리더 임대 갱신 실패", e);
+      acquired = false;
+    }
+
+    if (acquired) {
+      leaderUntilNanos = requestedAt + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+    }
+    if (acquired != leader) {
+      LoggerFactory.common()
+          .logInfo(ELECTOR_NAME, (acquired ? "스케줄러 리더 획득" : "스케줄러 리더 상실") + " node=" + nodeId);
+    }
+    leader = acquired;
+  }
+
+  /**
+   * 현재 노드가 유효한 리더 임대를 가지고 있는지 확인합니다.
+   *
+   * @return 리더이면 true
+   */
+  public boolean isLeader() {
+    return leader && System.nanoTime() - leaderUntilNanos < 0;
+  }
+
+  /** 종료 시 리더 키를 즉시 반납해 다른 노드가 임대 만료를 기다리지 않고 리더가 되도록 합니다. */
+  @PreDestroy
+  public void release() {
+    if (!leader) {
+      return;
+    }
+    leader = false;
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId);
+    } catch (Exception e) {
+      LoggerFactory.common().logError(ELECTOR_NAME, "스케줄러 리더 반납 실패", e);
+    }
+  }
+}
@@ -3,22 +3,44 @@ package com.dataracy.modules.common.util;
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
 import org.mozilla.universalchardet.UniversalDetector;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.dataset.application.dto.response.metadata.ParsedMetadataResponse;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,7 +48,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class FileParsingUtil {
   private static final int PREVIEW_LIMIT = 5;
   private static final String COL_PREFIX = "col";
-  private static final int SHEET_INDEX = 0;
+  private static final int ENCODING_DETECT_BYTES = 4096;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   /** Utility 클래스이므로 인스턴스화를 방지합니다. */
   private FileParsingUtil() {
@@ -96,14 +120,16 @@ public class FileParsingUtil {
 
       List<Map<String, String>> preview = new ArrayList<>();
       int rowCount = 0;
-      int colCount = parser.getHeaderMap().size();
+      List<String> headers = parser.getHeaderNames();
+      int colCount = headers.size();
 
+      // 레코드를 한 건씩 읽으며 미리보기 행만 보관하고 나머지는 개수만 센다
       for (CSVRecord csvRecord : parser) {
         rowCount++;
 
         if (preview.size() < PREVIEW_LIMIT) {
           Map<String, String> row = new LinkedHashMap<>();
-          for (String header : parser.getHeaderMap().keySet()) {
+          for (String header : headers) {
             row.put(header, csvRecord.get(header));
           }
           preview.add(row);
@@ -120,56 +146,51 @@ public class FileParsingUtil {
    * <p>첫 번째 행을 헤더로 간주하며, 비어 있는 헤더 셀은 기본 컬럼명으로 대체됩니다. 미리보기 데이터는 최대 5개의 데이터 행(헤더 제외)으로 구성되며, 각 행은
    * 헤더명을 키로 하는 맵 형태로 반환됩니다.
    *
+   * <p>워크북 전체를 메모리에 올리지 않도록 입력 스트림을 임시 파일로 내려받은 뒤, 시트 XML을 SAX 이벤트로 읽습니다. 셀 값은 헤더와 미리보기 행에서만
+   * 보관하고 나머지 행은 개수만 셉니다. 임시 파일은 파싱이 끝나면 삭제됩니다.
+   *
    * @param is XLSX 파일의 입력 스트림
    * @return 행 수(헤더 제외), 열 수, 미리보기 데이터(JSON 문자열)가 포함된 ParsedMetadataResponse 객체
    * @throws IOException 파일 읽기 또는 파싱 중 오류가 발생한 경우
    */
   private static ParsedMetadataResponse parseXlsx(InputStream is) throws IOException {
-    try (Workbook wb = WorkbookFactory.create(is)) {
-      Sheet sheet = wb.getSheetAt(SHEET_INDEX);
-      int rowCount = sheet.getPhysicalNumberOfRows();
-      if (rowCount == 0) {
-        return new ParsedMetadataResponse(0, 0, toJson(new ArrayList<>()));
-      }
-      Row firstRow = sheet.getRow(0);
-      if (firstRow == null) {
-        return new ParsedMetadataResponse(0, 0, toJson(new ArrayList<>()));
-      }
-      int colCount = firstRow.getPhysicalNumberOfCells();
-
-      // 헤더 행 처리 추가
-      List<String> headers = new ArrayList<>();
-      for (int j = 0; j < colCount; j++) {
-        var headerCell = firstRow.getCell(j);
-        String headerValue = headerCell != null ? headerCell.toString() : COL_PREFIX + j;
-        headers.add(headerValue);
-      }
-
-      List<Map<String, String>> preview = new ArrayList<>();
-      for (int i = 1; i <= Math.min(PREVIEW_LIMIT, rowCount - 1); i++) {
-        var row = sheet.getRow(i);
-        if (row == null) continue; // null row 방어
+    Path tempFile = Files.createTempFile("metadata-", ".xlsx");
+    try {
+      Files.copy(is, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      try (OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+        XSSFReader reader = new XSSFReader(pkg);
+        Iterator<InputStream> sheets = reader.getSheetsData();
+        if (!sheets.hasNext()) {
+          return new ParsedMetadataResponse(0, 0, toJson(new ArrayList<>()));
+        }
 
-        // 데이터 행 처리 시 헤더 사용
-        Map<String, String> map = new LinkedHashMap<>();
-        for (int j = 0; j < colCount; j++) {
-          var cell = row.getCell(j);
-          map.put(headers.get(j), cell != null ? cell.toString() : "");
+        XlsxSheetCollector collector = new XlsxSheetCollector();
+        XMLReader sheetParser = XMLHelper.newXMLReader();
+        sheetParser.setContentHandler(
+            new XSSFSheetXMLHandler(
+                reader.getStylesTable(),
+                new ReadOnlySharedStringsTable(pkg),
+                collector,
+                new DataFormatter(),
+                false));
+        try (InputStream sheet = sheets.next()) {
+          sheetParser.parse(new InputSource(sheet));
         }
-        preview.add(map);
+        return collector.toResponse();
+      } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+        LoggerFactory.common().logWarning("메타데이터 파싱", "[parseXlsx] XLSX 구조를 읽을 수 없습니다.");
+        throw new IOException("XLSX 파일을 파싱할 수 없습니다.", e);
       }
-
-      return new ParsedMetadataResponse(
-          rowCount - 1, // header 제외
-          colCount,
-          toJson(preview));
+    } finally {
+      Files.deleteIfExists(tempFile);
     }
   }
 
   /**
    * JSON 입력 스트림에서 행 수, 열 수, 미리보기 데이터를 추출합니다.
    *
-   * <p>입력 스트림의 루트 노드는 반드시 배열이어야 하며, 각 요소의 필드를 기준으로 열 수를 계산하고 최대 5개의 미리보기 데이터를 제공합니다.
+   * <p>입력 스트림의 루트 노드는 반드시 배열이어야 하며, 첫 번째 요소의 필드를 기준으로 열 수를 계산하고 최대 5개의 미리보기 데이터를 제공합니다. 전체 트리를
+   * 만들지 않고 스트리밍 파서로 배열 요소를 하나씩 넘기며, 미리보기 대상 요소만 트리로 읽습니다.
    *
    * @param is JSON 데이터를 포함하는 입력 스트림
    * @return 행 수, 열 수, 미리보기 데이터(JSON 문자열)를 포함하는 ParsedMetadataResponse 객체
@@ -177,27 +198,35 @@ public class FileParsingUtil {
    * @throws IllegalArgumentException 루트 노드가 배열이 아닌 경우
    */
   private static ParsedMetadataResponse parseJson(InputStream is) throws IOException {
-    ObjectMapper mapper = new ObjectMapper();
-    JsonNode node = mapper.readTree(is);
-
-    if (!node.isArray()) {
-      LoggerFactory.common().logWarning("메타데이터 파싱", "[parseJson] 루트 노드는 배열이어야 합니다.");
-      throw new IllegalArgumentException("루트 노드는 배열이어야 합니다.");
-    }
+    try (JsonParser parser = OBJECT_MAPPER.createParser(is)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        LoggerFactory.common().logWarning("메타데이터 파싱", "[parseJson] 루트 노드는 배열이어야 합니다.");
+        throw new IllegalArgumentException("루트 노드는 배열이어야 합니다.");
+      }
 
-    int rowCount = node.size();
-    int colCount = 0;
-    if (rowCount > 0) {
-      colCount = node.get(0).size();
-    }
+      int rowCount = 0;
+      int colCount = 0;
+      List<Map<String, Object>> preview = new ArrayList<>();
+      JsonToken token;
+      while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+        if (token == null) {
+          throw new JsonParseException(parser, "루트 배열이 닫히지 않았습니다.");
+        }
+        if (rowCount < PREVIEW_LIMIT) {
+          JsonNode element = parser.readValueAsTree();
+          if (rowCount == 0) {
+            colCount = element.size();
+          }
+          Map<String, Object> row = OBJECT_MAPPER.convertValue(element, new TypeReference<>() {});
+          preview.add(row);
+        } else {
+          parser.skipChildren();
+        }
+        rowCount++;
+      }
 
-    List<Map<String, Object>> preview = new ArrayList<>();
-    for (int i = 0; i < Math.min(PREVIEW_LIMIT, rowCount); i++) {
-      Map<String, Object> row = mapper.convertValue(node.get(i), new TypeReference<>() {});
-      preview.add(row);
+      return new ParsedMetadataResponse(rowCount, colCount, toJson(preview));
     }
-
-    return new ParsedMetadataResponse(rowCount, colCount, toJson(preview));
   }
 
   /**
@@ -208,14 +237,14 @@ public class FileParsingUtil {
    * @throws IOException 직렬화 중 입출력 오류가 발생한 경우
    */
   private static String toJson(Object obj) throws IOException {
-    return new ObjectMapper().writeValueAsString(obj);
+    return OBJECT_MAPPER.writeValueAsString(obj);
   }
 
   /**
    * 입력 스트림에서 문자 인코딩을 자동 감지하여 해당 Charset을 반환합니다.
    *
-   * <p>입력 스트림의 처음 최대 4096바이트를 분석하여 UniversalDetector로 인코딩을 감지하며, 감지된 인코딩이 없거나 지원되지 않는 경우 기본적으로
-   * UTF-8 Charset을 반환합니다.
+   * <p>입력 스트림의 처음 최대 4096바이트만 분석하여 UniversalDetector로 인코딩을 감지하며, 감지된 인코딩이 없거나 지원되지 않는 경우 기본적으로
+   * UTF-8 Charset을 반환합니다. mark 한도를 넘어 읽지 않으므로 대용량 스트림에서도 reset이 보장됩니다.
    *
    * @param is 인코딩을 감지할 InputStream (mark/reset 지원 필요)
    * @return 감지된 Charset, 감지 실패 또는 미지원 시 UTF-8
@@ -227,14 +256,18 @@ public class FileParsingUtil {
       is = new BufferedInputStream(is);
     }
 
-    is.mark(4096);
+    is.mark(ENCODING_DETECT_BYTES);
 
-    byte[] buf = new byte[4096];
+    byte[] buf = new byte[ENCODING_DETECT_BYTES];
     UniversalDetector detector = new UniversalDetector(null);
 
+    int total = 0;
     int read;
-    while ((read = is.read(buf)) > 0 && !detector.isDone()) {
+    while (total < ENCODING_DETECT_BYTES
+        && !detector.isDone()
+        && (read = is.read(buf, 0, ENCODING_DETECT_BYTES - total)) > 0) {
       detector.handleData(buf, 0, read);
+      total += read;
     }
     detector.dataEnd();
 
@@ -250,4 +283,75 @@ public class FileParsingUtil {
     }
     return StandardCharsets.UTF_8;
   }
+
+  /**
+   * XLSX 시트의 SAX 이벤트를 받아 헤더, 미리보기 행, 행 수만 수집하는 핸들러입니다.
+   *
+   * <p>헤더 행(0번 행)과 1~5번 행의 셀 값만 보관하며, 나머지 행은 물리적으로 존재하는 행의 개수만 셉니다.
+   */
+  private static final class XlsxSheetCollector implements SheetContentsHandler {
+    private final Map<Integer, String> headerCells = new TreeMap<>();
+    private final Map<Integer, Map<Integer, String>> previewRows = new TreeMap<>();
+    private boolean hasHeaderRow;
+    private int physicalRowCount;
+    private int headerCellCount;
+    private int currentRow;
+
+    @Override
+    public void startRow(int rowNum) {
+      currentRow = rowNum;
+      physicalRowCount++;
+      if (rowNum == 0) {
+        hasHeaderRow = true;
+      } else if (rowNum <= PREVIEW_LIMIT) {
+        previewRows.put(rowNum, new TreeMap<>());
+      }
+    }
+
+    @Override
+    public void endRow(int rowNum) {
+      // 행 단위 후처리 없음
+    }
+
+    @Override
+    public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+      if (currentRow > PREVIEW_LIMIT || cellReference == null) {
+        return;
+      }
+      int col = new CellReference(cellReference).getCol();
+      if (currentRow == 0) {
+        headerCells.put(col, formattedValue);
+        headerCellCount++;
+      } else {
+        previewRows.get(currentRow).put(col, formattedValue);
+      }
+    }
+
+    ParsedMetadataResponse toResponse() throws IOException {
+      if (physicalRowCount == 0 || !hasHeaderRow) {
+        return new ParsedMetadataResponse(0, 0, toJson(new ArrayList<>()));
+      }
+      int colCount = headerCellCount;
+
+      List<String> headers = new ArrayList<>();
+      for (int j = 0; j < colCount; j++) {
+        String headerValue = headerCells.get(j);
+        headers.add(headerValue != null ? headerValue : COL_PREFIX + j);
+      }
+
+      List<Map<String, String>> preview = new ArrayList<>();
+      for (Map<Integer, String> cells : previewRows.values()) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int j = 0; j < colCount; j++) {
+          map.put(headers.get(j), cells.getOrDefault(j, ""));
+        }
+        preview.add(map);
+      }
+
+      return new ParsedMetadataResponse(
+          physicalRowCount - 1, // header 제외
+          colCount,
+          toJson(preview));
+    }
+  }
 }
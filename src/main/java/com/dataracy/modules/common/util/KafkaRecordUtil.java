@@ -0,0 +1,41 @@
+package com.dataracy.modules.common.util;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+/** 배치 리스너에서 역직렬화에 실패한 레코드를 골라내는 유틸리티 */
+public final class KafkaRecordUtil {
+  private static final LogAccessor LOG = new LogAccessor(KafkaRecordUtil.class);
+  private static final String EXCEPTION_HEADER =
+      SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER;
+
+  private KafkaRecordUtil() {}
+
+  /**
+   * {@code ErrorHandlingDeserializer}가 역직렬화에 실패해 값을 null로 넘긴 레코드면 예외를 던집니다.
+   *
+   * <p>배치 내 위치를 담은 {@link BatchListenerFailedException}을 던지므로 에러 핸들러는 앞선 레코드의 오프셋을 커밋하고 해당 레코드만
+   * DLT로 보냅니다. 원인 예외가 {@link DeserializationException}이라 재시도 없이 바로 DLT로 이동합니다. 값이 null이어도 역직렬화 예외
+   * 헤더가 없는 레코드(tombstone 등)는 그대로 통과합니다.
+   *
+   * @param rec 확인할 레코드
+   * @param index 배치 내 레코드 위치
+   * @throws BatchListenerFailedException 역직렬화에 실패한 레코드인 경우
+   */
+  public static void requireDeserialized(ConsumerRecord<?, ?> rec, int index) {
+    if (rec.value() != null || rec.headers().lastHeader(EXCEPTION_HEADER) == null) {
+      return;
+    }
+    String message =
+        "역직렬화에 실패한 레코드: " + rec.topic() + "-" + rec.partition() + "@" + rec.offset();
+    DeserializationException cause =
+        SerializationUtils.getExceptionFromHeader(rec, EXCEPTION_HEADER, LOG);
+    if (cause == null) {
+      throw new BatchListenerFailedException(message, index);
+    }
+    throw new BatchListenerFailedException(message, cause, index);
+  }
+}
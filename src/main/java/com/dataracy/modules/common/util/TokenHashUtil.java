@@ -0,0 +1,28 @@
+package com.dataracy.modules.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** 토큰 원문 대신 저장·비교에 사용할 고정 길이 해시를 만드는 유틸리티 */
+public final class TokenHashUtil {
+  private TokenHashUtil() {}
+
+  /**
+   * 토큰의 SHA-256 해시를 URL-safe Base64(패딩 없음, 43자) 문자열로 반환합니다.
+   *
+   * @param token 해시할 토큰 문자열
+   * @return 토큰 해시 문자열
+   */
+  public static String sha256(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256은 모든 JVM에서 제공되므로 발생하지 않습니다.
+      throw new IllegalStateException(e);
+    }
+  }
+}
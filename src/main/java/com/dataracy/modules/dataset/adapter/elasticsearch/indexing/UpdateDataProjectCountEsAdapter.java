@@ -0,0 +1,50 @@
+package com.dataracy.modules.dataset.adapter.elasticsearch.indexing;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.exception.EsUpdateException;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.dataset.application.dto.document.DataSearchDocument;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+
+@Component("updateDataProjectCountEsAdapter")
+@RequiredArgsConstructor
+public class UpdateDataProjectCountEsAdapter implements UpdateDataProjectCountPort {
+
+  private final ElasticsearchClient client;
+  private static final String INDEX = "data_index";
+  private static final String ADJUST_PROJECT_COUNT_SCRIPT =
+      """
+            long current = ctx._source.projectCount == null ? 0 : ctx._source.projectCount;
+            ctx._source.projectCount = Math.max(0, current + params.delta);
+            """;
+
+  @Override
+  public void adjustProjectCount(Long dataId, int delta) {
+    try {
+      client.update(
+          u ->
+              u.index(INDEX)
+                  .id(String.valueOf(dataId))
+                  .script(
+                      s ->
+                          s.inline(
+                              i ->
+                                  i.lang("painless")
+                                      .source(ADJUST_PROJECT_COUNT_SCRIPT)
+                                      .params("delta", JsonData.of(delta)))),
+          DataSearchDocument.class);
+      LoggerFactory.elastic()
+          .logUpdate(INDEX, String.valueOf(dataId), "dataset projectCount 반영 완료 delta=" + delta);
+    } catch (IOException e) {
+      LoggerFactory.elastic().logError(INDEX, "dataset projectCount 반영 실패 dataId=" + dataId, e);
+      throw new EsUpdateException("ES update failed: dataId=" + dataId, e);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.dataracy.modules.dataset.adapter.elasticsearch.query;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.dataset.application.dto.document.DataSearchDocument;
+import com.dataracy.modules.dataset.application.dto.request.search.FilteringDataRequest;
+import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataIdsPort;
+import com.dataracy.modules.dataset.domain.enums.DataSortType;
+import com.dataracy.modules.dataset.domain.exception.DataException;
+import com.dataracy.modules.dataset.domain.status.DataErrorStatus;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SearchFilteredDataSetsEsAdapter implements SearchFilteredDataIdsPort {
+  private final ElasticsearchClient client;
+  private static final String INDEX = "data_index";
+
+  /**
+   * 키워드와 필터 조건으로 Elasticsearch에서 삭제되지 않은 데이터셋 ID를 정렬·페이지네이션하여 조회합니다.
+   *
+   * <p>키워드는 "title"(가중치 2)과 "description" 필드에 대해 자동 퍼지 멀티매치로 검색하고, 주제·데이터 소스·데이터 유형·연도 조건은 점수에
+   * 영향을 주지 않는 filter 절로 적용합니다. 문서 본문은 가져오지 않고 ID와 전체 일치 건수만 반환하며, 동일한 정렬 값 사이에서는 ID 내림차순으로 순서를
+   * 고정해 페이지 간 중복·누락을 막습니다.
+   *
+   * @param request 키워드와 필터 조건이 담긴 요청 객체
+   * @param pageable 페이지네이션 정보
+   * @param sortType 데이터셋 정렬 기준
+   * @return 정렬된 데이터셋 ID와 전체 건수를 담은 페이지
+   * @throws DataException 데이터셋 필터링 검색에 실패한 경우 발생
+   */
+  @Override
+  public Page<Long> searchIdsByFilters(
+      FilteringDataRequest request, Pageable pageable, DataSortType sortType) {
+    try {
+      Instant startTime =
+          LoggerFactory.elastic()
+              .logQueryStart(INDEX, "데이터셋 키워드 필터링 검색 시작: keyword=" + request.keyword());
+      SearchResponse<DataSearchDocument> response =
+          client.search(
+              s ->
+                  s.index(INDEX)
+                      .from((int) pageable.getOffset())
+                      .size(pageable.getPageSize())
+                      .trackTotalHits(t -> t.enabled(true))
+                      .source(src -> src.fetch(false))
+                      .sort(buildSortOptions(sortType))
+                      .query(
+                          q ->
+                              q.bool(
+                                  b ->
+                                      b.must(
+                                              m ->
+                                                  m.multiMatch(
+                                                      mm ->
+                                                          mm.fields("title^2", "description")
+                                                              .query(request.keyword())
+                                                              .fuzziness("AUTO")))
+                                          .filter(buildFilterQueries(request)))),
+              DataSearchDocument.class);
+      List<Long> dataIds =
+          response.hits().hits().stream().map(hit -> Long.valueOf(hit.id())).toList();
+      TotalHits totalHits = response.hits().total();
+      long total = totalHits != null ? totalHits.value() : dataIds.size();
+      LoggerFactory.elastic()
+          .logQueryEnd(
+              INDEX,
+              "데이터셋 키워드 필터링 검색 종료: keyword=" + request.keyword() + ", total=" + total,
+              startTime);
+      return new PageImpl<>(dataIds, pageable, total);
+    } catch (IOException e) {
+      LoggerFactory.elastic()
+          .logError(INDEX, "데이터셋 키워드 필터링 검색 실패: keyword=" + request.keyword(), e);
+      throw new DataException(DataErrorStatus.FAIL_FILTERED_SEARCH_DATASET);
+    }
+  }
+
+  /**
+   * 필터링 요청의 조건 중 값이 있는 항목만 filter 절 쿼리로 변환합니다.
+   *
+   * <p>연도 조건은 데이터 수집 기간(startDate ~ endDate)이 해당 연도와 겹치는 데이터셋을 찾도록 두 개의 범위 쿼리로 변환합니다.
+   */
+  private List<Query> buildFilterQueries(FilteringDataRequest request) {
+    List<Query> filters = new ArrayList<>();
+    filters.add(Query.of(q -> q.term(t -> t.field("isDeleted").value(false))));
+    addTermFilter(filters, "topicId", request.topicId());
+    addTermFilter(filters, "dataSourceId", request.dataSourceId());
+    addTermFilter(filters, "dataTypeId", request.dataTypeId());
+    if (request.year() != null) {
+      filters.add(
+          Query.of(
+              q -> q.range(r -> r.field("startDate").lte(JsonData.of(request.year() + "-12-31")))));
+      filters.add(
+          Query.of(
+              q -> q.range(r -> r.field("endDate").gte(JsonData.of(request.year() + "-01-01")))));
+    }
+    return filters;
+  }
+
+  private static void addTermFilter(List<Query> filters, String field, Long value) {
+    if (value != null) {
+      filters.add(Query.of(q -> q.term(t -> t.field(field).value(value))));
+    }
+  }
+
+  /** 정렬 기준을 Elasticsearch 정렬 옵션으로 변환하고, 마지막에 ID 내림차순 정렬을 덧붙입니다. */
+  private List<SortOptions> buildSortOptions(DataSortType sortType) {
+    SortOptions primary =
+        sortType == null
+            ? sortBy("createdAt", SortOrder.Desc)
+            : switch (sortType) {
+              case LATEST -> sortBy("createdAt", SortOrder.Desc);
+              case OLDEST -> sortBy("createdAt", SortOrder.Asc);
+              case DOWNLOAD -> sortBy("downloadCount", SortOrder.Desc);
+              case UTILIZE -> sortByCount("projectCount", SortOrder.Desc);
+            };
+    return List.of(primary, sortBy("id", SortOrder.Desc));
+  }
+
+  private static SortOptions sortBy(String field, SortOrder order) {
+    return SortOptions.of(so -> so.field(f -> f.field(field).order(order)));
+  }
+
+  /** 색인 전 문서에 필드가 없거나 매핑이 아직 없어도 실패하지 않도록 long 타입으로 간주하고 맨 뒤로 보냅니다. */
+  private static SortOptions sortByCount(String field, SortOrder order) {
+    return SortOptions.of(
+        so ->
+            so.field(
+                f ->
+                    f.field(field)
+                        .order(order)
+                        .unmappedType(FieldType.Long)
+                        .missing(FieldValue.of("_last"))));
+  }
+}
@@ -0,0 +1,151 @@
+package com.dataracy.modules.dataset.adapter.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dataracy.modules.dataset.domain.enums.DataEsProjectionType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 데이터셋 ES 프로젝션 큐(data_es_projection_queue)에 작업 행을 JDBC로 일괄 기록합니다.
+ *
+ * <p>작업 엔티티의 ID가 IDENTITY 전략이라 JPA 저장은 행마다 INSERT와 영속성 컨텍스트 관리 비용이 듭니다. 이 클래스는 청크 단위 multi-row
+ * INSERT로 행을 추가하고, 연결 프로젝트 수 델타는 아직 선점되지 않은 PENDING 행에 먼저 병합합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DataEsProjectionTaskJdbcWriter {
+  static final int CHUNK_SIZE = 500;
+
+  private static final String INSERT_PREFIX =
+      "insert into data_es_projection_queue (data_id, delta_download, delta_project_count,"
+          + " set_deleted, status, retry_count, next_run_at, created_at, updated_at) values ";
+  private static final String INSERT_ROW = "(?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+  // 병합 대상은 워커가 아직 선점하지 않은 PENDING 델타 행 하나로 제한한다. 삭제/복원 작업은 델타가 모두 0인 행으로 식별되므로
+  // 델타가 없는 행에는 병합하지 않고, 병합 결과가 0이 되면 새 행을 추가한다.
+  private static final String MERGE_SQL =
+      """
+      update data_es_projection_queue
+         set delta_project_count = delta_project_count + ?,
+             updated_at = ?
+       where data_id = ?
+         and status = ?
+         and set_deleted = false
+         and next_run_at <= ?
+         and (delta_download <> 0 or delta_project_count <> 0)
+         and (delta_download <> 0 or delta_project_count + ? <> 0)
+       limit 1
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 큐에 기록할 작업 한 건입니다.
+   *
+   * @param dataId 대상 데이터셋 ID
+   * @param deltaDownload 다운로드 수 증감
+   * @param deltaProjectCount 연결 프로젝트 수 증감
+   * @param setDeleted 삭제 상태 (델타 작업은 false)
+   */
+  public record TaskRow(Long dataId, int deltaDownload, int deltaProjectCount, boolean setDeleted) {
+    public static TaskRow download(Long dataId, int deltaDownload) {
+      return new TaskRow(dataId, deltaDownload, 0, false);
+    }
+
+    public static TaskRow projectCount(Long dataId, int deltaProjectCount) {
+      return new TaskRow(dataId, 0, deltaProjectCount, false);
+    }
+
+    public static TaskRow setDeleted(Long dataId, boolean deleted) {
+      return new TaskRow(dataId, 0, 0, deleted);
+    }
+  }
+
+  /**
+   * 작업 행들을 병합 없이 청크 단위 multi-row INSERT로 추가합니다.
+   *
+   * @param rows 추가할 작업 행 목록
+   */
+  public void insertAll(List<TaskRow> rows) {
+    LocalDateTime now = LocalDateTime.now();
+    for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+      insertChunk(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())), now);
+    }
+  }
+
+  /**
+   * 연결 프로젝트 수 델타를 데이터셋별로 합산한 뒤, 대기 중인 PENDING 행에 병합하고 병합할 행이 없는 델타만 새 행으로 추가합니다.
+   *
+   * <p>다운로드 델타는 워커가 작업당 1씩 반영하므로 병합하지 않고 {@link #insertAll}로 추가해야 합니다. 델타가 0인 항목은 무시합니다.
+   *
+   * @param deltaProjectCounts 데이터셋 ID별 연결 프로젝트 수 증감
+   */
+  public void upsertProjectCountDeltas(Map<Long, Integer> deltaProjectCounts) {
+    List<TaskRow> deltas = toRows(deltaProjectCounts);
+    LocalDateTime now = LocalDateTime.now();
+    for (int from = 0; from < deltas.size(); from += CHUNK_SIZE) {
+      List<TaskRow> chunk = deltas.subList(from, Math.min(from + CHUNK_SIZE, deltas.size()));
+
+      List<Object[]> mergeArgs = new ArrayList<>(chunk.size());
+      for (TaskRow row : chunk) {
+        mergeArgs.add(
+            new Object[] {
+              row.deltaProjectCount(),
+              now,
+              row.dataId(),
+              DataEsProjectionType.PENDING.name(),
+              now,
+              row.deltaProjectCount()
+            });
+      }
+      int[] merged = jdbcTemplate.batchUpdate(MERGE_SQL, mergeArgs);
+
+      List<TaskRow> unmerged = new ArrayList<>();
+      for (int i = 0; i < chunk.size(); i++) {
+        if (merged[i] == 0) {
+          unmerged.add(chunk.get(i));
+        }
+      }
+      insertChunk(unmerged, now);
+    }
+  }
+
+  private void insertChunk(List<TaskRow> chunk, LocalDateTime now) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW));
+    List<Object> args = new ArrayList<>(chunk.size() * 8);
+    for (TaskRow row : chunk) {
+      args.add(row.dataId());
+      args.add(row.deltaDownload());
+      args.add(row.deltaProjectCount());
+      args.add(row.setDeleted());
+      args.add(DataEsProjectionType.PENDING.name());
+      args.add(now);
+      args.add(now);
+      args.add(now);
+    }
+    jdbcTemplate.update(sql, args.toArray());
+  }
+
+  private static List<TaskRow> toRows(Map<Long, Integer> deltaProjectCounts) {
+    Map<Long, TaskRow> rows = new LinkedHashMap<>();
+    deltaProjectCounts.forEach(
+        (dataId, delta) -> {
+          if (delta != null && delta != 0) {
+            rows.put(dataId, TaskRow.projectCount(dataId, delta));
+          }
+        });
+    return new ArrayList<>(rows.values());
+  }
+}
@@ -19,7 +19,12 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "data")
+@Table(
+    name = "data",
+    indexes = {
+      @Index(name = "idx_data_project_count", columnList = "projectCount"),
+      @Index(name = "idx_data_user_created", columnList = "userId, createdAt")
+    })
 @SQLRestriction("is_deleted = false")
 public class DataEntity extends BaseTimeEntity {
   @Id
@@ -60,6 +65,11 @@ public class DataEntity extends BaseTimeEntity {
 
   @Column private Long sizeBytes;
 
+  // 연결된 프로젝트 수 (project_data 연결 변경 시 함께 갱신, 주기적으로 재계산해 보정)
+  @Column(nullable = false)
+  @Builder.Default
+  private Long projectCount = 0L;
+
   // 메타데이터 FK (1:1)
   @OneToOne(mappedBy = "data", cascade = CascadeType.PERSIST)
   private DataMetadataEntity metadata;
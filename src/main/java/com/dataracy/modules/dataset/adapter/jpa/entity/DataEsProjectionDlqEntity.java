@@ -24,6 +24,10 @@ public class DataEsProjectionDlqEntity extends BaseTimeEntity {
   @Builder.Default
   private Integer deltaDownload = 0;
 
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer deltaProjectCount = 0;
+
   // 소프트 삭제/복원: true=삭제, false=복원
   @Column(nullable = false)
   @Builder.Default
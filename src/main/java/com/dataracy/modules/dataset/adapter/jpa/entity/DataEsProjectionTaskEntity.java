@@ -33,6 +33,11 @@ public class DataEsProjectionTaskEntity extends BaseTimeEntity {
   @Builder.Default
   private Integer deltaDownload = 0;
 
+  // 연결된 프로젝트 수 증감: 연결 추가(+n), 연결 해제(-n), 미사용(0)
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer deltaProjectCount = 0;
+
   // 소프트 삭제/복원: null=해당 없음, true=삭제, false=복원
   @Column(nullable = false)
   @Builder.Default
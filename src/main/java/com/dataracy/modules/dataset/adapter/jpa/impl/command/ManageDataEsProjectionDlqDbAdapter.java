@@ -20,15 +20,22 @@ public class ManageDataEsProjectionDlqDbAdapter implements ManageDataProjectionD
    *
    * @param dataId 대상 데이터의 식별자
    * @param deltaDownload 다운로드 수 변경량(없으면 null 가능)
+   * @param deltaProjectCount 프로젝트 수 변경량(없으면 null 가능)
    * @param setDeleted 삭제 상태로 표시할지 여부(없으면 null 가능)
    * @param lastError 마지막 처리 실패 메시지(없으면 null 가능)
    */
   @Override
-  public void save(Long dataId, Integer deltaDownload, Boolean setDeleted, String lastError) {
+  public void save(
+      Long dataId,
+      Integer deltaDownload,
+      Integer deltaProjectCount,
+      Boolean setDeleted,
+      String lastError) {
     dlqRepo.save(
         DataEsProjectionDlqEntity.builder()
             .dataId(dataId)
             .deltaDownload(deltaDownload)
+            .deltaProjectCount(deltaProjectCount)
             .setDeleted(setDeleted)
             .lastError(lastError)
             .build());
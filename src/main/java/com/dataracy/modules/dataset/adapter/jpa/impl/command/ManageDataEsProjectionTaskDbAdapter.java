@@ -1,10 +1,17 @@
 package com.dataracy.modules.dataset.adapter.jpa.impl.command;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.dataracy.modules.dataset.adapter.jpa.entity.DataEsProjectionTaskEntity;
+import com.dataracy.modules.dataset.adapter.jdbc.DataEsProjectionTaskJdbcWriter;
+import com.dataracy.modules.dataset.adapter.jdbc.DataEsProjectionTaskJdbcWriter.TaskRow;
 import com.dataracy.modules.dataset.adapter.jpa.repository.DataEsProjectionTaskRepository;
 import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionTaskPort;
+import com.dataracy.modules.dataset.domain.enums.DataEsProjectionType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -12,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ManageDataEsProjectionTaskDbAdapter implements ManageDataProjectionTaskPort {
   private final DataEsProjectionTaskRepository repo;
+  private final DataEsProjectionTaskJdbcWriter writer;
 
   /**
    * 데이터의 삭제 상태 변경 작업을 큐에 등록하여 저장소에 영속화한다.
@@ -21,22 +29,34 @@ public class ManageDataEsProjectionTaskDbAdapter implements ManageDataProjection
    */
   @Override
   public void enqueueSetDeleted(Long dataId, boolean deleted) {
-    repo.save(DataEsProjectionTaskEntity.builder().dataId(dataId).setDeleted(deleted).build());
+    writer.insertAll(List.of(TaskRow.setDeleted(dataId, deleted)));
   }
 
   /**
    * 특정 데이터에 대해 다운로드 수 변경을 반영하는 작업을 큐(저장소)에 등록한다.
    *
-   * <p>데이터 식별자에 해당하는 작업 엔티티를 생성하여 저장소에 persist한다. `deltaDownload`는 적용할 다운로드 수 증감량이며, 양수는 증가, 음수는
-   * 감소로 해석된다.
+   * <p>데이터 식별자에 해당하는 작업 행을 저장소에 추가한다. `deltaDownload`는 적용할 다운로드 수 증감량이며, 양수는 증가, 음수는 감소로 해석된다.
+   * 워커가 다운로드 작업을 건당 1씩 반영하므로 기존 행에 병합하지 않는다.
    *
    * @param dataId 변경 대상 데이터의 식별자
    * @param deltaDownload 적용할 다운로드 수의 증감량(양수: 증가, 음수: 감소)
    */
   @Override
   public void enqueueDownloadDelta(Long dataId, int deltaDownload) {
-    repo.save(
-        DataEsProjectionTaskEntity.builder().dataId(dataId).deltaDownload(deltaDownload).build());
+    writer.insertAll(List.of(TaskRow.download(dataId, deltaDownload)));
+  }
+
+  /**
+   * 특정 데이터에 대해 연결된 프로젝트 수 변경을 반영하는 작업을 큐(저장소)에 등록한다.
+   *
+   * <p>아직 선점되지 않은 같은 데이터의 대기 작업이 있으면 그 행에 증감량을 더하고, 없으면 새 작업을 추가한다.
+   *
+   * @param dataId 변경 대상 데이터의 식별자
+   * @param deltaProjectCount 적용할 프로젝트 수의 증감량(양수: 증가, 음수: 감소)
+   */
+  @Override
+  public void enqueueProjectCountDelta(Long dataId, int deltaProjectCount) {
+    writer.upsertProjectCountDeltas(Map.of(dataId, deltaProjectCount));
   }
 
   /**
@@ -48,4 +68,20 @@ public class ManageDataEsProjectionTaskDbAdapter implements ManageDataProjection
   public void delete(Long dataEsProjectionTaskId) {
     repo.deleteById(dataEsProjectionTaskId);
   }
+
+  /**
+   * 실패한 데이터 ES 프로젝션 작업을 RETRYING 상태로 갱신한다.
+   *
+   * @param dataEsProjectionTaskId 갱신할 DataEsProjectionTask의 식별자
+   * @param retryCount 누적 재시도 횟수
+   * @param lastError 마지막 실패 사유
+   * @param nextRunAt 다음 실행 시각
+   */
+  @Override
+  @Transactional
+  public void markRetry(
+      Long dataEsProjectionTaskId, int retryCount, String lastError, LocalDateTime nextRunAt) {
+    repo.markRetry(
+        dataEsProjectionTaskId, DataEsProjectionType.RETRYING, retryCount, lastError, nextRunAt);
+  }
 }
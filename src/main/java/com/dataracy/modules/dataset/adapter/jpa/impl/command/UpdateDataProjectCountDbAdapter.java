@@ -0,0 +1,45 @@
+package com.dataracy.modules.dataset.adapter.jpa.impl.command;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dataracy.modules.dataset.adapter.jpa.repository.DataJpaRepository;
+import com.dataracy.modules.dataset.application.dto.response.support.DataProjectCountDrift;
+import com.dataracy.modules.dataset.application.port.out.command.update.ReconcileDataProjectCountPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Component("updateDataProjectCountDbAdapter")
+@RequiredArgsConstructor
+public class UpdateDataProjectCountDbAdapter
+    implements UpdateDataProjectCountPort, ReconcileDataProjectCountPort {
+  private final DataJpaRepository repo;
+
+  @Override
+  @Transactional
+  public void adjustProjectCount(Long dataId, int delta) {
+    repo.adjustProjectCount(dataId, delta);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<DataProjectCountDrift> findProjectCountDrifts(int limit) {
+    return repo.findProjectCountDrifts(limit).stream()
+        .map(
+            row ->
+                new DataProjectCountDrift(
+                    ((Number) row[0]).longValue(),
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue()))
+        .toList();
+  }
+
+  @Override
+  @Transactional
+  public boolean correctProjectCount(Long dataId, long expected, long actual) {
+    return repo.compareAndSetProjectCount(dataId, expected, actual) > 0;
+  }
+}
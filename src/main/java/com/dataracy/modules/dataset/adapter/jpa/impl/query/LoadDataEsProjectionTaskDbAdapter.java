@@ -2,9 +2,12 @@ package com.dataracy.modules.dataset.adapter.jpa.impl.query;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dataracy.modules.dataset.adapter.jpa.entity.DataEsProjectionTaskEntity;
 import com.dataracy.modules.dataset.adapter.jpa.repository.DataEsProjectionTaskRepository;
@@ -34,4 +37,48 @@ public class LoadDataEsProjectionTaskDbAdapter implements LoadDataProjectionTask
       LocalDateTime now, List<DataEsProjectionType> statuses, Pageable pageable) {
     return repo.findBatchForWork(now, statuses, pageable);
   }
+
+  /**
+   * 처리할 작업 배치를 선점(claim)하고 즉시 커밋한다.
+   *
+   * <p>SKIP LOCKED 조회로 다른 노드·스레드가 잠근 행을 건너뛰어 서로 겹치지 않는 배치를 가져온 뒤, 각 작업의 nextRunAt을 임대 만료 시각으로
+   * 미뤄 짧은 독립 트랜잭션으로 커밋한다. 처리 도중 워커가 종료되면 임대 만료 후 다시 조회된다.
+   *
+   * @param now 조회 기준 시점
+   * @param statuses 조회할 태스크 상태 목록
+   * @param pageable 배치 크기 및 정렬 정보
+   * @param leaseUntil 선점한 작업을 다른 워커로부터 숨겨 둘 임대 만료 시각
+   * @return 선점된 DataEsProjectionTaskEntity 목록 (빈 리스트일 수 있음)
+   */
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<DataEsProjectionTaskEntity> claimBatchForWork(
+      LocalDateTime now,
+      List<DataEsProjectionType> statuses,
+      Pageable pageable,
+      LocalDateTime leaseUntil) {
+    List<DataEsProjectionTaskEntity> tasks = repo.findBatchForWork(now, statuses, pageable);
+    tasks.forEach(t -> t.setNextRunAt(leaseUntil));
+    return tasks;
+  }
+
+  /**
+   * 큐에 남아 있는 작업 수를 조회한다.
+   *
+   * @return 대기 및 처리 중인 작업 수
+   */
+  @Override
+  public long countQueued() {
+    return repo.count();
+  }
+
+  /**
+   * 큐에 남아 있는 작업 중 가장 오래된 작업의 생성 시각을 조회한다.
+   *
+   * @return 가장 오래된 작업의 생성 시각 (큐가 비어 있으면 empty)
+   */
+  @Override
+  public Optional<LocalDateTime> findOldestQueuedAt() {
+    return repo.findOldestCreatedAt();
+  }
 }
@@ -11,8 +11,8 @@ public final class DataEntityMapper {
   /**
    * DataEntity를 Data 도메인 모델로 변환합니다.
    *
-   * <p>입력이 null이면 null을 반환합니다. 변환 시 id, 생성일(createdAt)과 함께 기본 속성들, 중첩된 메타데이터 및 sizeBytes(바이트 단위
-   * 크기)를 도메인 모델로 매핑합니다.
+   * <p>입력이 null이면 null을 반환합니다. 변환 시 id, 생성일(createdAt)과 함께 기본 속성들, 중첩된 메타데이터, sizeBytes(바이트 단위
+   * 크기) 및 연결된 프로젝트 수(projectCount)를 도메인 모델로 매핑합니다.
    *
    * @param dataEntity 변환할 JPA 엔티티 (null 허용)
    * @return 변환된 Data 도메인 객체 또는 입력이 null인 경우 null
@@ -37,6 +37,7 @@ public final class DataEntityMapper {
         dataEntity.getDataThumbnailUrl(),
         dataEntity.getDownloadCount(),
         dataEntity.getSizeBytes(),
+        dataEntity.getProjectCount(),
         DataMetadataEntityMapper.toDomain(dataEntity.getMetadata()),
         dataEntity.getCreatedAt());
   }
@@ -2,6 +2,7 @@ package com.dataracy.modules.dataset.adapter.jpa.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -41,4 +42,40 @@ public interface DataEsProjectionTaskRepository
       @Param("now") LocalDateTime now,
       @Param("statuses") List<DataEsProjectionType> statuses,
       Pageable pageable);
+
+  /**
+   * 실패한 작업을 재시도 대기 상태로 갱신합니다.
+   *
+   * <p>작업 선점 트랜잭션이 이미 커밋된 뒤에 호출되므로, 분리(detached)된 엔티티의 더티 체킹 대신 UPDATE 쿼리로 직접 반영합니다.
+   *
+   * @param id 갱신할 작업 ID
+   * @param status 변경할 상태
+   * @param retryCount 누적 재시도 횟수
+   * @param lastError 마지막 실패 사유
+   * @param nextRunAt 다음 실행 시각
+   */
+  @Modifying(clearAutomatically = true, flushAutomatically = true)
+  @Query(
+      """
+        update DataEsProjectionTaskEntity t
+           set t.status = :status,
+               t.retryCount = :retryCount,
+               t.lastError = :lastError,
+               t.nextRunAt = :nextRunAt
+         where t.id = :id
+    """)
+  void markRetry(
+      @Param("id") Long id,
+      @Param("status") DataEsProjectionType status,
+      @Param("retryCount") int retryCount,
+      @Param("lastError") String lastError,
+      @Param("nextRunAt") LocalDateTime nextRunAt);
+
+  /**
+   * 큐에 남아 있는 작업 중 가장 오래된 작업의 생성 시각을 조회합니다.
+   *
+   * @return 가장 오래된 작업의 생성 시각 (큐가 비어 있으면 empty)
+   */
+  @Query("select min(t.createdAt) from DataEsProjectionTaskEntity t")
+  Optional<LocalDateTime> findOldestCreatedAt();
 }
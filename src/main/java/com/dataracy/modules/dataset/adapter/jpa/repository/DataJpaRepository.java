@@ -1,5 +1,6 @@
 package com.dataracy.modules.dataset.adapter.jpa.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,4 +34,57 @@ public interface DataJpaRepository extends JpaRepository<DataEntity, Long> {
   @Modifying
   @Query("UPDATE DataEntity d SET d.downloadCount = d.downloadCount + 1 WHERE d.id = :dataId")
   void increaseDownload(@Param("dataId") Long dataId);
+
+  /**
+   * 데이터의 연결된 프로젝트 수를 증감합니다.
+   *
+   * <p>삭제된 데이터도 프로젝트 연결은 유지되므로 삭제 여부와 관계없이 갱신하며, 0 미만으로는 내려가지 않습니다.
+   *
+   * @param dataId 대상 데이터 ID
+   * @param delta 증감량 (양수: 증가, 음수: 감소)
+   */
+  @Modifying
+  @Query(
+      value =
+          "UPDATE data SET project_count = project_count + :delta"
+              + " WHERE data_id = :dataId AND project_count + :delta >= 0",
+      nativeQuery = true)
+  void adjustProjectCount(@Param("dataId") Long dataId, @Param("delta") long delta);
+
+  /**
+   * 저장된 프로젝트 수가 실제 project_data 연결 수와 다른 데이터를 조회합니다.
+   *
+   * <p>삭제된 데이터도 포함하며, 각 행은 [data_id, 저장된 프로젝트 수, 실제 연결 수] 순서입니다.
+   *
+   * @param limit 최대 조회 건수
+   * @return 보정이 필요한 데이터 목록
+   */
+  @Query(
+      value =
+          "SELECT d.data_id, d.project_count, COUNT(pd.project_data_id) FROM data d"
+              + " LEFT JOIN project_data pd ON pd.data_id = d.data_id"
+              + " GROUP BY d.data_id, d.project_count"
+              + " HAVING d.project_count <> COUNT(pd.project_data_id)"
+              + " LIMIT :limit",
+      nativeQuery = true)
+  List<Object[]> findProjectCountDrifts(@Param("limit") int limit);
+
+  /**
+   * 저장된 프로젝트 수가 예상 값과 같을 때만 실제 값으로 교체합니다.
+   *
+   * <p>재계산 이후 연결 변경으로 값이 바뀌었다면 갱신하지 않고 다음 보정 주기에 다시 비교합니다.
+   *
+   * @param dataId 대상 데이터 ID
+   * @param expected 재계산 시점에 저장되어 있던 프로젝트 수
+   * @param actual 실제 연결된 프로젝트 수
+   * @return 갱신된 행 수
+   */
+  @Modifying
+  @Query(
+      value =
+          "UPDATE data SET project_count = :actual"
+              + " WHERE data_id = :dataId AND project_count = :expected",
+      nativeQuery = true)
+  int compareAndSetProjectCount(
+      @Param("dataId") Long dataId, @Param("expected") long expected, @Param("actual") long actual);
 }
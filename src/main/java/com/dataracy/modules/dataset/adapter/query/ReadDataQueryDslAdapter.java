@@ -1,11 +1,8 @@
 package com.dataracy.modules.dataset.adapter.query;
 
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,11 +10,15 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
+import com.dataracy.modules.common.support.pagination.KeysetPagination;
 import com.dataracy.modules.dataset.adapter.jpa.entity.DataEntity;
 import com.dataracy.modules.dataset.adapter.jpa.entity.QDataEntity;
 import com.dataracy.modules.dataset.adapter.jpa.mapper.DataEntityMapper;
 import com.dataracy.modules.dataset.adapter.query.predicates.DataFilterPredicate;
+import com.dataracy.modules.dataset.adapter.query.sort.DataPopularOrderBuilder;
 import com.dataracy.modules.dataset.adapter.query.sort.DataSortBuilder;
 import com.dataracy.modules.dataset.application.dto.response.read.DataGroupCountResponse;
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
@@ -168,22 +169,16 @@ public class ReadDataQueryDslAdapter
             .fetch();
     queryCount++; // 메인 쿼리
 
-    // 2단계: 배치로 프로젝트 수 조회 (1개 쿼리)
-    List<Long> dataIds = dataEntities.stream().map(DataEntity::getId).toList();
-    Map<Long, Long> projectCounts = getProjectCountsBatch(dataIds);
-    queryCount++; // 배치 쿼리
-
-    // 3단계: DTO 조합 (메모리에서 처리)
+    // 2단계: DTO 조합 (프로젝트 수는 projectCount 컬럼 사용)
     List<DataWithProjectCountDto> contents =
         dataEntities.stream()
             .map(
                 entity ->
                     new DataWithProjectCountDto(
-                        DataEntityMapper.toDomain(entity),
-                        projectCounts.getOrDefault(entity.getId(), 0L)))
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
             .toList();
 
-    // 4단계: 총 개수 조회 (1개 쿼리)
+    // 3단계: 총 개수 조회 (1개 쿼리)
     long total =
         Optional.ofNullable(
                 queryFactory
@@ -242,18 +237,13 @@ public class ReadDataQueryDslAdapter
             .fetch();
     queryCount++; // 메인 쿼리
 
-    // 2단계: 배치로 프로젝트 수 조회 (1개 쿼리)
-    Map<Long, Long> projectCounts = getProjectCountsBatch(dataIds);
-    queryCount++; // 배치 쿼리
-
-    // 3단계: DTO 조합 (메모리에서 처리)
+    // 2단계: DTO 조합 (프로젝트 수는 projectCount 컬럼 사용)
     List<DataWithProjectCountDto> contents =
         dataEntities.stream()
             .map(
                 entity ->
                     new DataWithProjectCountDto(
-                        DataEntityMapper.toDomain(entity),
-                        projectCounts.getOrDefault(entity.getId(), 0L)))
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
             .toList();
 
     LoggerFactory.query()
@@ -295,8 +285,8 @@ public class ReadDataQueryDslAdapter
   /**
    * 인기도 점수에 따라 상위 데이터셋을 조회하고 각 데이터셋에 연결된 프로젝트 수를 함께 반환합니다.
    *
-   * <p>각 결과는 도메인 Data와 그 데이터에 연결된 고유 프로젝트 수를 포함합니다. 결과는 계산된 인기 점수(데이터 메타·연결 프로젝트 수 기반) 내림차순으로 정렬되어
-   * 반환됩니다. 메타데이터는 함께 로드됩니다.
+   * <p>각 결과는 도메인 Data와 그 데이터에 연결된 프로젝트 수를 포함합니다. 결과는 다운로드 수와 연결 프로젝트 수(projectCount 컬럼)로
+   * 계산한 인기 점수 내림차순으로 DB에서 정렬되어 반환됩니다. 메타데이터는 함께 로드됩니다.
    *
    * @param size 반환할 최대 데이터셋 개수
    * @return 도메인 Data와 연결된 프로젝트 수를 포함하는 DTO 목록 (인기도 내림차순, 최대 size)
@@ -308,39 +298,26 @@ public class ReadDataQueryDslAdapter
             .logQueryStart(DATA_ENTITY, "[searchPopularDataSets] 인기있는 데이터셋 목록 조회 시작. size=" + size);
     int queryCount = 0;
 
-    // 1단계: 데이터셋 조회 (다운로드 수 기준으로 먼저 정렬)
+    // 1단계: 인기도 점수(다운로드 수 * 2.0 + 프로젝트 수 * 1.5) 기준으로 DB에서 정렬해 상위 size개 조회
     List<DataEntity> dataEntities =
         queryFactory
             .selectFrom(data)
             .join(data.metadata)
             .fetchJoin() // 1:1/필수면 join으로 명확히
-            .orderBy(data.downloadCount.desc()) // 다운로드 수 기준으로 먼저 정렬
+            .orderBy(
+                DataPopularOrderBuilder.popularScore(data, data.projectCount).desc(),
+                data.id.desc())
             .limit(size)
             .fetch();
     queryCount++; // 메인 쿼리
 
-    // 2단계: 배치로 프로젝트 수 조회 (1개 쿼리)
-    List<Long> dataIds = dataEntities.stream().map(DataEntity::getId).toList();
-    Map<Long, Long> projectCounts = getProjectCountsBatch(dataIds);
-    queryCount++; // 배치 쿼리
-
-    // 3단계: DTO 조합 및 실제 인기도 점수로 재정렬 (메모리에서 처리)
+    // 2단계: DTO 조합 (프로젝트 수는 projectCount 컬럼 사용)
     List<DataWithProjectCountDto> result =
         dataEntities.stream()
             .map(
                 entity ->
                     new DataWithProjectCountDto(
-                        DataEntityMapper.toDomain(entity),
-                        projectCounts.getOrDefault(entity.getId(), 0L)))
-            .sorted(
-                (a, b) -> {
-                  // 인기도 점수 계산: 다운로드 수 * 2.0 + 프로젝트 수 * 1.5
-                  double scoreA =
-                      a.data().getDownloadCount() * 2.0 + a.countConnectedProjects() * 1.5;
-                  double scoreB =
-                      b.data().getDownloadCount() * 2.0 + b.countConnectedProjects() * 1.5;
-                  return Double.compare(scoreB, scoreA);
-                })
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
             .toList();
 
     LoggerFactory.query()
@@ -387,22 +364,16 @@ public class ReadDataQueryDslAdapter
             .fetch();
     queryCount++; // 메인 쿼리
 
-    // 2단계: 배치로 프로젝트 수 조회 (1개 쿼리)
-    List<Long> dataIds = dataEntities.stream().map(DataEntity::getId).toList();
-    Map<Long, Long> projectCounts = getProjectCountsBatch(dataIds);
-    queryCount++; // 배치 쿼리
-
-    // 3단계: DTO 조합 (메모리에서 처리)
+    // 2단계: DTO 조합 (프로젝트 수는 projectCount 컬럼 사용)
     List<DataWithProjectCountDto> contents =
         dataEntities.stream()
             .map(
                 entity ->
                     new DataWithProjectCountDto(
-                        DataEntityMapper.toDomain(entity),
-                        projectCounts.getOrDefault(entity.getId(), 0L)))
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
             .toList();
 
-    // 4단계: 총 개수 조회 (1개 쿼리)
+    // 3단계: 총 개수 조회 (1개 쿼리)
     long total =
         Optional.ofNullable(
                 queryFactory
@@ -424,20 +395,66 @@ public class ReadDataQueryDslAdapter
     return new PageImpl<>(contents, effectivePageable, total);
   }
 
-  /** 배치로 프로젝트 수를 조회합니다. */
-  private Map<Long, Long> getProjectCountsBatch(List<Long> dataIds) {
-    if (dataIds.isEmpty()) return Collections.emptyMap();
-
-    return queryFactory
-        .select(projectData.dataId, projectData.id.count())
-        .from(projectData)
-        .where(projectData.dataId.in(dataIds))
-        .groupBy(projectData.dataId)
-        .fetch()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                tuple -> tuple.get(projectData.dataId),
-                tuple -> tuple.get(projectData.id.count())));
+  /**
+   * 지정한 사용자가 업로드한 데이터셋을 (생성일, ID) keyset 커서로 최신순 조회합니다.
+   *
+   * <p>OFFSET 없이 직전 페이지 마지막 위치 이후만 탐색하므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회됩니다. 전체 개수는 첫 페이지(cursor ==
+   * null)에서만 계산합니다.
+   *
+   * @param userId 조회할 사용자 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 데이터셋과 프로젝트 수를 담은 커서 페이지
+   */
+  @Override
+  public CursorPage<DataWithProjectCountDto> findUserDataSetsByCursor(
+      Long userId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                DATA_ENTITY, "[findUserDataSetsByCursor] 회원이 업로드한 데이터셋 커서 조회 시작. userId=" + userId);
+
+    List<DataEntity> dataEntities =
+        queryFactory
+            .selectFrom(data)
+            .leftJoin(data.metadata)
+            .fetchJoin()
+            .where(
+                DataFilterPredicate.notDeleted(),
+                DataFilterPredicate.userIdEq(userId),
+                KeysetPagination.after(data.createdAt, data.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(data.createdAt, data.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(data.id.count())
+                        .from(data)
+                        .where(
+                            DataFilterPredicate.notDeleted(), DataFilterPredicate.userIdEq(userId))
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<DataWithProjectCountDto> page =
+        KeysetPagination.toCursorPage(
+                dataEntities,
+                size,
+                entity -> new CreatedAtCursor(entity.getCreatedAt(), entity.getId()),
+                total)
+            .map(
+                entity ->
+                    new DataWithProjectCountDto(
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()));
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            DATA_ENTITY,
+            "[findUserDataSetsByCursor] 회원이 업로드한 데이터셋 커서 조회 완료. userId=" + userId,
+            startTime);
+    return page;
   }
 }
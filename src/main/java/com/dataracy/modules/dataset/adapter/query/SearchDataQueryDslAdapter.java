@@ -1,11 +1,10 @@
 package com.dataracy.modules.dataset.adapter.query;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,7 +22,6 @@ import com.dataracy.modules.dataset.application.dto.request.search.FilteringData
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataSetsPort;
 import com.dataracy.modules.dataset.domain.enums.DataSortType;
-import com.dataracy.modules.project.adapter.jpa.entity.QProjectDataEntity;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -38,12 +36,13 @@ public class SearchDataQueryDslAdapter implements SearchFilteredDataSetsPort {
   private static final String DATA_ENTITY = "DataEntity";
 
   private static final QDataEntity data = QDataEntity.dataEntity;
-  private static final QProjectDataEntity projectData = QProjectDataEntity.projectDataEntity;
 
   /**
-   * 필터 조건과 정렬 기준에 따라 데이터셋 목록을 페이지 단위로 조회합니다.
+   * 키워드 없는 필터 조건과 정렬 기준에 따라 데이터셋 목록을 페이지 단위로 조회합니다.
    *
-   * <p>각 데이터셋에 연관된 프로젝트 개수를 포함하여, 필터링, 정렬, 페이징이 모두 적용된 결과를 반환합니다.
+   * <p>각 데이터셋에 연관된 프로젝트 개수를 포함하여, 필터링, 정렬, 페이징이 모두 적용된 결과를 반환합니다. 프로젝트 개수는 data 테이블에 유지되는
+   * projectCount 컬럼을 사용하므로 UTILIZE 정렬도 DB에서 페이징 전에 적용됩니다. 키워드 검색은 검색 인덱스가 담당하므로 여기서는 키워드 조건을 적용하지
+   * 않습니다.
    *
    * @param request 데이터셋 필터링 조건이 담긴 요청 객체
    * @param pageable 페이지 정보 및 크기
@@ -59,39 +58,25 @@ public class SearchDataQueryDslAdapter implements SearchFilteredDataSetsPort {
                 DATA_ENTITY, "[searchByFilters] 필터링된 데이터셋 목록 조회 시작. keyword=" + request.keyword());
     int queryCount = 0;
 
-    // 3단계: 배치 처리 방식 (최적화)
     List<DataEntity> dataEntities =
         queryFactory
             .selectFrom(data)
             .leftJoin(data.metadata)
             .fetchJoin()
             .where(buildFilterPredicates(request))
-            .orderBy(DataSortBuilder.fromSortOption(sortType, null))
+            .orderBy(DataSortBuilder.fromSortOption(sortType, data.projectCount))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
     queryCount++; // 메인 쿼리 (데이터 조회)
 
-    // 배치로 프로젝트 수 조회 (N+1 문제 해결)
-    List<Long> dataIds = dataEntities.stream().map(DataEntity::getId).toList();
-    Map<Long, Long> projectCounts = getProjectCountsBatch(dataIds);
-    queryCount++; // 배치 쿼리 1개
-
-    // DTO 조합 및 프로젝트 수에 따른 메모리 정렬
+    // DTO 조합 (프로젝트 수는 엔티티의 projectCount 컬럼 사용)
     List<DataWithProjectCountDto> contents =
         dataEntities.stream()
             .map(
                 entity ->
                     new DataWithProjectCountDto(
-                        DataEntityMapper.toDomain(entity),
-                        projectCounts.getOrDefault(entity.getId(), 0L)))
-            .sorted(
-                (a, b) -> { // 프로젝트 수 정렬은 메모리에서 처리
-                  if (sortType == DataSortType.UTILIZE) { // UTILIZE는 프로젝트 수 기준 정렬을 의미
-                    return Long.compare(b.countConnectedProjects(), a.countConnectedProjects());
-                  }
-                  return 0; // 다른 정렬 타입은 DB에서 이미 처리됨
-                })
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
             .toList();
 
     // 총 개수 조회
@@ -118,32 +103,61 @@ public class SearchDataQueryDslAdapter implements SearchFilteredDataSetsPort {
     return new PageImpl<>(contents, pageable, total);
   }
 
-  /** 배치로 프로젝트 수를 조회합니다. */
-  private Map<Long, Long> getProjectCountsBatch(List<Long> dataIds) {
-    if (dataIds.isEmpty()) return Collections.emptyMap();
-
-    return queryFactory
-        .select(projectData.dataId, projectData.id.count())
-        .from(projectData)
-        .where(projectData.dataId.in(dataIds))
-        .groupBy(projectData.dataId)
-        .fetch()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                tuple -> tuple.get(projectData.dataId),
-                tuple -> tuple.get(projectData.id.count())));
+  /**
+   * 주어진 ID 목록의 데이터셋을 메타데이터와 함께 한 번의 쿼리로 조회하고 입력 순서대로 정렬해 반환합니다.
+   *
+   * <p>IN 조회 결과는 순서가 보장되지 않으므로 검색 인덱스가 정한 순서로 복원합니다. 조회되지 않은 ID(이미 삭제된 데이터셋 등)는 결과에서 제외됩니다.
+   *
+   * @param dataIds 조회할 데이터셋 ID 목록 (반환 순서 기준)
+   * @return 입력 순서를 유지한 데이터셋과 프로젝트 수 목록
+   */
+  @Override
+  public List<DataWithProjectCountDto> findAllByIdsInOrder(List<Long> dataIds) {
+    if (dataIds == null || dataIds.isEmpty()) {
+      return List.of();
+    }
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                DATA_ENTITY, "[findAllByIdsInOrder] ID 목록으로 데이터셋 조회 시작. size=" + dataIds.size());
+
+    List<DataEntity> dataEntities =
+        queryFactory
+            .selectFrom(data)
+            .leftJoin(data.metadata)
+            .fetchJoin()
+            .where(data.id.in(dataIds))
+            .fetch();
+
+    var order = new HashMap<Long, Integer>(dataIds.size());
+    for (int i = 0; i < dataIds.size(); i++) {
+      order.put(dataIds.get(i), i);
+    }
+    List<DataWithProjectCountDto> contents =
+        dataEntities.stream()
+            .sorted(Comparator.comparingInt(e -> order.get(e.getId())))
+            .map(
+                entity ->
+                    new DataWithProjectCountDto(
+                        DataEntityMapper.toDomain(entity), entity.getProjectCount()))
+            .toList();
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            DATA_ENTITY,
+            "[findAllByIdsInOrder] ID 목록으로 데이터셋 조회 완료. dataSize=" + contents.size(),
+            startTime);
+    return contents;
   }
 
   /**
    * FilteringDataRequest의 조건에 따라 데이터셋 필터링에 사용할 QueryDSL BooleanExpression 배열을 생성합니다.
    *
-   * @param request 데이터셋 필터링에 필요한 키워드, 주제 ID, 데이터 소스 ID, 데이터 타입 ID, 연도 범위 등의 조건이 포함된 요청 객체
+   * @param request 데이터셋 필터링에 필요한 주제 ID, 데이터 소스 ID, 데이터 타입 ID, 연도 범위 등의 조건이 포함된 요청 객체
    * @return 각 필터 조건에 대응하는 BooleanExpression 배열
    */
   private BooleanExpression[] buildFilterPredicates(FilteringDataRequest request) {
     return new BooleanExpression[] {
-      DataFilterPredicate.keywordContains(request.keyword()),
       DataFilterPredicate.topicIdEq(request.topicId()),
       DataFilterPredicate.dataSourceIdEq(request.dataSourceId()),
       DataFilterPredicate.dataTypeIdEq(request.dataTypeId()),
@@ -13,7 +13,8 @@ public final class DataSortBuilder {
    * 주어진 정렬 옵션에 따라 데이터 쿼리의 정렬 기준 배열을 반환합니다.
    *
    * @param sort 데이터 정렬 기준을 지정하는 열거형 값입니다. null이면 생성일 기준 내림차순으로 정렬합니다.
-   * @param projectCountPath 프로젝트 수를 나타내는 NumberPath로, UTILIZE 정렬 옵션에서 사용됩니다.
+   * @param projectCountPath 프로젝트 수를 나타내는 NumberPath로, UTILIZE 정렬 옵션에서 사용됩니다. null이면 data 테이블의
+   *     projectCount 컬럼을 사용합니다.
    * @return 지정된 정렬 옵션에 따른 OrderSpecifier 배열
    */
   @SuppressWarnings("rawtypes")
@@ -28,7 +29,10 @@ public final class DataSortBuilder {
       case LATEST -> new OrderSpecifier[] {data.createdAt.desc()};
       case OLDEST -> new OrderSpecifier[] {data.createdAt.asc()};
       case DOWNLOAD -> new OrderSpecifier[] {data.downloadCount.desc()};
-      case UTILIZE -> new OrderSpecifier[] {projectCountPath.desc()};
+      case UTILIZE ->
+          new OrderSpecifier[] {
+            (projectCountPath != null ? projectCountPath : data.projectCount).desc()
+          };
     };
   }
 }
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 import com.dataracy.modules.common.support.annotation.CurrentUserId;
 import com.dataracy.modules.dataset.adapter.web.response.read.*;
@@ -22,6 +23,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 @Tag(name = "Data - Read", description = "데이터셋 관련 API - 조회")
@@ -147,4 +149,34 @@ public interface DataReadApi {
   ResponseEntity<SuccessResponse<Page<UserDataWebResponse>>> findUserDataSets(
       @Parameter(hidden = true) @CurrentUserId Long userId,
       @PageableDefault(size = 5, page = 0) Pageable pageable);
+
+  /**
+   * 로그인한 회원이 업로드한 데이터셋을 커서 기반으로 최신순 조회합니다.
+   *
+   * @param userId 현재 인증된 회원의 ID (컨트롤러에서 주입됨)
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 5)
+   * @return 업로드한 데이터셋 커서 페이지를 담은 성공 응답 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "로그인한 회원이 업로드한 데이터셋 리스트를 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @Parameter(
+      in = ParameterIn.HEADER,
+      name = "Authorization",
+      required = true,
+      schema = @Schema(type = "string"),
+      description = "Bearer [Access 토큰]")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "로그인한 회원이 업로드한 데이터셋 리스트를 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/me/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<UserDataWebResponse>>> findUserDataSetsByCursor(
+      @Parameter(hidden = true) @CurrentUserId Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size);
 }
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.dataset.adapter.web.mapper.read.DataReadWebMapper;
@@ -192,4 +193,33 @@ public class DataReadController implements DataReadApi {
     return ResponseEntity.status(HttpStatus.OK)
         .body(SuccessResponse.of(DataSuccessStatus.GET_USER_DATASETS, webResponse));
   }
+
+  /**
+   * 특정 사용자가 업로드한 데이터셋을 커서 기반으로 조회하여 반환합니다.
+   *
+   * @param userId 조회할 사용자의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return HTTP 200 상태와 함께 UserDataWebResponse 커서 페이지를 담은 ResponseEntity
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<UserDataWebResponse>>>
+      findUserDataSetsByCursor(Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api()
+            .logRequest("[FindUserDataSetsByCursor] 로그인한 회원이 업로드한 데이터셋 커서 조회 API 요청 시작");
+    CursorPage<UserDataWebResponse> webResponse;
+
+    try {
+      CursorPage<UserDataResponse> responseDto =
+          findUserDataSetsUseCase.findUserDataSetsByCursor(userId, cursor, size);
+      webResponse = responseDto.map(dataReadWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindUserDataSetsByCursor] 로그인한 회원이 업로드한 데이터셋 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(DataSuccessStatus.GET_USER_DATASETS, webResponse));
+  }
 }
@@ -29,6 +29,7 @@ public record DataSearchDocument(
     String dataFileUrl,
     String dataThumbnailUrl,
     int downloadCount,
+    Long projectCount,
     Long sizeBytes,
     Integer rowCount,
     Integer columnCount,
@@ -40,6 +41,7 @@ public record DataSearchDocument(
    *
    * <p>데이터의 주요 속성(식별자, 제목, 시간 범위 등), 메타데이터(row/column/previewJson) 및 라벨(topic, 사용자, 소스/타입 라벨 등)을
    * 통합하여 빌더로 구성된 DataSearchDocument 인스턴스를 반환합니다. 반환된 문서는 isDeleted가 false로 설정됩니다.
+   * projectCount는 데이터에 누적된 값을 그대로 사용하므로 파일 교체 등으로 재색인되어도 0으로 초기화되지 않습니다.
    *
    * @param data 데이터의 기본 속성을 가진 엔티티
    * @param dataMetadata 행/열 수 및 미리보기 JSON을 포함하는 메타데이터
@@ -67,6 +69,7 @@ public record DataSearchDocument(
         .dataFileUrl(data.getDataFileUrl())
         .dataThumbnailUrl(data.getDataThumbnailUrl())
         .downloadCount(data.getDownloadCount())
+        .projectCount(data.getProjectCount() == null ? 0L : data.getProjectCount())
         .sizeBytes(data.getSizeBytes())
         .rowCount(dataMetadata.getRowCount())
         .columnCount(dataMetadata.getColumnCount())
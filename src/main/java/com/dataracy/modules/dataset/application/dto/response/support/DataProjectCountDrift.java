@@ -0,0 +1,10 @@
+package com.dataracy.modules.dataset.application.dto.response.support;
+
+/**
+ * 저장된 프로젝트 수와 실제 프로젝트 연결 수가 어긋난 데이터
+ *
+ * @param dataId 데이터 ID
+ * @param storedCount data 테이블에 저장된 프로젝트 수
+ * @param actualCount project_data 테이블 기준 실제 연결 수
+ */
+public record DataProjectCountDrift(Long dataId, long storedCount, long actualCount) {}
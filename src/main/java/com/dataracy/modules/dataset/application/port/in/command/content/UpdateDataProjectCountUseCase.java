@@ -0,0 +1,31 @@
+package com.dataracy.modules.dataset.application.port.in.command.content;
+
+import java.util.Collection;
+
+public interface UpdateDataProjectCountUseCase {
+  /**
+   * 프로젝트에 새로 연결된 데이터들의 연결된 프로젝트 수를 1씩 증가시킵니다.
+   *
+   * @param dataIds 연결된 데이터 ID 목록
+   */
+  void increaseProjectCount(Collection<Long> dataIds);
+
+  /**
+   * 프로젝트와의 연결이 해제된 데이터들의 연결된 프로젝트 수를 1씩 감소시킵니다.
+   *
+   * @param dataIds 연결이 해제된 데이터 ID 목록
+   */
+  void decreaseProjectCount(Collection<Long> dataIds);
+
+  /**
+   * 실제 프로젝트 연결 수와 어긋난 데이터의 프로젝트 수를 보정합니다.
+   *
+   * <p>저장된 값이 조회 시점과 같을 때만 교체하므로, 그 사이 연결 변경이 반영된 데이터는 건드리지 않습니다.
+   *
+   * @param dataId 보정할 데이터 ID
+   * @param expected 조회 시점에 저장되어 있던 프로젝트 수
+   * @param actual 실제 연결된 프로젝트 수
+   * @return 보정 여부
+   */
+  boolean correctProjectCount(Long dataId, long expected, long actual);
+}
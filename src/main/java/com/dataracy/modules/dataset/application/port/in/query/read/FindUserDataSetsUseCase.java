@@ -3,6 +3,7 @@ package com.dataracy.modules.dataset.application.port.in.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.dataset.application.dto.response.read.UserDataResponse;
 
 public interface FindUserDataSetsUseCase {
@@ -16,4 +17,14 @@ public interface FindUserDataSetsUseCase {
    * @return 지정된 페이지에 해당하는 UserDataResponse 항목들을 담은 Page 객체
    */
   Page<UserDataResponse> findUserDataSets(Long userId, Pageable pageable);
+
+  /**
+   * 지정한 사용자의 데이터셋 목록을 커서 기반으로 최신순 조회합니다.
+   *
+   * @param userId 조회할 사용자의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 사용자 데이터셋 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<UserDataResponse> findUserDataSetsByCursor(Long userId, String cursor, int size);
 }
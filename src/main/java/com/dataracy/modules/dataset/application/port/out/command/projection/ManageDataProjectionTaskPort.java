@@ -1,5 +1,7 @@
 package com.dataracy.modules.dataset.application.port.out.command.projection;
 
+import java.time.LocalDateTime;
+
 public interface ManageDataProjectionTaskPort {
   /**
    * 지정된 데이터 투영의 삭제 상태를 갱신하는 작업을 큐에 등록한다.
@@ -21,6 +23,14 @@ public interface ManageDataProjectionTaskPort {
    */
   void enqueueDownloadDelta(Long dataId, int deltaDownload);
 
+  /**
+   * 데이터 프로젝션의 연결된 프로젝트 수 증감 작업을 큐에 등록한다.
+   *
+   * @param dataId 대상 데이터의 식별자
+   * @param deltaProjectCount 적용할 프로젝트 수 증감량(양수: 연결 추가, 음수: 연결 해제)
+   */
+  void enqueueProjectCountDelta(Long dataId, int deltaProjectCount);
+
   /**
    * 지정한 ID의 데이터 ES 프로젝션 작업을 삭제합니다.
    *
@@ -29,4 +39,15 @@ public interface ManageDataProjectionTaskPort {
    * @param dataEsProjectionTaskId 삭제할 데이터 ES 프로젝션 작업의 식별자
    */
   void delete(Long dataEsProjectionTaskId);
+
+  /**
+   * 실패한 데이터 ES 프로젝션 작업을 재시도 대기(RETRYING) 상태로 갱신합니다.
+   *
+   * @param dataEsProjectionTaskId 갱신할 데이터 ES 프로젝션 작업의 식별자
+   * @param retryCount 누적 재시도 횟수
+   * @param lastError 마지막 실패 사유
+   * @param nextRunAt 다음 실행 시각
+   */
+  void markRetry(
+      Long dataEsProjectionTaskId, int retryCount, String lastError, LocalDateTime nextRunAt);
 }
@@ -0,0 +1,25 @@
+package com.dataracy.modules.dataset.application.port.out.command.update;
+
+import java.util.List;
+
+import com.dataracy.modules.dataset.application.dto.response.support.DataProjectCountDrift;
+
+public interface ReconcileDataProjectCountPort {
+  /**
+   * 저장된 프로젝트 수가 실제 프로젝트 연결 수와 다른 데이터를 조회합니다.
+   *
+   * @param limit 최대 조회 건수
+   * @return 보정이 필요한 데이터 목록
+   */
+  List<DataProjectCountDrift> findProjectCountDrifts(int limit);
+
+  /**
+   * 저장된 프로젝트 수가 예상 값과 같을 때만 실제 값으로 교체합니다.
+   *
+   * @param dataId 대상 데이터 ID
+   * @param expected 조회 시점에 저장되어 있던 프로젝트 수
+   * @param actual 실제 연결된 프로젝트 수
+   * @return 교체 여부 (조회 이후 값이 바뀌었다면 false)
+   */
+  boolean correctProjectCount(Long dataId, long expected, long actual);
+}
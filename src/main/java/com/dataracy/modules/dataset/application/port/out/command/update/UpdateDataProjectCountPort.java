@@ -0,0 +1,11 @@
+package com.dataracy.modules.dataset.application.port.out.command.update;
+
+public interface UpdateDataProjectCountPort {
+  /**
+   * 데이터에 연결된 프로젝트 수를 증감합니다.
+   *
+   * @param dataId 대상 데이터 ID
+   * @param delta 증감량 (양수: 연결 추가, 음수: 연결 해제)
+   */
+  void adjustProjectCount(Long dataId, int delta);
+}
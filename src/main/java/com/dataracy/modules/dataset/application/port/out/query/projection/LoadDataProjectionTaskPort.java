@@ -2,6 +2,7 @@ package com.dataracy.modules.dataset.application.port.out.query.projection;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 
@@ -21,4 +22,35 @@ public interface LoadDataProjectionTaskPort {
    */
   List<DataEsProjectionTaskEntity> findBatchForWork(
       LocalDateTime now, List<DataEsProjectionType> statuses, Pageable pageable);
+
+  /**
+   * 처리할 데이터 프로젝션 태스크 배치를 선점한다.
+   *
+   * <p>여러 노드와 스레드가 동시에 호출해도 서로 겹치지 않는 작업을 반환하며, 선점된 작업은 leaseUntil 전까지 다른 호출의 결과에 포함되지 않는다.
+   *
+   * @param now 조회 기준 시각
+   * @param statuses 포함할 프로젝션 타입(상태)들의 목록
+   * @param pageable 배치 크기 및 정렬 정보
+   * @param leaseUntil 선점 임대 만료 시각
+   * @return 선점된 DataEsProjectionTaskEntity 목록
+   */
+  List<DataEsProjectionTaskEntity> claimBatchForWork(
+      LocalDateTime now,
+      List<DataEsProjectionType> statuses,
+      Pageable pageable,
+      LocalDateTime leaseUntil);
+
+  /**
+   * 큐에 남아 있는 작업 수를 조회한다.
+   *
+   * @return 대기 및 처리 중인 작업 수
+   */
+  long countQueued();
+
+  /**
+   * 큐에서 가장 오래된 작업의 생성 시각을 조회한다.
+   *
+   * @return 가장 오래된 작업의 생성 시각 (큐가 비어 있으면 empty)
+   */
+  Optional<LocalDateTime> findOldestQueuedAt();
 }
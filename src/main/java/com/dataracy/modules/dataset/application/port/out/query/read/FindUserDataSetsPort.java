@@ -3,6 +3,8 @@ package com.dataracy.modules.dataset.application.port.out.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
 
 public interface FindUserDataSetsPort {
@@ -16,4 +18,15 @@ public interface FindUserDataSetsPort {
    * @return 사용자의 데이터셋을 담은 Page&lt;DataWithProjectCountDto&gt;
    */
   Page<DataWithProjectCountDto> findUserDataSets(Long userId, Pageable pageable);
+
+  /**
+   * 지정한 사용자에 속한 데이터셋을 (생성일, ID) 커서 기반으로 최신순 조회한다.
+   *
+   * @param userId 조회할 사용자의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 사용자의 데이터셋 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<DataWithProjectCountDto> findUserDataSetsByCursor(
+      Long userId, CreatedAtCursor cursor, int size);
 }
@@ -0,0 +1,22 @@
+package com.dataracy.modules.dataset.application.port.out.query.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.dataracy.modules.dataset.application.dto.request.search.FilteringDataRequest;
+import com.dataracy.modules.dataset.domain.enums.DataSortType;
+
+public interface SearchFilteredDataIdsPort {
+  /**
+   * 키워드를 포함한 필터 조건으로 검색 인덱스에서 데이터셋 ID를 정렬·페이지네이션하여 조회합니다.
+   *
+   * <p>반환되는 페이지는 정렬된 ID 목록과 전체 일치 건수만 담으며, 데이터셋 본문은 호출 측이 ID로 다시 조회합니다.
+   *
+   * @param request 키워드와 필터 조건이 담긴 요청 객체
+   * @param pageable 페이지네이션 정보
+   * @param sortType 데이터셋 정렬 기준
+   * @return 정렬된 데이터셋 ID와 전체 건수를 담은 페이지
+   */
+  Page<Long> searchIdsByFilters(
+      FilteringDataRequest request, Pageable pageable, DataSortType sortType);
+}
@@ -1,5 +1,7 @@
 package com.dataracy.modules.dataset.application.port.out.query.search;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,7 +11,7 @@ import com.dataracy.modules.dataset.domain.enums.DataSortType;
 
 public interface SearchFilteredDataSetsPort {
   /**
-   * 필터 조건, 페이지네이션, 정렬 기준에 따라 데이터셋을 검색하여 프로젝트 수 정보를 포함한 결과를 페이지 형태로 반환합니다.
+   * 키워드 없는 필터 조건, 페이지네이션, 정렬 기준에 따라 데이터셋을 검색하여 프로젝트 수 정보를 포함한 결과를 페이지 형태로 반환합니다.
    *
    * @param request 데이터셋 필터링 조건이 포함된 요청 객체
    * @param pageable 페이지네이션 정보
@@ -18,4 +20,14 @@ public interface SearchFilteredDataSetsPort {
    */
   Page<DataWithProjectCountDto> searchByFilters(
       FilteringDataRequest request, Pageable pageable, DataSortType sortType);
+
+  /**
+   * 검색 인덱스가 정한 순서대로 데이터셋과 프로젝트 수를 한 번에 조회합니다.
+   *
+   * <p>인덱스와 DB 사이의 반영 지연으로 이미 삭제된 데이터셋은 결과에서 빠집니다.
+   *
+   * @param dataIds 조회할 데이터셋 ID 목록 (반환 순서 기준)
+   * @return 입력 순서를 유지한 데이터셋과 프로젝트 수 목록
+   */
+  List<DataWithProjectCountDto> findAllByIdsInOrder(List<Long> dataIds);
 }
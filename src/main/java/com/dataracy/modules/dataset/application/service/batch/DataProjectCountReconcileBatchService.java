@@ -0,0 +1,63 @@
+package com.dataracy.modules.dataset.application.service.batch;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.scheduling.LeaderOnly;
+import com.dataracy.modules.dataset.application.dto.response.support.DataProjectCountDrift;
+import com.dataracy.modules.dataset.application.port.in.command.content.UpdateDataProjectCountUseCase;
+import com.dataracy.modules.dataset.application.port.out.command.update.ReconcileDataProjectCountPort;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 데이터의 연결된 프로젝트 수(projectCount)를 실제 프로젝트 연결 수와 주기적으로 맞추는 배치 서비스
+ *
+ * <p>카운터는 프로젝트 연결 변경과 같은 트랜잭션에서 증감되지만, 프로젝트 삭제 등 증감을 거치지 않는 경로나 동시 수정으로 생긴 오차를 이 배치가 보정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataProjectCountReconcileBatchService {
+
+  private final ReconcileDataProjectCountPort reconcileDataProjectCountPort;
+  private final UpdateDataProjectCountUseCase updateDataProjectCountUseCase;
+
+  @Value("${dataset.project-count.reconcile-batch-size:500}")
+  private int batchSize;
+
+  // Service 상수 정의
+  private static final String RECONCILE_BATCH_SERVICE = "DataProjectCountReconcileBatchService";
+
+  /** 저장된 프로젝트 수가 실제 연결 수와 다른 데이터를 찾아 보정합니다. 기본 주기는 1시간입니다. */
+  @LeaderOnly
+  @Scheduled(
+      fixedDelayString = "${dataset.project-count.reconcile-interval-ms:3600000}",
+      scheduler = "batchTaskScheduler")
+  public void reconcileProjectCounts() {
+    LoggerFactory.scheduler().logStart(RECONCILE_BATCH_SERVICE);
+
+    try {
+      List<DataProjectCountDrift> drifts =
+          reconcileDataProjectCountPort.findProjectCountDrifts(batchSize);
+
+      int corrected = 0;
+      for (DataProjectCountDrift drift : drifts) {
+        if (updateDataProjectCountUseCase.correctProjectCount(
+            drift.dataId(), drift.storedCount(), drift.actualCount())) {
+          corrected++;
+        }
+      }
+
+      LoggerFactory.scheduler()
+          .logComplete(
+              RECONCILE_BATCH_SERVICE + " - drift=" + drifts.size() + ", corrected=" + corrected);
+
+    } catch (Exception e) {
+      LoggerFactory.scheduler().logError(RECONCILE_BATCH_SERVICE, e);
+    }
+  }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.scheduling.LeaderOnly;
 import com.dataracy.modules.dataset.application.dto.response.read.PopularDataResponse;
 import com.dataracy.modules.dataset.application.dto.response.support.DataLabelMapResponse;
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
@@ -38,7 +39,8 @@ public class PopularDataSetsBatchService implements UpdatePopularDataSetsStorage
    *
    * <p>실제 운영에서는 더 긴 주기(예: 30분)로 설정할 수 있습니다.
    */
-  @Scheduled(fixedRate = 300000) // 5분 = 300,000ms
+  @LeaderOnly
+  @Scheduled(fixedRate = 300000, scheduler = "batchTaskScheduler") // 5분 = 300,000ms
   public void updatePopularDataSetsCache() {
     LoggerFactory.scheduler().logStart(POPULAR_DATASETS_BATCH_SERVICE);
 
@@ -0,0 +1,97 @@
+package com.dataracy.modules.dataset.application.service.command;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.dataset.application.port.in.command.content.UpdateDataProjectCountUseCase;
+import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionTaskPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.ReconcileDataProjectCountPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
+
+@Service
+public class DataProjectCountService implements UpdateDataProjectCountUseCase {
+  private final UpdateDataProjectCountPort updateDataProjectCountDbPort;
+  private final ReconcileDataProjectCountPort reconcileDataProjectCountPort;
+  private final ManageDataProjectionTaskPort manageDataProjectionTaskPort;
+
+  // Use Case 상수 정의
+  private static final String UPDATE_DATA_PROJECT_COUNT_USE_CASE = "UpdateDataProjectCountUseCase";
+
+  /**
+   * 연결된 프로젝트 수 갱신 서비스 인스턴스를 생성합니다.
+   *
+   * <p>DB 카운터 갱신 포트, 카운터 보정 포트, 그리고 Elasticsearch 반영 작업을 등록하는 프로젝션 작업 포트를 주입받습니다.
+   */
+  public DataProjectCountService(
+      @Qualifier("updateDataProjectCountDbAdapter")
+          UpdateDataProjectCountPort updateDataProjectCountDbPort,
+      ReconcileDataProjectCountPort reconcileDataProjectCountPort,
+      ManageDataProjectionTaskPort manageDataProjectionTaskPort) {
+    this.updateDataProjectCountDbPort = updateDataProjectCountDbPort;
+    this.reconcileDataProjectCountPort = reconcileDataProjectCountPort;
+    this.manageDataProjectionTaskPort = manageDataProjectionTaskPort;
+  }
+
+  @Override
+  @Transactional
+  public void increaseProjectCount(Collection<Long> dataIds) {
+    adjustProjectCount(dataIds, 1);
+  }
+
+  @Override
+  @Transactional
+  public void decreaseProjectCount(Collection<Long> dataIds) {
+    adjustProjectCount(dataIds, -1);
+  }
+
+  @Override
+  @Transactional
+  public boolean correctProjectCount(Long dataId, long expected, long actual) {
+    if (!reconcileDataProjectCountPort.correctProjectCount(dataId, expected, actual)) {
+      return false;
+    }
+    manageDataProjectionTaskPort.enqueueProjectCountDelta(dataId, (int) (actual - expected));
+    LoggerFactory.service()
+        .logWarning(
+            UPDATE_DATA_PROJECT_COUNT_USE_CASE,
+            "연결된 프로젝트 수 보정 dataId=" + dataId + ", " + expected + " -> " + actual);
+    return true;
+  }
+
+  /**
+   * 데이터별 카운터를 DB에서 갱신하고, 같은 트랜잭션 안에서 ES 반영 작업을 큐에 등록합니다.
+   *
+   * <p>동시에 여러 프로젝트가 같은 데이터들을 연결/해제할 때 행 잠금 순서가 엇갈려 교착 상태가 생기지 않도록 ID 오름차순으로 갱신합니다.
+   */
+  private void adjustProjectCount(Collection<Long> dataIds, int delta) {
+    if (dataIds == null || dataIds.isEmpty()) {
+      return;
+    }
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                UPDATE_DATA_PROJECT_COUNT_USE_CASE,
+                "연결된 프로젝트 수 갱신 서비스 시작 dataIds=" + dataIds + ", delta=" + delta);
+
+    List<Long> sortedIds = dataIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    for (Long dataId : sortedIds) {
+      // DB만 확정
+      updateDataProjectCountDbPort.adjustProjectCount(dataId, delta);
+      // ES 작업 큐
+      manageDataProjectionTaskPort.enqueueProjectCountDelta(dataId, delta);
+    }
+
+    LoggerFactory.service()
+        .logSuccess(
+            UPDATE_DATA_PROJECT_COUNT_USE_CASE,
+            "연결된 프로젝트 수 갱신 서비스 종료 count=" + sortedIds.size(),
+            startTime);
+  }
+}
@@ -4,9 +4,11 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.dataset.application.dto.request.search.FilteringDataRequest;
@@ -21,6 +23,7 @@ import com.dataracy.modules.dataset.application.port.in.query.search.SearchFilte
 import com.dataracy.modules.dataset.application.port.in.query.search.SearchRealTimeDataSetsUseCase;
 import com.dataracy.modules.dataset.application.port.in.query.search.SearchSimilarDataSetsUseCase;
 import com.dataracy.modules.dataset.application.port.out.query.read.FindDataPort;
+import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataIdsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataSetsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchRealTimeDataSetsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchSimilarDataSetsPort;
@@ -44,6 +47,7 @@ public class DataSearchService
 
   private final SearchSimilarDataSetsPort searchSimilarDataSetsPort;
   private final SearchFilteredDataSetsPort searchFilteredDataSetsPort;
+  private final SearchFilteredDataIdsPort searchFilteredDataIdsPort;
   private final SearchRealTimeDataSetsPort searchRealTimeDataSetsPort;
 
   // Use Case 상수 정의
@@ -95,7 +99,8 @@ public class DataSearchService
    * 반환합니다.
    *
    * <p>상세: - 검색된 데이터들의 라벨 매핑을 조회해 각 데이터 DTO에 사용자명(username), 주제 라벨, 데이터 소스 라벨, 데이터 타입 라벨과 연결된 프로젝트
-   * 수를 포함한 FilteredDataResponse로 변환합니다.
+   * 수를 포함한 FilteredDataResponse로 변환합니다. - 키워드가 있으면 검색 인덱스에서 정렬된 데이터셋 ID와 전체 건수를 얻은 뒤 해당 ID들만 DB에서 한
+   * 번에 조회하고, 키워드가 없으면 DB에서 필터링합니다.
    *
    * @param request 필터 및 정렬 기준을 포함한 검색 요청
    * @param pageable 페이지 번호 및 크기 등 페이지네이션 정보
@@ -113,7 +118,7 @@ public class DataSearchService
 
     DataSortType dataSortType = DataSortType.of(request.sortType());
     Page<DataWithProjectCountDto> savedDataSets =
-        searchFilteredDataSetsPort.searchByFilters(request, pageable, dataSortType);
+        findFilteredDataSets(request, pageable, dataSortType);
     DataLabelMapResponse labelResponse =
         findDataLabelMapUseCase.labelMapping(savedDataSets.getContent());
 
@@ -139,6 +144,19 @@ public class DataSearchService
     return filteredDataResponses;
   }
 
+  /** 키워드 유무에 따라 검색 인덱스 또는 DB 필터링으로 데이터셋 페이지를 조회합니다. */
+  private Page<DataWithProjectCountDto> findFilteredDataSets(
+      FilteringDataRequest request, Pageable pageable, DataSortType dataSortType) {
+    if (!StringUtils.hasText(request.keyword())) {
+      return searchFilteredDataSetsPort.searchByFilters(request, pageable, dataSortType);
+    }
+    Page<Long> idPage =
+        searchFilteredDataIdsPort.searchIdsByFilters(request, pageable, dataSortType);
+    List<DataWithProjectCountDto> dataSets =
+        searchFilteredDataSetsPort.findAllByIdsInOrder(idPage.getContent());
+    return new PageImpl<>(dataSets, pageable, idPage.getTotalElements());
+  }
+
   /**
    * 주어진 키워드로 실시간 데이터셋을 검색하여 최소 정보 목록을 반환합니다.
    *
@@ -3,13 +3,16 @@ package com.dataracy.modules.dataset.application.service.query;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.dataset.application.dto.response.read.UserDataResponse;
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
 import com.dataracy.modules.dataset.application.mapper.read.DataReadDtoMapper;
@@ -56,22 +59,8 @@ public class UserDataReadService implements FindUserDataSetsUseCase {
     Page<DataWithProjectCountDto> savedDataSets =
         findUserDataSetsPort.findUserDataSets(userId, pageable);
 
-    List<Long> topicIds = savedDataSets.stream().map(dto -> dto.data().getTopicId()).toList();
-    List<Long> dataTypeIds = savedDataSets.stream().map(dto -> dto.data().getDataTypeId()).toList();
-
-    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
-    Map<Long, String> dataTypeLabelMap = getDataTypeLabelFromIdUseCase.getLabelsByIds(dataTypeIds);
-
     Page<UserDataResponse> userDataResponses =
-        savedDataSets.map(
-            wrapper -> {
-              Data data = wrapper.data();
-              return dataReadDtoMapper.toResponseDto(
-                  data,
-                  topicLabelMap.get(data.getTopicId()),
-                  dataTypeLabelMap.get(data.getDataTypeId()),
-                  wrapper.countConnectedProjects());
-            });
+        savedDataSets.map(userDataResponseMapper(savedDataSets.getContent()));
 
     LoggerFactory.service()
         .logSuccess(
@@ -80,4 +69,55 @@ public class UserDataReadService implements FindUserDataSetsUseCase {
             startTime);
     return userDataResponses;
   }
+
+  /**
+   * 지정한 사용자가 업로드한 데이터셋 목록을 커서 기반으로 최신순 조회하고, 토픽·데이터 타입 라벨과 연결된 프로젝트 수를 포함한 응답으로 변환한다.
+   *
+   * @param userId 조회할 사용자의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return UserDataResponse 커서 페이지 (전체 개수는 첫 페이지에서만 포함)
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<UserDataResponse> findUserDataSetsByCursor(
+      Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                FIND_USER_DATA_SETS_USE_CASE, "해당 회원이 업로드한 데이터셋 커서 조회 서비스 시작 userId=" + userId);
+
+    CursorPage<DataWithProjectCountDto> savedDataSets =
+        findUserDataSetsPort.findUserDataSetsByCursor(
+            userId, CreatedAtCursor.decode(cursor), size);
+
+    CursorPage<UserDataResponse> userDataResponses =
+        savedDataSets.map(userDataResponseMapper(savedDataSets.content()));
+
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_USER_DATA_SETS_USE_CASE,
+            "해당 회원이 업로드한 데이터셋 커서 조회 서비스 종료 userId=" + userId,
+            startTime);
+    return userDataResponses;
+  }
+
+  /** 조회된 데이터셋들의 토픽·데이터 타입 라벨을 일괄 조회해 응답 변환 함수를 만듭니다. */
+  private Function<DataWithProjectCountDto, UserDataResponse> userDataResponseMapper(
+      List<DataWithProjectCountDto> dataSets) {
+    List<Long> topicIds = dataSets.stream().map(dto -> dto.data().getTopicId()).toList();
+    List<Long> dataTypeIds = dataSets.stream().map(dto -> dto.data().getDataTypeId()).toList();
+
+    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
+    Map<Long, String> dataTypeLabelMap = getDataTypeLabelFromIdUseCase.getLabelsByIds(dataTypeIds);
+
+    return wrapper -> {
+      Data data = wrapper.data();
+      return dataReadDtoMapper.toResponseDto(
+          data,
+          topicLabelMap.get(data.getTopicId()),
+          dataTypeLabelMap.get(data.getDataTypeId()),
+          wrapper.countConnectedProjects());
+    };
+  }
 }
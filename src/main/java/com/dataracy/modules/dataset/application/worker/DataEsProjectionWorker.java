@@ -3,8 +3,13 @@ package com.dataracy.modules.dataset.application.worker;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -12,14 +17,20 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.metrics.ProjectionQueueMetrics;
+import com.dataracy.modules.common.support.scheduling.LeaderOnly;
 import com.dataracy.modules.dataset.adapter.jpa.entity.DataEsProjectionTaskEntity;
 import com.dataracy.modules.dataset.application.port.out.command.delete.SoftDeleteDataPort;
 import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionDlqPort;
 import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionTaskPort;
 import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataDownloadPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
 import com.dataracy.modules.dataset.application.port.out.query.projection.LoadDataProjectionTaskPort;
 import com.dataracy.modules.dataset.domain.enums.DataEsProjectionType;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Component
 public class DataEsProjectionWorker {
   private final ManageDataProjectionTaskPort manageDataProjectionTaskPort;
@@ -29,30 +40,86 @@ public class DataEsProjectionWorker {
   // ES 어댑터들 (Qualifier로 ES 구현 주입)
   private final SoftDeleteDataPort softDeleteDataEsPort;
   private final UpdateDataDownloadPort updateDataDownloadEsPort;
+  private final UpdateDataProjectCountPort updateDataProjectCountEsPort;
+
+  private final ProjectionQueueMetrics projectionQueueMetrics;
+
+  // 노드당 동시에 큐를 비우는 스레드 수 (각 스레드는 서로 겹치지 않는 배치를 선점)
+  @Value("${dataset.es-projection.worker-threads:1}")
+  private int workerThreads;
+
+  // 선점한 작업을 다른 워커로부터 숨겨 두는 시간(초). 처리 중 종료된 워커의 작업은 이 시간 이후 재처리
+  @Value("${dataset.es-projection.lease-seconds:60}")
+  private long leaseSeconds;
+
+  private ExecutorService drainExecutor;
 
   // Self-injection: Spring 프록시를 통해 REQUIRES_NEW 트랜잭션이 작동하도록 함
   private DataEsProjectionWorker self;
 
+  private static final String QUEUE_NAME = "data";
   private static final int BATCH = 100;
+  private static final int MAX_ROUNDS_PER_RUN = 10;
   private static final int MAX_RETRY = 8;
+  private static final long DEFAULT_LEASE_SECONDS = 60;
 
   /**
    * DataEsProjectionWorker 인스턴스를 생성합니다.
    *
-   * <p>생성자에 주입된 포트들은 Elasticsearch 기반 데이터 프로젝션 작업의 로드·처리·DLQ 관리, soft-delete 및 다운로드 카운트 업데이트에
-   * 사용됩니다. 특히 `softDeleteDataEsPort`와 `updateDataDownloadEsPort`는 각각 ES 구현으로 주입됩니다.
+   * <p>생성자에 주입된 포트들은 Elasticsearch 기반 데이터 프로젝션 작업의 로드·처리·DLQ 관리, soft-delete 및
+   * 다운로드·프로젝트 수 업데이트에 사용됩니다. 특히 `softDeleteDataEsPort`, `updateDataDownloadEsPort`,
+   * `updateDataProjectCountEsPort`는 각각 ES 구현으로 주입됩니다.
    */
   public DataEsProjectionWorker(
       ManageDataProjectionTaskPort manageDataProjectionTaskPort,
       LoadDataProjectionTaskPort loadDataProjectionTaskPort,
       ManageDataProjectionDlqPort manageDataProjectionDlqPort,
       @Qualifier("softDeleteDataEsAdapter") SoftDeleteDataPort softDeleteDataEsPort,
-      @Qualifier("updateDataDownloadEsAdapter") UpdateDataDownloadPort updateDataDownloadEsPort) {
+      @Qualifier("updateDataDownloadEsAdapter") UpdateDataDownloadPort updateDataDownloadEsPort,
+      @Qualifier("updateDataProjectCountEsAdapter")
+          UpdateDataProjectCountPort updateDataProjectCountEsPort,
+      ProjectionQueueMetrics projectionQueueMetrics) {
     this.manageDataProjectionTaskPort = manageDataProjectionTaskPort;
     this.loadDataProjectionTaskPort = loadDataProjectionTaskPort;
     this.manageDataProjectionDlqPort = manageDataProjectionDlqPort;
     this.softDeleteDataEsPort = softDeleteDataEsPort;
     this.updateDataDownloadEsPort = updateDataDownloadEsPort;
+    this.updateDataProjectCountEsPort = updateDataProjectCountEsPort;
+    this.projectionQueueMetrics = projectionQueueMetrics;
+  }
+
+  /** worker-threads가 2 이상이면 큐를 병렬로 비울 전용 스레드 풀을 생성합니다. */
+  @PostConstruct
+  public void init() {
+    if (workerThreads <= 1) {
+      return;
+    }
+    AtomicInteger sequence = new AtomicInteger();
+    drainExecutor =
+        Executors.newFixedThreadPool(
+            workerThreads,
+            r -> {
+              Thread thread = new Thread(r, "data-es-projection-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** 큐 처리 스레드 풀을 종료합니다. 처리 중이던 작업은 임대 만료 후 다른 워커가 다시 처리합니다. */
+  @PreDestroy
+  public void destroy() {
+    if (drainExecutor == null) {
+      return;
+    }
+    drainExecutor.shutdown();
+    try {
+      if (!drainExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        drainExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      drainExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
   }
 
   /**
@@ -82,40 +149,73 @@ public class DataEsProjectionWorker {
   }
 
   /**
-   * 3초마다 대기중(PENDING) 또는 재시도(RETRYING) 상태의 Projection 작업을 배치로 조회하여 각 작업을 비동기로 처리합니다.
+   * 3초마다 대기중(PENDING) 또는 재시도(RETRYING) 상태의 Projection 작업을 선점해 처리합니다.
    *
-   * <p>개선사항: - 트랜잭션 경계 제거: 전체 배치에 대한 트랜잭션 경계를 제거하여 성능 향상 - 비동기 처리: 각 작업을 비동기로 처리하여 병렬성 향상 - 독립성 보장:
-   * 각 작업은 여전히 독립적인 트랜잭션에서 실행
+   * <p>각 스레드는 SKIP LOCKED 조회와 임대(nextRunAt 연기)로 서로 겹치지 않는 배치를 선점하므로, 여러 노드와 스레드가 같은 큐를 동시에 비울 수
+   * 있습니다. 선점은 짧은 독립 트랜잭션으로 커밋되어 ES 반영 중에는 행 잠금을 잡고 있지 않으며, 각 작업은 독립적인 트랜잭션에서 처리됩니다.
    */
-  @Scheduled(fixedDelayString = "PT3S")
-  @Transactional
+  @Scheduled(fixedDelayString = "PT3S", scheduler = "projectionTaskScheduler")
   public void run() {
-    List<DataEsProjectionTaskEntity> tasks =
-        loadDataProjectionTaskPort.findBatchForWork(
-            LocalDateTime.now(),
-            List.of(DataEsProjectionType.PENDING, DataEsProjectionType.RETRYING),
-            PageRequest.of(0, BATCH));
-
-    // 각 작업을 비동기로 처리
-    List<CompletableFuture<Void>> futures = tasks.stream().map(this::processTaskAsync).toList();
-
-    // 모든 작업 완료 대기 (선택적)
-    CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-        .exceptionally(
-            throwable -> {
-              LoggerFactory.elastic().logError("data_index", "비동기 작업 처리 중 예외 발생", throwable);
-              return null;
-            });
+    if (drainExecutor == null) {
+      drain();
+    } else {
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[workerThreads];
+      for (int i = 0; i < workerThreads; i++) {
+        futures[i] = CompletableFuture.runAsync(this::drain, drainExecutor);
+      }
+      CompletableFuture.allOf(futures).join();
+    }
   }
 
   /**
-   * 단일 데이터 반영 작업을 비동기로 처리합니다. Self-injection을 통해 프록시 객체를 사용하여 REQUIRES_NEW 트랜잭션이 작동하도록 합니다.
+   * 선점할 작업이 없거나 배치가 가득 차지 않을 때까지 작업을 선점해 처리한다.
    *
-   * @param t 작업 대상 엔터티
-   * @return CompletableFuture<Void> 비동기 처리 결과
+   * <p>한 번의 실행이 지나치게 길어지지 않도록 최대 {@code MAX_ROUNDS_PER_RUN}개 배치까지만 처리한다.
    */
-  public CompletableFuture<Void> processTaskAsync(DataEsProjectionTaskEntity t) {
-    return CompletableFuture.runAsync(() -> self.processTask(t));
+  void drain() {
+    for (int round = 0; round < MAX_ROUNDS_PER_RUN; round++) {
+      List<DataEsProjectionTaskEntity> tasks;
+      try {
+        LocalDateTime now = LocalDateTime.now();
+        tasks =
+            loadDataProjectionTaskPort.claimBatchForWork(
+                now,
+                List.of(DataEsProjectionType.PENDING, DataEsProjectionType.RETRYING),
+                PageRequest.of(0, BATCH),
+                now.plusSeconds(leaseSeconds > 0 ? leaseSeconds : DEFAULT_LEASE_SECONDS));
+      } catch (Exception ex) {
+        LoggerFactory.scheduler().logError("DataEsProjectionWorker 작업 선점 실패", ex);
+        return;
+      }
+
+      for (DataEsProjectionTaskEntity t : tasks) {
+        self.processTask(t);
+      }
+
+      if (tasks.size() < BATCH) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 큐 적체 메트릭(대기 작업 수, 가장 오래된 작업의 경과 시간)을 갱신합니다.
+   *
+   * <p>큐 전체를 집계하는 쿼리이므로 모든 노드가 선점 주기마다 실행하지 않도록 리더 노드에서만 별도 주기(기본 1분)로 실행합니다.
+   */
+  @LeaderOnly
+  @Scheduled(
+      fixedDelayString = "${dataset.es-projection.metrics-interval-ms:60000}",
+      scheduler = "batchTaskScheduler")
+  public void recordQueueMetrics() {
+    try {
+      projectionQueueMetrics.record(
+          QUEUE_NAME,
+          loadDataProjectionTaskPort.countQueued(),
+          loadDataProjectionTaskPort.findOldestQueuedAt().orElse(null));
+    } catch (Exception ex) {
+      LoggerFactory.scheduler().logError("DataEsProjectionWorker 큐 메트릭 갱신 실패", ex);
+    }
   }
 
   /**
@@ -124,8 +224,9 @@ public class DataEsProjectionWorker {
    * <p>작업 엔터티에 따라 다음 중 하나 이상의 동작을 수행한다:
    *
    * <ul>
-   *   <li>setDeleted 필드가 지정되면 해당 데이터에 대해 소프트 삭제 또는 복원을 수행
+   *   <li>증감 작업이 아니면(deltaDownload, deltaProjectCount가 모두 0) setDeleted 값에 따라 소프트 삭제 또는 복원을 수행
    *   <li>deltaDownload가 양수이면 다운로드 카운트를 증가
+   *   <li>deltaProjectCount가 0이 아니면 연결된 프로젝트 수를 증감
    *   <li>처리 성공 시 해당 작업 큐 항목을 삭제
    * </ul>
    *
@@ -133,8 +234,8 @@ public class DataEsProjectionWorker {
    *
    * <ul>
    *   <li>재시도 횟수가 MAX_RETRY 이상이면 DLQ에 실패 정보를 저장하고 큐 항목을 삭제
-   *   <li>아직 재시도 가능하면 작업 상태를 RETRYING으로 업데이트하고 retryCount, lastError, nextRunAt을 설정(커밋 시 영속성 컨텍스트의
-   *       더티 체크로 반영)
+   *   <li>아직 재시도 가능하면 작업 상태를 RETRYING으로 업데이트하고 retryCount, lastError, nextRunAt을 설정(선점 트랜잭션이 이미
+   *       커밋된 작업이므로 UPDATE 쿼리로 직접 반영)
    * </ul>
    *
    * 이 메서드는 예외를 밖으로 던지지 않고 내부에서 처리하므로 호출자는 예외 처리를 신경 쓸 필요가 없다.
@@ -144,8 +245,8 @@ public class DataEsProjectionWorker {
   @Transactional(propagation = Propagation.REQUIRES_NEW)
   public void processTask(DataEsProjectionTaskEntity t) {
     try {
-      // 소프트 삭제/복원
-      if (t.getSetDeleted() != null) {
+      // 소프트 삭제/복원 (증감 작업도 setDeleted 기본값 false를 가지므로 증감이 없는 작업에만 적용)
+      if (t.getSetDeleted() != null && !hasDelta(t)) {
         if (Boolean.TRUE.equals(t.getSetDeleted())) {
           softDeleteDataEsPort.deleteData(t.getDataId());
         } else {
@@ -158,6 +259,11 @@ public class DataEsProjectionWorker {
         updateDataDownloadEsPort.increaseDownloadCount(t.getDataId());
       }
 
+      // 연결된 프로젝트 수 증감
+      if (t.getDeltaProjectCount() != 0) {
+        updateDataProjectCountEsPort.adjustProjectCount(t.getDataId(), t.getDeltaProjectCount());
+      }
+
       // 성공 → 큐 삭제
       manageDataProjectionTaskPort.delete(t.getId());
 
@@ -167,6 +273,7 @@ public class DataEsProjectionWorker {
         manageDataProjectionDlqPort.save(
             t.getDataId(),
             t.getDeltaDownload(),
+            t.getDeltaProjectCount(),
             t.getSetDeleted(),
             truncate(ex.getMessage(), 2000));
         manageDataProjectionTaskPort.delete(t.getId());
@@ -175,12 +282,17 @@ public class DataEsProjectionWorker {
         t.setRetryCount(next);
         t.setLastError(truncate(ex.getMessage(), 2000));
         t.setNextRunAt(LocalDateTime.now().plusSeconds(backoffSeconds(next)));
-        // Dirty Checking → 커밋 시 UPDATE
+        manageDataProjectionTaskPort.markRetry(
+            t.getId(), t.getRetryCount(), t.getLastError(), t.getNextRunAt());
       }
       LoggerFactory.elastic().logError("data_index", "ES 반영 실패 dataId=" + t.getDataId(), ex);
     }
   }
 
+  private boolean hasDelta(DataEsProjectionTaskEntity t) {
+    return t.getDeltaDownload() != 0 || t.getDeltaProjectCount() != 0;
+  }
+
   private String truncate(String s, int n) {
     if (s == null) return null;
     return s.length() <= n ? s : s.substring(0, n);
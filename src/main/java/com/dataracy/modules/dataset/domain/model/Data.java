@@ -31,6 +31,7 @@ public class Data {
   private int downloadCount;
 
   private Long sizeBytes;
+  private Long projectCount;
   private DataMetadata metadata;
   private LocalDateTime createdAt;
 
@@ -62,6 +63,53 @@ public class Data {
       Long sizeBytes,
       DataMetadata metadata,
       LocalDateTime createdAt) {
+    return of(
+        id,
+        title,
+        topicId,
+        userId,
+        dataSourceId,
+        dataTypeId,
+        startDate,
+        endDate,
+        description,
+        analysisGuide,
+        dataFileUrl,
+        dataThumbnailUrl,
+        downloadCount,
+        sizeBytes,
+        0L,
+        metadata,
+        createdAt);
+  }
+
+  /**
+   * 연결된 프로젝트 수까지 포함해 Data 객체를 생성하여 반환합니다.
+   *
+   * <p>영속화된 데이터를 도메인으로 복원할 때 사용하며, 재색인 시 DB에 누적된 projectCount를 그대로 유지하기 위함입니다.
+   *
+   * @param projectCount 데이터셋에 연결된 프로젝트 수
+   * @return 지정된 값들로 초기화된 Data 객체
+   */
+  @SuppressWarnings("java:S107") // 복잡한 도메인 모델로 많은 파라미터 필요
+  public static Data of(
+      Long id,
+      String title,
+      Long topicId,
+      Long userId,
+      Long dataSourceId,
+      Long dataTypeId,
+      LocalDate startDate,
+      LocalDate endDate,
+      String description,
+      String analysisGuide,
+      String dataFileUrl,
+      String dataThumbnailUrl,
+      int downloadCount,
+      Long sizeBytes,
+      Long projectCount,
+      DataMetadata metadata,
+      LocalDateTime createdAt) {
     return Data.builder()
         .id(id)
         .title(title)
@@ -77,6 +125,7 @@ public class Data {
         .dataThumbnailUrl(dataThumbnailUrl)
         .downloadCount(downloadCount)
         .sizeBytes(sizeBytes)
+        .projectCount(projectCount)
         .metadata(metadata)
         .createdAt(createdAt)
         .build();
@@ -23,7 +23,9 @@ public enum DataErrorStatus implements BaseErrorCode {
       HttpStatus.INTERNAL_SERVER_ERROR, "DATA-009", "DataUser을 생성하기 위한 유저 정보가 주입되지 않았습니다."),
   INVALID_FILE_URL(HttpStatus.BAD_REQUEST, "DATA-010", "유효하지 않은 파일 url입니다."),
   DOWNLOAD_URL_GENERATION_FAILED(
-      HttpStatus.INTERNAL_SERVER_ERROR, "DATA-011", "Pre-signed URL 생성 실패했습니다.");
+      HttpStatus.INTERNAL_SERVER_ERROR, "DATA-011", "Pre-signed URL 생성 실패했습니다."),
+  FAIL_FILTERED_SEARCH_DATASET(
+      HttpStatus.INTERNAL_SERVER_ERROR, "DATA-012", "데이터셋 키워드 필터링 검색에 실패했습니다.");
   private final HttpStatus httpStatus;
   private final String code;
   private final String message;
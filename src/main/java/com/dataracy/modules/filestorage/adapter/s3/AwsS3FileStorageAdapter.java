@@ -1,7 +1,6 @@
 package com.dataracy.modules.filestorage.adapter.s3;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -175,10 +174,13 @@ public class AwsS3FileStorageAdapter implements FileStoragePort {
   }
 
   /**
-   * S3 파일의 공개 URL을 이용해 파일을 다운로드하고, 전체 내용을 담은 InputStream으로 반환합니다.
+   * S3 파일의 공개 URL을 이용해 파일을 다운로드할 수 있는 InputStream을 반환합니다.
+   *
+   * <p>파일 전체를 메모리에 올리지 않고 S3 응답 본문을 버퍼링된 스트림으로 그대로 전달합니다. 호출 측은 반드시 스트림을 닫아야 하며, 스트림을 닫으면 S3
+   * 연결도 함께 반환됩니다.
    *
    * @param fileUrl 다운로드할 S3 파일의 공개 URL
-   * @return 파일 전체 데이터를 포함하는 InputStream
+   * @return S3 객체 본문을 순차적으로 읽는 InputStream
    * @throws S3UploadException 파일 다운로드에 실패한 경우 발생
    */
   @Override
@@ -186,10 +188,8 @@ public class AwsS3FileStorageAdapter implements FileStoragePort {
     try {
       String key = extractKeyFromUrl(fileUrl);
       S3Object s3Object = amazonS3.getObject(bucket, key);
-      // S3Object의 내용을 완전히 읽어서 별도의 InputStream으로 반환
-      try (InputStream s3InputStream = s3Object.getObjectContent()) {
-        return new ByteArrayInputStream(s3InputStream.readAllBytes());
-      }
+      int bufferSize = fileStorageProperties.getBuffer().getStreamingSize();
+      return new BufferedInputStream(s3Object.getObjectContent(), bufferSize);
     } catch (Exception e) {
       LoggerFactory.common().logError("S3 파일 다운로드 실패", "S3 파일 다운로드 중 에러가 발생하였습니다.", e);
       throw new S3UploadException("S3 다운로드 실패", e);
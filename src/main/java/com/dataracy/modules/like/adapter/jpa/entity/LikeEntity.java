@@ -15,7 +15,9 @@ import lombok.*;
     name = "target_like",
     uniqueConstraints = {
       @UniqueConstraint(columnNames = {"targetId", "targetType", "userId"}),
-    })
+    },
+    indexes =
+        @Index(name = "idx_like_user_type_created", columnList = "userId, targetType, createdAt"))
 public class LikeEntity extends BaseTimeEntity {
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
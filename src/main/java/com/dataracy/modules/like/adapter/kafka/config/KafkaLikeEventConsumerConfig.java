@@ -0,0 +1,117 @@
+package com.dataracy.modules.like.adapter.kafka.config;
+
+import java.util.Map;
+
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import com.dataracy.modules.common.config.adapter.kafka.AbstractKafkaConsumerConfig;
+import com.dataracy.modules.like.adapter.kafka.serializer.LikeEventDeserializer;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+
+import jakarta.annotation.PostConstruct;
+
+@Configuration
+public class KafkaLikeEventConsumerConfig extends AbstractKafkaConsumerConfig<LikeEvent> {
+
+  // 기본 그룹 ID (리스너에서 groupId를 지정하면 그 값이 우선)
+  @Value("${spring.kafka.consumer.like-event.group-id:like-event-consumer-group}")
+  private String group;
+
+  // 동시성 프로퍼티 (토픽 파티션 수에 맞춰 조정)
+  @Value("${spring.kafka.listener.like-event.concurrency:1}")
+  private Integer concurrency;
+
+  // 폴링 타임아웃 (밀리초, 기본값 3000ms)
+  @Value("${spring.kafka.listener.like-event.poll-timeout:3000}")
+  private Long pollTimeout;
+
+  @PostConstruct
+  public void validate() {
+    validateBootstrap();
+  }
+
+  @Override
+  protected Class<?> keyDeserializer() {
+    return StringDeserializer.class;
+  }
+
+  @Override
+  protected Class<?> valueDeserializer() {
+    return ErrorHandlingDeserializer.class;
+  }
+
+  @Override
+  protected String groupId() {
+    return group;
+  }
+
+  /**
+   * 좋아요 이벤트용 ConsumerFactory를 생성합니다.
+   *
+   * <p>손상된 레코드가 poll 전체를 막지 않도록 {@link ErrorHandlingDeserializer}로 감쌉니다. 역직렬화에 실패한 레코드는 값이 null이고
+   * 예외 헤더가 붙은 채로 전달되며, 리스너가 이를 배치 실패로 알리면 에러 핸들러가 해당 레코드만 DLT로 보냅니다.
+   */
+  @Override
+  public ConsumerFactory<String, LikeEvent> consumerFactory() {
+    Map<String, Object> props = baseConsumerProps();
+    props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, LikeEventDeserializer.class);
+    return new DefaultKafkaConsumerFactory<>(props);
+  }
+
+  /**
+   * 좋아요 이벤트 에러 핸들러: 1s → 2s → 4s → 8s → 16s, 총 5회 배치 재시도 후 DLT(<원본토픽>-dlt)로 송신합니다. 재시도가 무의미한
+   * 예외는 즉시 DLT로 보냅니다.
+   */
+  @Bean
+  public DefaultErrorHandler likeEventKafkaErrorHandler(
+      KafkaTemplate<String, LikeEvent> likeEventKafkaTemplate) {
+    DeadLetterPublishingRecoverer recoverer =
+        new DeadLetterPublishingRecoverer(
+            likeEventKafkaTemplate,
+            (rec, ex) -> new TopicPartition(rec.topic() + "-dlt", rec.partition()));
+
+    ExponentialBackOffWithMaxRetries backoff = new ExponentialBackOffWithMaxRetries(5);
+    backoff.setInitialInterval(1000);
+    backoff.setMultiplier(2.0);
+    backoff.setMaxInterval(16000);
+
+    DefaultErrorHandler handler = new DefaultErrorHandler(recoverer, backoff);
+    handler.addNotRetryableExceptions(
+        IllegalArgumentException.class,
+        SerializationException.class,
+        DeserializationException.class);
+    return handler;
+  }
+
+  /** 좋아요 이벤트 전용 배치 리스너 컨테이너 팩토리 */
+  @Bean(name = "likeEventKafkaListenerContainerFactory")
+  public ConcurrentKafkaListenerContainerFactory<String, LikeEvent>
+      likeEventKafkaListenerContainerFactory(DefaultErrorHandler likeEventKafkaErrorHandler) {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, LikeEvent>();
+    factory.setConsumerFactory(consumerFactory());
+    factory.setCommonErrorHandler(likeEventKafkaErrorHandler);
+    factory.setConcurrency(concurrency);
+
+    // poll 단위 배치로 받아 대상별 순변경분을 한 번에 반영하고, 성공한 뒤에만 커밋
+    factory.setBatchListener(true);
+    factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+    factory.getContainerProperties().setPollTimeout(pollTimeout);
+
+    return factory;
+  }
+}
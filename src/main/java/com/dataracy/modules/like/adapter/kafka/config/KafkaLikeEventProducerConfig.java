@@ -0,0 +1,48 @@
+package com.dataracy.modules.like.adapter.kafka.config;
+
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.dataracy.modules.common.config.adapter.kafka.AbstractKafkaProducerConfig;
+import com.dataracy.modules.like.adapter.kafka.serializer.LikeEventSerializer;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+
+import jakarta.annotation.PostConstruct;
+
+@Configuration
+public class KafkaLikeEventProducerConfig extends AbstractKafkaProducerConfig<LikeEvent> {
+  /** Kafka 부트스트랩 서버 설정이 올바른지 검증합니다. */
+  @PostConstruct
+  public void validate() {
+    validateBootstrapServers();
+  }
+
+  @Override
+  protected Class<?> keySerializer() {
+    return StringSerializer.class;
+  }
+
+  /**
+   * 좋아요 이벤트를 고정 길이 바이너리로 기록하는 직렬화 클래스를 지정합니다.
+   *
+   * @return 좋아요 이벤트 값 직렬화 클래스
+   */
+  @Override
+  protected Class<?> valueSerializer() {
+    return LikeEventSerializer.class;
+  }
+
+  /**
+   * String 키와 좋아요 이벤트 값을 사용하는 KafkaTemplate 빈을 생성합니다.
+   *
+   * <p>멱등 프로듀서와 연결당 요청 1개 설정을 공통 설정에서 물려받으므로 같은 키의 이벤트는 발행 순서대로 기록됩니다.
+   *
+   * @return 좋아요 이벤트를 전송하는 KafkaTemplate 인스턴스
+   */
+  @Bean
+  public KafkaTemplate<String, LikeEvent> likeEventKafkaTemplate() {
+    return new KafkaTemplate<>(producerFactory());
+  }
+}
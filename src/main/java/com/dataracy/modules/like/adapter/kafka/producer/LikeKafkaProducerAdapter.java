@@ -7,77 +7,51 @@ import org.springframework.stereotype.Component;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.like.application.port.out.command.SendLikeEventPort;
 import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class LikeKafkaProducerAdapter implements SendLikeEventPort {
-  private final KafkaTemplate<String, Long> kafkaTemplate;
+  private final KafkaTemplate<String, LikeEvent> likeEventKafkaTemplate;
 
-  @Value("${spring.kafka.producer.project-like-increase.topic:project-like-increase-topic}")
-  private String topicProjectLikeIncrease;
-
-  @Value("${spring.kafka.producer.project-like-decrease.topic:project-like-decrease-topic}")
-  private String topicProjectLikeDecrease;
-
-  @Value("${spring.kafka.producer.comment-like-increase.topic:comment-like-increase-topic}")
-  private String topicCommentLikeIncrease;
-
-  @Value("${spring.kafka.producer.comment-like-decrease.topic:comment-like-decrease-topic}")
-  private String topicCommentLikeDecrease;
+  @Value("${spring.kafka.producer.like-event.topic:like-events}")
+  private String topicLikeEvent;
 
   /**
-   * 프로젝트 또는 댓글에 대한 좋아요 또는 좋아요 취소 이벤트를 Kafka로 비동기 전송합니다.
+   * 프로젝트 또는 댓글에 대한 좋아요 또는 좋아요 취소 이벤트를 단일 좋아요 이벤트 토픽으로 비동기 전송합니다.
+   *
+   * <p>"대상유형:대상ID"를 키로 사용하므로 같은 대상의 이벤트는 같은 파티션에 발행 순서대로 기록됩니다.
    *
    * @param targetType 이벤트 대상의 유형(PROJECT 또는 COMMENT)
    * @param targetId 이벤트 대상의 고유 식별자
+   * @param userId 좋아요를 누른 사용자 ID
    * @param previouslyLiked true이면 좋아요 취소 이벤트, false이면 좋아요 이벤트를 전송합니다.
    */
   @Override
-  public void sendLikeEvent(TargetType targetType, Long targetId, boolean previouslyLiked) {
-    switch (targetType) {
-      case PROJECT -> sendProjectLikeEvent(targetId, previouslyLiked);
-      case COMMENT -> sendCommentLikeEvent(targetId, previouslyLiked);
-    }
-  }
-
-  private void sendProjectLikeEvent(Long targetId, boolean previouslyLiked) {
-    if (previouslyLiked) {
-      sendKafkaEvent(topicProjectLikeDecrease, targetId, "프로젝트 좋아요 취소", "projectId");
-    } else {
-      sendKafkaEvent(topicProjectLikeIncrease, targetId, "프로젝트 좋아요", "projectId");
-    }
-  }
-
-  private void sendCommentLikeEvent(Long targetId, boolean previouslyLiked) {
-    if (previouslyLiked) {
-      sendKafkaEvent(topicCommentLikeDecrease, targetId, "댓글 좋아요 취소", "commentId");
-    } else {
-      sendKafkaEvent(topicCommentLikeIncrease, targetId, "댓글 좋아요", "commentId");
-    }
+  public void sendLikeEvent(
+      TargetType targetType, Long targetId, Long userId, boolean previouslyLiked) {
+    LikeEvent event = LikeEvent.of(targetType, targetId, userId, previouslyLiked);
+    String eventDescription = describe(targetType, previouslyLiked);
+    likeEventKafkaTemplate
+        .send(topicLikeEvent, event.key(), event)
+        .whenComplete((result, ex) -> logKafkaResult(event.key(), eventDescription, ex));
   }
 
-  private void sendKafkaEvent(
-      String topic, Long targetId, String eventDescription, String idLabel) {
-    kafkaTemplate
-        .send(topic, String.valueOf(targetId), targetId)
-        .whenComplete(
-            (result, ex) -> logKafkaResult(topic, targetId, eventDescription, idLabel, ex));
+  private String describe(TargetType targetType, boolean previouslyLiked) {
+    String target = targetType == TargetType.PROJECT ? "프로젝트" : "댓글";
+    return previouslyLiked ? target + " 좋아요 취소" : target + " 좋아요";
   }
 
-  private void logKafkaResult(
-      String topic, Long targetId, String eventDescription, String idLabel, Throwable ex) {
+  private void logKafkaResult(String key, String eventDescription, Throwable ex) {
     if (ex == null) {
       LoggerFactory.kafka()
-          .logProduce(
-              topic, String.format("%s 이벤트 발송됨: %s=%d", eventDescription, idLabel, targetId));
+          .logProduce(topicLikeEvent, String.format("%s 이벤트 발송됨: key=%s", eventDescription, key));
     } else {
       LoggerFactory.kafka()
           .logError(
-              topic,
-              String.format("%s 이벤트 발송 처리 실패: %s=%d", eventDescription, idLabel, targetId),
-              ex);
+              topicLikeEvent, String.format("%s 이벤트 발송 처리 실패: key=%s", eventDescription, key), ex);
     }
   }
 }
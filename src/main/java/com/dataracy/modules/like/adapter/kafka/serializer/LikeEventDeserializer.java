@@ -0,0 +1,46 @@
+package com.dataracy.modules.like.adapter.kafka.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+
+/**
+ * {@link LikeEventSerializer}가 기록한 고정 길이 바이너리를 좋아요 이벤트로 역직렬화합니다.
+ *
+ * <p>길이나 버전, 대상 유형이 맞지 않으면 {@link SerializationException}을 던집니다.
+ */
+public class LikeEventDeserializer implements Deserializer<LikeEvent> {
+  @Override
+  public LikeEvent deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (data.length != LikeEventSerializer.SIZE) {
+      throw new SerializationException("좋아요 이벤트 길이가 올바르지 않습니다. length=" + data.length);
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(data);
+    byte version = buffer.get();
+    if (version != LikeEventSerializer.VERSION) {
+      throw new SerializationException("지원하지 않는 좋아요 이벤트 버전입니다. version=" + version);
+    }
+    TargetType targetType = targetType(buffer.get());
+    Long targetId = buffer.getLong();
+    int delta = buffer.get();
+    long userId = buffer.getLong();
+    long occurredAt = buffer.getLong();
+    return new LikeEvent(targetType, targetId, delta, userId == 0L ? null : userId, occurredAt);
+  }
+
+  private static TargetType targetType(byte code) {
+    return switch (code) {
+      case 1 -> TargetType.PROJECT;
+      case 2 -> TargetType.COMMENT;
+      default -> throw new SerializationException("알 수 없는 좋아요 대상 유형입니다. code=" + code);
+    };
+  }
+}
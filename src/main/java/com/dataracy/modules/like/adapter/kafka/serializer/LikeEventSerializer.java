@@ -0,0 +1,41 @@
+package com.dataracy.modules.like.adapter.kafka.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+
+/**
+ * 좋아요 이벤트를 고정 길이 바이너리로 직렬화합니다.
+ *
+ * <p>레이아웃(빅엔디언, 총 {@value #SIZE}바이트): 버전(1) | 대상 유형(1) | 대상 ID(8) | 변경분(1) | 사용자 ID(8) | 발생
+ * 시각(8). 대상 유형은 enum 순서와 무관한 고정 코드(PROJECT=1, COMMENT=2)로, 사용자 ID가 없으면 0으로 기록합니다.
+ */
+public class LikeEventSerializer implements Serializer<LikeEvent> {
+  static final byte VERSION = 1;
+  static final int SIZE = 27;
+
+  @Override
+  public byte[] serialize(String topic, LikeEvent event) {
+    if (event == null) {
+      return null;
+    }
+    return ByteBuffer.allocate(SIZE)
+        .put(VERSION)
+        .put(targetTypeCode(event.targetType()))
+        .putLong(event.targetId())
+        .put((byte) event.delta())
+        .putLong(event.userId() == null ? 0L : event.userId())
+        .putLong(event.occurredAt())
+        .array();
+  }
+
+  static byte targetTypeCode(TargetType targetType) {
+    return switch (targetType) {
+      case PROJECT -> 1;
+      case COMMENT -> 2;
+    };
+  }
+}
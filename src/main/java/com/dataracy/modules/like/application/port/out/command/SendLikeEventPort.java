@@ -8,7 +8,8 @@ public interface SendLikeEventPort {
    *
    * @param targetType 이벤트가 발생한 대상의 유형
    * @param targetId 이벤트가 발생한 대상의 고유 식별자
+   * @param userId 좋아요를 누른 사용자 ID
    * @param previouslyLiked 사용자가 이전에 해당 대상을 좋아요 했는지 여부
    */
-  void sendLikeEvent(TargetType targetType, Long targetId, boolean previouslyLiked);
+  void sendLikeEvent(TargetType targetType, Long targetId, Long userId, boolean previouslyLiked);
 }
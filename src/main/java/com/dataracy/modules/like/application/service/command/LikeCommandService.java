@@ -86,7 +86,7 @@ public class LikeCommandService implements LikeTargetUseCase {
   private void processCancelLike(Long userId, Long targetId, TargetType targetType) {
     try {
       likeCommandPort.cancelLike(userId, targetId, targetType);
-      sendLikeEventPort.sendLikeEvent(targetType, targetId, true);
+      sendLikeEventPort.sendLikeEvent(targetType, targetId, userId, true);
     } catch (Exception e) {
       handleLikeError(targetType, targetId, true);
     }
@@ -96,7 +96,7 @@ public class LikeCommandService implements LikeTargetUseCase {
     Like like = Like.of(null, targetId, targetType, userId);
     try {
       likeCommandPort.save(like);
-      sendLikeEventPort.sendLikeEvent(targetType, targetId, false);
+      sendLikeEventPort.sendLikeEvent(targetType, targetId, userId, false);
     } catch (Exception e) {
       handleLikeError(targetType, targetId, false);
     }
@@ -0,0 +1,42 @@
+package com.dataracy.modules.like.domain.model.event;
+
+import com.dataracy.modules.like.domain.enums.TargetType;
+
+/**
+ * 좋아요/좋아요 취소 이벤트입니다.
+ *
+ * <p>대상 유형과 대상 ID를 키로 같은 파티션에 발행되어, 같은 대상에 대한 좋아요와 좋아요 취소의 순서가 보장됩니다.
+ *
+ * @param targetType 대상 유형
+ * @param targetId 대상 ID
+ * @param delta 좋아요 수 변경분 (좋아요 +1, 좋아요 취소 -1)
+ * @param userId 좋아요를 누른 사용자 ID
+ * @param occurredAt 이벤트 발생 시각 (epoch millis)
+ */
+public record LikeEvent(
+    TargetType targetType, Long targetId, int delta, Long userId, long occurredAt) {
+
+  /**
+   * 좋아요 또는 좋아요 취소 이벤트를 생성합니다.
+   *
+   * @param targetType 대상 유형
+   * @param targetId 대상 ID
+   * @param userId 사용자 ID
+   * @param previouslyLiked true이면 좋아요 취소, false이면 좋아요
+   * @return 현재 시각으로 생성된 좋아요 이벤트
+   */
+  public static LikeEvent of(
+      TargetType targetType, Long targetId, Long userId, boolean previouslyLiked) {
+    return new LikeEvent(
+        targetType, targetId, previouslyLiked ? -1 : 1, userId, System.currentTimeMillis());
+  }
+
+  /**
+   * 파티션 키를 반환합니다.
+   *
+   * @return "대상유형:대상ID" 형식의 키
+   */
+  public String key() {
+    return targetType.name() + ":" + targetId;
+  }
+}
@@ -0,0 +1,132 @@
+package com.dataracy.modules.project.adapter.elasticsearch.indexing;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.exception.EsUpdateException;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.project.application.dto.document.ProjectSearchDocument;
+import com.dataracy.modules.project.application.dto.projection.ProjectProjectionDelta;
+import com.dataracy.modules.project.application.port.out.command.projection.BulkUpdateProjectProjectionPort;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+
+@Component("bulkUpdateProjectProjectionEsAdapter")
+@RequiredArgsConstructor
+public class BulkUpdateProjectProjectionEsAdapter implements BulkUpdateProjectProjectionPort {
+  private final ElasticsearchClient client;
+  private static final String INDEX = "project_index";
+
+  private static final String APPLY_DELTA_SCRIPT =
+      """
+            if (params.deltaComment != 0) {
+                def c = ctx._source.commentCount;
+                long next = (c == null ? 0L : ((Number) c).longValue()) + params.deltaComment;
+                ctx._source.commentCount = next < 0 ? 0 : next;
+            }
+            if (params.deltaLike != 0) {
+                def l = ctx._source.likeCount;
+                long next = (l == null ? 0L : ((Number) l).longValue()) + params.deltaLike;
+                ctx._source.likeCount = next < 0 ? 0 : next;
+            }
+            if (params.deltaView != 0) {
+                def v = ctx._source.viewCount;
+                long next = (v == null ? 0L : ((Number) v).longValue()) + params.deltaView;
+                ctx._source.viewCount = next < 0 ? 0 : next;
+            }
+            if (params.setDeleted != null) {
+                ctx._source.isDeleted = params.setDeleted;
+            }
+            """;
+
+  /**
+   * 프로젝트별 변경분을 scripted update 묶음으로 만들어 _bulk 요청 한 번으로 반영합니다.
+   *
+   * <p>문서가 없으면 변경분(음수는 0으로 보정)으로 채운 upsert 문서를 생성합니다. 응답의 항목별 결과를 확인해 실패한 프로젝트만 사유와 함께 반환합니다.
+   *
+   * @param deltas 반영할 프로젝트별 변경분 목록
+   * @return 실패한 프로젝트 ID와 실패 사유의 맵
+   * @throws EsUpdateException 벌크 요청 자체가 실패한 경우
+   */
+  @Override
+  public Map<Long, String> applyDeltas(List<ProjectProjectionDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return Map.of();
+    }
+
+    BulkRequest.Builder builder = new BulkRequest.Builder();
+    for (ProjectProjectionDelta delta : deltas) {
+      Map<String, JsonData> params = new HashMap<>();
+      params.put("deltaComment", JsonData.of(delta.deltaComment()));
+      params.put("deltaLike", JsonData.of(delta.deltaLike()));
+      params.put("deltaView", JsonData.of(delta.deltaView()));
+      if (delta.setDeleted() != null) {
+        params.put("setDeleted", JsonData.of(delta.setDeleted()));
+      }
+      ProjectSearchDocument upsert =
+          ProjectSearchDocument.builder()
+              .id(delta.projectId())
+              .commentCount((long) Math.max(0, delta.deltaComment()))
+              .likeCount((long) Math.max(0, delta.deltaLike()))
+              .viewCount(Math.max(0L, delta.deltaView()))
+              .isDeleted(Boolean.TRUE.equals(delta.setDeleted()))
+              .build();
+
+      builder.operations(
+          op ->
+              op.update(
+                  u ->
+                      u.index(INDEX)
+                          .id(String.valueOf(delta.projectId()))
+                          .action(
+                              a ->
+                                  a.script(
+                                          s ->
+                                              s.inline(
+                                                  i ->
+                                                      i.lang("painless")
+                                                          .source(APPLY_DELTA_SCRIPT)
+                                                          .params(params)))
+                                      .upsert(upsert))));
+    }
+
+    try {
+      BulkResponse response = client.bulk(builder.build());
+
+      Map<Long, String> failures = new HashMap<>();
+      if (response.errors()) {
+        for (BulkResponseItem item : response.items()) {
+          if (item.error() != null) {
+            failures.put(Long.valueOf(item.id()), item.error().reason());
+          }
+        }
+      }
+
+      LoggerFactory.elastic()
+          .logUpdate(
+              INDEX,
+              "벌크 처리",
+              "프로젝트 프로젝션 벌크 반영 완료. 요청 수="
+                  + deltas.size()
+                  + ", 실패 수="
+                  + failures.size()
+                  + ", took="
+                  + response.took()
+                  + "ms");
+      return failures;
+    } catch (IOException e) {
+      LoggerFactory.elastic()
+          .logError(INDEX, "프로젝트 프로젝션 벌크 반영 실패 - 요청 수=" + deltas.size(), e);
+      throw new EsUpdateException("ES bulk update failed: size=" + deltas.size(), e);
+    }
+  }
+}
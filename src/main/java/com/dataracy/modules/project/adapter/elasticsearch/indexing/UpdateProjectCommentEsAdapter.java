@@ -10,6 +10,7 @@ import com.dataracy.modules.project.application.dto.document.ProjectSearchDocume
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCommentPort;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 
 @Component("updateProjectCommentEsAdapter")
@@ -21,16 +22,16 @@ public class UpdateProjectCommentEsAdapter implements UpdateProjectCommentPort {
   private static final String INCREASE_COMMENT_COUNT_SCRIPT =
       """
             if (ctx._source.commentCount == null) {
-                ctx._source.commentCount = 1;
+                ctx._source.commentCount = params.count;
             } else {
-                ctx._source.commentCount += 1;
+                ctx._source.commentCount += params.count;
             }
             """;
 
   private static final String DECREASE_COMMENT_COUNT_SCRIPT =
       """
-            if (ctx._source.commentCount != null && ctx._source.commentCount > 0) {
-                ctx._source.commentCount -= 1;
+            if (ctx._source.commentCount != null && ctx._source.commentCount > params.count) {
+                ctx._source.commentCount -= params.count;
             } else {
                 ctx._source.commentCount = 0;
             }
@@ -39,23 +40,39 @@ public class UpdateProjectCommentEsAdapter implements UpdateProjectCommentPort {
   /**
    * 지정된 프로젝트의 Elasticsearch 문서에서 commentCount 필드를 1 증가시킵니다.
    *
-   * <p>commentCount가 null이면 1로 초기화하고, 값이 있으면 1을 더합니다.
-   *
    * @param projectId commentCount를 증가시킬 프로젝트의 ID
    */
   @Override
   public void increaseCommentCount(Long projectId) {
+    increaseCommentCount(projectId, 1);
+  }
+
+  /**
+   * 지정된 프로젝트의 Elasticsearch 문서에서 commentCount 필드를 주어진 값만큼 증가시킵니다.
+   *
+   * <p>문서가 없거나 commentCount가 null이면 count로 초기화합니다.
+   *
+   * @param projectId commentCount를 증가시킬 프로젝트의 ID
+   * @param count 증가시킬 값
+   */
+  @Override
+  public void increaseCommentCount(Long projectId, int count) {
     try {
       client.update(
           u ->
               u.index(INDEX)
                   .id(String.valueOf(projectId))
                   .script(
-                      s -> s.inline(i -> i.lang("painless").source(INCREASE_COMMENT_COUNT_SCRIPT)))
+                      s ->
+                          s.inline(
+                              i ->
+                                  i.lang("painless")
+                                      .source(INCREASE_COMMENT_COUNT_SCRIPT)
+                                      .params("count", JsonData.of(count))))
                   .upsert(
                       ProjectSearchDocument.builder()
                           .id(projectId)
-                          .commentCount(1L)
+                          .commentCount((long) count)
                           .isDeleted(false)
                           .build()),
           ProjectSearchDocument.class);
@@ -74,19 +91,35 @@ public class UpdateProjectCommentEsAdapter implements UpdateProjectCommentPort {
   /**
    * 지정된 프로젝트의 Elasticsearch 문서에서 commentCount 필드를 1 감소시킵니다.
    *
-   * <p>commentCount가 null이거나 0 이하인 경우 0으로 설정됩니다.
-   *
    * @param projectId commentCount를 감소시킬 프로젝트의 ID
    */
   @Override
   public void decreaseCommentCount(Long projectId) {
+    decreaseCommentCount(projectId, 1);
+  }
+
+  /**
+   * 지정된 프로젝트의 Elasticsearch 문서에서 commentCount 필드를 주어진 값만큼 감소시킵니다.
+   *
+   * <p>commentCount가 count 이하이거나 null이면 0으로 설정합니다.
+   *
+   * @param projectId commentCount를 감소시킬 프로젝트의 ID
+   * @param count 감소시킬 값
+   */
+  @Override
+  public void decreaseCommentCount(Long projectId, int count) {
     try {
       client.update(
           u ->
               u.index(INDEX)
                   .id(String.valueOf(projectId))
                   .script(
-                      s -> s.inline(i -> i.lang("painless").source(DECREASE_COMMENT_COUNT_SCRIPT)))
+                      s ->
+                          s.inline(
+                              i ->
+                                  i.lang("painless")
+                                      .source(DECREASE_COMMENT_COUNT_SCRIPT)
+                                      .params("count", JsonData.of(count))))
                   .upsert(
                       ProjectSearchDocument.builder()
                           .id(projectId)
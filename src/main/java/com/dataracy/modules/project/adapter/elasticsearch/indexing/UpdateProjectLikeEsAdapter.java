@@ -10,6 +10,7 @@ import com.dataracy.modules.project.application.dto.document.ProjectSearchDocume
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectLikePort;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 
 @Component("updateProjectLikeEsAdapter")
@@ -21,16 +22,16 @@ public class UpdateProjectLikeEsAdapter implements UpdateProjectLikePort {
   private static final String INCREASE_LIKE_COUNT_SCRIPT =
       """
             if (ctx._source.likeCount == null) {
-                ctx._source.likeCount = 1;
+                ctx._source.likeCount = params.count;
             } else {
-                ctx._source.likeCount += 1;
+                ctx._source.likeCount += params.count;
             }
             """;
 
   private static final String DECREASE_LIKE_COUNT_SCRIPT =
       """
-            if (ctx._source.likeCount != null && ctx._source.likeCount > 0) {
-                ctx._source.likeCount -= 1;
+            if (ctx._source.likeCount != null && ctx._source.likeCount > params.count) {
+                ctx._source.likeCount -= params.count;
             } else {
                 ctx._source.likeCount = 0;
             }
@@ -43,16 +44,35 @@ public class UpdateProjectLikeEsAdapter implements UpdateProjectLikePort {
    */
   @Override
   public void increaseLikeCount(Long projectId) {
+    increaseLikeCount(projectId, 1);
+  }
+
+  /**
+   * 지정된 프로젝트의 Elasticsearch 문서에서 likeCount 필드를 주어진 값만큼 증가시킵니다.
+   *
+   * <p>문서가 없거나 likeCount가 null이면 count로 초기화합니다.
+   *
+   * @param projectId likeCount를 증가시킬 프로젝트의 ID
+   * @param count 증가시킬 값
+   */
+  @Override
+  public void increaseLikeCount(Long projectId, int count) {
     try {
       client.update(
           u ->
               u.index(INDEX)
                   .id(String.valueOf(projectId))
-                  .script(s -> s.inline(i -> i.lang("painless").source(INCREASE_LIKE_COUNT_SCRIPT)))
+                  .script(
+                      s ->
+                          s.inline(
+                              i ->
+                                  i.lang("painless")
+                                      .source(INCREASE_LIKE_COUNT_SCRIPT)
+                                      .params("count", JsonData.of(count))))
                   .upsert(
                       ProjectSearchDocument.builder()
                           .id(projectId)
-                          .likeCount(1L)
+                          .likeCount((long) count)
                           .isDeleted(false)
                           .build()),
           ProjectSearchDocument.class);
@@ -71,18 +91,35 @@ public class UpdateProjectLikeEsAdapter implements UpdateProjectLikePort {
   /**
    * 지정된 프로젝트의 Elasticsearch 문서에서 likeCount 필드를 1 감소시킵니다.
    *
-   * <p>likeCount가 0보다 크면 1 감소시키고, 그렇지 않으면 0으로 설정합니다.
-   *
    * @param projectId likeCount를 감소시킬 프로젝트의 ID
    */
   @Override
   public void decreaseLikeCount(Long projectId) {
+    decreaseLikeCount(projectId, 1);
+  }
+
+  /**
+   * 지정된 프로젝트의 Elasticsearch 문서에서 likeCount 필드를 주어진 값만큼 감소시킵니다.
+   *
+   * <p>likeCount가 count 이하이거나 null이면 0으로 설정합니다.
+   *
+   * @param projectId likeCount를 감소시킬 프로젝트의 ID
+   * @param count 감소시킬 값
+   */
+  @Override
+  public void decreaseLikeCount(Long projectId, int count) {
     try {
       client.update(
           u ->
               u.index(INDEX)
                   .id(String.valueOf(projectId))
-                  .script(s -> s.inline(i -> i.lang("painless").source(DECREASE_LIKE_COUNT_SCRIPT)))
+                  .script(
+                      s ->
+                          s.inline(
+                              i ->
+                                  i.lang("painless")
+                                      .source(DECREASE_LIKE_COUNT_SCRIPT)
+                                      .params("count", JsonData.of(count))))
                   .upsert(
                       ProjectSearchDocument.builder()
                           .id(projectId)
@@ -1,8 +1,11 @@
 package com.dataracy.modules.project.adapter.elasticsearch.indexing;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.common.exception.EsUpdateException;
@@ -11,6 +14,9 @@ import com.dataracy.modules.project.application.dto.document.ProjectSearchDocume
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectViewPort;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.json.JsonData;
 import lombok.RequiredArgsConstructor;
 
@@ -19,6 +25,11 @@ import lombok.RequiredArgsConstructor;
 public class UpdateProjectViewEsAdapter implements UpdateProjectViewPort {
   private final ElasticsearchClient client;
   private static final String INDEX = "project_index";
+  private static final int DEFAULT_BULK_CHUNK_SIZE = 500;
+
+  // _bulk 요청 1회에 담을 최대 업데이트 수
+  @Value("${project.es-projection.view-bulk-chunk-size:500}")
+  private int bulkChunkSize;
 
   private static final String INCREASE_VIEW_COUNT_SCRIPT =
       """
@@ -71,7 +82,11 @@ public class UpdateProjectViewEsAdapter implements UpdateProjectViewPort {
   }
 
   /**
-   * 여러 프로젝트의 조회수를 배치로 증가시킵니다.
+   * 여러 프로젝트의 조회수를 _bulk 요청으로 증가시킵니다.
+   *
+   * <p>단건 갱신과 같은 painless 스크립트와 upsert 문서를 사용하며, 요청은 설정된 청크 크기 단위로 나뉘어 전송됩니다. 응답의 항목별 결과를 확인해
+   * 실패한 프로젝트를 로깅하며, 청크 요청 자체가 실패하면 해당 청크의 모든 항목을 실패로 집계합니다. 일부 실패가 전체 처리에 영향을 주지 않도록 예외는
+   * 전파하지 않습니다.
    *
    * @param viewCountUpdates 프로젝트 ID와 증가시킬 조회수 값의 맵
    */
@@ -81,19 +96,83 @@ public class UpdateProjectViewEsAdapter implements UpdateProjectViewPort {
       return;
     }
 
-    // ES에서는 개별 처리 (배치 업데이트는 복잡하므로 개별 처리로 구현)
-    for (Map.Entry<Long, Long> entry : viewCountUpdates.entrySet()) {
-      try {
-        increaseViewCount(entry.getKey(), entry.getValue());
-      } catch (Exception e) {
-        LoggerFactory.elastic()
-            .logError(INDEX, "배치 처리 중 개별 프로젝트 업데이트 실패 - projectId=" + entry.getKey(), e);
-        // 개별 실패가 전체에 영향을 주지 않도록 계속 진행
-      }
+    int chunkSize = bulkChunkSize > 0 ? bulkChunkSize : DEFAULT_BULK_CHUNK_SIZE;
+    List<Map.Entry<Long, Long>> entries = new ArrayList<>(viewCountUpdates.entrySet());
+    int failedCount = 0;
+
+    for (int from = 0; from < entries.size(); from += chunkSize) {
+      List<Map.Entry<Long, Long>> chunk =
+          entries.subList(from, Math.min(from + chunkSize, entries.size()));
+      failedCount += sendChunk(chunk);
     }
 
     LoggerFactory.elastic()
         .logUpdate(
-            INDEX, "배치 처리", "프로젝트 viewCount 배치 업데이트 완료. 처리된 프로젝트 수: " + viewCountUpdates.size());
+            INDEX,
+            "배치 처리",
+            "프로젝트 viewCount 벌크 업데이트 완료. 요청 프로젝트 수: "
+                + viewCountUpdates.size()
+                + ", 실패 프로젝트 수: "
+                + failedCount);
+  }
+
+  /**
+   * 하나의 청크를 _bulk 요청으로 전송하고 실패한 항목 수를 반환합니다.
+   *
+   * @param chunk 전송할 (프로젝트 ID, 증가분) 목록
+   * @return 반영에 실패한 항목 수
+   */
+  private int sendChunk(List<Map.Entry<Long, Long>> chunk) {
+    BulkRequest.Builder builder = new BulkRequest.Builder();
+    for (Map.Entry<Long, Long> entry : chunk) {
+      Long projectId = entry.getKey();
+      Long increment = entry.getValue();
+      builder.operations(
+          op ->
+              op.update(
+                  u ->
+                      u.index(INDEX)
+                          .id(String.valueOf(projectId))
+                          .action(
+                              a ->
+                                  a.script(
+                                          s ->
+                                              s.inline(
+                                                  i ->
+                                                      i.lang("painless")
+                                                          .source(INCREASE_VIEW_COUNT_SCRIPT)
+                                                          .params(
+                                                              "count", JsonData.of(increment))))
+                                      .upsert(
+                                          ProjectSearchDocument.builder()
+                                              .id(projectId)
+                                              .viewCount(increment)
+                                              .isDeleted(false)
+                                              .build()))));
+    }
+
+    int failedCount = 0;
+    try {
+      BulkResponse response = client.bulk(builder.build());
+      if (response.errors()) {
+        for (BulkResponseItem item : response.items()) {
+          if (item.error() != null) {
+            failedCount++;
+            LoggerFactory.elastic()
+                .logWarning(
+                    INDEX,
+                    "벌크 처리 중 프로젝트 viewCount 업데이트 실패 - projectId="
+                        + item.id()
+                        + ", reason="
+                        + item.error().reason());
+          }
+        }
+      }
+    } catch (IOException e) {
+      LoggerFactory.elastic()
+          .logError(INDEX, "프로젝트 viewCount 벌크 요청 실패 - 청크 크기=" + chunk.size(), e);
+      failedCount = chunk.size();
+    }
+    return failedCount;
   }
 }
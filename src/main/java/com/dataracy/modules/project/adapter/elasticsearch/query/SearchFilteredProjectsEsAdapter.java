@@ -0,0 +1,129 @@
+package com.dataracy.modules.project.adapter.elasticsearch.query;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.project.application.dto.document.ProjectSearchDocument;
+import com.dataracy.modules.project.application.dto.request.search.FilteringProjectRequest;
+import com.dataracy.modules.project.application.port.out.query.search.SearchFilteredProjectIdsPort;
+import com.dataracy.modules.project.domain.enums.ProjectSortType;
+import com.dataracy.modules.project.domain.exception.ProjectException;
+import com.dataracy.modules.project.domain.status.ProjectErrorStatus;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class SearchFilteredProjectsEsAdapter implements SearchFilteredProjectIdsPort {
+  private final ElasticsearchClient client;
+  private static final String INDEX = "project_index";
+
+  /**
+   * 키워드와 필터 조건으로 Elasticsearch에서 삭제되지 않은 프로젝트 ID를 정렬·페이지네이션하여 조회합니다.
+   *
+   * <p>키워드는 "title"(가중치 3)과 "content" 필드에 대해 자동 퍼지 멀티매치로 검색하고, 주제·분석 목적·데이터 소스·작성자 레벨 조건은 점수에 영향을
+   * 주지 않는 filter 절로 적용합니다. 문서 본문은 가져오지 않고 ID와 전체 일치 건수만 반환하며, 동일한 정렬 값 사이에서는 ID 내림차순으로 순서를 고정합니다.
+   *
+   * @param request 키워드와 필터 조건이 담긴 요청 객체
+   * @param pageable 페이지네이션 정보
+   * @param sortType 프로젝트 정렬 기준 (null이면 최신순)
+   * @return 정렬된 프로젝트 ID와 전체 건수를 담은 페이지
+   * @throws ProjectException 프로젝트 필터링 검색에 실패한 경우 발생
+   */
+  @Override
+  public Page<Long> searchIdsByFilters(
+      FilteringProjectRequest request, Pageable pageable, ProjectSortType sortType) {
+    try {
+      Instant startTime =
+          LoggerFactory.elastic()
+              .logQueryStart(INDEX, "프로젝트 키워드 필터링 검색 시작: keyword=" + request.keyword());
+      SearchResponse<ProjectSearchDocument> response =
+          client.search(
+              s ->
+                  s.index(INDEX)
+                      .from((int) pageable.getOffset())
+                      .size(pageable.getPageSize())
+                      .trackTotalHits(t -> t.enabled(true))
+                      .source(src -> src.fetch(false))
+                      .sort(buildSortOptions(sortType))
+                      .query(
+                          q ->
+                              q.bool(
+                                  b ->
+                                      b.must(
+                                              m ->
+                                                  m.multiMatch(
+                                                      mm ->
+                                                          mm.fields("title^3", "content")
+                                                              .query(request.keyword())
+                                                              .fuzziness("AUTO")))
+                                          .filter(buildFilterQueries(request)))),
+              ProjectSearchDocument.class);
+      List<Long> projectIds =
+          response.hits().hits().stream().map(hit -> Long.valueOf(hit.id())).toList();
+      TotalHits totalHits = response.hits().total();
+      long total = totalHits != null ? totalHits.value() : projectIds.size();
+      LoggerFactory.elastic()
+          .logQueryEnd(
+              INDEX,
+              "프로젝트 키워드 필터링 검색 종료: keyword=" + request.keyword() + ", total=" + total,
+              startTime);
+      return new PageImpl<>(projectIds, pageable, total);
+    } catch (IOException e) {
+      LoggerFactory.elastic()
+          .logError(INDEX, "프로젝트 키워드 필터링 검색 실패: keyword=" + request.keyword(), e);
+      throw new ProjectException(ProjectErrorStatus.FAIL_FILTERED_SEARCH_PROJECT);
+    }
+  }
+
+  /** 필터링 요청의 조건 중 값이 있는 항목만 filter 절 쿼리로 변환합니다. */
+  private List<Query> buildFilterQueries(FilteringProjectRequest request) {
+    List<Query> filters = new ArrayList<>();
+    filters.add(Query.of(q -> q.term(t -> t.field("isDeleted").value(false))));
+    addTermFilter(filters, "topicId", request.topicId());
+    addTermFilter(filters, "analysisPurposeId", request.analysisPurposeId());
+    addTermFilter(filters, "dataSourceId", request.dataSourceId());
+    addTermFilter(filters, "authorLevelId", request.authorLevelId());
+    return filters;
+  }
+
+  private static void addTermFilter(List<Query> filters, String field, Long value) {
+    if (value != null) {
+      filters.add(Query.of(q -> q.term(t -> t.field(field).value(value))));
+    }
+  }
+
+  /** 정렬 기준을 Elasticsearch 정렬 옵션으로 변환하고, 마지막에 ID 내림차순 정렬을 덧붙입니다. */
+  private List<SortOptions> buildSortOptions(ProjectSortType sortType) {
+    SortOptions primary =
+        sortType == null
+            ? sortBy("createdAt", SortOrder.Desc)
+            : switch (sortType) {
+              case LATEST -> sortBy("createdAt", SortOrder.Desc);
+              case OLDEST -> sortBy("createdAt", SortOrder.Asc);
+              case MOST_LIKED -> sortBy("likeCount", SortOrder.Desc);
+              case MOST_VIEWED -> sortBy("viewCount", SortOrder.Desc);
+              case MOST_COMMENTED -> sortBy("commentCount", SortOrder.Desc);
+              case LEAST_COMMENTED -> sortBy("commentCount", SortOrder.Asc);
+            };
+    return List.of(primary, sortBy("id", SortOrder.Desc));
+  }
+
+  private static SortOptions sortBy(String field, SortOrder order) {
+    return SortOptions.of(so -> so.field(f -> f.field(field).order(order)));
+  }
+}
@@ -0,0 +1,165 @@
+package com.dataracy.modules.project.adapter.jdbc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dataracy.modules.project.domain.enums.ProjectEsProjectionType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로젝트 ES 프로젝션 큐(project_es_projection_queue)에 작업 행을 JDBC로 일괄 기록합니다.
+ *
+ * <p>작업 엔티티의 ID가 IDENTITY 전략이라 JPA saveAll은 행마다 INSERT를 한 번씩 실행합니다. 이 클래스는 청크 단위 multi-row
+ * INSERT로 행을 추가하고, 델타 작업은 아직 선점되지 않은 PENDING 행에 먼저 병합해 큐 크기를 프로젝트 수 수준으로 유지합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectEsProjectionTaskJdbcWriter {
+  static final int CHUNK_SIZE = 500;
+
+  private static final String INSERT_PREFIX =
+      "insert into project_es_projection_queue (project_id, delta_comment, delta_like, delta_view,"
+          + " set_deleted, status, retry_count, next_run_at, created_at, updated_at) values ";
+  private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
+  // 병합 대상은 워커가 아직 선점하지 않은(nextRunAt이 임대 시각으로 밀리지 않은) PENDING 델타 행 하나로 제한한다.
+  // 삭제/복원 작업은 델타가 모두 0인 행으로 식별되므로 델타가 없는 행에는 병합하지 않고, 병합 결과가 0이 되면 새 행을 추가한다.
+  private static final String MERGE_SQL =
+      """
+      update project_es_projection_queue
+         set delta_comment = delta_comment + ?,
+             delta_like = delta_like + ?,
+             delta_view = delta_view + ?,
+             updated_at = ?
+       where project_id = ?
+         and status = ?
+         and set_deleted = false
+         and next_run_at <= ?
+         and (delta_comment <> 0 or delta_like <> 0 or delta_view <> 0)
+         and (delta_comment + ? <> 0 or delta_like + ? <> 0 or delta_view + ? <> 0)
+       limit 1
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 큐에 기록할 작업 한 건입니다.
+   *
+   * @param projectId 대상 프로젝트 ID
+   * @param deltaComment 댓글 수 증감
+   * @param deltaLike 좋아요 수 증감
+   * @param deltaView 조회수 증감
+   * @param setDeleted 삭제 상태 (델타 작업은 false)
+   */
+  public record TaskRow(
+      Long projectId, int deltaComment, int deltaLike, long deltaView, boolean setDeleted) {
+    public static TaskRow delta(Long projectId, int deltaComment, int deltaLike, long deltaView) {
+      return new TaskRow(projectId, deltaComment, deltaLike, deltaView, false);
+    }
+
+    public static TaskRow setDeleted(Long projectId, boolean deleted) {
+      return new TaskRow(projectId, 0, 0, 0L, deleted);
+    }
+
+    boolean hasDelta() {
+      return deltaComment != 0 || deltaLike != 0 || deltaView != 0L;
+    }
+  }
+
+  /**
+   * 작업 행들을 병합 없이 청크 단위 multi-row INSERT로 추가합니다.
+   *
+   * @param rows 추가할 작업 행 목록
+   */
+  public void insertAll(List<TaskRow> rows) {
+    LocalDateTime now = LocalDateTime.now();
+    for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+      insertChunk(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())), now);
+    }
+  }
+
+  /**
+   * 델타 작업을 프로젝트별로 합산한 뒤, 대기 중인 PENDING 행에 병합하고 병합할 행이 없는 델타만 새 행으로 추가합니다.
+   *
+   * <p>병합 UPDATE는 청크마다 하나의 JDBC 배치로, 남은 행은 하나의 multi-row INSERT로 실행합니다. 델타가 모두 0인 항목은 무시합니다.
+   *
+   * @param rows 병합 또는 추가할 델타 작업 목록
+   */
+  public void upsertDeltas(List<TaskRow> rows) {
+    List<TaskRow> deltas = coalesce(rows);
+    LocalDateTime now = LocalDateTime.now();
+    for (int from = 0; from < deltas.size(); from += CHUNK_SIZE) {
+      List<TaskRow> chunk = deltas.subList(from, Math.min(from + CHUNK_SIZE, deltas.size()));
+
+      List<Object[]> mergeArgs = new ArrayList<>(chunk.size());
+      for (TaskRow row : chunk) {
+        mergeArgs.add(
+            new Object[] {
+              row.deltaComment(),
+              row.deltaLike(),
+              row.deltaView(),
+              now,
+              row.projectId(),
+              ProjectEsProjectionType.PENDING.name(),
+              now,
+              row.deltaComment(),
+              row.deltaLike(),
+              row.deltaView()
+            });
+      }
+      int[] merged = jdbcTemplate.batchUpdate(MERGE_SQL, mergeArgs);
+
+      List<TaskRow> unmerged = new ArrayList<>();
+      for (int i = 0; i < chunk.size(); i++) {
+        if (merged[i] == 0) {
+          unmerged.add(chunk.get(i));
+        }
+      }
+      insertChunk(unmerged, now);
+    }
+  }
+
+  private void insertChunk(List<TaskRow> chunk, LocalDateTime now) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW));
+    List<Object> args = new ArrayList<>(chunk.size() * 9);
+    for (TaskRow row : chunk) {
+      args.add(row.projectId());
+      args.add(row.deltaComment());
+      args.add(row.deltaLike());
+      args.add(row.deltaView());
+      args.add(row.setDeleted());
+      args.add(ProjectEsProjectionType.PENDING.name());
+      args.add(now);
+      args.add(now);
+      args.add(now);
+    }
+    jdbcTemplate.update(sql, args.toArray());
+  }
+
+  private static List<TaskRow> coalesce(List<TaskRow> rows) {
+    Map<Long, TaskRow> sums = new LinkedHashMap<>();
+    for (TaskRow row : rows) {
+      sums.merge(
+          row.projectId(),
+          row,
+          (prev, cur) ->
+              TaskRow.delta(
+                  prev.projectId(),
+                  prev.deltaComment() + cur.deltaComment(),
+                  prev.deltaLike() + cur.deltaLike(),
+                  prev.deltaView() + cur.deltaView()));
+    }
+    return sums.values().stream().filter(TaskRow::hasDelta).toList();
+  }
+}
@@ -21,7 +21,12 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "project")
+@Table(
+    name = "project",
+    indexes = {
+      @Index(name = "idx_project_user_created", columnList = "userId, createdAt"),
+      @Index(name = "idx_project_parent_created", columnList = "parent_project_id, createdAt")
+    })
 @SQLRestriction("is_deleted = false")
 public class ProjectEntity extends BaseTimeEntity {
   @Id
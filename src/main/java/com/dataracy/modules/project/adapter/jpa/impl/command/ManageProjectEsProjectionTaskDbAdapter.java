@@ -1,13 +1,18 @@
 package com.dataracy.modules.project.adapter.jpa.impl.command;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.dataracy.modules.project.adapter.jpa.entity.ProjectEsProjectionTaskEntity;
+import com.dataracy.modules.project.adapter.jdbc.ProjectEsProjectionTaskJdbcWriter;
+import com.dataracy.modules.project.adapter.jdbc.ProjectEsProjectionTaskJdbcWriter.TaskRow;
 import com.dataracy.modules.project.adapter.jpa.repository.ProjectEsProjectionTaskRepository;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
+import com.dataracy.modules.project.domain.enums.ProjectEsProjectionType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -15,65 +20,59 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ManageProjectEsProjectionTaskDbAdapter implements ManageProjectProjectionTaskPort {
   private final ProjectEsProjectionTaskRepository repo;
+  private final ProjectEsProjectionTaskJdbcWriter writer;
 
   /**
    * 지정한 프로젝트에 대한 댓글 수 증감(delta)을 데이터베이스에 큐잇(저장)합니다.
    *
-   * <p>이 메서드는 댓글 수 변경을 나타내는 projection task 엔티티를 생성해 저장소에 저장함으로써 이후 프로젝션 적용 시 해당 프로젝트의 댓글 수를 조정할 수
-   * 있도록 합니다.
+   * <p>이 메서드는 댓글 수 변경을 나타내는 projection task 행을 저장소에 추가함으로써 이후 프로젝션 적용 시 해당 프로젝트의 댓글 수를 조정할 수 있도록
+   * 합니다. 개별 처리 모드의 워커는 댓글 작업을 건당 1씩 반영하므로 기존 행에 병합하지 않고 새 행으로 추가합니다.
    *
    * @param projectId 변경 대상 프로젝트의 식별자
    * @param deltaComment 적용할 댓글 수 증감값(음수는 감소, 양수는 증가)
    */
   @Override
   public void enqueueCommentDelta(Long projectId, int deltaComment) {
-    repo.save(
-        ProjectEsProjectionTaskEntity.builder()
-            .projectId(projectId)
-            .deltaComment(deltaComment)
-            .build());
+    writer.insertAll(List.of(TaskRow.delta(projectId, deltaComment, 0, 0L)));
   }
 
   /**
    * 주어진 프로젝트에 대한 '좋아요' 증감(deltaLike)을 비동기 처리할 projection task를 저장한다.
    *
-   * <p>deltaLike는 증가(양수) 또는 감소(음수)를 나타내는 정수 값이다.
+   * <p>deltaLike는 증가(양수) 또는 감소(음수)를 나타내는 정수 값이다. 댓글 작업과 같은 이유로 기존 행에 병합하지 않는다.
    *
    * @param projectId 수정할 대상 프로젝트의 ID
    * @param deltaLike 적용할 좋아요 수의 증감량(양수 또는 음수)
    */
   @Override
   public void enqueueLikeDelta(Long projectId, int deltaLike) {
-    repo.save(
-        ProjectEsProjectionTaskEntity.builder().projectId(projectId).deltaLike(deltaLike).build());
+    writer.insertAll(List.of(TaskRow.delta(projectId, 0, deltaLike, 0L)));
   }
 
   /**
    * 주어진 프로젝트에 대한 조회수(deltaView) 변경을 나타내는 프로젝션 작업을 생성하여 저장한다.
    *
-   * <p>영속 저장소에 프로젝션 작업 엔티티를 저장하여 조회수 변경 처리가 나중에 적용되도록 대기열에 추가한다.
+   * <p>아직 선점되지 않은 같은 프로젝트의 대기 작업이 있으면 그 행에 조회수를 더하고, 없으면 새 작업을 대기열에 추가한다.
    *
    * @param projectId 조회수 변경을 적용할 프로젝트의 ID
    * @param deltaView 적용할 조회수 증감 값(증가/감소를 나타내는 정수)
    */
   @Override
   public void enqueueViewDelta(Long projectId, Long deltaView) {
-    repo.save(
-        ProjectEsProjectionTaskEntity.builder().projectId(projectId).deltaView(deltaView).build());
+    writer.upsertDeltas(List.of(TaskRow.delta(projectId, 0, 0, deltaView)));
   }
 
   /**
    * 주어진 프로젝트에 대해 projection 작업으로 삭제 상태를 큐에 저장한다.
    *
-   * <p>영속 저장소에 "삭제 상태 변경" 작업 엔티티를 생성해 저장하므로, 이후 프로젝션 처리 파이프라인에서 해당 프로젝트의 삭제 플래그가 반영된다.
+   * <p>영속 저장소에 "삭제 상태 변경" 작업 행을 추가하므로, 이후 프로젝션 처리 파이프라인에서 해당 프로젝트의 삭제 플래그가 반영된다.
    *
    * @param projectId 변경할 대상 프로젝트의 식별자
    * @param deleted 설정할 삭제 상태 (true면 삭제로 표시)
    */
   @Override
   public void enqueueSetDeleted(Long projectId, boolean deleted) {
-    repo.save(
-        ProjectEsProjectionTaskEntity.builder().projectId(projectId).setDeleted(deleted).build());
+    writer.insertAll(List.of(TaskRow.setDeleted(projectId, deleted)));
   }
 
   /**
@@ -86,9 +85,46 @@ public class ManageProjectEsProjectionTaskDbAdapter implements ManageProjectProj
     repo.deleteImmediate(projectEsProjectionTaskId);
   }
 
+  /**
+   * 지정한 프로젝트 프로젝션 작업 엔티티들을 한 번의 쿼리로 즉시 삭제합니다.
+   *
+   * @param projectEsProjectionTaskIds 삭제할 프로젝션 작업 ID 목록
+   */
+  @Override
+  @Transactional
+  public void deleteAll(List<Long> projectEsProjectionTaskIds) {
+    if (projectEsProjectionTaskIds.isEmpty()) {
+      return;
+    }
+    repo.deleteAllImmediate(projectEsProjectionTaskIds);
+  }
+
+  /**
+   * 실패한 프로젝트 프로젝션 작업을 RETRYING 상태로 갱신합니다.
+   *
+   * @param projectEsProjectionTaskId 갱신할 프로젝션 작업 ID
+   * @param retryCount 누적 재시도 횟수
+   * @param lastError 마지막 실패 사유
+   * @param nextRunAt 다음 실행 시각
+   */
+  @Override
+  @Transactional
+  public void markRetry(
+      Long projectEsProjectionTaskId, int retryCount, String lastError, LocalDateTime nextRunAt) {
+    repo.markRetry(
+        projectEsProjectionTaskId,
+        ProjectEsProjectionType.RETRYING,
+        retryCount,
+        lastError,
+        nextRunAt);
+  }
+
   /**
    * 여러 프로젝트의 조회수 변경을 배치로 프로젝션 큐에 등록합니다.
    *
+   * <p>아직 선점되지 않은 대기 작업이 있는 프로젝트는 그 행에 조회수를 더하고, 나머지는 multi-row INSERT로 한 번에 추가합니다. 값이 null인 항목은
+   * 무시합니다.
+   *
    * @param viewCountUpdates 프로젝트 ID와 조회수 변경량의 맵
    */
   @Override
@@ -97,16 +133,35 @@ public class ManageProjectEsProjectionTaskDbAdapter implements ManageProjectProj
       return;
     }
 
-    List<ProjectEsProjectionTaskEntity> tasks =
+    List<TaskRow> tasks =
         viewCountUpdates.entrySet().stream()
+            .filter(entry -> entry.getValue() != null)
+            .map(entry -> TaskRow.delta(entry.getKey(), 0, 0, entry.getValue()))
+            .toList();
+
+    writer.upsertDeltas(tasks);
+  }
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 프로젝트당 하나의 작업으로 프로젝션 큐에 등록합니다.
+   *
+   * <p>댓글/좋아요 변경분은 기존 대기 작업에 병합하지 않고 작업별로 보존해 multi-row INSERT로 한 번에 추가합니다.
+   *
+   * @param countDeltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   */
+  @Override
+  public void enqueueCountDeltaBatch(List<ProjectCountDelta> countDeltas) {
+    if (countDeltas.isEmpty()) {
+      return;
+    }
+
+    List<TaskRow> tasks =
+        countDeltas.stream()
             .map(
-                entry ->
-                    ProjectEsProjectionTaskEntity.builder()
-                        .projectId(entry.getKey())
-                        .deltaView(entry.getValue())
-                        .build())
+                delta ->
+                    TaskRow.delta(delta.projectId(), delta.deltaComment(), delta.deltaLike(), 0L))
             .toList();
 
-    repo.saveAll(tasks);
+    writer.insertAll(tasks);
   }
 }
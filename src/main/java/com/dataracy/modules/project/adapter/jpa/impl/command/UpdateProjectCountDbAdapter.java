@@ -0,0 +1,69 @@
+package com.dataracy.modules.project.adapter.jpa.impl.command;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCountPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository("updateProjectCountDbAdapter")
+@RequiredArgsConstructor
+public class UpdateProjectCountDbAdapter implements UpdateProjectCountPort {
+  private final JdbcTemplate jdbcTemplate;
+
+  @Value("${project.count.db-flush-chunk-size:500}")
+  private int chunkSize;
+
+  // Entity 상수 정의
+  private static final String PROJECT_ENTITY = "ProjectEntity";
+
+  private static final String APPLY_COUNT_DELTA_SQL =
+      "update project set comment_count = GREATEST(comment_count + ?, 0), "
+          + "like_count = GREATEST(like_count + ?, 0) where project_id = ?";
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 배치로 반영합니다.
+   *
+   * <p>프로젝트 ID 순으로 정렬한 뒤 {@code chunkSize}개씩 나누어, 파라미터 바인딩된 단일 UPDATE 문을 청크마다 하나의 JDBC 배치로 실행합니다.
+   * 변경분이 많아도 바인딩 파라미터 수 제한에 걸리지 않고, 정렬된 순서로 행 잠금을 잡아 동시 플러시 간 교착을 피합니다. GREATEST로 0 미만을
+   * 막습니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   */
+  @Override
+  @Transactional
+  public void applyCountDeltas(List<ProjectCountDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    List<ProjectCountDelta> sorted =
+        deltas.stream().sorted(Comparator.comparing(ProjectCountDelta::projectId)).toList();
+
+    int updatedCount = 0;
+    for (int from = 0; from < sorted.size(); from += chunkSize) {
+      List<ProjectCountDelta> chunk =
+          sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+      List<Object[]> args = new ArrayList<>(chunk.size());
+      for (ProjectCountDelta delta : chunk) {
+        args.add(new Object[] {delta.deltaComment(), delta.deltaLike(), delta.projectId()});
+      }
+      for (int result : jdbcTemplate.batchUpdate(APPLY_COUNT_DELTA_SQL, args)) {
+        updatedCount += Math.max(result, 0);
+      }
+    }
+
+    LoggerFactory.db()
+        .logUpdate(
+            PROJECT_ENTITY, "배치 처리", "프로젝트 DB 댓글/좋아요 수 배치 반영 완료. 처리된 프로젝트 수: " + updatedCount);
+  }
+}
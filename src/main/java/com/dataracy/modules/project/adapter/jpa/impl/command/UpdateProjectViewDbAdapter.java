@@ -1,28 +1,37 @@
 package com.dataracy.modules.project.adapter.jpa.impl.command;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.metrics.ViewCountFlushMetrics;
 import com.dataracy.modules.project.adapter.jpa.repository.ProjectJpaRepository;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectViewPort;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 
 @Repository("updateProjectViewDbAdapter")
 @RequiredArgsConstructor
 public class UpdateProjectViewDbAdapter implements UpdateProjectViewPort {
   private final ProjectJpaRepository projectJpaRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ViewCountFlushMetrics viewCountFlushMetrics;
 
-  @PersistenceContext private EntityManager entityManager;
+  @Value("${project.view-count.db-flush-chunk-size:500}")
+  private int chunkSize;
 
   // Entity 상수 정의
   private static final String PROJECT_ENTITY = "ProjectEntity";
 
+  private static final String INCREASE_VIEW_COUNT_SQL =
+      "update project set view_count = view_count + ? where project_id = ?";
+
   /**
    * 지정된 프로젝트의 조회수를 특정 수치만큼 증가시킵니다.
    *
@@ -40,6 +49,12 @@ public class UpdateProjectViewDbAdapter implements UpdateProjectViewPort {
   /**
    * 여러 프로젝트의 조회수를 배치로 증가시킵니다.
    *
+   * <p>프로젝트 ID 순으로 정렬한 뒤 {@code chunkSize}개씩 나누어, 파라미터 바인딩된 단일 UPDATE 문을 청크마다 하나의 JDBC 배치로 실행합니다.
+   * SQL 문이 항상 같아 서버 측 캐시를 재사용하고, 정렬된 순서로 행 잠금을 잡아 동시 플러시 간 교착을 피합니다. 증가량이 null이거나 0인 항목은
+   * 건너뜁니다.
+   *
+   * <p>단일 트랜잭션으로 처리되므로 실패 시 예외가 전파됩니다.
+   *
    * @param viewCountUpdates 프로젝트 ID와 증가시킬 조회수 값의 맵
    */
   @Override
@@ -49,33 +64,36 @@ public class UpdateProjectViewDbAdapter implements UpdateProjectViewPort {
       return;
     }
 
-    // ✅ 진짜 배치 처리: 하나의 쿼리로 모든 프로젝트 업데이트
-    StringBuilder caseStatements = new StringBuilder();
-    for (Map.Entry<Long, Long> entry : viewCountUpdates.entrySet()) {
-      caseStatements
-          .append("WHEN ")
-          .append(entry.getKey())
-          .append(" THEN ")
-          .append(entry.getValue())
-          .append(" ");
-    }
+    List<Map.Entry<Long, Long>> updates =
+        viewCountUpdates.entrySet().stream()
+            .filter(entry -> entry.getValue() != null && entry.getValue() != 0L)
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+
+    int updatedCount = 0;
+    int chunkCount = 0;
+    for (int from = 0; from < updates.size(); from += chunkSize) {
+      List<Map.Entry<Long, Long>> chunk =
+          updates.subList(from, Math.min(from + chunkSize, updates.size()));
+      List<Object[]> args = new ArrayList<>(chunk.size());
+      for (Map.Entry<Long, Long> entry : chunk) {
+        args.add(new Object[] {entry.getValue(), entry.getKey()});
+      }
 
-    String query =
-        "UPDATE project SET view_count = view_count + "
-            + "CASE project_id "
-            + caseStatements.toString()
-            + "END "
-            + "WHERE project_id IN ("
-            + String.join(
-                ",", viewCountUpdates.keySet().stream().map(String::valueOf).toArray(String[]::new))
-            + ")";
+      long startNanos = System.nanoTime();
+      int[] results = jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, args);
+      viewCountFlushMetrics.recordChunk(chunk.size(), System.nanoTime() - startNanos);
 
-    int updatedCount = entityManager.createNativeQuery(query).executeUpdate();
+      for (int result : results) {
+        updatedCount += Math.max(result, 0);
+      }
+      chunkCount++;
+    }
 
     LoggerFactory.db()
         .logUpdate(
             PROJECT_ENTITY,
-            "진짜 배치 처리",
-            "프로젝트 DB 조회수 배치 증가 완료. 처리된 프로젝트 수: " + updatedCount + ", 쿼리 수: 1개 (배치)");
+            "배치 처리",
+            "프로젝트 DB 조회수 배치 증가 완료. 처리된 프로젝트 수: " + updatedCount + ", 청크 수: " + chunkCount);
   }
 }
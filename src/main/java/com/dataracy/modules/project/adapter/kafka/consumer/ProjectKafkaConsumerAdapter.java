@@ -1,24 +1,28 @@
 package com.dataracy.modules.project.adapter.kafka.consumer;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
-import com.dataracy.modules.project.application.port.in.command.count.DecreaseCommentCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.DecreaseLikeCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.IncreaseCommentCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.IncreaseLikeCountUseCase;
+import com.dataracy.modules.common.util.KafkaRecordUtil;
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.in.command.count.ApplyProjectCountDeltaUseCase;
 
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class ProjectKafkaConsumerAdapter {
-  private final IncreaseCommentCountUseCase increaseCommentCountUseCase;
-  private final DecreaseCommentCountUseCase decreaseCommentCountUseCase;
-  private final IncreaseLikeCountUseCase increaseLikeCountUseCase;
-  private final DecreaseLikeCountUseCase decreaseLikeCountUseCase;
+  private final ApplyProjectCountDeltaUseCase applyProjectCountDeltaUseCase;
 
   @Value("${spring.kafka.consumer.comment-upload.topic:comment-uploaded-topic}")
   private String commentUploadedTopic;
@@ -26,105 +30,139 @@ public class ProjectKafkaConsumerAdapter {
   @Value("${spring.kafka.consumer.comment-delete.topic:comment-deleted-topic}")
   private String commentDeletedTopic;
 
-  @Value("${spring.kafka.consumer.project-like-increase.topic:project-like-increase-topic}")
-  private String likeIncreaseTopic;
-
-  @Value("${spring.kafka.consumer.project-like-decrease.topic:project-like-decrease-topic}")
-  private String likeDecreaseTopic;
+  @Value("${spring.kafka.consumer.project-like-event.topic:like-events}")
+  private String likeEventTopic;
 
   /**
-   * 프로젝트 댓글 작성 이벤트를 수신하여 해당 프로젝트의 댓글 수를 1 증가시킵니다.
+   * 프로젝트 댓글 작성 이벤트를 배치로 수신하여 프로젝트별 댓글 수를 한 번에 증가시킵니다.
    *
-   * @param projectId 댓글이 작성된 프로젝트의 ID
+   * @param records 한 번의 poll로 수신한 댓글 작성 이벤트(값: 프로젝트 ID)
    */
   @KafkaListener(
       topics = "${spring.kafka.consumer.comment-upload.topic:comment-uploaded-topic}",
       groupId =
           "${spring.kafka.consumer.comment-upload.group-id:project-comment-upload-consumer-group}",
       containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeCommentUpload(Long projectId) {
-    try {
-      LoggerFactory.kafka()
-          .logConsume(commentUploadedTopic, "댓글 작성 이벤트 수신됨: projectId=" + projectId);
-      increaseCommentCountUseCase.increaseCommentCount(projectId);
-      LoggerFactory.kafka()
-          .logConsume(commentUploadedTopic, "댓글 작성 이벤트 처리 완료: projectId=" + projectId);
-    } catch (Exception e) {
-      LoggerFactory.kafka()
-          .logError(commentUploadedTopic, "댓글 작성 이벤트 처리 실패: projectId=" + projectId, e);
-      throw e; // 재시도를 위해 예외 재던지기
-    }
+  public void consumeCommentUpload(List<ConsumerRecord<String, Long>> records) {
+    consumeBatch(commentUploadedTopic, "댓글 작성", records, 1, 0);
   }
 
   /**
-   * Kafka에서 프로젝트의 댓글 삭제 이벤트를 수신하여 해당 프로젝트의 댓글 수를 감소시킵니다.
+   * 프로젝트 댓글 삭제 이벤트를 배치로 수신하여 프로젝트별 댓글 수를 한 번에 감소시킵니다.
    *
-   * @param projectId 댓글이 삭제된 프로젝트의 ID
+   * @param records 한 번의 poll로 수신한 댓글 삭제 이벤트(값: 프로젝트 ID)
    */
   @KafkaListener(
       topics = "${spring.kafka.consumer.comment-delete.topic:comment-deleted-topic}",
       groupId =
           "${spring.kafka.consumer.comment-delete.group-id:project-comment-delete-consumer-group}",
       containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeCommentDelete(Long projectId) {
-    try {
-      LoggerFactory.kafka()
-          .logConsume(commentDeletedTopic, "댓글 삭제 이벤트 수신됨: projectId=" + projectId);
-      decreaseCommentCountUseCase.decreaseCommentCount(projectId);
-      LoggerFactory.kafka()
-          .logConsume(commentDeletedTopic, "댓글 삭제 이벤트 처리 완료: projectId=" + projectId);
-    } catch (Exception e) {
-      LoggerFactory.kafka()
-          .logError(commentDeletedTopic, "댓글 삭제 이벤트 처리 실패: projectId=" + projectId, e);
-      throw e; // 재시도를 위해 예외 재던지기
-    }
+  public void consumeCommentDelete(List<ConsumerRecord<String, Long>> records) {
+    consumeBatch(commentDeletedTopic, "댓글 삭제", records, -1, 0);
   }
 
   /**
-   * Kafka에서 프로젝트 좋아요 증가 이벤트를 수신하여 해당 프로젝트의 좋아요 수를 1 증가시킵니다.
+   * 좋아요 이벤트를 배치로 수신하여 프로젝트 대상 이벤트만 프로젝트별 좋아요 수 순변경분으로 합쳐 한 번에 반영합니다.
    *
-   * @param projectId 좋아요 수를 증가시킬 프로젝트의 ID
+   * <p>댓글 대상 이벤트는 건너뛰고, 역직렬화에 실패한 레코드는 해당 위치로 배치 실패를 알려 DLT로 보냅니다.
+   *
+   * @param records 한 번의 poll로 수신한 좋아요 이벤트
    */
   @KafkaListener(
-      topics = "${spring.kafka.consumer.project-like-increase.topic:project-like-increase-topic}",
+      topics = "${spring.kafka.consumer.project-like-event.topic:like-events}",
       groupId =
-          "${spring.kafka.consumer.project-like-increase.group-id:project-like-increase-consumer-group}",
-      containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeLikeIncrease(Long projectId) {
+          "${spring.kafka.consumer.project-like-event.group-id:project-like-event-consumer-group}",
+      containerFactory = "likeEventKafkaListenerContainerFactory")
+  public void consumeLikeEvents(List<ConsumerRecord<String, LikeEvent>> records) {
+    Map<Long, Integer> likeDeltas = new LinkedHashMap<>();
+    for (int i = 0; i < records.size(); i++) {
+      ConsumerRecord<String, LikeEvent> rec = records.get(i);
+      KafkaRecordUtil.requireDeserialized(rec, i);
+      LikeEvent event = rec.value();
+      if (event != null && event.targetType() == TargetType.PROJECT) {
+        likeDeltas.merge(event.targetId(), event.delta(), Integer::sum);
+      }
+    }
+    if (likeDeltas.isEmpty()) {
+      return;
+    }
+
     try {
       LoggerFactory.kafka()
-          .logConsume(likeIncreaseTopic, "프로젝트 좋아요 이벤트 수신됨: projectId=" + projectId);
-      increaseLikeCountUseCase.increaseLikeCount(projectId);
+          .logConsume(
+              likeEventTopic,
+              "프로젝트 좋아요 이벤트 배치 수신됨: 레코드 수="
+                  + records.size()
+                  + ", 프로젝트 수="
+                  + likeDeltas.size());
+
+      List<ProjectCountDelta> deltas = new ArrayList<>(likeDeltas.size());
+      likeDeltas.forEach(
+          (projectId, delta) -> deltas.add(new ProjectCountDelta(projectId, 0, delta)));
+      applyProjectCountDeltaUseCase.applyCountDeltas(deltas);
+
       LoggerFactory.kafka()
-          .logConsume(likeIncreaseTopic, "프로젝트 좋아요 이벤트 처리 완료: projectId=" + projectId);
+          .logConsume(likeEventTopic, "프로젝트 좋아요 이벤트 배치 처리 완료: projectIds=" + likeDeltas.keySet());
     } catch (Exception e) {
       LoggerFactory.kafka()
-          .logError(likeIncreaseTopic, "프로젝트 좋아요 이벤트 처리 실패: projectId=" + projectId, e);
+          .logError(likeEventTopic, "프로젝트 좋아요 이벤트 배치 처리 실패: projectIds=" + likeDeltas.keySet(), e);
       throw e; // 재시도를 위해 예외 재던지기
     }
   }
 
   /**
-   * Kafka에서 프로젝트 좋아요 취소 이벤트를 수신하여 해당 프로젝트의 좋아요 수를 감소시킵니다.
+   * 배치의 레코드를 프로젝트별 건수로 합쳐 순변경분으로 한 번에 반영합니다.
+   *
+   * <p>예외가 발생하면 다시 던져 에러 핸들러가 배치 전체를 재시도하도록 하며, 오프셋은 배치 처리가 성공한 뒤에만 커밋됩니다.
    *
-   * @param projectId 좋아요 수를 감소시킬 프로젝트의 ID
+   * @param topic 수신 토픽
+   * @param eventName 로그에 남길 이벤트 이름
+   * @param records 수신한 레코드 목록
+   * @param commentSign 이벤트 1건당 댓글 수 증감량
+   * @param likeSign 이벤트 1건당 좋아요 수 증감량
    */
-  @KafkaListener(
-      topics = "${spring.kafka.consumer.project-like-decrease.topic:project-like-decrease-topic}",
-      groupId =
-          "${spring.kafka.consumer.project-like-decrease.group-id:project-like-decrease-consumer-group}",
-      containerFactory = "longKafkaListenerContainerFactory")
-  public void consumeLikeDecrease(Long projectId) {
+  private void consumeBatch(
+      String topic,
+      String eventName,
+      List<ConsumerRecord<String, Long>> records,
+      int commentSign,
+      int likeSign) {
+    Map<Long, Integer> countsByProject = countByProject(records);
     try {
       LoggerFactory.kafka()
-          .logConsume(likeDecreaseTopic, "프로젝트 좋아요 취소 이벤트 수신됨: projectId=" + projectId);
-      decreaseLikeCountUseCase.decreaseLikeCount(projectId);
+          .logConsume(
+              topic,
+              eventName
+                  + " 이벤트 배치 수신됨: 레코드 수="
+                  + records.size()
+                  + ", 프로젝트 수="
+                  + countsByProject.size());
+
+      List<ProjectCountDelta> deltas = new ArrayList<>(countsByProject.size());
+      countsByProject.forEach(
+          (projectId, count) ->
+              deltas.add(new ProjectCountDelta(projectId, commentSign * count, likeSign * count)));
+      applyProjectCountDeltaUseCase.applyCountDeltas(deltas);
+
       LoggerFactory.kafka()
-          .logConsume(likeDecreaseTopic, "프로젝트 좋아요 취소 이벤트 처리 완료: projectId=" + projectId);
+          .logConsume(topic, eventName + " 이벤트 배치 처리 완료: projectIds=" + countsByProject.keySet());
     } catch (Exception e) {
       LoggerFactory.kafka()
-          .logError(likeDecreaseTopic, "프로젝트 좋아요 취소 이벤트 처리 실패: projectId=" + projectId, e);
+          .logError(
+              topic, eventName + " 이벤트 배치 처리 실패: projectIds=" + countsByProject.keySet(), e);
       throw e; // 재시도를 위해 예외 재던지기
     }
   }
+
+  private Map<Long, Integer> countByProject(List<ConsumerRecord<String, Long>> records) {
+    Map<Long, Integer> counts = new LinkedHashMap<>();
+    for (int i = 0; i < records.size(); i++) {
+      ConsumerRecord<String, Long> rec = records.get(i);
+      KafkaRecordUtil.requireDeserialized(rec, i);
+      if (rec.value() != null) {
+        counts.merge(rec.value(), 1, Integer::sum);
+      }
+    }
+    return counts;
+  }
 }
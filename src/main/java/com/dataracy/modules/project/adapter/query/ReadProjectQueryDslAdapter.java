@@ -14,7 +14,10 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
+import com.dataracy.modules.common.support.pagination.KeysetPagination;
 import com.dataracy.modules.like.adapter.jpa.entity.QLikeEntity;
 import com.dataracy.modules.like.domain.enums.TargetType;
 import com.dataracy.modules.project.adapter.jpa.entity.ProjectEntity;
@@ -187,6 +190,61 @@ public class ReadProjectQueryDslAdapter
     return new PageImpl<>(contents, pageable, total);
   }
 
+  /**
+   * 지정된 부모 프로젝트 ID에 속한 자식 프로젝트들을 (생성일, ID) keyset 커서로 최신순 조회합니다.
+   *
+   * <p>size + 1건을 조회해 다음 페이지 여부를 판단하고, 전체 개수는 첫 페이지(cursor == null)에서만 계산합니다.
+   *
+   * @param projectId 부모 프로젝트의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 자식 프로젝트 커서 페이지
+   */
+  @Override
+  public CursorPage<Project> findContinuedProjectsByCursor(
+      Long projectId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                PROJECT_ENTITY,
+                "[findContinuedProjectsByCursor] 이어가기 프로젝트 커서 조회 시작. projectId=" + projectId);
+
+    List<ProjectEntity> entities =
+        queryFactory
+            .selectFrom(project)
+            .where(
+                ProjectFilterPredicate.parentProjectIdEq(projectId),
+                ProjectFilterPredicate.notDeleted(),
+                KeysetPagination.after(project.createdAt, project.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(project.createdAt, project.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(project.count())
+                        .from(project)
+                        .where(
+                            ProjectFilterPredicate.parentProjectIdEq(projectId),
+                            ProjectFilterPredicate.notDeleted())
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<Project> page =
+        KeysetPagination.toCursorPage(entities, size, ReadProjectQueryDslAdapter::cursorOf, total)
+            .map(ProjectEntityMapper::toMinimal);
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            PROJECT_ENTITY,
+            "[findContinuedProjectsByCursor] 이어가기 프로젝트 커서 조회 완료. projectId=" + projectId,
+            startTime);
+    return page;
+  }
+
   /**
    * 지정된 데이터 ID와 연결된 프로젝트들을 페이징하여 조회합니다.
    *
@@ -337,6 +395,61 @@ public class ReadProjectQueryDslAdapter
     return new PageImpl<>(contents, effectivePageable, total);
   }
 
+  /**
+   * 해당 회원이 작성한 프로젝트를 (생성일, ID) keyset 커서로 최신순 조회합니다.
+   *
+   * <p>전체 개수는 첫 페이지(cursor == null)에서만 계산합니다.
+   *
+   * @param userId 작성자 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 작성 프로젝트 커서 페이지
+   */
+  @Override
+  public CursorPage<Project> findUserProjectsByCursor(
+      Long userId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                PROJECT_ENTITY,
+                "[findUserProjectsByCursor] 해당 회원이 작성한 프로젝트 커서 조회 시작. userId=" + userId);
+
+    List<ProjectEntity> entities =
+        queryFactory
+            .selectFrom(project)
+            .where(
+                ProjectFilterPredicate.userIdEq(userId),
+                ProjectFilterPredicate.notDeleted(),
+                KeysetPagination.after(project.createdAt, project.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(project.createdAt, project.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(project.count())
+                        .from(project)
+                        .where(
+                            ProjectFilterPredicate.userIdEq(userId),
+                            ProjectFilterPredicate.notDeleted())
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<Project> page =
+        KeysetPagination.toCursorPage(entities, size, ReadProjectQueryDslAdapter::cursorOf, total)
+            .map(ProjectEntityMapper::toMinimal);
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            PROJECT_ENTITY,
+            "[findUserProjectsByCursor] 해당 회원이 작성한 프로젝트 커서 조회 완료. userId=" + userId,
+            startTime);
+    return page;
+  }
+
   /**
    * 특정 사용자가 '좋아요'한 프로젝트들을 좋아요 기준(최신 좋아요 순)으로 조회하여 페이징된 결과를 반환한다.
    *
@@ -405,4 +518,84 @@ public class ReadProjectQueryDslAdapter
 
     return new PageImpl<>(contents, pageable, total);
   }
+
+  /**
+   * 해당 회원이 좋아요한 프로젝트를 좋아요의 (생성일, ID) keyset 커서로 최신 좋아요 순 조회합니다.
+   *
+   * <p>커서는 좋아요 기록 기준이므로 프로젝트가 삭제되어 빠지더라도 다음 페이지 위치가 흔들리지 않습니다. 좋아요 순서를 유지한 채 삭제되지 않은
+   * 프로젝트만 반환하며, 전체 개수는 첫 페이지(cursor == null)에서만 계산합니다.
+   *
+   * @param userId 조회할 사용자의 식별자
+   * @param cursor 직전 페이지 마지막 좋아요의 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 좋아요한 프로젝트 커서 페이지
+   */
+  @Override
+  public CursorPage<Project> findLikeProjectsByCursor(
+      Long userId, CreatedAtCursor cursor, int size) {
+    Instant startTime =
+        LoggerFactory.query()
+            .logQueryStart(
+                PROJECT_ENTITY,
+                "[findLikeProjectsByCursor] 해당 회원이 좋아요한 프로젝트 커서 조회 시작. userId=" + userId);
+
+    List<Tuple> likeRows =
+        queryFactory
+            .select(like.id, like.createdAt, like.targetId)
+            .from(like)
+            .where(
+                like.userId.eq(userId),
+                like.targetType.eq(TargetType.PROJECT),
+                KeysetPagination.after(like.createdAt, like.id, cursor))
+            .orderBy(KeysetPagination.latestOrder(like.createdAt, like.id))
+            .limit(size + 1L)
+            .fetch();
+
+    Long total =
+        cursor != null
+            ? null
+            : Optional.ofNullable(
+                    queryFactory
+                        .select(like.count())
+                        .from(like)
+                        .where(like.userId.eq(userId), like.targetType.eq(TargetType.PROJECT))
+                        .fetchOne())
+                .orElse(0L);
+
+    CursorPage<Long> likePage =
+        KeysetPagination.toCursorPage(
+                likeRows,
+                size,
+                row -> new CreatedAtCursor(row.get(like.createdAt), row.get(like.id)),
+                total)
+            .map(row -> row.get(like.targetId));
+
+    List<Project> contents = List.of();
+    if (!likePage.content().isEmpty()) {
+      Map<Long, ProjectEntity> projectMap =
+          queryFactory
+              .selectFrom(project)
+              .where(project.id.in(likePage.content()), ProjectFilterPredicate.notDeleted())
+              .fetch()
+              .stream()
+              .collect(Collectors.toMap(ProjectEntity::getId, e -> e));
+      contents =
+          likePage.content().stream()
+              .map(projectMap::get)
+              .filter(Objects::nonNull)
+              .map(ProjectEntityMapper::toMinimal)
+              .toList();
+    }
+
+    LoggerFactory.query()
+        .logQueryEnd(
+            PROJECT_ENTITY,
+            "[findLikeProjectsByCursor] 해당 회원이 좋아요한 프로젝트 커서 조회 완료. userId=" + userId,
+            startTime);
+    return likePage.withContent(contents);
+  }
+
+  private static CreatedAtCursor cursorOf(ProjectEntity entity) {
+    return new CreatedAtCursor(entity.getCreatedAt(), entity.getId());
+  }
 }
@@ -37,13 +37,13 @@ public class SearchProjectQueryDslAdapter implements SearchFilteredProjectsPort
   private static final QProjectEntity project = QProjectEntity.projectEntity;
 
   /**
-   * 필터·정렬·페이징 조건에 따라 프로젝트를 조회하여 Page로 반환합니다.
+   * 키워드 없는 필터·정렬·페이징 조건에 따라 프로젝트를 조회하여 Page로 반환합니다.
    *
    * <p>루트 프로젝트 기준으로 페이징(컬렉션 조인 제외)을 수행한 뒤 해당 루트들만을 다시 로드하면서 1단계 자식은 fetch join으로 함께 가져오고 도메인 변환 시
    * 최대 2단계 자식까지 포함합니다. ID 기반 조회로 인해 보장되지 않는 결과 순서는 원래의 페이지 순서로 복원합니다. 전체 개수(total)는 루트 프로젝트 기준으로
-   * 계산합니다.
+   * 계산합니다. 키워드 검색은 검색 인덱스가 담당하므로 여기서는 키워드 조건을 적용하지 않습니다.
    *
-   * @param request 필터링 조건을 담은 요청 객체(키워드, 토픽, 목적, 데이터소스, 저자레벨 등)
+   * @param request 필터링 조건을 담은 요청 객체(토픽, 목적, 데이터소스, 저자레벨 등)
    * @param pageable 페이징 정보(offset, pageSize 등)
    * @param sortType 결과 정렬 방식
    * @return 필터·정렬·페이징 결과를 담은 Page<Project> (contents는 도메인 객체, total은 루트 기준 카운트)
@@ -72,26 +72,7 @@ public class SearchProjectQueryDslAdapter implements SearchFilteredProjectsPort
       return new PageImpl<>(List.of(), pageable, 0);
     }
 
-    // 부모 + 1단계 자식만 한 번에 로딩 (여기서는 페이징 없음 → fetch join 가능 : 안전)
-    List<ProjectEntity> parentsWithChildren =
-        queryFactory
-            .selectFrom(project)
-            .distinct() // 루트 중복 방지
-            .leftJoin(project.childProjects)
-            .fetchJoin() // 1:N 페치조인 (2단계에서는 OK)
-            .where(project.id.in(pageIds))
-            .fetch();
-
-    // ID 페이징에서의 정렬 순서 복원 (IN 결과는 순서 비보장)
-    var order = new HashMap<Long, Integer>(pageIds.size());
-    for (int i = 0; i < pageIds.size(); i++) {
-      order.put(pageIds.get(i), i);
-    }
-    parentsWithChildren.sort(Comparator.comparingInt(e -> order.get(e.getId())));
-
-    // 도메인 변환 (자식만 포함)
-    List<Project> contents =
-        parentsWithChildren.stream().map(e -> ProjectEntityMapper.toWithChildren(e, 2)).toList();
+    List<Project> contents = loadWithChildrenInOrder(pageIds);
 
     // total (루트만 카운트, 컬렉션 조인 불필요)
     long total =
@@ -107,10 +88,64 @@ public class SearchProjectQueryDslAdapter implements SearchFilteredProjectsPort
     return new PageImpl<>(contents, pageable, total);
   }
 
+  /**
+   * 검색 인덱스가 정한 순서대로 프로젝트를 1단계 자식과 함께 한 번에 조회합니다.
+   *
+   * <p>조회되지 않은 ID(이미 삭제된 프로젝트 등)는 결과에서 제외됩니다.
+   *
+   * @param projectIds 조회할 프로젝트 ID 목록 (반환 순서 기준)
+   * @return 입력 순서를 유지한 프로젝트 목록
+   */
+  @Override
+  public List<Project> findAllByIdsInOrder(List<Long> projectIds) {
+    if (projectIds == null || projectIds.isEmpty()) {
+      return List.of();
+    }
+    Instant start =
+        LoggerFactory.query()
+            .logQueryStart(
+                PROJECT_ENTITY,
+                "[findAllByIdsInOrder] ID 목록으로 프로젝트 조회 시작. size=" + projectIds.size());
+    List<Project> contents = loadWithChildrenInOrder(projectIds);
+    LoggerFactory.query()
+        .logQueryEnd(
+            PROJECT_ENTITY,
+            "[findAllByIdsInOrder] ID 목록으로 프로젝트 조회 완료. size=" + contents.size(),
+            start);
+    return contents;
+  }
+
+  /**
+   * 주어진 루트 ID들의 프로젝트를 1단계 자식과 함께 로드하고 입력 ID 순서대로 정렬해 도메인으로 변환합니다.
+   *
+   * <p>페이징 없이 ID로만 조회하므로 1:N fetch join을 안전하게 사용할 수 있습니다. IN 결과는 순서가 보장되지 않으므로 입력 순서로 복원합니다.
+   */
+  private List<Project> loadWithChildrenInOrder(List<Long> projectIds) {
+    // 부모 + 1단계 자식만 한 번에 로딩 (여기서는 페이징 없음 → fetch join 가능 : 안전)
+    List<ProjectEntity> parentsWithChildren =
+        queryFactory
+            .selectFrom(project)
+            .distinct() // 루트 중복 방지
+            .leftJoin(project.childProjects)
+            .fetchJoin() // 1:N 페치조인 (2단계에서는 OK)
+            .where(project.id.in(projectIds), ProjectFilterPredicate.notDeleted())
+            .fetch();
+
+    // ID 순서 복원 (IN 결과는 순서 비보장)
+    var order = new HashMap<Long, Integer>(projectIds.size());
+    for (int i = 0; i < projectIds.size(); i++) {
+      order.put(projectIds.get(i), i);
+    }
+    parentsWithChildren.sort(Comparator.comparingInt(e -> order.get(e.getId())));
+
+    // 도메인 변환 (자식만 포함)
+    return parentsWithChildren.stream().map(e -> ProjectEntityMapper.toWithChildren(e, 2)).toList();
+  }
+
   /**
    * 프로젝트 필터링 요청에 따라 QueryDSL BooleanExpression 조건 배열을 반환합니다.
    *
-   * <p>FilteringProjectRequest의 각 필드(키워드, 주제, 분석 목적, 데이터 소스, 작성자 레벨)에 해당하는 조건과 삭제되지 않은 프로젝트만을 포함하는
+   * <p>FilteringProjectRequest의 각 필드(주제, 분석 목적, 데이터 소스, 작성자 레벨)에 해당하는 조건과 삭제되지 않은 프로젝트만을 포함하는
    * 조건을 생성하여 배열로 제공합니다.
    *
    * @param request 프로젝트 검색에 사용할 다양한 필터 조건이 포함된 요청 객체
@@ -118,7 +153,6 @@ public class SearchProjectQueryDslAdapter implements SearchFilteredProjectsPort
    */
   private BooleanExpression[] buildFilterPredicates(FilteringProjectRequest request) {
     return new BooleanExpression[] {
-      ProjectFilterPredicate.keywordContains(request.keyword()),
       ProjectFilterPredicate.topicIdEq(request.topicId()),
       ProjectFilterPredicate.analysisPurposeIdEq(request.analysisPurposeId()),
       ProjectFilterPredicate.dataSourceIdEq(request.dataSourceId()),
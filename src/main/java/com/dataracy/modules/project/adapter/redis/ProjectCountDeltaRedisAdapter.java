@@ -0,0 +1,188 @@
+package com.dataracy.modules.project.adapter.redis;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.out.count.ManageProjectCountDeltaPort;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectCountDeltaRedisAdapter implements ManageProjectCountDeltaPort {
+  private final StringRedisTemplate redisTemplate;
+
+  // Redis 키 및 메시지 상수 정의
+  private static final String COUNT_DELTA_PREFIX = "projectCountDelta:";
+  private static final String COUNT_DIRTY_KEY = "projectCountDirty";
+  private static final String REDIS_CONNECTION_FAILURE_MESSAGE = "레디스 서버 연결에 실패했습니다.";
+  private static final String DATA_ACCESS_FAILURE_MESSAGE = "네트워크 오류로 데이터 접근에 실패했습니다.";
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 증감량을 각 해시에 더하고 dirty 세트에 등록하는 스크립트입니다.
+   *
+   * <p>KEYS[1]=dirty 세트 키, ARGV[1]=변경분 해시 키 접두사, ARGV[2..]=(프로젝트 ID, 댓글 증감량, 좋아요 증감량) 반복. 스크립트
+   * 한 번으로 실행되므로 여러 프로젝트의 변경분이 모두 반영되거나 모두 반영되지 않습니다.
+   */
+  private static final String ADD_DELTAS_LUA =
+      "for i = 2, #ARGV, 3 do "
+          + "local key = ARGV[1] .. ARGV[i] "
+          + "if ARGV[i + 1] ~= '0' then redis.call('HINCRBY', key, 'comment', ARGV[i + 1]) end "
+          + "if ARGV[i + 2] ~= '0' then redis.call('HINCRBY', key, 'like', ARGV[i + 2]) end "
+          + "redis.call('SADD', KEYS[1], ARGV[i]) "
+          + "end "
+          + "return 1";
+
+  private static final RedisScript<Long> ADD_DELTAS_SCRIPT =
+      new DefaultRedisScript<>(ADD_DELTAS_LUA, Long.class);
+
+  /**
+   * dirty 세트에서 ID를 꺼내고 각 변경분 해시를 읽은 뒤 삭제하는 스크립트입니다.
+   *
+   * <p>KEYS[1]=dirty 세트 키, ARGV[1]=1회 최대 ID 수, ARGV[2]=변경분 해시 키 접두사. 반환값은 [남은 dirty 개수, id1,
+   * comment1, like1, ...] 형태입니다.
+   */
+  private static final String DRAIN_DELTAS_LUA =
+      "local ids = redis.call('SPOP', KEYS[1], ARGV[1]) "
+          + "local result = {} "
+          + "for _, id in ipairs(ids) do "
+          + "local key = ARGV[2] .. id "
+          + "local values = redis.call('HMGET', key, 'comment', 'like') "
+          + "redis.call('DEL', key) "
+          + "table.insert(result, id) "
+          + "table.insert(result, values[1] or '0') "
+          + "table.insert(result, values[2] or '0') "
+          + "end "
+          + "table.insert(result, 1, tostring(redis.call('SCARD', KEYS[1]))) "
+          + "return result";
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static final RedisScript<List<String>> DRAIN_DELTAS_SCRIPT =
+      (RedisScript) new DefaultRedisScript<>(DRAIN_DELTAS_LUA, List.class);
+
+  /**
+   * 프로젝트의 댓글/좋아요 수 변경분을 Redis 해시(projectCountDelta:{projectId})에 원자적으로 더합니다.
+   *
+   * <p>증감과 dirty 세트 등록을 하나의 Lua 스크립트로 처리하므로 분산 락 없이도 동시 요청이 유실되지 않습니다.
+   *
+   * @param projectId 대상 프로젝트 ID
+   * @param deltaComment 댓글 수 증감량
+   * @param deltaLike 좋아요 수 증감량
+   * @throws CommonException 레디스 연결 실패 또는 데이터 접근 예외 발생 시
+   */
+  @Override
+  public void addDelta(Long projectId, int deltaComment, int deltaLike) {
+    addDeltas(List.of(new ProjectCountDelta(projectId, deltaComment, deltaLike)));
+  }
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 스크립트 한 번으로 원자적으로 더합니다.
+   *
+   * <p>스크립트가 해시 키를 내부에서 조립하므로 단일 노드 Redis를 전제로 합니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   * @throws CommonException 레디스 연결 실패 또는 데이터 접근 예외 발생 시
+   */
+  @Override
+  public void addDeltas(List<ProjectCountDelta> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    Object[] args = new Object[1 + deltas.size() * 3];
+    args[0] = COUNT_DELTA_PREFIX;
+    int i = 1;
+    for (ProjectCountDelta delta : deltas) {
+      args[i++] = delta.projectId().toString();
+      args[i++] = Integer.toString(delta.deltaComment());
+      args[i++] = Integer.toString(delta.deltaLike());
+    }
+
+    try {
+      redisTemplate.execute(ADD_DELTAS_SCRIPT, List.of(COUNT_DIRTY_KEY), args);
+    } catch (RedisConnectionFailureException e) {
+      LoggerFactory.redis().logError(COUNT_DIRTY_KEY, REDIS_CONNECTION_FAILURE_MESSAGE, e);
+      throw new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE);
+    } catch (DataAccessException e) {
+      LoggerFactory.redis().logError(COUNT_DIRTY_KEY, DATA_ACCESS_FAILURE_MESSAGE, e);
+      throw new CommonException(CommonErrorStatus.DATA_ACCESS_EXCEPTION);
+    }
+  }
+
+  /**
+   * dirty 세트에 등록된 프로젝트들의 누적 변경분을 원자적으로 꺼내어 삭제합니다.
+   *
+   * <p>남은 ID가 없을 때까지 스크립트를 반복 호출하며, 스크립트가 해시 키를 내부에서 조립하므로 단일 노드 Redis를 전제로 합니다.
+   *
+   * @param batchSize 스크립트 1회 호출당 꺼낼 최대 ID 수
+   * @return 프로젝트별 누적 변경분 (증감 합계가 모두 0이거나 손상된 값은 제외)
+   * @throws CommonException 레디스 연결 실패 또는 데이터 접근 예외 발생 시
+   */
+  @Override
+  public List<ProjectCountDelta> drainDeltas(int batchSize) {
+    try {
+      Instant startTime =
+          LoggerFactory.redis().logQueryStart(COUNT_DIRTY_KEY, "프로젝트 카운트 변경분 drain 시작");
+
+      List<ProjectCountDelta> deltas = new ArrayList<>();
+      long remaining;
+      do {
+        List<String> result =
+            redisTemplate.execute(
+                DRAIN_DELTAS_SCRIPT,
+                List.of(COUNT_DIRTY_KEY),
+                Integer.toString(batchSize),
+                COUNT_DELTA_PREFIX);
+        if (result == null || result.isEmpty()) {
+          break;
+        }
+        remaining = Long.parseLong(result.get(0));
+        for (int i = 1; i + 2 < result.size(); i += 3) {
+          collectDelta(deltas, result.get(i), result.get(i + 1), result.get(i + 2));
+        }
+      } while (remaining > 0);
+
+      LoggerFactory.redis()
+          .logQueryEnd(
+              COUNT_DIRTY_KEY, "프로젝트 카운트 변경분 drain 종료. 대상 수=" + deltas.size(), startTime);
+      return deltas;
+    } catch (RedisConnectionFailureException e) {
+      LoggerFactory.redis().logError(COUNT_DIRTY_KEY, REDIS_CONNECTION_FAILURE_MESSAGE, e);
+      throw new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE);
+    } catch (DataAccessException e) {
+      LoggerFactory.redis().logError(COUNT_DIRTY_KEY, DATA_ACCESS_FAILURE_MESSAGE, e);
+      throw new CommonException(CommonErrorStatus.DATA_ACCESS_EXCEPTION);
+    }
+  }
+
+  private void collectDelta(
+      List<ProjectCountDelta> deltas, String rawId, String rawComment, String rawLike) {
+    try {
+      ProjectCountDelta delta =
+          new ProjectCountDelta(
+              Long.parseLong(rawId), Integer.parseInt(rawComment), Integer.parseInt(rawLike));
+      if (!delta.isEmpty()) {
+        deltas.add(delta);
+      }
+    } catch (NumberFormatException nfe) {
+      // 손상된 값 방어: 로그 남기고 건너뜀
+      LoggerFactory.redis()
+          .logError(
+              COUNT_DIRTY_KEY,
+              "정수 파싱 실패. id=" + rawId + ", comment=" + rawComment + ", like=" + rawLike,
+              nfe);
+    }
+  }
+}
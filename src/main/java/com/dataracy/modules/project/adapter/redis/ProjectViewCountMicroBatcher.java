@@ -0,0 +1,205 @@
+package com.dataracy.modules.project.adapter.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+
+/**
+ * 조회수 증가 요청을 로컬 큐에 모아 파이프라인 배치로 Redis에 전송하는 마이크로 배처입니다.
+ *
+ * <p>동시에 들어온 요청은 최대 {@code maxBatchSize}개 또는 {@code maxWaitMillis} 동안 모인 뒤 한 번의 파이프라인으로 조회수 스크립트를
+ * 실행합니다. 같은 배치 안의 동일한 (대상, 프로젝트, 뷰어) 요청은 하나로 합쳐집니다. 큐가 가득 차면 {@link #offer}가 false를 반환하며, 호출 측은
+ * 단건 경로로 처리합니다.
+ *
+ * <p>파이프라인 전송이 실패하면 배치의 요청을 큐에 다시 넣어 최대 세 번까지 전송합니다. 스크립트가 중복 방지 키를 먼저 설정하므로
+ * 일부가 이미 반영된 배치를 다시 보내도 조회수는 한 번만 증가합니다.
+ */
+class ProjectViewCountMicroBatcher {
+  private static final String BATCHER_NAME = "ProjectViewCountMicroBatcher";
+  private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+  private final StringRedisTemplate redisTemplate;
+  private final byte[] scriptBytes;
+  private final byte[] ttlSecondsArg;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final BlockingQueue<ViewEvent> queue;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  ProjectViewCountMicroBatcher(
+      StringRedisTemplate redisTemplate,
+      String script,
+      long ttlSeconds,
+      int queueCapacity,
+      int maxBatchSize,
+      long maxWaitMillis) {
+    this.redisTemplate = redisTemplate;
+    this.scriptBytes = script.getBytes(StandardCharsets.UTF_8);
+    this.ttlSecondsArg = Long.toString(ttlSeconds).getBytes(StandardCharsets.UTF_8);
+    this.maxBatchSize = maxBatchSize;
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  /** 배치 전송 스레드를 시작합니다. */
+  void start() {
+    running = true;
+    worker = new Thread(this::runLoop, "view-count-batcher");
+    worker.setDaemon(true);
+    worker.start();
+    LoggerFactory.redis().logInfo(BATCHER_NAME, "조회수 마이크로 배처 시작");
+  }
+
+  /** 배치 전송 스레드를 종료하고 큐에 남은 요청을 모두 전송합니다. */
+  void stop() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+      try {
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    flushRemaining();
+    LoggerFactory.redis().logInfo(BATCHER_NAME, "조회수 마이크로 배처 종료");
+  }
+
+  /** 큐에 남은 요청을 최대 배치 크기 단위로 나누어 모두 전송합니다. */
+  private void flushRemaining() {
+    List<ViewEvent> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    while (!remaining.isEmpty()) {
+      int end = Math.min(maxBatchSize, remaining.size());
+      flush(new LinkedHashSet<>(remaining.subList(0, end)));
+      remaining = remaining.subList(end, remaining.size());
+    }
+  }
+
+  /**
+   * 조회수 증가 요청을 큐에 등록합니다.
+   *
+   * @param dedupKey 중복 방지 키
+   * @param countKey 조회수 카운터 키
+   * @param dirtyKey 조회된 프로젝트 ID를 모으는 dirty 세트 키
+   * @param projectId 조회된 프로젝트 ID
+   * @return 큐 등록 성공 여부 (배처 미동작 또는 큐 포화 시 false)
+   */
+  boolean offer(String dedupKey, String countKey, String dirtyKey, Long projectId) {
+    if (!running) {
+      return false;
+    }
+    return queue.offer(new ViewEvent(dedupKey, countKey, dirtyKey, projectId.toString(), 1));
+  }
+
+  private void runLoop() {
+    while (running) {
+      Set<ViewEvent> batch = new LinkedHashSet<>();
+      try {
+        ViewEvent first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+          long remainingNanos = deadline - System.nanoTime();
+          if (remainingNanos <= 0) {
+            break;
+          }
+          ViewEvent next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+        flush(batch);
+      } catch (InterruptedException e) {
+        // 인터럽트 플래그가 설정된 상태에서는 파이프라인 응답 대기가 실패하므로 모은 요청을 먼저 전송한 뒤 플래그를 복원한다
+        if (!batch.isEmpty()) {
+          flush(batch);
+        }
+        flushRemaining();
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * 모인 요청을 하나의 파이프라인으로 전송합니다.
+   *
+   * <p>파이프라인 안에서는 NOSCRIPT 응답을 재시도하기 어렵기 때문에 EVALSHA 대신 스크립트 본문을 EVAL로 전송합니다. Redis가 스크립트를 캐시하므로
+   * 서버 측 컴파일은 최초 한 번만 일어납니다.
+   */
+  private void flush(Set<ViewEvent> batch) {
+    try {
+      redisTemplate.executePipelined(
+          (RedisCallback<Object>)
+              connection -> {
+                for (ViewEvent event : batch) {
+                  connection
+                      .scriptingCommands()
+                      .eval(
+                          scriptBytes,
+                          ReturnType.INTEGER,
+                          3,
+                          bytes(event.dedupKey()),
+                          bytes(event.countKey()),
+                          bytes(event.dirtyKey()),
+                          ttlSecondsArg,
+                          bytes(event.projectId()));
+                }
+                return null;
+              });
+    } catch (Exception e) {
+      requeue(batch, e);
+    }
+  }
+
+  /**
+   * 전송에 실패한 요청을 큐에 다시 넣습니다.
+   *
+   * <p>재시도 횟수를 모두 소진했거나, 종료 중이거나, 큐가 가득 차서 다시 넣지 못한 요청은 유실된 것으로 기록합니다.
+   */
+  private void requeue(Set<ViewEvent> batch, Exception cause) {
+    int requeued = 0;
+    for (ViewEvent event : batch) {
+      if (running && event.attempt() < MAX_FLUSH_ATTEMPTS && queue.offer(event.nextAttempt())) {
+        requeued++;
+      }
+    }
+    LoggerFactory.redis()
+        .logError(
+            BATCHER_NAME,
+            "조회수 파이프라인 전송 실패. 재시도 요청 수="
+                + requeued
+                + ", 유실된 요청 수="
+                + (batch.size() - requeued),
+            cause);
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private record ViewEvent(
+      String dedupKey, String countKey, String dirtyKey, String projectId, int attempt) {
+    ViewEvent nextAttempt() {
+      return new ViewEvent(dedupKey, countKey, dirtyKey, projectId, attempt + 1);
+    }
+  }
+}
@@ -2,14 +2,21 @@ package com.dataracy.modules.project.adapter.redis;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.dataracy.modules.common.exception.CommonException;
@@ -17,6 +24,8 @@ import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.common.status.CommonErrorStatus;
 import com.dataracy.modules.project.application.port.out.view.ManageProjectViewCountPort;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -28,13 +37,96 @@ public class ProjectViewCountRedisAdapter implements ManageProjectViewCountPort
   // Redis 키 및 메시지 상수 정의
   private static final String VIEW_COUNT_PREFIX = "viewCount:";
   private static final String VIEW_COUNT_KEY_FORMAT = "viewCount:%s:%s";
+  private static final String VIEW_DEDUP_PREFIX = "viewDedup:";
+  private static final String VIEW_DIRTY_PREFIX = "viewDirty:";
   private static final String REDIS_CONNECTION_FAILURE_MESSAGE = "레디스 서버 연결에 실패했습니다.";
   private static final String DATA_ACCESS_FAILURE_MESSAGE = "네트워크 오류로 데이터 접근에 실패했습니다.";
 
+  /**
+   * 중복 방지 키 설정, 조회수 증가, dirty 세트 등록을 한 번의 왕복으로 수행하는 스크립트입니다.
+   *
+   * <p>KEYS[1]=중복 방지 키, KEYS[2]=조회수 키, KEYS[3]=dirty 세트 키, ARGV[1]=중복 방지 TTL(초), ARGV[2]=프로젝트
+   * ID. 조회수가 증가하면 1, 중복 조회면 0을 반환합니다.
+   */
+  static final String INCREASE_VIEW_COUNT_LUA =
+      "if redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then "
+          + "redis.call('INCR', KEYS[2]) "
+          + "redis.call('SADD', KEYS[3], ARGV[2]) "
+          + "return 1 "
+          + "end "
+          + "return 0";
+
+  private static final RedisScript<Long> INCREASE_VIEW_COUNT_SCRIPT =
+      new DefaultRedisScript<>(INCREASE_VIEW_COUNT_LUA, Long.class);
+
+  /**
+   * dirty 세트에서 ID를 꺼내고 각 조회수 키를 GETDEL하는 스크립트입니다.
+   *
+   * <p>KEYS[1]=dirty 세트 키, ARGV[1]=1회 최대 ID 수, ARGV[2]=조회수 키 접두사. 반환값의 첫 원소는 남은 dirty 개수입니다.
+   */
+  private static final String DRAIN_VIEW_COUNTS_LUA =
+      "local ids = redis.call('SPOP', KEYS[1], ARGV[1]) "
+          + "local result = {} "
+          + "for _, id in ipairs(ids) do "
+          + "local count = redis.call('GETDEL', ARGV[2] .. id) "
+          + "if count then "
+          + "table.insert(result, id) "
+          + "table.insert(result, count) "
+          + "end "
+          + "end "
+          + "table.insert(result, 1, tostring(redis.call('SCARD', KEYS[1]))) "
+          + "return result";
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static final RedisScript<List<String>> DRAIN_VIEW_COUNTS_SCRIPT =
+      (RedisScript) new DefaultRedisScript<>(DRAIN_VIEW_COUNTS_LUA, List.class);
+
+  @Value("${project.view-count.micro-batch.enabled:false}")
+  private boolean microBatchEnabled;
+
+  @Value("${project.view-count.micro-batch.queue-capacity:10000}")
+  private int microBatchQueueCapacity;
+
+  @Value("${project.view-count.micro-batch.max-size:128}")
+  private int microBatchMaxSize;
+
+  @Value("${project.view-count.micro-batch.max-wait-ms:5}")
+  private long microBatchMaxWaitMillis;
+
+  private ProjectViewCountMicroBatcher microBatcher;
+
+  // 기존 조회수 키를 dirty 세트에 한 번 등록한 대상 유형
+  private final Set<String> backfilledTargetTypes = ConcurrentHashMap.newKeySet();
+
+  /** 마이크로 배치가 활성화된 경우 배치 전송 스레드를 시작합니다. */
+  @PostConstruct
+  public void init() {
+    if (microBatchEnabled) {
+      microBatcher =
+          new ProjectViewCountMicroBatcher(
+              redisTemplate,
+              INCREASE_VIEW_COUNT_LUA,
+              TTL.toSeconds(),
+              microBatchQueueCapacity,
+              microBatchMaxSize,
+              microBatchMaxWaitMillis);
+      microBatcher.start();
+    }
+  }
+
+  /** 종료 시 큐에 남은 조회수 요청을 모두 전송합니다. */
+  @PreDestroy
+  public void destroy() {
+    if (microBatcher != null) {
+      microBatcher.stop();
+    }
+  }
+
   /**
    * 주어진 프로젝트와 대상 유형에 대해 뷰어가 5분 이내 최초로 조회할 때만 조회수를 1 증가시킵니다.
    *
-   * <p>동일 뷰어가 5분 내에 여러 번 조회해도 조회수는 한 번만 증가합니다.
+   * <p>동일 뷰어가 5분 내에 여러 번 조회해도 조회수는 한 번만 증가합니다. 중복 확인, 조회수 증가, dirty 세트 등록은 하나의 Lua 스크립트로 한 번에
+   * 처리됩니다. 마이크로 배치가 활성화되어 있으면 요청을 큐에 넣고 즉시 반환하며, 큐가 가득 찬 경우에만 단건으로 실행합니다.
    *
    * @param projectId 조회수를 증가시킬 프로젝트의 ID
    * @param viewerId 조회를 시도한 뷰어의 고유 식별자
@@ -43,29 +135,30 @@ public class ProjectViewCountRedisAdapter implements ManageProjectViewCountPort
    */
   @Override
   public void increaseViewCount(Long projectId, String viewerId, String targetType) {
-    try {
-      String dedupKey = String.format("viewDedup:%s:%s:%s", targetType, projectId, viewerId);
+    String countKey = VIEW_COUNT_PREFIX + targetType + ":" + projectId;
+    String dedupKey = VIEW_DEDUP_PREFIX + targetType + ":" + projectId + ":" + viewerId;
+    String dirtyKey = VIEW_DIRTY_PREFIX + targetType;
 
-      Boolean wasSet = redisTemplate.opsForValue().setIfAbsent(dedupKey, "1", TTL);
-      if (Boolean.TRUE.equals(wasSet)) {
-        String countKey = String.format(VIEW_COUNT_KEY_FORMAT, targetType, projectId);
-        redisTemplate.opsForValue().increment(countKey);
+    if (microBatcher != null && microBatcher.offer(dedupKey, countKey, dirtyKey, projectId)) {
+      return;
+    }
+
+    try {
+      Long increased =
+          redisTemplate.execute(
+              INCREASE_VIEW_COUNT_SCRIPT,
+              List.of(dedupKey, countKey, dirtyKey),
+              Long.toString(TTL.toSeconds()),
+              projectId.toString());
+      if (increased != null && increased == 1L) {
         LoggerFactory.redis()
-            .logSaveOrUpdate(
-                VIEW_COUNT_PREFIX + targetType + ":" + projectId,
-                "해당 프로젝트를 조회하였습니다. projectId=" + projectId);
+            .logSaveOrUpdate(countKey, "해당 프로젝트를 조회하였습니다. projectId=" + projectId);
       }
     } catch (RedisConnectionFailureException e) {
-      LoggerFactory.redis()
-          .logError(
-              VIEW_COUNT_PREFIX + targetType + ":" + projectId,
-              REDIS_CONNECTION_FAILURE_MESSAGE,
-              e);
+      LoggerFactory.redis().logError(countKey, REDIS_CONNECTION_FAILURE_MESSAGE, e);
       throw new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE);
     } catch (DataAccessException e) {
-      LoggerFactory.redis()
-          .logError(
-              VIEW_COUNT_PREFIX + targetType + ":" + projectId, DATA_ACCESS_FAILURE_MESSAGE, e);
+      LoggerFactory.redis().logError(countKey, DATA_ACCESS_FAILURE_MESSAGE, e);
       throw new CommonException(CommonErrorStatus.DATA_ACCESS_EXCEPTION);
     }
   }
@@ -116,50 +209,129 @@ public class ProjectViewCountRedisAdapter implements ManageProjectViewCountPort
   }
 
   /**
-   * 지정된 타겟 타입에 해당하는 모든 조회수 Redis 키의 집합을 반환합니다.
+   * dirty 세트에 등록된 대상들의 조회수를 원자적으로 꺼내어 삭제합니다.
    *
-   * @param targetType 조회수 키를 검색할 타겟 타입
-   * @return 해당 타겟 타입의 모든 조회수 Redis 키 집합
-   * @throws CommonException 레디스 연결 실패 또는 데이터 접근 예외 발생 시
+   * <p>스크립트 한 번에 dirty 세트(viewDirty:{targetType})에서 최대 batchSize개의 ID를 SPOP하고, 각 ID의 조회수 키를 GETDEL한
+   * 결과를 [남은 dirty 개수, id1, count1, id2, count2, ...] 형태로 돌려받습니다. 남은 ID가 없을 때까지 반복하므로 비용은 전체 키
+   * 공간이 아닌 실제 조회된 프로젝트 수에 비례합니다. 스크립트가 조회수 키를 내부에서 조립하므로 단일 노드 Redis를 전제로 합니다.
+   *
+   * <p>반복 도중 Redis 오류가 나면 이미 꺼낸 조회수는 Redis에서 삭제된 상태이므로 예외 대신 지금까지 꺼낸 결과를 반환하고, 남은 ID는 다음 주기에
+   * 처리합니다. 아무것도 꺼내지 못했을 때만 예외를 던집니다.
+   *
+   * @param targetType 조회수를 꺼낼 대상 유형
+   * @param batchSize 스크립트 1회 호출당 꺼낼 최대 ID 수
+   * @return 대상 ID별 누적 조회수(0 이하 또는 손상된 값은 제외)
+   * @throws CommonException REDIS_CONNECTION_FAILURE - Redis 연결 실패 시
+   * @throws CommonException DATA_ACCESS_EXCEPTION - Redis 접근 중 기타 데이터 오류 발생 시
    */
   @Override
-  public Set<String> getAllViewCountKeys(String targetType) {
+  public Map<Long, Long> drainViewCounts(String targetType, int batchSize) {
+    String dirtyKey = VIEW_DIRTY_PREFIX + targetType;
+    String countKeyPrefix = VIEW_COUNT_PREFIX + targetType + ":";
+    Map<Long, Long> viewCounts = new HashMap<>();
+
     try {
       Instant startTime =
           LoggerFactory.redis()
-              .logQueryStart(
-                  VIEW_COUNT_PREFIX + targetType + ":*",
-                  "지정된 타겟 타입에 해당하는 모든 조회수 Redis 키를 반환. targetType=" + targetType);
-
-      Set<String> keys = new HashSet<>();
-      ScanOptions options =
-          ScanOptions.scanOptions()
-              .match(String.format(VIEW_COUNT_KEY_FORMAT, targetType, "*"))
-              .build();
-
-      try (Cursor<String> cursor = redisTemplate.scan(options)) {
-        while (cursor.hasNext()) {
-          keys.add(cursor.next());
-        }
+              .logQueryStart(dirtyKey, "dirty 세트 기반 조회수 drain 시작. targetType=" + targetType);
+
+      if (!backfilledTargetTypes.contains(targetType)) {
+        backfillDirtySet(dirtyKey, countKeyPrefix, batchSize);
+        backfilledTargetTypes.add(targetType);
       }
 
+      long remaining;
+      do {
+        List<String> result =
+            redisTemplate.execute(
+                DRAIN_VIEW_COUNTS_SCRIPT,
+                List.of(dirtyKey),
+                Integer.toString(batchSize),
+                countKeyPrefix);
+        if (result == null || result.isEmpty()) {
+          break;
+        }
+        remaining = Long.parseLong(result.get(0));
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+          collectViewCount(viewCounts, dirtyKey, result.get(i), result.get(i + 1));
+        }
+      } while (remaining > 0);
+
       LoggerFactory.redis()
           .logQueryEnd(
-              VIEW_COUNT_PREFIX + targetType + ":*",
-              "지정된 타겟 타입에 해당하는 모든 조회수 Redis 키를 반환. targetType=" + targetType,
+              dirtyKey,
+              "dirty 세트 기반 조회수 drain 종료. 대상 수=" + viewCounts.size(),
               startTime);
-      return keys;
+      return viewCounts;
     } catch (RedisConnectionFailureException e) {
-      LoggerFactory.redis()
-          .logError(VIEW_COUNT_PREFIX + targetType + ":*", REDIS_CONNECTION_FAILURE_MESSAGE, e);
+      LoggerFactory.redis().logError(dirtyKey, REDIS_CONNECTION_FAILURE_MESSAGE, e);
+      if (!viewCounts.isEmpty()) {
+        return partiallyDrained(dirtyKey, viewCounts);
+      }
       throw new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE);
     } catch (DataAccessException e) {
-      LoggerFactory.redis()
-          .logError(VIEW_COUNT_PREFIX + targetType + ":*", DATA_ACCESS_FAILURE_MESSAGE, e);
+      LoggerFactory.redis().logError(dirtyKey, DATA_ACCESS_FAILURE_MESSAGE, e);
+      if (!viewCounts.isEmpty()) {
+        return partiallyDrained(dirtyKey, viewCounts);
+      }
       throw new CommonException(CommonErrorStatus.DATA_ACCESS_EXCEPTION);
     }
   }
 
+  private Map<Long, Long> partiallyDrained(String dirtyKey, Map<Long, Long> viewCounts) {
+    LoggerFactory.redis()
+        .logWarning(
+            dirtyKey, "조회수 drain이 중간에 실패해 이미 꺼낸 결과만 반환합니다. 대상 수=" + viewCounts.size());
+    return viewCounts;
+  }
+
+  /**
+   * dirty 세트 도입 이전에 쌓인 조회수 키를 SCAN해 dirty 세트에 등록합니다.
+   *
+   * <p>조회수 증가 시점에만 dirty 세트에 등록되므로, 배포 직전에 생성된 키는 SCAN 없이는 drain되지 않습니다. 대상 유형별로 프로세스당 한 번만
+   * 실행합니다.
+   */
+  private void backfillDirtySet(String dirtyKey, String countKeyPrefix, int batchSize) {
+    ScanOptions options = ScanOptions.scanOptions().match(countKeyPrefix + "*").count(500).build();
+    List<String> ids = new ArrayList<>();
+    long backfilled = 0;
+    try (Cursor<String> cursor = redisTemplate.scan(options)) {
+      while (cursor.hasNext()) {
+        String id = cursor.next().substring(countKeyPrefix.length());
+        if (!id.isEmpty() && id.chars().allMatch(Character::isDigit)) {
+          ids.add(id);
+        }
+        if (ids.size() >= batchSize) {
+          redisTemplate.opsForSet().add(dirtyKey, ids.toArray(String[]::new));
+          backfilled += ids.size();
+          ids.clear();
+        }
+      }
+    }
+    if (!ids.isEmpty()) {
+      redisTemplate.opsForSet().add(dirtyKey, ids.toArray(String[]::new));
+      backfilled += ids.size();
+    }
+    if (backfilled > 0) {
+      LoggerFactory.redis()
+          .logSaveOrUpdate(dirtyKey, "기존 조회수 키를 dirty 세트에 등록했습니다. 키 수=" + backfilled);
+    }
+  }
+
+  private void collectViewCount(
+      Map<Long, Long> viewCounts, String dirtyKey, String rawId, String rawCount) {
+    try {
+      long count = Long.parseLong(rawCount);
+      if (count > 0) {
+        viewCounts.merge(Long.parseLong(rawId), count, Long::sum);
+      }
+    } catch (NumberFormatException nfe) {
+      // 손상된 값 방어: 로그 남기고 건너뜀
+      LoggerFactory.redis()
+          .logError(dirtyKey, "정수 파싱 실패. id=" + rawId + ", value=" + rawCount, nfe);
+    }
+  }
+
   /**
    * 지정된 대상 유형과 ID에 대응하는 조회수 Redis 키(viewCount:{targetType}:{targetId})를 삭제합니다.
    *
@@ -11,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 import com.dataracy.modules.common.support.annotation.CurrentUserId;
 import com.dataracy.modules.project.adapter.web.response.read.*;
@@ -24,6 +25,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
 @Tag(name = "Project - Read", description = "프로젝트 관련 API - 조회")
@@ -71,6 +73,31 @@ public interface ProjectReadApi {
   ResponseEntity<SuccessResponse<Page<ContinuedProjectWebResponse>>> findContinueProjects(
       @PathVariable Long projectId, @PageableDefault(size = 3, page = 0) Pageable pageable);
 
+  /**
+   * 지정한 프로젝트를 기준으로 이어지는 프로젝트들을 커서 기반으로 최신순 조회한다.
+   *
+   * @param projectId 조회 기준이 되는 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 3)
+   * @return 이어지는 프로젝트들의 커서 페이지를 담은 성공 응답 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "해당하는 프로젝트의 이어가기 프로젝트 리스트를 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "이어가기 프로젝트 리스트 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/{projectId}/continue/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<ContinuedProjectWebResponse>>>
+      findContinueProjectsByCursor(
+          @PathVariable Long projectId,
+          @RequestParam(required = false) String cursor,
+          @RequestParam(defaultValue = "3") @Min(1) @Max(50) int size);
+
   /**
    * 지정한 데이터셋에 연결된 프로젝트 목록을 페이지네이션하여 반환합니다.
    *
@@ -139,6 +166,36 @@ public interface ProjectReadApi {
       @Parameter(hidden = true) @CurrentUserId Long userId,
       @PageableDefault(size = 5, page = 0) Pageable pageable);
 
+  /**
+   * 로그인한 사용자가 업로드한 프로젝트들을 커서 기반으로 최신순 조회한다.
+   *
+   * @param userId 호출된 요청의 인증된 사용자 ID (보안 컨텍스트에서 주입됨, API 문서에는 숨겨짐)
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 5)
+   * @return 사용자가 업로드한 프로젝트들의 커서 페이지를 담은 성공 응답 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "로그인한 회원이 업로드한 프로젝트 리스트를 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @Parameter(
+      in = ParameterIn.HEADER,
+      name = "Authorization",
+      required = true,
+      schema = @Schema(type = "string"),
+      description = "Bearer [Access 토큰]")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "로그인한 회원이 업로드한 프로젝트 리스트를 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/me/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<UserProjectWebResponse>>> findUserProjectsByCursor(
+      @Parameter(hidden = true) @CurrentUserId Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size);
+
   /**
    * 로그인한 회원이 좋아요한 프로젝트의 페이징된 목록을 조회한다.
    *
@@ -166,4 +223,34 @@ public interface ProjectReadApi {
   ResponseEntity<SuccessResponse<Page<UserProjectWebResponse>>> findLikeProjects(
       @Parameter(hidden = true) @CurrentUserId Long userId,
       @PageableDefault(size = 5, page = 0) Pageable pageable);
+
+  /**
+   * 로그인한 회원이 좋아요한 프로젝트들을 커서 기반으로 최신 좋아요 순 조회한다.
+   *
+   * @param userId 현재 인증된 사용자의 ID (요청의 Authorization 토큰에서 주입됨)
+   * @param cursor 직전 응답의 nextCursor (첫 페이지는 생략)
+   * @param size 페이지 크기 (1~50, 기본값 5)
+   * @return 좋아요한 프로젝트들의 커서 페이지를 담은 성공 응답 (전체 개수는 첫 페이지에서만 제공)
+   */
+  @Operation(
+      summary = "로그인한 회원이 좋아요한 프로젝트 리스트를 커서 기반으로 조회한다.",
+      description = "응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회한다. 전체 개수는 첫 페이지에서만 제공한다.")
+  @Parameter(
+      in = ParameterIn.HEADER,
+      name = "Authorization",
+      required = true,
+      schema = @Schema(type = "string"),
+      description = "Bearer [Access 토큰]")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "로그인한 회원이 좋아요한 프로젝트 리스트를 조회에 성공했습니다.",
+            useReturnTypeSchema = true)
+      })
+  @GetMapping("/like/cursor")
+  ResponseEntity<SuccessResponse<CursorPage<UserProjectWebResponse>>> findLikeProjectsByCursor(
+      @Parameter(hidden = true) @CurrentUserId Long userId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "5") @Min(1) @Max(50) int size);
 }
@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.dto.response.SuccessResponse;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.common.util.ExtractHeaderUtil;
@@ -94,6 +95,35 @@ public class ProjectReadController implements ProjectReadApi {
         .body(SuccessResponse.of(ProjectSuccessStatus.GET_CONTINUE_PROJECTS, webResponse));
   }
 
+  /**
+   * 기준 프로젝트 ID를 기반으로 이어지는 프로젝트 목록을 커서 기반으로 조회합니다.
+   *
+   * @param projectId 이어지는 프로젝트를 조회할 기준이 되는 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 이어지는 프로젝트 커서 페이지가 포함된 성공 응답 객체
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<ContinuedProjectWebResponse>>>
+      findContinueProjectsByCursor(Long projectId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api()
+            .logRequest("[FindContinueProjectsByCursor] 이어가기 프로젝트 커서 조회 API 요청 시작");
+    CursorPage<ContinuedProjectWebResponse> webResponse;
+
+    try {
+      CursorPage<ContinuedProjectResponse> responseDto =
+          findContinuedProjectsUseCase.findContinuedProjectsByCursor(projectId, cursor, size);
+      webResponse = responseDto.map(projectReadWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindContinueProjectsByCursor] 이어가기 프로젝트 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(ProjectSuccessStatus.GET_CONTINUE_PROJECTS, webResponse));
+  }
+
   /**
    * 지정된 데이터 ID와 연결된 프로젝트 목록을 페이지네이션하여 반환합니다.
    *
@@ -183,6 +213,35 @@ public class ProjectReadController implements ProjectReadApi {
         .body(SuccessResponse.of(ProjectSuccessStatus.GET_USER_PROJECTS, webResponse));
   }
 
+  /**
+   * 지정한 사용자가 업로드한 프로젝트를 커서 기반으로 조회하여 반환합니다.
+   *
+   * @param userId 조회 대상 사용자의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return HTTP 200과 함께 UserProjectWebResponse 커서 페이지를 담은 SuccessResponse
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<UserProjectWebResponse>>>
+      findUserProjectsByCursor(Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api()
+            .logRequest("[FindUserProjectsByCursor] 로그인한 회원이 업로드한 프로젝트 커서 조회 API 요청 시작");
+    CursorPage<UserProjectWebResponse> webResponse;
+
+    try {
+      CursorPage<UserProjectResponse> responseDto =
+          findUserProjectsUseCase.findUserProjectsByCursor(userId, cursor, size);
+      webResponse = responseDto.map(projectReadWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindUserProjectsByCursor] 로그인한 회원이 업로드한 프로젝트 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(ProjectSuccessStatus.GET_USER_PROJECTS, webResponse));
+  }
+
   /**
    * 지정한 사용자가 '좋아요'한 프로젝트들의 페이지를 조회하여 웹 응답 DTO로 반환한다.
    *
@@ -209,4 +268,33 @@ public class ProjectReadController implements ProjectReadApi {
     return ResponseEntity.status(HttpStatus.OK)
         .body(SuccessResponse.of(ProjectSuccessStatus.GET_LIKE_PROJECTS, webResponse));
   }
+
+  /**
+   * 지정한 사용자가 '좋아요'한 프로젝트들을 커서 기반으로 조회하여 웹 응답 DTO로 반환한다.
+   *
+   * @param userId 좋아요 목록을 조회할 사용자의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 해당 사용자가 좋아요한 프로젝트 커서 페이지를 담은 SuccessResponse (HTTP 200)
+   */
+  @Override
+  public ResponseEntity<SuccessResponse<CursorPage<UserProjectWebResponse>>>
+      findLikeProjectsByCursor(Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.api()
+            .logRequest("[FindLikeProjectsByCursor] 로그인한 회원이 좋아요한 프로젝트 커서 조회 API 요청 시작");
+    CursorPage<UserProjectWebResponse> webResponse;
+
+    try {
+      CursorPage<UserProjectResponse> responseDto =
+          findUserProjectsUseCase.findLikeProjectsByCursor(userId, cursor, size);
+      webResponse = responseDto.map(projectReadWebMapper::toWebDto);
+    } finally {
+      LoggerFactory.api()
+          .logResponse("[FindLikeProjectsByCursor] 로그인한 회원이 좋아요한 프로젝트 커서 조회 API 응답 완료", startTime);
+    }
+
+    return ResponseEntity.status(HttpStatus.OK)
+        .body(SuccessResponse.of(ProjectSuccessStatus.GET_LIKE_PROJECTS, webResponse));
+  }
 }
@@ -0,0 +1,19 @@
+package com.dataracy.modules.project.application.dto.count;
+
+/**
+ * 한 프로젝트에 대해 누적된 댓글/좋아요 수 변경분입니다.
+ *
+ * @param projectId 대상 프로젝트 ID
+ * @param deltaComment 댓글 수 증감 합계
+ * @param deltaLike 좋아요 수 증감 합계
+ */
+public record ProjectCountDelta(Long projectId, int deltaComment, int deltaLike) {
+  /**
+   * 반영할 변경분이 없는지 확인합니다.
+   *
+   * @return 댓글/좋아요 증감이 모두 0이면 true
+   */
+  public boolean isEmpty() {
+    return deltaComment == 0 && deltaLike == 0;
+  }
+}
@@ -0,0 +1,13 @@
+package com.dataracy.modules.project.application.dto.projection;
+
+/**
+ * 한 프로젝트에 대해 병합된 ES 프로젝션 변경분입니다.
+ *
+ * @param projectId 대상 프로젝트 ID
+ * @param deltaComment 댓글 수 증감 합계
+ * @param deltaLike 좋아요 수 증감 합계
+ * @param deltaView 조회수 증가 합계
+ * @param setDeleted 마지막으로 요청된 삭제 상태(요청이 없으면 null)
+ */
+public record ProjectProjectionDelta(
+    Long projectId, int deltaComment, int deltaLike, long deltaView, Boolean setDeleted) {}
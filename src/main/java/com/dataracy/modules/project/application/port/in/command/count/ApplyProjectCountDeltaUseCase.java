@@ -0,0 +1,14 @@
+package com.dataracy.modules.project.application.port.in.command.count;
+
+import java.util.List;
+
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
+public interface ApplyProjectCountDeltaUseCase {
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 순변경분을 한 번에 반영합니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 순변경분 목록
+   */
+  void applyCountDeltas(List<ProjectCountDelta> deltas);
+}
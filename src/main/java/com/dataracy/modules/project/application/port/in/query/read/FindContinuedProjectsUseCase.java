@@ -3,6 +3,7 @@ package com.dataracy.modules.project.application.port.in.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.project.application.dto.response.read.ContinuedProjectResponse;
 
 public interface FindContinuedProjectsUseCase {
@@ -14,4 +15,15 @@ public interface FindContinuedProjectsUseCase {
    * @return 연속 프로젝트 응답 객체의 페이지 결과
    */
   Page<ContinuedProjectResponse> findContinuedProjects(Long projectId, Pageable pageable);
+
+  /**
+   * 지정된 프로젝트 ID를 기준으로 연속 프로젝트 목록을 커서 기반으로 최신순 조회합니다.
+   *
+   * @param projectId 연속 프로젝트를 조회할 기준 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 연속 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<ContinuedProjectResponse> findContinuedProjectsByCursor(
+      Long projectId, String cursor, int size);
 }
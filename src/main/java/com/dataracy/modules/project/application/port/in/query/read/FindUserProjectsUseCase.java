@@ -3,6 +3,7 @@ package com.dataracy.modules.project.application.port.in.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.project.application.dto.response.read.UserProjectResponse;
 
 public interface FindUserProjectsUseCase {
@@ -25,4 +26,24 @@ public interface FindUserProjectsUseCase {
    * @return 사용자가 좋아요한 프로젝트들을 담은 페이지(Page) 객체
    */
   Page<UserProjectResponse> findLikeProjects(Long userId, Pageable pageable);
+
+  /**
+   * 지정된 사용자가 작성한 프로젝트 목록을 커서 기반으로 최신순 조회합니다.
+   *
+   * @param userId 조회 대상 사용자 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 사용자 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<UserProjectResponse> findUserProjectsByCursor(Long userId, String cursor, int size);
+
+  /**
+   * 사용자가 '좋아요'한 프로젝트들을 커서 기반으로 최신 좋아요 순 조회합니다.
+   *
+   * @param userId 조회 대상 사용자의 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 좋아요한 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<UserProjectResponse> findLikeProjectsByCursor(Long userId, String cursor, int size);
 }
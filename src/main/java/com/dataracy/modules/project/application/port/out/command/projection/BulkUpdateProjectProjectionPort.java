@@ -0,0 +1,18 @@
+package com.dataracy.modules.project.application.port.out.command.projection;
+
+import java.util.List;
+import java.util.Map;
+
+import com.dataracy.modules.project.application.dto.projection.ProjectProjectionDelta;
+
+public interface BulkUpdateProjectProjectionPort {
+  /**
+   * 프로젝트별로 병합된 프로젝션 변경분을 한 번의 벌크 요청으로 검색 인덱스에 반영한다.
+   *
+   * <p>항목별로 성공/실패가 결정되며, 실패한 프로젝트만 실패 사유와 함께 반환한다. 요청 자체가 실패하면 예외를 던진다.
+   *
+   * @param deltas 반영할 프로젝트별 변경분 목록
+   * @return 실패한 프로젝트 ID와 실패 사유의 맵(모두 성공하면 빈 맵)
+   */
+  Map<Long, String> applyDeltas(List<ProjectProjectionDelta> deltas);
+}
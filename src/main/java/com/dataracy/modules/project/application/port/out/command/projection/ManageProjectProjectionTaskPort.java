@@ -1,7 +1,11 @@
 package com.dataracy.modules.project.application.port.out.command.projection;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
 public interface ManageProjectProjectionTaskPort {
   /**
    * 프로젝트의 댓글 수 변경치를 프로젝션 업데이트 작업으로 큐에 등록한다.
@@ -50,10 +54,35 @@ public interface ManageProjectProjectionTaskPort {
    */
   void delete(Long projectEsProjectionTaskId);
 
+  /**
+   * 지정한 프로젝트 ES 프로젝션 작업들을 한 번에 삭제한다.
+   *
+   * @param projectEsProjectionTaskIds 삭제할 프로젝션 작업 ID 목록
+   */
+  void deleteAll(List<Long> projectEsProjectionTaskIds);
+
+  /**
+   * 실패한 프로젝트 ES 프로젝션 작업을 재시도 대기(RETRYING) 상태로 갱신한다.
+   *
+   * @param projectEsProjectionTaskId 갱신할 프로젝션 작업 ID
+   * @param retryCount 누적 재시도 횟수
+   * @param lastError 마지막 실패 사유
+   * @param nextRunAt 다음 실행 시각
+   */
+  void markRetry(
+      Long projectEsProjectionTaskId, int retryCount, String lastError, LocalDateTime nextRunAt);
+
   /**
    * 여러 프로젝트의 조회수 변경을 배치로 프로젝션 큐에 등록합니다.
    *
    * @param viewCountUpdates 프로젝트 ID와 조회수 변경량의 맵
    */
   void enqueueViewDeltaBatch(Map<Long, Long> viewCountUpdates);
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 프로젝트당 하나의 작업으로 프로젝션 큐에 등록합니다.
+   *
+   * @param countDeltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   */
+  void enqueueCountDeltaBatch(List<ProjectCountDelta> countDeltas);
 }
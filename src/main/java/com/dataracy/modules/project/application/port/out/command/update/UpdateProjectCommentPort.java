@@ -14,4 +14,32 @@ public interface UpdateProjectCommentPort {
    * @param projectId 댓글 수를 감소시킬 프로젝트의 ID
    */
   void decreaseCommentCount(Long projectId);
+
+  /**
+   * 지정된 프로젝트의 댓글 수를 주어진 값만큼 증가시킵니다.
+   *
+   * <p>기본 구현은 1 증가를 count번 반복하며, 한 번의 요청으로 반영할 수 있는 저장소는 이를 재정의합니다.
+   *
+   * @param projectId 댓글 수를 증가시킬 프로젝트의 ID
+   * @param count 증가시킬 댓글 수
+   */
+  default void increaseCommentCount(Long projectId, int count) {
+    for (int i = 0; i < count; i++) {
+      increaseCommentCount(projectId);
+    }
+  }
+
+  /**
+   * 지정된 프로젝트의 댓글 수를 주어진 값만큼 감소시킵니다.
+   *
+   * <p>기본 구현은 1 감소를 count번 반복하며, 한 번의 요청으로 반영할 수 있는 저장소는 이를 재정의합니다.
+   *
+   * @param projectId 댓글 수를 감소시킬 프로젝트의 ID
+   * @param count 감소시킬 댓글 수
+   */
+  default void decreaseCommentCount(Long projectId, int count) {
+    for (int i = 0; i < count; i++) {
+      decreaseCommentCount(projectId);
+    }
+  }
 }
@@ -0,0 +1,16 @@
+package com.dataracy.modules.project.application.port.out.command.update;
+
+import java.util.List;
+
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
+public interface UpdateProjectCountPort {
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 한 번에 반영합니다.
+   *
+   * <p>각 카운트는 0 미만으로 내려가지 않습니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   */
+  void applyCountDeltas(List<ProjectCountDelta> deltas);
+}
@@ -0,0 +1,35 @@
+package com.dataracy.modules.project.application.port.out.count;
+
+import java.util.List;
+
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
+public interface ManageProjectCountDeltaPort {
+  /**
+   * 프로젝트의 댓글/좋아요 수 변경분을 누적합니다.
+   *
+   * <p>잠금 없이 원자적으로 더해지며, 누적된 값은 {@link #drainDeltas(int)}로 꺼내 저장소에 한 번에 반영합니다.
+   *
+   * @param projectId 대상 프로젝트 ID
+   * @param deltaComment 댓글 수 증감량
+   * @param deltaLike 좋아요 수 증감량
+   */
+  void addDelta(Long projectId, int deltaComment, int deltaLike);
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 변경분을 한 번에 원자적으로 누적합니다.
+   *
+   * <p>모든 변경분이 함께 반영되거나 함께 실패하므로, 실패한 배치를 그대로 재시도해도 중복 누적되지 않습니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 변경분 목록
+   */
+  void addDeltas(List<ProjectCountDelta> deltas);
+
+  /**
+   * 변경분이 누적된 프로젝트들의 값을 원자적으로 꺼내고 초기화합니다.
+   *
+   * @param batchSize 한 번의 호출로 꺼낼 최대 프로젝트 수
+   * @return 프로젝트별 누적 변경분 (증감 합계가 모두 0인 프로젝트는 제외)
+   */
+  List<ProjectCountDelta> drainDeltas(int batchSize);
+}
@@ -3,6 +3,8 @@ package com.dataracy.modules.project.application.port.out.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.project.domain.model.Project;
 
 public interface FindContinuedProjectsPort {
@@ -14,4 +16,15 @@ public interface FindContinuedProjectsPort {
    * @return 기준 프로젝트 이후에 이어지는 프로젝트들의 페이지 결과
    */
   Page<Project> findContinuedProjects(Long projectId, Pageable pageable);
+
+  /**
+   * 특정 프로젝트를 기준으로 이어지는 프로젝트들을 (생성일, ID) 커서 기반으로 최신순 조회합니다.
+   *
+   * @param projectId 기준이 되는 프로젝트의 ID
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 이어가기 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<Project> findContinuedProjectsByCursor(
+      Long projectId, CreatedAtCursor cursor, int size);
 }
@@ -3,6 +3,8 @@ package com.dataracy.modules.project.application.port.out.query.read;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.project.domain.model.Project;
 
 public interface FindUserProjectsPort {
@@ -23,4 +25,24 @@ public interface FindUserProjectsPort {
    * @return 주어진 페이지 설정에 따른 Project 객체의 Page
    */
   Page<Project> findLikeProjects(Long userId, Pageable pageable);
+
+  /**
+   * 지정한 사용자가 작성한 프로젝트를 (생성일, ID) 커서 기반으로 최신순 조회합니다.
+   *
+   * @param userId 조회할 사용자의 고유 식별자
+   * @param cursor 직전 페이지의 마지막 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 사용자 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<Project> findUserProjectsByCursor(Long userId, CreatedAtCursor cursor, int size);
+
+  /**
+   * 지정한 사용자가 좋아요한 프로젝트를 좋아요의 (생성일, ID) 커서 기반으로 최신 좋아요 순 조회합니다.
+   *
+   * @param userId 조회 대상 사용자의 식별자
+   * @param cursor 직전 페이지 마지막 좋아요의 위치 (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 좋아요한 프로젝트 커서 페이지 (전체 개수는 첫 페이지에서만 제공)
+   */
+  CursorPage<Project> findLikeProjectsByCursor(Long userId, CreatedAtCursor cursor, int size);
 }
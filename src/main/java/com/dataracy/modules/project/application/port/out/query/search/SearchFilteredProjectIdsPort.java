@@ -0,0 +1,22 @@
+package com.dataracy.modules.project.application.port.out.query.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.dataracy.modules.project.application.dto.request.search.FilteringProjectRequest;
+import com.dataracy.modules.project.domain.enums.ProjectSortType;
+
+public interface SearchFilteredProjectIdsPort {
+  /**
+   * 키워드를 포함한 필터 조건으로 검색 인덱스에서 프로젝트 ID를 정렬·페이지네이션하여 조회합니다.
+   *
+   * <p>반환되는 페이지는 정렬된 ID 목록과 전체 일치 건수만 담으며, 프로젝트 본문은 호출 측이 ID로 다시 조회합니다.
+   *
+   * @param request 키워드와 필터 조건이 담긴 요청 객체
+   * @param pageable 페이지네이션 정보
+   * @param sortType 프로젝트 정렬 기준 (null이면 최신순)
+   * @return 정렬된 프로젝트 ID와 전체 건수를 담은 페이지
+   */
+  Page<Long> searchIdsByFilters(
+      FilteringProjectRequest request, Pageable pageable, ProjectSortType sortType);
+}
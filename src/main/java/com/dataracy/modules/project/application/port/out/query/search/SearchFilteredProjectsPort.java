@@ -1,5 +1,7 @@
 package com.dataracy.modules.project.application.port.out.query.search;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -9,7 +11,7 @@ import com.dataracy.modules.project.domain.model.Project;
 
 public interface SearchFilteredProjectsPort {
   /**
-   * 주어진 필터 조건, 페이지네이션, 정렬 기준에 따라 프로젝트 목록을 검색하여 페이지 형태로 반환합니다.
+   * 키워드 없는 필터 조건, 페이지네이션, 정렬 기준에 따라 프로젝트 목록을 검색하여 페이지 형태로 반환합니다.
    *
    * @param request 프로젝트 검색에 사용할 필터링 조건이 포함된 요청 객체
    * @param pageable 결과 페이지네이션 정보
@@ -18,4 +20,14 @@ public interface SearchFilteredProjectsPort {
    */
   Page<Project> searchByFilters(
       FilteringProjectRequest request, Pageable pageable, ProjectSortType sortType);
+
+  /**
+   * 검색 인덱스가 정한 순서대로 프로젝트를 자식 프로젝트와 함께 한 번에 조회합니다.
+   *
+   * <p>인덱스와 DB 사이의 반영 지연으로 이미 삭제된 프로젝트는 결과에서 빠집니다.
+   *
+   * @param projectIds 조회할 프로젝트 ID 목록 (반환 순서 기준)
+   * @return 입력 순서를 유지한 프로젝트 목록
+   */
+  List<Project> findAllByIdsInOrder(List<Long> projectIds);
 }
@@ -1,6 +1,6 @@
 package com.dataracy.modules.project.application.port.out.view;
 
-import java.util.Set;
+import java.util.Map;
 
 public interface ManageProjectViewCountPort {
   /**
@@ -22,12 +22,15 @@ public interface ManageProjectViewCountPort {
   Long getViewCount(Long projectId, String targetType);
 
   /**
-   * 지정된 타겟 타입에 해당하는 모든 조회수 키의 집합을 반환합니다.
+   * 조회가 발생한 대상들의 누적 조회수를 원자적으로 꺼내고 초기화합니다.
    *
-   * @param targetType 조회수 키를 조회할 대상의 타입
-   * @return 해당 타겟 타입과 관련된 모든 조회수 키의 집합
+   * <p>조회수 증가 시 등록되는 dirty 인덱스만 순회하므로, 전체 키 공간을 스캔하지 않고 실제 조회된 대상 수에 비례하는 비용으로 동작합니다.
+   *
+   * @param targetType 조회수를 꺼낼 대상 유형
+   * @param batchSize 한 번의 호출로 꺼낼 최대 대상 수
+   * @return 대상 ID별 누적 조회수
    */
-  Set<String> getAllViewCountKeys(String targetType);
+  Map<Long, Long> drainViewCounts(String targetType, int batchSize);
 
   /**
    * 지정된 대상(targetId)과 대상 유형(targetType)에 대한 조회수를 초기화(영으로 리셋)합니다.
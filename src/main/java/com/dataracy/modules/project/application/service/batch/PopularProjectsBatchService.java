@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.scheduling.LeaderOnly;
 import com.dataracy.modules.project.application.dto.response.read.PopularProjectResponse;
 import com.dataracy.modules.project.application.dto.response.support.ProjectLabelMapResponse;
 import com.dataracy.modules.project.application.mapper.read.PopularProjectDtoMapper;
@@ -35,7 +36,8 @@ public class PopularProjectsBatchService implements UpdatePopularProjectsStorage
    *
    * <p>실제 운영에서는 더 긴 주기(예: 30분)로 설정할 수 있습니다.
    */
-  @Scheduled(fixedRate = 300000) // 5분 = 300,000ms
+  @LeaderOnly
+  @Scheduled(fixedRate = 300000, scheduler = "batchTaskScheduler") // 5분 = 300,000ms
   public void updatePopularProjectsCache() {
     LoggerFactory.scheduler().logStart(POPULAR_PROJECTS_BATCH_SERVICE);
 
@@ -14,6 +14,7 @@ import com.dataracy.modules.common.exception.CommonException;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.common.status.CommonErrorStatus;
 import com.dataracy.modules.common.util.FileUtil;
+import com.dataracy.modules.dataset.application.port.in.command.content.UpdateDataProjectCountUseCase;
 import com.dataracy.modules.dataset.application.port.in.validate.ValidateDataUseCase;
 import com.dataracy.modules.filestorage.application.port.in.FileCommandUseCase;
 import com.dataracy.modules.filestorage.support.util.S3KeyGeneratorUtil;
@@ -80,6 +81,7 @@ public class ProjectCommandService implements UploadProjectUseCase, ModifyProjec
   private final GetDataSourceLabelFromIdUseCase getDataSourceLabelFromIdUseCase;
   private final GetAuthorLevelLabelFromIdUseCase getAuthorLevelLabelFromIdUseCase;
   private final ValidateDataUseCase validateDataUseCase;
+  private final UpdateDataProjectCountUseCase updateDataProjectCountUseCase;
 
   /**
    * 새 프로젝트를 생성하고(검증 포함) 썸네일을 업로드한 뒤 검색 색인까지 처리합니다.
@@ -125,6 +127,9 @@ public class ProjectCommandService implements UploadProjectUseCase, ModifyProjec
         createProjectDtoMapper.toDomain(requestDto, userId, requestDto.parentProjectId());
     Project savedProject = createProjectPort.saveProject(project);
 
+    // 연결된 데이터셋의 프로젝트 수 증가 (같은 트랜잭션에서 반영)
+    updateDataProjectCountUseCase.increaseProjectCount(requestDto.dataIds());
+
     // DB 저장 성공 후 파일 업로드 시도
     fileUpload(savedProject.getId(), thumbnailFile);
 
@@ -203,6 +208,10 @@ public class ProjectCommandService implements UploadProjectUseCase, ModifyProjec
     // 프로젝트 수정
     updateProjectPort.modifyProject(projectId, requestDto, toAdd);
 
+    // 연결이 바뀐 데이터셋의 프로젝트 수 갱신 (같은 트랜잭션에서 반영)
+    updateDataProjectCountUseCase.decreaseProjectCount(toDelete);
+    updateDataProjectCountUseCase.increaseProjectCount(toAdd);
+
     // DB 저장 성공 후 파일 업로드 시도, 외부 서비스로 트랜잭션의 영향을 받지 않는다.
     fileUpload(projectId, thumbnailFile);
 
@@ -1,66 +1,81 @@
 package com.dataracy.modules.project.application.service.command;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dataracy.modules.common.exception.CommonException;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
-import com.dataracy.modules.common.support.lock.DistributedLock;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.in.command.count.ApplyProjectCountDeltaUseCase;
 import com.dataracy.modules.project.application.port.in.command.count.DecreaseCommentCountUseCase;
 import com.dataracy.modules.project.application.port.in.command.count.DecreaseLikeCountUseCase;
 import com.dataracy.modules.project.application.port.in.command.count.IncreaseCommentCountUseCase;
 import com.dataracy.modules.project.application.port.in.command.count.IncreaseLikeCountUseCase;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCommentPort;
+import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCountPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectLikePort;
+import com.dataracy.modules.project.application.port.out.count.ManageProjectCountDeltaPort;
 
 @Service
 public class ProjectCountService
     implements IncreaseCommentCountUseCase,
         DecreaseCommentCountUseCase,
         IncreaseLikeCountUseCase,
-        DecreaseLikeCountUseCase {
+        DecreaseLikeCountUseCase,
+        ApplyProjectCountDeltaUseCase {
   private final UpdateProjectCommentPort updateProjectCommentDbPort;
   private final UpdateProjectLikePort updateProjectLikeDbPort;
+  private final UpdateProjectCountPort updateProjectCountDbPort;
   private final ManageProjectProjectionTaskPort manageProjectProjectionTaskPort;
+  private final ManageProjectCountDeltaPort manageProjectCountDeltaPort;
+
+  // true면 변경분을 Redis에 누적하고 ProjectCountDeltaWorker가 주기적으로 한 번에 반영
+  @Value("${project.count.aggregation.enabled:true}")
+  private boolean aggregationEnabled;
 
   // Use Case 상수 정의
   private static final String INCREASE_COMMENT_COUNT_USE_CASE = "IncreaseCommentCountUseCase";
   private static final String DECREASE_COMMENT_COUNT_USE_CASE = "DecreaseCommentCountUseCase";
   private static final String INCREASE_LIKE_COUNT_USE_CASE = "IncreaseLikeCountUseCase";
   private static final String DECREASE_LIKE_COUNT_USE_CASE = "DecreaseLikeCountUseCase";
+  private static final String APPLY_COUNT_DELTA_USE_CASE = "ApplyProjectCountDeltaUseCase";
 
   /**
    * 프로젝트의 댓글 및 좋아요 카운트 동기화에 필요한 포트를 주입 받아 서비스 인스턴스를 생성합니다.
    *
-   * <p>주입되는 포트들은 데이터베이스의 카운트 변경을 반영하고(댓글/좋아요), 변경된 델타를 프로젝션 동기화 작업으로 전달합니다.
+   * <p>주입되는 포트들은 댓글/좋아요 변경분을 누적하거나, 누적을 사용할 수 없을 때 데이터베이스의 카운트 변경을 직접 반영하고 변경된 델타를 프로젝션 동기화
+   * 작업으로 전달합니다.
    */
   public ProjectCountService(
       @Qualifier("updateProjectCommentDbAdapter")
           UpdateProjectCommentPort updateProjectCommentDbPort,
       @Qualifier("updateProjectLikeDbAdapter") UpdateProjectLikePort updateProjectLikeDbPort,
-      ManageProjectProjectionTaskPort manageProjectProjectionTaskPort) {
+      @Qualifier("updateProjectCountDbAdapter") UpdateProjectCountPort updateProjectCountDbPort,
+      ManageProjectProjectionTaskPort manageProjectProjectionTaskPort,
+      ManageProjectCountDeltaPort manageProjectCountDeltaPort) {
     this.updateProjectCommentDbPort = updateProjectCommentDbPort;
     this.updateProjectLikeDbPort = updateProjectLikeDbPort;
+    this.updateProjectCountDbPort = updateProjectCountDbPort;
     this.manageProjectProjectionTaskPort = manageProjectProjectionTaskPort;
+    this.manageProjectCountDeltaPort = manageProjectCountDeltaPort;
   }
 
   /**
    * 프로젝트의 댓글 수를 1 증가시키고 변경을 프로젝션 동기화 작업으로 등록합니다.
    *
-   * <p>영구 저장소의 댓글 수를 증가시키고(데이터베이스) 동일 트랜잭션 내에서 프로젝션 동기화용 델타(+1)를 큐에 등록합니다. 이 메서드는 프로젝트별 분산 잠금과 트랜잭션
-   * 경계 내에서 실행되어 동시성과 일관성을 보장합니다.
+   * <p>변경분(+1)을 Redis에 원자적으로 누적하고, 누적된 값은 ProjectCountDeltaWorker가 주기적으로 데이터베이스와 프로젝션 큐에 한 번에
+   * 반영합니다. 누적을 사용할 수 없으면 원자적 UPDATE로 댓글 수를 증가시키고 동일 트랜잭션 내에서 프로젝션 동기화용 델타(+1)를 큐에 등록합니다. 어느 경로도
+   * 분산 락을 사용하지 않습니다.
    *
    * @param projectId 증가할 대상 프로젝트의 ID
    */
   @Override
-  @DistributedLock(
-      key = "'lock:project:comment-count:' + #projectId",
-      waitTime = 300L,
-      leaseTime = 1500L,
-      retry = 2)
   @Transactional
   public void increaseCommentCount(Long projectId) {
     Instant startTime =
@@ -68,11 +83,13 @@ public class ProjectCountService
             .logStart(
                 INCREASE_COMMENT_COUNT_USE_CASE, "프로젝트 댓글 수 증가 서비스 시작 projectId=" + projectId);
 
-    // DB만 확정 (JPA/Jpql 구현체에서 +1)
-    updateProjectCommentDbPort.increaseCommentCount(projectId);
+    if (!accumulate(projectId, +1, 0)) {
+      // DB만 확정 (원자적 UPDATE로 +1)
+      updateProjectCommentDbPort.increaseCommentCount(projectId);
 
-    // 같은 트랜잭션에서 큐 적재 → 워커가 ES에 반영/재시도
-    manageProjectProjectionTaskPort.enqueueCommentDelta(projectId, +1);
+      // 같은 트랜잭션에서 큐 적재 → 워커가 ES에 반영/재시도
+      manageProjectProjectionTaskPort.enqueueCommentDelta(projectId, +1);
+    }
 
     LoggerFactory.service()
         .logSuccess(
@@ -84,17 +101,12 @@ public class ProjectCountService
   /**
    * 지정한 프로젝트의 댓글 수를 1만큼 감소시키고 변경을 영속화한 뒤 프로젝션(검색 인덱스 등)에 반영할 델타를 등록합니다.
    *
-   * <p>메서드는 분산 락과 트랜잭션 내에서 실행되어 동일 프로젝트에 대한 동시성 충돌을 방지하고, 데이터베이스의 카운트를 감소시킨 후 프로젝션 동기화를 위한 델타를 큐에
-   * 등록합니다.
+   * <p>변경분(-1)을 Redis에 원자적으로 누적합니다. 누적을 사용할 수 없으면 트랜잭션 내에서 데이터베이스의 카운트를 원자적으로 감소시킨 후 프로젝션 동기화를 위한
+   * 델타를 큐에 등록합니다.
    *
    * @param projectId 감소할 대상 프로젝트의 ID
    */
   @Override
-  @DistributedLock(
-      key = "'lock:project:comment-count:' + #projectId",
-      waitTime = 300L,
-      leaseTime = 1500L,
-      retry = 2)
   @Transactional
   public void decreaseCommentCount(Long projectId) {
     Instant startTime =
@@ -102,8 +114,10 @@ public class ProjectCountService
             .logStart(
                 DECREASE_COMMENT_COUNT_USE_CASE, "프로젝트 댓글 수 감소 서비스 시작 projectId=" + projectId);
 
-    updateProjectCommentDbPort.decreaseCommentCount(projectId);
-    manageProjectProjectionTaskPort.enqueueCommentDelta(projectId, -1);
+    if (!accumulate(projectId, -1, 0)) {
+      updateProjectCommentDbPort.decreaseCommentCount(projectId);
+      manageProjectProjectionTaskPort.enqueueCommentDelta(projectId, -1);
+    }
 
     LoggerFactory.service()
         .logSuccess(
@@ -115,24 +129,21 @@ public class ProjectCountService
   /**
    * 지정한 프로젝트의 좋아요 수를 1 증가시키고, DB에 반영한 뒤 프로젝션 동기화용 델타(+1)를 큐에 등록한다.
    *
-   * <p>메서드는 프로젝트별 분산 락을 획득하고 트랜잭션 내에서 실행되어 동시성과 원자성을 보장한다.
+   * <p>변경분(+1)을 Redis에 원자적으로 누적하며, 누적을 사용할 수 없으면 트랜잭션 내에서 원자적 UPDATE와 큐 등록을 함께 수행한다.
    *
    * @param projectId 좋아요 수를 증가시킬 프로젝트의 ID
    */
   @Override
-  @DistributedLock(
-      key = "'lock:project:like-count:' + #projectId",
-      waitTime = 300L,
-      leaseTime = 1500L,
-      retry = 2)
   @Transactional
   public void increaseLikeCount(Long projectId) {
     Instant startTime =
         LoggerFactory.service()
             .logStart(INCREASE_LIKE_COUNT_USE_CASE, "프로젝트 좋아요 수 증가 서비스 시작 projectId=" + projectId);
 
-    updateProjectLikeDbPort.increaseLikeCount(projectId); // DB만 확정
-    manageProjectProjectionTaskPort.enqueueLikeDelta(projectId, +1); // 큐 적재
+    if (!accumulate(projectId, 0, +1)) {
+      updateProjectLikeDbPort.increaseLikeCount(projectId); // DB만 확정
+      manageProjectProjectionTaskPort.enqueueLikeDelta(projectId, +1); // 큐 적재
+    }
 
     LoggerFactory.service()
         .logSuccess(
@@ -142,25 +153,90 @@ public class ProjectCountService
   /**
    * 지정한 프로젝트의 좋아요 수를 1 감소시키고, 데이터베이스와 Elasticsearch 인덱스의 값을 동기화합니다.
    *
+   * <p>변경분(-1)을 Redis에 누적하며, 누적을 사용할 수 없으면 원자적 UPDATE와 큐 등록을 직접 수행합니다.
+   *
    * @param projectId 좋아요 수를 감소시킬 프로젝트의 ID
    */
   @Override
-  @DistributedLock(
-      key = "'lock:project:like-count:' + #projectId",
-      waitTime = 300L,
-      leaseTime = 1500L,
-      retry = 2)
   @Transactional
   public void decreaseLikeCount(Long projectId) {
     Instant startTime =
         LoggerFactory.service()
             .logStart(DECREASE_LIKE_COUNT_USE_CASE, "프로젝트 좋아요 수 감소 서비스 시작 projectId=" + projectId);
 
-    updateProjectLikeDbPort.decreaseLikeCount(projectId);
-    manageProjectProjectionTaskPort.enqueueLikeDelta(projectId, -1);
+    if (!accumulate(projectId, 0, -1)) {
+      updateProjectLikeDbPort.decreaseLikeCount(projectId);
+      manageProjectProjectionTaskPort.enqueueLikeDelta(projectId, -1);
+    }
 
     LoggerFactory.service()
         .logSuccess(
             DECREASE_LIKE_COUNT_USE_CASE, "프로젝트 좋아요 수 감소 서비스 종료 projectId=" + projectId, startTime);
   }
+
+  /**
+   * 여러 프로젝트의 댓글/좋아요 수 순변경분을 한 번에 반영합니다.
+   *
+   * <p>Kafka 배치 리스너가 한 번의 poll에서 받은 이벤트를 프로젝트별 순변경분으로 합쳐 호출합니다. 누적이 켜져 있으면 모든 변경분을 Redis 스크립트 한
+   * 번으로 누적하고, 그렇지 않거나 Redis를 사용할 수 없으면 배치 UPDATE 한 번과 프로젝션 작업 배치 등록을 같은 트랜잭션에서 수행합니다. 두 경로 모두
+   * 전부 반영되거나 전부 실패하므로 배치 재시도 시 중복 반영되지 않습니다.
+   *
+   * @param deltas 프로젝트별 댓글/좋아요 수 순변경분 목록
+   */
+  @Override
+  @Transactional
+  public void applyCountDeltas(List<ProjectCountDelta> deltas) {
+    List<ProjectCountDelta> effective = deltas.stream().filter(d -> !d.isEmpty()).toList();
+    if (effective.isEmpty()) {
+      return;
+    }
+
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(APPLY_COUNT_DELTA_USE_CASE, "프로젝트 카운트 배치 반영 시작 프로젝트 수=" + effective.size());
+
+    if (!accumulateAll(effective)) {
+      updateProjectCountDbPort.applyCountDeltas(effective);
+      manageProjectProjectionTaskPort.enqueueCountDeltaBatch(effective);
+    }
+
+    LoggerFactory.service()
+        .logSuccess(
+            APPLY_COUNT_DELTA_USE_CASE,
+            "프로젝트 카운트 배치 반영 종료 프로젝트 수=" + effective.size(),
+            startTime);
+  }
+
+  /**
+   * 변경분을 Redis에 누적합니다.
+   *
+   * @return 누적에 성공하면 true, 누적이 꺼져 있거나 Redis 오류로 실패하면 false(호출 측에서 DB에 직접 반영)
+   */
+  private boolean accumulate(Long projectId, int deltaComment, int deltaLike) {
+    if (!aggregationEnabled) {
+      return false;
+    }
+    try {
+      manageProjectCountDeltaPort.addDelta(projectId, deltaComment, deltaLike);
+      return true;
+    } catch (CommonException e) {
+      LoggerFactory.service()
+          .logWarning("ProjectCountService", "카운트 변경분 누적 실패, DB에 직접 반영합니다. projectId=" + projectId);
+      return false;
+    }
+  }
+
+  private boolean accumulateAll(List<ProjectCountDelta> deltas) {
+    if (!aggregationEnabled) {
+      return false;
+    }
+    try {
+      manageProjectCountDeltaPort.addDeltas(deltas);
+      return true;
+    } catch (CommonException e) {
+      LoggerFactory.service()
+          .logWarning(APPLY_COUNT_DELTA_USE_CASE, "카운트 변경분 누적 실패, DB에 직접 반영합니다.");
+      return false;
+    }
+  }
 }
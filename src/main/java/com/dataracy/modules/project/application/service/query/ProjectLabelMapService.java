@@ -2,6 +2,7 @@ package com.dataracy.modules.project.application.service.query;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
@@ -12,8 +13,8 @@ import com.dataracy.modules.reference.application.port.in.analysispurpose.GetAna
 import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorLevelLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.datasource.GetDataSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,8 +22,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectLabelMapService implements FindProjectLabelMapUseCase {
 
-  private final FindUsernameUseCase findUsernameUseCase;
-  private final FindUserThumbnailUseCase findUserThumbnailUseCase;
+  private final FindUserCardsUseCase findUserCardsUseCase;
 
   private final GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
   private final GetAnalysisPurposeLabelFromIdUseCase getAnalysisPurposeLabelFromIdUseCase;
@@ -47,9 +47,10 @@ public class ProjectLabelMapService implements FindProjectLabelMapUseCase {
     List<Long> dataSourceIds = savedProjects.stream().map(Project::getDataSourceId).toList();
     List<Long> authorLevelIds = savedProjects.stream().map(Project::getAuthorLevelId).toList();
 
+    Map<Long, UserCard> userCards = findUserCardsUseCase.findUserCardsByIds(userIds);
     return new ProjectLabelMapResponse(
-        findUsernameUseCase.findUsernamesByIds(userIds),
-        findUserThumbnailUseCase.findUserThumbnailsByIds(userIds),
+        UserCard.nicknames(userCards),
+        UserCard.thumbnails(userCards),
         getTopicLabelFromIdUseCase.getLabelsByIds(topicIds),
         getAnalysisPurposeLabelFromIdUseCase.getLabelsByIds(analysisPurposeIds),
         getDataSourceLabelFromIdUseCase.getLabelsByIds(dataSourceIds),
@@ -3,13 +3,18 @@ package com.dataracy.modules.project.application.service.query;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.async.ParallelQueryExecutor;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.dataset.application.port.in.query.read.FindConnectedDataSetsUseCase;
 import com.dataracy.modules.like.application.port.in.validate.ValidateTargetLikeUseCase;
 import com.dataracy.modules.like.domain.enums.TargetType;
@@ -48,9 +53,9 @@ import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorL
 import com.dataracy.modules.reference.application.port.in.datasource.GetDataSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.occupation.GetOccupationLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
 import com.dataracy.modules.user.application.port.in.query.extractor.GetUserInfoUseCase;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 import com.dataracy.modules.user.domain.model.vo.UserInfo;
 
 import lombok.RequiredArgsConstructor;
@@ -87,8 +92,7 @@ public class ProjectReadService
   private static final String PROJECT_NOT_FOUND_MESSAGE = "해당 프로젝트가 존재하지 않습니다. projectId=";
 
   private final GetUserInfoUseCase getUserInfoUseCase;
-  private final FindUsernameUseCase findUsernameUseCase;
-  private final FindUserThumbnailUseCase findUserThumbnailUseCase;
+  private final FindUserCardsUseCase findUserCardsUseCase;
 
   private final GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
   private final GetAnalysisPurposeLabelFromIdUseCase getAnalysisPurposeLabelFromIdUseCase;
@@ -100,6 +104,8 @@ public class ProjectReadService
   private final FindConnectedDataSetsUseCase findConnectedDataSetsUseCase;
   private final ValidateTargetLikeUseCase validateTargetLikeUseCase;
 
+  private final ParallelQueryExecutor parallelQueryExecutor;
+
   // 저장소 관련 의존성
   private final PopularProjectsStoragePort popularProjectsStoragePort;
   private final UpdatePopularProjectsStorageUseCase updatePopularProjectsStorageUseCase;
@@ -113,6 +119,9 @@ public class ProjectReadService
    * 레벨·직업), 주제·분석 목적·데이터 소스, 사용자의 좋아요 여부(조회자 userId가 주어졌을 때), 자식 프로젝트 존재 여부, 연결된 데이터셋 목록, 그리고 부모
    * 프로젝트 정보(존재하는 경우)가 포함됩니다. viewerId를 기반으로 조회수는 중복 방지 로직을 거쳐 1회 증가합니다.
    *
+   * <p>서로 의존하지 않는 조회는 {@link ParallelQueryExecutor}로 동시에 실행합니다. 각 조회가 자체 트랜잭션을 사용하므로 요청 스레드는 조회를
+   * 기다리는 동안 커넥션을 붙잡지 않도록 트랜잭션 없이 실행합니다. 라벨은 프로세스 내 스냅샷에서 읽으므로 요청 스레드에서 바로 조회합니다.
+   *
    * @param projectId 상세 정보를 조회할 프로젝트의 ID
    * @param userId 조회자 사용자 ID (좋아요 여부 확인에 사용, null 가능)
    * @param viewerId 조회수 중복 방지를 위한 조회자 식별자
@@ -120,98 +129,128 @@ public class ProjectReadService
    * @throws ProjectException 프로젝트 또는 참조된 부모 프로젝트가 존재하지 않을 경우 발생
    */
   @Override
-  @Transactional(readOnly = true)
   public ProjectDetailResponse getProjectDetail(Long projectId, Long userId, String viewerId) {
     Instant startTime =
         LoggerFactory.service()
             .logStart(GET_PROJECT_DETAIL_USE_CASE, "프로젝트 세부정보 조회 서비스 시작 projectId=" + projectId);
 
-    // 프로젝트 세부정보 조회
-    ProjectWithDataIdsResponse projectWithDataIdsResponse =
+    try (ParallelQueryExecutor.QueryScope queries = parallelQueryExecutor.openScope()) {
+      // 프로젝트 ID만 필요한 조회는 프로젝트 조회와 동시에 시작
+      CompletableFuture<Boolean> hasChildFuture =
+          queries.submit(
+              () -> checkProjectExistsByParentPort.checkParentProjectExistsById(projectId));
+      CompletableFuture<Boolean> isLikedFuture =
+          userId == null
+              ? CompletableFuture.completedFuture(false)
+              : queries.submit(
+                  () ->
+                      validateTargetLikeUseCase.hasUserLikedTarget(
+                          userId, projectId, TargetType.PROJECT));
+
+      // 프로젝트 세부정보 조회
+      ProjectWithDataIdsResponse projectWithDataIdsResponse =
+          findProjectPort
+              .findProjectWithDataById(projectId)
+              .orElseThrow(
+                  () -> {
+                    LoggerFactory.service()
+                        .logWarning(
+                            GET_PROJECT_DETAIL_USE_CASE, PROJECT_NOT_FOUND_MESSAGE + projectId);
+                    return new ProjectException(ProjectErrorStatus.NOT_FOUND_PROJECT);
+                  });
+
+      Project project = projectWithDataIdsResponse.project();
+      List<Long> dataIds = projectWithDataIdsResponse.dataIds();
+
+      // 프로젝트에 의존하는 조회를 동시에 시작
+      CompletableFuture<List<ProjectConnectedDataResponse>> connectedDataSetsFuture =
+          queries.submit(
+              () ->
+                  findConnectedDataSetsUseCase.findDataSetsByIds(dataIds).stream()
+                      .map(ProjectConnectedDataResponse::from)
+                      .toList());
+      CompletableFuture<UserInfo> userInfoFuture =
+          queries.submit(() -> getUserInfoUseCase.extractUserInfo(project.getUserId()));
+      CompletableFuture<ParentProjectResponse> parentProjectFuture =
+          project.getParentProjectId() == null
+              ? CompletableFuture.completedFuture(null)
+              : queries.submit(() -> findParentProjectResponse(project.getParentProjectId()));
+
+      String topicLabel = getTopicLabelFromIdUseCase.getLabelById(project.getTopicId());
+      String analysisPurposeLabel =
+          getAnalysisPurposeLabelFromIdUseCase.getLabelById(project.getAnalysisPurposeId());
+      String dataSourceLabel =
+          getDataSourceLabelFromIdUseCase.getLabelById(project.getDataSourceId());
+
+      // 작성자 정보
+      ProjectUser projectUser =
+          ProjectUser.fromUserInfo(parallelQueryExecutor.join(userInfoFuture, "extractUserInfo"));
+
+      // 선택조건 null 일 경우에 대한 처리
+      String authorLevelLabel =
+          projectUser.authorLevelId() == null
+              ? null
+              : getAuthorLevelLabelFromIdUseCase.getLabelById(projectUser.authorLevelId());
+      String occupationLabel =
+          projectUser.occupationId() == null
+              ? null
+              : getOccupationLabelFromIdUseCase.getLabelById(projectUser.occupationId());
+
+      List<ProjectConnectedDataResponse> connectedDataSets =
+          parallelQueryExecutor.join(connectedDataSetsFuture, "findConnectedDataSets");
+      boolean hasChild = parallelQueryExecutor.join(hasChildFuture, "checkChildProjectExists");
+      boolean isLiked = parallelQueryExecutor.join(isLikedFuture, "hasUserLikedProject");
+      ParentProjectResponse parentProjectResponse =
+          parallelQueryExecutor.join(parentProjectFuture, "findParentProject");
+
+      // 프로젝트 조회수 증가
+      // 조회수 기록 (중복 방지 TTL)
+      manageProjectViewCountPort.increaseViewCount(projectId, viewerId, VIEW_TARGET_TYPE);
+
+      ProjectDetailResponse projectDetailResponse =
+          projectDetailDtoMapper.toResponseDto(
+              project,
+              projectUser.nickname(),
+              projectUser.profileImageUrl(),
+              projectUser.introductionText(),
+              authorLevelLabel,
+              occupationLabel,
+              topicLabel,
+              analysisPurposeLabel,
+              dataSourceLabel,
+              isLiked,
+              hasChild,
+              connectedDataSets,
+              parentProjectResponse);
+
+      LoggerFactory.service()
+          .logSuccess(
+              GET_PROJECT_DETAIL_USE_CASE, "프로젝트 세부정보 조회 서비스 종료 projectId=" + projectId, startTime);
+      return projectDetailResponse;
+    }
+  }
+
+  /**
+   * 부모 프로젝트와 작성자 정보를 조회해 응답으로 변환합니다.
+   *
+   * @param parentProjectId 부모 프로젝트 ID
+   * @return 부모 프로젝트 응답
+   * @throws ProjectException 부모 프로젝트가 존재하지 않을 경우 발생
+   */
+  private ParentProjectResponse findParentProjectResponse(Long parentProjectId) {
+    Project parentProject =
         findProjectPort
-            .findProjectWithDataById(projectId)
+            .findProjectById(parentProjectId)
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
                       .logWarning(
-                          GET_PROJECT_DETAIL_USE_CASE, PROJECT_NOT_FOUND_MESSAGE + projectId);
+                          GET_PROJECT_DETAIL_USE_CASE, PROJECT_NOT_FOUND_MESSAGE + parentProjectId);
                   return new ProjectException(ProjectErrorStatus.NOT_FOUND_PROJECT);
                 });
-
-    Project project = projectWithDataIdsResponse.project();
-    List<Long> dataIds = projectWithDataIdsResponse.dataIds();
-
-    List<ProjectConnectedDataResponse> connectedDataSets =
-        findConnectedDataSetsUseCase.findDataSetsByIds(dataIds).stream()
-            .map(ProjectConnectedDataResponse::from)
-            .toList();
-
-    boolean hasChild = checkProjectExistsByParentPort.checkParentProjectExistsById(projectId);
-
-    // 작성자 정보
-    UserInfo userInfo = getUserInfoUseCase.extractUserInfo(project.getUserId());
-    ProjectUser projectUser = ProjectUser.fromUserInfo(userInfo);
-
-    // 선택조건 null 일 경우에 대한 처리
-    String authorLevelLabel =
-        projectUser.authorLevelId() == null
-            ? null
-            : getAuthorLevelLabelFromIdUseCase.getLabelById(projectUser.authorLevelId());
-    String occupationLabel =
-        projectUser.occupationId() == null
-            ? null
-            : getOccupationLabelFromIdUseCase.getLabelById(projectUser.occupationId());
-
-    boolean isLiked = false;
-    if (userId != null) {
-      isLiked = validateTargetLikeUseCase.hasUserLikedTarget(userId, projectId, TargetType.PROJECT);
-    }
-
-    Project parentProject =
-        project.getParentProjectId() == null
-            ? null
-            : findProjectPort
-                .findProjectById(project.getParentProjectId())
-                .orElseThrow(
-                    () -> {
-                      LoggerFactory.service()
-                          .logWarning(
-                              GET_PROJECT_DETAIL_USE_CASE,
-                              PROJECT_NOT_FOUND_MESSAGE + project.getParentProjectId());
-                      return new ProjectException(ProjectErrorStatus.NOT_FOUND_PROJECT);
-                    });
-    ParentProjectResponse parentProjectResponse =
-        parentProject == null
-            ? null
-            : parentProjectDtoMapper.toResponseDto(
-                parentProject,
-                findUsernameUseCase.findUsernameById(parentProject.getUserId()),
-                findUserThumbnailUseCase.findUserThumbnailById(parentProject.getUserId()));
-
-    // 프로젝트 조회수 증가
-    // 조회수 기록 (중복 방지 TTL)
-    manageProjectViewCountPort.increaseViewCount(projectId, viewerId, VIEW_TARGET_TYPE);
-
-    ProjectDetailResponse projectDetailResponse =
-        projectDetailDtoMapper.toResponseDto(
-            project,
-            projectUser.nickname(),
-            projectUser.profileImageUrl(),
-            projectUser.introductionText(),
-            authorLevelLabel,
-            occupationLabel,
-            getTopicLabelFromIdUseCase.getLabelById(project.getTopicId()),
-            getAnalysisPurposeLabelFromIdUseCase.getLabelById(project.getAnalysisPurposeId()),
-            getDataSourceLabelFromIdUseCase.getLabelById(project.getDataSourceId()),
-            isLiked,
-            hasChild,
-            connectedDataSets,
-            parentProjectResponse);
-
-    LoggerFactory.service()
-        .logSuccess(
-            GET_PROJECT_DETAIL_USE_CASE, "프로젝트 세부정보 조회 서비스 종료 projectId=" + projectId, startTime);
-    return projectDetailResponse;
+    UserCard parentUser = findUserCardsUseCase.findUserCardById(parentProject.getUserId());
+    return parentProjectDtoMapper.toResponseDto(
+        parentProject, parentUser.nickname(), parentUser.profileImageUrl());
   }
 
   /**
@@ -234,25 +273,8 @@ public class ProjectReadService
     Page<Project> savedProjects =
         findContinuedProjectsPort.findContinuedProjects(projectId, pageable);
 
-    List<Long> userIds = savedProjects.stream().map(Project::getUserId).toList();
-    List<Long> topicIds = savedProjects.stream().map(Project::getTopicId).toList();
-    List<Long> authorLevelIds = savedProjects.stream().map(Project::getAuthorLevelId).toList();
-
-    Map<Long, String> usernameMap = findUsernameUseCase.findUsernamesByIds(userIds);
-    Map<Long, String> userProfileUrlMap = findUserThumbnailUseCase.findUserThumbnailsByIds(userIds);
-    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
-    Map<Long, String> authorLevelLabelMap =
-        getAuthorLevelLabelFromIdUseCase.getLabelsByIds(authorLevelIds);
-
     Page<ContinuedProjectResponse> findContinuedProjectsResponse =
-        savedProjects.map(
-            project ->
-                continuedProjectDtoMapper.toResponseDto(
-                    project,
-                    usernameMap.get(project.getUserId()),
-                    userProfileUrlMap.get(project.getUserId()),
-                    topicLabelMap.get(project.getTopicId()),
-                    authorLevelLabelMap.get(project.getAuthorLevelId())));
+        savedProjects.map(continuedProjectResponseMapper(savedProjects.getContent()));
 
     LoggerFactory.service()
         .logSuccess(
@@ -262,6 +284,63 @@ public class ProjectReadService
     return findContinuedProjectsResponse;
   }
 
+  /**
+   * 주어진 프로젝트를 기준으로 이어지는 프로젝트들을 커서 기반으로 최신순 조회합니다.
+   *
+   * <p>offset 페이지 조회와 같은 작성자·라벨 정보를 채우며, 전체 개수는 첫 페이지에서만 포함됩니다.
+   *
+   * @param projectId 기준 프로젝트의 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 이어지는 프로젝트 정보를 담은 CursorPage<ContinuedProjectResponse>
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<ContinuedProjectResponse> findContinuedProjectsByCursor(
+      Long projectId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                FIND_CONTINUED_PROJECTS_USE_CASE, "이어가기 프로젝트 커서 조회 서비스 시작 projectId=" + projectId);
+
+    CursorPage<Project> savedProjects =
+        findContinuedProjectsPort.findContinuedProjectsByCursor(
+            projectId, CreatedAtCursor.decode(cursor), size);
+
+    CursorPage<ContinuedProjectResponse> findContinuedProjectsResponse =
+        savedProjects.map(continuedProjectResponseMapper(savedProjects.content()));
+
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_CONTINUED_PROJECTS_USE_CASE,
+            "이어가기 프로젝트 커서 조회 서비스 종료 projectId=" + projectId,
+            startTime);
+    return findContinuedProjectsResponse;
+  }
+
+  /** 조회된 이어가기 프로젝트들의 작성자·라벨 정보를 일괄 조회해 응답 변환 함수를 만듭니다. */
+  private Function<Project, ContinuedProjectResponse> continuedProjectResponseMapper(
+      List<Project> projects) {
+    List<Long> userIds = projects.stream().map(Project::getUserId).toList();
+    List<Long> topicIds = projects.stream().map(Project::getTopicId).toList();
+    List<Long> authorLevelIds = projects.stream().map(Project::getAuthorLevelId).toList();
+
+    Map<Long, UserCard> userCards = findUserCardsUseCase.findUserCardsByIds(userIds);
+    Map<Long, String> usernameMap = UserCard.nicknames(userCards);
+    Map<Long, String> userProfileUrlMap = UserCard.thumbnails(userCards);
+    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
+    Map<Long, String> authorLevelLabelMap =
+        getAuthorLevelLabelFromIdUseCase.getLabelsByIds(authorLevelIds);
+
+    return project ->
+        continuedProjectDtoMapper.toResponseDto(
+            project,
+            usernameMap.get(project.getUserId()),
+            userProfileUrlMap.get(project.getUserId()),
+            topicLabelMap.get(project.getTopicId()),
+            authorLevelLabelMap.get(project.getAuthorLevelId()));
+  }
+
   /**
    * 지정된 데이터셋과 연결된 프로젝트들을 페이지 단위로 조회하여, 각 프로젝트에 사용자명, 사용자 프로필 이미지 URL, 토픽 라벨을 포함한 응답 페이지를 반환합니다.
    *
@@ -283,8 +362,9 @@ public class ProjectReadService
     List<Long> userIds = savedProjects.stream().map(Project::getUserId).toList();
     List<Long> topicIds = savedProjects.stream().map(Project::getTopicId).toList();
 
-    Map<Long, String> usernameMap = findUsernameUseCase.findUsernamesByIds(userIds);
-    Map<Long, String> userProfileUrlMap = findUserThumbnailUseCase.findUserThumbnailsByIds(userIds);
+    Map<Long, UserCard> userCards = findUserCardsUseCase.findUserCardsByIds(userIds);
+    Map<Long, String> usernameMap = UserCard.nicknames(userCards);
+    Map<Long, String> userProfileUrlMap = UserCard.thumbnails(userCards);
     Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
 
     Page<ConnectedProjectResponse> connectedProjectsResponses =
@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.project.application.dto.request.search.FilteringProjectRequest;
@@ -21,6 +23,7 @@ import com.dataracy.modules.project.application.port.in.query.search.SearchFilte
 import com.dataracy.modules.project.application.port.in.query.search.SearchRealTimeProjectsUseCase;
 import com.dataracy.modules.project.application.port.in.query.search.SearchSimilarProjectsUseCase;
 import com.dataracy.modules.project.application.port.out.query.read.FindProjectPort;
+import com.dataracy.modules.project.application.port.out.query.search.SearchFilteredProjectIdsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchFilteredProjectsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchRealTimeProjectsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchSimilarProjectsPort;
@@ -46,6 +49,7 @@ public class ProjectSearchService
   private final SearchRealTimeProjectsPort searchRealTimeProjectsPort;
   private final SearchSimilarProjectsPort searchSimilarProjectsPort;
   private final SearchFilteredProjectsPort searchFilteredProjectsPort;
+  private final SearchFilteredProjectIdsPort searchFilteredProjectIdsPort;
 
   // Use Case 상수 정의
   private static final String SEARCH_REAL_TIME_PROJECTS_USE_CASE = "SearchRealTimeProjectsUseCase";
@@ -127,6 +131,8 @@ public class ProjectSearchService
   /**
    * 필터 조건과 페이지 정보를 바탕으로 프로젝트 목록을 조회하고, 각 프로젝트에 라벨 및 사용자명을 매핑하여 페이지 형태로 반환합니다.
    *
+   * <p>키워드가 있으면 검색 인덱스에서 정렬된 프로젝트 ID와 전체 건수를 얻은 뒤 해당 ID들만 DB에서 한 번에 조회하고, 키워드가 없으면 DB에서 필터링합니다.
+   *
    * @param request 프로젝트 필터링 조건이 포함된 요청 객체
    * @param pageable 페이지네이션 및 정렬 정보
    * @return 필터링된 프로젝트 응답 DTO의 페이지 객체
@@ -145,8 +151,7 @@ public class ProjectSearchService
         (request.sortType() != null && !request.sortType().isEmpty())
             ? ProjectSortType.of(request.sortType())
             : null;
-    Page<Project> savedProjects =
-        searchFilteredProjectsPort.searchByFilters(request, pageable, sortType);
+    Page<Project> savedProjects = findFilteredProjects(request, pageable, sortType);
 
     ProjectLabelMapResponse labelResponse =
         findProjectLabelMapUseCase.labelMapping(savedProjects.getContent());
@@ -183,4 +188,16 @@ public class ProjectSearchService
             startTime);
     return filteredProjectResponses;
   }
+
+  /** 키워드 유무에 따라 검색 인덱스 또는 DB 필터링으로 프로젝트 페이지를 조회합니다. */
+  private Page<Project> findFilteredProjects(
+      FilteringProjectRequest request, Pageable pageable, ProjectSortType sortType) {
+    if (!StringUtils.hasText(request.keyword())) {
+      return searchFilteredProjectsPort.searchByFilters(request, pageable, sortType);
+    }
+    Page<Long> idPage =
+        searchFilteredProjectIdsPort.searchIdsByFilters(request, pageable, sortType);
+    List<Project> projects = searchFilteredProjectsPort.findAllByIdsInOrder(idPage.getContent());
+    return new PageImpl<>(projects, pageable, idPage.getTotalElements());
+  }
 }
@@ -3,13 +3,16 @@ package com.dataracy.modules.project.application.service.query;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.project.application.dto.response.read.UserProjectResponse;
 import com.dataracy.modules.project.application.mapper.read.UserProjectDtoMapper;
 import com.dataracy.modules.project.application.port.in.query.read.FindUserProjectsUseCase;
@@ -53,20 +56,8 @@ public class UserProjectReadService implements FindUserProjectsUseCase {
 
     Page<Project> savedProjects = findUserProjectsPort.findUserProjects(userId, pageable);
 
-    List<Long> topicIds = savedProjects.stream().map(Project::getTopicId).toList();
-    List<Long> authorLevelIds = savedProjects.stream().map(Project::getAuthorLevelId).toList();
-
-    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
-    Map<Long, String> authorLevelLabelMap =
-        getAuthorLevelLabelFromIdUseCase.getLabelsByIds(authorLevelIds);
-
     Page<UserProjectResponse> findUserProjectsResponse =
-        savedProjects.map(
-            project ->
-                userProjectDtoMapper.toResponseDto(
-                    project,
-                    topicLabelMap.get(project.getTopicId()),
-                    authorLevelLabelMap.get(project.getAuthorLevelId())));
+        savedProjects.map(userProjectResponseMapper(savedProjects.getContent()));
 
     LoggerFactory.service()
         .logSuccess(
@@ -94,20 +85,8 @@ public class UserProjectReadService implements FindUserProjectsUseCase {
 
     Page<Project> savedProjects = findUserProjectsPort.findLikeProjects(userId, pageable);
 
-    List<Long> topicIds = savedProjects.stream().map(Project::getTopicId).toList();
-    List<Long> authorLevelIds = savedProjects.stream().map(Project::getAuthorLevelId).toList();
-
-    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
-    Map<Long, String> authorLevelLabelMap =
-        getAuthorLevelLabelFromIdUseCase.getLabelsByIds(authorLevelIds);
-
     Page<UserProjectResponse> findLikeProjectsResponse =
-        savedProjects.map(
-            project ->
-                userProjectDtoMapper.toResponseDto(
-                    project,
-                    topicLabelMap.get(project.getTopicId()),
-                    authorLevelLabelMap.get(project.getAuthorLevelId())));
+        savedProjects.map(userProjectResponseMapper(savedProjects.getContent()));
 
     LoggerFactory.service()
         .logSuccess(
@@ -116,4 +95,84 @@ public class UserProjectReadService implements FindUserProjectsUseCase {
             startTime);
     return findLikeProjectsResponse;
   }
+
+  /**
+   * 지정된 사용자가 작성한 프로젝트들을 커서 기반으로 최신순 조회하여 주제 및 저자 레벨 라벨을 포함한 응답을 반환합니다.
+   *
+   * @param userId 조회 대상 사용자 식별자
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 라벨이 포함된 UserProjectResponse 커서 페이지 (전체 개수는 첫 페이지에서만 포함)
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<UserProjectResponse> findUserProjectsByCursor(
+      Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(FIND_USER_PROJECTS_USE_CASE, "해당 회원이 작성한 프로젝트 커서 조회 서비스 시작 userId=" + userId);
+
+    CursorPage<Project> savedProjects =
+        findUserProjectsPort.findUserProjectsByCursor(
+            userId, CreatedAtCursor.decode(cursor), size);
+
+    CursorPage<UserProjectResponse> findUserProjectsResponse =
+        savedProjects.map(userProjectResponseMapper(savedProjects.content()));
+
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_USER_PROJECTS_USE_CASE,
+            "해당 회원이 작성한 프로젝트 커서 조회 서비스 종료 userId=" + userId,
+            startTime);
+    return findUserProjectsResponse;
+  }
+
+  /**
+   * 특정 사용자가 '좋아요'한 프로젝트들을 커서 기반으로 최신 좋아요 순 조회하여 응답 DTO로 변환하여 반환합니다.
+   *
+   * @param userId 조회 대상 사용자 ID
+   * @param cursor 직전 응답의 nextCursor (첫 페이지면 null)
+   * @param size 페이지 크기
+   * @return 라벨이 포함된 UserProjectResponse 커서 페이지 (전체 개수는 첫 페이지에서만 포함)
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<UserProjectResponse> findLikeProjectsByCursor(
+      Long userId, String cursor, int size) {
+    Instant startTime =
+        LoggerFactory.service()
+            .logStart(
+                FIND_LIKE_PROJECTS_USE_CASE, "해당 회원이 좋아요한 프로젝트 커서 조회 서비스 시작 userId=" + userId);
+
+    CursorPage<Project> savedProjects =
+        findUserProjectsPort.findLikeProjectsByCursor(
+            userId, CreatedAtCursor.decode(cursor), size);
+
+    CursorPage<UserProjectResponse> findLikeProjectsResponse =
+        savedProjects.map(userProjectResponseMapper(savedProjects.content()));
+
+    LoggerFactory.service()
+        .logSuccess(
+            FIND_LIKE_PROJECTS_USE_CASE,
+            "해당 회원이 좋아요한 프로젝트 커서 조회 서비스 종료 userId=" + userId,
+            startTime);
+    return findLikeProjectsResponse;
+  }
+
+  /** 조회된 프로젝트들의 주제·저자 레벨 라벨을 일괄 조회해 응답 변환 함수를 만듭니다. */
+  private Function<Project, UserProjectResponse> userProjectResponseMapper(
+      List<Project> projects) {
+    List<Long> topicIds = projects.stream().map(Project::getTopicId).toList();
+    List<Long> authorLevelIds = projects.stream().map(Project::getAuthorLevelId).toList();
+
+    Map<Long, String> topicLabelMap = getTopicLabelFromIdUseCase.getLabelsByIds(topicIds);
+    Map<Long, String> authorLevelLabelMap =
+        getAuthorLevelLabelFromIdUseCase.getLabelsByIds(authorLevelIds);
+
+    return project ->
+        userProjectDtoMapper.toResponseDto(
+            project,
+            topicLabelMap.get(project.getTopicId()),
+            authorLevelLabelMap.get(project.getAuthorLevelId()));
+  }
 }
@@ -0,0 +1,82 @@
+package com.dataracy.modules.project.application.worker;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
+import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCountPort;
+import com.dataracy.modules.project.application.port.out.count.ManageProjectCountDeltaPort;
+
+@Component
+public class ProjectCountDeltaWorker {
+  // 스크립트 1회 호출당 drain할 최대 프로젝트 수
+  private static final int DRAIN_BATCH_SIZE = 500;
+
+  private final ManageProjectCountDeltaPort manageProjectCountDeltaPort;
+  private final UpdateProjectCountPort updateProjectCountDbPort;
+  private final ManageProjectProjectionTaskPort manageProjectProjectionTaskPort;
+
+  /**
+   * ProjectCountDeltaWorker를 생성하고 동작에 필요한 포트를 주입합니다.
+   *
+   * <p>주입되는 포트: - ManageProjectCountDeltaPort: Redis에 누적된 프로젝트별 댓글/좋아요 변경분을 관리. -
+   * UpdateProjectCountPort (DB 어댑터로 주입): 꺼낸 변경분을 메인 데이터베이스에 한 번에 반영. -
+   * ManageProjectProjectionTaskPort: 변경분에 대한 ES 프로젝션 작업을 큐에 등록.
+   */
+  public ProjectCountDeltaWorker(
+      ManageProjectCountDeltaPort manageProjectCountDeltaPort,
+      @Qualifier("updateProjectCountDbAdapter") UpdateProjectCountPort updateProjectCountDbPort,
+      ManageProjectProjectionTaskPort manageProjectProjectionTaskPort) {
+    this.manageProjectCountDeltaPort = manageProjectCountDeltaPort;
+    this.updateProjectCountDbPort = updateProjectCountDbPort;
+    this.manageProjectProjectionTaskPort = manageProjectProjectionTaskPort;
+  }
+
+  /**
+   * Redis에 누적된 프로젝트별 댓글/좋아요 변경분을 데이터베이스와 프로젝션 큐에 반영합니다.
+   *
+   * <p>변경분이 있는 프로젝트만 drain하여 배치 UPDATE 한 번과 프로젝션 작업 배치 INSERT로 반영합니다. 반영에 실패하면 꺼낸 변경분을 다시 Redis에
+   * 누적해 다음 주기에 재시도하며, 트랜잭션은 롤백됩니다.
+   */
+  @Scheduled(
+      fixedDelayString = "${project.count.flush-interval-ms:1000}",
+      scheduler = "flushTaskScheduler")
+  @Transactional
+  public void flushCountDeltas() {
+    List<ProjectCountDelta> deltas;
+    try {
+      deltas = manageProjectCountDeltaPort.drainDeltas(DRAIN_BATCH_SIZE);
+    } catch (Exception e) {
+      LoggerFactory.scheduler().logError("Redis 댓글/좋아요 변경분 drain 실패", e);
+      return;
+    }
+
+    if (deltas.isEmpty()) {
+      return;
+    }
+
+    try {
+      updateProjectCountDbPort.applyCountDeltas(deltas);
+      manageProjectProjectionTaskPort.enqueueCountDeltaBatch(deltas);
+      LoggerFactory.scheduler().logComplete("댓글/좋아요 변경분 반영 완료. 처리된 프로젝트 수: " + deltas.size());
+    } catch (RuntimeException e) {
+      LoggerFactory.scheduler().logError("댓글/좋아요 변경분 반영 실패. 변경분을 Redis에 되돌립니다.", e);
+      restore(deltas);
+      throw e;
+    }
+  }
+
+  private void restore(List<ProjectCountDelta> deltas) {
+    try {
+      manageProjectCountDeltaPort.addDeltas(deltas);
+    } catch (Exception e) {
+      LoggerFactory.scheduler().logError("댓글/좋아요 변경분 복구 실패. 유실된 변경분=" + deltas, e);
+    }
+  }
+}
@@ -1,9 +1,18 @@
 package com.dataracy.modules.project.application.worker;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -11,8 +20,12 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.support.metrics.ProjectionQueueMetrics;
+import com.dataracy.modules.common.support.scheduling.LeaderOnly;
 import com.dataracy.modules.project.adapter.jpa.entity.ProjectEsProjectionTaskEntity;
+import com.dataracy.modules.project.application.dto.projection.ProjectProjectionDelta;
 import com.dataracy.modules.project.application.port.out.command.delete.SoftDeleteProjectPort;
+import com.dataracy.modules.project.application.port.out.command.projection.BulkUpdateProjectProjectionPort;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionDlqPort;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCommentPort;
@@ -21,6 +34,9 @@ import com.dataracy.modules.project.application.port.out.command.update.UpdatePr
 import com.dataracy.modules.project.application.port.out.query.projection.LoadProjectProjectionTaskPort;
 import com.dataracy.modules.project.domain.enums.ProjectEsProjectionType;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
 @Component
 public class ProjectEsProjectionWorker {
   private final ManageProjectProjectionTaskPort manageProjectProjectionTaskPort;
@@ -31,12 +47,31 @@ public class ProjectEsProjectionWorker {
   private final UpdateProjectCommentPort updateProjectCommentEsPort;
   private final UpdateProjectLikePort updateProjectLikeEsPort;
   private final UpdateProjectViewPort updateProjectViewEsPort;
+  private final BulkUpdateProjectProjectionPort bulkUpdateProjectProjectionEsPort;
+  private final ProjectionQueueMetrics projectionQueueMetrics;
+
+  // true면 배치 내 작업을 프로젝트별로 병합해 _bulk 요청 한 번으로 반영
+  @Value("${project.es-projection.bulk.enabled:true}")
+  private boolean bulkEnabled;
+
+  // 노드당 동시에 큐를 비우는 스레드 수 (각 스레드는 서로 겹치지 않는 배치를 선점)
+  @Value("${project.es-projection.worker-threads:1}")
+  private int workerThreads;
+
+  // 선점한 작업을 다른 워커로부터 숨겨 두는 시간(초). 처리 중 종료된 워커의 작업은 이 시간 이후 재처리
+  @Value("${project.es-projection.lease-seconds:60}")
+  private long leaseSeconds;
+
+  private ExecutorService drainExecutor;
 
   // Self-injection: Spring 프록시를 통해 REQUIRES_NEW 트랜잭션이 작동하도록 함
   private ProjectEsProjectionWorker self;
 
+  private static final String QUEUE_NAME = "project";
   private static final int BATCH = 100;
+  private static final int MAX_ROUNDS_PER_RUN = 10;
   private static final int MAX_RETRY = 8;
+  private static final long DEFAULT_LEASE_SECONDS = 60;
 
   /**
    * ProjectEsProjectionWorker에 필요한 포트와 어댑터를 주입하고 필드에 할당하는 생성자.
@@ -51,7 +86,9 @@ public class ProjectEsProjectionWorker {
       @Qualifier("updateProjectCommentEsAdapter")
           UpdateProjectCommentPort updateProjectCommentEsPort,
       @Qualifier("updateProjectLikeEsAdapter") UpdateProjectLikePort updateProjectLikeEsPort,
-      @Qualifier("updateProjectViewEsAdapter") UpdateProjectViewPort updateProjectViewEsPort) {
+      @Qualifier("updateProjectViewEsAdapter") UpdateProjectViewPort updateProjectViewEsPort,
+      BulkUpdateProjectProjectionPort bulkUpdateProjectProjectionEsPort,
+      ProjectionQueueMetrics projectionQueueMetrics) {
     this.manageProjectProjectionTaskPort = manageProjectProjectionTaskPort;
     this.manageProjectProjectionDlqPort = manageProjectProjectionDlqPort;
     this.loadProjectProjectionTaskPort = loadProjectProjectionTaskPort;
@@ -59,6 +96,42 @@ public class ProjectEsProjectionWorker {
     this.updateProjectCommentEsPort = updateProjectCommentEsPort;
     this.updateProjectLikeEsPort = updateProjectLikeEsPort;
     this.updateProjectViewEsPort = updateProjectViewEsPort;
+    this.bulkUpdateProjectProjectionEsPort = bulkUpdateProjectProjectionEsPort;
+    this.projectionQueueMetrics = projectionQueueMetrics;
+  }
+
+  /** worker-threads가 2 이상이면 큐를 병렬로 비울 전용 스레드 풀을 생성합니다. */
+  @PostConstruct
+  public void init() {
+    if (workerThreads <= 1) {
+      return;
+    }
+    AtomicInteger sequence = new AtomicInteger();
+    drainExecutor =
+        Executors.newFixedThreadPool(
+            workerThreads,
+            r -> {
+              Thread thread = new Thread(r, "project-es-projection-" + sequence.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /** 큐 처리 스레드 풀을 종료합니다. 처리 중이던 작업은 임대 만료 후 다른 워커가 다시 처리합니다. */
+  @PreDestroy
+  public void destroy() {
+    if (drainExecutor == null) {
+      return;
+    }
+    drainExecutor.shutdown();
+    try {
+      if (!drainExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+        drainExecutor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      drainExecutor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
   }
 
   /**
@@ -92,21 +165,172 @@ public class ProjectEsProjectionWorker {
   }
 
   /**
-   * 3초마다 Projection Task를 가져와 개별 Task 단위로 처리 각 Task는 REQUIRES_NEW 트랜잭션으로 실행 → 실패해도 나머지 성공 건은 커밋 유지
-   * Self-injection을 통해 프록시 객체를 사용하여 REQUIRES_NEW 트랜잭션이 작동하도록 합니다.
+   * 3초마다 Projection Task를 선점해 처리합니다.
+   *
+   * <p>각 스레드는 SKIP LOCKED 조회와 임대(nextRunAt 연기)로 서로 겹치지 않는 배치를 선점하므로, 여러 노드와 스레드가 같은 큐를 동시에 비울 수
+   * 있습니다. 선점은 짧은 독립 트랜잭션으로 커밋되어 ES 반영 중에는 행 잠금을 잡고 있지 않습니다.
+   *
+   * <p>벌크 모드에서는 배치 전체를 프로젝트별로 병합해 한 번의 _bulk 요청으로 반영하고, 항목별 결과에 따라 작업을 삭제하거나 재시도로 돌립니다. 벌크 모드가
+   * 꺼져 있으면 각 Task를 REQUIRES_NEW 트랜잭션으로 개별 처리합니다 → 실패해도 나머지 성공 건은 커밋 유지. Self-injection을 통해 프록시 객체를
+   * 사용하여 REQUIRES_NEW 트랜잭션이 작동하도록 합니다.
    */
-  @Transactional
-  @Scheduled(fixedDelayString = "PT3S")
+  @Scheduled(fixedDelayString = "PT3S", scheduler = "projectionTaskScheduler")
   public void run() {
-    List<ProjectEsProjectionTaskEntity> tasks =
-        loadProjectProjectionTaskPort.findBatchForWork(
-            LocalDateTime.now(),
-            List.of(ProjectEsProjectionType.PENDING, ProjectEsProjectionType.RETRYING),
-            PageRequest.of(0, BATCH));
+    if (drainExecutor == null) {
+      drain();
+    } else {
+      CompletableFuture<?>[] futures = new CompletableFuture<?>[workerThreads];
+      for (int i = 0; i < workerThreads; i++) {
+        futures[i] = CompletableFuture.runAsync(this::drain, drainExecutor);
+      }
+      CompletableFuture.allOf(futures).join();
+    }
+  }
+
+  /**
+   * 선점할 작업이 없거나 배치가 가득 차지 않을 때까지 작업을 선점해 처리한다.
+   *
+   * <p>한 번의 실행이 지나치게 길어지지 않도록 최대 {@code MAX_ROUNDS_PER_RUN}개 배치까지만 처리한다.
+   */
+  void drain() {
+    for (int round = 0; round < MAX_ROUNDS_PER_RUN; round++) {
+      List<ProjectEsProjectionTaskEntity> tasks;
+      try {
+        LocalDateTime now = LocalDateTime.now();
+        tasks =
+            loadProjectProjectionTaskPort.claimBatchForWork(
+                now,
+                List.of(ProjectEsProjectionType.PENDING, ProjectEsProjectionType.RETRYING),
+                PageRequest.of(0, BATCH),
+                now.plusSeconds(leaseSeconds > 0 ? leaseSeconds : DEFAULT_LEASE_SECONDS));
+      } catch (Exception ex) {
+        LoggerFactory.scheduler().logError("ProjectEsProjectionWorker 작업 선점 실패", ex);
+        return;
+      }
+
+      if (tasks.isEmpty()) {
+        return;
+      }
+
+      if (bulkEnabled) {
+        processBulk(tasks);
+      } else {
+        for (ProjectEsProjectionTaskEntity t : tasks) {
+          self.processTask(t);
+        }
+      }
+
+      if (tasks.size() < BATCH) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 큐 적체 메트릭(대기 작업 수, 가장 오래된 작업의 경과 시간)을 갱신합니다.
+   *
+   * <p>큐 전체를 집계하는 쿼리이므로 모든 노드가 선점 주기마다 실행하지 않도록 리더 노드에서만 별도 주기(기본 1분)로 실행합니다.
+   */
+  @LeaderOnly
+  @Scheduled(
+      fixedDelayString = "${project.es-projection.metrics-interval-ms:60000}",
+      scheduler = "batchTaskScheduler")
+  public void recordQueueMetrics() {
+    try {
+      projectionQueueMetrics.record(
+          QUEUE_NAME,
+          loadProjectProjectionTaskPort.countQueued(),
+          loadProjectProjectionTaskPort.findOldestQueuedAt().orElse(null));
+    } catch (Exception ex) {
+      LoggerFactory.scheduler().logError("ProjectEsProjectionWorker 큐 메트릭 갱신 실패", ex);
+    }
+  }
+
+  /**
+   * 여러 프로젝션 작업을 프로젝트별로 병합해 한 번의 벌크 요청으로 반영한다.
+   *
+   * <p>댓글/좋아요/조회수 델타는 합산하고, 삭제 상태는 가장 나중에 등록된 삭제/복원 작업의 값을 사용한다. 벌크 응답에서 성공한 프로젝트의 작업은 한 번의
+   * 쿼리로 삭제하고, 실패한 프로젝트의 작업은 개별 처리와 같은 재시도/DLQ 정책을 따른다. 요청 자체가 실패하면 배치의 모든 작업을 실패로 처리한다.
+   *
+   * @param tasks 선점된 프로젝션 작업 목록
+   */
+  void processBulk(List<ProjectEsProjectionTaskEntity> tasks) {
+    List<ProjectProjectionDelta> deltas = coalesce(tasks);
+
+    Map<Long, String> failures;
+    try {
+      failures = bulkUpdateProjectProjectionEsPort.applyDeltas(deltas);
+    } catch (Exception ex) {
+      LoggerFactory.elastic()
+          .logError("project_index", "ES 벌크 반영 실패 - 작업 수=" + tasks.size(), ex);
+      failures = new LinkedHashMap<>();
+      for (ProjectProjectionDelta delta : deltas) {
+        failures.put(delta.projectId(), ex.getMessage());
+      }
+    }
+
+    List<Long> doneTaskIds = new ArrayList<>();
+    for (ProjectEsProjectionTaskEntity t : tasks) {
+      if (!failures.containsKey(t.getProjectId())) {
+        doneTaskIds.add(t.getId());
+      } else if (retryOrMoveToDlq(t, failures.get(t.getProjectId()))) {
+        doneTaskIds.add(t.getId());
+      }
+    }
+    manageProjectProjectionTaskPort.deleteAll(doneTaskIds);
+
+    if (!failures.isEmpty()) {
+      LoggerFactory.scheduler()
+          .logError(
+              "ES 벌크 반영 일부 실패 - 실패 프로젝트 수="
+                  + failures.size()
+                  + ", projectIds="
+                  + failures.keySet());
+    }
+  }
+
+  /**
+   * 작업 목록을 프로젝트 ID별 변경분으로 병합한다.
+   *
+   * <p>델타가 모두 0인 작업만 삭제/복원 작업으로 간주하며, 그중 ID가 가장 큰(가장 나중에 등록된) 작업의 삭제 상태를 사용한다.
+   *
+   * @param tasks 병합할 프로젝션 작업 목록
+   * @return 프로젝트별 병합 변경분 목록
+   */
+  private List<ProjectProjectionDelta> coalesce(List<ProjectEsProjectionTaskEntity> tasks) {
+    Map<Long, long[]> sums = new LinkedHashMap<>();
+    Map<Long, ProjectEsProjectionTaskEntity> lastSetDeleted = new LinkedHashMap<>();
 
     for (ProjectEsProjectionTaskEntity t : tasks) {
-      self.processTask(t);
+      long[] sum = sums.computeIfAbsent(t.getProjectId(), id -> new long[3]);
+      sum[0] += t.getDeltaComment();
+      sum[1] += t.getDeltaLike();
+      sum[2] += t.getDeltaView();
+
+      boolean isSetDeletedTask =
+          t.getSetDeleted() != null
+              && t.getDeltaComment() == 0
+              && t.getDeltaLike() == 0
+              && t.getDeltaView() == 0L;
+      if (isSetDeletedTask) {
+        lastSetDeleted.merge(
+            t.getProjectId(), t, (prev, cur) -> cur.getId() > prev.getId() ? cur : prev);
+      }
     }
+
+    List<ProjectProjectionDelta> deltas = new ArrayList<>(sums.size());
+    sums.forEach(
+        (projectId, sum) -> {
+          ProjectEsProjectionTaskEntity deleteTask = lastSetDeleted.get(projectId);
+          deltas.add(
+              new ProjectProjectionDelta(
+                  projectId,
+                  (int) sum[0],
+                  (int) sum[1],
+                  sum[2],
+                  deleteTask == null ? null : deleteTask.getSetDeleted()));
+        });
+    return deltas;
   }
 
   /**
@@ -132,16 +356,16 @@ public class ProjectEsProjectionWorker {
 
       // 댓글 델타
       if (t.getDeltaComment() > 0) {
-        updateProjectCommentEsPort.increaseCommentCount(t.getProjectId());
+        updateProjectCommentEsPort.increaseCommentCount(t.getProjectId(), t.getDeltaComment());
       } else if (t.getDeltaComment() < 0) {
-        updateProjectCommentEsPort.decreaseCommentCount(t.getProjectId());
+        updateProjectCommentEsPort.decreaseCommentCount(t.getProjectId(), -t.getDeltaComment());
       }
 
       // 좋아요 델타
       if (t.getDeltaLike() > 0) {
-        updateProjectLikeEsPort.increaseLikeCount(t.getProjectId());
+        updateProjectLikeEsPort.increaseLikeCount(t.getProjectId(), t.getDeltaLike());
       } else if (t.getDeltaLike() < 0) {
-        updateProjectLikeEsPort.decreaseLikeCount(t.getProjectId());
+        updateProjectLikeEsPort.decreaseLikeCount(t.getProjectId(), -t.getDeltaLike());
       }
 
       // 조회 델타
@@ -153,21 +377,8 @@ public class ProjectEsProjectionWorker {
       manageProjectProjectionTaskPort.delete(t.getId());
 
     } catch (Exception ex) {
-      int nextRetry = t.getRetryCount() + 1;
-      if (nextRetry >= MAX_RETRY) {
-        manageProjectProjectionDlqPort.save(
-            t.getProjectId(),
-            t.getDeltaComment(),
-            t.getDeltaLike(),
-            t.getDeltaView(),
-            t.getSetDeleted(),
-            truncate(ex.getMessage(), 2000));
+      if (retryOrMoveToDlq(t, ex.getMessage())) {
         manageProjectProjectionTaskPort.delete(t.getId());
-      } else {
-        t.setStatus(ProjectEsProjectionType.RETRYING);
-        t.setRetryCount(nextRetry);
-        t.setLastError(truncate(ex.getMessage(), 2000));
-        t.setNextRunAt(LocalDateTime.now().plusSeconds(backoffSeconds(nextRetry)));
       }
 
       LoggerFactory.elastic()
@@ -175,6 +386,37 @@ public class ProjectEsProjectionWorker {
     }
   }
 
+  /**
+   * 실패한 작업에 재시도 정책을 적용한다.
+   *
+   * <p>재시도 한도를 초과하면 DLQ에 저장하고 true를 반환한다(호출 측에서 작업 삭제). 그렇지 않으면 상태를 RETRYING으로 바꾸고 nextRunAt을
+   * backoff 정책에 따라 갱신한다. 선점 트랜잭션이 이미 커밋된 작업이므로 변경 내용은 UPDATE 쿼리로 직접 반영한다.
+   *
+   * @param t 실패한 프로젝션 작업
+   * @param errorMessage 실패 사유
+   * @return DLQ로 이동했으면 true
+   */
+  private boolean retryOrMoveToDlq(ProjectEsProjectionTaskEntity t, String errorMessage) {
+    int nextRetry = t.getRetryCount() + 1;
+    if (nextRetry >= MAX_RETRY) {
+      manageProjectProjectionDlqPort.save(
+          t.getProjectId(),
+          t.getDeltaComment(),
+          t.getDeltaLike(),
+          t.getDeltaView(),
+          t.getSetDeleted(),
+          truncate(errorMessage, 2000));
+      return true;
+    }
+    t.setStatus(ProjectEsProjectionType.RETRYING);
+    t.setRetryCount(nextRetry);
+    t.setLastError(truncate(errorMessage, 2000));
+    t.setNextRunAt(LocalDateTime.now().plusSeconds(backoffSeconds(nextRetry)));
+    manageProjectProjectionTaskPort.markRetry(
+        t.getId(), t.getRetryCount(), t.getLastError(), t.getNextRunAt());
+    return false;
+  }
+
   private String truncate(String msg, int n) {
     if (msg == null) return null;
     return msg.length() <= n ? msg : msg.substring(0, n);
@@ -1,7 +1,6 @@
 package com.dataracy.modules.project.application.worker;
 
 import java.util.Map;
-import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,6 +14,9 @@ import com.dataracy.modules.project.application.port.out.view.ManageProjectViewC
 
 @Component
 public class ProjectViewCountWorker {
+  // 스크립트 1회 호출당 drain할 최대 프로젝트 수
+  private static final int DRAIN_BATCH_SIZE = 500;
+
   private final ManageProjectViewCountPort manageProjectViewCountPort;
 
   private final UpdateProjectViewPort updateProjectViewDbPort;
@@ -39,32 +41,25 @@ public class ProjectViewCountWorker {
   /**
    * Redis에 저장된 프로젝트별 조회수를 데이터베이스로 동기화하고 프로젝션 델타를 큐에 등록합니다.
    *
-   * <p>Redis에 저장된 모든 "PROJECT" 조회수 키를 조회하여 배치로 처리합니다. 팝한 값이 null이거나 0보다 작거나 같으면 무시하고, 양수인 경우에는
-   * 데이터베이스의 조회수를 증가시키고 프로젝션(검색 색인 등) 업데이트를 위한 델타를 대기열에 등록합니다.
+   * <p>조회수 증가 시 등록된 "PROJECT" dirty 세트만 drain하여 프로젝트별 누적 조회수를 한 번에 가져옵니다. 키 공간 전체를 SCAN하지
+   * 않으므로 비용은 실제 조회된 프로젝트 수에 비례합니다. 양수 조회수만 데이터베이스에 반영하고 프로젝션(검색 색인 등) 업데이트를 위한 델타를
+   * 대기열에 등록합니다.
    *
    * <p>배치 처리로 성능을 최적화하여 개별 프로젝트 처리 대신 한 번에 처리합니다. 메서드는 스케줄러로 주기적으로 실행되며 트랜잭션 범위에서 동작합니다 (현재
    * fixedDelay = 20 * 1000).
    */
-  @Scheduled(fixedDelay = 20 * 1000)
+  @Scheduled(fixedDelay = 20 * 1000, scheduler = "flushTaskScheduler")
   @Transactional
   public void flushProjectViews() {
     LoggerFactory.scheduler().logStart("Redis에 저장된 프로젝트별 조회수를 저장소에 동기화 시작");
 
-    Set<String> keys = manageProjectViewCountPort.getAllViewCountKeys("PROJECT");
-
-    // 배치 처리를 위한 맵 수집
-    Map<Long, Long> viewCountUpdates = new java.util.HashMap<>();
-
-    for (String key : keys) {
-      try {
-        Long projectId = extractProjectId(key);
-        Long count = manageProjectViewCountPort.popViewCount(projectId, "PROJECT"); // 원자적 pop
-        if (count != null && count > 0) {
-          viewCountUpdates.put(projectId, count);
-        }
-      } catch (Exception e) {
-        LoggerFactory.scheduler().logError("Redis 키 처리 실패: " + key, e);
-      }
+    // dirty 세트에 등록된 프로젝트만 원자적으로 drain
+    Map<Long, Long> viewCountUpdates;
+    try {
+      viewCountUpdates = manageProjectViewCountPort.drainViewCounts("PROJECT", DRAIN_BATCH_SIZE);
+    } catch (Exception e) {
+      LoggerFactory.scheduler().logError("Redis 조회수 drain 실패", e);
+      return;
     }
 
     // 배치 처리 (After 최적화 버전) - 실제 쿼리 수 측정용
@@ -99,26 +94,4 @@ public class ProjectViewCountWorker {
       LoggerFactory.scheduler().logComplete("Redis에 저장된 프로젝트별 조회수를 저장소에 동기화 완료 (처리할 데이터 없음)");
     }
   }
-
-  /**
-   * "viewCount:PROJECT:<projectId>" 형식의 Redis 키에서 프로젝트 ID를 추출합니다.
-   *
-   * @param key 프로젝트 ID가 포함된 Redis 키 문자열
-   * @return 추출된 프로젝트 ID
-   * @throws IllegalArgumentException 키 형식이 올바르지 않거나 프로젝트 ID가 숫자가 아닐 경우 발생합니다.
-   */
-  private Long extractProjectId(String key) {
-    // ex. viewCount:PROJECT:123
-    String[] parts = key.split(":");
-    if (parts.length != 3) {
-      LoggerFactory.scheduler().logError("유효하지 않은 키 format: " + key);
-      throw new IllegalArgumentException("유효하지 않은 키 format: " + key);
-    }
-    try {
-      return Long.parseLong(parts[2]);
-    } catch (NumberFormatException e) {
-      LoggerFactory.scheduler().logError("유효하지 않은 project ID in key: " + key);
-      throw new IllegalArgumentException("유효하지 않은 project ID in key: " + key, e);
-    }
-  }
 }
@@ -24,7 +24,9 @@ public enum ProjectErrorStatus implements BaseErrorCode {
   NOT_MATCH_CREATOR(HttpStatus.FORBIDDEN, "PROJECT-008", "작성자만 수정 및 삭제, 복원이 가능합니다."),
   FAIL_GET_USER_INFO(
       HttpStatus.INTERNAL_SERVER_ERROR, "PROJECT-009", "ProjectUser을 생성하기 위한 유저 정보가 주입되지 않았습니다."),
-  INVALID_THUMBNAIL_FILE_URL(HttpStatus.BAD_REQUEST, "PROJECT-010", "유효하지 않은 프로젝트 썸네일 파일 url입니다.");
+  INVALID_THUMBNAIL_FILE_URL(HttpStatus.BAD_REQUEST, "PROJECT-010", "유효하지 않은 프로젝트 썸네일 파일 url입니다."),
+  FAIL_FILTERED_SEARCH_PROJECT(
+      HttpStatus.INTERNAL_SERVER_ERROR, "PROJECT-011", "프로젝트 키워드 필터링 검색에 실패했습니다.");
 
   private final HttpStatus httpStatus;
   private final String code;
@@ -0,0 +1,62 @@
+package com.dataracy.modules.reference.adapter.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 참조 데이터 ID와 라벨의 불변 조회 테이블입니다.
+ *
+ * <p>정렬된 long 배열과 라벨 배열로 저장해 조회 시 박싱된 키를 만들거나 해시를 계산하지 않고 이진 탐색으로 찾습니다.
+ */
+final class LabelTable {
+  static final LabelTable EMPTY = new LabelTable(new long[0], new String[0]);
+
+  private final long[] ids;
+  private final String[] labels;
+
+  private LabelTable(long[] ids, String[] labels) {
+    this.ids = ids;
+    this.labels = labels;
+  }
+
+  /**
+   * ID와 라벨의 매핑으로 테이블을 만듭니다. ID나 라벨이 null인 항목은 제외합니다.
+   *
+   * @param source ID와 라벨의 매핑
+   * @return 불변 조회 테이블
+   */
+  static LabelTable of(Map<Long, String> source) {
+    TreeMap<Long, String> sorted = new TreeMap<>();
+    source.forEach(
+        (id, label) -> {
+          if (id != null && label != null) {
+            sorted.put(id, label);
+          }
+        });
+    long[] ids = new long[sorted.size()];
+    String[] labels = new String[sorted.size()];
+    int i = 0;
+    for (Map.Entry<Long, String> entry : sorted.entrySet()) {
+      ids[i] = entry.getKey();
+      labels[i] = entry.getValue();
+      i++;
+    }
+    return new LabelTable(ids, labels);
+  }
+
+  /**
+   * 주어진 ID의 라벨을 반환합니다.
+   *
+   * @param id 조회할 ID
+   * @return 라벨, 없으면 null
+   */
+  String get(long id) {
+    int index = Arrays.binarySearch(ids, id);
+    return index >= 0 ? labels[index] : null;
+  }
+
+  int size() {
+    return ids.length;
+  }
+}
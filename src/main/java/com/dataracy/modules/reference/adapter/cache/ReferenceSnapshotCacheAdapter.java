@@ -0,0 +1,175 @@
+package com.dataracy.modules.reference.adapter.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.reference.adapter.jpa.entity.AnalysisPurposeEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.AuthorLevelEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.DataSourceEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.DataTypeEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.OccupationEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.TopicEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.VisitSourceEntity;
+import com.dataracy.modules.reference.adapter.jpa.repository.AnalysisPurposeJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.AuthorLevelJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.DataSourceJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.DataTypeJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.OccupationJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.TopicJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.VisitSourceJpaRepository;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 참조 데이터 전체를 노드 메모리에 스냅샷으로 보관하는 어댑터입니다.
+ *
+ * <p>참조 테이블은 작고 거의 바뀌지 않으므로 시작 시 종류별로 ID와 라벨의 불변 테이블을 만들어 두고, 주기적으로 또는 Redis 무효화 메시지를 받으면
+ * 전체를 다시 읽어 한 번에 교체합니다. 적재에 실패하면 이전 스냅샷을 유지하며, 스냅샷에 없는 ID는 호출 측이 DB로 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceSnapshotCacheAdapter implements ReferenceSnapshotPort, MessageListener {
+  private static final String REFERENCE_SNAPSHOT = "ReferenceSnapshot";
+  static final String CHANNEL = "reference:snapshot:invalidate";
+
+  private final TopicJpaRepository topicJpaRepository;
+  private final DataSourceJpaRepository dataSourceJpaRepository;
+  private final DataTypeJpaRepository dataTypeJpaRepository;
+  private final AuthorLevelJpaRepository authorLevelJpaRepository;
+  private final OccupationJpaRepository occupationJpaRepository;
+  private final AnalysisPurposeJpaRepository analysisPurposeJpaRepository;
+  private final VisitSourceJpaRepository visitSourceJpaRepository;
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+
+  private volatile Map<ReferenceType, LabelTable> snapshot = Map.of();
+
+  /** 무효화 채널을 구독하고 첫 스냅샷을 적재합니다. */
+  @PostConstruct
+  public void init() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    refresh();
+  }
+
+  @Override
+  public Optional<String> findLabel(ReferenceType type, Long id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(table(type).get(id));
+  }
+
+  @Override
+  public Map<Long, String> findLabels(ReferenceType type, Collection<Long> ids) {
+    LabelTable table = table(type);
+    Map<Long, String> labels = new HashMap<>();
+    for (Long id : ids) {
+      if (id != null) {
+        String label = table.get(id);
+        if (label != null) {
+          labels.put(id, label);
+        }
+      }
+    }
+    return labels;
+  }
+
+  @Override
+  public void invalidate() {
+    redisTemplate.convertAndSend(CHANNEL, "refresh");
+    refresh();
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    refresh();
+  }
+
+  /** 모든 참조 테이블을 다시 읽어 스냅샷을 교체합니다. */
+  @Scheduled(
+      initialDelayString = "${reference.snapshot.refresh-interval-ms:600000}",
+      fixedDelayString = "${reference.snapshot.refresh-interval-ms:600000}")
+  public void refresh() {
+    try {
+      Map<ReferenceType, LabelTable> loaded = new EnumMap<>(ReferenceType.class);
+      loaded.put(
+          ReferenceType.TOPIC,
+          load(topicJpaRepository.findAll(), TopicEntity::getId, TopicEntity::getLabel));
+      loaded.put(
+          ReferenceType.DATA_SOURCE,
+          load(
+              dataSourceJpaRepository.findAll(),
+              DataSourceEntity::getId,
+              DataSourceEntity::getLabel));
+      loaded.put(
+          ReferenceType.DATA_TYPE,
+          load(dataTypeJpaRepository.findAll(), DataTypeEntity::getId, DataTypeEntity::getLabel));
+      loaded.put(
+          ReferenceType.AUTHOR_LEVEL,
+          load(
+              authorLevelJpaRepository.findAll(),
+              AuthorLevelEntity::getId,
+              AuthorLevelEntity::getLabel));
+      loaded.put(
+          ReferenceType.OCCUPATION,
+          load(
+              occupationJpaRepository.findAll(),
+              OccupationEntity::getId,
+              OccupationEntity::getLabel));
+      loaded.put(
+          ReferenceType.ANALYSIS_PURPOSE,
+          load(
+              analysisPurposeJpaRepository.findAll(),
+              AnalysisPurposeEntity::getId,
+              AnalysisPurposeEntity::getLabel));
+      loaded.put(
+          ReferenceType.VISIT_SOURCE,
+          load(
+              visitSourceJpaRepository.findAll(),
+              VisitSourceEntity::getId,
+              VisitSourceEntity::getLabel));
+      snapshot = Collections.unmodifiableMap(loaded);
+      LoggerFactory.common().logInfo(REFERENCE_SNAPSHOT, "참조 데이터 스냅샷 적재 완료 " + sizes(loaded));
+    } catch (Exception e) {
+      LoggerFactory.common().logError(REFERENCE_SNAPSHOT, "참조 데이터 스냅샷 적재 실패 - 이전 스냅샷 유지", e);
+    }
+  }
+
+  private LabelTable table(ReferenceType type) {
+    return snapshot.getOrDefault(type, LabelTable.EMPTY);
+  }
+
+  private static <E> LabelTable load(
+      List<E> entities, Function<E, Long> idMapper, Function<E, String> labelMapper) {
+    Map<Long, String> labels = new HashMap<>();
+    for (E entity : entities) {
+      labels.put(idMapper.apply(entity), labelMapper.apply(entity));
+    }
+    return LabelTable.of(labels);
+  }
+
+  private static String sizes(Map<ReferenceType, LabelTable> tables) {
+    return tables.entrySet().stream()
+        .map(entry -> entry.getKey() + "=" + entry.getValue().size())
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+}
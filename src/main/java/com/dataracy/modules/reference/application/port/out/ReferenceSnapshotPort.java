@@ -0,0 +1,30 @@
+package com.dataracy.modules.reference.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
+
+public interface ReferenceSnapshotPort {
+  /**
+   * 메모리 스냅샷에서 주어진 참조 데이터의 라벨을 조회합니다.
+   *
+   * @param type 참조 데이터 종류
+   * @param id 라벨을 조회할 ID
+   * @return 스냅샷에 있으면 라벨을 포함한 Optional, 스냅샷에 없거나 아직 적재되지 않았으면 빈 Optional
+   */
+  Optional<String> findLabel(ReferenceType type, Long id);
+
+  /**
+   * 메모리 스냅샷에서 여러 ID의 라벨을 조회합니다.
+   *
+   * @param type 참조 데이터 종류
+   * @param ids 라벨을 조회할 ID 목록
+   * @return 스냅샷에서 찾은 ID와 라벨의 매핑 (찾지 못한 ID는 포함되지 않음)
+   */
+  Map<Long, String> findLabels(ReferenceType type, Collection<Long> ids);
+
+  /** 모든 노드에 스냅샷을 다시 적재하도록 알립니다. 참조 데이터를 변경한 뒤 호출합니다. */
+  void invalidate();
+}
@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,8 @@ import com.dataracy.modules.reference.application.port.in.analysispurpose.FindAn
 import com.dataracy.modules.reference.application.port.in.analysispurpose.GetAnalysisPurposeLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.analysispurpose.ValidateAnalysisPurposeUseCase;
 import com.dataracy.modules.reference.application.port.out.AnalysisPurposePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.AnalysisPurpose;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class AnalysisPurposeQueryService
         GetAnalysisPurposeLabelFromIdUseCase {
   private final AnalysisPurposeDtoMapper analysisPurposeDtoMapper;
   private final AnalysisPurposePort analysisPurposePort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_ANALYSIS_PURPOSES_USE_CASE =
@@ -111,7 +115,11 @@ public class AnalysisPurposeQueryService
             .logStart(
                 VALIDATE_ANALYSIS_PURPOSE_USE_CASE,
                 "주어진 ID에 해당하는 분석 목적이 존재하는지 확인 서비스 시작 analysisPurposeId=" + analysisPurposeId);
-    boolean isExist = analysisPurposePort.existsAnalysisPurposeById(analysisPurposeId);
+    boolean isExist =
+        referenceSnapshotPort
+                .findLabel(ReferenceType.ANALYSIS_PURPOSE, analysisPurposeId)
+                .isPresent()
+            || analysisPurposePort.existsAnalysisPurposeById(analysisPurposeId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(
@@ -142,8 +150,9 @@ public class AnalysisPurposeQueryService
                 GET_ANALYSIS_PURPOSE_LABEL_FROM_ID_USE_CASE,
                 "주어진 분석 목적 ID에 해당하는 라벨을 조회 서비스 시작 analysisPurposeId=" + analysisPurposeId);
     String label =
-        analysisPurposePort
-            .getLabelById(analysisPurposeId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.ANALYSIS_PURPOSE, analysisPurposeId)
+            .or(() -> analysisPurposePort.getLabelById(analysisPurposeId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -177,7 +186,15 @@ public class AnalysisPurposeQueryService
     if (analysisPurposeIds == null || analysisPurposeIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = analysisPurposePort.getLabelsByIds(analysisPurposeIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.ANALYSIS_PURPOSE, analysisPurposeIds);
+    List<Long> missingIds =
+        analysisPurposeIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(analysisPurposePort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_ANALYSIS_PURPOSE_LABEL_FROM_ID_USE_CASE,
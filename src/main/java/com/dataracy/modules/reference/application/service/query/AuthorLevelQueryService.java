@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,8 @@ import com.dataracy.modules.reference.application.port.in.authorlevel.FindAuthor
 import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorLevelLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.authorlevel.ValidateAuthorLevelUseCase;
 import com.dataracy.modules.reference.application.port.out.AuthorLevelPort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.AuthorLevel;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class AuthorLevelQueryService
         GetAuthorLevelLabelFromIdUseCase {
   private final AuthorLevelDtoMapper authorLevelDtoMapper;
   private final AuthorLevelPort authorLevelPort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_AUTHOR_LEVELS_USE_CASE = "FindAllAuthorLevelsUseCase";
@@ -108,7 +112,9 @@ public class AuthorLevelQueryService
             .logStart(
                 VALIDATE_AUTHOR_LEVEL_USE_CASE,
                 "주어진 ID에 해당하는 작성자 유형이 존재하는지 확인 서비스 시작 authorLevelId=" + authorLevelId);
-    boolean isExist = authorLevelPort.existsAuthorLevelById(authorLevelId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.AUTHOR_LEVEL, authorLevelId).isPresent()
+            || authorLevelPort.existsAuthorLevelById(authorLevelId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(
@@ -138,8 +144,9 @@ public class AuthorLevelQueryService
                 GET_AUTHOR_LEVEL_LABEL_FROM_ID_USE_CASE,
                 "주어진 작성자 유형 ID에 해당하는 라벨을 조회 서비스 시작 authorLevelId=" + authorLevelId);
     String label =
-        authorLevelPort
-            .getLabelById(authorLevelId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.AUTHOR_LEVEL, authorLevelId)
+            .or(() -> authorLevelPort.getLabelById(authorLevelId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -173,7 +180,14 @@ public class AuthorLevelQueryService
     if (authorLevelIds == null || authorLevelIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = authorLevelPort.getLabelsByIds(authorLevelIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.AUTHOR_LEVEL, authorLevelIds);
+    List<Long> missingIds = authorLevelIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(authorLevelPort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_AUTHOR_LEVEL_LABEL_FROM_ID_USE_CASE,
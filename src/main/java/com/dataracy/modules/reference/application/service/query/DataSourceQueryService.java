@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,8 @@ import com.dataracy.modules.reference.application.port.in.datasource.FindDataSou
 import com.dataracy.modules.reference.application.port.in.datasource.GetDataSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.datasource.ValidateDataSourceUseCase;
 import com.dataracy.modules.reference.application.port.out.DataSourcePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.DataSource;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class DataSourceQueryService
         GetDataSourceLabelFromIdUseCase {
   private final DataSourceDtoMapper dataSourceDtoMapper;
   private final DataSourcePort dataSourcePort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_DATA_SOURCES_USE_CASE = "FindAllDataSourcesUseCase";
@@ -109,7 +113,9 @@ public class DataSourceQueryService
             .logStart(
                 VALIDATE_DATA_SOURCE_USE_CASE,
                 "주어진 ID에 해당하는 데이터 소스가 존재하는지 확인 서비스 시작 dataSourceId=" + dataSourceId);
-    boolean isExist = dataSourcePort.existsDataSourceById(dataSourceId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.DATA_SOURCE, dataSourceId).isPresent()
+            || dataSourcePort.existsDataSourceById(dataSourceId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(
@@ -139,8 +145,9 @@ public class DataSourceQueryService
                 GET_DATA_SOURCE_LABEL_FROM_ID_USE_CASE,
                 "주어진 데이터 소스 ID에 해당하는 라벨을 조회 서비스 시작 dataSourceId=" + dataSourceId);
     String label =
-        dataSourcePort
-            .getLabelById(dataSourceId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.DATA_SOURCE, dataSourceId)
+            .or(() -> dataSourcePort.getLabelById(dataSourceId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -174,7 +181,14 @@ public class DataSourceQueryService
     if (dataSourceIds == null || dataSourceIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = dataSourcePort.getLabelsByIds(dataSourceIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.DATA_SOURCE, dataSourceIds);
+    List<Long> missingIds = dataSourceIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(dataSourcePort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_DATA_SOURCE_LABEL_FROM_ID_USE_CASE,
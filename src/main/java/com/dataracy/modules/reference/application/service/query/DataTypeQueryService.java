@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,8 @@ import com.dataracy.modules.reference.application.port.in.datatype.FindDataTypeU
 import com.dataracy.modules.reference.application.port.in.datatype.GetDataTypeLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.datatype.ValidateDataTypeUseCase;
 import com.dataracy.modules.reference.application.port.out.DataTypePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.DataType;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class DataTypeQueryService
         GetDataTypeLabelFromIdUseCase {
   private final DataTypeDtoMapper dataTypeDtoMapper;
   private final DataTypePort dataTypePort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_DATA_TYPES_USE_CASE = "FindAllDataTypesUseCase";
@@ -104,7 +108,9 @@ public class DataTypeQueryService
             .logStart(
                 VALIDATE_DATA_TYPE_USE_CASE,
                 "주어진 ID에 해당하는 데이터 유형이 존재하는지 확인 서비스 시작 dataTypeId=" + dataTypeId);
-    boolean isExist = dataTypePort.existsDataTypeById(dataTypeId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.DATA_TYPE, dataTypeId).isPresent()
+            || dataTypePort.existsDataTypeById(dataTypeId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(VALIDATE_DATA_TYPE_USE_CASE, DATA_TYPE_NOT_FOUND_MESSAGE + dataTypeId);
@@ -133,8 +139,9 @@ public class DataTypeQueryService
                 GET_DATA_TYPE_LABEL_FROM_ID_USE_CASE,
                 "주어진 데이터 유형 ID에 해당하는 라벨을 조회 서비스 시작 dataTypeId=" + dataTypeId);
     String label =
-        dataTypePort
-            .getLabelById(dataTypeId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.DATA_TYPE, dataTypeId)
+            .or(() -> dataTypePort.getLabelById(dataTypeId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -167,7 +174,14 @@ public class DataTypeQueryService
     if (dataTypeIds == null || dataTypeIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = dataTypePort.getLabelsByIds(dataTypeIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.DATA_TYPE, dataTypeIds);
+    List<Long> missingIds = dataTypeIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(dataTypePort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_DATA_TYPE_LABEL_FROM_ID_USE_CASE,
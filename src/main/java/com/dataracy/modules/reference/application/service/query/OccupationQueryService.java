@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,8 @@ import com.dataracy.modules.reference.application.port.in.occupation.FindOccupat
 import com.dataracy.modules.reference.application.port.in.occupation.GetOccupationLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.occupation.ValidateOccupationUseCase;
 import com.dataracy.modules.reference.application.port.out.OccupationPort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.Occupation;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class OccupationQueryService
         GetOccupationLabelFromIdUseCase {
   private final OccupationDtoMapper occupationDtoMapper;
   private final OccupationPort occupationPort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_OCCUPATIONS_USE_CASE = "FindAllOccupationsUseCase";
@@ -104,7 +108,9 @@ public class OccupationQueryService
             .logStart(
                 VALIDATE_OCCUPATION_USE_CASE,
                 "주어진 ID에 해당하는 직업이 존재하는지 확인 서비스 시작 occupationId=" + occupationId);
-    boolean isExist = occupationPort.existsOccupationById(occupationId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.OCCUPATION, occupationId).isPresent()
+            || occupationPort.existsOccupationById(occupationId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(VALIDATE_OCCUPATION_USE_CASE, OCCUPATION_NOT_FOUND_MESSAGE + occupationId);
@@ -133,8 +139,9 @@ public class OccupationQueryService
                 GET_OCCUPATION_LABEL_FROM_ID_USE_CASE,
                 "주어진 직업 ID에 해당하는 라벨을 조회 서비스 시작 occupationId=" + occupationId);
     String label =
-        occupationPort
-            .getLabelById(occupationId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.OCCUPATION, occupationId)
+            .or(() -> occupationPort.getLabelById(occupationId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -167,7 +174,14 @@ public class OccupationQueryService
     if (occupationIds == null || occupationIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = occupationPort.getLabelsByIds(occupationIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.OCCUPATION, occupationIds);
+    List<Long> missingIds = occupationIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(occupationPort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_OCCUPATION_LABEL_FROM_ID_USE_CASE,
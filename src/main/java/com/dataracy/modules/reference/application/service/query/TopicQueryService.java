@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +16,9 @@ import com.dataracy.modules.reference.application.port.in.topic.FindAllTopicsUse
 import com.dataracy.modules.reference.application.port.in.topic.FindTopicUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.ValidateTopicUseCase;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.application.port.out.TopicPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.Topic;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class TopicQueryService
         GetTopicLabelFromIdUseCase {
   private final TopicDtoMapper topicDtoMapper;
   private final TopicPort topicPort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_TOPICS_USE_CASE = "FindAllTopicsUseCase";
@@ -98,7 +102,9 @@ public class TopicQueryService
         LoggerFactory.service()
             .logStart(
                 VALIDATE_TOPIC_USE_CASE, "주어진 ID에 해당하는 토픽이 존재하는지 확인 서비스 시작 topicId=" + topicId);
-    boolean isExist = topicPort.existsTopicById(topicId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.TOPIC, topicId).isPresent()
+            || topicPort.existsTopicById(topicId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(VALIDATE_TOPIC_USE_CASE, TOPIC_NOT_FOUND_MESSAGE + topicId);
@@ -127,8 +133,9 @@ public class TopicQueryService
                 GET_TOPIC_LABEL_FROM_ID_USE_CASE,
                 "주어진 토픽 ID에 해당하는 라벨을 조회 서비스 시작 topicId=" + topicId);
     String label =
-        topicPort
-            .getLabelById(topicId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.TOPIC, topicId)
+            .or(() -> topicPort.getLabelById(topicId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -159,7 +166,13 @@ public class TopicQueryService
     if (topicIds == null || topicIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = topicPort.getLabelsByIds(topicIds);
+    Map<Long, String> cached = referenceSnapshotPort.findLabels(ReferenceType.TOPIC, topicIds);
+    List<Long> missingIds = topicIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(topicPort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_TOPIC_LABEL_FROM_ID_USE_CASE, "토픽 ID 목록에 대해 각 ID에 해당하는 라벨을 반환 서비스 종료", startTime);
@@ -1,6 +1,7 @@
 package com.dataracy.modules.reference.application.service.query;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,7 +16,9 @@ import com.dataracy.modules.reference.application.port.in.visitsource.FindAllVis
 import com.dataracy.modules.reference.application.port.in.visitsource.FindVisitSourceUseCase;
 import com.dataracy.modules.reference.application.port.in.visitsource.GetVisitSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.visitsource.ValidateVisitSourceUseCase;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.application.port.out.VisitSourcePort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.VisitSource;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -31,6 +34,7 @@ public class VisitSourceQueryService
         GetVisitSourceLabelFromIdUseCase {
   private final VisitSourceDtoMapper visitSourceDtoMapper;
   private final VisitSourcePort visitSourcePort;
+  private final ReferenceSnapshotPort referenceSnapshotPort;
 
   // Use Case 상수 정의
   private static final String FIND_ALL_VISIT_SOURCES_USE_CASE = "FindAllVisitSourcesUseCase";
@@ -111,7 +115,9 @@ public class VisitSourceQueryService
             .logStart(
                 VALIDATE_VISIT_SOURCE_USE_CASE,
                 "주어진 ID에 해당하는 방문 경로가 존재하는지 확인 서비스 시작 visitSourceId=" + visitSourceId);
-    boolean isExist = visitSourcePort.existsVisitSourceById(visitSourceId);
+    boolean isExist =
+        referenceSnapshotPort.findLabel(ReferenceType.VISIT_SOURCE, visitSourceId).isPresent()
+            || visitSourcePort.existsVisitSourceById(visitSourceId);
     if (!isExist) {
       LoggerFactory.service()
           .logWarning(
@@ -141,8 +147,9 @@ public class VisitSourceQueryService
                 GET_VISIT_SOURCE_LABEL_FROM_ID_USE_CASE,
                 "주어진 방문 경로 ID에 해당하는 라벨을 조회 서비스 시작 visitSourceId=" + visitSourceId);
     String label =
-        visitSourcePort
-            .getLabelById(visitSourceId)
+        referenceSnapshotPort
+            .findLabel(ReferenceType.VISIT_SOURCE, visitSourceId)
+            .or(() -> visitSourcePort.getLabelById(visitSourceId))
             .orElseThrow(
                 () -> {
                   LoggerFactory.service()
@@ -176,7 +183,14 @@ public class VisitSourceQueryService
     if (visitSourceIds == null || visitSourceIds.isEmpty()) {
       return Map.of();
     }
-    Map<Long, String> labels = visitSourcePort.getLabelsByIds(visitSourceIds);
+    Map<Long, String> cached =
+        referenceSnapshotPort.findLabels(ReferenceType.VISIT_SOURCE, visitSourceIds);
+    List<Long> missingIds = visitSourceIds.stream().filter(id -> !cached.containsKey(id)).toList();
+    Map<Long, String> labels = cached;
+    if (!missingIds.isEmpty()) {
+      labels = new HashMap<>(cached);
+      labels.putAll(visitSourcePort.getLabelsByIds(missingIds));
+    }
     LoggerFactory.service()
         .logSuccess(
             GET_VISIT_SOURCE_LABEL_FROM_ID_USE_CASE,
@@ -0,0 +1,12 @@
+package com.dataracy.modules.reference.domain.enums;
+
+/** 메모리 스냅샷으로 캐싱되는 참조 데이터 종류 */
+public enum ReferenceType {
+  TOPIC,
+  DATA_SOURCE,
+  DATA_TYPE,
+  AUTHOR_LEVEL,
+  OCCUPATION,
+  ANALYSIS_PURPOSE,
+  VISIT_SOURCE
+}
@@ -14,7 +14,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.dataracy.modules.auth.adapter.handler.OAuth2LoginFailureHandler;
 import com.dataracy.modules.auth.adapter.handler.OAuth2LoginSuccessHandler;
-import com.dataracy.modules.auth.application.port.in.jwt.JwtValidateUseCase;
+import com.dataracy.modules.auth.application.port.in.jwt.JwtAuthenticateUseCase;
 import com.dataracy.modules.security.filter.JwtFilter;
 import com.dataracy.modules.security.handler.CustomAuthenticationEntryPoint;
 
@@ -26,7 +26,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
   private final CorsConfigurationSource corsConfigurationSource;
 
-  private final JwtValidateUseCase jwtValidateUseCase;
+  private final JwtAuthenticateUseCase jwtAuthenticateUseCase;
   private final SecurityPathConfig securityPathConfig;
   private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
   private final OAuth2LoginFailureHandler oAuth2LoginFailureHandler;
@@ -37,10 +37,10 @@ public class SecurityConfig {
    *
    * <p>구성 내용: - 지정된 CorsConfigurationSource로 CORS 활성화 - CSRF, 폼 로그인, HTTP Basic 비활성화 - 세션을
    * STATELESS로 설정 - 커스텀 AuthenticationEntryPoint로 인증 예외 처리 - OAuth2 로그인 성공/실패 핸들러 등록 -
-   * JwtValidateUseCase 기반의 JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가 - 엔드포인트별 접근 제어: -
-   * Swagger, 정적 리소스, 헬스체크/액추에이터, 웹훅 등 공개 허용 - 회원가입·비밀번호 재설정·인증·이메일·레퍼런스 등 공개 허용 - GET
-   * /api/v1/projects/me, GET /api/v1/projects/like 및 GET /api/v1/datasets/me는 인증 필요 - 그 외 GET
-   * /api/v1/projects/**, GET /api/v1/datasets/**, /api/v1/files/**, /api/v1/users/** 등은 공개 허용 -
+   * JwtAuthenticateUseCase 기반의 JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 추가 - 엔드포인트별 접근
+   * 제어: - Swagger, 정적 리소스, 헬스체크/액추에이터, 웹훅 등 공개 허용 - 회원가입·비밀번호 재설정·인증·이메일·레퍼런스 등 공개 허용 -
+   * GET /api/v1/projects/me, GET /api/v1/projects/like 및 GET /api/v1/datasets/me는 인증 필요 - 그 외
+   * GET /api/v1/projects/**, GET /api/v1/datasets/**, /api/v1/files/**, /api/v1/users/** 등은 공개 허용 -
    * /api/v1/user/** 는 USER 또는 ADMIN 역할 필요 - /api/v1/admin/** 는 ADMIN 역할 필요 - 위에 해당하지 않는 모든 요청은 인증
    * 필요
    *
@@ -115,7 +115,7 @@ public class SecurityConfig {
                     .anyRequest()
                     .authenticated())
         .addFilterBefore(
-            new JwtFilter(jwtValidateUseCase, securityPathConfig),
+            new JwtFilter(jwtAuthenticateUseCase, securityPathConfig),
             UsernamePasswordAuthenticationFilter.class);
     return http.build();
   }
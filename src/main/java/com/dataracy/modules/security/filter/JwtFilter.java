@@ -8,8 +8,9 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.dataracy.modules.auth.application.port.in.jwt.JwtValidateUseCase;
+import com.dataracy.modules.auth.application.port.in.jwt.JwtAuthenticateUseCase;
 import com.dataracy.modules.auth.domain.exception.AuthException;
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
 import com.dataracy.modules.auth.domain.status.AuthErrorStatus;
 import com.dataracy.modules.common.exception.BusinessException;
 import com.dataracy.modules.common.util.ExtractHeaderUtil;
@@ -27,14 +28,15 @@ import lombok.RequiredArgsConstructor;
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
-  private final JwtValidateUseCase jwtValidateUseCase;
+  private final JwtAuthenticateUseCase jwtAuthenticateUseCase;
   private final SecurityPathConfig securityPathConfig;
 
   /**
    * HTTP 요청에서 JWT 토큰을 추출하고 검증하여 인증 정보를 설정합니다.
    *
-   * <p>요청 헤더에서 JWT 액세스 토큰을 추출하고, 토큰의 유효성을 검증한 후 사용자 ID와 역할 정보를 기반으로 인증 객체를 생성하여
-   * SecurityContextHolder에 등록합니다. 토큰이 없거나 유효하지 않은 경우 인증 예외를 발생시키며, 예외 정보는 요청 속성에 저장됩니다.
+   * <p>요청 헤더에서 JWT 액세스 토큰을 추출하고, 토큰을 한 번만 검증하여 얻은 사용자 ID와 역할 정보를 기반으로 인증 객체를
+   * 생성하여 SecurityContextHolder에 등록합니다. 이미 검증된 토큰은 캐시된 인증 주체를 재사용합니다. 토큰이 없거나 유효하지 않은
+   * 경우 인증 예외를 발생시키며, 예외 정보는 요청 속성에 저장됩니다.
    *
    * @param request 현재 HTTP 요청
    * @param response 현재 HTTP 응답
@@ -54,15 +56,11 @@ public class JwtFilter extends OncePerRequestFilter {
               .orElseThrow(
                   () -> new AuthException(AuthErrorStatus.NOT_FOUND_ACCESS_TOKEN_IN_HEADER));
 
-      // 어세스 토큰 유효성 검증
-      jwtValidateUseCase.validateToken(accessToken);
-
-      // 토큰에서 유저 id, 유저 역할 반환
-      Long userId = jwtValidateUseCase.getUserIdFromToken(accessToken);
-      RoleType role = jwtValidateUseCase.getRoleFromToken(accessToken);
+      // 어세스 토큰 검증 후 유저 id, 유저 역할 반환
+      AuthenticatedPrincipal principal = jwtAuthenticateUseCase.authenticate(accessToken);
 
       // 인증 객체 SecurityContextHolder에 주입
-      setAuthentication(request, userId, role);
+      setAuthentication(request, principal.userId(), principal.role());
     } catch (BusinessException e) {
       // 예외를 요청에 저장
       request.setAttribute("filter.error", e);
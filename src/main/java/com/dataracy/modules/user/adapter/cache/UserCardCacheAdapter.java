@@ -0,0 +1,95 @@
+package com.dataracy.modules.user.adapter.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dataracy.modules.user.application.port.out.cache.UserCardCachePort;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 유저 카드를 보관하는 프로세스 내 LRU 캐시입니다.
+ *
+ * <p>항목은 설정한 최대 보관 시간 동안만 유효하며, 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거됩니다. 트랜잭션 안에서 제거를 요청하면 커밋 이후에
+ * 한 번 더 제거해, 커밋 전에 다른 요청이 이전 값을 다시 채워 넣는 경우를 막습니다.
+ */
+@Component
+public class UserCardCacheAdapter implements UserCardCachePort {
+
+  @Value("${user.card-cache.max-size:10000}")
+  private int maxSize;
+
+  @Value("${user.card-cache.ttl-ms:30000}")
+  private long ttlMillis;
+
+  private Map<Long, Entry> cache;
+
+  @PostConstruct
+  public void init() {
+    cache =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  @Override
+  public Map<Long, UserCard> findAll(Collection<Long> userIds) {
+    Map<Long, UserCard> found = new HashMap<>();
+    long now = System.currentTimeMillis();
+    synchronized (cache) {
+      for (Long userId : userIds) {
+        Entry entry = cache.get(userId);
+        if (entry == null) {
+          continue;
+        }
+        if (entry.validUntilMillis() <= now) {
+          cache.remove(userId);
+          continue;
+        }
+        found.put(userId, entry.userCard());
+      }
+    }
+    return found;
+  }
+
+  @Override
+  public void putAll(Map<Long, UserCard> userCards) {
+    long validUntil = System.currentTimeMillis() + ttlMillis;
+    synchronized (cache) {
+      userCards.forEach((userId, userCard) -> cache.put(userId, new Entry(userCard, validUntil)));
+    }
+  }
+
+  @Override
+  public void evict(Long userId) {
+    remove(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              remove(userId);
+            }
+          });
+    }
+  }
+
+  private void remove(Long userId) {
+    synchronized (cache) {
+      cache.remove(userId);
+    }
+  }
+
+  private record Entry(UserCard userCard, long validUntilMillis) {}
+}
@@ -1,5 +1,7 @@
 package com.dataracy.modules.user.adapter.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.dataracy.modules.user.adapter.jpa.entity.UserEntity;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
   /**
@@ -58,4 +61,16 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
    */
   @Query("SELECT u.nickname FROM UserEntity u WHERE u.id = :id")
   Optional<String> findNicknameById(Long id);
+
+  /**
+   * 주어진 사용자 ID 목록의 유저 카드를 한 번의 쿼리로 조회합니다.
+   *
+   * @param ids 조회할 사용자 ID 목록
+   * @return 존재하는 사용자의 유저 카드 목록
+   */
+  @Query(
+      "SELECT new com.dataracy.modules.user.domain.model.vo.UserCard("
+          + "u.id, u.nickname, u.profileImageUrl, u.authorLevelId, u.occupationId) "
+          + "FROM UserEntity u WHERE u.id IN :ids")
+  List<UserCard> findUserCardsByIds(Collection<Long> ids);
 }
@@ -0,0 +1,24 @@
+package com.dataracy.modules.user.application.port.in.query.extractor;
+
+import java.util.List;
+import java.util.Map;
+
+import com.dataracy.modules.user.domain.model.vo.UserCard;
+
+public interface FindUserCardsUseCase {
+  /**
+   * 주어진 사용자 ID에 해당하는 유저 카드(닉네임, 프로필 이미지, 작성자 유형, 직업)를 조회합니다.
+   *
+   * @param userId 조회할 사용자 ID
+   * @return 사용자의 유저 카드
+   */
+  UserCard findUserCardById(Long userId);
+
+  /**
+   * 주어진 사용자 ID 목록에 대해 각 사용자 ID와 유저 카드를 매핑한 Map을 반환합니다.
+   *
+   * @param userIds 조회할 사용자 ID 목록
+   * @return 사용자 ID별 유저 카드가 매핑된 Map (존재하지 않는 사용자는 포함되지 않음)
+   */
+  Map<Long, UserCard> findUserCardsByIds(List<Long> userIds);
+}
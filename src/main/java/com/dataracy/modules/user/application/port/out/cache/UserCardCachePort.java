@@ -0,0 +1,30 @@
+package com.dataracy.modules.user.application.port.out.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.dataracy.modules.user.domain.model.vo.UserCard;
+
+public interface UserCardCachePort {
+  /**
+   * 캐시에 있는 유저 카드를 조회합니다.
+   *
+   * @param userIds 조회할 사용자 ID 목록
+   * @return 캐시에서 찾은 사용자 ID와 유저 카드의 매핑 (찾지 못한 ID는 포함되지 않음)
+   */
+  Map<Long, UserCard> findAll(Collection<Long> userIds);
+
+  /**
+   * 유저 카드를 캐시에 저장합니다.
+   *
+   * @param userCards 저장할 사용자 ID와 유저 카드의 매핑
+   */
+  void putAll(Map<Long, UserCard> userCards);
+
+  /**
+   * 사용자 정보가 바뀌었을 때 캐시에서 해당 사용자의 유저 카드를 제거합니다.
+   *
+   * @param userId 제거할 사용자 ID
+   */
+  void evict(Long userId);
+}
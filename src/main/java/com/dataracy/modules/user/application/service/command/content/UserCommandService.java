@@ -29,6 +29,7 @@ import com.dataracy.modules.user.application.port.in.command.command.LogoutUserU
 import com.dataracy.modules.user.application.port.in.command.command.ModifyUserInfoUseCase;
 import com.dataracy.modules.user.application.port.in.command.command.WithdrawUserUseCase;
 import com.dataracy.modules.user.application.port.in.validate.DuplicateNicknameUseCase;
+import com.dataracy.modules.user.application.port.out.cache.UserCardCachePort;
 import com.dataracy.modules.user.application.port.out.command.UserCommandPort;
 import com.dataracy.modules.user.application.port.out.query.UserQueryPort;
 import com.dataracy.modules.user.domain.exception.UserException;
@@ -42,6 +43,7 @@ public class UserCommandService
     implements ModifyUserInfoUseCase, WithdrawUserUseCase, LogoutUserUseCase {
   private final UserCommandPort userCommandPort;
   private final UserQueryPort userQueryPort;
+  private final UserCardCachePort userCardCachePort;
 
   // Use Case 상수 정의
   private static final String MODIFY_USER_INFO_USE_CASE = "ModifyUserInfoUseCase";
@@ -141,6 +143,7 @@ public class UserCommandService
 
     // 새로운 프로필 이미지 첨부 시 업데이트, 없을 경우 기존 유지
     modifyProfileImageFile(profileImageFile, userId, MODIFY_USER_INFO_USE_CASE);
+    userCardCachePort.evict(userId);
 
     LoggerFactory.service()
         .logSuccess(
@@ -194,6 +197,7 @@ public class UserCommandService
 
     // 새로운 프로필 이미지 첨부 시 업데이트, 없을 경우 기존 유지
     modifyProfileImageFile(profileImageFile, userId, MODIFY_USER_INFO_USE_CASE);
+    userCardCachePort.evict(userId);
 
     LoggerFactory.service()
         .logSuccess(
@@ -322,6 +326,7 @@ public class UserCommandService
     Instant startTime =
         LoggerFactory.service().logStart(WITHDRAW_USER_USE_CASE, "회원 탈퇴 서비스 시작 userId=" + userId);
     userCommandPort.withdrawalUser(userId);
+    userCardCachePort.evict(userId);
     LoggerFactory.service()
         .logSuccess(WITHDRAW_USER_USE_CASE, "회원 탈퇴 서비스 성공 userId=" + userId, startTime);
   }
@@ -1,6 +1,7 @@
 package com.dataracy.modules.user.application.service.query.profile;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,13 +15,16 @@ import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFro
 import com.dataracy.modules.reference.application.port.in.visitsource.GetVisitSourceLabelFromIdUseCase;
 import com.dataracy.modules.user.application.dto.response.read.GetUserInfoResponse;
 import com.dataracy.modules.user.application.port.in.query.extractor.FindUserAuthorLevelIdsUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
 import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
 import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
 import com.dataracy.modules.user.application.port.in.query.extractor.GetUserInfoUseCase;
+import com.dataracy.modules.user.application.port.out.cache.UserCardCachePort;
 import com.dataracy.modules.user.application.port.out.query.UserMultiQueryPort;
 import com.dataracy.modules.user.application.port.out.query.UserQueryPort;
 import com.dataracy.modules.user.domain.exception.UserException;
 import com.dataracy.modules.user.domain.model.User;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 import com.dataracy.modules.user.domain.model.vo.UserInfo;
 import com.dataracy.modules.user.domain.status.UserErrorStatus;
 
@@ -32,9 +36,11 @@ public class UserProfileService
     implements FindUsernameUseCase,
         FindUserThumbnailUseCase,
         FindUserAuthorLevelIdsUseCase,
+        FindUserCardsUseCase,
         GetUserInfoUseCase {
   private final UserQueryPort userQueryPort;
   private final UserMultiQueryPort userMultiQueryPort;
+  private final UserCardCachePort userCardCachePort;
 
   private final GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
   private final GetAuthorLevelLabelFromIdUseCase getAuthorLevelLabelFromIdUseCase;
@@ -45,6 +51,7 @@ public class UserProfileService
   private static final String FIND_USERNAME_USE_CASE = "FindUsernameUseCase";
   private static final String FIND_USER_THUMBNAIL_USE_CASE = "FindUserThumbnailUseCase";
   private static final String FIND_USER_AUTHOR_LEVEL_IDS_USE_CASE = "FindUserAuthorLevelIdsUseCase";
+  private static final String FIND_USER_CARDS_USE_CASE = "FindUserCardsUseCase";
   private static final String GET_USER_INFO_USE_CASE = "GetUserInfoUseCase";
 
   // 메시지 상수 정의
@@ -63,19 +70,10 @@ public class UserProfileService
     Instant startTime =
         LoggerFactory.service()
             .logStart(FIND_USERNAME_USE_CASE, "아이디를 통한 유저명을 찾는 서비스 시작 userId=" + userId);
-    User user =
-        userQueryPort
-            .findUserById(userId)
-            .orElseThrow(
-                () -> {
-                  LoggerFactory.service()
-                      .logWarning(
-                          FIND_USERNAME_USE_CASE, "[유저명 조회] " + USER_NOT_FOUND_MESSAGE + userId);
-                  return new UserException(UserErrorStatus.NOT_FOUND_USER);
-                });
+    UserCard userCard = findExistingUserCard(userId, FIND_USERNAME_USE_CASE, "[유저명 조회] ");
     LoggerFactory.service()
         .logSuccess(FIND_USERNAME_USE_CASE, "아이디를 통한 유저명을 찾는 서비스 성공 userId=" + userId, startTime);
-    return user.getNickname();
+    return userCard.nickname();
   }
 
   /**
@@ -95,7 +93,7 @@ public class UserProfileService
     Instant startTime =
         LoggerFactory.service()
             .logStart(FIND_USERNAME_USE_CASE, "주어진 사용자 ID 목록에 대해 각 ID에 해당하는 닉네임을 반환 서비스 시작");
-    Map<Long, String> usernames = userMultiQueryPort.findUsernamesByIds(userIds);
+    Map<Long, String> usernames = UserCard.nicknames(findUserCardsByIds(userIds));
     LoggerFactory.service()
         .logSuccess(
             FIND_USERNAME_USE_CASE, "주어진 사용자 ID 목록에 대해 각 ID에 해당하는 닉네임을 반환 서비스 성공", startTime);
@@ -116,23 +114,14 @@ public class UserProfileService
         LoggerFactory.service()
             .logStart(
                 FIND_USER_THUMBNAIL_USE_CASE, "아이디를 통한 유저 프로필 이미지 URL을 찾는 서비스 시작 userId=" + userId);
-    User user =
-        userQueryPort
-            .findUserById(userId)
-            .orElseThrow(
-                () -> {
-                  LoggerFactory.service()
-                      .logWarning(
-                          FIND_USER_THUMBNAIL_USE_CASE,
-                          "[유저 프로필 이미지 조회] " + USER_NOT_FOUND_MESSAGE + userId);
-                  return new UserException(UserErrorStatus.NOT_FOUND_USER);
-                });
+    UserCard userCard =
+        findExistingUserCard(userId, FIND_USER_THUMBNAIL_USE_CASE, "[유저 프로필 이미지 조회] ");
     LoggerFactory.service()
         .logSuccess(
             FIND_USER_THUMBNAIL_USE_CASE,
             "아이디를 통한 유저 프로필 이미지 URL을 찾는 서비스 성공 userId=" + userId,
             startTime);
-    return user.getProfileImageUrl();
+    return userCard.profileImageUrl();
   }
 
   /**
@@ -151,7 +140,7 @@ public class UserProfileService
         LoggerFactory.service()
             .logStart(
                 FIND_USER_THUMBNAIL_USE_CASE, "주어진 사용자 ID 목록에 대해 각 ID에 해당하는 프로필 이미지를 반환 서비스 시작");
-    Map<Long, String> userThumbnails = userMultiQueryPort.findUserThumbnailsByIds(userIds);
+    Map<Long, String> userThumbnails = UserCard.thumbnails(findUserCardsByIds(userIds));
     LoggerFactory.service()
         .logSuccess(
             FIND_USER_THUMBNAIL_USE_CASE,
@@ -177,7 +166,7 @@ public class UserProfileService
             .logStart(
                 FIND_USER_AUTHOR_LEVEL_IDS_USE_CASE,
                 "주어진 사용자 ID 목록에 대해 각 ID에 해당하는 작성자 유형을 반환하는 서비스 시작");
-    Map<Long, String> userAuthorLevelIds = userMultiQueryPort.findUserAuthorLevelIds(userIds);
+    Map<Long, String> userAuthorLevelIds = UserCard.authorLevelIds(findUserCardsByIds(userIds));
     LoggerFactory.service()
         .logSuccess(
             FIND_USER_AUTHOR_LEVEL_IDS_USE_CASE,
@@ -186,6 +175,55 @@ public class UserProfileService
     return userAuthorLevelIds;
   }
 
+  /**
+   * 주어진 사용자 ID의 유저 카드를 조회합니다.
+   *
+   * @param userId 조회할 사용자 ID
+   * @return 사용자의 유저 카드
+   * @throws UserException 사용자가 존재하지 않을 경우 발생합니다.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public UserCard findUserCardById(Long userId) {
+    return findExistingUserCard(userId, FIND_USER_CARDS_USE_CASE, "[유저 카드 조회] ");
+  }
+
+  /**
+   * 주어진 사용자 ID 목록의 유저 카드를 조회합니다.
+   *
+   * <p>캐시에 있는 사용자는 캐시에서 가져오고, 나머지 사용자만 한 번의 쿼리로 조회한 뒤 캐시에 저장합니다.
+   *
+   * @param userIds 조회할 사용자 ID 목록(빈 목록 또는 null이면 빈 Map 반환)
+   * @return 사용자 ID를 키로, 유저 카드를 값으로 하는 Map
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, UserCard> findUserCardsByIds(List<Long> userIds) {
+    if (userIds == null || userIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, UserCard> cached = userCardCachePort.findAll(userIds);
+    List<Long> missingIds =
+        userIds.stream().filter(id -> id != null && !cached.containsKey(id)).distinct().toList();
+    if (missingIds.isEmpty()) {
+      return cached;
+    }
+    Map<Long, UserCard> loaded = userMultiQueryPort.findUserCardsByIds(missingIds);
+    userCardCachePort.putAll(loaded);
+    Map<Long, UserCard> userCards = new HashMap<>(cached);
+    userCards.putAll(loaded);
+    return userCards;
+  }
+
+  private UserCard findExistingUserCard(Long userId, String useCase, String logPrefix) {
+    UserCard userCard = userId == null ? null : findUserCardsByIds(List.of(userId)).get(userId);
+    if (userCard == null) {
+      LoggerFactory.service().logWarning(useCase, logPrefix + USER_NOT_FOUND_MESSAGE + userId);
+      throw new UserException(UserErrorStatus.NOT_FOUND_USER);
+    }
+    return userCard;
+  }
+
   /**
    * 주어진 사용자 ID로 사용자를 조회하여 UserInfo로 변환해 반환합니다.
    *
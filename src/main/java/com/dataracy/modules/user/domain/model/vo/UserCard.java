@@ -0,0 +1,47 @@
+package com.dataracy.modules.user.domain.model.vo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 목록 화면에서 작성자 표시에 필요한 유저 정보 vo
+ *
+ * @param userId 유저 id
+ * @param nickname 닉네임
+ * @param profileImageUrl 프로필 이미지 URL
+ * @param authorLevelId 작성자 유형 id
+ * @param occupationId 직업 id
+ */
+public record UserCard(
+    Long userId, String nickname, String profileImageUrl, Long authorLevelId, Long occupationId) {
+
+  /** 작성자 유형이 지정되지 않은 유저에게 사용하는 기본 작성자 유형 id */
+  public static final long DEFAULT_AUTHOR_LEVEL_ID = 1L;
+
+  /** 유저 ID별 닉네임 맵으로 변환합니다. */
+  public static Map<Long, String> nicknames(Map<Long, UserCard> cards) {
+    return collect(cards, UserCard::nickname);
+  }
+
+  /** 유저 ID별 프로필 이미지 URL 맵으로 변환합니다. 이미지가 없으면 빈 문자열로 매핑합니다. */
+  public static Map<Long, String> thumbnails(Map<Long, UserCard> cards) {
+    return collect(cards, card -> card.profileImageUrl() == null ? "" : card.profileImageUrl());
+  }
+
+  /** 유저 ID별 작성자 유형 ID(문자열) 맵으로 변환합니다. 작성자 유형이 없으면 기본값으로 매핑합니다. */
+  public static Map<Long, String> authorLevelIds(Map<Long, UserCard> cards) {
+    return collect(
+        cards,
+        card ->
+            String.valueOf(
+                card.authorLevelId() == null ? DEFAULT_AUTHOR_LEVEL_ID : card.authorLevelId()));
+  }
+
+  private static Map<Long, String> collect(
+      Map<Long, UserCard> cards, Function<UserCard, String> mapper) {
+    Map<Long, String> result = new HashMap<>(cards.size() * 2);
+    cards.forEach((userId, card) -> result.put(userId, mapper.apply(card)));
+    return result;
+  }
+}
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Date;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
 import com.dataracy.modules.user.domain.enums.RoleType;
 
 import io.jsonwebtoken.Claims;
@@ -65,6 +69,23 @@ class JwtValidatorAdapterTest {
     verify(jwtUtilInternal).parseToken(token);
   }
 
+  @Test
+  @DisplayName("getPrincipalFromToken - 토큰을 한 번 파싱하여 사용자 ID, 역할, 만료 시각을 추출한다")
+  void getPrincipalFromTokenWhenValidTokenReturnsPrincipal() {
+    // given
+    String token = "valid.token.here";
+    when(claims.get("userId", Long.class)).thenReturn(1L);
+    when(claims.get("role", String.class)).thenReturn("ROLE_USER");
+    when(claims.getExpiration()).thenReturn(new Date(1_000L));
+
+    // when
+    AuthenticatedPrincipal result = jwtValidatorAdapter.getPrincipalFromToken(token);
+
+    // then
+    assertThat(result).isEqualTo(new AuthenticatedPrincipal(1L, RoleType.ROLE_USER, 1_000L));
+    verify(jwtUtilInternal, times(1)).parseToken(token);
+  }
+
   @Test
   @DisplayName("getRoleFromToken - 토큰에서 역할을 추출한다")
   void getRoleFromTokenWhenValidTokenReturnsRole() {
@@ -0,0 +1,94 @@
+package com.dataracy.modules.auth.adapter.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+import com.dataracy.modules.common.util.TokenHashUtil;
+import com.dataracy.modules.user.domain.enums.RoleType;
+
+class VerifiedPrincipalCacheAdapterTest {
+
+  private VerifiedPrincipalCacheAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new VerifiedPrincipalCacheAdapter();
+    ReflectionTestUtils.setField(adapter, "maxSize", 2);
+    ReflectionTestUtils.setField(adapter, "ttlMillis", 60_000L);
+    adapter.init();
+  }
+
+  @Test
+  @DisplayName("저장한 인증 주체를 토큰으로 조회한다")
+  void findReturnsStoredPrincipal() {
+    // given
+    AuthenticatedPrincipal principal = principal(1L, Long.MAX_VALUE);
+    adapter.put("token-1", principal);
+
+    // when & then
+    assertThat(adapter.find("token-1")).contains(principal);
+    assertThat(adapter.find("token-2")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("토큰이 만료된 항목은 조회되지 않는다")
+  void findIgnoresExpiredToken() {
+    // given
+    adapter.put("expired", principal(1L, System.currentTimeMillis() - 1L));
+
+    // when & then
+    assertThat(adapter.find("expired")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("제거한 토큰은 더 이상 조회되지 않는다")
+  void evictRemovesEntry() {
+    // given
+    adapter.put("token-1", principal(1L, Long.MAX_VALUE));
+
+    // when
+    adapter.evict("token-1");
+
+    // then
+    assertThat(adapter.find("token-1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("토큰 해시로 제거한 항목은 더 이상 조회되지 않는다")
+  void evictByTokenHashRemovesEntry() {
+    // given
+    adapter.put("token-1", principal(1L, Long.MAX_VALUE));
+
+    // when
+    adapter.evictByTokenHash(TokenHashUtil.sha256("token-1"));
+
+    // then
+    assertThat(adapter.find("token-1")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+  void putEvictsLeastRecentlyUsed() {
+    // given
+    adapter.put("token-1", principal(1L, Long.MAX_VALUE));
+    adapter.put("token-2", principal(2L, Long.MAX_VALUE));
+    adapter.find("token-1");
+
+    // when
+    adapter.put("token-3", principal(3L, Long.MAX_VALUE));
+
+    // then
+    assertThat(adapter.find("token-1")).isPresent();
+    assertThat(adapter.find("token-2")).isEmpty();
+    assertThat(adapter.find("token-3")).isPresent();
+  }
+
+  private AuthenticatedPrincipal principal(Long userId, long expiresAtMillis) {
+    return new AuthenticatedPrincipal(userId, RoleType.ROLE_USER, expiresAtMillis);
+  }
+}
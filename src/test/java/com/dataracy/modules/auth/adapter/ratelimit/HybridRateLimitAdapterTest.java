@@ -0,0 +1,116 @@
+package com.dataracy.modules.auth.adapter.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.thenCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class HybridRateLimitAdapterTest {
+
+  @Mock private StringRedisTemplate redisTemplate;
+
+  private HybridRateLimitAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter =
+        new HybridRateLimitAdapter(redisTemplate, new RateLimitMetrics(new SimpleMeterRegistry()));
+    ReflectionTestUtils.setField(adapter, "defaultMaxRequests", 10);
+    ReflectionTestUtils.setField(adapter, "defaultWindowMinutes", 1);
+  }
+
+  @Test
+  @DisplayName("tryAcquire - 동기화 전에는 로컬 한도까지 허용하고 Redis를 호출하지 않는다")
+  void tryAcquireUsesLocalBucketWithoutRedis() {
+    // when
+    boolean first = adapter.tryAcquire("192.168.1.1", 2, 1);
+    boolean second = adapter.tryAcquire("192.168.1.1", 2, 1);
+    boolean third = adapter.tryAcquire("192.168.1.1", 2, 1);
+
+    // then
+    assertAll(
+        () -> assertThat(first).isTrue(),
+        () -> assertThat(second).isTrue(),
+        () -> assertThat(third).isFalse());
+    then(redisTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("reconcile - 다른 노드의 사용량만큼 로컬 한도를 줄인다")
+  @SuppressWarnings("unchecked")
+  void reconcileAppliesRemoteUsage() {
+    // given
+    adapter.tryAcquire("192.168.1.1", 5, 1);
+    // 이 노드 1회 + 다른 노드 3회
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(List.of(4L, true));
+
+    // when
+    adapter.reconcile();
+    boolean second = adapter.tryAcquire("192.168.1.1", 5, 1);
+    boolean third = adapter.tryAcquire("192.168.1.1", 5, 1);
+
+    // then
+    assertAll(() -> assertThat(second).isTrue(), () -> assertThat(third).isFalse());
+  }
+
+  @Test
+  @DisplayName("reconcile - Redis 동기화에 실패해도 예외 없이 로컬 한도로 계속 판정한다")
+  @SuppressWarnings("unchecked")
+  void reconcileFailureKeepsLocalDecision() {
+    // given
+    adapter.tryAcquire("192.168.1.1", 2, 1);
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willThrow(new RuntimeException("Redis connection failed"));
+
+    // when & then
+    thenCode(() -> adapter.reconcile()).doesNotThrowAnyException();
+    assertThat(adapter.tryAcquire("192.168.1.1", 2, 1)).isTrue();
+    assertThat(adapter.tryAcquire("192.168.1.1", 2, 1)).isFalse();
+  }
+
+  @Test
+  @DisplayName("reconcile - 추적 중인 키가 없으면 Redis를 호출하지 않는다")
+  void reconcileWithoutKeysSkipsRedis() {
+    // when
+    adapter.reconcile();
+
+    // then
+    then(redisTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("isAllowed - 사용량을 차감하지 않고 incrementRequestCount로 반영한다")
+  void isAllowedDoesNotConsume() {
+    // when
+    boolean before = adapter.isAllowed("192.168.1.1", 1, 1);
+    boolean again = adapter.isAllowed("192.168.1.1", 1, 1);
+    adapter.incrementRequestCount("192.168.1.1", 1);
+    boolean after = adapter.isAllowed("192.168.1.1", 1, 1);
+
+    // then
+    assertAll(
+        () -> assertThat(before).isTrue(),
+        () -> assertThat(again).isTrue(),
+        () -> assertThat(after).isFalse());
+  }
+}
@@ -3,6 +3,12 @@ package com.dataracy.modules.auth.adapter.ratelimit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +19,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class MemoryRateLimitAdapterTest {
 
@@ -20,7 +30,8 @@ class MemoryRateLimitAdapterTest {
 
   @BeforeEach
   void setUp() {
-    memoryRateLimitAdapter = new MemoryRateLimitAdapter();
+    memoryRateLimitAdapter =
+        new MemoryRateLimitAdapter(new RateLimitMetrics(new SimpleMeterRegistry()));
     // 기본값 설정
     ReflectionTestUtils.setField(memoryRateLimitAdapter, "defaultMaxRequests", 10);
     ReflectionTestUtils.setField(memoryRateLimitAdapter, "defaultWindowMinutes", 1);
@@ -216,4 +227,71 @@ class MemoryRateLimitAdapterTest {
     // then
     assertThat(result).isTrue();
   }
+
+  @Test
+  @DisplayName("tryAcquire - 한도까지 허용하고 이후 요청은 차단한다")
+  void tryAcquireWhenExceedsMaxRequestsReturnsFalse() {
+    // given
+    String key = "192.168.1.1";
+    int maxRequests = 2;
+    int windowMinutes = 1;
+
+    // when
+    boolean firstRequest = memoryRateLimitAdapter.tryAcquire(key, maxRequests, windowMinutes);
+    boolean secondRequest = memoryRateLimitAdapter.tryAcquire(key, maxRequests, windowMinutes);
+    boolean thirdRequest = memoryRateLimitAdapter.tryAcquire(key, maxRequests, windowMinutes);
+
+    // then
+    assertAll(
+        () -> assertThat(firstRequest).isTrue(),
+        () -> assertThat(secondRequest).isTrue(),
+        () -> assertThat(thirdRequest).isFalse());
+  }
+
+  @Test
+  @DisplayName("tryAcquire - 동시에 요청해도 한도를 넘겨 허용하지 않는다")
+  void tryAcquireWhenConcurrentRequestsNeverExceedsLimit() throws Exception {
+    // given
+    String key = "192.168.1.1";
+    int maxRequests = 50;
+    int threads = 8;
+    AtomicInteger allowed = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+
+    // when
+    for (int i = 0; i < threads; i++) {
+      executor.submit(
+          () -> {
+            start.await();
+            for (int j = 0; j < 100; j++) {
+              if (memoryRateLimitAdapter.tryAcquire(key, maxRequests, 60)) {
+                allowed.incrementAndGet();
+              }
+            }
+            return null;
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(allowed.get()).isEqualTo(maxRequests);
+  }
+
+  @Test
+  @DisplayName("isAllowed - 사용량을 차감하지 않는다")
+  void isAllowedDoesNotConsume() {
+    // given
+    String key = "192.168.1.1";
+
+    // when
+    memoryRateLimitAdapter.isAllowed(key, 1, 1);
+    memoryRateLimitAdapter.isAllowed(key, 1, 1);
+    boolean result = memoryRateLimitAdapter.tryAcquire(key, 1, 1);
+
+    // then
+    assertThat(result).isTrue();
+  }
 }
@@ -38,6 +38,22 @@ class NoOpRateLimitAdapterTest {
     assertThat(result).isTrue();
   }
 
+  @ParameterizedTest
+  @CsvSource({
+    "192.168.1.1, 5, 1", // 정상 케이스
+    ", 5, 1", // null 키
+    "192.168.1.1, 0, 1", // 0 maxRequests
+    "192.168.1.1, 5, 0" // 0 windowMinutes
+  })
+  @DisplayName("tryAcquire - 모든 입력에 대해 항상 true를 반환한다")
+  void tryAcquireAlwaysReturnsTrue(String key, int maxRequests, int windowMinutes) {
+    // when
+    boolean result = noOpRateLimitAdapter.tryAcquire(key, maxRequests, windowMinutes);
+
+    // then
+    assertThat(result).isTrue();
+  }
+
   @ParameterizedTest
   @CsvSource({
     "192.168.1.1, 5", // 정상 케이스
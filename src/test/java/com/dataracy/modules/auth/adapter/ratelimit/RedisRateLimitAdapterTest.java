@@ -1,10 +1,11 @@
 package com.dataracy.modules.auth.adapter.ratelimit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.thenCode;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,14 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.common.support.metrics.RateLimitMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /** RedisRateLimitAdapter 테스트 */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -29,224 +35,184 @@ class RedisRateLimitAdapterTest {
 
   @Mock private StringRedisTemplate redisTemplate;
 
-  @Mock private ValueOperations<String, String> valueOperations;
-
+  private SimpleMeterRegistry meterRegistry;
   private RedisRateLimitAdapter adapter;
 
   @BeforeEach
   void setUp() {
-    given(redisTemplate.opsForValue()).willReturn(valueOperations);
-    adapter = new RedisRateLimitAdapter(redisTemplate);
+    meterRegistry = new SimpleMeterRegistry();
+    adapter = new RedisRateLimitAdapter(redisTemplate, new RateLimitMetrics(meterRegistry));
 
     // @Value 필드 설정
     ReflectionTestUtils.setField(adapter, "defaultMaxRequests", 10);
     ReflectionTestUtils.setField(adapter, "defaultWindowMinutes", 1);
   }
 
-  @Nested
-  @DisplayName("isAllowed 메서드 테스트")
-  class IsAllowedTest {
-
-    @Test
-    @DisplayName("성공: 요청 허용 (카운트가 제한보다 적음)")
-    void isAllowedCountLessThanLimitReturnsTrue() {
-      // given
-      String key = "192.168.1.1";
-      int maxRequests = 5;
-      int windowMinutes = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, 1)).willReturn(3L);
-
-      // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+  @SuppressWarnings("unchecked")
+  private void givenScriptResult(Long result) {
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(result);
+  }
 
-      // then
-      assertThat(result).isTrue();
-      then(valueOperations).should().increment(redisKey, 1);
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
-    }
+  @Nested
+  @DisplayName("tryAcquire 메서드 테스트")
+  class TryAcquireTest {
 
     @Test
-    @DisplayName("요청 차단: 카운트가 제한과 같음")
-    void isAllowedCountEqualToLimitReturnsFalse() {
+    @DisplayName("성공: 스크립트가 기록하면 허용하고 슬라이딩 윈도우 키와 인자를 전달")
+    @SuppressWarnings("unchecked")
+    void tryAcquireScriptRecordedReturnsTrue() {
       // given
-      String key = "192.168.1.1";
-      int maxRequests = 5;
-      int windowMinutes = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, 1)).willReturn(5L);
+      givenScriptResult(1L);
 
       // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+      boolean result = adapter.tryAcquire("192.168.1.1", 5, 1);
 
       // then
       assertThat(result).isTrue();
-      then(valueOperations).should().increment(redisKey, 1);
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+      ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+      then(redisTemplate)
+          .should()
+          .execute(
+              any(RedisScript.class), eq(List.of("rate_limit:sw:192.168.1.1")), args.capture());
+      assertThat(args.getValue()).startsWith("60000", "5", "1");
+      assertThat(
+              meterRegistry
+                  .get("ratelimit.decisions")
+                  .tag("backend", "redis")
+                  .tag("result", "allowed")
+                  .counter()
+                  .count())
+          .isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("요청 차단: 카운트가 제한보다 많음")
-    void isAllowedCountMoreThanLimitReturnsFalse() {
+    @DisplayName("요청 차단: 스크립트가 한도 초과를 반환")
+    void tryAcquireLimitExceededReturnsFalse() {
       // given
-      String key = "192.168.1.1";
-      int maxRequests = 5;
-      int windowMinutes = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, 1)).willReturn(6L);
+      givenScriptResult(0L);
 
       // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+      boolean result = adapter.tryAcquire("192.168.1.1", 5, 1);
 
       // then
       assertThat(result).isFalse();
-      then(valueOperations).should().increment(redisKey, 1);
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+      assertThat(
+              meterRegistry
+                  .get("ratelimit.decisions")
+                  .tag("backend", "redis")
+                  .tag("result", "blocked")
+                  .counter()
+                  .count())
+          .isEqualTo(1.0);
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    @ValueSource(strings = {"   ", "\t"})
+    @ValueSource(strings = {"   ", "\t", "\n"})
     @DisplayName("key가 null이거나 빈 문자열 또는 공백일 때 true 반환하고 Redis 호출 안 함")
-    void isAllowedWhenKeyIsInvalidReturnsTrue(String key) {
-      // given
-      int maxRequests = 5;
-      int windowMinutes = 1;
-
+    void tryAcquireInvalidKeyReturnsTrue(String key) {
       // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+      boolean result = adapter.tryAcquire(key, 5, 1);
 
       // then
       assertThat(result).isTrue();
-      then(valueOperations).should(never()).increment(anyString(), anyLong());
+      then(redisTemplate).shouldHaveNoInteractions();
     }
 
     @Test
     @DisplayName("Redis에서 null 반환 시 안전을 위해 차단")
-    void isAllowedRedisReturnsNullReturnsFalse() {
+    void tryAcquireNullResultReturnsFalse() {
       // given
-      String key = "192.168.1.1";
-      int maxRequests = 5;
-      int windowMinutes = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, 1)).willReturn(null);
+      givenScriptResult(null);
 
       // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+      boolean result = adapter.tryAcquire("192.168.1.1", 5, 1);
 
       // then
       assertThat(result).isFalse();
-      then(valueOperations).should().increment(redisKey, 1);
     }
 
     @Test
-    @DisplayName("첫 번째 요청일 때 TTL 설정")
-    void isAllowedWhenFirstRequestSetsTTL() {
+    @DisplayName("Redis 예외 발생 시 안전을 위해 차단")
+    @SuppressWarnings("unchecked")
+    void tryAcquireRedisExceptionReturnsFalse() {
       // given
-      String key = "192.168.1.1";
-      int maxRequests = 5;
-      int windowMinutes = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, 1)).willReturn(1L);
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .willThrow(new RuntimeException("Redis connection failed"));
 
       // when
-      boolean result = adapter.isAllowed(key, maxRequests, windowMinutes);
+      boolean result = adapter.tryAcquire("192.168.1.1", 5, 1);
 
       // then
-      assertThat(result).isTrue();
-      then(valueOperations).should().increment(redisKey, 1);
-      then(redisTemplate).should().expire(redisKey, windowMinutes, TimeUnit.MINUTES);
+      assertThat(result).isFalse();
     }
   }
 
   @Nested
-  @DisplayName("incrementRequestCount 메서드 테스트")
-  class IncrementRequestCountTest {
+  @DisplayName("isAllowed 메서드 테스트")
+  class IsAllowedTest {
 
     @Test
-    @DisplayName("성공: 첫 번째 요청 시 TTL 설정")
-    void incrementRequestCountWhenFirstRequestSetsTTL() {
+    @DisplayName("확인과 기록을 함께 수행하므로 tryAcquire와 같은 결과를 반환")
+    void isAllowedDelegatesToTryAcquire() {
       // given
-      String key = "192.168.1.1";
-      int incrementBy = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, incrementBy)).willReturn(1L);
+      givenScriptResult(0L);
 
       // when
-      adapter.incrementRequestCount(key, incrementBy);
+      boolean result = adapter.isAllowed("192.168.1.1", 5, 1);
 
       // then
-      then(valueOperations).should().increment(redisKey, incrementBy);
-      then(redisTemplate).should().expire(redisKey, 1, TimeUnit.MINUTES);
+      assertThat(result).isFalse();
     }
+  }
+
+  @Nested
+  @DisplayName("incrementRequestCount 메서드 테스트")
+  class IncrementRequestCountTest {
 
     @Test
-    @DisplayName("성공: 기존 요청 시 TTL 설정하지 않음")
-    void incrementRequestCountWhenExistingRequestDoesNotSetTTL() {
+    @DisplayName("성공: 한도 확인 없이 기본 윈도우로 요청 수만큼 기록")
+    @SuppressWarnings("unchecked")
+    void incrementRequestCountRecordsWithoutLimit() {
       // given
-      String key = "192.168.1.1";
-      int incrementBy = 1;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, incrementBy)).willReturn(5L);
+      givenScriptResult(1L);
 
       // when
-      adapter.incrementRequestCount(key, incrementBy);
+      adapter.incrementRequestCount("192.168.1.1", 3);
 
       // then
-      then(valueOperations).should().increment(redisKey, incrementBy);
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+      ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+      then(redisTemplate)
+          .should()
+          .execute(
+              any(RedisScript.class), eq(List.of("rate_limit:sw:192.168.1.1")), args.capture());
+      assertThat(args.getValue()).startsWith("60000", "-1", "3");
     }
 
     @ParameterizedTest
     @NullAndEmptySource
-    @ValueSource(strings = {"   ", "\t"})
+    @ValueSource(strings = {"   ", "\t", "\n"})
     @DisplayName("key가 null이거나 빈 문자열 또는 공백일 때 아무것도 하지 않음")
-    void incrementRequestCountWhenKeyIsInvalidDoesNothing(String key) {
-      // given
-      int incrementBy = 1;
-
+    void incrementRequestCountInvalidKeyDoesNothing(String key) {
       // when
-      adapter.incrementRequestCount(key, incrementBy);
+      adapter.incrementRequestCount(key, 1);
 
       // then
-      then(valueOperations).should(never()).increment(anyString(), anyInt());
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+      then(redisTemplate).shouldHaveNoInteractions();
     }
 
     @Test
     @DisplayName("Redis 예외 발생 시 로그만 남기고 계속 진행")
-    void incrementRequestCountWhenRedisExceptionOccursLogsAndContinues() {
+    @SuppressWarnings("unchecked")
+    void incrementRequestCountRedisExceptionDoesNotThrow() {
       // given
-      String key = "192.168.1.1";
-      int incrementBy = 1;
-      String redisKey = "rate_limit:" + key;
-      willThrow(new RuntimeException("Redis error"))
-          .given(valueOperations)
-          .increment(redisKey, incrementBy);
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+          .willThrow(new RuntimeException("Redis connection failed"));
 
-      // when & then (예외가 발생하지 않아야 함)
-      adapter.incrementRequestCount(key, incrementBy);
-
-      // then
-      then(valueOperations).should().increment(redisKey, incrementBy);
-      then(redisTemplate).should(never()).expire(anyString(), anyLong(), any(TimeUnit.class));
-    }
-
-    @Test
-    @DisplayName("incrementBy가 1보다 클 때도 정상 처리")
-    void incrementRequestCountWhenIncrementByGreaterThanOneProcessesNormally() {
-      // given
-      String key = "192.168.1.1";
-      int incrementBy = 3;
-      String redisKey = "rate_limit:" + key;
-      given(valueOperations.increment(redisKey, incrementBy)).willReturn(3L);
-
-      // when
-      adapter.incrementRequestCount(key, incrementBy);
-
-      // then
-      then(valueOperations).should().increment(redisKey, incrementBy);
-      then(redisTemplate).should().expire(redisKey, 1, TimeUnit.MINUTES);
+      // when & then
+      thenCode(() -> adapter.incrementRequestCount("192.168.1.1", 1))
+          .doesNotThrowAnyException();
     }
   }
 }
@@ -4,7 +4,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,12 +17,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
+import com.dataracy.modules.common.util.TokenHashUtil;
 
 /** BlackListRedisAdapter 테스트 */
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +48,39 @@ class BlackListRedisAdapterTest {
 
   @Mock private ValueOperations<String, String> valueOperations;
 
+  @Mock private ZSetOperations<String, String> zSetOperations;
+
+  @Mock private RedisMessageListenerContainer listenerContainer;
+
+  @Mock private Cursor<String> cursor;
+
+  @Mock private VerifiedPrincipalCachePort verifiedPrincipalCachePort;
+
   private BlackListRedisAdapter adapter;
 
   @BeforeEach
   void setUp() {
     given(redisTemplate.opsForValue()).willReturn(valueOperations);
-    adapter = new BlackListRedisAdapter(redisTemplate);
+    given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    given(cursor.hasNext()).willReturn(false);
+    adapter =
+        new BlackListRedisAdapter(redisTemplate, listenerContainer, verifiedPrincipalCachePort);
+    ReflectionTestUtils.setField(adapter, "resyncIntervalMillis", 30_000L);
+    ReflectionTestUtils.setField(adapter, "revocationLogRetentionMillis", 3_600_000L);
+    adapter.init();
+  }
+
+  private static String keyOf(String token) {
+    return "blacklist:" + TokenHashUtil.sha256(token);
+  }
+
+  @Test
+  @DisplayName("초기화 시 블랙리스트 전파 채널을 구독한다")
+  void initSubscribesChannel() {
+    then(listenerContainer)
+        .should()
+        .addMessageListener(adapter, new ChannelTopic(BlackListRedisAdapter.CHANNEL));
   }
 
   @Nested
@@ -47,12 +88,11 @@ class BlackListRedisAdapterTest {
   class SetBlackListTokenTest {
 
     @Test
-    @DisplayName("성공: 토큰을 블랙리스트에 등록")
+    @DisplayName("성공: 토큰 해시를 키로 블랙리스트에 등록하고 다른 노드에 전파")
     void setBlackListTokenSuccess() {
       // given
       String token = "test-jwt-token";
       long expirationMillis = ONE_HOUR_IN_MILLIS; // 1시간
-      String expectedKey = "blacklist:" + token;
 
       // when
       adapter.setBlackListToken(token, expirationMillis);
@@ -60,24 +100,15 @@ class BlackListRedisAdapterTest {
       // then
       then(valueOperations)
           .should()
-          .set(eq(expectedKey), eq("logout"), eq(Duration.ofMillis(expirationMillis)));
-    }
-
-    @Test
-    @DisplayName("만료 시간이 0일 때도 정상 처리")
-    void setBlackListTokenWithZeroExpiration() {
-      // given
-      String token = "test-token";
-      long expirationMillis = 0L;
-      String expectedKey = "blacklist:" + token;
-
-      // when
-      adapter.setBlackListToken(token, expirationMillis);
-
-      // then
-      then(valueOperations)
+          .set(eq(keyOf(token)), anyString(), eq(Duration.ofMillis(expirationMillis)));
+      ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+      then(redisTemplate)
           .should()
-          .set(eq(expectedKey), eq("logout"), eq(Duration.ofMillis(expirationMillis)));
+          .convertAndSend(eq(BlackListRedisAdapter.CHANNEL), message.capture());
+      assertThat(message.getValue()).startsWith(TokenHashUtil.sha256(token) + ":");
+      then(zSetOperations)
+          .should()
+          .add(eq(BlackListRedisAdapter.REVOCATION_LOG_KEY), eq(message.getValue()), anyDouble());
     }
 
     @Test
@@ -86,7 +117,6 @@ class BlackListRedisAdapterTest {
       // given
       String token = "test-token";
       long expirationMillis = NEGATIVE_EXPIRATION_MILLIS;
-      String expectedKey = "blacklist:" + token;
 
       // when
       adapter.setBlackListToken(token, expirationMillis);
@@ -94,7 +124,7 @@ class BlackListRedisAdapterTest {
       // then
       then(valueOperations)
           .should()
-          .set(eq(expectedKey), eq("logout"), eq(Duration.ofMillis(expirationMillis)));
+          .set(eq(keyOf(token)), anyString(), eq(Duration.ofMillis(expirationMillis)));
     }
   }
 
@@ -103,52 +133,129 @@ class BlackListRedisAdapterTest {
   class IsBlacklistedTest {
 
     @Test
-    @DisplayName("토큰이 블랙리스트에 있을 때 true 반환")
+    @DisplayName("로컬에 등록된 토큰은 Redis로 확인하여 true 반환")
     void isBlacklistedReturnsTrueWhenTokenExists() {
       // given
       String token = "blacklisted-token";
-      String expectedKey = "blacklist:" + token;
-      given(redisTemplate.hasKey(expectedKey)).willReturn(true);
+      adapter.setBlackListToken(token, ONE_HOUR_IN_MILLIS);
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(true);
 
       // when
       boolean result = adapter.isBlacklisted(token);
 
       // then
       assertThat(result).isTrue();
-      then(redisTemplate).should().hasKey(expectedKey);
+      then(redisTemplate).should().hasKey(keyOf(token));
     }
 
     @ParameterizedTest
     @NullAndEmptySource
     @ValueSource(strings = {"valid-token", "test-token"})
-    @DisplayName("블랙리스트에 없는 토큰은 false 반환 (null, 빈 문자열, 일반 토큰 모두 포함)")
-    void isBlacklistedReturnsFalseWhenTokenNotExists(String token) {
-      // given
-      String expectedKey = "blacklist:" + token;
-      given(redisTemplate.hasKey(expectedKey)).willReturn(false);
-
+    @DisplayName("로컬에 없는 토큰은 Redis를 조회하지 않고 false 반환")
+    void isBlacklistedReturnsFalseWithoutRedisWhenTokenNotExists(String token) {
       // when
       boolean result = adapter.isBlacklisted(token);
 
       // then
       assertThat(result).isFalse();
-      then(redisTemplate).should().hasKey(expectedKey);
+      then(redisTemplate).should(never()).hasKey(anyString());
     }
 
     @Test
-    @DisplayName("Redis가 null을 반환할 때 false 반환")
+    @DisplayName("로컬에 있어도 Redis 키가 만료되었으면 false 반환")
     void isBlacklistedReturnsFalseWhenRedisReturnsNull() {
       // given
       String token = "test-token";
-      String expectedKey = "blacklist:" + token;
-      given(redisTemplate.hasKey(expectedKey)).willReturn(null);
+      adapter.setBlackListToken(token, ONE_HOUR_IN_MILLIS);
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(null);
 
       // when
       boolean result = adapter.isBlacklisted(token);
 
       // then
       assertThat(result).isFalse();
-      then(redisTemplate).should().hasKey(expectedKey);
+    }
+
+    @Test
+    @DisplayName("동기화가 지연되면 로컬 상태와 무관하게 Redis를 직접 확인")
+    void isBlacklistedFallsBackToRedisWhenSyncIsStale() {
+      // given
+      String token = "test-token";
+      ReflectionTestUtils.setField(adapter, "lastSyncedAt", 0L);
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(true);
+
+      // when
+      boolean result = adapter.isBlacklisted(token);
+
+      // then
+      assertThat(result).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("니어 캐시 동기화 테스트")
+  class SyncTest {
+
+    @Test
+    @DisplayName("다른 노드가 전파한 토큰 해시를 로컬에 반영")
+    void onMessageRevokesToken() {
+      // given
+      String token = "remote-token";
+      long expiresAt = System.currentTimeMillis() + ONE_HOUR_IN_MILLIS;
+      byte[] body =
+          (TokenHashUtil.sha256(token) + ":" + expiresAt).getBytes(StandardCharsets.UTF_8);
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(true);
+
+      // when
+      adapter.onMessage(new DefaultMessage(new byte[0], body), null);
+
+      // then
+      assertThat(adapter.isBlacklisted(token)).isTrue();
+      then(verifiedPrincipalCachePort).should().evictByTokenHash(TokenHashUtil.sha256(token));
+    }
+
+    @Test
+    @DisplayName("동기화한 적이 없으면 Redis에 남아 있는 블랙리스트 키 전체를 로컬에 반영")
+    void resyncLoadsExistingKeys() {
+      // given
+      ReflectionTestUtils.setField(adapter, "lastSyncedAt", 0L);
+      String token = "existing-token";
+      long expiresAt = System.currentTimeMillis() + ONE_HOUR_IN_MILLIS;
+      given(cursor.hasNext()).willReturn(true, false);
+      given(cursor.next()).willReturn(keyOf(token));
+      given(valueOperations.multiGet(List.of(keyOf(token))))
+          .willReturn(List.of(Long.toString(expiresAt)));
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(true);
+
+      // when
+      adapter.resync();
+
+      // then
+      assertThat(adapter.isBlacklisted(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 동기화한 노드는 키 전체를 SCAN하지 않고 마지막 동기화 이후의 등록 이력만 반영")
+    void resyncReadsOnlyRecentRevocations() {
+      // given
+      String token = "recent-token";
+      long expiresAt = System.currentTimeMillis() + ONE_HOUR_IN_MILLIS;
+      given(
+              zSetOperations.rangeByScore(
+                  eq(BlackListRedisAdapter.REVOCATION_LOG_KEY), anyDouble(), anyDouble()))
+          .willReturn(Set.of(TokenHashUtil.sha256(token) + ":" + expiresAt));
+      given(redisTemplate.hasKey(keyOf(token))).willReturn(true);
+
+      // when
+      adapter.resync();
+
+      // then
+      then(redisTemplate).should(times(1)).scan(any(ScanOptions.class));
+      then(zSetOperations)
+          .should()
+          .removeRangeByScore(eq(BlackListRedisAdapter.REVOCATION_LOG_KEY), eq(0.0), anyDouble());
+      assertThat(adapter.isBlacklisted(token)).isTrue();
+      then(verifiedPrincipalCachePort).should().evictByTokenHash(TokenHashUtil.sha256(token));
     }
   }
 }
@@ -121,7 +121,7 @@ class AuthCommandServiceTest {
 
       given(isLoginPossibleUseCase.checkLoginPossibleAndGetUserInfo(anyString(), anyString()))
           .willReturn(userInfo);
-      given(rateLimitPort.isAllowed(anyString(), any(Integer.class), any(Integer.class)))
+      given(rateLimitPort.tryAcquire(anyString(), any(Integer.class), any(Integer.class)))
           .willReturn(true);
       given(jwtGeneratorPort.generateRefreshToken(1L, RoleType.ROLE_USER)).willReturn(refreshToken);
       given(jwtProperties.getRefreshTokenExpirationTime())
@@ -155,7 +155,7 @@ class AuthCommandServiceTest {
 
       given(isLoginPossibleUseCase.checkLoginPossibleAndGetUserInfo(anyString(), anyString()))
           .willReturn(userInfo);
-      given(rateLimitPort.isAllowed(anyString(), any(Integer.class), any(Integer.class)))
+      given(rateLimitPort.tryAcquire(anyString(), any(Integer.class), any(Integer.class)))
           .willReturn(false);
 
       // when & then
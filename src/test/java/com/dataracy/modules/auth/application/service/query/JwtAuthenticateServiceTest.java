@@ -0,0 +1,131 @@
+package com.dataracy.modules.auth.application.service.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dataracy.modules.auth.application.port.out.jwt.JwtValidatorPort;
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
+import com.dataracy.modules.auth.application.port.out.token.BlackListTokenPort;
+import com.dataracy.modules.auth.domain.exception.AuthException;
+import com.dataracy.modules.auth.domain.model.vo.AuthenticatedPrincipal;
+import com.dataracy.modules.auth.domain.status.AuthErrorStatus;
+import com.dataracy.modules.common.logging.ServiceLogger;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.user.domain.enums.RoleType;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticateServiceTest {
+
+  private static final String TOKEN = "access.token.value";
+  private static final AuthenticatedPrincipal PRINCIPAL =
+      new AuthenticatedPrincipal(1L, RoleType.ROLE_USER, Long.MAX_VALUE);
+
+  @Mock private JwtValidatorPort jwtValidatorPort;
+
+  @Mock private VerifiedPrincipalCachePort verifiedPrincipalCachePort;
+
+  @Mock private BlackListTokenPort blackListTokenPort;
+
+  @InjectMocks private JwtAuthenticateService service;
+
+  private MockedStatic<LoggerFactory> loggerFactoryMock;
+
+  @BeforeEach
+  void setUp() {
+    loggerFactoryMock = mockStatic(LoggerFactory.class);
+    loggerFactoryMock.when(LoggerFactory::service).thenReturn(mock(ServiceLogger.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    loggerFactoryMock.close();
+  }
+
+  @Test
+  @DisplayName("캐시에 검증된 인증 주체가 있으면 토큰을 다시 파싱하지 않는다")
+  void authenticateReturnsCachedPrincipal() {
+    // given
+    given(verifiedPrincipalCachePort.find(TOKEN)).willReturn(Optional.of(PRINCIPAL));
+    given(blackListTokenPort.isBlacklisted(TOKEN)).willReturn(false);
+
+    // when
+    AuthenticatedPrincipal result = service.authenticate(TOKEN);
+
+    // then
+    assertThat(result).isEqualTo(PRINCIPAL);
+    then(jwtValidatorPort).should(never()).getPrincipalFromToken(anyString());
+    then(blackListTokenPort).should().isBlacklisted(TOKEN);
+    then(verifiedPrincipalCachePort).should(never()).put(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("캐시된 토큰이 이후 블랙리스트에 등록되면 다음 인증에서 거부하고 캐시에서 제거한다")
+  void authenticateRejectsCachedTokenAfterRevocation() {
+    // given
+    given(verifiedPrincipalCachePort.find(TOKEN)).willReturn(Optional.of(PRINCIPAL));
+    given(blackListTokenPort.isBlacklisted(TOKEN)).willReturn(false, true);
+    service.authenticate(TOKEN);
+
+    // when
+    AuthException exception =
+        catchThrowableOfType(() -> service.authenticate(TOKEN), AuthException.class);
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(AuthErrorStatus.BLACKLISTED_TOKEN);
+    then(verifiedPrincipalCachePort).should().evict(TOKEN);
+    then(jwtValidatorPort).should(never()).getPrincipalFromToken(anyString());
+  }
+
+  @Test
+  @DisplayName("캐시에 없으면 한 번 파싱하고 블랙리스트를 확인한 뒤 캐시에 저장한다")
+  void authenticateParsesOnceAndCaches() {
+    // given
+    given(verifiedPrincipalCachePort.find(TOKEN)).willReturn(Optional.empty());
+    given(jwtValidatorPort.getPrincipalFromToken(TOKEN)).willReturn(PRINCIPAL);
+    given(blackListTokenPort.isBlacklisted(TOKEN)).willReturn(false);
+
+    // when
+    AuthenticatedPrincipal result = service.authenticate(TOKEN);
+
+    // then
+    assertThat(result).isEqualTo(PRINCIPAL);
+    then(jwtValidatorPort).should().getPrincipalFromToken(TOKEN);
+    then(verifiedPrincipalCachePort).should().put(TOKEN, PRINCIPAL);
+  }
+
+  @Test
+  @DisplayName("블랙리스트에 등록된 토큰이면 예외를 던지고 캐시에 저장하지 않는다")
+  void authenticateRejectsBlacklistedToken() {
+    // given
+    given(verifiedPrincipalCachePort.find(TOKEN)).willReturn(Optional.empty());
+    given(jwtValidatorPort.getPrincipalFromToken(TOKEN)).willReturn(PRINCIPAL);
+    given(blackListTokenPort.isBlacklisted(TOKEN)).willReturn(true);
+
+    // when
+    AuthException exception =
+        catchThrowableOfType(() -> service.authenticate(TOKEN), AuthException.class);
+
+    // then
+    assertThat(exception.getErrorCode()).isEqualTo(AuthErrorStatus.BLACKLISTED_TOKEN);
+    then(verifiedPrincipalCachePort).should(never()).put(anyString(), any());
+  }
+}
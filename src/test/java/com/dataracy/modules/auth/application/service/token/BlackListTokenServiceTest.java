@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import com.dataracy.modules.auth.application.port.out.jwt.VerifiedPrincipalCachePort;
 import com.dataracy.modules.auth.application.port.out.token.BlackListTokenPort;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +26,14 @@ class BlackListTokenServiceTest {
 
   @Mock private BlackListTokenPort blackListTokenPort;
 
+  @Mock private VerifiedPrincipalCachePort verifiedPrincipalCachePort;
+
   private BlackListTokenService blackListTokenService;
 
   @BeforeEach
   void setUp() {
-    blackListTokenService = new BlackListTokenService(blackListTokenPort);
+    blackListTokenService =
+        new BlackListTokenService(blackListTokenPort, verifiedPrincipalCachePort);
   }
 
   @Nested
@@ -48,6 +52,7 @@ class BlackListTokenServiceTest {
 
       // then
       then(blackListTokenPort).should().setBlackListToken(token, expirationMillis);
+      then(verifiedPrincipalCachePort).should().evict(token);
     }
 
     @Test
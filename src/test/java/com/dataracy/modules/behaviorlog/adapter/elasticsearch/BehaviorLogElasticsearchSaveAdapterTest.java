@@ -1,13 +1,21 @@
 package com.dataracy.modules.behaviorlog.adapter.elasticsearch;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,27 +23,48 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.behaviorlog.adapter.elasticsearch.BehaviorLogElasticsearchSaveAdapter.IngestContext;
+import com.dataracy.modules.behaviorlog.application.port.out.SendBehaviorLogDeadLetterPort;
 import com.dataracy.modules.behaviorlog.domain.enums.ActionType;
 import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
 import com.dataracy.modules.behaviorlog.domain.enums.LogType;
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
 import com.dataracy.modules.common.support.enums.HttpMethod;
+import com.dataracy.modules.common.support.metrics.BehaviorLogIngestMetrics;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class BehaviorLogElasticsearchSaveAdapterTest {
 
   @Mock private ElasticsearchClient elasticsearchClient;
 
+  @Mock private SendBehaviorLogDeadLetterPort sendBehaviorLogDeadLetterPort;
+
+  @Mock private ScheduledExecutorService retryScheduler;
+
+  private SimpleMeterRegistry meterRegistry;
+
   private BehaviorLogElasticsearchSaveAdapter adapter;
 
   @BeforeEach
   void setUp() {
-    adapter = new BehaviorLogElasticsearchSaveAdapter(elasticsearchClient);
+    meterRegistry = new SimpleMeterRegistry();
+    adapter =
+        new BehaviorLogElasticsearchSaveAdapter(
+            elasticsearchClient,
+            sendBehaviorLogDeadLetterPort,
+            new BehaviorLogIngestMetrics(meterRegistry));
+    ReflectionTestUtils.setField(adapter, "maxRetries", 3);
+    ReflectionTestUtils.setField(adapter, "retryBackoffMs", 500L);
   }
 
   @Test
@@ -70,7 +99,8 @@ class BehaviorLogElasticsearchSaveAdapterTest {
 
     // then
     then(elasticsearchClient).should().index(any(IndexRequest.class));
-    // 예외가 전파되지 않아야 함 (로그만 남김)
+    // 예외가 전파되지 않고 데드레터로 보내져야 함
+    then(sendBehaviorLogDeadLetterPort).should().sendToDeadLetter(eq(behaviorLog), any());
   }
 
   @Test
@@ -81,6 +111,7 @@ class BehaviorLogElasticsearchSaveAdapterTest {
     IOException timeoutException = new IOException("timeout occurred");
 
     willThrow(timeoutException).given(elasticsearchClient).index(any(IndexRequest.class));
+    ReflectionTestUtils.setField(adapter, "retryScheduler", retryScheduler);
 
     // when
     adapter.save(behaviorLog);
@@ -88,6 +119,82 @@ class BehaviorLogElasticsearchSaveAdapterTest {
     // then
     then(elasticsearchClient).should().index(any(IndexRequest.class));
     // 타임아웃 예외는 재시도 가능으로 처리되어야 함
+    then(retryScheduler)
+        .should()
+        .schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+    then(sendBehaviorLogDeadLetterPort).should(never()).sendToDeadLetter(any(), any());
+  }
+
+  @Test
+  @DisplayName("_bulk 응답에서 재시도 가능한 실패는 백오프로 재등록하고 그 외 실패는 데드레터로 보낸다")
+  void handleResponseRoutesItemFailures() {
+    // given
+    ReflectionTestUtils.setField(adapter, "retryScheduler", retryScheduler);
+    BehaviorLog ok = createTestBehaviorLog();
+    BehaviorLog throttled = createTestBehaviorLog();
+    BehaviorLog rejected = createTestBehaviorLog();
+    List<IngestContext> contexts =
+        List.of(
+            new IngestContext("behavior-logs-0-0", ok, "behavior-logs-2024.01", 0),
+            new IngestContext("behavior-logs-0-1", throttled, "behavior-logs-2024.01", 1),
+            new IngestContext("behavior-logs-0-2", rejected, "behavior-logs-2024.01", 0));
+    BulkResponse response = mock(BulkResponse.class);
+    given(response.took()).willReturn(12L);
+    given(response.items())
+        .willReturn(
+            List.of(
+                item(201, null),
+                item(429, error("es_rejected_execution_exception")),
+                item(400, error("mapper_parsing_exception"))));
+
+    // when
+    adapter.handleResponse(contexts, response);
+
+    // then
+    then(retryScheduler)
+        .should()
+        .schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+    then(sendBehaviorLogDeadLetterPort)
+        .should()
+        .sendToDeadLetter(rejected, "mapper_parsing_exception: reason");
+    then(sendBehaviorLogDeadLetterPort).should(never()).sendToDeadLetter(eq(throttled), any());
+    assertThat(count("indexed")).isEqualTo(1.0);
+    assertThat(count("retried")).isEqualTo(1.0);
+    assertThat(count("dead_letter")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 모두 소진한 문서는 데드레터로 보낸다")
+  void handleFailureDeadLettersExhaustedRetries() {
+    // given
+    ReflectionTestUtils.setField(adapter, "retryScheduler", retryScheduler);
+    BehaviorLog behaviorLog = createTestBehaviorLog();
+    List<IngestContext> contexts =
+        List.of(new IngestContext("behavior-logs-0-0", behaviorLog, "idx", 3));
+
+    // when
+    adapter.handleFailure(contexts, new ConnectException("connection refused"));
+
+    // then
+    then(retryScheduler).should(never()).schedule(any(Runnable.class), anyLong(), any());
+    then(sendBehaviorLogDeadLetterPort).should().sendToDeadLetter(eq(behaviorLog), any());
+  }
+
+  private BulkResponseItem item(int status, ErrorCause error) {
+    BulkResponseItem item = mock(BulkResponseItem.class);
+    given(item.error()).willReturn(error);
+    if (error != null) {
+      given(item.status()).willReturn(status);
+    }
+    return item;
+  }
+
+  private ErrorCause error(String type) {
+    return ErrorCause.of(e -> e.type(type).reason("reason"));
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("behaviorlog.ingest.documents", "result", result).count();
   }
 
   private BehaviorLog createTestBehaviorLog() {
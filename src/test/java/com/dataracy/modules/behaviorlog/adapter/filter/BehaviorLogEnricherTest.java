@@ -0,0 +1,129 @@
+package com.dataracy.modules.behaviorlog.adapter.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.behaviorlog.application.port.out.BehaviorLogSendProducerPort;
+import com.dataracy.modules.behaviorlog.domain.enums.ActionType;
+import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
+import com.dataracy.modules.behaviorlog.domain.enums.LogType;
+import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+import com.dataracy.modules.common.support.enums.HttpMethod;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BehaviorLogEnricherTest {
+
+  private static final String CHROME_ON_WINDOWS =
+      "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko)"
+          + " Chrome/124.0.0.0 Safari/537.36";
+
+  @Mock private BehaviorLogSendProducerPort producerPort;
+
+  private SimpleMeterRegistry meterRegistry;
+  private BehaviorLogEnricher enricher;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    enricher = new BehaviorLogEnricher(producerPort, meterRegistry);
+    ReflectionTestUtils.setField(enricher, "queueCapacity", 1);
+  }
+
+  @Test
+  @DisplayName("원본 값을 가공하여 디바이스 정보와 지표가 채워진 행동 로그를 만든다")
+  void enrichBuildsBehaviorLog() {
+    // given
+    RawBehaviorEvent event = rawEvent("user1", CHROME_ON_WINDOWS, "12", "abc");
+
+    // when
+    BehaviorLog log = enricher.enrich(event);
+
+    // then
+    assertThat(log.getUserId()).isEqualTo("user1");
+    assertThat(log.getHttpMethod()).isEqualTo(HttpMethod.GET);
+    assertThat(log.getAction()).isEqualTo(ActionType.CLICK);
+    assertThat(log.getLogType()).isEqualTo(LogType.ACTION);
+    assertThat(log.getDbLatency()).isEqualTo(12L);
+    assertThat(log.getStayTime()).isZero();
+    assertThat(log.getDeviceType()).isEqualTo(DeviceType.PC);
+    assertThat(log.getBrowser()).isEqualTo("Chrome");
+    assertThat(log.getOs()).isEqualTo("Windows NT");
+    assertThat(log.getTimestamp()).isEqualTo("1970-01-01T00:00:01Z");
+  }
+
+  @Test
+  @DisplayName("식별자가 없는 행동 로그는 전송하지 않는다")
+  void processSkipsInvalidLog() {
+    // given
+    RawBehaviorEvent event = rawEvent(null, CHROME_ON_WINDOWS, null, null);
+
+    // when
+    enricher.process(event);
+
+    // then
+    then(producerPort).should(never()).send(any());
+  }
+
+  @Test
+  @DisplayName("작업 스레드가 큐의 행동 로그를 가공하여 전송한다")
+  void workerSendsSubmittedEvent() {
+    // given
+    ArgumentCaptor<BehaviorLog> captor = ArgumentCaptor.forClass(BehaviorLog.class);
+    enricher.start();
+
+    // when
+    boolean submitted = enricher.submit(rawEvent("user1", CHROME_ON_WINDOWS, null, null));
+    enricher.stop();
+
+    // then
+    assertThat(submitted).isTrue();
+    then(producerPort).should().send(captor.capture());
+    assertThat(captor.getValue().getRequestId()).isEqualTo("req-1");
+  }
+
+  @Test
+  @DisplayName("작업 스레드가 동작하지 않으면 행동 로그를 버리고 카운터를 증가시킨다")
+  void submitDropsWhenNotRunning() {
+    // when
+    boolean submitted = enricher.submit(rawEvent("user1", CHROME_ON_WINDOWS, null, null));
+
+    // then
+    assertThat(submitted).isFalse();
+    assertThat(meterRegistry.counter("behaviorlog.tracking.dropped").count()).isEqualTo(1.0);
+    then(producerPort).should(never()).send(any());
+  }
+
+  private RawBehaviorEvent rawEvent(
+      String userId, String userAgent, String dbLatency, String stayTime) {
+    String anonymousId = userId != null ? "anon1" : null;
+    return new RawBehaviorEvent(
+        userId,
+        anonymousId,
+        "req-1",
+        anonymousId,
+        "/api/v1/projects",
+        "GET",
+        "127.0.0.1",
+        userAgent,
+        "/home",
+        "CLICK",
+        dbLatency,
+        stayTime,
+        null,
+        35L,
+        1_000L);
+  }
+}
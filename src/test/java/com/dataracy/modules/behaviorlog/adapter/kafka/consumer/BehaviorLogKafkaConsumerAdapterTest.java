@@ -1,16 +1,30 @@
 package com.dataracy.modules.behaviorlog.adapter.kafka.consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 
 import com.dataracy.modules.behaviorlog.application.port.out.SaveBehaviorLogPort;
 import com.dataracy.modules.behaviorlog.domain.enums.ActionType;
@@ -18,64 +32,112 @@ import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
 import com.dataracy.modules.behaviorlog.domain.enums.LogType;
 import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
 import com.dataracy.modules.common.support.enums.HttpMethod;
+import com.dataracy.modules.common.support.metrics.BehaviorLogIngestMetrics;
 
 @ExtendWith(MockitoExtension.class)
 class BehaviorLogKafkaConsumerAdapterTest {
 
+  private static final String TOPIC = "behavior-logs";
+
   @Mock private SaveBehaviorLogPort saveBehaviorLogPort;
 
+  @Mock private BehaviorLogIngestMetrics behaviorLogIngestMetrics;
+
   @InjectMocks private BehaviorLogKafkaConsumerAdapter adapter;
 
   @Test
-  @DisplayName("행동 로그 수신 및 저장 성공")
-  void consumeBehaviorLogSuccess() {
+  @DisplayName("배치 수신 시 값이 있는 로그만 오프셋 기반 문서 ID로 등록하고 가장 오래된 레코드 기준으로 지연을 기록")
+  void consumeBehaviorLogBatchSuccess() {
     // given
-    BehaviorLog behaviorLog = createTestBehaviorLog();
+    BehaviorLog first = createTestBehaviorLog();
+    BehaviorLog second = createTestBehaviorLog();
+    List<ConsumerRecord<String, BehaviorLog>> records =
+        List.of(record(0, 2_000L, first), record(1, 1_000L, null), record(2, 3_000L, second));
 
     // when
-    adapter.consume(behaviorLog);
+    adapter.consume(records);
 
     // then
-    then(saveBehaviorLogPort).should().save(behaviorLog);
+    Map<String, BehaviorLog> expected = new LinkedHashMap<>();
+    expected.put("behavior-logs-0-0", first);
+    expected.put("behavior-logs-0-2", second);
+    then(saveBehaviorLogPort).should().saveAll(expected);
+    then(behaviorLogIngestMetrics).should().recordConsumeLag(1_000L);
   }
 
   @Test
-  @DisplayName("저장 실패 시 예외를 재발생하여 Kafka 재시도 유발")
-  void consumeBehaviorLogFailure() {
+  @DisplayName("값이 있는 로그가 없으면 적재를 호출하지 않음")
+  void consumeBatchWithoutValues() {
+    // when
+    adapter.consume(List.of(record(0, 1_000L, null)));
+
+    // then
+    then(saveBehaviorLogPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("역직렬화에 실패한 레코드가 있으면 배치 내 위치와 함께 예외를 던지고 적재하지 않음")
+  void consumeBatchWithDeserializationFailure() {
     // given
-    BehaviorLog behaviorLog = createTestBehaviorLog();
-    RuntimeException dbError = new RuntimeException("Database connection failed");
-    willThrow(dbError).given(saveBehaviorLogPort).save(behaviorLog);
+    ConsumerRecord<String, BehaviorLog> poison = record(1, 1_000L, null);
+    poison
+        .headers()
+        .add(new RecordHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]));
+    List<ConsumerRecord<String, BehaviorLog>> records =
+        List.of(record(0, 1_000L, createTestBehaviorLog()), poison);
 
-    // when & then
-    RuntimeException exception =
-        catchThrowableOfType(() -> adapter.consume(behaviorLog), RuntimeException.class);
-    assertAll(
-        () ->
-            org.assertj.core.api.Assertions.assertThat(exception)
-                .isInstanceOf(RuntimeException.class),
-        () ->
-            org.assertj.core.api.Assertions.assertThat(exception)
-                .hasMessage("Database connection failed"));
-
-    then(saveBehaviorLogPort).should().save(behaviorLog);
+    // when
+    BatchListenerFailedException exception =
+        catchThrowableOfType(() -> adapter.consume(records), BatchListenerFailedException.class);
+
+    // then
+    assertThat(exception.getIndex()).isEqualTo(1);
+    then(saveBehaviorLogPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("빈 배치는 지연도 기록하지 않음")
+  void consumeEmptyBatch() {
+    // when
+    adapter.consume(List.of());
+
+    // then
+    then(behaviorLogIngestMetrics).should(never()).recordConsumeLag(anyLong());
+    then(saveBehaviorLogPort).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("저장 실패 시 로깅 후 예외 재발생")
-  void consumeBehaviorLogFailureWithLogging() {
+  @DisplayName("적재 등록 실패 시 예외를 재발생하여 Kafka 재시도 유발")
+  void consumeBehaviorLogFailure() {
     // given
     BehaviorLog behaviorLog = createTestBehaviorLog();
-    RuntimeException dbError = new RuntimeException("Storage error");
-    willThrow(dbError).given(saveBehaviorLogPort).save(behaviorLog);
+    RuntimeException storageError = new RuntimeException("Storage error");
+    willThrow(storageError)
+        .given(saveBehaviorLogPort)
+        .saveAll(Map.of("behavior-logs-0-0", behaviorLog));
 
     // when & then
     RuntimeException exception =
-        catchThrowableOfType(() -> adapter.consume(behaviorLog), RuntimeException.class);
-    assertAll(() -> org.assertj.core.api.Assertions.assertThat(exception).isSameAs(dbError));
+        catchThrowableOfType(
+            () -> adapter.consume(List.of(record(0, 1_000L, behaviorLog))),
+            RuntimeException.class);
+    assertAll(() -> assertThat(exception).isSameAs(storageError));
+  }
 
-    // 저장이 호출되었는지 확인
-    then(saveBehaviorLogPort).should().save(behaviorLog);
+  private ConsumerRecord<String, BehaviorLog> record(
+      long offset, long timestamp, BehaviorLog behaviorLog) {
+    return new ConsumerRecord<>(
+        TOPIC,
+        0,
+        offset,
+        timestamp,
+        TimestampType.CREATE_TIME,
+        0,
+        0,
+        "1",
+        behaviorLog,
+        new RecordHeaders(),
+        Optional.empty());
   }
 
   private BehaviorLog createTestBehaviorLog() {
@@ -0,0 +1,67 @@
+package com.dataracy.modules.behaviorlog.adapter.kafka.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.behaviorlog.domain.model.BehaviorLog;
+
+@ExtendWith(MockitoExtension.class)
+class BehaviorLogDeadLetterKafkaAdapterTest {
+
+  @Mock private KafkaTemplate<String, BehaviorLog> kafkaTemplate;
+
+  private BehaviorLogDeadLetterKafkaAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new BehaviorLogDeadLetterKafkaAdapter(kafkaTemplate);
+    ReflectionTestUtils.setField(adapter, "topic", "behavior-logs-dlt");
+  }
+
+  @Test
+  @DisplayName("실패한 행동 로그를 실패 사유 헤더와 함께 데드레터 토픽으로 발행")
+  void sendToDeadLetterSuccess() {
+    // given
+    BehaviorLog behaviorLog = BehaviorLog.builder().userId(null).anonymousId("anon1").build();
+    CompletableFuture<SendResult<String, BehaviorLog>> future = new CompletableFuture<>();
+    future.complete(null);
+    given(kafkaTemplate.send(any(ProducerRecord.class))).willReturn(future);
+
+    // when
+    adapter.sendToDeadLetter(behaviorLog, "mapper_parsing_exception: reason");
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<ProducerRecord<String, BehaviorLog>> captor =
+        ArgumentCaptor.forClass(ProducerRecord.class);
+    then(kafkaTemplate).should().send(captor.capture());
+    ProducerRecord<String, BehaviorLog> sent = captor.getValue();
+    assertThat(sent.topic()).isEqualTo("behavior-logs-dlt");
+    assertThat(sent.key()).isEqualTo("anon1");
+    assertThat(sent.value()).isSameAs(behaviorLog);
+    assertThat(
+            new String(
+                sent.headers()
+                    .lastHeader(BehaviorLogDeadLetterKafkaAdapter.FAILURE_REASON_HEADER)
+                    .value(),
+                StandardCharsets.UTF_8))
+        .isEqualTo("mapper_parsing_exception: reason");
+  }
+}
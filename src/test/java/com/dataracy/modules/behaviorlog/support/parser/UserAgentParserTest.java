@@ -0,0 +1,50 @@
+package com.dataracy.modules.behaviorlog.support.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dataracy.modules.behaviorlog.domain.enums.DeviceType;
+
+class UserAgentParserTest {
+
+  private static final String SAFARI_ON_IPHONE =
+      "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) AppleWebKit/605.1.15"
+          + " (KHTML, like Gecko) Version/17.4 Mobile/15E148 Safari/604.1";
+
+  @Test
+  @DisplayName("한 번의 분석으로 브라우저, 운영체제, 디바이스 유형을 함께 반환한다")
+  void parseReturnsAllFields() {
+    // when
+    ParsedUserAgent parsed = UserAgentParser.parse(SAFARI_ON_IPHONE);
+
+    // then
+    assertThat(parsed.browser()).isEqualTo("Safari");
+    assertThat(parsed.os()).isEqualTo("iOS");
+    assertThat(parsed.deviceType()).isEqualTo(DeviceType.MOBILE);
+    assertThat(UserAgentParser.extractBrowser(SAFARI_ON_IPHONE)).isEqualTo(parsed.browser());
+    assertThat(UserAgentParser.extractOS(SAFARI_ON_IPHONE)).isEqualTo(parsed.os());
+  }
+
+  @Test
+  @DisplayName("같은 User-Agent는 캐시된 분석 결과를 재사용한다")
+  void parseReusesCachedResult() {
+    // when
+    ParsedUserAgent first = UserAgentParser.parse(SAFARI_ON_IPHONE);
+    ParsedUserAgent second = UserAgentParser.parse(new String(SAFARI_ON_IPHONE));
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("User-Agent가 없으면 디바이스 유형은 UNKNOWN이다")
+  void parseNullUserAgent() {
+    // when
+    ParsedUserAgent parsed = UserAgentParser.parse(null);
+
+    // then
+    assertThat(parsed.deviceType()).isEqualTo(DeviceType.UNKNOWN);
+  }
+}
@@ -1,16 +1,28 @@
 package com.dataracy.modules.comment.adapter.jpa.impl.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dataracy.modules.comment.adapter.jpa.repository.CommentJpaRepository;
 
@@ -20,6 +32,10 @@ class UpdateCommentLikeDbAdapterTest {
 
   @Mock private CommentJpaRepository repo;
 
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<List<Object[]>> argsCaptor;
+
   @InjectMocks private UpdateCommentLikeDbAdapter adapter;
 
   @Nested
@@ -52,4 +68,46 @@ class UpdateCommentLikeDbAdapterTest {
       then(repo).should().decreaseLikeCount(1L);
     }
   }
+
+  @Nested
+  @DisplayName("좋아요 배치 업데이트")
+  class ApplyLikeCountDeltas {
+
+    @Test
+    @DisplayName("변경분을 댓글 ID 순으로 정렬해 청크 단위 JDBC 배치로 반영")
+    void applyLikeCountDeltasRunsSortedChunkedBatches() {
+      // given
+      ReflectionTestUtils.setField(adapter, "chunkSize", 2);
+      given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 1});
+      Map<Long, Long> likeDeltas = new LinkedHashMap<>();
+      likeDeltas.put(3L, 1L);
+      likeDeltas.put(1L, 2L);
+      likeDeltas.put(2L, -1L);
+
+      // when
+      adapter.applyLikeCountDeltas(likeDeltas);
+
+      // then
+      then(jdbcTemplate)
+          .should(times(2))
+          .batchUpdate(
+              eq(
+                  "update comment set like_count = GREATEST(like_count + ?, 0) "
+                      + "where comment_id = ?"),
+              argsCaptor.capture());
+      List<List<Object[]>> chunks = argsCaptor.getAllValues();
+      assertThat(chunks.get(0)).containsExactly(new Object[] {2L, 1L}, new Object[] {-1L, 2L});
+      assertThat(chunks.get(1)).containsExactly(new Object[] {1L, 3L});
+    }
+
+    @Test
+    @DisplayName("변경분이 없으면 쿼리를 실행하지 않음")
+    void applyLikeCountDeltasWhenEmpty() {
+      // when
+      adapter.applyLikeCountDeltas(Map.of());
+
+      // then
+      then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+  }
 }
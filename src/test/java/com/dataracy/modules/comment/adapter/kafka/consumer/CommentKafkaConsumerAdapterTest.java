@@ -9,6 +9,11 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
 
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,27 +21,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import com.dataracy.modules.comment.application.port.in.command.count.DecreaseLikeCountUseCase;
-import com.dataracy.modules.comment.application.port.in.command.count.IncreaseLikeCountUseCase;
+import com.dataracy.modules.comment.application.port.in.command.count.ApplyLikeCountDeltaUseCase;
 import com.dataracy.modules.common.logging.KafkaLogger;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
 
 @ExtendWith(MockitoExtension.class)
 class CommentKafkaConsumerAdapterTest {
 
-  // Test constants
-  private static final Long PROJECT_ID = 1L;
-  private static final Long COMMENT_ID = 2L;
-  private static final Long TARGET_ID = 3L;
-  private static final Long USER_ID = 4L;
-  private static final Long LIKE_ID = 35L;
-  private static final Long SAMPLE_ID = 42L;
-  private static final Long ANOTHER_LIKE_ID = 45L;
-  @Mock private IncreaseLikeCountUseCase increaseLikeCountUseCase;
+  private static final String TOPIC = "like-events";
 
-  @Mock private DecreaseLikeCountUseCase decreaseLikeCountUseCase;
+  @Mock private ApplyLikeCountDeltaUseCase applyLikeCountDeltaUseCase;
 
   @Mock private KafkaLogger kafkaLogger;
 
@@ -44,114 +44,94 @@ class CommentKafkaConsumerAdapterTest {
 
   @BeforeEach
   void setUp() {
-    adapter = new CommentKafkaConsumerAdapter(increaseLikeCountUseCase, decreaseLikeCountUseCase);
-    ReflectionTestUtils.setField(
-        adapter, "commentLikeIncreaseTopic", "comment-like-increase-topic");
-    ReflectionTestUtils.setField(
-        adapter, "commentLikeDecreaseTopic", "comment-like-decrease-topic");
+    adapter = new CommentKafkaConsumerAdapter(applyLikeCountDeltaUseCase);
+    ReflectionTestUtils.setField(adapter, "likeEventTopic", TOPIC);
   }
 
   @Test
-  @DisplayName("댓글 좋아요 증가 이벤트 수신 시 좋아요 수 증가 성공")
-  void consumeLikeIncreaseSuccess() {
+  @DisplayName("좋아요 이벤트 배치 수신 시 댓글 대상만 댓글별 순변경분으로 합산해 반영한다")
+  void consumeLikeEventsSuccess() {
     // given
-    Long commentId = 1L;
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(
+            record(0, new LikeEvent(TargetType.COMMENT, 1L, 1, 10L, 0L)),
+            record(1, new LikeEvent(TargetType.PROJECT, 1L, 1, 10L, 0L)),
+            record(2, new LikeEvent(TargetType.COMMENT, 1L, 1, 11L, 0L)),
+            record(3, new LikeEvent(TargetType.COMMENT, 2L, -1, 12L, 0L)),
+            record(4, null));
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.consumeLikeIncrease(commentId);
+      adapter.consumeLikeEvents(records);
 
       // then
-      then(increaseLikeCountUseCase).should().increaseLikeCount(commentId);
-      then(kafkaLogger)
-          .should()
-          .logConsume("comment-like-increase-topic", "댓글 좋아요 이벤트 수신됨: commentId=1");
-      then(kafkaLogger)
-          .should()
-          .logConsume("comment-like-increase-topic", "댓글 좋아요 이벤트 처리 완료: commentId=1");
+      then(applyLikeCountDeltaUseCase).should().applyLikeCountDeltas(Map.of(1L, 2L, 2L, -1L));
+      then(kafkaLogger).should().logConsume(TOPIC, "댓글 좋아요 이벤트 배치 수신됨: 레코드 수=5, 댓글 수=2");
+      then(kafkaLogger).should().logConsume(TOPIC, "댓글 좋아요 이벤트 배치 처리 완료: commentIds=[1, 2]");
     }
   }
 
   @Test
-  @DisplayName("댓글 좋아요 증가 이벤트 처리 실패 시 예외 재발생")
-  void consumeLikeIncreaseFailure() {
+  @DisplayName("댓글 대상 이벤트가 없으면 반영하지 않는다")
+  void consumeLikeEventsWithoutCommentTargets() {
     // given
-    Long commentId = PROJECT_ID;
-    RuntimeException exception = new RuntimeException("Database error");
-    willThrow(exception).given(increaseLikeCountUseCase).increaseLikeCount(commentId);
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(record(0, new LikeEvent(TargetType.PROJECT, 3L, 1, 10L, 0L)));
 
-    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
-      loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
+    // when
+    adapter.consumeLikeEvents(records);
 
-      // when & then
-      RuntimeException caughtException =
-          catchThrowableOfType(
-              () -> adapter.consumeLikeIncrease(commentId), RuntimeException.class);
-      assertAll(() -> assertThat(caughtException).isSameAs(exception));
-
-      then(kafkaLogger)
-          .should()
-          .logConsume("comment-like-increase-topic", "댓글 좋아요 이벤트 수신됨: commentId=1");
-      then(kafkaLogger)
-          .should()
-          .logError(
-              eq("comment-like-increase-topic"),
-              eq("댓글 좋아요 이벤트 처리 실패: commentId=1"),
-              any(RuntimeException.class));
-    }
+    // then
+    then(applyLikeCountDeltaUseCase).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("댓글 좋아요 감소 이벤트 수신 시 좋아요 수 감소 성공")
-  void consumeLikeDecreaseSuccess() {
+  @DisplayName("배치 반영 실패 시 에러 로그를 남기고 예외를 다시 던진다")
+  void consumeLikeEventsFailure() {
     // given
-    Long commentId = COMMENT_ID;
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(record(0, new LikeEvent(TargetType.COMMENT, 1L, 1, 10L, 0L)));
+    RuntimeException exception = new RuntimeException("Database error");
+    willThrow(exception).given(applyLikeCountDeltaUseCase).applyLikeCountDeltas(Map.of(1L, 1L));
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
-      // when
-      adapter.consumeLikeDecrease(commentId);
+      // when & then
+      RuntimeException caughtException =
+          catchThrowableOfType(() -> adapter.consumeLikeEvents(records), RuntimeException.class);
+      assertAll(() -> assertThat(caughtException).isSameAs(exception));
 
-      // then
-      then(decreaseLikeCountUseCase).should().decreaseLikeCount(commentId);
-      then(kafkaLogger)
-          .should()
-          .logConsume("comment-like-decrease-topic", "댓글 좋아요 취소 이벤트 수신됨: commentId=2");
       then(kafkaLogger)
           .should()
-          .logConsume("comment-like-decrease-topic", "댓글 좋아요 취소 이벤트 처리 완료: commentId=2");
+          .logError(
+              eq(TOPIC), eq("댓글 좋아요 이벤트 배치 처리 실패: commentIds=[1]"), any(RuntimeException.class));
     }
   }
 
   @Test
-  @DisplayName("댓글 좋아요 감소 이벤트 처리 실패 시 예외 재발생")
-  void consumeLikeDecreaseFailure() {
+  @DisplayName("역직렬화에 실패한 레코드가 있으면 해당 위치로 배치 실패를 알려 DLT로 보낸다")
+  void consumeLikeEventsRejectsPoisonRecord() {
     // given
-    Long commentId = 999L;
-    RuntimeException exception = new RuntimeException("Elasticsearch error");
-    willThrow(exception).given(decreaseLikeCountUseCase).decreaseLikeCount(commentId);
-
-    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
-      loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
-
-      // when & then
-      RuntimeException caughtException =
-          catchThrowableOfType(
-              () -> adapter.consumeLikeDecrease(commentId), RuntimeException.class);
-      assertAll(() -> assertThat(caughtException).isSameAs(exception));
+    ConsumerRecord<String, LikeEvent> poison = record(0, null);
+    poison
+        .headers()
+        .add(new RecordHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]));
+
+    // when
+    BatchListenerFailedException exception =
+        catchThrowableOfType(
+            () -> adapter.consumeLikeEvents(List.of(poison)), BatchListenerFailedException.class);
+
+    // then
+    assertThat(exception.getIndex()).isZero();
+    then(applyLikeCountDeltaUseCase).shouldHaveNoInteractions();
+  }
 
-      then(kafkaLogger)
-          .should()
-          .logConsume("comment-like-decrease-topic", "댓글 좋아요 취소 이벤트 수신됨: commentId=999");
-      then(kafkaLogger)
-          .should()
-          .logError(
-              eq("comment-like-decrease-topic"),
-              eq("댓글 좋아요 취소 이벤트 처리 실패: commentId=999"),
-              any(RuntimeException.class));
-    }
+  private ConsumerRecord<String, LikeEvent> record(long offset, LikeEvent event) {
+    String key = event == null ? null : event.key();
+    return new ConsumerRecord<>(TOPIC, 0, offset, key, event);
   }
 }
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -117,4 +119,29 @@ class UpdateCommentLikeCountServiceTest {
       assertThat(ex.getErrorCode()).isEqualTo(CommentErrorStatus.MISMATCH_PROJECT_COMMENT);
     }
   }
+
+  @Nested
+  @DisplayName("좋아요 배치 반영")
+  class ApplyLikeCountDeltas {
+
+    @Test
+    @DisplayName("순변경분이 0인 댓글을 제외하고 한 번에 반영")
+    void applyLikeCountDeltasSkipsZero() {
+      // when
+      service.applyLikeCountDeltas(Map.of(1L, 3L, 2L, 0L));
+
+      // then
+      then(updateCommentLikePort).should().applyLikeCountDeltas(Map.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("반영할 변경분이 없으면 포트를 호출하지 않음")
+    void applyLikeCountDeltasWhenAllZero() {
+      // when
+      service.applyLikeCountDeltas(Map.of(1L, 0L));
+
+      // then
+      then(updateCommentLikePort).shouldHaveNoInteractions();
+    }
+  }
 }
@@ -32,6 +32,8 @@ import com.dataracy.modules.comment.application.port.out.query.read.ReadCommentP
 import com.dataracy.modules.comment.domain.exception.CommentException;
 import com.dataracy.modules.comment.domain.model.Comment;
 import com.dataracy.modules.comment.domain.status.CommentErrorStatus;
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.like.application.port.in.query.FindTargetIdsUseCase;
 import com.dataracy.modules.like.domain.enums.TargetType;
 import com.dataracy.modules.user.domain.exception.UserException;
@@ -178,4 +180,69 @@ class ReadCommentServiceTest {
       assertThat(ex).hasMessage("Like Service Down");
     }
   }
+
+  @Nested
+  @DisplayName("커서 기반 댓글·답글 조회")
+  class FindByCursor {
+
+    @Test
+    @DisplayName("댓글 커서 조회 성공 → 답글 수와 작성자 정보가 채워지고 커서 정보가 유지된다")
+    void findCommentsByCursorShouldMapContentAndKeepCursor() {
+      // given
+      Comment comment = dummyComment(1L, 1L);
+      CursorPage<FindCommentWithReplyCountResponse> page =
+          new CursorPage<>(
+              List.of(new FindCommentWithReplyCountResponse(comment, 3L)), "next", true, 7L);
+
+      given(readCommentPort.findCommentsByCursor(1L, null, 5)).willReturn(page);
+      given(findCommentUserInfoUseCase.findCommentUserInfoBatch(any()))
+          .willReturn(
+              new com.dataracy.modules.comment.application.dto.response.support
+                  .CommentLabelResponse(
+                  Map.of(1L, "유저1"), Map.of(1L, "thumb.png"), Map.of(1L, "10"), Map.of(10L, "등급")));
+      given(findTargetIdsUseCase.findLikedTargetIds(any(), any(), eq(TargetType.COMMENT)))
+          .willReturn(List.of(1L));
+
+      // when
+      CursorPage<FindCommentResponse> result = service.findCommentsByCursor(1L, 1L, null, 5);
+
+      // then
+      assertAll(
+          () -> assertThat(result.content()).hasSize(1),
+          () -> assertThat(result.content().get(0).creatorName()).isEqualTo("유저1"),
+          () -> assertThat(result.content().get(0).childCommentCount()).isEqualTo(3L),
+          () -> assertThat(result.content().get(0).isLiked()).isTrue(),
+          () -> assertThat(result.nextCursor()).isEqualTo("next"),
+          () -> assertThat(result.totalElements()).isEqualTo(7L));
+    }
+
+    @Test
+    @DisplayName("답글 커서 조회 성공 → 전달된 커서를 해석해 포트에 넘긴다")
+    void findReplyCommentsByCursorShouldDecodeCursor() {
+      // given
+      CreatedAtCursor cursor = new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 9L);
+      Comment reply = Comment.of(2L, 1L, 1L, "답글", 1L, 0L, LocalDateTime.now());
+      CursorPage<Comment> page = new CursorPage<>(List.of(reply), null, false, null);
+
+      given(readCommentPort.findReplyCommentsByCursor(1L, 1L, cursor, 5)).willReturn(page);
+      given(findCommentUserInfoUseCase.findCommentUserInfoBatch(any()))
+          .willReturn(
+              new com.dataracy.modules.comment.application.dto.response.support
+                  .CommentLabelResponse(
+                  Map.of(1L, "유저1"), Map.of(1L, "thumb.png"), Map.of(1L, "10"), Map.of(10L, "등급")));
+      given(findTargetIdsUseCase.findLikedTargetIds(any(), any(), eq(TargetType.COMMENT)))
+          .willReturn(List.of());
+
+      // when
+      CursorPage<FindReplyCommentResponse> result =
+          service.findReplyCommentsByCursor(1L, 1L, 1L, cursor.encode(), 5);
+
+      // then
+      assertAll(
+          () -> assertThat(result.content()).hasSize(1),
+          () -> assertThat(result.content().get(0).content()).isEqualTo("답글"),
+          () -> assertThat(result.hasNext()).isFalse());
+      then(readCommentPort).should().findReplyCommentsByCursor(1L, 1L, cursor, 5);
+    }
+  }
 }
@@ -20,19 +20,14 @@ import org.mockito.quality.Strictness;
 
 import com.dataracy.modules.comment.application.dto.response.support.CommentLabelResponse;
 import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorLevelLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserAuthorLevelIdsUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
 class CommentUserInfoServiceTest {
 
-  @Mock private FindUsernameUseCase findUsernameUseCase;
-
-  @Mock private FindUserThumbnailUseCase findUserThumbnailUseCase;
-
-  @Mock private FindUserAuthorLevelIdsUseCase findUserAuthorLevelIdsUseCase;
+  @Mock private FindUserCardsUseCase findUserCardsUseCase;
 
   @Mock private GetAuthorLevelLabelFromIdUseCase getAuthorLevelLabelFromIdUseCase;
 
@@ -67,10 +62,12 @@ class CommentUserInfoServiceTest {
               10L, "Beginner",
               20L, "Intermediate");
 
-      given(findUsernameUseCase.findUsernamesByIds(userIds)).willReturn(usernameMap);
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(userIds)).willReturn(thumbnailMap);
-      given(findUserAuthorLevelIdsUseCase.findUserAuthorLevelIds(userIds))
-          .willReturn(authorLevelIdsMap);
+      given(findUserCardsUseCase.findUserCardsByIds(userIds))
+          .willReturn(
+              Map.of(
+                  1L, new UserCard(1L, "user1", "thumb1.png", 10L, null),
+                  2L, new UserCard(2L, "user2", "thumb2.png", 20L, null),
+                  3L, new UserCard(3L, "user3", "thumb3.png", 10L, null)));
       given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(any())).willReturn(authorLevelLabelMap);
 
       // when
@@ -83,9 +80,7 @@ class CommentUserInfoServiceTest {
           () -> assertThat(result.userAuthorLevelIds()).isEqualTo(authorLevelIdsMap),
           () -> assertThat(result.userAuthorLevelLabelMap()).isEqualTo(authorLevelLabelMap));
 
-      then(findUsernameUseCase).should().findUsernamesByIds(userIds);
-      then(findUserThumbnailUseCase).should().findUserThumbnailsByIds(userIds);
-      then(findUserAuthorLevelIdsUseCase).should().findUserAuthorLevelIds(userIds);
+      then(findUserCardsUseCase).should().findUserCardsByIds(userIds);
       then(getAuthorLevelLabelFromIdUseCase).should().getLabelsByIds(any());
     }
 
@@ -106,9 +101,7 @@ class CommentUserInfoServiceTest {
           () -> assertThat(result.userAuthorLevelLabelMap()).isEmpty());
 
       // 빈 목록일 때는 다른 서비스들을 호출하지 않음
-      then(findUsernameUseCase).shouldHaveNoInteractions();
-      then(findUserThumbnailUseCase).shouldHaveNoInteractions();
-      then(findUserAuthorLevelIdsUseCase).shouldHaveNoInteractions();
+      then(findUserCardsUseCase).shouldHaveNoInteractions();
       then(getAuthorLevelLabelFromIdUseCase).shouldHaveNoInteractions();
     }
 
@@ -139,10 +132,12 @@ class CommentUserInfoServiceTest {
               20L, "Intermediate",
               30L, "Advanced");
 
-      given(findUsernameUseCase.findUsernamesByIds(any())).willReturn(usernameMap);
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(any())).willReturn(thumbnailMap);
-      given(findUserAuthorLevelIdsUseCase.findUserAuthorLevelIds(any()))
-          .willReturn(authorLevelIdsMap);
+      given(findUserCardsUseCase.findUserCardsByIds(any()))
+          .willReturn(
+              Map.of(
+                  1L, new UserCard(1L, "user1", "thumb1.png", 10L, null),
+                  2L, new UserCard(2L, "user2", "thumb2.png", 20L, null),
+                  3L, new UserCard(3L, "user3", "thumb3.png", 30L, null)));
       given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(any())).willReturn(authorLevelLabelMap);
 
       // when
@@ -156,9 +151,7 @@ class CommentUserInfoServiceTest {
           () -> assertThat(result.userAuthorLevelLabelMap()).isEqualTo(authorLevelLabelMap));
 
       // 중복 제거된 목록으로 호출됨
-      then(findUsernameUseCase).should().findUsernamesByIds(distinctUserIds);
-      then(findUserThumbnailUseCase).should().findUserThumbnailsByIds(distinctUserIds);
-      then(findUserAuthorLevelIdsUseCase).should().findUserAuthorLevelIds(distinctUserIds);
+      then(findUserCardsUseCase).should().findUserCardsByIds(distinctUserIds);
       then(getAuthorLevelLabelFromIdUseCase).should().getLabelsByIds(any());
     }
 
@@ -175,8 +168,9 @@ class CommentUserInfoServiceTest {
               );
       Map<Long, String> thumbnailMap =
           Map.of(
-              1L, "thumb1.png"
-              // 2L, 3L 썸네일 정보 없음
+              1L, "thumb1.png",
+              2L, ""
+              // 2L 썸네일 없음, 3L 사용자 정보 없음
               );
       Map<Long, String> authorLevelIdsMap =
           Map.of(
@@ -189,10 +183,11 @@ class CommentUserInfoServiceTest {
               10L, "Beginner",
               20L, "Intermediate");
 
-      given(findUsernameUseCase.findUsernamesByIds(any())).willReturn(usernameMap);
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(any())).willReturn(thumbnailMap);
-      given(findUserAuthorLevelIdsUseCase.findUserAuthorLevelIds(any()))
-          .willReturn(authorLevelIdsMap);
+      given(findUserCardsUseCase.findUserCardsByIds(any()))
+          .willReturn(
+              Map.of(
+                  1L, new UserCard(1L, "user1", "thumb1.png", 10L, null),
+                  2L, new UserCard(2L, "user2", null, 20L, null)));
       given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(any())).willReturn(authorLevelLabelMap);
 
       // when
@@ -0,0 +1,151 @@
+package com.dataracy.modules.common.support.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.project.domain.exception.ProjectException;
+import com.dataracy.modules.project.domain.status.ProjectErrorStatus;
+
+class ParallelQueryExecutorTest {
+
+  private ExecutorService executorService;
+  private ParallelQueryExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(2);
+    executor = new ParallelQueryExecutor(executorService, 200L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("조회 결과를 반환한다")
+  void joinReturnsResult() {
+    // given
+    CompletableFuture<String> future = executor.submit(() -> "result");
+
+    // when & then
+    assertThat(executor.join(future, "query")).isEqualTo("result");
+  }
+
+  @Test
+  @DisplayName("조회 중 발생한 비즈니스 예외는 그대로 전달한다")
+  void joinRethrowsBusinessException() {
+    // given
+    CompletableFuture<String> future =
+        executor.submit(
+            () -> {
+              throw new ProjectException(ProjectErrorStatus.NOT_FOUND_PROJECT);
+            });
+
+    // when
+    ProjectException ex =
+        catchThrowableOfType(() -> executor.join(future, "query"), ProjectException.class);
+
+    // then
+    assertThat(ex.getErrorCode()).isEqualTo(ProjectErrorStatus.NOT_FOUND_PROJECT);
+  }
+
+  @Test
+  @DisplayName("제한 시간을 넘긴 조회는 INTERNAL_SERVER_ERROR로 실패한다")
+  void joinFailsOnTimeout() {
+    // given
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> future =
+        executor.submit(
+            () -> {
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              return "late";
+            });
+
+    // when
+    CommonException ex =
+        catchThrowableOfType(() -> executor.join(future, "slowQuery"), CommonException.class);
+    release.countDown();
+
+    // then
+    assertThat(ex.getErrorCode()).isEqualTo(CommonErrorStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  @DisplayName("제한 시간을 넘긴 조회는 실행 중인 작업을 인터럽트한다")
+  void timeoutInterruptsRunningQuery() throws InterruptedException {
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<String> future = executor.submit(() -> sleepUntilInterrupted(interrupted));
+
+    // when
+    catchThrowableOfType(() -> executor.join(future, "slowQuery"), CommonException.class);
+
+    // then
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  @DisplayName("묶음 안의 조회가 실패하면 끝나지 않은 나머지 조회를 취소한다")
+  void scopeCancelsSiblingsOnFailure() throws InterruptedException {
+    // given
+    ParallelQueryExecutor longTimeoutExecutor = new ParallelQueryExecutor(executorService, 10_000L);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    CompletableFuture<?>[] slowFuture = new CompletableFuture<?>[1];
+
+    // when
+    ProjectException ex =
+        catchThrowableOfType(
+            () -> {
+              try (ParallelQueryExecutor.QueryScope queries = longTimeoutExecutor.openScope()) {
+                slowFuture[0] =
+                    queries.submit(
+                        () -> {
+                          started.countDown();
+                          return sleepUntilInterrupted(interrupted);
+                        });
+                started.await(1, TimeUnit.SECONDS);
+                CompletableFuture<String> failing =
+                    queries.submit(
+                        () -> {
+                          throw new ProjectException(ProjectErrorStatus.NOT_FOUND_PROJECT);
+                        });
+                longTimeoutExecutor.join(failing, "failingQuery");
+              }
+            },
+            ProjectException.class);
+
+    // then
+    assertThat(ex.getErrorCode()).isEqualTo(ProjectErrorStatus.NOT_FOUND_PROJECT);
+    assertThat(slowFuture[0].isCancelled()).isTrue();
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private static String sleepUntilInterrupted(CountDownLatch interrupted) {
+    try {
+      Thread.sleep(10_000L);
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+      Thread.currentThread().interrupt();
+    }
+    return "late";
+  }
+}
@@ -0,0 +1,82 @@
+package com.dataracy.modules.common.support.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReadWriteRoutingDataSourceTest {
+
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replica = mock(DataSource.class);
+  private final ReplicaSelector replicaSelector = new ReplicaSelector(List.of("replica-1"));
+
+  private ReadWriteRoutingDataSource routingDataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    given(primary.getConnection()).willReturn(mock(Connection.class));
+    given(replica.getConnection()).willReturn(mock(Connection.class));
+
+    routingDataSource = new ReadWriteRoutingDataSource(replicaSelector);
+    routingDataSource.setTargetDataSources(
+        Map.of(ReadWriteRoutingDataSource.PRIMARY_KEY, primary, "replica-1", replica));
+    routingDataSource.setDefaultTargetDataSource(primary);
+    routingDataSource.afterPropertiesSet();
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션은 리플리카로 라우팅한다")
+  void routesReadOnlyTransactionToReplica() throws Exception {
+    // given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+    // when
+    routingDataSource.getConnection();
+
+    // then
+    then(replica).should().getConnection();
+    then(primary).should(never()).getConnection();
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅한다")
+  void routesWriteTransactionToPrimary() throws Exception {
+    // when
+    routingDataSource.getConnection();
+
+    // then
+    then(primary).should().getConnection();
+    then(replica).should(never()).getConnection();
+  }
+
+  @Test
+  @DisplayName("정상 리플리카가 없으면 읽기 전용 트랜잭션도 프라이머리를 사용한다")
+  void fallsBackToPrimaryWhenNoHealthyReplica() throws Exception {
+    // given
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    replicaSelector.markHealthy("replica-1", false);
+
+    // when
+    routingDataSource.getConnection();
+
+    // then
+    then(primary).should().getConnection();
+    then(replica).should(never()).getConnection();
+  }
+}
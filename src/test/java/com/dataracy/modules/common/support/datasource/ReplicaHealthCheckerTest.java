@@ -0,0 +1,99 @@
+package com.dataracy.modules.common.support.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/** 로컬 H2 인메모리 DB를 리플리카 대역으로 사용해 상태 판정을 검증한다. */
+class ReplicaHealthCheckerTest {
+
+  private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+  @Test
+  @DisplayName("지연 조회 쿼리가 없으면 접속 가능 여부만으로 정상 판정한다")
+  void healthyWhenConnectableWithoutLagQuery() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1"));
+    selector.markHealthy("replica-1", false);
+    ReplicaHealthChecker checker = checker("replica-1", h2(), selector, "");
+
+    // when
+    checker.checkAll();
+
+    // then
+    assertThat(selector.isHealthy("replica-1")).isTrue();
+  }
+
+  @Test
+  @DisplayName("복제 지연이 허용치 이내면 정상, 넘으면 비정상으로 판정한다")
+  void checksReplicationLag() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("fresh", "stale"));
+    ReplicaHealthChecker freshChecker =
+        checker("fresh", h2(), selector, "SELECT 3 AS " + LAG_COLUMN);
+    ReplicaHealthChecker staleChecker =
+        checker("stale", h2(), selector, "SELECT 30 AS " + LAG_COLUMN);
+
+    // when
+    freshChecker.checkAll();
+    staleChecker.checkAll();
+
+    // then
+    assertThat(selector.isHealthy("fresh")).isTrue();
+    assertThat(selector.isHealthy("stale")).isFalse();
+    assertThat(List.of(selector.select(), selector.select())).containsOnly("fresh");
+  }
+
+  @Test
+  @DisplayName("복제가 중단되어 지연 값이 null이면 비정상으로 판정한다")
+  void unhealthyWhenReplicationStopped() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1"));
+    ReplicaHealthChecker checker =
+        checker("replica-1", h2(), selector, "SELECT CAST(NULL AS INT) AS " + LAG_COLUMN);
+
+    // when
+    checker.checkAll();
+
+    // then
+    assertThat(selector.isHealthy("replica-1")).isFalse();
+  }
+
+  @Test
+  @DisplayName("접속할 수 없는 리플리카는 비정상으로 판정한다")
+  void unhealthyWhenConnectionFails() throws Exception {
+    // given
+    DataSource broken = mock(DataSource.class);
+    given(broken.getConnection()).willThrow(new SQLException("connection refused"));
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1"));
+    ReplicaHealthChecker checker = checker("replica-1", broken, selector, "");
+
+    // when
+    checker.checkAll();
+
+    // then
+    assertThat(selector.isHealthy("replica-1")).isFalse();
+    assertThat(selector.select()).isNull();
+  }
+
+  private static ReplicaHealthChecker checker(
+      String key, DataSource dataSource, ReplicaSelector selector, String lagQuery) {
+    return new ReplicaHealthChecker(Map.of(key, dataSource), selector, lagQuery, LAG_COLUMN, 5L);
+  }
+
+  private static DataSource h2() {
+    JdbcDataSource dataSource = new JdbcDataSource();
+    dataSource.setURL("jdbc:h2:mem:replica-health;MODE=MySQL");
+    dataSource.setUser("sa");
+    return dataSource;
+  }
+}
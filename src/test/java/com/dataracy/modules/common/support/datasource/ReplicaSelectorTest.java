@@ -0,0 +1,63 @@
+package com.dataracy.modules.common.support.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplicaSelectorTest {
+
+  @Test
+  @DisplayName("정상 리플리카를 라운드 로빈으로 선택한다")
+  void selectsReplicasRoundRobin() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1", "replica-2"));
+
+    // when & then
+    assertThat(List.of(selector.select(), selector.select(), selector.select()))
+        .containsExactly("replica-1", "replica-2", "replica-1");
+  }
+
+  @Test
+  @DisplayName("비정상 리플리카는 건너뛰고, 복구되면 다시 선택한다")
+  void skipsUnhealthyReplica() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1", "replica-2"));
+
+    // when
+    boolean changed = selector.markHealthy("replica-1", false);
+
+    // then
+    assertThat(changed).isTrue();
+    assertThat(List.of(selector.select(), selector.select())).containsOnly("replica-2");
+
+    selector.markHealthy("replica-1", true);
+    assertThat(List.of(selector.select(), selector.select()))
+        .containsExactlyInAnyOrder("replica-1", "replica-2");
+  }
+
+  @Test
+  @DisplayName("정상 리플리카가 없으면 null을 반환한다")
+  void returnsNullWhenNoHealthyReplica() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1"));
+    selector.markHealthy("replica-1", false);
+
+    // when & then
+    assertThat(selector.select()).isNull();
+    assertThat(new ReplicaSelector(List.of()).select()).isNull();
+  }
+
+  @Test
+  @DisplayName("상태가 그대로이거나 모르는 리플리카면 변경 없음으로 보고한다")
+  void reportsUnchangedState() {
+    // given
+    ReplicaSelector selector = new ReplicaSelector(List.of("replica-1"));
+
+    // when & then
+    assertThat(selector.markHealthy("replica-1", true)).isFalse();
+    assertThat(selector.markHealthy("unknown", false)).isFalse();
+  }
+}
@@ -0,0 +1,141 @@
+package com.dataracy.modules.common.support.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DistributedLockAspectTest {
+
+  @Mock private RedissonDistributedLockManager lockManager;
+
+  @Mock private ProceedingJoinPoint joinPoint;
+
+  @Mock private MethodSignature signature;
+
+  @InjectMocks private DistributedLockAspect aspect;
+
+  @BeforeEach
+  void setUp() throws Throwable {
+    given(joinPoint.getSignature()).willReturn(signature);
+    given(joinPoint.proceed()).willReturn("done");
+    given(
+            lockManager.execute(
+                anyString(), anyString(), anyLong(), anyLong(), anyInt(), any(Supplier.class)))
+        .willAnswer(invocation -> ((Supplier<?>) invocation.getArgument(5)).get());
+  }
+
+  @Test
+  @DisplayName("키 표현식은 메서드별로 한 번만 파싱하고, 호출마다 인자를 바인딩해 키를 만든다")
+  void cachesParsedKeyPerMethod() throws Exception {
+    // given
+    Method method = SampleService.class.getMethod("modify", Long.class);
+    DistributedLock lock = method.getAnnotation(DistributedLock.class);
+    given(signature.getMethod()).willReturn(method);
+
+    // when
+    given(joinPoint.getArgs()).willReturn(new Object[] {1L});
+    aspect.around(joinPoint, lock);
+    given(joinPoint.getArgs()).willReturn(new Object[] {2L});
+    Object result = aspect.around(joinPoint, lock);
+
+    // then
+    assertThat(result).isEqualTo("done");
+    then(lockManager)
+        .should()
+        .execute(
+            eq("lock:user:modify:1"),
+            eq("lock:user:modify"),
+            eq(200L),
+            eq(3000L),
+            eq(3),
+            any(Supplier.class));
+    then(lockManager)
+        .should()
+        .execute(
+            eq("lock:user:modify:2"),
+            eq("lock:user:modify"),
+            eq(200L),
+            eq(3000L),
+            eq(3),
+            any(Supplier.class));
+    Map<?, ?> keyTemplates = (Map<?, ?>) ReflectionTestUtils.getField(aspect, "keyTemplates");
+    assertThat(keyTemplates).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("표현식이 문자열 리터럴로 시작하지 않으면 클래스명.메서드명을 락 이름으로 사용한다")
+  void fallsBackToMethodNameForLockName() throws Exception {
+    // given
+    Method method = SampleService.class.getMethod("byVariable", String.class);
+    given(signature.getMethod()).willReturn(method);
+    given(joinPoint.getArgs()).willReturn(new Object[] {"custom-key"});
+
+    // when
+    aspect.around(joinPoint, method.getAnnotation(DistributedLock.class));
+
+    // then
+    then(lockManager)
+        .should()
+        .execute(
+            eq("custom-key"),
+            eq("SampleService.byVariable"),
+            anyLong(),
+            anyLong(),
+            anyInt(),
+            any(Supplier.class));
+  }
+
+  @Test
+  @DisplayName("생성된 키가 비어 있으면 락을 시도하지 않고 LockAcquisitionException을 던진다")
+  void rejectsBlankKey() throws Exception {
+    // given
+    Method method = SampleService.class.getMethod("byVariable", String.class);
+    given(signature.getMethod()).willReturn(method);
+    given(joinPoint.getArgs()).willReturn(new Object[] {" "});
+
+    // when
+    LockAcquisitionException exception =
+        catchThrowableOfType(
+            () -> aspect.around(joinPoint, method.getAnnotation(DistributedLock.class)),
+            LockAcquisitionException.class);
+
+    // then
+    assertThat(exception).hasMessage("SpEL로 생성된 락 키가 null 또는 빈 문자열입니다.");
+    then(lockManager).shouldHaveNoInteractions();
+  }
+
+  static class SampleService {
+    @DistributedLock(key = "'lock:user:modify:' + #userId")
+    public String modify(Long userId) {
+      return "done";
+    }
+
+    @DistributedLock(key = "#key")
+    public String byVariable(String key) {
+      return "done";
+    }
+  }
+}
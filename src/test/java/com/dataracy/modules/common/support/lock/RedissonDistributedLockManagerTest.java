@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -25,6 +26,9 @@ import org.redisson.api.RedissonClient;
 
 import com.dataracy.modules.common.exception.BusinessException;
 import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.support.metrics.DistributedLockMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -34,11 +38,16 @@ class RedissonDistributedLockManagerTest {
 
   @Mock private RLock rLock;
 
+  private SimpleMeterRegistry meterRegistry;
+
   private RedissonDistributedLockManager lockManager;
 
   @BeforeEach
   void setUp() {
-    lockManager = new RedissonDistributedLockManager(redissonClient);
+    meterRegistry = new SimpleMeterRegistry();
+    lockManager =
+        new RedissonDistributedLockManager(
+            redissonClient, new DistributedLockMetrics(meterRegistry));
     given(redissonClient.getLock(anyString())).willReturn(rLock);
   }
 
@@ -214,6 +223,103 @@ class RedissonDistributedLockManagerTest {
     }
   }
 
+  @Nested
+  @DisplayName("로컬 락 및 메트릭 테스트")
+  class LocalLockAndMetricsTest {
+
+    @Test
+    @DisplayName("같은 JVM의 경쟁자는 Redis에 요청하지 않고 로컬 락에서 대기하다 실패한다")
+    void sameJvmContenderWaitsOnLocalLock() throws Exception {
+      // given
+      String key = "lock:nickname:dup";
+      given(rLock.tryLock(200L, 3000L, TimeUnit.MILLISECONDS)).willReturn(true);
+      given(rLock.isHeldByCurrentThread()).willReturn(true);
+
+      CountDownLatch acquired = new CountDownLatch(1);
+      CountDownLatch release = new CountDownLatch(1);
+      Thread holder =
+          new Thread(
+              () ->
+                  lockManager.execute(
+                      key,
+                      200L,
+                      3000L,
+                      0,
+                      () -> {
+                        acquired.countDown();
+                        try {
+                          release.await();
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return null;
+                      }));
+      holder.start();
+      acquired.await();
+
+      // when
+      Throwable thrown =
+          catchThrowableOfType(
+              () -> lockManager.execute(key, 50L, 3000L, 0, () -> "second"),
+              LockAcquisitionException.class);
+      release.countDown();
+      holder.join();
+
+      // then
+      assertThat(thrown).isNotNull();
+      then(rLock).should().tryLock(200L, 3000L, TimeUnit.MILLISECONDS);
+      assertThat(
+              meterRegistry
+                  .counter(
+                      "distributed.lock.failures", "lock", "lock:nickname", "reason", "timeout")
+                  .count())
+          .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 락 해제 확인이 실패해도 로컬 락은 풀려 다른 스레드가 획득할 수 있다")
+    void localLockReleasedWhenRedisReleaseFails() throws Exception {
+      // given
+      String key = "lock:nickname:broken";
+      given(rLock.tryLock(200L, 3000L, TimeUnit.MILLISECONDS)).willReturn(true);
+      given(rLock.isHeldByCurrentThread())
+          .willThrow(new IllegalStateException("Redis connection lost"));
+      lockManager.execute(key, 200L, 3000L, 0, () -> "first");
+
+      // when
+      String second =
+          CompletableFuture.supplyAsync(
+                  () -> lockManager.execute(key, 200L, 3000L, 0, () -> "second"))
+              .get(1, TimeUnit.SECONDS);
+
+      // then
+      assertThat(second).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("대기 시간, 점유 시간, 재시도 횟수를 키 접두사별로 기록한다")
+    void recordsWaitHoldAndRetriesPerLockName() throws Exception {
+      // given
+      given(rLock.tryLock(100L, 3000L, TimeUnit.MILLISECONDS)).willReturn(false).willReturn(true);
+      given(rLock.isHeldByCurrentThread()).willReturn(true);
+
+      // when
+      lockManager.execute("lock:user:modify:1", 100L, 3000L, 2, () -> "ok");
+
+      // then
+      assertThat(
+              meterRegistry
+                  .timer("distributed.lock.wait", "lock", "lock:user:modify", "result", "acquired")
+                  .count())
+          .isEqualTo(1L);
+      assertThat(meterRegistry.timer("distributed.lock.hold", "lock", "lock:user:modify").count())
+          .isEqualTo(1L);
+      assertThat(
+              meterRegistry.counter("distributed.lock.retries", "lock", "lock:user:modify").count())
+          .isEqualTo(1.0);
+    }
+  }
+
   @Nested
   @DisplayName("executeAsync 메서드 테스트")
   class ExecuteAsyncTest {
@@ -0,0 +1,72 @@
+package com.dataracy.modules.common.support.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BehaviorLogIngestMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private BehaviorLogIngestMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new BehaviorLogIngestMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("문서 결과별 카운터와 _bulk 소요 시간을 기록한다")
+  void recordsDocumentsAndBulkLatency() {
+    // when
+    metrics.recordIndexed(5);
+    metrics.recordRetried(2);
+    metrics.recordDeadLettered(1);
+    metrics.recordBulk(40L);
+
+    // then
+    assertThat(count("indexed")).isEqualTo(5.0);
+    assertThat(count("retried")).isEqualTo(2.0);
+    assertThat(count("dead_letter")).isEqualTo(1.0);
+    assertThat(meterRegistry.timer("behaviorlog.ingest.bulk.latency").count()).isEqualTo(1L);
+    assertThat(
+            meterRegistry.timer("behaviorlog.ingest.bulk.latency").totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(40.0);
+  }
+
+  @Test
+  @DisplayName("타임스탬프가 없는 레코드는 수신 지연을 기록하지 않는다")
+  void ignoresMissingTimestamp() {
+    // when
+    metrics.recordConsumeLag(-1L);
+    metrics.recordConsumeLag(System.currentTimeMillis() - 1_000L);
+
+    // then
+    assertThat(meterRegistry.timer("behaviorlog.ingest.consume.lag").count()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("대기 작업 수 게이지는 등록한 함수의 현재 값을 보고한다")
+  void reportsPendingOperations() {
+    // given
+    AtomicInteger pending = new AtomicInteger(3);
+
+    // when
+    metrics.registerPending(pending::get);
+    pending.set(7);
+
+    // then
+    assertThat(meterRegistry.get("behaviorlog.ingest.pending").gauge().value()).isEqualTo(7.0);
+  }
+
+  private double count(String result) {
+    return meterRegistry.counter("behaviorlog.ingest.documents", "result", result).count();
+  }
+}
@@ -0,0 +1,70 @@
+package com.dataracy.modules.common.support.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ProjectionQueueMetrics 테스트")
+class ProjectionQueueMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ProjectionQueueMetrics metrics = new ProjectionQueueMetrics(meterRegistry);
+
+  @Test
+  @DisplayName("큐별 대기 작업 수와 가장 오래된 작업의 경과 시간을 게이지로 기록")
+  void recordShouldExposeDepthAndOldestAge() {
+    // Given
+    LocalDateTime oldest = LocalDateTime.now().minusSeconds(90);
+
+    // When
+    metrics.record("project", 42L, oldest);
+    metrics.record("data", 0L, null);
+
+    // Then
+    assertAll(
+        () ->
+            assertThat(
+                    meterRegistry
+                        .get("projection.queue.depth")
+                        .tag("queue", "project")
+                        .gauge()
+                        .value())
+                .isEqualTo(42.0),
+        () ->
+            assertThat(
+                    meterRegistry
+                        .get("projection.queue.oldest.age.seconds")
+                        .tag("queue", "project")
+                        .gauge()
+                        .value())
+                .isBetween(90.0, 95.0),
+        () ->
+            assertThat(
+                    meterRegistry
+                        .get("projection.queue.oldest.age.seconds")
+                        .tag("queue", "data")
+                        .gauge()
+                        .value())
+                .isZero());
+  }
+
+  @Test
+  @DisplayName("같은 큐를 다시 기록하면 게이지를 새로 등록하지 않고 값만 갱신")
+  void recordShouldUpdateExistingGauge() {
+    // When
+    metrics.record("project", 5L, null);
+    metrics.record("project", 1L, null);
+
+    // Then
+    assertAll(
+        () -> assertThat(meterRegistry.find("projection.queue.depth").gauges()).hasSize(1),
+        () ->
+            assertThat(meterRegistry.get("projection.queue.depth").gauge().value()).isEqualTo(1.0));
+  }
+}
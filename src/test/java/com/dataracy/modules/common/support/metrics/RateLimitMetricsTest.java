@@ -0,0 +1,41 @@
+package com.dataracy.modules.common.support.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("RateLimitMetrics 테스트")
+class RateLimitMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RateLimitMetrics metrics = new RateLimitMetrics(meterRegistry);
+
+  @Test
+  @DisplayName("백엔드와 판정 결과별로 카운터를 증가")
+  void recordShouldCountByBackendAndResult() {
+    // When
+    metrics.record("redis", true);
+    metrics.record("redis", true);
+    metrics.record("redis", false);
+    metrics.record("memory", false);
+
+    // Then
+    assertAll(
+        () -> assertThat(count("redis", "allowed")).isEqualTo(2.0),
+        () -> assertThat(count("redis", "blocked")).isEqualTo(1.0),
+        () -> assertThat(count("memory", "blocked")).isEqualTo(1.0));
+  }
+
+  private double count(String backend, String result) {
+    return meterRegistry
+        .get("ratelimit.decisions")
+        .tag("backend", backend)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+}
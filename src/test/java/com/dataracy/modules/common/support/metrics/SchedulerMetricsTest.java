@@ -0,0 +1,61 @@
+package com.dataracy.modules.common.support.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SchedulerMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SchedulerMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new SchedulerMetrics(meterRegistry);
+  }
+
+  @Test
+  @DisplayName("스케줄러 스레드 풀의 대기 작업 수를 name 태그로 노출한다")
+  void bindsExecutorGauges() {
+    // given
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+
+    try {
+      // when
+      metrics.bindExecutor(executor, "scheduler.batch");
+
+      // then
+      assertThat(meterRegistry.find("executor.queued").tag("name", "scheduler.batch").gauge())
+          .isNotNull();
+      assertThat(meterRegistry.find("executor.active").tag("name", "scheduler.batch").gauge())
+          .isNotNull();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("건너뛴 작업 실행을 job 태그별로 누적한다")
+  void recordsSkippedJobs() {
+    // when
+    metrics.recordSkipped("PopularProjectsBatchService.updatePopularProjectsCache");
+    metrics.recordSkipped("PopularProjectsBatchService.updatePopularProjectsCache");
+
+    // then
+    assertThat(
+            meterRegistry
+                .counter(
+                    "scheduler.job.skipped",
+                    "job",
+                    "PopularProjectsBatchService.updatePopularProjectsCache")
+                .count())
+        .isEqualTo(2.0);
+  }
+}
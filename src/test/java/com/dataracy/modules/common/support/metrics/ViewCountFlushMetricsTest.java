@@ -0,0 +1,34 @@
+package com.dataracy.modules.common.support.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ViewCountFlushMetricsTest {
+
+  @Test
+  @DisplayName("청크마다 소요 시간과 반영한 프로젝트 수를 누적 기록한다")
+  void recordsChunkLatencyAndRows() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ViewCountFlushMetrics metrics = new ViewCountFlushMetrics(meterRegistry);
+
+    // when
+    metrics.recordChunk(500, TimeUnit.MILLISECONDS.toNanos(12));
+    metrics.recordChunk(20, TimeUnit.MILLISECONDS.toNanos(3));
+
+    // then
+    assertThat(meterRegistry.timer("project.view.flush.chunk.latency").count()).isEqualTo(2L);
+    assertThat(
+            meterRegistry
+                .timer("project.view.flush.chunk.latency")
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(15.0);
+    assertThat(meterRegistry.counter("project.view.flush.rows").count()).isEqualTo(520.0);
+  }
+}
@@ -0,0 +1,72 @@
+package com.dataracy.modules.common.support.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+
+class CreatedAtCursorTest {
+
+  @Test
+  @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 반환한다")
+  void encodeDecodeRoundTrip() {
+    // given
+    CreatedAtCursor cursor =
+        new CreatedAtCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123000), 42L);
+
+    // when
+    CreatedAtCursor decoded = CreatedAtCursor.decode(cursor.encode());
+
+    // then
+    assertThat(decoded).isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"  "})
+  @DisplayName("커서가 비어 있으면 첫 페이지로 보고 null을 반환한다")
+  void decodeBlankReturnsNull(String cursor) {
+    // when & then
+    assertThat(CreatedAtCursor.decode(cursor)).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"not-base64!!", "bm8tc2VwYXJhdG9y", "MjAyNS0wMy0wMXxhYmM"})
+  @DisplayName("형식이 올바르지 않은 커서는 INVALID_CURSOR 예외를 던진다")
+  void decodeInvalidThrows(String cursor) {
+    // when
+    CommonException ex =
+        catchThrowableOfType(() -> CreatedAtCursor.decode(cursor), CommonException.class);
+
+    // then
+    assertThat(ex.getErrorCode()).isEqualTo(CommonErrorStatus.INVALID_CURSOR);
+  }
+
+  @Test
+  @DisplayName("생성 시각 형식이 잘못된 커서는 INVALID_CURSOR 예외를 던진다")
+  void decodeInvalidDateThrows() {
+    // given
+    String cursor =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    CommonException ex =
+        catchThrowableOfType(() -> CreatedAtCursor.decode(cursor), CommonException.class);
+
+    // then
+    assertThat(ex.getErrorCode()).isEqualTo(CommonErrorStatus.INVALID_CURSOR);
+  }
+}
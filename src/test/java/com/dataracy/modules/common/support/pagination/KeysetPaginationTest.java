@@ -0,0 +1,123 @@
+package com.dataracy.modules.common.support.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dataracy.modules.common.dto.response.CursorPage;
+
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+
+class KeysetPaginationTest {
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+  private static final DateTimePath<LocalDateTime> CREATED_AT =
+      Expressions.dateTimePath(LocalDateTime.class, "createdAt");
+  private static final NumberPath<Long> ID = Expressions.numberPath(Long.class, "id");
+
+  private record Row(Long id, LocalDateTime createdAt) {}
+
+  private static CreatedAtCursor keyOf(Row row) {
+    return new CreatedAtCursor(row.createdAt(), row.id());
+  }
+
+  @Test
+  @DisplayName("size보다 한 건 더 조회되면 size건만 담고 마지막 항목 위치를 다음 커서로 반환한다")
+  void toCursorPageWithNext() {
+    // given
+    List<Row> rows = List.of(new Row(3L, BASE), new Row(2L, BASE), new Row(1L, BASE.minusDays(1)));
+
+    // when
+    CursorPage<Row> page = KeysetPagination.toCursorPage(rows, 2, KeysetPaginationTest::keyOf, 3L);
+
+    // then
+    assertAll(
+        () -> assertThat(page.content()).extracting(Row::id).containsExactly(3L, 2L),
+        () -> assertThat(page.hasNext()).isTrue(),
+        () ->
+            assertThat(CreatedAtCursor.decode(page.nextCursor()))
+                .isEqualTo(new CreatedAtCursor(BASE, 2L)),
+        () -> assertThat(page.totalElements()).isEqualTo(3L));
+  }
+
+  @Test
+  @DisplayName("size 이하로 조회되면 다음 페이지가 없고 커서는 null이다")
+  void toCursorPageLastPage() {
+    // given
+    List<Row> rows = List.of(new Row(1L, BASE));
+
+    // when
+    CursorPage<Row> page =
+        KeysetPagination.toCursorPage(rows, 2, KeysetPaginationTest::keyOf, null);
+
+    // then
+    assertAll(
+        () -> assertThat(page.content()).hasSize(1),
+        () -> assertThat(page.hasNext()).isFalse(),
+        () -> assertThat(page.nextCursor()).isNull(),
+        () -> assertThat(page.totalElements()).isNull());
+  }
+
+  @Test
+  @DisplayName("map은 커서 정보를 유지한 채 항목만 변환한다")
+  void mapKeepsCursor() {
+    // given
+    CursorPage<Row> page =
+        KeysetPagination.toCursorPage(
+            List.of(new Row(2L, BASE), new Row(1L, BASE)), 1, KeysetPaginationTest::keyOf, 2L);
+
+    // when
+    CursorPage<Long> mapped = page.map(Row::id);
+
+    // then
+    assertAll(
+        () -> assertThat(mapped.content()).containsExactly(2L),
+        () -> assertThat(mapped.nextCursor()).isEqualTo(page.nextCursor()),
+        () -> assertThat(mapped.hasNext()).isTrue(),
+        () -> assertThat(mapped.totalElements()).isEqualTo(2L));
+  }
+
+  @Test
+  @DisplayName("커서가 없으면 keyset 조건을 만들지 않는다")
+  void afterWithoutCursor() {
+    // when & then
+    assertThat(KeysetPagination.after(CREATED_AT, ID, null)).isNull();
+  }
+
+  @Test
+  @DisplayName("커서가 있으면 생성 시각이 더 이르거나 같은 시각의 더 작은 ID만 조회한다")
+  void afterWithCursor() {
+    // when
+    String expression =
+        KeysetPagination.after(CREATED_AT, ID, new CreatedAtCursor(BASE, 10L)).toString();
+
+    // then
+    assertAll(
+        () -> assertThat(expression).contains("createdAt < " + BASE),
+        () -> assertThat(expression).contains("createdAt = " + BASE),
+        () -> assertThat(expression).contains("id < 10"));
+  }
+
+  @Test
+  @DisplayName("정렬 기준은 생성 시각과 ID의 내림차순이다")
+  void latestOrder() {
+    // when
+    OrderSpecifier<?>[] orders = KeysetPagination.latestOrder(CREATED_AT, ID);
+
+    // then
+    assertAll(
+        () -> assertThat(orders).hasSize(2),
+        () -> assertThat(orders[0].getTarget()).isEqualTo(CREATED_AT),
+        () -> assertThat(orders[0].isAscending()).isFalse(),
+        () -> assertThat(orders[1].getTarget()).isEqualTo(ID),
+        () -> assertThat(orders[1].isAscending()).isFalse());
+  }
+}
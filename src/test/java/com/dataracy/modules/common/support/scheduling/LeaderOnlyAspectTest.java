@@ -0,0 +1,72 @@
+package com.dataracy.modules.common.support.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.dataracy.modules.common.support.metrics.SchedulerMetrics;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LeaderOnlyAspectTest {
+
+  @Mock private SchedulerLeaderElector leaderElector;
+
+  @Mock private SchedulerMetrics schedulerMetrics;
+
+  @Mock private ProceedingJoinPoint joinPoint;
+
+  @Mock private Signature signature;
+
+  @Mock private LeaderOnly leaderOnly;
+
+  @InjectMocks private LeaderOnlyAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    given(joinPoint.getSignature()).willReturn(signature);
+    given(signature.getDeclaringType()).willReturn(LeaderOnlyAspectTest.class);
+    given(signature.getName()).willReturn("refresh");
+  }
+
+  @Test
+  @DisplayName("리더 노드에서는 작업을 실행한다")
+  void proceedsOnLeader() throws Throwable {
+    // given
+    given(leaderElector.isLeader()).willReturn(true);
+
+    // when
+    aspect.around(joinPoint, leaderOnly);
+
+    // then
+    then(joinPoint).should().proceed();
+    then(schedulerMetrics).should(never()).recordSkipped(anyString());
+  }
+
+  @Test
+  @DisplayName("리더가 아니면 작업을 건너뛰고 건너뛴 횟수를 기록한다")
+  void skipsOnFollower() throws Throwable {
+    // given
+    given(leaderElector.isLeader()).willReturn(false);
+
+    // when
+    Object result = aspect.around(joinPoint, leaderOnly);
+
+    // then
+    assertThat(result).isNull();
+    then(joinPoint).should(never()).proceed();
+    then(schedulerMetrics).should().recordSkipped("LeaderOnlyAspectTest.refresh");
+  }
+}
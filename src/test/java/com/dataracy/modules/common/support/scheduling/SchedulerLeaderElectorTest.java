@@ -0,0 +1,131 @@
+package com.dataracy.modules.common.support.scheduling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SchedulerLeaderElectorTest {
+
+  @Mock private StringRedisTemplate redisTemplate;
+
+  @Mock private ValueOperations<String, String> valueOperations;
+
+  private SchedulerLeaderElector elector;
+
+  @BeforeEach
+  void setUp() {
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    elector = new SchedulerLeaderElector(redisTemplate);
+    ReflectionTestUtils.setField(elector, "leaseMillis", 30_000L);
+  }
+
+  @Test
+  @DisplayName("리더 키가 비어 있으면 선점해 리더가 된다")
+  void becomesLeaderWhenKeyIsFree() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    elector.renew();
+
+    // then
+    assertThat(elector.isLeader()).isTrue();
+  }
+
+  @Test
+  @DisplayName("초기화 시 첫 스케줄 갱신을 기다리지 않고 리더 선출을 시도한다")
+  void electsLeaderOnInit() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    elector.init();
+
+    // then
+    assertThat(elector.isLeader()).isTrue();
+  }
+
+  @Test
+  @DisplayName("이미 리더이면 선점 없이 임대만 연장한다")
+  void renewsLeaseWhenAlreadyLeader() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+
+    // when
+    elector.renew();
+
+    // then
+    assertThat(elector.isLeader()).isTrue();
+    then(valueOperations)
+        .should(never())
+        .setIfAbsent(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("다른 노드가 리더이면 리더가 아니다")
+  void notLeaderWhenKeyIsHeldByOtherNode() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(0L);
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    // when
+    elector.renew();
+
+    // then
+    assertThat(elector.isLeader()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Redis 오류로 갱신에 실패하면 리더 자격을 잃는다")
+  void losesLeadershipWhenRenewFails() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+    elector.renew();
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+        .willThrow(new IllegalStateException("redis down"));
+
+    // when
+    elector.renew();
+
+    // then
+    assertThat(elector.isLeader()).isFalse();
+  }
+
+  @Test
+  @DisplayName("임대 시간이 지나면 갱신 전이라도 리더로 보지 않는다")
+  void leadershipExpiresWithLease() {
+    // given
+    ReflectionTestUtils.setField(elector, "leaseMillis", 0L);
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(1L);
+
+    // when
+    elector.renew();
+
+    // then
+    assertThat(elector.isLeader()).isFalse();
+  }
+}
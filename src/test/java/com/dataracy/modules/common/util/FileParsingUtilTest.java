@@ -4,10 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -94,6 +100,98 @@ class FileParsingUtilTest {
         () -> assertThat(result.columnCount()).isEqualTo(2));
   }
 
+  @Test
+  @DisplayName("parse - XLSX 첫 시트의 헤더와 미리보기 행만 읽고 전체 행 수를 센다")
+  void parseShouldStreamXlsxSheet() throws IOException {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+      Sheet sheet = workbook.createSheet("data");
+      Row header = sheet.createRow(0);
+      header.createCell(0).setCellValue("name");
+      header.createCell(1).setCellValue("age");
+      for (int i = 1; i <= 8; i++) {
+        Row row = sheet.createRow(i);
+        row.createCell(0).setCellValue("user" + i);
+        row.createCell(1).setCellValue(20 + i);
+      }
+      workbook.write(out);
+    }
+
+    // When
+    ParsedMetadataResponse result =
+        FileParsingUtil.parse(new ByteArrayInputStream(out.toByteArray()), "test.xlsx");
+
+    // Then
+    assertAll(
+        () -> assertThat(result.rowCount()).isEqualTo(8),
+        () -> assertThat(result.columnCount()).isEqualTo(2),
+        () -> assertThat(result.previewJson()).startsWith("[{\"name\":\"user1\",\"age\":\"21\"}"),
+        () -> assertThat(result.previewJson()).contains("user5").doesNotContain("user6"));
+  }
+
+  @Test
+  @DisplayName("parse - JSON 배열은 미리보기 개수만 보관하고 전체 요소 수를 센다")
+  void parseShouldStreamJsonArray() throws IOException {
+    // Given
+    StringBuilder content = new StringBuilder("[");
+    for (int i = 1; i <= 7; i++) {
+      content.append(i > 1 ? "," : "").append("{\"id\":").append(i).append(",\"tags\":[1,2]}");
+    }
+    content.append("]");
+    ByteArrayInputStream inputStream =
+        new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8));
+
+    // When
+    ParsedMetadataResponse result = FileParsingUtil.parse(inputStream, "test.json");
+
+    // Then
+    assertAll(
+        () -> assertThat(result.rowCount()).isEqualTo(7),
+        () -> assertThat(result.columnCount()).isEqualTo(2),
+        () -> assertThat(result.previewJson()).contains("\"id\":5").doesNotContain("\"id\":6"));
+  }
+
+  @Test
+  @DisplayName("parse - 루트가 배열이 아닌 JSON 처리")
+  void parseShouldRejectNonArrayJson() {
+    // Given
+    ByteArrayInputStream inputStream =
+        new ByteArrayInputStream("{\"name\":\"John\"}".getBytes(StandardCharsets.UTF_8));
+
+    // When & Then
+    IllegalArgumentException exception =
+        catchThrowableOfType(
+            () -> FileParsingUtil.parse(inputStream, "test.json"), IllegalArgumentException.class);
+    assertThat(exception).hasMessageContaining("루트 노드는 배열이어야 합니다");
+  }
+
+  @Test
+  @DisplayName("parse - mark 한도가 있는 스트림에서도 대용량 CSV를 끝까지 파싱")
+  void parseShouldHandleLargeCsvFromBufferedStream() throws IOException {
+    // Given
+    StringBuilder content = new StringBuilder("id,value\n");
+    for (int i = 0; i < 2000; i++) {
+      content.append(i).append(",value").append(i).append('\n');
+    }
+    InputStream inputStream =
+        new BufferedInputStream(
+            new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)) {
+              @Override
+              public boolean markSupported() {
+                return false;
+              }
+            });
+
+    // When
+    ParsedMetadataResponse result = FileParsingUtil.parse(inputStream, "test.csv");
+
+    // Then
+    assertAll(
+        () -> assertThat(result.rowCount()).isEqualTo(2000),
+        () -> assertThat(result.columnCount()).isEqualTo(2));
+  }
+
   @Test
   @DisplayName("detectEncoding - UTF-8 인코딩 감지")
   void detectEncodingShouldDetectUtf8() throws IOException {
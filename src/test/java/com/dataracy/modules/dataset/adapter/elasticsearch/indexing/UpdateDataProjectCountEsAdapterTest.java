@@ -0,0 +1,85 @@
+package com.dataracy.modules.dataset.adapter.elasticsearch.indexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mockStatic;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dataracy.modules.common.exception.EsUpdateException;
+import com.dataracy.modules.common.logging.ElasticLogger;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.dataset.application.dto.document.DataSearchDocument;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateDataProjectCountEsAdapterTest {
+
+  @Mock private ElasticsearchClient elasticsearchClient;
+
+  @Mock private ElasticLogger elasticLogger;
+
+  private UpdateDataProjectCountEsAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new UpdateDataProjectCountEsAdapter(elasticsearchClient);
+  }
+
+  @Test
+  @DisplayName("프로젝트 수 증감 성공 시 정상 동작")
+  void adjustProjectCountSuccess() throws IOException {
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      adapter.adjustProjectCount(1L, 2);
+
+      // then
+      then(elasticsearchClient).should().update(any(Function.class), eq(DataSearchDocument.class));
+      then(elasticLogger)
+          .should()
+          .logUpdate("data_index", "1", "dataset projectCount 반영 완료 delta=2");
+    }
+  }
+
+  @Test
+  @DisplayName("프로젝트 수 증감 시 IOException 발생하면 EsUpdateException으로 변환")
+  void adjustProjectCountWithIOException() throws IOException {
+    // given
+    IOException ioException = new IOException("Elasticsearch connection failed");
+    willThrow(ioException)
+        .given(elasticsearchClient)
+        .update(any(Function.class), eq(DataSearchDocument.class));
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      EsUpdateException exception =
+          catchThrowableOfType(
+              () -> adapter.adjustProjectCount(1L, -1), EsUpdateException.class);
+
+      // then
+      assertThat(exception).hasMessage("ES update failed: dataId=1").hasCause(ioException);
+      then(elasticLogger)
+          .should()
+          .logError(
+              eq("data_index"), eq("dataset projectCount 반영 실패 dataId=1"), any(IOException.class));
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package com.dataracy.modules.dataset.adapter.elasticsearch.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.dataracy.modules.common.logging.ElasticLogger;
+import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.dataset.application.dto.document.DataSearchDocument;
+import com.dataracy.modules.dataset.application.dto.request.search.FilteringDataRequest;
+import com.dataracy.modules.dataset.domain.enums.DataSortType;
+import com.dataracy.modules.dataset.domain.exception.DataException;
+import com.dataracy.modules.dataset.domain.status.DataErrorStatus;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.mapping.FieldType;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import co.elastic.clients.elasticsearch.core.search.TotalHits;
+import co.elastic.clients.elasticsearch.core.search.TotalHitsRelation;
+import co.elastic.clients.util.ObjectBuilder;
+
+@ExtendWith(MockitoExtension.class)
+class SearchFilteredDataSetsEsAdapterTest {
+
+  @Mock private ElasticsearchClient elasticsearchClient;
+
+  @Mock private ElasticLogger elasticLogger;
+
+  private SearchFilteredDataSetsEsAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new SearchFilteredDataSetsEsAdapter(elasticsearchClient);
+  }
+
+  @Test
+  @DisplayName("검색 결과의 문서 ID 순서와 전체 건수로 페이지를 만든다")
+  void searchIdsByFiltersSuccess() throws IOException {
+    // given
+    FilteringDataRequest request = new FilteringDataRequest("ai", "LATEST", 1L, null, null, 2023);
+    Pageable pageable = PageRequest.of(2, 2);
+    Instant startTime = Instant.now();
+
+    SearchResponse<DataSearchDocument> mockResponse = mock(SearchResponse.class);
+    given(mockResponse.hits()).willReturn(hitsOf(25, "7", "3"));
+    given(elasticsearchClient.search(any(Function.class), eq(DataSearchDocument.class)))
+        .willReturn(mockResponse);
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+      given(elasticLogger.logQueryStart(any(String.class), any(String.class)))
+          .willReturn(startTime);
+
+      // when
+      Page<Long> result = adapter.searchIdsByFilters(request, pageable, DataSortType.LATEST);
+
+      // then
+      assertAll(
+          () -> assertThat(result.getContent()).containsExactly(7L, 3L),
+          () -> assertThat(result.getTotalElements()).isEqualTo(25),
+          () -> assertThat(result.getNumber()).isEqualTo(2));
+      then(elasticLogger)
+          .should()
+          .logQueryEnd(
+              eq("data_index"),
+              eq("데이터셋 키워드 필터링 검색 종료: keyword=ai, total=25"),
+              eq(startTime));
+    }
+  }
+
+  @Test
+  @DisplayName("요청에 오프셋·정렬·ID 보조 정렬·본문 제외 옵션을 적용한다")
+  void searchIdsByFiltersBuildsRequest() throws IOException {
+    // given
+    FilteringDataRequest request = new FilteringDataRequest("ai", "UTILIZE", 1L, 2L, 3L, 2023);
+    Pageable pageable = PageRequest.of(2, 20);
+
+    SearchResponse<DataSearchDocument> mockResponse = mock(SearchResponse.class);
+    given(mockResponse.hits()).willReturn(hitsOf(0));
+    given(elasticsearchClient.search(any(Function.class), eq(DataSearchDocument.class)))
+        .willReturn(mockResponse);
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      adapter.searchIdsByFilters(request, pageable, DataSortType.UTILIZE);
+
+      // then
+      ArgumentCaptor<Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>>> captor =
+          ArgumentCaptor.forClass(Function.class);
+      then(elasticsearchClient).should().search(captor.capture(), eq(DataSearchDocument.class));
+      SearchRequest searchRequest = captor.getValue().apply(new SearchRequest.Builder()).build();
+
+      assertAll(
+          () -> assertThat(searchRequest.index()).containsExactly("data_index"),
+          () -> assertThat(searchRequest.from()).isEqualTo(40),
+          () -> assertThat(searchRequest.size()).isEqualTo(20),
+          () -> assertThat(searchRequest.source().fetch()).isFalse(),
+          () -> assertThat(searchRequest.sort()).hasSize(2),
+          () -> assertThat(searchRequest.sort().get(0).field().field()).isEqualTo("projectCount"),
+          () ->
+              assertThat(searchRequest.sort().get(0).field().unmappedType())
+                  .isEqualTo(FieldType.Long),
+          () ->
+              assertThat(searchRequest.sort().get(0).field().missing().stringValue())
+                  .isEqualTo("_last"),
+          () -> assertThat(searchRequest.sort().get(1).field().field()).isEqualTo("id"),
+          () -> assertThat(searchRequest.sort().get(1).field().order()).isEqualTo(SortOrder.Desc),
+          // isDeleted, topicId, dataSourceId, dataTypeId, 연도 범위 2개
+          () -> assertThat(searchRequest.query().bool().filter()).hasSize(6));
+    }
+  }
+
+  @Test
+  @DisplayName("IOException 발생 시 DataException으로 변환")
+  void searchIdsByFiltersWithIOException() throws IOException {
+    // given
+    FilteringDataRequest request = new FilteringDataRequest("ai", null, null, null, null, null);
+    Pageable pageable = PageRequest.of(0, 10);
+
+    willThrow(new IOException("Elasticsearch connection failed"))
+        .given(elasticsearchClient)
+        .search(any(Function.class), eq(DataSearchDocument.class));
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      DataException exception =
+          catchThrowableOfType(
+              () -> adapter.searchIdsByFilters(request, pageable, null), DataException.class);
+
+      // then
+      assertThat(exception.getErrorCode())
+          .isEqualTo(DataErrorStatus.FAIL_FILTERED_SEARCH_DATASET);
+      then(elasticLogger)
+          .should()
+          .logError(
+              eq("data_index"),
+              eq("데이터셋 키워드 필터링 검색 실패: keyword=ai"),
+              any(IOException.class));
+    }
+  }
+
+  private static HitsMetadata<DataSearchDocument> hitsOf(long total, String... ids) {
+    List<Hit<DataSearchDocument>> hits =
+        Arrays.stream(ids)
+            .map(id -> Hit.<DataSearchDocument>of(h -> h.index("data_index").id(id)))
+            .toList();
+    return HitsMetadata.of(
+        h -> h.hits(hits).total(TotalHits.of(t -> t.value(total).relation(TotalHitsRelation.Eq))));
+  }
+}
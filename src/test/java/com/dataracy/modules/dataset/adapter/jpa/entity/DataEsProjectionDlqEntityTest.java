@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
 class DataEsProjectionDlqEntityTest {
 
   @Test
-  @DisplayName("Builder 기본값 확인: deltaDownload=0, setDeleted=false")
+  @DisplayName("Builder 기본값 확인: deltaDownload=0, deltaProjectCount=0, setDeleted=false")
   void builderShouldApplyDefaultValues() {
     // when
     DataEsProjectionDlqEntity entity =
@@ -18,6 +18,7 @@ class DataEsProjectionDlqEntityTest {
     // then
     assertAll(
         () -> assertThat(entity.getDeltaDownload()).isZero(),
+        () -> assertThat(entity.getDeltaProjectCount()).isZero(),
         () -> assertThat(entity.getSetDeleted()).isFalse(),
         () -> assertThat(entity.getDataId()).isEqualTo(100L),
         () -> assertThat(entity.getLastError()).isEqualTo("error message"));
@@ -34,11 +34,12 @@ class ManageDataEsProjectionDlqDbAdapterTest {
     // given
     Long dataId = 1L;
     Integer deltaDownload = 2;
+    Integer deltaProjectCount = -1;
     Boolean setDeleted = true;
     String lastError = "error";
 
     // when
-    adapter.save(dataId, deltaDownload, setDeleted, lastError);
+    adapter.save(dataId, deltaDownload, deltaProjectCount, setDeleted, lastError);
 
     // then
     then(repo).should().save(captor.capture());
@@ -47,6 +48,7 @@ class ManageDataEsProjectionDlqDbAdapterTest {
     assertAll(
         () -> assertThat(savedEntity.getDataId()).isEqualTo(dataId),
         () -> assertThat(savedEntity.getDeltaDownload()).isEqualTo(deltaDownload),
+        () -> assertThat(savedEntity.getDeltaProjectCount()).isEqualTo(deltaProjectCount),
         () -> assertThat(savedEntity.getSetDeleted()).isEqualTo(setDeleted),
         () -> assertThat(savedEntity.getLastError()).isEqualTo(lastError));
   }
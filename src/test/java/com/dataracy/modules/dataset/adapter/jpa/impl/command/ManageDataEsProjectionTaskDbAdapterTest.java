@@ -1,21 +1,21 @@
 package com.dataracy.modules.dataset.adapter.jpa.impl.command;
 
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.then;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import com.dataracy.modules.dataset.adapter.jpa.entity.DataEsProjectionTaskEntity;
+import com.dataracy.modules.dataset.adapter.jdbc.DataEsProjectionTaskJdbcWriter;
+import com.dataracy.modules.dataset.adapter.jdbc.DataEsProjectionTaskJdbcWriter.TaskRow;
 import com.dataracy.modules.dataset.adapter.jpa.repository.DataEsProjectionTaskRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,12 +24,12 @@ class ManageDataEsProjectionTaskDbAdapterTest {
 
   @Mock private DataEsProjectionTaskRepository repo;
 
-  @InjectMocks private ManageDataEsProjectionTaskDbAdapter adapter;
+  @Mock private DataEsProjectionTaskJdbcWriter writer;
 
-  @Captor private ArgumentCaptor<DataEsProjectionTaskEntity> captor;
+  @InjectMocks private ManageDataEsProjectionTaskDbAdapter adapter;
 
   @Test
-  @DisplayName("enqueueSetDeleted 호출 시 삭제 플래그가 저장된다")
+  @DisplayName("enqueueSetDeleted 호출 시 삭제 플래그 작업이 추가된다")
   void enqueueSetDeletedShouldSaveEntity() {
     // given
     Long dataId = 1L;
@@ -39,16 +39,11 @@ class ManageDataEsProjectionTaskDbAdapterTest {
     adapter.enqueueSetDeleted(dataId, deleted);
 
     // then
-    then(repo).should().save(captor.capture());
-    DataEsProjectionTaskEntity saved = captor.getValue();
-
-    assertAll(
-        () -> assertThat(saved.getDataId()).isEqualTo(dataId),
-        () -> assertThat(saved.getSetDeleted()).isTrue());
+    then(writer).should().insertAll(List.of(TaskRow.setDeleted(dataId, true)));
   }
 
   @Test
-  @DisplayName("enqueueDownloadDelta 호출 시 다운로드 델타가 저장된다")
+  @DisplayName("enqueueDownloadDelta 호출 시 다운로드 델타 작업이 병합 없이 추가된다")
   void enqueueDownloadDeltaShouldSaveEntity() {
     // given
     Long dataId = 1L;
@@ -58,12 +53,21 @@ class ManageDataEsProjectionTaskDbAdapterTest {
     adapter.enqueueDownloadDelta(dataId, delta);
 
     // then
-    then(repo).should().save(captor.capture());
-    DataEsProjectionTaskEntity saved = captor.getValue();
+    then(writer).should().insertAll(List.of(TaskRow.download(dataId, delta)));
+  }
+
+  @Test
+  @DisplayName("enqueueProjectCountDelta 호출 시 프로젝트 수 델타가 대기 작업에 병합된다")
+  void enqueueProjectCountDeltaShouldSaveEntity() {
+    // given
+    Long dataId = 1L;
+    int delta = -2;
 
-    assertAll(
-        () -> assertThat(saved.getDataId()).isEqualTo(dataId),
-        () -> assertThat(saved.getDeltaDownload()).isEqualTo(delta));
+    // when
+    adapter.enqueueProjectCountDelta(dataId, delta);
+
+    // then
+    then(writer).should().upsertProjectCountDeltas(Map.of(dataId, delta));
   }
 
   @Test
@@ -0,0 +1,76 @@
+package com.dataracy.modules.dataset.adapter.jpa.impl.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dataracy.modules.dataset.adapter.jpa.repository.DataJpaRepository;
+import com.dataracy.modules.dataset.application.dto.response.support.DataProjectCountDrift;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateDataProjectCountDbAdapterTest {
+
+  @Mock private DataJpaRepository repo;
+
+  @InjectMocks private UpdateDataProjectCountDbAdapter adapter;
+
+  @Test
+  @DisplayName("adjustProjectCount 호출 시 repo.adjustProjectCount가 실행된다")
+  void adjustProjectCountShouldCallRepoMethod() {
+    // when
+    adapter.adjustProjectCount(1L, -1);
+
+    // then
+    then(repo).should().adjustProjectCount(1L, -1L);
+  }
+
+  @Test
+  @DisplayName("findProjectCountDrifts 호출 시 조회 결과 행을 DataProjectCountDrift로 변환한다")
+  void findProjectCountDriftsShouldMapRows() {
+    // given
+    List<Object[]> rows = List.<Object[]>of(new Object[] {1L, 3L, 2L}, new Object[] {5L, 0, 4L});
+    given(repo.findProjectCountDrifts(100)).willReturn(rows);
+
+    // when
+    List<DataProjectCountDrift> result = adapter.findProjectCountDrifts(100);
+
+    // then
+    assertThat(result)
+        .containsExactly(
+            new DataProjectCountDrift(1L, 3L, 2L), new DataProjectCountDrift(5L, 0L, 4L));
+  }
+
+  @Test
+  @DisplayName("correctProjectCount 호출 시 갱신된 행이 없으면 false를 반환한다")
+  void correctProjectCountShouldReturnFalseWhenNotUpdated() {
+    // given
+    given(repo.compareAndSetProjectCount(1L, 3L, 2L)).willReturn(0);
+
+    // when
+    boolean result = adapter.correctProjectCount(1L, 3L, 2L);
+
+    // then
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  @DisplayName("correctProjectCount 호출 시 갱신에 성공하면 true를 반환한다")
+  void correctProjectCountShouldReturnTrueWhenUpdated() {
+    // given
+    given(repo.compareAndSetProjectCount(1L, 3L, 2L)).willReturn(1);
+
+    // when
+    boolean result = adapter.correctProjectCount(1L, 3L, 2L);
+
+    // then
+    assertThat(result).isTrue();
+  }
+}
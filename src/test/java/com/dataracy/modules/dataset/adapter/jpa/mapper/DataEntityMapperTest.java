@@ -37,6 +37,7 @@ class DataEntityMapperTest {
             .dataThumbnailUrl("thumb.jpg")
             .downloadCount(100)
             .sizeBytes(1024L)
+            .projectCount(7L)
             .metadata(metadataEntity)
             .build();
 
@@ -60,6 +61,7 @@ class DataEntityMapperTest {
         () -> assertThat(domain.getDataThumbnailUrl()).isEqualTo("thumb.jpg"),
         () -> assertThat(domain.getDownloadCount()).isEqualTo(100),
         () -> assertThat(domain.getSizeBytes()).isEqualTo(1024L),
+        () -> assertThat(domain.getProjectCount()).isEqualTo(7L),
         () -> assertThat(domain.getMetadata()).isNotNull());
   }
 
@@ -82,4 +82,17 @@ class DataSortBuilderTest {
         () -> assertThat(result[0].getTarget()).isEqualTo(projectCountPath),
         () -> assertThat(result[0].isAscending()).isFalse());
   }
+
+  @Test
+  @DisplayName("fromSortOption - UTILIZE이고 경로가 없으면 projectCount 컬럼 기준 내림차순으로 정렬한다")
+  void fromSortOptionWhenUtilizeWithoutPathReturnsProjectCountColumnDesc() {
+    // when
+    OrderSpecifier<?>[] result = DataSortBuilder.fromSortOption(DataSortType.UTILIZE, null);
+
+    // then
+    assertAll(
+        () -> assertThat(result).hasSize(1),
+        () -> assertThat(result[0].getTarget()).isEqualTo(dataEntity.projectCount),
+        () -> assertThat(result[0].isAscending()).isFalse());
+  }
 }
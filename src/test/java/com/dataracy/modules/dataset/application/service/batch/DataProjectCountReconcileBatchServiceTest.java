@@ -0,0 +1,68 @@
+package com.dataracy.modules.dataset.application.service.batch;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.dataset.application.dto.response.support.DataProjectCountDrift;
+import com.dataracy.modules.dataset.application.port.in.command.content.UpdateDataProjectCountUseCase;
+import com.dataracy.modules.dataset.application.port.out.command.update.ReconcileDataProjectCountPort;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataProjectCountReconcileBatchServiceTest {
+
+  @Mock private ReconcileDataProjectCountPort reconcileDataProjectCountPort;
+
+  @Mock private UpdateDataProjectCountUseCase updateDataProjectCountUseCase;
+
+  @InjectMocks private DataProjectCountReconcileBatchService batchService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(batchService, "batchSize", 100);
+  }
+
+  @Test
+  @DisplayName("어긋난 데이터마다 조회 시점의 값과 실제 값으로 보정을 요청한다")
+  void reconcileProjectCountsCorrectsEachDrift() {
+    // given
+    given(reconcileDataProjectCountPort.findProjectCountDrifts(100))
+        .willReturn(
+            List.of(new DataProjectCountDrift(1L, 3L, 2L), new DataProjectCountDrift(2L, 0L, 1L)));
+    given(updateDataProjectCountUseCase.correctProjectCount(anyLong(), anyLong(), anyLong()))
+        .willReturn(true);
+
+    // when
+    batchService.reconcileProjectCounts();
+
+    // then
+    then(updateDataProjectCountUseCase).should().correctProjectCount(1L, 3L, 2L);
+    then(updateDataProjectCountUseCase).should().correctProjectCount(2L, 0L, 1L);
+  }
+
+  @Test
+  @DisplayName("조회 중 예외가 발생해도 배치는 예외를 전파하지 않는다")
+  void reconcileProjectCountsSwallowsException() {
+    // given
+    given(reconcileDataProjectCountPort.findProjectCountDrifts(100))
+        .willThrow(new RuntimeException("DB error"));
+
+    // when
+    batchService.reconcileProjectCounts();
+
+    // then
+    then(updateDataProjectCountUseCase).shouldHaveNoInteractions();
+  }
+}
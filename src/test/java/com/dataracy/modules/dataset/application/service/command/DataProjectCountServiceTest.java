@@ -0,0 +1,112 @@
+package com.dataracy.modules.dataset.application.service.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionTaskPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.ReconcileDataProjectCountPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class DataProjectCountServiceTest {
+
+  @InjectMocks private DataProjectCountService service;
+
+  @Mock private UpdateDataProjectCountPort updateDataProjectCountDbPort;
+
+  @Mock private ReconcileDataProjectCountPort reconcileDataProjectCountPort;
+
+  @Mock private ManageDataProjectionTaskPort manageDataProjectionTaskPort;
+
+  @Nested
+  @DisplayName("연결된 프로젝트 수 증감")
+  class AdjustProjectCount {
+
+    @Test
+    @DisplayName("증가 시 중복을 제거하고 ID 오름차순으로 DB 갱신과 ES 작업 등록을 수행한다")
+    void increaseProjectCountSortsAndDeduplicates() {
+      // when
+      service.increaseProjectCount(List.of(3L, 1L, 3L));
+
+      // then
+      InOrder inOrder = inOrder(updateDataProjectCountDbPort, manageDataProjectionTaskPort);
+      inOrder.verify(updateDataProjectCountDbPort).adjustProjectCount(1L, 1);
+      inOrder.verify(manageDataProjectionTaskPort).enqueueProjectCountDelta(1L, 1);
+      inOrder.verify(updateDataProjectCountDbPort).adjustProjectCount(3L, 1);
+      inOrder.verify(manageDataProjectionTaskPort).enqueueProjectCountDelta(3L, 1);
+      inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("감소 시 null ID는 건너뛰고 1씩 감소시킨다")
+    void decreaseProjectCountSkipsNullIds() {
+      // when
+      service.decreaseProjectCount(Arrays.asList(2L, null));
+
+      // then
+      then(updateDataProjectCountDbPort).should().adjustProjectCount(2L, -1);
+      then(manageDataProjectionTaskPort).should().enqueueProjectCountDelta(2L, -1);
+      then(updateDataProjectCountDbPort).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 아무 작업도 하지 않는다")
+    void adjustProjectCountWithEmptyIds() {
+      // when
+      service.increaseProjectCount(List.of());
+      service.decreaseProjectCount(null);
+
+      // then
+      then(updateDataProjectCountDbPort).shouldHaveNoInteractions();
+      then(manageDataProjectionTaskPort).shouldHaveNoInteractions();
+    }
+  }
+
+  @Nested
+  @DisplayName("연결된 프로젝트 수 보정")
+  class CorrectProjectCount {
+
+    @Test
+    @DisplayName("보정에 성공하면 차이만큼 ES 작업을 등록한다")
+    void correctProjectCountEnqueuesDifference() {
+      // given
+      given(reconcileDataProjectCountPort.correctProjectCount(1L, 5L, 2L)).willReturn(true);
+
+      // when
+      boolean result = service.correctProjectCount(1L, 5L, 2L);
+
+      // then
+      assertThat(result).isTrue();
+      then(manageDataProjectionTaskPort).should().enqueueProjectCountDelta(1L, -3);
+    }
+
+    @Test
+    @DisplayName("조회 이후 값이 바뀌어 보정하지 못하면 ES 작업을 등록하지 않는다")
+    void correctProjectCountSkipsWhenChanged() {
+      // given
+      given(reconcileDataProjectCountPort.correctProjectCount(1L, 5L, 2L)).willReturn(false);
+
+      // when
+      boolean result = service.correctProjectCount(1L, 5L, 2L);
+
+      // then
+      assertThat(result).isFalse();
+      then(manageDataProjectionTaskPort).shouldHaveNoInteractions();
+    }
+  }
+}
@@ -38,6 +38,7 @@ import com.dataracy.modules.dataset.application.dto.response.support.DataWithPro
 import com.dataracy.modules.dataset.application.mapper.search.FilteredDataDtoMapper;
 import com.dataracy.modules.dataset.application.port.in.query.read.FindDataLabelMapUseCase;
 import com.dataracy.modules.dataset.application.port.out.query.read.FindDataPort;
+import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataIdsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchFilteredDataSetsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchRealTimeDataSetsPort;
 import com.dataracy.modules.dataset.application.port.out.query.search.SearchSimilarDataSetsPort;
@@ -60,6 +61,8 @@ class DataSearchServiceTest {
 
   @Mock private SearchFilteredDataSetsPort searchFilteredDataSetsPort;
 
+  @Mock private SearchFilteredDataIdsPort searchFilteredDataIdsPort;
+
   @Mock private SearchRealTimeDataSetsPort searchRealTimeDataSetsPort;
 
   @InjectMocks private DataSearchService service;
@@ -203,10 +206,10 @@ class DataSearchServiceTest {
   class SearchFilteredDataSetsTest {
 
     @Test
-    @DisplayName("필터링된 데이터셋 검색 성공 및 로깅 검증")
+    @DisplayName("키워드 없는 필터링된 데이터셋 검색은 DB 필터링으로 조회하고 로깅한다")
     void searchFilteredDataSetsSuccess() {
       // given
-      FilteringDataRequest request = new FilteringDataRequest("AI", "LATEST", 1L, 2L, 3L, 2023);
+      FilteringDataRequest request = new FilteringDataRequest(null, "LATEST", 1L, 2L, 3L, 2023);
       Pageable pageable = PageRequest.of(0, 10);
 
       Data data1 = createTestData(1L);
@@ -264,6 +267,7 @@ class DataSearchServiceTest {
       then(searchFilteredDataSetsPort)
           .should()
           .searchByFilters(request, pageable, DataSortType.LATEST);
+      then(searchFilteredDataIdsPort).shouldHaveNoInteractions();
       then(findDataLabelMapUseCase).should().labelMapping(List.of(wrapper1, wrapper2));
 
       // 로깅 검증
@@ -281,16 +285,16 @@ class DataSearchServiceTest {
     }
 
     @Test
-    @DisplayName("빈 결과에 대한 필터링된 데이터셋 검색")
+    @DisplayName("키워드 검색 결과가 없으면 빈 페이지를 반환한다")
     void searchFilteredDataSetsWithEmptyResult() {
       // given
       FilteringDataRequest request =
           new FilteringDataRequest("NonExistent", "LATEST", 1L, 2L, 3L, 2023);
       Pageable pageable = PageRequest.of(0, 10);
-      Page<DataWithProjectCountDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-      given(searchFilteredDataSetsPort.searchByFilters(request, pageable, DataSortType.LATEST))
-          .willReturn(emptyPage);
+      given(searchFilteredDataIdsPort.searchIdsByFilters(request, pageable, DataSortType.LATEST))
+          .willReturn(new PageImpl<>(List.of(), pageable, 0));
+      given(searchFilteredDataSetsPort.findAllByIdsInOrder(List.of())).willReturn(List.of());
       given(findDataLabelMapUseCase.labelMapping(List.of()))
           .willReturn(mock(DataLabelMapResponse.class));
 
@@ -304,9 +308,10 @@ class DataSearchServiceTest {
           () -> assertThat(result.getTotalElements()).isZero());
 
       // 포트 호출 검증
-      then(searchFilteredDataSetsPort)
+      then(searchFilteredDataIdsPort)
           .should()
-          .searchByFilters(request, pageable, DataSortType.LATEST);
+          .searchIdsByFilters(request, pageable, DataSortType.LATEST);
+      then(searchFilteredDataSetsPort).should(never()).searchByFilters(any(), any(), any());
       then(findDataLabelMapUseCase).should().labelMapping(List.of());
 
       // 로깅 검증
@@ -322,6 +327,50 @@ class DataSearchServiceTest {
               contains("필터링된 데이터셋 목록 조회 서비스 종료 keyword=" + request.keyword()),
               any(Instant.class));
     }
+
+    @Test
+    @DisplayName("키워드 검색은 검색 인덱스의 ID 순서와 전체 건수를 유지한 채 DB에서 일괄 조회한다")
+    void searchFilteredDataSetsWithKeywordUsesSearchIndex() {
+      // given
+      FilteringDataRequest request =
+          new FilteringDataRequest("AI", "DOWNLOAD", 1L, null, null, null);
+      Pageable pageable = PageRequest.of(1, 2);
+
+      Data data1 = createTestData(1L);
+      Data data2 = createTestData(2L);
+      DataWithProjectCountDto wrapper1 = new DataWithProjectCountDto(data1, 5L);
+      DataWithProjectCountDto wrapper2 = new DataWithProjectCountDto(data2, 3L);
+      FilteredDataResponse response1 = mock(FilteredDataResponse.class);
+      FilteredDataResponse response2 = mock(FilteredDataResponse.class);
+
+      given(
+              searchFilteredDataIdsPort.searchIdsByFilters(
+                  request, pageable, DataSortType.DOWNLOAD))
+          .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 25));
+      given(searchFilteredDataSetsPort.findAllByIdsInOrder(List.of(2L, 1L)))
+          .willReturn(List.of(wrapper2, wrapper1));
+      given(findDataLabelMapUseCase.labelMapping(List.of(wrapper2, wrapper1)))
+          .willReturn(
+              new DataLabelMapResponse(Map.of(), Map.of(), Map.of(), Map.of(), Map.of()));
+      given(
+              filteredDataDtoMapper.toResponseDto(
+                  eq(data1), any(), any(), any(), any(), any(), eq(5L)))
+          .willReturn(response1);
+      given(
+              filteredDataDtoMapper.toResponseDto(
+                  eq(data2), any(), any(), any(), any(), any(), eq(3L)))
+          .willReturn(response2);
+
+      // when
+      Page<FilteredDataResponse> result = service.searchFilteredDataSets(request, pageable);
+
+      // then
+      assertAll(
+          () -> assertThat(result.getContent()).containsExactly(response2, response1),
+          () -> assertThat(result.getTotalElements()).isEqualTo(25),
+          () -> assertThat(result.getNumber()).isEqualTo(1));
+      then(searchFilteredDataSetsPort).should(never()).searchByFilters(any(), any(), any());
+    }
   }
 
   @Nested
@@ -23,6 +23,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.dataset.application.dto.response.read.UserDataResponse;
 import com.dataracy.modules.dataset.application.dto.response.support.DataWithProjectCountDto;
 import com.dataracy.modules.dataset.application.mapper.read.DataReadDtoMapper;
@@ -145,4 +147,51 @@ class UserDataReadServiceTest {
         () -> assertThat(result.getContent().get(0).topicLabel()).isEqualTo("토픽1"),
         () -> assertThat(result.getContent().get(1).dataTypeLabel()).isEqualTo("타입2"));
   }
+
+  @Test
+  @DisplayName("커서 조회 시 커서를 해석해 포트에 전달하고 라벨과 커서 정보를 함께 반환한다")
+  void getUserDataSetsByCursor() {
+    // given
+    Data data = sample();
+    CreatedAtCursor cursor = new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 10L);
+    CursorPage<DataWithProjectCountDto> page =
+        new CursorPage<>(List.of(new DataWithProjectCountDto(data, 4L)), "next", true, null);
+    given(findUserDataSetsPort.findUserDataSetsByCursor(1L, cursor, 1)).willReturn(page);
+
+    given(getTopicLabelFromIdUseCase.getLabelsByIds(any()))
+        .willReturn(Map.of(data.getTopicId(), "토픽"));
+    given(getDataTypeLabelFromIdUseCase.getLabelsByIds(any()))
+        .willReturn(Map.of(data.getDataTypeId(), "타입"));
+    given(mapper.toResponseDto(any(), any(), any(), any()))
+        .willAnswer(
+            inv -> {
+              Data d = inv.getArgument(0);
+              return new UserDataResponse(
+                  d.getId(),
+                  d.getTitle(),
+                  inv.getArgument(1),
+                  inv.getArgument(2),
+                  null,
+                  null,
+                  d.getDataThumbnailUrl(),
+                  1,
+                  d.getUserId(),
+                  1,
+                  1,
+                  LocalDateTime.now(),
+                  inv.getArgument(3));
+            });
+
+    // when
+    CursorPage<UserDataResponse> result =
+        service.findUserDataSetsByCursor(1L, cursor.encode(), 1);
+
+    // then
+    assertAll(
+        () -> assertThat(result.content()).hasSize(1),
+        () -> assertThat(result.content().get(0).topicLabel()).isEqualTo("토픽"),
+        () -> assertThat(result.content().get(0).countConnectedProjects()).isEqualTo(4L),
+        () -> assertThat(result.nextCursor()).isEqualTo("next"),
+        () -> assertThat(result.hasNext()).isTrue());
+  }
 }
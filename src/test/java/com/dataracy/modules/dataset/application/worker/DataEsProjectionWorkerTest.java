@@ -4,6 +4,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,11 +17,13 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageRequest;
 
+import com.dataracy.modules.common.support.metrics.ProjectionQueueMetrics;
 import com.dataracy.modules.dataset.adapter.jpa.entity.DataEsProjectionTaskEntity;
 import com.dataracy.modules.dataset.application.port.out.command.delete.SoftDeleteDataPort;
 import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionDlqPort;
 import com.dataracy.modules.dataset.application.port.out.command.projection.ManageDataProjectionTaskPort;
 import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataDownloadPort;
+import com.dataracy.modules.dataset.application.port.out.command.update.UpdateDataProjectCountPort;
 import com.dataracy.modules.dataset.application.port.out.query.projection.LoadDataProjectionTaskPort;
 import com.dataracy.modules.dataset.domain.enums.DataEsProjectionType;
 
@@ -40,6 +43,10 @@ class DataEsProjectionWorkerTest {
 
   @Mock private UpdateDataDownloadPort dlPort;
 
+  @Mock private UpdateDataProjectCountPort projectCountPort;
+
+  @Mock private ProjectionQueueMetrics projectionQueueMetrics;
+
   @BeforeEach
   void setUp() {
     // Self-injection 설정 (Spring AOP 프록시를 통한 @Transactional 및 @DistributedLock 작동을 위함)
@@ -52,6 +59,7 @@ class DataEsProjectionWorkerTest {
     e.setDataId(dataId);
     e.setSetDeleted(deleted);
     e.setDeltaDownload(delta);
+    e.setDeltaProjectCount(0);
     e.setRetryCount(0);
     e.setStatus(DataEsProjectionType.PENDING);
     e.setNextRunAt(LocalDateTime.now());
@@ -83,9 +91,27 @@ class DataEsProjectionWorkerTest {
 
     // then
     then(dlPort).should().increaseDownloadCount(11L);
+    then(softDeletePort).shouldHaveNoInteractions();
     then(taskPort).should().delete(2L);
   }
 
+  @Test
+  @DisplayName("프로젝트 수 증감 작업 처리 성공 → projectCountPort 호출 후 task 삭제")
+  void processTaskSuccessProjectCount() {
+    // given
+    DataEsProjectionTaskEntity t = task(6L, 15L, false, 0);
+    t.setDeltaProjectCount(-1);
+
+    // when
+    worker.processTask(t);
+
+    // then
+    then(projectCountPort).should().adjustProjectCount(15L, -1);
+    then(softDeletePort).shouldHaveNoInteractions();
+    then(dlPort).shouldHaveNoInteractions();
+    then(taskPort).should().delete(6L);
+  }
+
   @Test
   @DisplayName("작업 실패 + 재시도 초과 → DLQ 저장 후 task 삭제")
   void processTaskFailureMovesToDlqAfterMaxRetry() {
@@ -98,26 +124,56 @@ class DataEsProjectionWorkerTest {
     worker.processTask(t);
 
     // then
-    then(dlqPort).should().save(eq(12L), anyInt(), any(), any());
+    then(dlqPort).should().save(eq(12L), anyInt(), anyInt(), any(), any());
     then(taskPort).should().delete(3L);
   }
 
   @Test
-  @DisplayName("run 호출 시 LoadPort → processTask 실행 후 taskPort 삭제 확인")
-  void runShouldLoadAndProcess() throws InterruptedException {
+  @DisplayName("작업 실패 + 재시도 가능 → RETRYING 상태로 갱신")
+  void processTaskFailureMarksRetry() {
+    // given
+    DataEsProjectionTaskEntity t = task(5L, 14L, true, 0);
+    willThrow(new RuntimeException("fail")).given(softDeletePort).deleteData(14L);
+
+    // when
+    worker.processTask(t);
+
+    // then
+    then(taskPort).should().markRetry(eq(5L), eq(1), eq("fail"), any(LocalDateTime.class));
+    then(taskPort).should(never()).delete(5L);
+    then(dlqPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("run 호출 시 작업 선점 → processTask 실행 후 task 삭제")
+  void runShouldClaimAndProcess() {
     // given
     DataEsProjectionTaskEntity t = task(4L, 13L, true, 0);
-    given(loadPort.findBatchForWork(any(), any(), any(PageRequest.class))).willReturn(List.of(t));
+    given(loadPort.claimBatchForWork(any(), any(), any(PageRequest.class), any()))
+        .willReturn(List.of(t));
 
     // when
     worker.run();
 
-    // 비동기 작업 완료 대기
-    Thread.sleep(100);
-
     // then
-    then(loadPort).should().findBatchForWork(any(), any(), any(PageRequest.class));
+    then(loadPort).should().claimBatchForWork(any(), any(), any(PageRequest.class), any());
     then(softDeletePort).should().deleteData(13L);
     then(taskPort).should().delete(4L);
+    then(projectionQueueMetrics).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("recordQueueMetrics 호출 시 큐 적체 메트릭 갱신")
+  void recordQueueMetricsShouldRecordDepthAndOldest() {
+    // given
+    LocalDateTime oldest = LocalDateTime.now().minusSeconds(10);
+    given(loadPort.countQueued()).willReturn(1L);
+    given(loadPort.findOldestQueuedAt()).willReturn(Optional.of(oldest));
+
+    // when
+    worker.recordQueueMetrics();
+
+    // then
+    then(projectionQueueMetrics).should().record("data", 1L, oldest);
   }
 }
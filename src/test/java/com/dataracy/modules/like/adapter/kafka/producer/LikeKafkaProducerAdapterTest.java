@@ -1,9 +1,12 @@
 package com.dataracy.modules.like.adapter.kafka.producer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,18 +27,15 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.dataracy.modules.common.logging.KafkaLogger;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
 
 @ExtendWith(MockitoExtension.class)
 class LikeKafkaProducerAdapterTest {
 
-  // Test constants
-  private static final Integer CURRENT_YEAR = 2024;
+  private static final String TOPIC = "like-events";
+  private static final Long USER_ID = 7L;
 
-  // Test constants
-  private static final Long TEST_ID_1 = 1L;
-  private static final Long TEST_ID_2 = 2L;
-
-  @Mock private KafkaTemplate<String, Long> kafkaTemplate;
+  @Mock private KafkaTemplate<String, LikeEvent> likeEventKafkaTemplate;
 
   @Mock private KafkaLogger kafkaLogger;
 
@@ -42,126 +43,92 @@ class LikeKafkaProducerAdapterTest {
 
   @BeforeEach
   void setUp() {
-    adapter = new LikeKafkaProducerAdapter(kafkaTemplate);
-    ReflectionTestUtils.setField(
-        adapter, "topicProjectLikeIncrease", "project-like-increase-topic");
-    ReflectionTestUtils.setField(
-        adapter, "topicProjectLikeDecrease", "project-like-decrease-topic");
-    ReflectionTestUtils.setField(
-        adapter, "topicCommentLikeIncrease", "comment-like-increase-topic");
-    ReflectionTestUtils.setField(
-        adapter, "topicCommentLikeDecrease", "comment-like-decrease-topic");
+    adapter = new LikeKafkaProducerAdapter(likeEventKafkaTemplate);
+    ReflectionTestUtils.setField(adapter, "topicLikeEvent", TOPIC);
   }
 
   @Test
-  @DisplayName("프로젝트 좋아요 이벤트 발행 성공")
+  @DisplayName("프로젝트 좋아요 이벤트를 대상 키로 단일 토픽에 발행")
   void sendProjectLikeEventSuccess() {
     // given
-    Long projectId = 1L;
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, Long>> future = new CompletableFuture<>();
-    future.complete(mock(SendResult.class));
-
-    willReturn(future)
-        .given(kafkaTemplate)
-        .send(eq("project-like-increase-topic"), eq("1"), eq(1L));
-
-    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
-      loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
-
-      // when
-      adapter.sendLikeEvent(TargetType.PROJECT, projectId, false);
-
-      // then
-      then(kafkaTemplate).should().send("project-like-increase-topic", "1", 1L);
-      then(kafkaLogger)
-          .should()
-          .logProduce("project-like-increase-topic", "프로젝트 좋아요 이벤트 발송됨: projectId=1");
-    }
-  }
-
-  @Test
-  @DisplayName("프로젝트 좋아요 취소 이벤트 발행 성공")
-  void sendProjectLikeDecreaseEventSuccess() {
-    // given
-    Long projectId = TEST_ID_1;
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, Long>> future = new CompletableFuture<>();
-    future.complete(mock(SendResult.class));
-
-    willReturn(future)
-        .given(kafkaTemplate)
-        .send(eq("project-like-decrease-topic"), eq("1"), eq(TEST_ID_1));
+    givenSendCompletes(null);
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.sendLikeEvent(TargetType.PROJECT, projectId, true);
+      adapter.sendLikeEvent(TargetType.PROJECT, 1L, USER_ID, false);
 
       // then
-      then(kafkaTemplate).should().send("project-like-decrease-topic", "1", TEST_ID_1);
-      then(kafkaLogger)
-          .should()
-          .logProduce("project-like-decrease-topic", "프로젝트 좋아요 취소 이벤트 발송됨: projectId=1");
+      LikeEvent event = captureSentEvent("PROJECT:1");
+      assertAll(
+          () -> assertThat(event.targetType()).isEqualTo(TargetType.PROJECT),
+          () -> assertThat(event.targetId()).isEqualTo(1L),
+          () -> assertThat(event.delta()).isEqualTo(1),
+          () -> assertThat(event.userId()).isEqualTo(USER_ID));
+      then(kafkaLogger).should().logProduce(TOPIC, "프로젝트 좋아요 이벤트 발송됨: key=PROJECT:1");
     }
   }
 
   @Test
-  @DisplayName("댓글 좋아요 이벤트 발행 성공")
-  void sendCommentLikeEventSuccess() {
+  @DisplayName("댓글 좋아요 취소 이벤트는 음수 변경분으로 발행")
+  void sendCommentUnlikeEventSuccess() {
     // given
-    Long commentId = TEST_ID_2;
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, Long>> future = new CompletableFuture<>();
-    future.complete(mock(SendResult.class));
-
-    willReturn(future)
-        .given(kafkaTemplate)
-        .send(eq("comment-like-increase-topic"), eq("2"), eq(TEST_ID_2));
+    givenSendCompletes(null);
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.sendLikeEvent(TargetType.COMMENT, commentId, false);
+      adapter.sendLikeEvent(TargetType.COMMENT, 2L, USER_ID, true);
 
       // then
-      then(kafkaTemplate).should().send("comment-like-increase-topic", "2", TEST_ID_2);
-      then(kafkaLogger)
-          .should()
-          .logProduce("comment-like-increase-topic", "댓글 좋아요 이벤트 발송됨: commentId=2");
+      LikeEvent event = captureSentEvent("COMMENT:2");
+      assertAll(
+          () -> assertThat(event.targetType()).isEqualTo(TargetType.COMMENT),
+          () -> assertThat(event.delta()).isEqualTo(-1));
+      then(kafkaLogger).should().logProduce(TOPIC, "댓글 좋아요 취소 이벤트 발송됨: key=COMMENT:2");
     }
   }
 
   @Test
-  @DisplayName("댓글 좋아요 취소 이벤트 발행 실패 시 에러 로깅")
-  void sendCommentLikeDecreaseEventFailure() {
+  @DisplayName("좋아요 이벤트 발행 실패 시 에러 로깅")
+  void sendLikeEventFailure() {
     // given
-    Long commentId = 999L;
-    @SuppressWarnings("unchecked")
-    CompletableFuture<SendResult<String, Long>> future = new CompletableFuture<>();
     RuntimeException exception = new RuntimeException("Kafka connection failed");
-    future.completeExceptionally(exception);
-
-    willReturn(future)
-        .given(kafkaTemplate)
-        .send(eq("comment-like-decrease-topic"), eq("999"), eq(999L));
+    givenSendCompletes(exception);
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.sendLikeEvent(TargetType.COMMENT, commentId, true);
+      adapter.sendLikeEvent(TargetType.COMMENT, 999L, USER_ID, true);
 
       // then
-      then(kafkaTemplate).should().send("comment-like-decrease-topic", "999", 999L);
       then(kafkaLogger)
           .should()
           .logError(
-              eq("comment-like-decrease-topic"),
-              eq("댓글 좋아요 취소 이벤트 발송 처리 실패: commentId=999"),
+              eq(TOPIC),
+              eq("댓글 좋아요 취소 이벤트 발송 처리 실패: key=COMMENT:999"),
               any(RuntimeException.class));
     }
   }
+
+  @SuppressWarnings("unchecked")
+  private void givenSendCompletes(Throwable failure) {
+    CompletableFuture<SendResult<String, LikeEvent>> future = new CompletableFuture<>();
+    if (failure == null) {
+      future.complete(mock(SendResult.class));
+    } else {
+      future.completeExceptionally(failure);
+    }
+    given(likeEventKafkaTemplate.send(eq(TOPIC), anyString(), any(LikeEvent.class)))
+        .willReturn(future);
+  }
+
+  private LikeEvent captureSentEvent(String expectedKey) {
+    ArgumentCaptor<LikeEvent> captor = ArgumentCaptor.forClass(LikeEvent.class);
+    then(likeEventKafkaTemplate).should().send(eq(TOPIC), eq(expectedKey), captor.capture());
+    return captor.getValue();
+  }
 }
@@ -0,0 +1,60 @@
+package com.dataracy.modules.like.adapter.kafka.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+
+class LikeEventSerializerTest {
+
+  private final LikeEventSerializer serializer = new LikeEventSerializer();
+  private final LikeEventDeserializer deserializer = new LikeEventDeserializer();
+
+  @Test
+  @DisplayName("좋아요 이벤트를 고정 길이로 직렬화하고 그대로 역직렬화한다")
+  void roundTrip() {
+    // given
+    LikeEvent event = new LikeEvent(TargetType.COMMENT, 12L, -1, 34L, 1_700_000_000_000L);
+
+    // when
+    byte[] bytes = serializer.serialize("like-events", event);
+    LikeEvent restored = deserializer.deserialize("like-events", bytes);
+
+    // then
+    assertThat(bytes).hasSize(LikeEventSerializer.SIZE);
+    assertThat(restored).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("사용자 ID가 없으면 null로 복원한다")
+  void roundTripWithoutUser() {
+    // given
+    LikeEvent event = new LikeEvent(TargetType.PROJECT, 1L, 1, null, 0L);
+
+    // when
+    LikeEvent restored = deserializer.deserialize("like-events", serializer.serialize("t", event));
+
+    // then
+    assertThat(restored).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("길이나 버전이 맞지 않으면 SerializationException을 던진다")
+  void rejectsMalformedPayload() {
+    // given
+    byte[] bytes =
+        serializer.serialize("t", new LikeEvent(TargetType.PROJECT, 1L, 1, 2L, 3L)).clone();
+    bytes[0] = 9;
+
+    // when & then
+    assertThatThrownBy(() -> deserializer.deserialize("t", bytes))
+        .isInstanceOf(SerializationException.class);
+    assertThatThrownBy(() -> deserializer.deserialize("t", new byte[] {1, 2}))
+        .isInstanceOf(SerializationException.class);
+  }
+}
@@ -74,7 +74,7 @@ class LikeCommandServiceTest {
           () -> assertThat(saved.getTargetType()).isEqualTo(TargetType.PROJECT),
           () -> assertThat(saved.getUserId()).isEqualTo(userId));
 
-      then(sendLikeEventPort).should().sendLikeEvent(TargetType.PROJECT, targetId, false);
+      then(sendLikeEventPort).should().sendLikeEvent(TargetType.PROJECT, targetId, userId, false);
     }
 
     @Test
@@ -91,7 +91,7 @@ class LikeCommandServiceTest {
       // then
       assertThat(result).isEqualTo(TargetType.COMMENT);
       then(likeCommandPort).should().cancelLike(9L, TEST_ID, TargetType.COMMENT);
-      then(sendLikeEventPort).should().sendLikeEvent(TargetType.COMMENT, TEST_ID, true);
+      then(sendLikeEventPort).should().sendLikeEvent(TargetType.COMMENT, TEST_ID, 9L, true);
     }
 
     @Test
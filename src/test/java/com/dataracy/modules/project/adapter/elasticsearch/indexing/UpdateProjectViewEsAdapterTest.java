@@ -4,13 +4,17 @@ import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -21,6 +25,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dataracy.modules.common.exception.EsUpdateException;
 import com.dataracy.modules.common.logging.ElasticLogger;
@@ -28,6 +33,10 @@ import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.project.application.dto.document.ProjectSearchDocument;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateProjectViewEsAdapterTest {
@@ -106,13 +115,14 @@ class UpdateProjectViewEsAdapterTest {
   }
 
   @Test
-  @DisplayName("배치 조회수 증가 성공 시 정상 동작")
+  @DisplayName("배치 조회수 증가 성공 시 _bulk 요청 한 번으로 처리")
   void increaseViewCountBatchSuccess() throws IOException {
     // given
     Map<Long, Long> viewCountUpdates = new HashMap<>();
     viewCountUpdates.put(1L, 3L);
     viewCountUpdates.put(2L, 5L);
     viewCountUpdates.put(3L, 2L);
+    given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse());
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
@@ -121,12 +131,38 @@ class UpdateProjectViewEsAdapterTest {
       adapter.increaseViewCountBatch(viewCountUpdates);
 
       // then
+      then(elasticsearchClient).should(times(1)).bulk(any(BulkRequest.class));
       then(elasticsearchClient)
-          .should(times(3))
+          .should(never())
           .update(any(Function.class), eq(ProjectSearchDocument.class));
       then(elasticLogger)
           .should()
-          .logUpdate("project_index", "배치 처리", "프로젝트 viewCount 배치 업데이트 완료. 처리된 프로젝트 수: 3");
+          .logUpdate(
+              "project_index",
+              "배치 처리",
+              "프로젝트 viewCount 벌크 업데이트 완료. 요청 프로젝트 수: 3, 실패 프로젝트 수: 0");
+    }
+  }
+
+  @Test
+  @DisplayName("청크 크기를 넘으면 여러 번의 _bulk 요청으로 나눠 전송")
+  void increaseViewCountBatchSplitsIntoChunks() throws IOException {
+    // given
+    ReflectionTestUtils.setField(adapter, "bulkChunkSize", 2);
+    Map<Long, Long> viewCountUpdates = new HashMap<>();
+    viewCountUpdates.put(1L, 3L);
+    viewCountUpdates.put(2L, 5L);
+    viewCountUpdates.put(3L, 2L);
+    given(elasticsearchClient.bulk(any(BulkRequest.class))).willReturn(bulkResponse());
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      adapter.increaseViewCountBatch(viewCountUpdates);
+
+      // then
+      then(elasticsearchClient).should(times(2)).bulk(any(BulkRequest.class));
     }
   }
 
@@ -172,17 +208,28 @@ class UpdateProjectViewEsAdapterTest {
   }
 
   @Test
-  @DisplayName("배치 처리 중 일부 실패해도 계속 진행")
-  void increaseViewCountBatchWithPartialFailure() throws IOException {
+  @DisplayName("벌크 응답에서 실패한 항목만 경고로 기록하고 실패 수를 집계")
+  void increaseViewCountBatchLogsOnlyFailedItems() throws IOException {
     // given
     Map<Long, Long> viewCountUpdates = new HashMap<>();
     viewCountUpdates.put(1L, 3L);
     viewCountUpdates.put(2L, 5L);
-
-    IOException ioException = new IOException("Partial failure");
-    willThrow(ioException)
-        .given(elasticsearchClient)
-        .update(any(Function.class), eq(ProjectSearchDocument.class));
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(
+            bulkResponse(
+                BulkResponseItem.of(
+                    i ->
+                        i.operationType(OperationType.Update)
+                            .index("project_index")
+                            .id("1")
+                            .status(200)),
+                BulkResponseItem.of(
+                    i ->
+                        i.operationType(OperationType.Update)
+                            .index("project_index")
+                            .id("2")
+                            .status(429)
+                            .error(e -> e.type("rejected_execution").reason("busy")))));
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
@@ -191,39 +238,52 @@ class UpdateProjectViewEsAdapterTest {
       adapter.increaseViewCountBatch(viewCountUpdates);
 
       // then
-      // 개별 실패가 전체에 영향을 주지 않으므로 계속 진행되어야 함
-      then(elasticsearchClient)
-          .should(times(2))
-          .update(any(Function.class), eq(ProjectSearchDocument.class));
-      // increaseViewCount에서 IOException 로깅 (2번)
-      then(elasticLogger)
-          .should()
-          .logError(
-              eq("project_index"),
-              eq("프로젝트 viewCount 증분 업데이트 실패 - projectId=1"),
-              any(IOException.class));
       then(elasticLogger)
           .should()
-          .logError(
-              eq("project_index"),
-              eq("프로젝트 viewCount 증분 업데이트 실패 - projectId=2"),
-              any(IOException.class));
-      // increaseViewCountBatch에서 EsUpdateException 로깅 (2번)
+          .logWarning("project_index", "벌크 처리 중 프로젝트 viewCount 업데이트 실패 - projectId=2, reason=busy");
       then(elasticLogger)
           .should()
-          .logError(
-              eq("project_index"),
-              eq("배치 처리 중 개별 프로젝트 업데이트 실패 - projectId=1"),
-              any(Exception.class));
+          .logUpdate(
+              "project_index",
+              "배치 처리",
+              "프로젝트 viewCount 벌크 업데이트 완료. 요청 프로젝트 수: 2, 실패 프로젝트 수: 1");
+    }
+  }
+
+  @Test
+  @DisplayName("벌크 요청 자체가 실패하면 청크의 모든 항목을 실패로 집계하고 예외는 전파하지 않음")
+  void increaseViewCountBatchWithIOException() throws IOException {
+    // given
+    Map<Long, Long> viewCountUpdates = new HashMap<>();
+    viewCountUpdates.put(1L, 3L);
+    viewCountUpdates.put(2L, 5L);
+    IOException ioException = new IOException("connection reset");
+    willThrow(ioException).given(elasticsearchClient).bulk(any(BulkRequest.class));
+
+    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
+      loggerFactoryMock.when(LoggerFactory::elastic).thenReturn(elasticLogger);
+
+      // when
+      adapter.increaseViewCountBatch(viewCountUpdates);
+
+      // then
       then(elasticLogger)
           .should()
           .logError(
               eq("project_index"),
-              eq("배치 처리 중 개별 프로젝트 업데이트 실패 - projectId=2"),
-              any(Exception.class));
+              eq("프로젝트 viewCount 벌크 요청 실패 - 청크 크기=2"),
+              eq(ioException));
       then(elasticLogger)
           .should()
-          .logUpdate("project_index", "배치 처리", "프로젝트 viewCount 배치 업데이트 완료. 처리된 프로젝트 수: 2");
+          .logUpdate(
+              "project_index",
+              "배치 처리",
+              "프로젝트 viewCount 벌크 업데이트 완료. 요청 프로젝트 수: 2, 실패 프로젝트 수: 2");
     }
   }
+
+  private BulkResponse bulkResponse(BulkResponseItem... items) {
+    boolean errors = Arrays.stream(items).anyMatch(item -> item.error() != null);
+    return BulkResponse.of(b -> b.errors(errors).took(1L).items(List.of(items)));
+  }
 }
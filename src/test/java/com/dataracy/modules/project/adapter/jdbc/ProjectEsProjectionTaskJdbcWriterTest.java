@@ -0,0 +1,114 @@
+package com.dataracy.modules.project.adapter.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dataracy.modules.project.adapter.jdbc.ProjectEsProjectionTaskJdbcWriter.TaskRow;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProjectEsProjectionTaskJdbcWriterTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @InjectMocks private ProjectEsProjectionTaskJdbcWriter writer;
+
+  @Captor private ArgumentCaptor<String> sqlCaptor;
+
+  @Captor private ArgumentCaptor<List<Object[]>> mergeArgsCaptor;
+
+  @Test
+  @DisplayName("insertAll - 청크 크기를 넘으면 청크마다 multi-row INSERT 한 번을 실행한다")
+  void insertAllSplitsRowsIntoChunks() {
+    // given
+    List<TaskRow> rows =
+        LongStream.rangeClosed(1, ProjectEsProjectionTaskJdbcWriter.CHUNK_SIZE + 1)
+            .mapToObj(id -> TaskRow.delta(id, 1, 0, 0L))
+            .toList();
+
+    // when
+    writer.insertAll(rows);
+
+    // then
+    then(jdbcTemplate).should(times(2)).update(sqlCaptor.capture(), any(Object[].class));
+    assertThat(sqlCaptor.getAllValues().get(0))
+        .containsOnlyOnce("values (?")
+        .contains("(?, ?, ?, ?, ?, ?, 0, ?, ?, ?), (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)");
+    assertThat(sqlCaptor.getAllValues().get(1)).endsWith("values (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)");
+  }
+
+  @Test
+  @DisplayName("upsertDeltas - 대기 작업에 병합된 프로젝트는 새 행으로 추가하지 않는다")
+  void upsertDeltasInsertsOnlyUnmergedRows() {
+    // given
+    given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 0});
+
+    // when
+    writer.upsertDeltas(List.of(TaskRow.delta(1L, 0, 0, 3L), TaskRow.delta(2L, 0, 0, 5L)));
+
+    // then
+    then(jdbcTemplate).should().update(sqlCaptor.capture(), any(Object[].class));
+    assertThat(sqlCaptor.getValue()).endsWith("values (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)");
+  }
+
+  @Test
+  @DisplayName("upsertDeltas - 모든 프로젝트가 병합되면 INSERT를 실행하지 않는다")
+  void upsertDeltasSkipsInsertWhenAllMerged() {
+    // given
+    given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 1});
+
+    // when
+    writer.upsertDeltas(List.of(TaskRow.delta(1L, 1, 0, 0L), TaskRow.delta(2L, 0, 1, 0L)));
+
+    // then
+    then(jdbcTemplate).should(never()).update(anyString(), any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("upsertDeltas - 같은 프로젝트의 델타는 합산하고 합이 0이면 무시한다")
+  void upsertDeltasCoalescesByProject() {
+    // given
+    given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1});
+
+    // when
+    writer.upsertDeltas(
+        List.of(
+            TaskRow.delta(1L, 1, 0, 0L),
+            TaskRow.delta(2L, 0, 1, 0L),
+            TaskRow.delta(1L, 2, 1, 0L),
+            TaskRow.delta(2L, 0, -1, 0L)));
+
+    // then
+    then(jdbcTemplate).should().batchUpdate(anyString(), mergeArgsCaptor.capture());
+    List<Object[]> mergeArgs = mergeArgsCaptor.getValue();
+    assertThat(mergeArgs).hasSize(1);
+    assertThat(mergeArgs.get(0)[0]).isEqualTo(3);
+    assertThat(mergeArgs.get(0)[1]).isEqualTo(1);
+    assertThat(mergeArgs.get(0)[4]).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("upsertDeltas - 델타가 모두 0이면 아무것도 실행하지 않는다")
+  void upsertDeltasWithZeroDeltasDoesNothing() {
+    // when
+    writer.upsertDeltas(List.of(TaskRow.delta(1L, 0, 0, 0L)));
+
+    // then
+    then(jdbcTemplate).shouldHaveNoInteractions();
+  }
+}
@@ -16,8 +16,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import com.dataracy.modules.project.adapter.jpa.entity.ProjectEsProjectionTaskEntity;
+import com.dataracy.modules.project.adapter.jdbc.ProjectEsProjectionTaskJdbcWriter;
+import com.dataracy.modules.project.adapter.jdbc.ProjectEsProjectionTaskJdbcWriter.TaskRow;
 import com.dataracy.modules.project.adapter.jpa.repository.ProjectEsProjectionTaskRepository;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
 
 /** ManageProjectEsProjectionTaskDbAdapter 테스트 */
 @ExtendWith(MockitoExtension.class)
@@ -32,12 +34,11 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
 
   @Mock private ProjectEsProjectionTaskRepository projectEsProjectionTaskRepository;
 
+  @Mock private ProjectEsProjectionTaskJdbcWriter projectEsProjectionTaskJdbcWriter;
+
   @BeforeEach
   void setUp() {
     // 기본 mock 설정
-    given(projectEsProjectionTaskRepository.save(any(ProjectEsProjectionTaskEntity.class)))
-        .willReturn(ProjectEsProjectionTaskEntity.builder().id(1L).build());
-    given(projectEsProjectionTaskRepository.saveAll(anyList())).willReturn(List.of());
     willDoNothing().given(projectEsProjectionTaskRepository).deleteImmediate(anyLong());
   }
 
@@ -52,7 +53,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueCommentDelta(projectId, deltaComment);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.delta(projectId, deltaComment, 0, 0L)));
   }
 
   @Test
@@ -66,7 +69,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueCommentDelta(projectId, deltaComment);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.delta(projectId, deltaComment, 0, 0L)));
   }
 
   @Test
@@ -80,7 +85,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueLikeDelta(projectId, deltaLike);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.delta(projectId, 0, deltaLike, 0L)));
   }
 
   @Test
@@ -94,7 +101,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueLikeDelta(projectId, deltaLike);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.delta(projectId, 0, deltaLike, 0L)));
   }
 
   @Test
@@ -108,7 +117,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDelta(projectId, deltaView);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .upsertDeltas(List.of(TaskRow.delta(projectId, 0, 0, deltaView)));
   }
 
   @Test
@@ -122,7 +133,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDelta(projectId, deltaView);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .upsertDeltas(List.of(TaskRow.delta(projectId, 0, 0, deltaView)));
   }
 
   @Test
@@ -136,7 +149,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueSetDeleted(projectId, deleted);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.setDeleted(projectId, deleted)));
   }
 
   @Test
@@ -150,7 +165,9 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueSetDeleted(projectId, deleted);
 
     // then
-    then(projectEsProjectionTaskRepository).should().save(any(ProjectEsProjectionTaskEntity.class));
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.setDeleted(projectId, deleted)));
   }
 
   @Test
@@ -179,7 +196,7 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDeltaBatch(viewCountUpdates);
 
     // then
-    then(projectEsProjectionTaskRepository).should().saveAll(anyList());
+    then(projectEsProjectionTaskJdbcWriter).should().upsertDeltas(anyList());
   }
 
   @Test
@@ -193,7 +210,7 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDeltaBatch(viewCountUpdates);
 
     // then
-    then(projectEsProjectionTaskRepository).should().saveAll(anyList());
+    then(projectEsProjectionTaskJdbcWriter).should().upsertDeltas(anyList());
   }
 
   @Test
@@ -206,7 +223,7 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDeltaBatch(viewCountUpdates);
 
     // then
-    then(projectEsProjectionTaskRepository).should(never()).saveAll(anyList());
+    then(projectEsProjectionTaskJdbcWriter).shouldHaveNoInteractions();
   }
 
   @Test
@@ -222,7 +239,13 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDeltaBatch(viewCountUpdates);
 
     // then
-    then(projectEsProjectionTaskRepository).should().saveAll(anyList());
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .upsertDeltas(
+            argThat(
+                rows ->
+                    rows.size() == 2
+                        && rows.stream().noneMatch(row -> row.projectId().equals(2L))));
   }
 
   @Test
@@ -238,6 +261,23 @@ class ManageProjectEsProjectionTaskDbAdapterTest {
     manageProjectEsProjectionTaskDbAdapter.enqueueViewDeltaBatch(viewCountUpdates);
 
     // then
-    then(projectEsProjectionTaskRepository).should().saveAll(anyList());
+    then(projectEsProjectionTaskJdbcWriter).should().upsertDeltas(anyList());
+  }
+
+  @Test
+  @DisplayName("배치 댓글/좋아요 델타 큐잉 - 대기 작업과 병합하지 않고 INSERT")
+  void enqueueCountDeltaBatchInsertsWithoutMerging() {
+    // given
+    List<ProjectCountDelta> countDeltas =
+        List.of(new ProjectCountDelta(1L, 2, 0), new ProjectCountDelta(2L, 0, -3));
+
+    // when
+    manageProjectEsProjectionTaskDbAdapter.enqueueCountDeltaBatch(countDeltas);
+
+    // then
+    then(projectEsProjectionTaskJdbcWriter)
+        .should()
+        .insertAll(List.of(TaskRow.delta(1L, 2, 0, 0L), TaskRow.delta(2L, 0, -3, 0L)));
+    then(projectEsProjectionTaskJdbcWriter).should(never()).upsertDeltas(anyList());
   }
 }
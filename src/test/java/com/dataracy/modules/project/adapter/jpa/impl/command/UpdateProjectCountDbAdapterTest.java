@@ -0,0 +1,78 @@
+package com.dataracy.modules.project.adapter.jpa.impl.command;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
+/** UpdateProjectCountDbAdapter 테스트 */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class UpdateProjectCountDbAdapterTest {
+
+  @InjectMocks private UpdateProjectCountDbAdapter adapter;
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Captor private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+  @BeforeEach
+  void setUp() {
+    given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1, 1});
+
+    // @Value로 주입되는 청크 크기 설정
+    ReflectionTestUtils.setField(adapter, "chunkSize", 2);
+  }
+
+  @Test
+  @DisplayName("변경분을 프로젝트 ID 순으로 정렬해 청크 단위 JDBC 배치로 반영")
+  void applyCountDeltasRunsSortedChunkedBatches() {
+    // when
+    adapter.applyCountDeltas(
+        List.of(
+            new ProjectCountDelta(3L, 1, 0),
+            new ProjectCountDelta(1L, 2, 0),
+            new ProjectCountDelta(2L, -1, 3)));
+
+    // then
+    then(jdbcTemplate)
+        .should(times(2))
+        .batchUpdate(
+            eq(
+                "update project set comment_count = GREATEST(comment_count + ?, 0), "
+                    + "like_count = GREATEST(like_count + ?, 0) where project_id = ?"),
+            argsCaptor.capture());
+    List<List<Object[]>> chunks = argsCaptor.getAllValues();
+    assertThat(chunks.get(0)).containsExactly(new Object[] {2, 0, 1L}, new Object[] {-1, 3, 2L});
+    assertThat(chunks.get(1)).containsExactly(new Object[] {1, 0, 3L});
+  }
+
+  @Test
+  @DisplayName("변경분이 없으면 쿼리를 실행하지 않음")
+  void applyCountDeltasWhenEmpty() {
+    // when
+    adapter.applyCountDeltas(List.of());
+
+    // then
+    then(jdbcTemplate).shouldHaveNoInteractions();
+  }
+}
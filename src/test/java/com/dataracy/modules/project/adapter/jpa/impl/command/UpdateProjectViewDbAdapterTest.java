@@ -1,28 +1,33 @@
 package com.dataracy.modules.project.adapter.jpa.impl.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.common.support.metrics.ViewCountFlushMetrics;
 import com.dataracy.modules.project.adapter.jpa.repository.ProjectJpaRepository;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
-
 /** UpdateProjectViewDbAdapter 테스트 */
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -32,21 +37,20 @@ class UpdateProjectViewDbAdapterTest {
 
   @Mock private ProjectJpaRepository projectJpaRepository;
 
-  @Mock private EntityManager entityManager;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Mock private ViewCountFlushMetrics viewCountFlushMetrics;
 
-  @Mock private Query query;
+  @Captor private ArgumentCaptor<List<Object[]>> argsCaptor;
 
   @BeforeEach
   void setUp() {
     // 기본 mock 설정
     willDoNothing().given(projectJpaRepository).increaseViewCount(anyLong(), anyLong());
+    given(jdbcTemplate.batchUpdate(anyString(), anyList())).willReturn(new int[] {1});
 
-    // 모든 테스트에서 사용할 기본 mock 설정
-    given(entityManager.createNativeQuery(anyString())).willReturn(query);
-    given(query.executeUpdate()).willReturn(1);
-
-    // @PersistenceContext로 주입되는 EntityManager를 mock으로 설정
-    ReflectionTestUtils.setField(updateProjectViewDbAdapter, "entityManager", entityManager);
+    // @Value로 주입되는 청크 크기 설정
+    ReflectionTestUtils.setField(updateProjectViewDbAdapter, "chunkSize", 2);
   }
 
   @Test
@@ -64,20 +68,24 @@ class UpdateProjectViewDbAdapterTest {
   }
 
   @Test
-  @DisplayName("배치 조회수 증가 성공 - 여러 프로젝트")
+  @DisplayName("배치 조회수 증가 성공 - 청크 크기를 넘으면 청크마다 JDBC 배치를 실행하고 시간을 기록한다")
   void increaseViewCountBatchWithMultipleProjectsReturnsSuccess() {
     // given
     Map<Long, Long> viewCountUpdates = new HashMap<>();
+    viewCountUpdates.put(3L, 2L);
     viewCountUpdates.put(1L, 3L);
     viewCountUpdates.put(2L, 5L);
-    viewCountUpdates.put(3L, 2L);
 
     // when
     updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
 
     // then
-    then(entityManager).should().createNativeQuery(anyString());
-    then(query).should().executeUpdate();
+    then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), argsCaptor.capture());
+    List<List<Object[]>> chunks = argsCaptor.getAllValues();
+    assertThat(chunks.get(0)).containsExactly(new Object[] {3L, 1L}, new Object[] {5L, 2L});
+    assertThat(chunks.get(1)).containsExactly(new Object[] {2L, 3L});
+    then(viewCountFlushMetrics).should().recordChunk(eq(2), anyLong());
+    then(viewCountFlushMetrics).should().recordChunk(eq(1), anyLong());
   }
 
   @Test
@@ -91,8 +99,8 @@ class UpdateProjectViewDbAdapterTest {
     updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
 
     // then
-    then(entityManager).should().createNativeQuery(anyString());
-    then(query).should().executeUpdate();
+    then(jdbcTemplate).should().batchUpdate(anyString(), argsCaptor.capture());
+    assertThat(argsCaptor.getValue()).containsExactly(new Object[] {10L, 1L});
   }
 
   @Test
@@ -105,42 +113,25 @@ class UpdateProjectViewDbAdapterTest {
     updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
 
     // then
-    then(entityManager).should(never()).createNativeQuery(anyString());
-    then(query).should(never()).executeUpdate();
+    then(jdbcTemplate).shouldHaveNoInteractions();
+    then(viewCountFlushMetrics).should(never()).recordChunk(anyInt(), anyLong());
   }
 
   @Test
-  @DisplayName("배치 조회수 증가 성공 - null 값 포함")
-  void increaseViewCountBatchWithNullValueReturnsSuccess() {
+  @DisplayName("배치 조회수 증가 성공 - null 값과 0 값은 건너뛴다")
+  void increaseViewCountBatchSkipsNullAndZeroValues() {
     // given
     Map<Long, Long> viewCountUpdates = new HashMap<>();
     viewCountUpdates.put(1L, 3L);
     viewCountUpdates.put(2L, null); // null 값
-    viewCountUpdates.put(3L, 2L);
+    viewCountUpdates.put(3L, 0L); // 0 값
 
     // when
     updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
 
     // then
-    then(entityManager).should().createNativeQuery(anyString());
-    then(query).should().executeUpdate();
-  }
-
-  @Test
-  @DisplayName("배치 조회수 증가 성공 - 0 값 포함")
-  void increaseViewCountBatchWithZeroValueReturnsSuccess() {
-    // given
-    Map<Long, Long> viewCountUpdates = new HashMap<>();
-    viewCountUpdates.put(1L, 3L);
-    viewCountUpdates.put(2L, 0L); // 0 값
-    viewCountUpdates.put(3L, 2L);
-
-    // when
-    updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
-
-    // then
-    then(entityManager).should().createNativeQuery(anyString());
-    then(query).should().executeUpdate();
+    then(jdbcTemplate).should().batchUpdate(anyString(), argsCaptor.capture());
+    assertThat(argsCaptor.getValue()).containsExactly(new Object[] {3L, 1L});
   }
 
   @Test
@@ -150,13 +141,13 @@ class UpdateProjectViewDbAdapterTest {
     Map<Long, Long> viewCountUpdates = new HashMap<>();
     viewCountUpdates.put(1L, 3L);
     viewCountUpdates.put(2L, -1L); // 음수 값
-    viewCountUpdates.put(3L, 2L);
 
     // when
     updateProjectViewDbAdapter.increaseViewCountBatch(viewCountUpdates);
 
     // then
-    then(entityManager).should().createNativeQuery(anyString());
-    then(query).should().executeUpdate();
+    then(jdbcTemplate).should().batchUpdate(anyString(), argsCaptor.capture());
+    assertThat(argsCaptor.getValue())
+        .containsExactly(new Object[] {3L, 1L}, new Object[] {-1L, 2L});
   }
 }
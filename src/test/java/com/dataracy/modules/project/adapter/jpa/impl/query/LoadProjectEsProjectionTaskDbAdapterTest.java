@@ -70,4 +70,34 @@ class LoadProjectEsProjectionTaskDbAdapterTest {
     // then
     assertThat(result).isEmpty();
   }
+
+  @Test
+  @DisplayName("claimBatchForWork → 조회한 작업의 nextRunAt을 임대 만료 시각으로 연기")
+  void claimBatchForWorkExtendsLease() {
+    // given
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime leaseUntil = now.plusSeconds(60);
+    List<ProjectEsProjectionType> statuses = List.of(ProjectEsProjectionType.PENDING);
+    PageRequest pageable = PageRequest.of(0, 10);
+
+    ProjectEsProjectionTaskEntity task =
+        ProjectEsProjectionTaskEntity.builder()
+            .id(1L)
+            .projectId(100L)
+            .status(ProjectEsProjectionType.PENDING)
+            .nextRunAt(now.minusMinutes(1))
+            .build();
+
+    given(repo.findBatchForWork(now, statuses, pageable)).willReturn(List.of(task));
+
+    // when
+    List<ProjectEsProjectionTaskEntity> result =
+        adapter.claimBatchForWork(now, statuses, pageable, leaseUntil);
+
+    // then
+    assertAll(
+        () -> assertThat(result).containsExactly(task),
+        () -> assertThat(task.getNextRunAt()).isEqualTo(leaseUntil),
+        () -> assertThat(task.getStatus()).isEqualTo(ProjectEsProjectionType.PENDING));
+  }
 }
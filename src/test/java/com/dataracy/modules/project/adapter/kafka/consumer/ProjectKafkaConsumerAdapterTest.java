@@ -1,13 +1,20 @@
 package com.dataracy.modules.project.adapter.kafka.consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,29 +22,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.dataracy.modules.common.logging.KafkaLogger;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
-import com.dataracy.modules.project.application.port.in.command.count.DecreaseCommentCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.DecreaseLikeCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.IncreaseCommentCountUseCase;
-import com.dataracy.modules.project.application.port.in.command.count.IncreaseLikeCountUseCase;
+import com.dataracy.modules.like.domain.enums.TargetType;
+import com.dataracy.modules.like.domain.model.event.LikeEvent;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.in.command.count.ApplyProjectCountDeltaUseCase;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectKafkaConsumerAdapterTest {
 
-  // Test constants
-  private static final Long PROJECT_ID = 1L;
-  private static final Long COMMENT_ID = 2L;
-
-  @Mock private IncreaseCommentCountUseCase increaseCommentCountUseCase;
-
-  @Mock private DecreaseCommentCountUseCase decreaseCommentCountUseCase;
+  private static final String COMMENT_UPLOADED_TOPIC = "comment-uploaded-topic";
+  private static final String COMMENT_DELETED_TOPIC = "comment-deleted-topic";
+  private static final String LIKE_EVENT_TOPIC = "like-events";
 
-  @Mock private IncreaseLikeCountUseCase increaseLikeCountUseCase;
-
-  @Mock private DecreaseLikeCountUseCase decreaseLikeCountUseCase;
+  @Mock private ApplyProjectCountDeltaUseCase applyProjectCountDeltaUseCase;
 
   @Mock private KafkaLogger kafkaLogger;
 
@@ -45,161 +48,181 @@ class ProjectKafkaConsumerAdapterTest {
 
   @BeforeEach
   void setUp() {
-    adapter =
-        new ProjectKafkaConsumerAdapter(
-            increaseCommentCountUseCase,
-            decreaseCommentCountUseCase,
-            increaseLikeCountUseCase,
-            decreaseLikeCountUseCase);
-    ReflectionTestUtils.setField(adapter, "commentUploadedTopic", "comment-uploaded-topic");
-    ReflectionTestUtils.setField(adapter, "commentDeletedTopic", "comment-deleted-topic");
-    ReflectionTestUtils.setField(adapter, "likeIncreaseTopic", "project-like-increase-topic");
-    ReflectionTestUtils.setField(adapter, "likeDecreaseTopic", "project-like-decrease-topic");
+    adapter = new ProjectKafkaConsumerAdapter(applyProjectCountDeltaUseCase);
+    ReflectionTestUtils.setField(adapter, "commentUploadedTopic", COMMENT_UPLOADED_TOPIC);
+    ReflectionTestUtils.setField(adapter, "commentDeletedTopic", COMMENT_DELETED_TOPIC);
+    ReflectionTestUtils.setField(adapter, "likeEventTopic", LIKE_EVENT_TOPIC);
   }
 
   @Test
-  @DisplayName("댓글 작성 이벤트 수신 시 댓글 수 증가 성공")
+  @DisplayName("댓글 작성 이벤트 배치 수신 시 프로젝트별 댓글 수 변경분으로 합산해 반영한다")
   void consumeCommentUploadSuccess() {
     // given
-    Long projectId = 1L;
+    List<ConsumerRecord<String, Long>> records = records(COMMENT_UPLOADED_TOPIC, 1L, 2L, 1L);
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.consumeCommentUpload(projectId);
+      adapter.consumeCommentUpload(records);
 
       // then
-      then(increaseCommentCountUseCase).should().increaseCommentCount(projectId);
-      then(kafkaLogger).should().logConsume("comment-uploaded-topic", "댓글 작성 이벤트 수신됨: projectId=1");
+      then(applyProjectCountDeltaUseCase)
+          .should()
+          .applyCountDeltas(
+              List.of(new ProjectCountDelta(1L, 2, 0), new ProjectCountDelta(2L, 1, 0)));
+      then(kafkaLogger)
+          .should()
+          .logConsume(COMMENT_UPLOADED_TOPIC, "댓글 작성 이벤트 배치 수신됨: 레코드 수=3, 프로젝트 수=2");
       then(kafkaLogger)
           .should()
-          .logConsume("comment-uploaded-topic", "댓글 작성 이벤트 처리 완료: projectId=1");
+          .logConsume(COMMENT_UPLOADED_TOPIC, "댓글 작성 이벤트 배치 처리 완료: projectIds=[1, 2]");
     }
   }
 
   @Test
-  @DisplayName("댓글 작성 이벤트 처리 실패 시 예외 재발생")
-  void consumeCommentUploadFailure() {
+  @DisplayName("댓글 삭제 이벤트 배치 수신 시 댓글 수를 음수 변경분으로 반영한다")
+  void consumeCommentDeleteSuccess() {
     // given
-    Long projectId = 1L;
-    RuntimeException exception = new RuntimeException("Database error");
-    willThrow(exception).given(increaseCommentCountUseCase).increaseCommentCount(projectId);
+    List<ConsumerRecord<String, Long>> records = records(COMMENT_DELETED_TOPIC, 3L, 3L);
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
-      // when & then
-      RuntimeException caughtException =
-          catchThrowableOfType(
-              () -> adapter.consumeCommentUpload(projectId), RuntimeException.class);
-      assertAll(
-          () -> org.assertj.core.api.Assertions.assertThat(caughtException).isSameAs(exception));
+      // when
+      adapter.consumeCommentDelete(records);
 
-      then(kafkaLogger).should().logConsume("comment-uploaded-topic", "댓글 작성 이벤트 수신됨: projectId=1");
-      then(kafkaLogger)
+      // then
+      then(applyProjectCountDeltaUseCase)
           .should()
-          .logError(
-              eq("comment-uploaded-topic"),
-              eq("댓글 작성 이벤트 처리 실패: projectId=1"),
-              any(RuntimeException.class));
+          .applyCountDeltas(List.of(new ProjectCountDelta(3L, -2, 0)));
     }
   }
 
   @Test
-  @DisplayName("댓글 삭제 이벤트 수신 시 댓글 수 감소 성공")
-  void consumeCommentDeleteSuccess() {
+  @DisplayName("좋아요 이벤트 배치 수신 시 프로젝트 대상만 프로젝트별 좋아요 수 순변경분으로 반영한다")
+  void consumeLikeEventsSuccess() {
     // given
-    Long projectId = PROJECT_ID;
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(
+            likeRecord(0, new LikeEvent(TargetType.PROJECT, 1L, 1, 10L, 0L)),
+            likeRecord(1, new LikeEvent(TargetType.COMMENT, 1L, 1, 10L, 0L)),
+            likeRecord(2, new LikeEvent(TargetType.PROJECT, 1L, 1, 11L, 0L)),
+            likeRecord(3, new LikeEvent(TargetType.PROJECT, 4L, -1, 12L, 0L)),
+            likeRecord(4, null));
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when
-      adapter.consumeCommentDelete(projectId);
+      adapter.consumeLikeEvents(records);
 
       // then
-      then(decreaseCommentCountUseCase).should().decreaseCommentCount(projectId);
-      then(kafkaLogger).should().logConsume("comment-deleted-topic", "댓글 삭제 이벤트 수신됨: projectId=1");
+      then(applyProjectCountDeltaUseCase)
+          .should()
+          .applyCountDeltas(
+              List.of(new ProjectCountDelta(1L, 0, 2), new ProjectCountDelta(4L, 0, -1)));
       then(kafkaLogger)
           .should()
-          .logConsume("comment-deleted-topic", "댓글 삭제 이벤트 처리 완료: projectId=1");
+          .logConsume(LIKE_EVENT_TOPIC, "프로젝트 좋아요 이벤트 배치 수신됨: 레코드 수=5, 프로젝트 수=2");
     }
   }
 
   @Test
-  @DisplayName("좋아요 증가 이벤트 수신 시 좋아요 수 증가 성공")
-  void consumeLikeIncreaseSuccess() {
+  @DisplayName("역직렬화에 실패한 레코드가 있으면 해당 위치로 배치 실패를 알려 DLT로 보낸다")
+  void consumeLikeEventsRejectsPoisonRecord() {
     // given
-    Long projectId = COMMENT_ID;
+    ConsumerRecord<String, LikeEvent> poison = likeRecord(1, null);
+    poison
+        .headers()
+        .add(new RecordHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, new byte[0]));
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(likeRecord(0, new LikeEvent(TargetType.PROJECT, 1L, 1, 10L, 0L)), poison);
+
+    // when
+    BatchListenerFailedException exception =
+        catchThrowableOfType(
+            () -> adapter.consumeLikeEvents(records), BatchListenerFailedException.class);
+
+    // then
+    assertThat(exception.getIndex()).isEqualTo(1);
+    then(applyProjectCountDeltaUseCase).shouldHaveNoInteractions();
+  }
 
-    try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
-      loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
+  @Test
+  @DisplayName("프로젝트 대상 좋아요 이벤트가 없으면 반영하지 않는다")
+  void consumeLikeEventsWithoutProjectTargets() {
+    // given
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(likeRecord(0, new LikeEvent(TargetType.COMMENT, 3L, 1, 10L, 0L)));
 
-      // when
-      adapter.consumeLikeIncrease(projectId);
+    // when
+    adapter.consumeLikeEvents(records);
 
-      // then
-      then(increaseLikeCountUseCase).should().increaseLikeCount(projectId);
-      then(kafkaLogger)
-          .should()
-          .logConsume("project-like-increase-topic", "프로젝트 좋아요 이벤트 수신됨: projectId=2");
-      then(kafkaLogger)
-          .should()
-          .logConsume("project-like-increase-topic", "프로젝트 좋아요 이벤트 처리 완료: projectId=2");
-    }
+    // then
+    then(applyProjectCountDeltaUseCase).shouldHaveNoInteractions();
   }
 
   @Test
-  @DisplayName("좋아요 감소 이벤트 수신 시 좋아요 수 감소 성공")
-  void consumeLikeDecreaseSuccess() {
+  @DisplayName("배치 반영 실패 시 에러 로그를 남기고 예외를 다시 던진다")
+  void consumeBatchFailure() {
     // given
-    Long projectId = 999L;
+    List<ConsumerRecord<String, Long>> records = records(COMMENT_UPLOADED_TOPIC, 1L);
+    RuntimeException exception = new RuntimeException("Database error");
+    willThrow(exception).given(applyProjectCountDeltaUseCase).applyCountDeltas(anyList());
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
-      // when
-      adapter.consumeLikeDecrease(projectId);
+      // when & then
+      RuntimeException caughtException =
+          catchThrowableOfType(() -> adapter.consumeCommentUpload(records), RuntimeException.class);
+      assertAll(() -> assertThat(caughtException).isSameAs(exception));
 
-      // then
-      then(decreaseLikeCountUseCase).should().decreaseLikeCount(projectId);
       then(kafkaLogger)
           .should()
-          .logConsume("project-like-decrease-topic", "프로젝트 좋아요 취소 이벤트 수신됨: projectId=999");
-      then(kafkaLogger)
-          .should()
-          .logConsume("project-like-decrease-topic", "프로젝트 좋아요 취소 이벤트 처리 완료: projectId=999");
+          .logError(
+              eq(COMMENT_UPLOADED_TOPIC),
+              eq("댓글 작성 이벤트 배치 처리 실패: projectIds=[1]"),
+              any(RuntimeException.class));
     }
   }
 
   @Test
-  @DisplayName("좋아요 증가 이벤트 처리 실패 시 예외 재발생")
-  void consumeLikeIncreaseFailure() {
+  @DisplayName("좋아요 이벤트 배치 반영 실패 시 예외를 다시 던진다")
+  void consumeLikeEventsFailure() {
     // given
-    Long projectId = COMMENT_ID;
-    RuntimeException exception = new RuntimeException("Elasticsearch error");
-    willThrow(exception).given(increaseLikeCountUseCase).increaseLikeCount(projectId);
+    List<ConsumerRecord<String, LikeEvent>> records =
+        List.of(likeRecord(0, new LikeEvent(TargetType.PROJECT, 1L, 1, 10L, 0L)));
+    RuntimeException exception = new RuntimeException("Database error");
+    willThrow(exception).given(applyProjectCountDeltaUseCase).applyCountDeltas(anyList());
 
     try (MockedStatic<LoggerFactory> loggerFactoryMock = mockStatic(LoggerFactory.class)) {
       loggerFactoryMock.when(LoggerFactory::kafka).thenReturn(kafkaLogger);
 
       // when & then
       RuntimeException caughtException =
-          catchThrowableOfType(
-              () -> adapter.consumeLikeIncrease(projectId), RuntimeException.class);
-      assertAll(
-          () -> org.assertj.core.api.Assertions.assertThat(caughtException).isSameAs(exception));
+          catchThrowableOfType(() -> adapter.consumeLikeEvents(records), RuntimeException.class);
+      assertAll(() -> assertThat(caughtException).isSameAs(exception));
 
-      then(kafkaLogger)
-          .should()
-          .logConsume("project-like-increase-topic", "프로젝트 좋아요 이벤트 수신됨: projectId=2");
       then(kafkaLogger)
           .should()
           .logError(
-              eq("project-like-increase-topic"),
-              eq("프로젝트 좋아요 이벤트 처리 실패: projectId=2"),
+              eq(LIKE_EVENT_TOPIC),
+              eq("프로젝트 좋아요 이벤트 배치 처리 실패: projectIds=[1]"),
               any(RuntimeException.class));
     }
   }
+
+  private List<ConsumerRecord<String, Long>> records(String topic, Long... values) {
+    long[] offset = {0L};
+    return Arrays.stream(values)
+        .map(value -> new ConsumerRecord<String, Long>(topic, 0, offset[0]++, null, value))
+        .toList();
+  }
+
+  private ConsumerRecord<String, LikeEvent> likeRecord(long offset, LikeEvent event) {
+    String key = event == null ? null : event.key();
+    return new ConsumerRecord<>(LIKE_EVENT_TOPIC, 0, offset, key, event);
+  }
 }
@@ -0,0 +1,154 @@
+package com.dataracy.modules.project.adapter.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCountDeltaRedisAdapterTest {
+
+  private static final List<String> DIRTY_KEYS = List.of("projectCountDirty");
+
+  @Mock private StringRedisTemplate redisTemplate;
+
+  private ProjectCountDeltaRedisAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new ProjectCountDeltaRedisAdapter(redisTemplate);
+  }
+
+  @Nested
+  @DisplayName("addDelta 메서드 테스트")
+  class AddDeltaTest {
+
+    @Test
+    @DisplayName("성공: 단건 변경분도 dirty 세트 키와 (ID, 댓글, 좋아요) 인자로 스크립트 한 번 실행")
+    void addDeltaExecutesScriptOnce() {
+      // when
+      adapter.addDelta(1L, 1, -1);
+
+      // then
+      then(redisTemplate)
+          .should()
+          .execute(
+              any(RedisScript.class),
+              eq(DIRTY_KEYS),
+              eq("projectCountDelta:"),
+              eq("1"),
+              eq("1"),
+              eq("-1"));
+    }
+
+    @Test
+    @DisplayName("성공: 여러 프로젝트의 변경분을 스크립트 한 번으로 전송")
+    void addDeltasExecutesScriptOnceForAllProjects() {
+      // when
+      adapter.addDeltas(List.of(new ProjectCountDelta(1L, 2, 0), new ProjectCountDelta(2L, 0, 5)));
+
+      // then
+      then(redisTemplate)
+          .should()
+          .execute(
+              any(RedisScript.class),
+              eq(DIRTY_KEYS),
+              eq("projectCountDelta:"),
+              eq("1"),
+              eq("2"),
+              eq("0"),
+              eq("2"),
+              eq("0"),
+              eq("5"));
+    }
+
+    @Test
+    @DisplayName("변경분이 없으면 Redis를 호출하지 않음")
+    void addDeltasWhenEmpty() {
+      // when
+      adapter.addDeltas(List.of());
+
+      // then
+      then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("실패: Redis 연결 실패 시 CommonException 발생")
+    void addDeltaWhenRedisDownThrows() {
+      // given
+      given(
+              redisTemplate.execute(
+                  any(RedisScript.class), any(List.class), any(), any(), any(), any()))
+          .willThrow(new RedisConnectionFailureException("down"));
+
+      // when
+      CommonException ex =
+          catchThrowableOfType(() -> adapter.addDelta(1L, 0, 1), CommonException.class);
+
+      // then
+      assertThat(ex.getErrorCode()).isEqualTo(CommonErrorStatus.REDIS_CONNECTION_FAILURE);
+    }
+  }
+
+  @Nested
+  @DisplayName("drainDeltas 메서드 테스트")
+  class DrainDeltasTest {
+
+    @Test
+    @DisplayName("성공: 남은 dirty가 없을 때까지 반복하고 증감 합계가 0인 항목은 제외")
+    void drainDeltasLoopsUntilEmpty() {
+      // given
+      given(
+              redisTemplate.execute(
+                  any(RedisScript.class), eq(DIRTY_KEYS), eq("2"), eq("projectCountDelta:")))
+          .willReturn(List.of("1", "10", "2", "-1", "20", "0", "0"))
+          .willReturn(List.of("0", "30", "0", "3"));
+
+      // when
+      List<ProjectCountDelta> result = adapter.drainDeltas(2);
+
+      // then
+      assertThat(result)
+          .containsExactly(new ProjectCountDelta(10L, 2, -1), new ProjectCountDelta(30L, 0, 3));
+      then(redisTemplate)
+          .should(times(2))
+          .execute(any(RedisScript.class), eq(DIRTY_KEYS), eq("2"), eq("projectCountDelta:"));
+    }
+
+    @Test
+    @DisplayName("손상된 값은 건너뛰고 나머지를 반환")
+    void drainDeltasSkipsCorruptValues() {
+      // given
+      given(
+              redisTemplate.execute(
+                  any(RedisScript.class), eq(DIRTY_KEYS), eq("500"), eq("projectCountDelta:")))
+          .willReturn(List.of("0", "10", "abc", "1", "20", "1", "0"));
+
+      // when
+      List<ProjectCountDelta> result = adapter.drainDeltas(500);
+
+      // then
+      assertThat(result).containsExactly(new ProjectCountDelta(20L, 1, 0));
+    }
+  }
+}
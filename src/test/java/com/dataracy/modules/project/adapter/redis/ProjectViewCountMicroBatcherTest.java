@@ -0,0 +1,124 @@
+package com.dataracy.modules.project.adapter.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectViewCountMicroBatcherTest {
+
+  @Mock private StringRedisTemplate redisTemplate;
+
+  private ProjectViewCountMicroBatcher batcher;
+
+  @BeforeEach
+  void setUp() {
+    batcher =
+        new ProjectViewCountMicroBatcher(
+            redisTemplate, ProjectViewCountRedisAdapter.INCREASE_VIEW_COUNT_LUA, 300, 10, 8, 5);
+  }
+
+  @AfterEach
+  void tearDown() {
+    batcher.stop();
+  }
+
+  @Test
+  @DisplayName("시작 전에는 요청을 받지 않고 false 반환")
+  void offerBeforeStartReturnsFalse() {
+    // when
+    boolean accepted =
+        batcher.offer("viewDedup:PROJECT:1:u1", "viewCount:PROJECT:1", "viewDirty:PROJECT", 1L);
+
+    // then
+    assertThat(accepted).isFalse();
+  }
+
+  @Test
+  @DisplayName("시작 후 적재된 요청은 파이프라인으로 전송")
+  void offerAfterStartFlushesThroughPipeline() {
+    // given
+    batcher.start();
+
+    // when
+    boolean first =
+        batcher.offer("viewDedup:PROJECT:1:u1", "viewCount:PROJECT:1", "viewDirty:PROJECT", 1L);
+    boolean second =
+        batcher.offer("viewDedup:PROJECT:2:u1", "viewCount:PROJECT:2", "viewDirty:PROJECT", 2L);
+
+    // then
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    then(redisTemplate)
+        .should(timeout(1000).atLeastOnce())
+        .executePipelined(any(RedisCallback.class));
+  }
+
+  @Test
+  @DisplayName("배치를 모으는 중 인터럽트되어도 모은 요청을 전송한 뒤 종료")
+  void interruptWhileBatchingFlushesPendingBatch() throws InterruptedException {
+    // given
+    batcher =
+        new ProjectViewCountMicroBatcher(
+            redisTemplate, ProjectViewCountRedisAdapter.INCREASE_VIEW_COUNT_LUA, 300, 10, 8, 5000);
+    batcher.start();
+    batcher.offer("viewDedup:PROJECT:1:u1", "viewCount:PROJECT:1", "viewDirty:PROJECT", 1L);
+    batcher.offer("viewDedup:PROJECT:2:u1", "viewCount:PROJECT:2", "viewDirty:PROJECT", 2L);
+    Thread worker = (Thread) ReflectionTestUtils.getField(batcher, "worker");
+    Thread.sleep(200);
+
+    // when
+    worker.interrupt();
+
+    // then
+    then(redisTemplate).should(timeout(1000)).executePipelined(any(RedisCallback.class));
+  }
+
+  @Test
+  @DisplayName("파이프라인 전송이 실패하면 요청을 큐에 다시 넣어 재전송")
+  void failedFlushRequeuesBatch() {
+    // given
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willThrow(new RedisConnectionFailureException("down"))
+        .willReturn(List.of());
+    batcher.start();
+
+    // when
+    batcher.offer("viewDedup:PROJECT:1:u1", "viewCount:PROJECT:1", "viewDirty:PROJECT", 1L);
+
+    // then
+    then(redisTemplate).should(timeout(1000).times(2)).executePipelined(any(RedisCallback.class));
+  }
+
+  @Test
+  @DisplayName("재시도 횟수를 모두 소진한 요청은 더 이상 재전송하지 않음")
+  void failedFlushStopsAfterMaxAttempts() {
+    // given
+    given(redisTemplate.executePipelined(any(RedisCallback.class)))
+        .willThrow(new RedisConnectionFailureException("down"));
+    batcher.start();
+
+    // when
+    batcher.offer("viewDedup:PROJECT:1:u1", "viewCount:PROJECT:1", "viewDirty:PROJECT", 1L);
+
+    // then
+    then(redisTemplate).should(after(500).times(3)).executePipelined(any(RedisCallback.class));
+  }
+}
@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
-import java.time.Duration;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +28,10 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import com.dataracy.modules.common.exception.CommonException;
 
@@ -34,16 +39,26 @@ import com.dataracy.modules.common.exception.CommonException;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ProjectViewCountRedisAdapterTest {
 
+  private static final List<String> VIEW_KEYS =
+      List.of("viewDedup:project:1:user1", "viewCount:project:1", "viewDirty:project");
+
   @Mock private StringRedisTemplate redisTemplate;
 
   @Mock private ValueOperations<String, String> valueOperations;
 
+  @Mock private SetOperations<String, String> setOperations;
+
+  @Mock private Cursor<String> cursor;
+
   private ProjectViewCountRedisAdapter adapter;
 
   @BeforeEach
   void setUp() {
     adapter = new ProjectViewCountRedisAdapter(redisTemplate);
     given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    given(redisTemplate.opsForSet()).willReturn(setOperations);
+    given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    given(cursor.hasNext()).willReturn(false);
   }
 
   @Nested
@@ -51,45 +66,44 @@ class ProjectViewCountRedisAdapterTest {
   class IncreaseViewCountTest {
 
     @Test
-    @DisplayName("성공: 최초 조회 시 조회수 증가")
+    @DisplayName("성공: 최초 조회 시 스크립트 한 번으로 조회수 증가")
     void increaseViewCountOnFirstViewIncrementsCount() {
       // given
       Long projectId = 1L;
       String viewerId = "user1";
       String targetType = "project";
 
-      given(valueOperations.setIfAbsent("viewDedup:project:1:user1", "1", Duration.ofMinutes(5)))
-          .willReturn(true);
+      given(redisTemplate.execute(any(RedisScript.class), eq(VIEW_KEYS), eq("300"), eq("1")))
+          .willReturn(1L);
 
       // when
       adapter.increaseViewCount(projectId, viewerId, targetType);
 
       // then
-      then(valueOperations)
+      then(redisTemplate)
           .should()
-          .setIfAbsent("viewDedup:project:1:user1", "1", Duration.ofMinutes(5));
-      then(valueOperations).should().increment("viewCount:project:1");
+          .execute(any(RedisScript.class), eq(VIEW_KEYS), eq("300"), eq("1"));
+      then(redisTemplate).should(never()).opsForValue();
     }
 
     @Test
-    @DisplayName("중복 조회 시 조회수 증가하지 않음")
+    @DisplayName("중복 조회 시 스크립트가 0을 반환해도 예외 없이 종료")
     void increaseViewCountOnDuplicateViewDoesNotIncrement() {
       // given
       Long projectId = 1L;
       String viewerId = "user1";
       String targetType = "project";
 
-      given(valueOperations.setIfAbsent("viewDedup:project:1:user1", "1", Duration.ofMinutes(5)))
-          .willReturn(false);
+      given(redisTemplate.execute(any(RedisScript.class), eq(VIEW_KEYS), eq("300"), eq("1")))
+          .willReturn(0L);
 
       // when
       adapter.increaseViewCount(projectId, viewerId, targetType);
 
       // then
-      then(valueOperations)
+      then(redisTemplate)
           .should()
-          .setIfAbsent("viewDedup:project:1:user1", "1", Duration.ofMinutes(5));
-      // increment는 호출되지 않아야 함
+          .execute(any(RedisScript.class), eq(VIEW_KEYS), eq("300"), eq("1"));
     }
 
     @Test
@@ -102,7 +116,7 @@ class ProjectViewCountRedisAdapterTest {
       RedisConnectionFailureException redisException =
           new RedisConnectionFailureException("Redis connection failed");
 
-      given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
           .willThrow(redisException);
 
       // when & then
@@ -171,26 +185,104 @@ class ProjectViewCountRedisAdapterTest {
   }
 
   @Nested
-  @DisplayName("getAllViewCountKeys 메서드 테스트")
-  class GetAllViewCountKeysTest {
+  @DisplayName("drainViewCounts 메서드 테스트")
+  class DrainViewCountsTest {
 
     @Test
-    @DisplayName("성공: 모든 조회수 키 조회")
-    void getAllViewCountKeysReturnsSuccess() {
+    @DisplayName("성공: dirty 세트에서 꺼낸 ID별 조회수 반환")
+    void drainViewCountsReturnsCountsById() {
       // given
-      String targetType = "project";
+      given(
+              redisTemplate.execute(
+                  any(RedisScript.class),
+                  eq(List.of("viewDirty:PROJECT")),
+                  eq("500"),
+                  eq("viewCount:PROJECT:")))
+          .willReturn(List.of("0", "1", "5", "2", "3", "3", "0"));
 
-      Cursor<String> cursor = mock(Cursor.class);
-      given(cursor.hasNext()).willReturn(true, true, false);
-      given(cursor.next()).willReturn("viewCount:project:1", "viewCount:project:2");
+      // when
+      Map<Long, Long> result = adapter.drainViewCounts("PROJECT", 500);
+
+      // then
+      assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("남은 dirty가 있으면 비워질 때까지 반복 호출")
+    void drainViewCountsRepeatsWhileRemaining() {
+      // given
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+          .willReturn(List.of("1", "1", "5"), List.of("0", "2", "7"));
 
-      given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+      // when
+      Map<Long, Long> result = adapter.drainViewCounts("PROJECT", 1);
+
+      // then
+      assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 5L, 2L, 7L));
+      then(redisTemplate)
+          .should(times(2))
+          .execute(any(RedisScript.class), anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("손상된 값은 건너뜀")
+    void drainViewCountsSkipsCorruptedValues() {
+      // given
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+          .willReturn(List.of("0", "1", "abc", "2", "4"));
+
+      // when
+      Map<Long, Long> result = adapter.drainViewCounts("PROJECT", 500);
+
+      // then
+      assertThat(result).containsExactly(Map.entry(2L, 4L));
+    }
+
+    @Test
+    @DisplayName("예외 발생 시 CommonException 변환")
+    void drainViewCountsWhenExceptionOccursThrowsCommonException() {
+      // given
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+          .willThrow(new RedisConnectionFailureException("Redis connection failed"));
+
+      // when & then
+      CommonException exception =
+          catchThrowableOfType(
+              () -> adapter.drainViewCounts("PROJECT", 500), CommonException.class);
+      assertThat(exception).isNotNull();
+    }
+
+    @Test
+    @DisplayName("반복 도중 실패하면 이미 꺼낸 조회수를 반환")
+    void drainViewCountsReturnsDrainedCountsWhenLaterCallFails() {
+      // given
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+          .willReturn(List.of("1", "1", "5"))
+          .willThrow(new RedisConnectionFailureException("Redis connection failed"));
+
+      // when
+      Map<Long, Long> result = adapter.drainViewCounts("PROJECT", 1);
+
+      // then
+      assertThat(result).containsExactly(Map.entry(1L, 5L));
+    }
+
+    @Test
+    @DisplayName("최초 drain 시 기존 조회수 키를 한 번만 dirty 세트에 등록")
+    void drainViewCountsBackfillsDirtySetOnce() {
+      // given
+      given(cursor.hasNext()).willReturn(true, true, false);
+      given(cursor.next()).willReturn("viewCount:PROJECT:1", "viewCount:PROJECT:2");
+      given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+          .willReturn(List.of("0"));
 
       // when
-      Set<String> result = adapter.getAllViewCountKeys(targetType);
+      adapter.drainViewCounts("PROJECT", 500);
+      adapter.drainViewCounts("PROJECT", 500);
 
       // then
-      assertThat(result).containsExactlyInAnyOrder("viewCount:project:1", "viewCount:project:2");
+      then(setOperations).should().add("viewDirty:PROJECT", "1", "2");
+      then(redisTemplate).should(times(1)).scan(any(ScanOptions.class));
     }
   }
 
@@ -23,6 +23,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.dataracy.modules.common.exception.CommonException;
 import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.dataset.application.port.in.command.content.UpdateDataProjectCountUseCase;
 import com.dataracy.modules.dataset.application.port.in.validate.ValidateDataUseCase;
 import com.dataracy.modules.filestorage.application.port.in.FileCommandUseCase;
 import com.dataracy.modules.project.application.dto.document.ProjectSearchDocument;
@@ -88,6 +89,8 @@ class ProjectCommandServiceTest {
 
   @Mock private ValidateDataUseCase validateDataUseCase;
 
+  @Mock private UpdateDataProjectCountUseCase updateDataProjectCountUseCase;
+
   @Mock private MultipartFile thumbnailFile;
 
   private Project createSampleProject() {
@@ -152,6 +155,7 @@ class ProjectCommandServiceTest {
       // then
       assertThat(response.id()).isEqualTo(savedProject.getId());
       then(createProjectPort).should().saveProject(any());
+      then(updateDataProjectCountUseCase).should().increaseProjectCount(List.of(1L, 2L));
       then(fileCommandUseCase).should().uploadFile(anyString(), any());
       then(indexProjectPort).should().index(any(ProjectSearchDocument.class));
     }
@@ -264,6 +268,8 @@ class ProjectCommandServiceTest {
       // then
       then(updateProjectPort).should().modifyProject(eq(projectId), any(), any());
       then(deleteProjectDataPort).should().deleteByProjectIdAndDataIdIn(eq(projectId), any());
+      then(updateDataProjectCountUseCase).should().decreaseProjectCount(Set.of(3L));
+      then(updateDataProjectCountUseCase).should().increaseProjectCount(Set.of(2L));
       then(fileCommandUseCase).should().uploadFile(anyString(), any());
       then(indexProjectPort).should().index(any(ProjectSearchDocument.class));
     }
@@ -415,6 +421,8 @@ class ProjectCommandServiceTest {
           .should()
           .deleteByProjectIdAndDataIdIn(eq(projectId), eq(existingDataIds));
       then(updateProjectPort).should().modifyProject(eq(projectId), any(), any());
+      then(updateDataProjectCountUseCase).should().decreaseProjectCount(existingDataIds);
+      then(updateDataProjectCountUseCase).should().increaseProjectCount(Set.of());
     }
   }
 }
@@ -4,16 +4,24 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.Mockito.never;
 
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCommentPort;
+import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCountPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectLikePort;
+import com.dataracy.modules.project.application.port.out.count.ManageProjectCountDeltaPort;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectCountServiceTest {
@@ -22,8 +30,12 @@ class ProjectCountServiceTest {
 
   @Mock private UpdateProjectLikePort updateProjectLikeDbPort;
 
+  @Mock private UpdateProjectCountPort updateProjectCountDbPort;
+
   @Mock private ManageProjectProjectionTaskPort manageProjectProjectionTaskPort;
 
+  @Mock private ManageProjectCountDeltaPort manageProjectCountDeltaPort;
+
   @InjectMocks private ProjectCountService service;
 
   @Test
@@ -78,4 +90,86 @@ class ProjectCountServiceTest {
     then(updateProjectLikeDbPort).should().decreaseLikeCount(projectId);
     then(manageProjectProjectionTaskPort).should().enqueueLikeDelta(projectId, -1);
   }
+
+  @Test
+  @DisplayName("누적 모드 - 댓글/좋아요 변경분은 Redis에만 누적하고 DB와 큐는 호출하지 않음")
+  void accumulatesDeltasWithoutTouchingDb() {
+    // given
+    ReflectionTestUtils.setField(service, "aggregationEnabled", true);
+    Long projectId = 20L;
+
+    // when
+    service.increaseCommentCount(projectId);
+    service.decreaseLikeCount(projectId);
+
+    // then
+    then(manageProjectCountDeltaPort).should().addDelta(projectId, 1, 0);
+    then(manageProjectCountDeltaPort).should().addDelta(projectId, 0, -1);
+    then(updateProjectCommentDbPort).shouldHaveNoInteractions();
+    then(updateProjectLikeDbPort).shouldHaveNoInteractions();
+    then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("누적 모드 - Redis 실패 시 원자적 UPDATE와 큐 등록으로 직접 반영")
+  void fallsBackToDirectUpdateWhenAccumulationFails() {
+    // given
+    ReflectionTestUtils.setField(service, "aggregationEnabled", true);
+    Long projectId = 21L;
+    willThrow(new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE))
+        .given(manageProjectCountDeltaPort)
+        .addDelta(projectId, 0, 1);
+
+    // when
+    service.increaseLikeCount(projectId);
+
+    // then
+    then(updateProjectLikeDbPort).should().increaseLikeCount(projectId);
+    then(manageProjectProjectionTaskPort).should().enqueueLikeDelta(projectId, 1);
+  }
+
+  @Test
+  @DisplayName("배치 반영 - 누적 모드에서는 빈 변경분을 제외하고 Redis에 한 번에 누적")
+  void applyCountDeltasAccumulatesInRedis() {
+    // given
+    ReflectionTestUtils.setField(service, "aggregationEnabled", true);
+    ProjectCountDelta delta = new ProjectCountDelta(30L, 2, 0);
+
+    // when
+    service.applyCountDeltas(List.of(delta, new ProjectCountDelta(31L, 0, 0)));
+
+    // then
+    then(manageProjectCountDeltaPort).should().addDeltas(List.of(delta));
+    then(updateProjectCountDbPort).shouldHaveNoInteractions();
+    then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("배치 반영 - Redis 실패 시 배치 UPDATE와 프로젝션 작업 배치 등록으로 직접 반영")
+  void applyCountDeltasFallsBackToDb() {
+    // given
+    ReflectionTestUtils.setField(service, "aggregationEnabled", true);
+    List<ProjectCountDelta> deltas = List.of(new ProjectCountDelta(32L, 0, -3));
+    willThrow(new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE))
+        .given(manageProjectCountDeltaPort)
+        .addDeltas(deltas);
+
+    // when
+    service.applyCountDeltas(deltas);
+
+    // then
+    then(updateProjectCountDbPort).should().applyCountDeltas(deltas);
+    then(manageProjectProjectionTaskPort).should().enqueueCountDeltaBatch(deltas);
+  }
+
+  @Test
+  @DisplayName("배치 반영 - 반영할 변경분이 없으면 아무 것도 호출하지 않음")
+  void applyCountDeltasSkipsEmpty() {
+    // when
+    service.applyCountDeltas(List.of(new ProjectCountDelta(33L, 0, 0)));
+
+    // then
+    then(manageProjectCountDeltaPort).shouldHaveNoInteractions();
+    then(updateProjectCountDbPort).shouldHaveNoInteractions();
+  }
 }
@@ -24,15 +24,13 @@ import com.dataracy.modules.reference.application.port.in.analysispurpose.GetAna
 import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorLevelLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.datasource.GetDataSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 @ExtendWith(MockitoExtension.class)
 class ProjectLabelMapServiceTest {
 
-  @Mock private FindUsernameUseCase findUsernameUseCase;
-
-  @Mock private FindUserThumbnailUseCase findUserThumbnailUseCase;
+  @Mock private FindUserCardsUseCase findUserCardsUseCase;
 
   @Mock private GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
 
@@ -106,9 +104,11 @@ class ProjectLabelMapServiceTest {
       Map<Long, String> dataSourceMap = Map.of(3L, "Public", 7L, "Private");
       Map<Long, String> authorLevelMap = Map.of(4L, "Expert", 8L, "Beginner");
 
-      given(findUsernameUseCase.findUsernamesByIds(List.of(100L, 200L))).willReturn(usernameMap);
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(List.of(100L, 200L)))
-          .willReturn(thumbnailMap);
+      given(findUserCardsUseCase.findUserCardsByIds(List.of(100L, 200L)))
+          .willReturn(
+              Map.of(
+                  100L, new UserCard(100L, "user1", "thumb1.jpg", 4L, 1L),
+                  200L, new UserCard(200L, "user2", "thumb2.jpg", 8L, 2L)));
       given(getTopicLabelFromIdUseCase.getLabelsByIds(List.of(1L, 5L))).willReturn(topicMap);
       given(getAnalysisPurposeLabelFromIdUseCase.getLabelsByIds(List.of(2L, 6L)))
           .willReturn(analysisPurposeMap);
@@ -138,8 +138,7 @@ class ProjectLabelMapServiceTest {
       Collection<Project> emptyProjects = List.of();
       Map<Long, String> emptyMap = Map.of();
 
-      given(findUsernameUseCase.findUsernamesByIds(List.of())).willReturn(emptyMap);
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(List.of())).willReturn(emptyMap);
+      given(findUserCardsUseCase.findUserCardsByIds(List.of())).willReturn(Map.of());
       given(getTopicLabelFromIdUseCase.getLabelsByIds(List.of())).willReturn(emptyMap);
       given(getAnalysisPurposeLabelFromIdUseCase.getLabelsByIds(List.of())).willReturn(emptyMap);
       given(getDataSourceLabelFromIdUseCase.getLabelsByIds(List.of())).willReturn(emptyMap);
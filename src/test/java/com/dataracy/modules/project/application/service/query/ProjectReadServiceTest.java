@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -25,6 +26,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.support.async.ParallelQueryExecutor;
 import com.dataracy.modules.dataset.application.dto.response.read.ConnectedDataResponse;
 import com.dataracy.modules.dataset.application.port.in.query.read.FindConnectedDataSetsUseCase;
 import com.dataracy.modules.like.application.port.in.validate.ValidateTargetLikeUseCase;
@@ -57,10 +59,10 @@ import com.dataracy.modules.reference.application.port.in.authorlevel.GetAuthorL
 import com.dataracy.modules.reference.application.port.in.datasource.GetDataSourceLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.occupation.GetOccupationLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUserThumbnailUseCase;
-import com.dataracy.modules.user.application.port.in.query.extractor.FindUsernameUseCase;
+import com.dataracy.modules.user.application.port.in.query.extractor.FindUserCardsUseCase;
 import com.dataracy.modules.user.application.port.in.query.extractor.GetUserInfoUseCase;
 import com.dataracy.modules.user.domain.enums.RoleType;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 import com.dataracy.modules.user.domain.model.vo.UserInfo;
 
 @ExtendWith(MockitoExtension.class)
@@ -93,9 +95,7 @@ class ProjectReadServiceTest {
 
   @Mock private GetUserInfoUseCase getUserInfoUseCase;
 
-  @Mock private FindUsernameUseCase findUsernameUseCase;
-
-  @Mock private FindUserThumbnailUseCase findUserThumbnailUseCase;
+  @Mock private FindUserCardsUseCase findUserCardsUseCase;
 
   @Mock private GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
 
@@ -117,6 +117,10 @@ class ProjectReadServiceTest {
 
   @Mock private UpdatePopularProjectsStorageUseCase updatePopularProjectsStorageUseCase;
 
+  @Spy
+  private ParallelQueryExecutor parallelQueryExecutor =
+      new ParallelQueryExecutor(Runnable::run, 1000L);
+
   private Project createSampleProject() {
     return Project.builder()
         .id(1L)
@@ -270,6 +274,26 @@ class ProjectReadServiceTest {
       assertThat(ex.getErrorCode()).isEqualTo(ProjectErrorStatus.NOT_FOUND_PROJECT);
     }
 
+    @Test
+    @DisplayName("프로젝트 상세 조회 실패 - 부모 프로젝트가 존재하지 않으면 조회수를 올리지 않는다")
+    void getProjectDetailFailParentProjectNotFound() {
+      // given
+      Long projectId = 1L;
+      Project child = Project.builder().id(projectId).userId(1L).parentProjectId(99L).build();
+
+      given(findProjectPort.findProjectWithDataById(projectId))
+          .willReturn(Optional.of(new ProjectWithDataIdsResponse(child, List.of())));
+      given(getUserInfoUseCase.extractUserInfo(anyLong())).willReturn(createSampleUserInfo());
+      given(findProjectPort.findProjectById(99L)).willReturn(Optional.empty());
+
+      // when & then
+      ProjectException ex =
+          catchThrowableOfType(
+              () -> service.getProjectDetail(projectId, null, "viewer1"), ProjectException.class);
+      assertThat(ex.getErrorCode()).isEqualTo(ProjectErrorStatus.NOT_FOUND_PROJECT);
+      then(manageProjectViewCountPort).shouldHaveNoInteractions();
+    }
+
     @Test
     @DisplayName("프로젝트 상세 조회 성공 - null 사용자 ID")
     void getProjectDetailSuccessWithNullUserId() {
@@ -380,9 +404,8 @@ class ProjectReadServiceTest {
 
       given(findContinuedProjectsPort.findContinuedProjects(projectId, pageable))
           .willReturn(projectPage);
-      given(findUsernameUseCase.findUsernamesByIds(anyList())).willReturn(Map.of(1L, "testuser"));
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(anyList()))
-          .willReturn(Map.of(1L, "profile-url"));
+      given(findUserCardsUseCase.findUserCardsByIds(anyList()))
+          .willReturn(Map.of(1L, new UserCard(1L, "testuser", "profile-url", 1L, 1L)));
       given(getTopicLabelFromIdUseCase.getLabelsByIds(anyList())).willReturn(Map.of(1L, "Topic"));
       given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(anyList()))
           .willReturn(Map.of(1L, "Author Level"));
@@ -428,9 +451,8 @@ class ProjectReadServiceTest {
 
       given(findConnectedProjectsPort.findConnectedProjectsAssociatedWithDataset(dataId, pageable))
           .willReturn(projectPage);
-      given(findUsernameUseCase.findUsernamesByIds(anyList())).willReturn(Map.of(1L, "testuser"));
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(anyList()))
-          .willReturn(Map.of(1L, "profile-url"));
+      given(findUserCardsUseCase.findUserCardsByIds(anyList()))
+          .willReturn(Map.of(1L, new UserCard(1L, "testuser", "profile-url", 1L, 1L)));
       given(getTopicLabelFromIdUseCase.getLabelsByIds(anyList())).willReturn(Map.of(1L, "Topic"));
       given(connectedProjectDtoMapper.toResponseDto(any(), anyString(), anyString(), anyString()))
           .willReturn(
@@ -584,8 +606,7 @@ class ProjectReadServiceTest {
 
       given(findContinuedProjectsPort.findContinuedProjects(projectId, pageable))
           .willReturn(emptyPage);
-      given(findUsernameUseCase.findUsernamesByIds(anyList())).willReturn(Map.of());
-      given(findUserThumbnailUseCase.findUserThumbnailsByIds(anyList())).willReturn(Map.of());
+      given(findUserCardsUseCase.findUserCardsByIds(anyList())).willReturn(Map.of());
       given(getTopicLabelFromIdUseCase.getLabelsByIds(anyList())).willReturn(Map.of());
       given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(anyList())).willReturn(Map.of());
 
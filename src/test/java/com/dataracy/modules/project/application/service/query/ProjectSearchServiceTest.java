@@ -37,6 +37,7 @@ import com.dataracy.modules.project.application.dto.response.support.ProjectLabe
 import com.dataracy.modules.project.application.mapper.search.FilteredProjectDtoMapper;
 import com.dataracy.modules.project.application.port.in.query.extractor.FindProjectLabelMapUseCase;
 import com.dataracy.modules.project.application.port.out.query.read.FindProjectPort;
+import com.dataracy.modules.project.application.port.out.query.search.SearchFilteredProjectIdsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchFilteredProjectsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchRealTimeProjectsPort;
 import com.dataracy.modules.project.application.port.out.query.search.SearchSimilarProjectsPort;
@@ -61,6 +62,8 @@ class ProjectSearchServiceTest {
 
   @Mock private SearchFilteredProjectsPort searchFilteredProjectsPort;
 
+  @Mock private SearchFilteredProjectIdsPort searchFilteredProjectIdsPort;
+
   @Mock private FindUsernameUseCase findUsernameUseCase;
 
   @Mock private FindUserThumbnailUseCase findUserThumbnailUseCase;
@@ -332,10 +335,10 @@ class ProjectSearchServiceTest {
   class SearchByFiltersTest {
 
     @Test
-    @DisplayName("필터링된 프로젝트 검색 성공 및 로깅 검증")
+    @DisplayName("키워드 없는 필터링된 프로젝트 검색은 DB 필터링으로 조회하고 로깅한다")
     void searchByFiltersSuccess() {
       // given
-      FilteringProjectRequest request = new FilteringProjectRequest("AI", "LATEST", 1L, 2L, 3L, 4L);
+      FilteringProjectRequest request = new FilteringProjectRequest(null, "LATEST", 1L, 2L, 3L, 4L);
       Pageable pageable = PageRequest.of(0, 10);
 
       Project project1 = createProject(1L, "Project 1");
@@ -398,6 +401,7 @@ class ProjectSearchServiceTest {
       then(searchFilteredProjectsPort)
           .should()
           .searchByFilters(request, pageable, ProjectSortType.LATEST);
+      then(searchFilteredProjectIdsPort).shouldHaveNoInteractions();
       then(findProjectLabelMapUseCase).should().labelMapping(List.of(project1, project2));
 
       // 로깅 검증
@@ -418,7 +422,7 @@ class ProjectSearchServiceTest {
     @DisplayName("null 정렬 타입에 대한 기본 처리")
     void searchByFiltersWithNullSortType() {
       // given
-      FilteringProjectRequest request = new FilteringProjectRequest("AI", null, 1L, 2L, 3L, 4L);
+      FilteringProjectRequest request = new FilteringProjectRequest(null, null, 1L, 2L, 3L, 4L);
       Pageable pageable = PageRequest.of(0, 10);
 
       Page<Project> emptyPage = new PageImpl<>(List.of(), pageable, 0);
@@ -457,7 +461,7 @@ class ProjectSearchServiceTest {
     @DisplayName("빈 정렬 타입에 대한 기본 처리")
     void searchByFiltersWithEmptySortType() {
       // given
-      FilteringProjectRequest request = new FilteringProjectRequest("AI", "", 1L, 2L, 3L, 4L);
+      FilteringProjectRequest request = new FilteringProjectRequest(null, "", 1L, 2L, 3L, 4L);
       Pageable pageable = PageRequest.of(0, 10);
 
       Page<Project> emptyPage = new PageImpl<>(List.of(), pageable, 0);
@@ -491,6 +495,51 @@ class ProjectSearchServiceTest {
               contains("필터링된 프로젝트 목록 조회 서비스 종료 keyword=" + request.keyword()),
               any(Instant.class));
     }
+
+    @Test
+    @DisplayName("키워드 검색은 검색 인덱스의 ID 순서와 전체 건수를 유지한 채 DB에서 일괄 조회한다")
+    void searchByFiltersWithKeywordUsesSearchIndex() {
+      // given
+      FilteringProjectRequest request =
+          new FilteringProjectRequest("AI", "MOST_LIKED", 1L, null, null, null);
+      Pageable pageable = PageRequest.of(1, 2);
+
+      Project project1 = createProject(1L, "Project 1");
+      Project project2 = createProject(2L, "Project 2");
+      FilteredProjectResponse response1 = mock(FilteredProjectResponse.class);
+      FilteredProjectResponse response2 = mock(FilteredProjectResponse.class);
+
+      given(
+              searchFilteredProjectIdsPort.searchIdsByFilters(
+                  request, pageable, ProjectSortType.MOST_LIKED))
+          .willReturn(new PageImpl<>(List.of(2L, 1L), pageable, 13));
+      given(searchFilteredProjectsPort.findAllByIdsInOrder(List.of(2L, 1L)))
+          .willReturn(List.of(project2, project1));
+      given(findProjectLabelMapUseCase.labelMapping(List.of(project2, project1)))
+          .willReturn(
+              new ProjectLabelMapResponse(
+                  Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of()));
+      given(findUsernameUseCase.findUsernamesByIds(List.of())).willReturn(Map.of());
+      given(findUserThumbnailUseCase.findUserThumbnailsByIds(List.of())).willReturn(Map.of());
+      given(
+              filteredProjectDtoMapper.toResponseDto(
+                  eq(project1), any(), any(), any(), any(), any(), any(), anyMap(), anyMap()))
+          .willReturn(response1);
+      given(
+              filteredProjectDtoMapper.toResponseDto(
+                  eq(project2), any(), any(), any(), any(), any(), any(), anyMap(), anyMap()))
+          .willReturn(response2);
+
+      // when
+      Page<FilteredProjectResponse> result = service.searchByFilters(request, pageable);
+
+      // then
+      assertAll(
+          () -> assertThat(result.getContent()).containsExactly(response2, response1),
+          () -> assertThat(result.getTotalElements()).isEqualTo(13),
+          () -> assertThat(result.getNumber()).isEqualTo(1));
+      then(searchFilteredProjectsPort).should(never()).searchByFilters(any(), any(), any());
+    }
   }
 
   private Project createProject(Long id, String title) {
@@ -1,6 +1,7 @@
 package com.dataracy.modules.project.application.service.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.*;
 
@@ -26,7 +27,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import com.dataracy.modules.common.dto.response.CursorPage;
+import com.dataracy.modules.common.exception.CommonException;
 import com.dataracy.modules.common.logging.support.LoggerFactory;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.common.support.pagination.CreatedAtCursor;
 import com.dataracy.modules.project.application.dto.response.read.UserProjectResponse;
 import com.dataracy.modules.project.application.mapper.read.UserProjectDtoMapper;
 import com.dataracy.modules.project.application.port.out.query.read.FindUserProjectsPort;
@@ -255,6 +260,76 @@ class UserProjectReadServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("커서 기반 조회 메서드 테스트")
+  class FindByCursorTest {
+
+    @Test
+    @DisplayName("작성 프로젝트 커서 조회 시 커서를 해석해 포트에 전달하고 다음 커서를 그대로 반환한다")
+    void findUserProjectsByCursorSuccess() {
+      // given
+      Long userId = 100L;
+      CreatedAtCursor cursor = new CreatedAtCursor(LocalDateTime.of(2025, 1, 1, 0, 0), 50L);
+      Project project = createProject(1L, "Project 1", 1L, userId, 2L);
+      CursorPage<Project> projectPage = new CursorPage<>(List.of(project), "next", true, null);
+      UserProjectResponse response = mock(UserProjectResponse.class);
+
+      given(findUserProjectsPort.findUserProjectsByCursor(userId, cursor, 1))
+          .willReturn(projectPage);
+      given(getTopicLabelFromIdUseCase.getLabelsByIds(List.of(1L))).willReturn(Map.of(1L, "AI"));
+      given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(List.of(2L)))
+          .willReturn(Map.of(2L, "Expert"));
+      given(userProjectDtoMapper.toResponseDto(project, "AI", "Expert")).willReturn(response);
+
+      // when
+      CursorPage<UserProjectResponse> result =
+          service.findUserProjectsByCursor(userId, cursor.encode(), 1);
+
+      // then
+      assertAll(
+          () -> assertThat(result.content()).containsExactly(response),
+          () -> assertThat(result.nextCursor()).isEqualTo("next"),
+          () -> assertThat(result.hasNext()).isTrue(),
+          () -> assertThat(result.totalElements()).isNull());
+      then(findUserProjectsPort).should().findUserProjectsByCursor(userId, cursor, 1);
+    }
+
+    @Test
+    @DisplayName("좋아요 프로젝트 첫 페이지 커서 조회 시 null 커서로 조회하고 전체 개수를 반환한다")
+    void findLikeProjectsByCursorFirstPage() {
+      // given
+      Long userId = 200L;
+      CursorPage<Project> emptyPage = new CursorPage<>(List.of(), null, false, 0L);
+
+      given(findUserProjectsPort.findLikeProjectsByCursor(userId, null, 5)).willReturn(emptyPage);
+      given(getTopicLabelFromIdUseCase.getLabelsByIds(List.of())).willReturn(Map.of());
+      given(getAuthorLevelLabelFromIdUseCase.getLabelsByIds(List.of())).willReturn(Map.of());
+
+      // when
+      CursorPage<UserProjectResponse> result = service.findLikeProjectsByCursor(userId, null, 5);
+
+      // then
+      assertAll(
+          () -> assertThat(result.content()).isEmpty(),
+          () -> assertThat(result.hasNext()).isFalse(),
+          () -> assertThat(result.totalElements()).isZero());
+      then(findUserProjectsPort).should().findLikeProjectsByCursor(userId, null, 5);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 INVALID_CURSOR 예외가 발생하고 포트를 호출하지 않는다")
+    void findUserProjectsByCursorInvalidCursor() {
+      // when
+      CommonException ex =
+          catchThrowableOfType(
+              () -> service.findUserProjectsByCursor(100L, "invalid!!", 5), CommonException.class);
+
+      // then
+      assertThat(ex.getErrorCode()).isEqualTo(CommonErrorStatus.INVALID_CURSOR);
+      then(findUserProjectsPort).shouldHaveNoInteractions();
+    }
+  }
+
   private Project createProject(
       Long id, String title, Long topicId, Long userId, Long authorLevelId) {
     return Project.of(
@@ -0,0 +1,93 @@
+package com.dataracy.modules.project.application.worker;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.dataracy.modules.common.exception.CommonException;
+import com.dataracy.modules.common.status.CommonErrorStatus;
+import com.dataracy.modules.project.application.dto.count.ProjectCountDelta;
+import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
+import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCountPort;
+import com.dataracy.modules.project.application.port.out.count.ManageProjectCountDeltaPort;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectCountDeltaWorkerTest {
+
+  @Mock private ManageProjectCountDeltaPort manageProjectCountDeltaPort;
+
+  @Mock private UpdateProjectCountPort updateProjectCountDbPort;
+
+  @Mock private ManageProjectProjectionTaskPort manageProjectProjectionTaskPort;
+
+  @InjectMocks private ProjectCountDeltaWorker worker;
+
+  @Test
+  @DisplayName("누적된 변경분을 DB 배치 UPDATE와 프로젝션 큐 배치 등록으로 반영")
+  void flushCountDeltasAppliesBatch() {
+    // given
+    List<ProjectCountDelta> deltas =
+        List.of(new ProjectCountDelta(1L, 2, 0), new ProjectCountDelta(2L, 0, -1));
+    given(manageProjectCountDeltaPort.drainDeltas(500)).willReturn(deltas);
+
+    // when
+    worker.flushCountDeltas();
+
+    // then
+    then(updateProjectCountDbPort).should().applyCountDeltas(deltas);
+    then(manageProjectProjectionTaskPort).should().enqueueCountDeltaBatch(deltas);
+    then(manageProjectCountDeltaPort).should(never()).addDeltas(anyList());
+  }
+
+  @Test
+  @DisplayName("변경분이 없으면 DB와 프로젝션 큐를 호출하지 않음")
+  void flushCountDeltasWhenEmpty() {
+    // given
+    given(manageProjectCountDeltaPort.drainDeltas(500)).willReturn(List.of());
+
+    // when
+    worker.flushCountDeltas();
+
+    // then
+    then(updateProjectCountDbPort).shouldHaveNoInteractions();
+    then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("drain 실패 시 DB 반영 없이 종료")
+  void flushCountDeltasWhenDrainFails() {
+    // given
+    given(manageProjectCountDeltaPort.drainDeltas(500))
+        .willThrow(new CommonException(CommonErrorStatus.REDIS_CONNECTION_FAILURE));
+
+    // when
+    worker.flushCountDeltas();
+
+    // then
+    then(updateProjectCountDbPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("DB 반영 실패 시 꺼낸 변경분을 Redis에 되돌리고 예외 전파(롤백)")
+  void flushCountDeltasRestoresOnFailure() {
+    // given
+    List<ProjectCountDelta> deltas = List.of(new ProjectCountDelta(1L, 1, 3));
+    given(manageProjectCountDeltaPort.drainDeltas(500)).willReturn(deltas);
+    willThrow(new RuntimeException("deadlock"))
+        .given(updateProjectCountDbPort)
+        .applyCountDeltas(deltas);
+
+    // when & then
+    assertThatThrownBy(() -> worker.flushCountDeltas()).hasMessage("deadlock");
+    then(manageProjectCountDeltaPort).should().addDeltas(deltas);
+    then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
+  }
+}
@@ -6,21 +6,31 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.BDDMockito.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.dataracy.modules.common.support.metrics.ProjectionQueueMetrics;
 import com.dataracy.modules.project.adapter.jpa.entity.ProjectEsProjectionTaskEntity;
+import com.dataracy.modules.project.application.dto.projection.ProjectProjectionDelta;
 import com.dataracy.modules.project.application.port.out.command.delete.SoftDeleteProjectPort;
+import com.dataracy.modules.project.application.port.out.command.projection.BulkUpdateProjectProjectionPort;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionDlqPort;
 import com.dataracy.modules.project.application.port.out.command.projection.ManageProjectProjectionTaskPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectCommentPort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectLikePort;
 import com.dataracy.modules.project.application.port.out.command.update.UpdateProjectViewPort;
+import com.dataracy.modules.project.application.port.out.query.projection.LoadProjectProjectionTaskPort;
 import com.dataracy.modules.project.domain.enums.ProjectEsProjectionType;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +40,8 @@ class ProjectEsProjectionWorkerTest {
 
   @Mock private ManageProjectProjectionDlqPort manageProjectProjectionDlqPort;
 
+  @Mock private LoadProjectProjectionTaskPort loadProjectProjectionTaskPort;
+
   @Mock private SoftDeleteProjectPort softDeleteProjectEsPort;
 
   @Mock private UpdateProjectCommentPort updateProjectCommentEsPort;
@@ -38,6 +50,10 @@ class ProjectEsProjectionWorkerTest {
 
   @Mock private UpdateProjectViewPort updateProjectViewEsPort;
 
+  @Mock private BulkUpdateProjectProjectionPort bulkUpdateProjectProjectionEsPort;
+
+  @Mock private ProjectionQueueMetrics projectionQueueMetrics;
+
   @InjectMocks private ProjectEsProjectionWorker worker;
 
   @Test
@@ -61,12 +77,37 @@ class ProjectEsProjectionWorkerTest {
 
     // then
     then(softDeleteProjectEsPort).should().deleteProject(100L);
-    then(updateProjectCommentEsPort).should().increaseCommentCount(100L);
-    then(updateProjectLikeEsPort).should().decreaseLikeCount(100L);
+    then(updateProjectCommentEsPort).should().increaseCommentCount(100L, 1);
+    then(updateProjectLikeEsPort).should().decreaseLikeCount(100L, 1);
     then(updateProjectViewEsPort).should().increaseViewCount(100L, 3L);
     then(manageProjectProjectionTaskPort).should().delete(1L);
   }
 
+  @Test
+  @DisplayName("정상 처리 - 병합된 다건 델타는 개수만큼 한 번에 반영")
+  void processTaskAppliesMultiUnitDeltas() {
+    // given
+    ProjectEsProjectionTaskEntity task =
+        ProjectEsProjectionTaskEntity.builder()
+            .id(5L)
+            .projectId(500L)
+            .deltaComment(3)
+            .deltaLike(-2)
+            .retryCount(0)
+            .status(ProjectEsProjectionType.PENDING)
+            .build();
+
+    // when
+    worker.processTask(task);
+
+    // then
+    then(updateProjectCommentEsPort).should().increaseCommentCount(500L, 3);
+    then(updateProjectLikeEsPort).should().decreaseLikeCount(500L, 2);
+    then(updateProjectCommentEsPort).should(never()).increaseCommentCount(500L);
+    then(updateProjectLikeEsPort).should(never()).decreaseLikeCount(500L);
+    then(manageProjectProjectionTaskPort).should().delete(5L);
+  }
+
   @Test
   @DisplayName("실패 처리 - 예외 발생 시 RETRYING으로 전환")
   void processTaskFailAndRetrying() {
@@ -82,7 +123,7 @@ class ProjectEsProjectionWorkerTest {
 
     willThrow(new RuntimeException("ES down"))
         .given(updateProjectCommentEsPort)
-        .increaseCommentCount(200L);
+        .increaseCommentCount(200L, 1);
 
     // when
     worker.processTask(task);
@@ -94,6 +135,9 @@ class ProjectEsProjectionWorkerTest {
         () -> assertThat(task.getLastError()).contains("ES down"),
         () -> assertThat(task.getNextRunAt()).isAfter(LocalDateTime.now()));
     then(manageProjectProjectionDlqPort).shouldHaveNoInteractions();
+    then(manageProjectProjectionTaskPort)
+        .should()
+        .markRetry(eq(2L), eq(1), contains("ES down"), eq(task.getNextRunAt()));
     then(manageProjectProjectionTaskPort).should(never()).delete(task.getId());
   }
 
@@ -138,4 +182,163 @@ class ProjectEsProjectionWorkerTest {
     // → 위 테스트에서 RuntimeException 메시지가 truncate되었는지 검증 가능
     assertThat(longMsg.length()).isGreaterThan(2000);
   }
+
+  @Test
+  @DisplayName("벌크 처리 - 프로젝트별 델타를 병합해 한 번에 반영하고 작업 일괄 삭제")
+  void processBulkCoalescesDeltasPerProject() {
+    // given
+    List<ProjectEsProjectionTaskEntity> tasks =
+        List.of(
+            task(1L, 100L, 1, 0, 0L, false),
+            task(2L, 100L, 0, 1, 0L, false),
+            task(3L, 100L, 0, 0, 5L, false),
+            task(4L, 100L, 0, 0, 0L, true),
+            task(5L, 200L, -1, 0, 0L, false));
+    given(bulkUpdateProjectProjectionEsPort.applyDeltas(anyList())).willReturn(Map.of());
+
+    // when
+    worker.processBulk(tasks);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ProjectProjectionDelta>> captor = ArgumentCaptor.forClass(List.class);
+    then(bulkUpdateProjectProjectionEsPort).should().applyDeltas(captor.capture());
+    assertThat(captor.getValue())
+        .containsExactly(
+            new ProjectProjectionDelta(100L, 1, 1, 5L, true),
+            new ProjectProjectionDelta(200L, -1, 0, 0L, null));
+    then(manageProjectProjectionTaskPort).should().deleteAll(List.of(1L, 2L, 3L, 4L, 5L));
+    then(updateProjectLikeEsPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("벌크 처리 - 실패한 프로젝트의 작업만 RETRYING으로 전환")
+  void processBulkRetriesOnlyFailedProjects() {
+    // given
+    ProjectEsProjectionTaskEntity ok = task(1L, 100L, 1, 0, 0L, false);
+    ProjectEsProjectionTaskEntity failed = task(2L, 200L, 0, 1, 0L, false);
+    given(bulkUpdateProjectProjectionEsPort.applyDeltas(anyList()))
+        .willReturn(Map.of(200L, "version conflict"));
+
+    // when
+    worker.processBulk(List.of(ok, failed));
+
+    // then
+    assertAll(
+        () -> assertThat(failed.getStatus()).isEqualTo(ProjectEsProjectionType.RETRYING),
+        () -> assertThat(failed.getRetryCount()).isEqualTo(1),
+        () -> assertThat(failed.getLastError()).contains("version conflict"),
+        () -> assertThat(ok.getStatus()).isEqualTo(ProjectEsProjectionType.PENDING));
+    then(manageProjectProjectionTaskPort)
+        .should()
+        .markRetry(eq(2L), eq(1), contains("version conflict"), any(LocalDateTime.class));
+    then(manageProjectProjectionTaskPort).should().deleteAll(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("벌크 처리 - 요청 자체가 실패하면 모든 작업 재시도, 한도 초과 작업은 DLQ 이동")
+  void processBulkWhenRequestFails() {
+    // given
+    ProjectEsProjectionTaskEntity retrying = task(1L, 100L, 1, 0, 0L, false);
+    ProjectEsProjectionTaskEntity exhausted = task(2L, 200L, 0, 1, 0L, false);
+    exhausted.setRetryCount(7);
+    given(bulkUpdateProjectProjectionEsPort.applyDeltas(anyList()))
+        .willThrow(new RuntimeException("ES down"));
+
+    // when
+    worker.processBulk(List.of(retrying, exhausted));
+
+    // then
+    assertThat(retrying.getStatus()).isEqualTo(ProjectEsProjectionType.RETRYING);
+    then(manageProjectProjectionDlqPort)
+        .should()
+        .save(eq(200L), eq(0), eq(1), eq(0L), eq(false), contains("ES down"));
+    then(manageProjectProjectionTaskPort).should().deleteAll(List.of(2L));
+  }
+
+  @Test
+  @DisplayName("run - 작업을 임대 시각과 함께 선점해 처리")
+  void runClaimsBatchWithLease() {
+    // given
+    ReflectionTestUtils.setField(worker, "bulkEnabled", true);
+    ReflectionTestUtils.setField(worker, "leaseSeconds", 30L);
+    ProjectEsProjectionTaskEntity claimed = task(1L, 100L, 1, 0, 0L, false);
+    given(
+            loadProjectProjectionTaskPort.claimBatchForWork(
+                any(LocalDateTime.class), anyList(), any(Pageable.class), any(LocalDateTime.class)))
+        .willReturn(List.of(claimed));
+    given(bulkUpdateProjectProjectionEsPort.applyDeltas(anyList())).willReturn(Map.of());
+
+    // when
+    worker.run();
+
+    // then
+    ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+    ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+    then(loadProjectProjectionTaskPort)
+        .should()
+        .claimBatchForWork(
+            now.capture(),
+            eq(List.of(ProjectEsProjectionType.PENDING, ProjectEsProjectionType.RETRYING)),
+            any(Pageable.class),
+            leaseUntil.capture());
+    assertThat(leaseUntil.getValue()).isEqualTo(now.getValue().plusSeconds(30));
+    then(manageProjectProjectionTaskPort).should().deleteAll(List.of(1L));
+    then(projectionQueueMetrics).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("run - 작업 선점에 실패해도 예외를 전파하지 않음")
+  void runSwallowsClaimFailure() {
+    // given
+    given(
+            loadProjectProjectionTaskPort.claimBatchForWork(
+                any(LocalDateTime.class), anyList(), any(Pageable.class), any(LocalDateTime.class)))
+        .willThrow(new RuntimeException("lock wait timeout"));
+
+    // when & then
+    assertThatNoException().isThrownBy(() -> worker.run());
+    then(bulkUpdateProjectProjectionEsPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("recordQueueMetrics - 큐 적체 메트릭 갱신")
+  void recordQueueMetricsRecordsDepthAndOldest() {
+    // given
+    LocalDateTime oldest = LocalDateTime.now().minusMinutes(1);
+    given(loadProjectProjectionTaskPort.countQueued()).willReturn(3L);
+    given(loadProjectProjectionTaskPort.findOldestQueuedAt()).willReturn(Optional.of(oldest));
+
+    // when
+    worker.recordQueueMetrics();
+
+    // then
+    then(projectionQueueMetrics).should().record("project", 3L, oldest);
+  }
+
+  @Test
+  @DisplayName("recordQueueMetrics - 집계 쿼리가 실패해도 예외를 전파하지 않음")
+  void recordQueueMetricsSwallowsFailure() {
+    // given
+    given(loadProjectProjectionTaskPort.countQueued())
+        .willThrow(new RuntimeException("connection reset"));
+
+    // when & then
+    assertThatNoException().isThrownBy(() -> worker.recordQueueMetrics());
+    then(projectionQueueMetrics).shouldHaveNoInteractions();
+  }
+
+  private ProjectEsProjectionTaskEntity task(
+      Long id, Long projectId, int deltaComment, int deltaLike, long deltaView, boolean deleted) {
+    return ProjectEsProjectionTaskEntity.builder()
+        .id(id)
+        .projectId(projectId)
+        .deltaComment(deltaComment)
+        .deltaLike(deltaLike)
+        .deltaView(deltaView)
+        .setDeleted(deleted)
+        .retryCount(0)
+        .status(ProjectEsProjectionType.PENDING)
+        .build();
+  }
 }
@@ -1,11 +1,11 @@
 package com.dataracy.modules.project.application.worker;
 
 import static org.assertj.core.api.Assertions.assertThatNoException;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.*;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.Map;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,42 +30,45 @@ class ProjectViewCountWorkerTest {
   @InjectMocks private ProjectViewCountWorker worker;
 
   @Test
-  @DisplayName("프로젝트 조회수 집계 성공 - 양수 카운트만 반영")
-  void flushProjectViewsSuccessWithPositiveCounts() {
+  @DisplayName("프로젝트 조회수 집계 성공 - drain 결과를 배치로 반영")
+  void flushProjectViewsSuccessWithDrainedCounts() {
     // given
-    Set<String> keys = new LinkedHashSet<>();
-    keys.add("viewCount:PROJECT:10");
-    keys.add("viewCount:PROJECT:11");
-
-    given(manageProjectViewCountPort.getAllViewCountKeys("PROJECT")).willReturn(keys);
-    given(manageProjectViewCountPort.popViewCount(10L, "PROJECT")).willReturn(5L);
-    given(manageProjectViewCountPort.popViewCount(11L, "PROJECT")).willReturn(2L);
+    Map<Long, Long> drained = Map.of(10L, 5L, 11L, 2L);
+    given(manageProjectViewCountPort.drainViewCounts(eq("PROJECT"), anyInt())).willReturn(drained);
 
     // when & then
     assertThatNoException().isThrownBy(() -> worker.flushProjectViews());
 
     // then
-    then(updateProjectViewDbPort).should().increaseViewCountBatch(any());
-    then(manageProjectProjectionTaskPort).should().enqueueViewDeltaBatch(any());
+    then(updateProjectViewDbPort).should().increaseViewCountBatch(drained);
+    then(manageProjectProjectionTaskPort).should().enqueueViewDeltaBatch(drained);
   }
 
   @Test
-  @DisplayName("프로젝트 조회수 집계 예외 케이스 - 잘못된 키/0/null 값 무시")
-  void flushProjectViewsIgnoreZeroOrNullAndBadKey() {
+  @DisplayName("프로젝트 조회수 집계 - drain 결과가 없으면 저장소를 호출하지 않음")
+  void flushProjectViewsWithNothingToDrain() {
     // given
-    Set<String> keys = new LinkedHashSet<>();
-    keys.add("viewCount:PROJECT:20");
-    keys.add("bad-key-format");
-    keys.add("viewCount:PROJECT:21");
+    given(manageProjectViewCountPort.drainViewCounts(eq("PROJECT"), anyInt())).willReturn(Map.of());
+
+    // when & then
+    assertThatNoException().isThrownBy(() -> worker.flushProjectViews());
+
+    // then
+    then(updateProjectViewDbPort).shouldHaveNoInteractions();
+    then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
+  }
 
-    given(manageProjectViewCountPort.getAllViewCountKeys("PROJECT")).willReturn(keys);
-    given(manageProjectViewCountPort.popViewCount(20L, "PROJECT")).willReturn(0L);
-    given(manageProjectViewCountPort.popViewCount(21L, "PROJECT")).willReturn(null);
+  @Test
+  @DisplayName("프로젝트 조회수 집계 예외 케이스 - drain 실패 시 저장소를 호출하지 않음")
+  void flushProjectViewsWhenDrainFails() {
+    // given
+    given(manageProjectViewCountPort.drainViewCounts(eq("PROJECT"), anyInt()))
+        .willThrow(new RuntimeException("redis down"));
 
     // when & then
     assertThatNoException().isThrownBy(() -> worker.flushProjectViews());
 
-    // then (0, null 값 및 잘못된 키는 무시됨)
+    // then
     then(updateProjectViewDbPort).shouldHaveNoInteractions();
     then(manageProjectProjectionTaskPort).shouldHaveNoInteractions();
   }
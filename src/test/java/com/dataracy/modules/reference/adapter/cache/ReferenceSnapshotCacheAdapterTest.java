@@ -0,0 +1,112 @@
+package com.dataracy.modules.reference.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.dataracy.modules.reference.adapter.jpa.entity.DataTypeEntity;
+import com.dataracy.modules.reference.adapter.jpa.entity.TopicEntity;
+import com.dataracy.modules.reference.adapter.jpa.repository.AnalysisPurposeJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.AuthorLevelJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.DataSourceJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.DataTypeJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.OccupationJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.TopicJpaRepository;
+import com.dataracy.modules.reference.adapter.jpa.repository.VisitSourceJpaRepository;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReferenceSnapshotCacheAdapterTest {
+
+  @Mock private TopicJpaRepository topicJpaRepository;
+  @Mock private DataSourceJpaRepository dataSourceJpaRepository;
+  @Mock private DataTypeJpaRepository dataTypeJpaRepository;
+  @Mock private AuthorLevelJpaRepository authorLevelJpaRepository;
+  @Mock private OccupationJpaRepository occupationJpaRepository;
+  @Mock private AnalysisPurposeJpaRepository analysisPurposeJpaRepository;
+  @Mock private VisitSourceJpaRepository visitSourceJpaRepository;
+  @Mock private StringRedisTemplate redisTemplate;
+  @Mock private RedisMessageListenerContainer listenerContainer;
+
+  @InjectMocks private ReferenceSnapshotCacheAdapter adapter;
+
+  @Test
+  @DisplayName("적재 전에는 모든 조회가 스냅샷 미스")
+  void findLabelBeforeRefreshReturnsEmpty() {
+    // when & then
+    assertAll(
+        () -> assertThat(adapter.findLabel(ReferenceType.TOPIC, 1L)).isEmpty(),
+        () -> assertThat(adapter.findLabels(ReferenceType.TOPIC, List.of(1L))).isEmpty());
+  }
+
+  @Test
+  @DisplayName("적재 후 종류별로 라벨을 메모리에서 조회")
+  void refreshLoadsLabelsPerType() {
+    // given
+    given(topicJpaRepository.findAll())
+        .willReturn(
+            List.of(
+                TopicEntity.builder().id(2L).value("v2").label("토픽 2").build(),
+                TopicEntity.builder().id(1L).value("v1").label("토픽 1").build()));
+    given(dataTypeJpaRepository.findAll())
+        .willReturn(List.of(DataTypeEntity.builder().id(1L).value("v").label("유형 1").build()));
+
+    // when
+    adapter.refresh();
+
+    // then
+    assertAll(
+        () -> assertThat(adapter.findLabel(ReferenceType.TOPIC, 1L)).contains("토픽 1"),
+        () -> assertThat(adapter.findLabel(ReferenceType.DATA_TYPE, 1L)).contains("유형 1"),
+        () -> assertThat(adapter.findLabel(ReferenceType.TOPIC, 3L)).isEmpty(),
+        () -> assertThat(adapter.findLabel(ReferenceType.TOPIC, null)).isEmpty(),
+        () ->
+            assertThat(adapter.findLabels(ReferenceType.TOPIC, Arrays.asList(1L, 2L, 3L, null)))
+                .isEqualTo(Map.of(1L, "토픽 1", 2L, "토픽 2")));
+  }
+
+  @Test
+  @DisplayName("적재에 실패하면 이전 스냅샷을 유지")
+  void refreshFailureKeepsPreviousSnapshot() {
+    // given
+    given(topicJpaRepository.findAll())
+        .willReturn(List.of(TopicEntity.builder().id(1L).value("v1").label("토픽 1").build()))
+        .willThrow(new RuntimeException("DB down"));
+    adapter.refresh();
+
+    // when
+    adapter.refresh();
+
+    // then
+    assertThat(adapter.findLabel(ReferenceType.TOPIC, 1L)).contains("토픽 1");
+  }
+
+  @Test
+  @DisplayName("무효화 시 다른 노드에 알리고 스냅샷을 다시 적재")
+  void invalidatePublishesAndRefreshes() {
+    // when
+    adapter.invalidate();
+
+    // then
+    then(redisTemplate)
+        .should()
+        .convertAndSend(eq(ReferenceSnapshotCacheAdapter.CHANNEL), anyString());
+    then(topicJpaRepository).should().findAll();
+  }
+}
@@ -29,6 +29,7 @@ import com.dataracy.modules.reference.application.dto.response.allview.AllAnalys
 import com.dataracy.modules.reference.application.dto.response.singleview.AnalysisPurposeResponse;
 import com.dataracy.modules.reference.application.mapper.AnalysisPurposeDtoMapper;
 import com.dataracy.modules.reference.application.port.out.AnalysisPurposePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.AnalysisPurpose;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -45,6 +46,7 @@ class AnalysisPurposeQueryServiceTest {
   @Mock private AnalysisPurposeDtoMapper analysisPurposeDtoMapper;
 
   @Mock private AnalysisPurposePort analysisPurposePort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   private MockedStatic<LoggerFactory> loggerFactoryMock;
   private ServiceLogger loggerService;
@@ -22,6 +22,7 @@ import com.dataracy.modules.reference.application.dto.response.allview.AllAuthor
 import com.dataracy.modules.reference.application.dto.response.singleview.AuthorLevelResponse;
 import com.dataracy.modules.reference.application.mapper.AuthorLevelDtoMapper;
 import com.dataracy.modules.reference.application.port.out.AuthorLevelPort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.AuthorLevel;
 
@@ -33,6 +34,7 @@ class AuthorLevelQueryServiceTest {
   private static final Integer CURRENT_YEAR = 2024;
 
   @Mock private AuthorLevelPort authorLevelPort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   @Mock private AuthorLevelDtoMapper authorLevelDtoMapper;
 
@@ -22,6 +22,7 @@ import com.dataracy.modules.reference.application.dto.response.allview.AllDataSo
 import com.dataracy.modules.reference.application.dto.response.singleview.DataSourceResponse;
 import com.dataracy.modules.reference.application.mapper.DataSourceDtoMapper;
 import com.dataracy.modules.reference.application.port.out.DataSourcePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.DataSource;
 
@@ -33,6 +34,7 @@ class DataSourceQueryServiceTest {
   private static final Integer CURRENT_YEAR = 2024;
 
   @Mock private DataSourcePort dataSourcePort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   @Mock private DataSourceDtoMapper dataSourceDtoMapper;
 
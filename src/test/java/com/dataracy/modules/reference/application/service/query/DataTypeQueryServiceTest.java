@@ -23,6 +23,7 @@ import com.dataracy.modules.reference.application.dto.response.allview.AllDataTy
 import com.dataracy.modules.reference.application.dto.response.singleview.DataTypeResponse;
 import com.dataracy.modules.reference.application.mapper.DataTypeDtoMapper;
 import com.dataracy.modules.reference.application.port.out.DataTypePort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.DataType;
 
@@ -34,6 +35,7 @@ class DataTypeQueryServiceTest {
   private static final Integer CURRENT_YEAR = 2024;
 
   @Mock private DataTypePort dataTypePort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   @Mock private DataTypeDtoMapper dataTypeDtoMapper;
 
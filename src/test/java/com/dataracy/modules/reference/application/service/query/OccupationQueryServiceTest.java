@@ -22,6 +22,7 @@ import com.dataracy.modules.reference.application.dto.response.allview.AllOccupa
 import com.dataracy.modules.reference.application.dto.response.singleview.OccupationResponse;
 import com.dataracy.modules.reference.application.mapper.OccupationDtoMapper;
 import com.dataracy.modules.reference.application.port.out.OccupationPort;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.Occupation;
 
@@ -33,6 +34,7 @@ class OccupationQueryServiceTest {
   private static final Integer CURRENT_YEAR = 2024;
 
   @Mock private OccupationPort occupationPort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   @Mock private OccupationDtoMapper occupationDtoMapper;
 
@@ -28,7 +28,9 @@ import com.dataracy.modules.common.logging.support.LoggerFactory;
 import com.dataracy.modules.reference.application.dto.response.allview.AllTopicsResponse;
 import com.dataracy.modules.reference.application.dto.response.singleview.TopicResponse;
 import com.dataracy.modules.reference.application.mapper.TopicDtoMapper;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.application.port.out.TopicPort;
+import com.dataracy.modules.reference.domain.enums.ReferenceType;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.Topic;
 import com.dataracy.modules.reference.domain.status.ReferenceErrorStatus;
@@ -45,6 +47,7 @@ class TopicQueryServiceTest {
   @Mock private TopicDtoMapper topicDtoMapper;
 
   @Mock private TopicPort topicPort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   private MockedStatic<LoggerFactory> loggerFactoryMock;
   private ServiceLogger loggerService;
@@ -263,6 +266,22 @@ class TopicQueryServiceTest {
               any(Instant.class));
     }
 
+    @Test
+    @DisplayName("스냅샷에 있는 라벨은 DB를 조회하지 않고 반환")
+    void getLabelByIdFromSnapshot() {
+      // given
+      Long topicId = 1L;
+      given(referenceSnapshotPort.findLabel(ReferenceType.TOPIC, topicId))
+          .willReturn(Optional.of("토픽"));
+
+      // when
+      String result = service.getLabelById(topicId);
+
+      // then
+      assertThat(result).isEqualTo("토픽");
+      then(topicPort).should(never()).getLabelById(any());
+    }
+
     @Test
     @DisplayName("라벨이 존재하지 않을 때 예외 발생")
     void getLabelByIdFailWhenNotFound() {
@@ -329,6 +348,23 @@ class TopicQueryServiceTest {
               any(Instant.class));
     }
 
+    @Test
+    @DisplayName("스냅샷에 없는 ID만 DB에서 조회해 합친다")
+    void getLabelsByIdsQueriesOnlySnapshotMisses() {
+      // given
+      List<Long> topicIds = List.of(1L, 2L);
+      given(referenceSnapshotPort.findLabels(ReferenceType.TOPIC, topicIds))
+          .willReturn(Map.of(1L, "토픽 1"));
+      given(topicPort.getLabelsByIds(List.of(2L))).willReturn(Map.of(2L, "토픽 2"));
+
+      // when
+      Map<Long, String> result = service.getLabelsByIds(topicIds);
+
+      // then
+      assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "토픽 1", 2L, "토픽 2"));
+      then(topicPort).should().getLabelsByIds(List.of(2L));
+    }
+
     @Test
     @DisplayName("null ID 목록일 때 빈 Map 반환")
     void getLabelsByIdsWithNullList() {
@@ -21,6 +21,7 @@ import org.mockito.quality.Strictness;
 import com.dataracy.modules.reference.application.dto.response.allview.AllVisitSourcesResponse;
 import com.dataracy.modules.reference.application.dto.response.singleview.VisitSourceResponse;
 import com.dataracy.modules.reference.application.mapper.VisitSourceDtoMapper;
+import com.dataracy.modules.reference.application.port.out.ReferenceSnapshotPort;
 import com.dataracy.modules.reference.application.port.out.VisitSourcePort;
 import com.dataracy.modules.reference.domain.exception.ReferenceException;
 import com.dataracy.modules.reference.domain.model.VisitSource;
@@ -33,6 +34,7 @@ class VisitSourceQueryServiceTest {
   private static final Integer CURRENT_YEAR = 2024;
 
   @Mock private VisitSourcePort visitSourcePort;
+  @Mock private ReferenceSnapshotPort referenceSnapshotPort;
 
   @Mock private VisitSourceDtoMapper visitSourceDtoMapper;
 
@@ -0,0 +1,83 @@
+package com.dataracy.modules.user.adapter.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dataracy.modules.user.domain.model.vo.UserCard;
+
+class UserCardCacheAdapterTest {
+
+  private UserCardCacheAdapter adapter;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new UserCardCacheAdapter();
+    ReflectionTestUtils.setField(adapter, "maxSize", 2);
+    ReflectionTestUtils.setField(adapter, "ttlMillis", 60_000L);
+    adapter.init();
+  }
+
+  @Test
+  @DisplayName("저장한 유저 카드 중 요청한 유저만 반환한다")
+  void findAllReturnsStoredCards() {
+    // given
+    UserCard card = card(1L);
+    adapter.putAll(Map.of(1L, card));
+
+    // when
+    Map<Long, UserCard> found = adapter.findAll(List.of(1L, 2L));
+
+    // then
+    assertThat(found).containsExactlyEntriesOf(Map.of(1L, card));
+  }
+
+  @Test
+  @DisplayName("보관 시간이 지난 유저 카드는 조회되지 않는다")
+  void findAllIgnoresExpiredCards() {
+    // given
+    ReflectionTestUtils.setField(adapter, "ttlMillis", -1L);
+    adapter.putAll(Map.of(1L, card(1L)));
+
+    // when & then
+    assertThat(adapter.findAll(List.of(1L))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("제거한 유저 카드는 더 이상 조회되지 않는다")
+  void evictRemovesCard() {
+    // given
+    adapter.putAll(Map.of(1L, card(1L)));
+
+    // when
+    adapter.evict(1L);
+
+    // then
+    assertThat(adapter.findAll(List.of(1L))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 개수를 넘으면 가장 오래 사용되지 않은 유저 카드를 제거한다")
+  void evictsLeastRecentlyUsedCard() {
+    // given
+    adapter.putAll(Map.of(1L, card(1L)));
+    adapter.putAll(Map.of(2L, card(2L)));
+    adapter.findAll(List.of(1L));
+
+    // when
+    adapter.putAll(Map.of(3L, card(3L)));
+
+    // then
+    assertThat(adapter.findAll(List.of(1L, 2L, 3L))).containsOnlyKeys(1L, 3L);
+  }
+
+  private UserCard card(Long userId) {
+    return new UserCard(userId, "nick" + userId, "img" + userId, 1L, 2L);
+  }
+}
@@ -13,10 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.dataracy.modules.user.adapter.jpa.entity.UserEntity;
 import com.dataracy.modules.user.adapter.jpa.repository.UserJpaRepository;
-import com.dataracy.modules.user.domain.enums.ProviderType;
-import com.dataracy.modules.user.domain.enums.RoleType;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 
 @ExtendWith(MockitoExtension.class)
 class UserMultiQueryDbAdapterTest {
@@ -25,55 +23,15 @@ class UserMultiQueryDbAdapterTest {
 
   @InjectMocks private UserMultiQueryDbAdapter adapter;
 
-  private UserEntity entity() {
-    return UserEntity.of(
-        ProviderType.LOCAL,
-        "pid",
-        RoleType.ROLE_USER,
-        "u@test.com",
-        "pw",
-        "nick",
-        null,
-        null,
-        null,
-        null,
-        "intro",
-        true,
-        false);
-  }
-
-  @Test
-  @DisplayName("사용자 이름 조회 성공")
-  void findUsernamesByIdsSuccess() {
-    given(userJpaRepository.findAllById(anyList())).willReturn(List.of(entity()));
-
-    Map<Long, String> map = adapter.findUsernamesByIds(List.of(1L));
-
-    assertThat(map).isNotEmpty();
-    then(userJpaRepository).should().findAllById(anyList());
-  }
-
-  @Test
-  @DisplayName("썸네일 조회 - null일 경우 빈 문자열 반환")
-  void findUserThumbnailsByIdsNullImage() {
-    UserEntity e = entity();
-    given(userJpaRepository.findAllById(anyList())).willReturn(List.of(e));
-
-    Map<Long, String> map = adapter.findUserThumbnailsByIds(List.of(1L));
-
-    assertThat(map).containsValue("");
-    then(userJpaRepository).should().findAllById(anyList());
-  }
-
   @Test
-  @DisplayName("작성자 레벨 조회 - null이면 기본값 1 반환")
-  void findUserAuthorLevelIdsNullDefault() {
-    UserEntity e = entity();
-    given(userJpaRepository.findAllById(anyList())).willReturn(List.of(e));
+  @DisplayName("유저 카드 조회 - 유저 ID별 Map 반환")
+  void findUserCardsByIdsSuccess() {
+    UserCard card = new UserCard(1L, "nick", null, 2L, 3L);
+    given(userJpaRepository.findUserCardsByIds(anyList())).willReturn(List.of(card));
 
-    Map<Long, String> map = adapter.findUserAuthorLevelIds(List.of(1L));
+    Map<Long, UserCard> map = adapter.findUserCardsByIds(List.of(1L));
 
-    assertThat(map).containsValue("1");
-    then(userJpaRepository).should().findAllById(anyList());
+    assertThat(map).containsEntry(1L, card);
+    then(userJpaRepository).should().findUserCardsByIds(anyList());
   }
 }
@@ -32,6 +32,7 @@ import com.dataracy.modules.reference.application.port.in.topic.ValidateTopicUse
 import com.dataracy.modules.reference.application.port.in.visitsource.ValidateVisitSourceUseCase;
 import com.dataracy.modules.user.application.dto.request.command.ModifyUserInfoRequest;
 import com.dataracy.modules.user.application.port.in.validate.DuplicateNicknameUseCase;
+import com.dataracy.modules.user.application.port.out.cache.UserCardCachePort;
 import com.dataracy.modules.user.application.port.out.command.UserCommandPort;
 import com.dataracy.modules.user.application.port.out.query.UserQueryPort;
 import com.dataracy.modules.user.domain.exception.UserException;
@@ -47,6 +48,8 @@ class UserCommandServiceTest {
 
   @Mock private UserQueryPort userQueryPort;
 
+  @Mock private UserCardCachePort userCardCachePort;
+
   @Mock private DuplicateNicknameUseCase duplicateNicknameUseCase;
 
   @Mock private ValidateAuthorLevelUseCase validateAuthorLevelUseCase;
@@ -232,6 +235,7 @@ class UserCommandServiceTest {
 
       // then
       then(userCommandPort).should().withdrawalUser(userId);
+      then(userCardCachePort).should().evict(userId);
     }
 
     @Test
@@ -3,7 +3,10 @@ package com.dataracy.modules.user.application.service.query.profile;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import java.util.List;
 import java.util.Map;
@@ -22,12 +25,14 @@ import com.dataracy.modules.reference.application.port.in.occupation.GetOccupati
 import com.dataracy.modules.reference.application.port.in.topic.GetTopicLabelFromIdUseCase;
 import com.dataracy.modules.reference.application.port.in.visitsource.GetVisitSourceLabelFromIdUseCase;
 import com.dataracy.modules.user.application.dto.response.read.GetUserInfoResponse;
+import com.dataracy.modules.user.application.port.out.cache.UserCardCachePort;
 import com.dataracy.modules.user.application.port.out.query.UserMultiQueryPort;
 import com.dataracy.modules.user.application.port.out.query.UserQueryPort;
 import com.dataracy.modules.user.domain.enums.ProviderType;
 import com.dataracy.modules.user.domain.enums.RoleType;
 import com.dataracy.modules.user.domain.exception.UserException;
 import com.dataracy.modules.user.domain.model.User;
+import com.dataracy.modules.user.domain.model.vo.UserCard;
 import com.dataracy.modules.user.domain.model.vo.UserInfo;
 import com.dataracy.modules.user.domain.status.UserErrorStatus;
 
@@ -38,6 +43,8 @@ class UserProfileServiceTest {
 
   @Mock private UserMultiQueryPort userMultiQueryPort;
 
+  @Mock private UserCardCachePort userCardCachePort;
+
   @Mock private GetTopicLabelFromIdUseCase getTopicLabelFromIdUseCase;
 
   @Mock private GetAuthorLevelLabelFromIdUseCase getAuthorLevelLabelFromIdUseCase;
@@ -67,6 +74,10 @@ class UserProfileServiceTest {
         .build();
   }
 
+  private UserCard card(Long userId, String nickname, String imageUrl, Long authorLevelId) {
+    return new UserCard(userId, nickname, imageUrl, authorLevelId, 2L);
+  }
+
   // ---------------- findUsernameById ----------------
   @Nested
   class FindUsernameByIdTests {
@@ -75,7 +86,8 @@ class UserProfileServiceTest {
     @DisplayName("유저 존재 → 닉네임 반환")
     void findUsernameByIdSuccess() {
       // given
-      given(userQueryPort.findUserById(10L)).willReturn(Optional.of(localUser()));
+      given(userMultiQueryPort.findUserCardsByIds(List.of(10L)))
+          .willReturn(Map.of(10L, card(10L, "nick", "img.png", 1L)));
 
       // when
       String nickname = service.findUsernameById(10L);
@@ -88,7 +100,7 @@ class UserProfileServiceTest {
     @DisplayName("유저 없음 → NOT_FOUND_USER 예외")
     void findUsernameByIdNotFound() {
       // given
-      given(userQueryPort.findUserById(10L)).willReturn(Optional.empty());
+      given(userMultiQueryPort.findUserCardsByIds(List.of(10L))).willReturn(Map.of());
 
       // when
       UserException ex =
@@ -115,8 +127,8 @@ class UserProfileServiceTest {
     @DisplayName("유저들 존재 → Map 반환")
     void findUsernamesByIdsSuccess() {
       // given
-      Map<Long, String> expected = Map.of(1L, "a", 2L, "b");
-      given(userMultiQueryPort.findUsernamesByIds(List.of(1L, 2L))).willReturn(expected);
+      given(userMultiQueryPort.findUserCardsByIds(List.of(1L, 2L)))
+          .willReturn(Map.of(1L, card(1L, "a", null, 1L), 2L, card(2L, "b", null, 1L)));
 
       // when
       Map<Long, String> res = service.findUsernamesByIds(List.of(1L, 2L));
@@ -142,14 +154,14 @@ class UserProfileServiceTest {
     @DisplayName("유저 썸네일 반환")
     void findUserThumbnailsByIdsSuccess() {
       // given
-      Map<Long, String> expected = Map.of(1L, "img1", 2L, "img2");
-      given(userMultiQueryPort.findUserThumbnailsByIds(List.of(1L, 2L))).willReturn(expected);
+      given(userMultiQueryPort.findUserCardsByIds(List.of(1L, 2L)))
+          .willReturn(Map.of(1L, card(1L, "a", "img1", 1L), 2L, card(2L, "b", null, 1L)));
 
       // when
       Map<Long, String> res = service.findUserThumbnailsByIds(List.of(1L, 2L));
 
       // then
-      assertThat(res).containsEntry(1L, "img1").containsEntry(2L, "img2");
+      assertThat(res).containsEntry(1L, "img1").containsEntry(2L, "");
     }
   }
 
@@ -169,14 +181,52 @@ class UserProfileServiceTest {
     @DisplayName("유저 레벨 반환")
     void findUserAuthorLevelIdsSuccess() {
       // given
-      Map<Long, String> expected = Map.of(1L, "lv1", 2L, "lv2");
-      given(userMultiQueryPort.findUserAuthorLevelIds(List.of(1L, 2L))).willReturn(expected);
+      given(userMultiQueryPort.findUserCardsByIds(List.of(1L, 2L)))
+          .willReturn(Map.of(1L, card(1L, "a", null, 3L), 2L, card(2L, "b", null, null)));
 
       // when
       Map<Long, String> res = service.findUserAuthorLevelIds(List.of(1L, 2L));
 
       // then
-      assertThat(res).containsEntry(1L, "lv1").containsEntry(2L, "lv2");
+      assertThat(res).containsEntry(1L, "3").containsEntry(2L, "1");
+    }
+  }
+
+  // ---------------- findUserCardsByIds ----------------
+  @Nested
+  class FindUserCardsByIdsTests {
+
+    @Test
+    @DisplayName("모두 캐시 적중 → DB 조회 없이 반환")
+    void findUserCardsByIdsAllCached() {
+      // given
+      Map<Long, UserCard> cached = Map.of(1L, card(1L, "a", "img1", 1L));
+      given(userCardCachePort.findAll(List.of(1L))).willReturn(cached);
+
+      // when
+      Map<Long, UserCard> res = service.findUserCardsByIds(List.of(1L));
+
+      // then
+      assertThat(res).isEqualTo(cached);
+      then(userMultiQueryPort).should(never()).findUserCardsByIds(any());
+    }
+
+    @Test
+    @DisplayName("일부 캐시 미스 → 누락된 유저만 조회 후 캐시에 저장")
+    void findUserCardsByIdsPartialMiss() {
+      // given
+      UserCard cachedCard = card(1L, "a", "img1", 1L);
+      UserCard loadedCard = card(2L, "b", "img2", 2L);
+      given(userCardCachePort.findAll(List.of(1L, 2L, 2L))).willReturn(Map.of(1L, cachedCard));
+      given(userMultiQueryPort.findUserCardsByIds(List.of(2L)))
+          .willReturn(Map.of(2L, loadedCard));
+
+      // when
+      Map<Long, UserCard> res = service.findUserCardsByIds(List.of(1L, 2L, 2L));
+
+      // then
+      assertThat(res).containsEntry(1L, cachedCard).containsEntry(2L, loadedCard);
+      then(userCardCachePort).should().putAll(Map.of(2L, loadedCard));
     }
   }
 